@@ -2,12 +2,14 @@ package net.enilink.llrp4j;
 
 import static net.enilink.llrp4j.EncodingUtil.decodeEnum;
 import static net.enilink.llrp4j.EncodingUtil.indent;
-import static net.enilink.llrp4j.EncodingUtil.properties;
 import static net.enilink.llrp4j.EncodingUtil.propertyType;
 
-import java.lang.annotation.Annotation;
+import java.io.InputStream;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 import org.llrp.ltk.schema.core.FieldType;
@@ -19,6 +21,7 @@ import net.enilink.llrp4j.bitbuffer.BitBuffer;
 import net.enilink.llrp4j.bitbuffer.SimpleBitBuffer;
 import net.enilink.llrp4j.impl.BaseType;
 import net.enilink.llrp4j.impl.CustomKey;
+import net.enilink.llrp4j.impl.CustomMessage;
 import net.enilink.llrp4j.impl.CustomParameter;
 import net.enilink.llrp4j.impl.Parameter;
 import net.enilink.llrp4j.impl.Property;
@@ -35,8 +38,86 @@ public class BinaryDecoder {
 
 	LlrpContext context;
 
+	ReportStateCache reportState;
+
+	ValidationMode validation;
+
+	int maxFrameSize = FrameSplitter.DEFAULT_MAX_FRAME_SIZE;
+
+	/**
+	 * Type of the last decoded parameter.
+	 */
+	BaseType lastType;
+
+	/**
+	 * Width of single values or vector elements in bits indexed by the
+	 * ordinal of their field type.
+	 */
+	static final int[] BITS = new int[FieldType.values().length];
+
+	static {
+		for (FieldType type : FieldType.values()) {
+			String name = type.name();
+			if (name.startsWith("U_") || name.startsWith("S_")) {
+				BITS[type.ordinal()] = Integer.parseInt(name.substring(2).replace("_V", ""));
+			}
+		}
+	}
+
+	private byte[] scratchBytes = new byte[16];
+	private int[] scratchInts = new int[16];
+	private long[] scratchLongs = new long[16];
+
 	public BinaryDecoder(LlrpContext context) {
 		this.context = context;
+		this.validation = context.validationMode();
+	}
+
+	/**
+	 * Sets the validation mode of this decoder that overrides the default mode
+	 * of the context.
+	 *
+	 * @param validation
+	 *            the validation mode
+	 * @return this decoder
+	 */
+	public BinaryDecoder validation(ValidationMode validation) {
+		this.validation = validation;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum length of the messages that are read from streams and
+	 * channels by the <code>decodeAll</code> methods.
+	 *
+	 * @param maxFrameSize
+	 *            the maximum message length in bytes
+	 * @return this decoder
+	 */
+	public BinaryDecoder maxFrameSize(int maxFrameSize) {
+		this.maxFrameSize = maxFrameSize;
+		return this;
+	}
+
+	protected void violation(String message) {
+		if (validation == ValidationMode.STRICT) {
+			throw new LlrpException(message);
+		}
+		logger.warn(message);
+	}
+
+	/**
+	 * Sets a cache that is used to fill in omitted optional parameters of
+	 * report parameters with the last received values.
+	 *
+	 * @param reportState
+	 *            the cache or <code>null</code> to disable filling of omitted
+	 *            parameters
+	 * @return this decoder
+	 */
+	public BinaryDecoder reportState(ReportStateCache reportState) {
+		this.reportState = reportState;
+		return this;
 	}
 
 	protected void decodeReserved(BaseType type, BitBuffer buffer) throws Exception {
@@ -47,6 +128,7 @@ public class BinaryDecoder {
 	}
 
 	public LlrpMessage decodeMessage(BitBuffer buffer) throws Exception {
+		int start = buffer.position();
 		// Rsvd 3 bits (0 .. 2)
 		buffer.position(buffer.position() + RESERVED_LENGTH);
 		// Version 3 bits (3 .. 5)
@@ -75,6 +157,13 @@ public class BinaryDecoder {
 		}
 		if (messageType == null) {
 			messageType = context.messageTypes.get(typeNum);
+			if (messageType == null) {
+				throw new LlrpException("Unknown message with type=" + typeNum);
+			}
+		}
+		if (validation != ValidationMode.OFF && length * 8 != buffer.size() - start) {
+			violation("Length of message '" + messageType.typeClass.getSimpleName() + "' is " + length
+					+ " bytes but " + (buffer.size() - start) / 8 + " bytes are available.");
 		}
 		LlrpMessage message = (LlrpMessage) messageType.typeClass.newInstance();
 		message.messageID(messageID);
@@ -83,16 +172,410 @@ public class BinaryDecoder {
 		decodeReserved(messageType, buffer);
 
 		// call the message specific encode function
-		decodeProperties(message, messageType.properties(), buffer);
+		decodeProperties(message, messageType, buffer);
+		if (validation != ValidationMode.OFF) {
+			checkConsumed(messageType, buffer);
+		}
 		return (LlrpMessage) message;
 	}
 
+	/**
+	 * Decodes a single parameter that is not embedded in a message. The
+	 * position of the buffer is advanced behind the parameter.
+	 *
+	 * @param buffer
+	 *            buffer with the binary parameter
+	 * @return the decoded parameter
+	 */
+	public Object decodeParameter(BitBuffer buffer) throws Exception {
+		int start = buffer.position();
+		if (buffer.getBoolean()) {
+			int typeNum = buffer.getIntUnsigned(7);
+			Parameter parameterType = context.parameterTypes.get(typeNum);
+			if (parameterType == null) {
+				throw new LlrpException("Unknown parameter with type=" + typeNum);
+			}
+			Object parameter = parameterType.typeClass.newInstance();
+			decodeProperties(parameter, parameterType, buffer);
+			return parameter;
+		}
+
+		// skip reserved bits
+		buffer.position(start + 6);
+		int typeNum = buffer.getIntUnsigned(10);
+		int length = buffer.getIntUnsigned(16);
+		if (length < 4) {
+			throw new LlrpException("Invalid length " + length + " of parameter with type=" + typeNum);
+		}
+		BaseType parameterType = context.parameterTypes.get(typeNum);
+		if (typeNum == 1023) {
+			long vendor = buffer.getLongUnsigned(32);
+			long subtype = buffer.getLongUnsigned(32);
+			parameterType = context.customParameterTypes.get(new CustomKey(vendor, subtype));
+		}
+		if (parameterType == null) {
+			throw new LlrpException("Unknown parameter with type=" + typeNum);
+		}
+		int end = Math.min(buffer.size(), start + length * 8);
+		Object parameter = parameterType.typeClass.newInstance();
+		BitBuffer content = buffer.slice(buffer.position(), end - buffer.position());
+		decodeProperties(parameter, parameterType, content);
+		if (validation != ValidationMode.OFF) {
+			checkConsumed(parameterType, content);
+		}
+		buffer.position(end);
+		return parameter;
+	}
+
+	/**
+	 * Decodes all complete messages that start at the position of the given
+	 * buffer. The position is advanced behind the last decoded message.
+	 *
+	 * @param buffer
+	 *            buffer with concatenated messages
+	 * @return the decoded messages
+	 */
+	public List<LlrpMessage> decodeAll(ByteBuffer buffer) throws Exception {
+		final List<LlrpMessage> messages = new ArrayList<>();
+		decodeAll(buffer, new MessageHandler() {
+			@Override
+			public void handle(LlrpMessage message) {
+				messages.add(message);
+			}
+		});
+		return messages;
+	}
+
+	/**
+	 * Decodes all complete messages that start at the position of the given
+	 * buffer. The position is advanced behind the last decoded message.
+	 *
+	 * @param buffer
+	 *            buffer with concatenated messages
+	 * @param handler
+	 *            handler for the decoded messages
+	 * @return the number of decoded messages
+	 */
+	public int decodeAll(ByteBuffer buffer, MessageHandler handler) throws Exception {
+		int count = 0;
+		ByteBuffer frame;
+		while ((frame = FrameSplitter.next(buffer)) != null) {
+			handler.handle(decodeMessage(BitBuffer.wrap(frame)));
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Decodes all messages of the given stream until its end is reached.
+	 *
+	 * @param in
+	 *            stream with concatenated messages
+	 * @param handler
+	 *            handler for the decoded messages
+	 * @return the number of decoded messages
+	 */
+	public int decodeAll(InputStream in, MessageHandler handler) throws Exception {
+		FrameSplitter splitter = new FrameSplitter().maxFrameSize(maxFrameSize);
+		int count = 0;
+		ByteBuffer frame;
+		while ((frame = splitter.next(in)) != null) {
+			handler.handle(decodeMessage(BitBuffer.wrap(frame)));
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Decodes all messages that can be read from the given channel.
+	 *
+	 * @param channel
+	 *            channel with concatenated messages
+	 * @param handler
+	 *            handler for the decoded messages
+	 * @return the number of decoded messages
+	 */
+	public int decodeAll(ReadableByteChannel channel, MessageHandler handler) throws Exception {
+		FrameSplitter splitter = new FrameSplitter().maxFrameSize(maxFrameSize);
+		int count = 0;
+		ByteBuffer frame;
+		while ((frame = splitter.next(channel)) != null) {
+			handler.handle(decodeMessage(BitBuffer.wrap(frame)));
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Reports the contents of the message at the position of the given buffer
+	 * to a visitor without creating message or parameter objects. The
+	 * position is advanced behind the message.
+	 *
+	 * @param buffer
+	 *            buffer with the encoded message
+	 * @param visitor
+	 *            the visitor
+	 */
+	public void visitMessage(BitBuffer buffer, LlrpVisitor visitor) throws Exception {
+		int start = buffer.position();
+		// skip reserved bits and version
+		buffer.position(start + RESERVED_LENGTH + VERSION_LENGTH);
+		int typeNum = buffer.getIntUnsigned(TYPE_LENGTH);
+		long length = buffer.getLongUnsigned(32);
+		long messageID = buffer.getLongUnsigned(32);
+
+		BaseType messageType = null;
+		CustomKey key = null;
+		if (typeNum == 1023) {
+			long vendor = buffer.getLongUnsigned(32);
+			int subtype = buffer.getIntUnsigned(8);
+			CustomMessage customMessage = context.customMessageTypes.get(new CustomKey(vendor, subtype));
+			if (customMessage != null) {
+				messageType = customMessage;
+				key = customMessage.key;
+			} else {
+				// rewind vendor and subtype
+				buffer.position(buffer.position() - 40);
+			}
+		}
+		if (messageType == null) {
+			messageType = context.messageTypes.get(typeNum);
+			if (messageType == null) {
+				throw new LlrpException("Unknown message with type=" + typeNum);
+			}
+		}
+		int end = (int) Math.min(buffer.size(), start + length * 8);
+		if (visitor.startMessage(messageType.typeClass, typeNum, key, messageID)) {
+			BitBuffer content = buffer.slice(buffer.position(), end - buffer.position());
+			decodeReserved(messageType, content);
+			visitContent(messageType, content, visitor, false);
+			visitor.endMessage(messageType.typeClass);
+		}
+		buffer.position(end);
+	}
+
+	/**
+	 * Reports the contents of all complete messages that start at the
+	 * position of the given buffer to a visitor. The position is advanced
+	 * behind the last visited message.
+	 *
+	 * @param buffer
+	 *            buffer with concatenated messages
+	 * @param visitor
+	 *            the visitor
+	 * @return the number of visited messages
+	 */
+	public int visitAll(ByteBuffer buffer, LlrpVisitor visitor) throws Exception {
+		int count = 0;
+		ByteBuffer frame;
+		while ((frame = FrameSplitter.next(buffer)) != null) {
+			visitMessage(BitBuffer.wrap(frame), visitor);
+			count++;
+		}
+		return count;
+	}
+
+	private void visitContent(BaseType type, BitBuffer buffer, LlrpVisitor visitor, boolean fieldsOnly)
+			throws Exception {
+		for (Property property : type.properties()) {
+			if (property.isField && buffer.position() < buffer.size()) {
+				visitField(property, buffer, visitor);
+			}
+		}
+		if (!fieldsOnly) {
+			while (buffer.size() - buffer.position() >= 8) {
+				visitParameter(buffer, visitor);
+			}
+		}
+	}
+
+	private void visitParameter(BitBuffer buffer, LlrpVisitor visitor) throws Exception {
+		int start = buffer.position();
+		if (buffer.getBoolean()) {
+			int typeNum = buffer.getIntUnsigned(7);
+			Parameter parameterType = context.parameterTypes.get(typeNum);
+			if (parameterType == null) {
+				throw new LlrpException("Unknown parameter with type=" + typeNum);
+			}
+			if (visitor.startParameter(parameterType.typeClass, typeNum, null)) {
+				visitContent(parameterType, buffer, visitor, true);
+				visitor.endParameter(parameterType.typeClass);
+			} else {
+				// only skip the fields
+				visitContent(parameterType, buffer, null, true);
+			}
+			return;
+		}
+
+		// skip reserved bits
+		buffer.position(start + 6);
+		int typeNum = buffer.getIntUnsigned(10);
+		int length = buffer.getIntUnsigned(16);
+		if (length < 4) {
+			throw new LlrpException("Invalid length " + length + " of parameter with type=" + typeNum);
+		}
+		int end = Math.min(buffer.size(), start + length * 8);
+
+		BaseType parameterType = context.parameterTypes.get(typeNum);
+		CustomKey key = null;
+		if (typeNum == 1023 && end - buffer.position() >= 64) {
+			long vendor = buffer.getLongUnsigned(32);
+			long subtype = buffer.getLongUnsigned(32);
+			key = new CustomKey(vendor, subtype);
+			CustomParameter customParameter = context.customParameterTypes.get(key);
+			if (customParameter != null) {
+				parameterType = customParameter;
+			} else {
+				// rewind vendor and subtype
+				buffer.position(buffer.position() - 64);
+			}
+		}
+		Class<?> typeClass = parameterType == null ? null : parameterType.typeClass;
+		if (visitor.startParameter(typeClass, typeNum, key)) {
+			if (parameterType != null) {
+				visitContent(parameterType, buffer.slice(buffer.position(), end - buffer.position()), visitor,
+						false);
+			}
+			visitor.endParameter(typeClass);
+		}
+		buffer.position(end);
+	}
+
+	private byte[] scratchBytes(int length) {
+		if (scratchBytes.length < length) {
+			scratchBytes = new byte[Math.max(length, scratchBytes.length * 2)];
+		}
+		return scratchBytes;
+	}
+
+	private int[] scratchInts(int length) {
+		if (scratchInts.length < length) {
+			scratchInts = new int[Math.max(length, scratchInts.length * 2)];
+		}
+		return scratchInts;
+	}
+
+	private long[] scratchLongs(int length) {
+		if (scratchLongs.length < length) {
+			scratchLongs = new long[Math.max(length, scratchLongs.length * 2)];
+		}
+		return scratchLongs;
+	}
+
+	/**
+	 * Reads a field and reports it to the visitor. The field is only skipped
+	 * if the visitor is <code>null</code>.
+	 */
+	private void visitField(Property property, BitBuffer buffer, LlrpVisitor visitor) {
+		LlrpField info = property.fieldInfo;
+		buffer.position(buffer.position() + info.reservedBefore());
+		FieldType type = info.type();
+		String name = property.field.getName();
+		switch (type) {
+		case U_1:
+		case U_2:
+		case U_8:
+		case U_16: {
+			int value = buffer.getIntUnsigned(BITS[type.ordinal()]);
+			if (visitor != null) {
+				visitor.onInt(name, type, value);
+			}
+			break;
+		}
+		case S_8:
+		case S_16:
+		case S_32: {
+			int value = buffer.getInt(BITS[type.ordinal()]);
+			if (visitor != null) {
+				visitor.onInt(name, type, value);
+			}
+			break;
+		}
+		case U_32:
+		case U_64:
+		case S_64: {
+			long value = buffer.getLongUnsigned(BITS[type.ordinal()]);
+			if (visitor != null) {
+				visitor.onLong(name, type, value);
+			}
+			break;
+		}
+		case U_96:
+		case UTF_8_V:
+		case BYTES_TO_END: {
+			int length = type == FieldType.U_96 ? 12
+					: type == FieldType.UTF_8_V ? buffer.getIntUnsigned(16) : (buffer.size() - buffer.position()) / 8;
+			if (visitor != null) {
+				byte[] bytes = buffer.get(scratchBytes(length), 0, length);
+				visitor.onBytes(name, type, bytes, length);
+			} else {
+				buffer.position(buffer.position() + length * 8);
+			}
+			break;
+		}
+		case U_1_V: {
+			int count = buffer.getIntUnsigned(16);
+			int length = (count + 7) / 8;
+			if (visitor != null) {
+				byte[] bytes = buffer.get(scratchBytes(length), 0, length);
+				visitor.onBits(name, type, bytes, count);
+			} else {
+				buffer.position(buffer.position() + length * 8);
+			}
+			break;
+		}
+		case U_8_V:
+		case S_8_V:
+		case U_16_V:
+		case S_16_V:
+		case S_32_V: {
+			int count = buffer.getIntUnsigned(16);
+			int bits = BITS[type.ordinal()];
+			if (visitor != null) {
+				int[] values = scratchInts(count);
+				boolean signed = type != FieldType.U_8_V && type != FieldType.U_16_V;
+				for (int i = 0; i < count; i++) {
+					values[i] = signed ? buffer.getInt(bits) : buffer.getIntUnsigned(bits);
+				}
+				visitor.onInts(name, type, values, count);
+			} else {
+				buffer.position(buffer.position() + count * bits);
+			}
+			break;
+		}
+		case U_32_V:
+		case U_64_V:
+		case S_64_V: {
+			int count = buffer.getIntUnsigned(16);
+			int bits = BITS[type.ordinal()];
+			if (visitor != null) {
+				long[] values = scratchLongs(count);
+				for (int i = 0; i < count; i++) {
+					values[i] = buffer.getLongUnsigned(bits);
+				}
+				visitor.onLongs(name, type, values, count);
+			} else {
+				buffer.position(buffer.position() + count * bits);
+			}
+			break;
+		}
+		default:
+			throw new IllegalArgumentException("Unknown type " + type);
+		}
+		buffer.position(buffer.position() + info.reservedAfter());
+	}
+
 	int depth = 0;
 
-	private void decodeProperties(Object o, Property[] properties, BitBuffer buffer) throws Exception {
-		for (Property property : properties) {
+	private void decodeProperties(Object o, BaseType type, BitBuffer buffer) throws Exception {
+		Property[] properties = type.properties();
+		for (int i = 0; i < properties.length; i++) {
+			Property property = properties[i];
 			int pos = buffer.position();
 			if (pos >= buffer.size()) {
+				if (validation != ValidationMode.OFF) {
+					checkMissing(type, properties, i);
+				}
 				break;
 			}
 			if (logger.isDebugEnabled()) {
@@ -104,8 +587,7 @@ public class BinaryDecoder {
 			if (property.isField) {
 				fieldValue = decodeField(property.field, buffer);
 			} else {
-				fieldValue = decodeParameter(propertyType(property.field),
-						List.class.isAssignableFrom(property.field.getType()), property.required, buffer);
+				fieldValue = decodeParameter(property, type, buffer);
 			}
 			property.field.set(o, fieldValue);
 			if (logger.isDebugEnabled()) {
@@ -115,6 +597,22 @@ public class BinaryDecoder {
 		}
 	}
 
+	private void checkConsumed(BaseType type, BitBuffer buffer) {
+		if (buffer.size() - buffer.position() >= 8) {
+			violation("Unexpected data with " + (buffer.size() - buffer.position()) / 8 + " bytes at end of '"
+					+ type.typeClass.getSimpleName() + "'.");
+		}
+	}
+
+	private void checkMissing(BaseType type, Property[] properties, int index) {
+		for (int i = index; i < properties.length; i++) {
+			if (properties[i].required) {
+				violation("Missing required " + (properties[i].isField ? "field" : "parameter") + " '"
+						+ properties[i].field.getName() + "' in '" + type.typeClass.getSimpleName() + "'.");
+			}
+		}
+	}
+
 	private Object decodeField(Field field, BitBuffer buffer) throws Exception {
 		LlrpField annotation = field.getAnnotation(LlrpField.class);
 		FieldType type = annotation.type();
@@ -132,27 +630,41 @@ public class BinaryDecoder {
 		return value;
 	}
 
-	private Object decodeParameter(Class<?> expectedType, boolean list, boolean required, BitBuffer buffer)
-			throws Exception {
+	private Object decodeParameter(Property property, BaseType container, BitBuffer buffer) throws Exception {
 		int bufferSize = buffer.size();
+		boolean list = property.isList;
 
 		Object parameter = null;
 		List<Object> elements = null;
+		BitSet restricted = null;
 		int count = 0;
 		while (buffer.position() < bufferSize) {
 			boolean tvParameter = buffer.getBoolean();
 			buffer.position(buffer.position() - 1);
 			if (tvParameter) {
-				parameter = decodeTVParameter(expectedType, buffer);
+				parameter = decodeTVParameter(property, buffer);
 			} else {
-				parameter = decodeTLVParameter(expectedType, buffer);
+				parameter = decodeTLVParameter(property, container, buffer);
 			}
 			if (parameter == null) {
-				if (count == 0 && required) {
-					throw new LlrpException("Missing required parameter of type '" + expectedType.getName() + "'.");
+				if (count == 0 && property.required) {
+					throw new LlrpException(
+							"Missing required parameter of type '" + property.elementType.getName() + "'.");
 				}
 				break;
 			}
+			if (validation != ValidationMode.OFF && lastType.allowedIn != null
+					&& !lastType.multipleIn.get(container.id)) {
+				// the parameter may occur at most once within its container
+				if (restricted == null) {
+					restricted = new BitSet();
+				}
+				if (restricted.get(lastType.id)) {
+					violation("Parameter '" + lastType.typeClass.getSimpleName() + "' may occur only once in '"
+							+ container.typeClass.getSimpleName() + "'.");
+				}
+				restricted.set(lastType.id);
+			}
 			if (list) {
 				if (elements == null) {
 					elements = new ArrayList<>();
@@ -170,7 +682,7 @@ public class BinaryDecoder {
 		}
 	}
 
-	private Object decodeTVParameter(Class<?> expectedType, BitBuffer buffer) throws Exception {
+	private Object decodeTVParameter(Property property, BitBuffer buffer) throws Exception {
 		int start = buffer.position();
 
 		// first bit is always 1
@@ -182,17 +694,21 @@ public class BinaryDecoder {
 		if (parameterType == null) {
 			throw new LlrpException("Unknown parameter with type=" + typeNum);
 		}
-		if (!expectedType.isAssignableFrom(parameterType.typeClass)) {
+		if (!property.allowedTypes.get(parameterType.id)) {
 			buffer.position(start);
 			return null;
 		}
 
 		Object parameter = parameterType.typeClass.newInstance();
-		decodeProperties(parameter, properties(parameterType.type, context), buffer);
+		decodeProperties(parameter, parameterType, buffer);
+		if (reportState != null) {
+			reportState.fill(parameter);
+		}
+		lastType = parameterType;
 		return parameter;
 	}
 
-	private Object decodeTLVParameter(Class<?> expectedType, BitBuffer buffer) throws Exception {
+	private Object decodeTLVParameter(Property property, BaseType container, BitBuffer buffer) throws Exception {
 		int start = buffer.position();
 
 		// Reserved 6 bits (0 .. 5)
@@ -200,18 +716,14 @@ public class BinaryDecoder {
 		// Parameter Type 10 bits (6 .. 15)
 		int typeNum = buffer.getIntUnsigned(10);
 
-		Annotation parameterType;
-		Class<?> typeClass;
-		Parameter p = context.parameterTypes.get(typeNum);
-		if (p == null) {
+		BaseType parameterType = context.parameterTypes.get(typeNum);
+		if (parameterType == null) {
 			throw new LlrpException("Unknown parameter with type=" + typeNum);
 		}
-		typeClass = p.typeClass;
-		parameterType = p.type;
 		boolean isCustom = typeNum == 1023;
 		// Parameter Length 16 bits (16 .. 31)
 		int length = buffer.getIntUnsigned(16);
-		
+
 		Object parameter = null;
 		if (isCustom) {
 			// Vendor ID 32 bits
@@ -221,25 +733,42 @@ public class BinaryDecoder {
 
 			CustomParameter customParameter = context.customParameterTypes.get(new CustomKey(vendor, subtype));
 			if (customParameter != null) {
-				parameterType = customParameter.type;
-				typeClass = customParameter.typeClass;
-				// TODO check allowedIn
+				parameterType = customParameter;
 			} else {
 				// rewind vendor and subtype
 				buffer.position(buffer.position() - 64);
 			}
 		}
-		if (!expectedType.isAssignableFrom(typeClass)) {
+		if (!property.allowedTypes.get(parameterType.id)) {
 			buffer.position(start);
 			return null;
 		}
-		parameter = typeClass.newInstance();
+		if (validation != ValidationMode.OFF) {
+			if (parameterType.allowedIn != null && !parameterType.allowedIn.get(container.id)) {
+				violation("Parameter '" + parameterType.typeClass.getSimpleName() + "' is not allowed in '"
+						+ container.typeClass.getSimpleName() + "'.");
+			}
+			if (start + length * 8 > buffer.size()) {
+				violation("Length of parameter '" + parameterType.typeClass.getSimpleName() + "' exceeds its '"
+						+ container.typeClass.getSimpleName() + "' by " + (start + length * 8 - buffer.size()) / 8
+						+ " bytes.");
+			}
+		}
+		parameter = parameterType.typeClass.newInstance();
 		int pos = buffer.position();
 		int paramContentLength = length * 8 - (pos - start);
 		if (paramContentLength > 0) {
-			decodeProperties(parameter, properties(parameterType, context), buffer.slice(pos, paramContentLength));
+			BitBuffer content = buffer.slice(pos, paramContentLength);
+			decodeProperties(parameter, parameterType, content);
+			if (validation != ValidationMode.OFF) {
+				checkConsumed(parameterType, content);
+			}
 		}
 		buffer.position(pos + paramContentLength);
+		if (reportState != null) {
+			reportState.fill(parameter);
+		}
+		lastType = parameterType;
 		return parameter;
 	}
 }
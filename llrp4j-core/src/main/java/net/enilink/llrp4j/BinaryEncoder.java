@@ -2,27 +2,24 @@ package net.enilink.llrp4j;
 
 import static net.enilink.llrp4j.EncodingUtil.encodeEnum;
 import static net.enilink.llrp4j.EncodingUtil.indent;
-import static net.enilink.llrp4j.EncodingUtil.isCustom;
-import static net.enilink.llrp4j.EncodingUtil.parameterType;
-import static net.enilink.llrp4j.EncodingUtil.properties;
 import static net.enilink.llrp4j.EncodingUtil.propertyType;
-import static net.enilink.llrp4j.EncodingUtil.typeNum;
 
-import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 
 import org.llrp.ltk.schema.core.FieldType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import net.enilink.llrp4j.annotations.LlrpCustomParameterType;
 import net.enilink.llrp4j.annotations.LlrpField;
 import net.enilink.llrp4j.bitbuffer.BitBuffer;
 import net.enilink.llrp4j.impl.BaseType;
 import net.enilink.llrp4j.impl.CustomMessage;
+import net.enilink.llrp4j.impl.CustomParameter;
 import net.enilink.llrp4j.impl.Message;
+import net.enilink.llrp4j.impl.Parameter;
 import net.enilink.llrp4j.impl.Property;
 import net.enilink.llrp4j.types.LlrpEnum;
 import net.enilink.llrp4j.types.LlrpMessage;
@@ -33,8 +30,47 @@ public class BinaryEncoder {
 
 	protected LlrpContext context;
 
+	protected ReportStateCache reportState;
+
+	protected ValidationMode validation;
+
 	public BinaryEncoder(LlrpContext context) {
 		this.context = context;
+		this.validation = context.validationMode();
+	}
+
+	/**
+	 * Sets the validation mode of this encoder that overrides the default mode
+	 * of the context.
+	 *
+	 * @param validation
+	 *            the validation mode
+	 * @return this encoder
+	 */
+	public BinaryEncoder validation(ValidationMode validation) {
+		this.validation = validation;
+		return this;
+	}
+
+	protected void violation(String message) {
+		if (validation == ValidationMode.STRICT) {
+			throw new LlrpException(message);
+		}
+		logger.warn(message);
+	}
+
+	/**
+	 * Sets a cache that is used to omit optional parameters of report
+	 * parameters whose values did not change since they were sent the last
+	 * time.
+	 *
+	 * @param reportState
+	 *            the cache or <code>null</code> to always encode all parameters
+	 * @return this encoder
+	 */
+	public BinaryEncoder reportState(ReportStateCache reportState) {
+		this.reportState = reportState;
+		return this;
 	}
 
 	protected void encodeReserved(BaseType type, BitBuffer buffer) {
@@ -50,7 +86,7 @@ public class BinaryEncoder {
 		if (messageType == null) {
 			throw new LlrpException("Unsupported message type: " + message.getClass());
 		} else {
-			typeNum = messageType instanceof CustomMessage ? 1023 : ((Message) messageType).type.typeNum();
+			typeNum = messageType instanceof CustomMessage ? 1023 : ((Message) messageType).typeNum;
 		}
 		// Rsvd 3 bits (0 .. 2)
 		buffer.putInt(0, 3);
@@ -66,16 +102,16 @@ public class BinaryEncoder {
 
 		if (messageType instanceof CustomMessage) {
 			// Vendor ID 32 bits
-			buffer.putLong(((CustomMessage) messageType).type.vendor(), 32);
+			buffer.putLong(((CustomMessage) messageType).key.vendor, 32);
 			// Subtype 8 bit
-			buffer.putInt(((CustomMessage) messageType).type.subType(), 8);
+			buffer.putInt((int) ((CustomMessage) messageType).key.subType, 8);
 		}
 
 		// add reserved bits
 		encodeReserved(messageType, buffer);
 
 		// call the message specific encode function
-		encodeProperties(message, messageType.properties(), buffer);
+		encodeProperties(message, messageType, buffer);
 
 		int messageLength = (buffer.position() + 7) / 8;
 
@@ -85,21 +121,47 @@ public class BinaryEncoder {
 		buffer.position(mark);
 	}
 
+	/**
+	 * Encodes a single parameter that is not embedded in a message.
+	 *
+	 * @param parameter
+	 *            the parameter
+	 * @param buffer
+	 *            the target buffer
+	 */
+	public void encodeParameter(Object parameter, BitBuffer buffer) {
+		BaseType parameterType = context.type(parameter.getClass());
+		if (!(parameterType instanceof Parameter || parameterType instanceof CustomParameter)) {
+			throw new LlrpException("Unsupported parameter type: " + parameter.getClass());
+		}
+		int typeNum = parameterType instanceof CustomParameter ? 1023 : ((Parameter) parameterType).typeNum;
+		try {
+			if (typeNum < 128) {
+				encodeTVParameter(parameterType, typeNum, parameter, buffer);
+			} else {
+				encodeTLVParameter(parameterType, typeNum, parameter, buffer);
+			}
+		} catch (LlrpException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new LlrpException(e);
+		}
+	}
+
 	int depth = 0;
 
-	private void encodeProperties(Object o, Property[] properties, BitBuffer buffer) {
+	private void encodeProperties(Object o, BaseType type, BitBuffer buffer) {
 		try {
-			for (final Property property : properties) {
+			for (final Property property : type.properties()) {
 				Object fieldValue = property.field.get(o);
-				boolean list = List.class.isAssignableFrom(property.field.getType());
-				boolean empty = fieldValue == null || list && ((List<?>) fieldValue).isEmpty();
+				boolean empty = fieldValue == null || property.isList && ((List<?>) fieldValue).isEmpty();
 				if (empty && property.required) {
 					throw new LlrpException("Missing required " + (property.isField ? "field" : "parameter") + "' "
 							+ property.field.getName() + "' in "
 							+ (LlrpMessage.class.isAssignableFrom(o.getClass()) ? "message" : "parameter")
 							+ " of type '" + o.getClass().getSimpleName() + "'");
 				}
-				if (empty) {
+				if (empty || reportState != null && !property.isField && reportState.omit(o, property, fieldValue)) {
 					continue;
 				}
 
@@ -111,7 +173,7 @@ public class BinaryEncoder {
 				if (property.isField) {
 					encodeField(property.field, fieldValue, buffer);
 				} else {
-					encodeParameter(fieldValue, buffer);
+					encodeParameter(property, type, fieldValue, buffer);
 				}
 				if (logger.isDebugEnabled()) {
 					depth--;
@@ -143,52 +205,79 @@ public class BinaryEncoder {
 		}
 	}
 
-	private void encodeParameter(Object parameter, BitBuffer buffer) throws Exception {
+	private void encodeParameter(Property property, BaseType container, Object parameter, BitBuffer buffer)
+			throws Exception {
 		List<?> elements = (parameter instanceof List) ? (List<?>) parameter : Arrays.asList(parameter);
+		BitSet restricted = null;
 		for (Object element : elements) {
-			Annotation parameterType = parameterType(element.getClass());
+			BaseType parameterType = context.type(element.getClass());
+			if (parameterType == null) {
+				throw new LlrpException("Unsupported parameter type: " + element.getClass());
+			}
+			if (validation != ValidationMode.OFF) {
+				if (!property.allowedTypes.get(parameterType.id)) {
+					violation("Parameter '" + parameterType.typeClass.getSimpleName() + "' is not allowed for '"
+							+ property.field.getName() + "' in '" + container.typeClass.getSimpleName() + "'.");
+				}
+				if (parameterType.allowedIn != null) {
+					if (!parameterType.allowedIn.get(container.id)) {
+						violation("Parameter '" + parameterType.typeClass.getSimpleName() + "' is not allowed in '"
+								+ container.typeClass.getSimpleName() + "'.");
+					} else if (!parameterType.multipleIn.get(container.id)) {
+						if (restricted == null) {
+							restricted = new BitSet();
+						}
+						if (restricted.get(parameterType.id)) {
+							violation("Parameter '" + parameterType.typeClass.getSimpleName()
+									+ "' may occur only once in '" + container.typeClass.getSimpleName() + "'.");
+						}
+						restricted.set(parameterType.id);
+					}
+				}
+			}
 			// TV Parameters have type number from 0 - 127, TLV from 128 - 2047
-			int typeNum = typeNum(parameterType);
+			int typeNum = parameterType instanceof CustomParameter ? 1023 : ((Parameter) parameterType).typeNum;
 			if (typeNum < 128) {
-				encodeTVParameter(parameterType, element, buffer);
+				encodeTVParameter(parameterType, typeNum, element, buffer);
 			} else {
-				encodeTLVParameter(parameterType, element, buffer);
+				encodeTLVParameter(parameterType, typeNum, element, buffer);
 			}
 		}
 	}
 
-	private void encodeTVParameter(Annotation parameterType, Object parameter, BitBuffer buffer) throws Exception {
+	private void encodeTVParameter(BaseType parameterType, int typeNum, Object parameter, BitBuffer buffer)
+			throws Exception {
 		// first bit must always be set to 1
 		buffer.put(true);
 		// encode type number
-		buffer.putInt(typeNum(parameterType), 7);
+		buffer.putInt(typeNum, 7);
 
-		for (Property property : properties(parameterType, context)) {
+		for (Property property : parameterType.properties()) {
 			Object fieldValue = property.field.get(parameter);
 			encodeField(property.field, fieldValue, buffer);
 		}
 	}
 
-	private void encodeTLVParameter(Annotation parameterType, Object parameter, BitBuffer buffer) throws Exception {
+	private void encodeTLVParameter(BaseType parameterType, int typeNum, Object parameter, BitBuffer buffer)
+			throws Exception {
 		int start = buffer.position();
 
 		// Reserved 6 bits (0 .. 5)
 		buffer.putInt(0, 6);
 		// Parameter Type 10 bits (6 .. 15)
-		buffer.putInt(typeNum(parameterType), 10);
+		buffer.putInt(typeNum, 10);
 		int lengthStart = buffer.position();
 		// Parameter Length 16 bits (16 .. 31) - add as placeholder here
 		buffer.putInt(0, 16);
 
-		Property[] properties = properties(parameterType, context);
-		if (isCustom(parameterType)) {
-			LlrpCustomParameterType customType = (LlrpCustomParameterType) parameterType;
+		if (parameterType instanceof CustomParameter) {
+			CustomParameter customType = (CustomParameter) parameterType;
 			// Vendor ID 32 bits
-			buffer.putLong(customType.vendor(), 32);
+			buffer.putLong(customType.key.vendor, 32);
 			// Subtype 32 bits
-			buffer.putLong(customType.subType(), 32);
+			buffer.putLong(customType.key.subType, 32);
 		}
-		encodeProperties(parameter, properties, buffer);
+		encodeProperties(parameter, parameterType, buffer);
 
 		int parameterLength = (buffer.position() - start + 7) / 8;
 		int padding = parameterLength * 8 - buffer.position();
@@ -0,0 +1,263 @@
+package net.enilink.llrp4j;
+
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.impl.CustomKey;
+import net.enilink.llrp4j.impl.Property;
+import net.enilink.llrp4j.json.JsonWriter;
+
+/**
+ * Converts binary encoded messages to JSON without creating message or
+ * parameter objects.
+ * <p>
+ * The output is the same as that of a {@link JsonEncoder} for the decoded
+ * message. In addition, parameters of a given type can be written as
+ * newline-delimited JSON with one parameter per line, for example each
+ * <code>TagReportData</code> of a stream of reports. Instances of this class
+ * are not thread-safe.
+ */
+public class BinaryToJsonTranscoder {
+	protected final LlrpContext context;
+	protected final JsonEncoder encoder;
+	protected final BinaryDecoder decoder;
+
+	private final Transcoder transcoder;
+
+	public BinaryToJsonTranscoder(LlrpContext context) {
+		this.context = context;
+		this.encoder = context.createJsonEncoder();
+		this.decoder = context.createBinaryDecoder();
+		this.transcoder = new Transcoder();
+	}
+
+	/**
+	 * Writes the JSON representation of the message at the position of the
+	 * given buffer. The position is advanced behind the message.
+	 *
+	 * @param buffer
+	 *            buffer with the binary message
+	 * @param writer
+	 *            writer for the JSON document
+	 */
+	public void transcode(BitBuffer buffer, JsonWriter writer) throws Exception {
+		transcoder.reset(writer, null);
+		try {
+			decoder.visitMessage(buffer, transcoder);
+		} finally {
+			transcoder.writer = null;
+		}
+	}
+
+	/**
+	 * Writes each parameter of the given type that is contained in the
+	 * message at the position of the given buffer as a separate line. The
+	 * position is advanced behind the message.
+	 *
+	 * @param buffer
+	 *            buffer with the binary message
+	 * @param lineType
+	 *            the type of the parameters that are written
+	 * @param writer
+	 *            writer for the lines
+	 * @return the number of written lines
+	 */
+	public int transcodeLines(BitBuffer buffer, Class<?> lineType, JsonWriter writer) throws Exception {
+		transcoder.reset(writer, lineType);
+		try {
+			decoder.visitMessage(buffer, transcoder);
+			return transcoder.lines;
+		} finally {
+			transcoder.writer = null;
+		}
+	}
+
+	/**
+	 * Writes each parameter of the given type that is contained in the
+	 * complete messages of the given buffer as a separate line. The position
+	 * is advanced behind the last complete message.
+	 *
+	 * @param buffer
+	 *            buffer with concatenated binary messages
+	 * @param lineType
+	 *            the type of the parameters that are written
+	 * @param writer
+	 *            writer for the lines
+	 * @return the number of written lines
+	 */
+	public int transcodeLines(ByteBuffer buffer, Class<?> lineType, JsonWriter writer) throws Exception {
+		transcoder.reset(writer, lineType);
+		try {
+			decoder.visitAll(buffer, transcoder);
+			return transcoder.lines;
+		} finally {
+			transcoder.writer = null;
+		}
+	}
+
+	/**
+	 * Writes the visited messages and parameters as JSON objects.
+	 */
+	class Transcoder extends PropertyVisitor {
+		JsonWriter writer;
+		Class<?> lineType;
+		int lines;
+
+		// depth of the object that is currently written or -1
+		int start;
+		// open arrays of repeated parameters
+		Property[] openLists = new Property[16];
+
+		Transcoder() {
+			super(BinaryToJsonTranscoder.this.context);
+		}
+
+		void reset(JsonWriter writer, Class<?> lineType) {
+			this.writer = writer;
+			this.lineType = lineType;
+			this.lines = 0;
+			this.start = -1;
+			this.depth = 0;
+		}
+
+		@Override
+		void push(Class<?> type) {
+			super.push(type);
+			if (depth > openLists.length) {
+				openLists = Arrays.copyOf(openLists, properties.length);
+			}
+			openLists[depth - 1] = null;
+		}
+
+		void closeList() throws IOException {
+			if (openLists[depth - 1] != null) {
+				writer.endArray();
+				openLists[depth - 1] = null;
+			}
+		}
+
+		/**
+		 * Writes the name of the property that holds the given parameter type
+		 * in the current object.
+		 */
+		Property parameterProperty(Class<?> type) throws IOException {
+			Property[] candidates = properties[depth - 1];
+			int i = fieldIndexes[depth - 1];
+			while (i < candidates.length
+					&& (candidates[i].isField || !candidates[i].elementType.isAssignableFrom(type))) {
+				i++;
+			}
+			if (i == candidates.length) {
+				throw new LlrpException("Unexpected parameter '" + type.getSimpleName() + "' in '"
+						+ types[depth - 1].getSimpleName() + "'");
+			}
+			Property property = candidates[i];
+			if (openLists[depth - 1] != property) {
+				closeList();
+				writer.name(property.xmlName);
+				if (property.isList) {
+					writer.beginArray();
+					openLists[depth - 1] = property;
+				}
+			}
+			fieldIndexes[depth - 1] = property.isList ? i : i + 1;
+			return property;
+		}
+
+		@Override
+		public boolean startMessage(Class<?> type, int typeNum, CustomKey key, long messageID) {
+			push(type);
+			if (lineType == null) {
+				start = depth;
+				try {
+					writer.beginObject();
+					writer.name(JsonEncoder.TYPE).value(encoder.typeName(type));
+					writer.name(JsonEncoder.MESSAGE_ID).value(messageID);
+				} catch (IOException e) {
+					throw new LlrpException(e);
+				}
+			}
+			return true;
+		}
+
+		@Override
+		public void endMessage(Class<?> type) {
+			if (start >= 0) {
+				try {
+					closeList();
+					writer.endObject();
+				} catch (IOException e) {
+					throw new LlrpException(e);
+				}
+				start = -1;
+			}
+			depth--;
+		}
+
+		@Override
+		public boolean startParameter(Class<?> type, int typeNum, CustomKey key) {
+			if (type == null) {
+				if (start >= 0) {
+					throw new LlrpException("Unknown parameter with type=" + typeNum);
+				}
+				return false;
+			}
+			try {
+				if (start >= 0) {
+					Property property = parameterProperty(type);
+					push(type);
+					writer.beginObject();
+					if (property.elementType != type) {
+						writer.name(JsonEncoder.TYPE).value(encoder.typeName(type));
+					}
+				} else {
+					push(type);
+					if (type == lineType) {
+						start = depth;
+						writer.beginObject();
+						writer.name(JsonEncoder.TYPE).value(encoder.typeName(type));
+					}
+				}
+			} catch (IOException e) {
+				throw new LlrpException(e);
+			}
+			return true;
+		}
+
+		@Override
+		public void endParameter(Class<?> type) {
+			if (start >= 0) {
+				try {
+					closeList();
+					writer.endObject();
+					if (depth == start && lineType != null) {
+						writer.newLine();
+						lines++;
+						start = -1;
+					}
+				} catch (IOException e) {
+					throw new LlrpException(e);
+				}
+			}
+			depth--;
+		}
+
+		@Override
+		void write(Object value) {
+			if (start < 0) {
+				// outside of the written objects
+				fieldIndexes[depth - 1]++;
+			} else {
+				super.write(value);
+			}
+		}
+
+		@Override
+		void value(Property property, Object value) throws Exception {
+			encoder.writeField(property, value, writer);
+		}
+	}
+}
@@ -0,0 +1,186 @@
+package net.enilink.llrp4j;
+
+
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.impl.CustomKey;
+import net.enilink.llrp4j.impl.Property;
+import net.enilink.llrp4j.xml.SimpleXMLStreamWriter;
+
+/**
+ * Converts binary encoded messages to their XML representation without
+ * creating message or parameter objects.
+ * <p>
+ * The output is the same as that of an {@link XmlEncoder} for the decoded
+ * message. Instances of this class are not thread-safe.
+ */
+public class BinaryToXmlTranscoder {
+	protected final LlrpContext context;
+	protected final XmlEncoder encoder;
+	protected final BinaryDecoder decoder;
+
+	private final Transcoder transcoder;
+
+	public BinaryToXmlTranscoder(LlrpContext context, boolean indent) {
+		this.context = context;
+		this.encoder = context.createXmlEncoder(indent);
+		this.decoder = context.createBinaryDecoder();
+		this.transcoder = new Transcoder();
+	}
+
+	/**
+	 * Writes the XML representation of the message at the position of the
+	 * given buffer. The position is advanced behind the message.
+	 *
+	 * @param buffer
+	 *            buffer with the binary message
+	 * @param writer
+	 *            writer for the XML document
+	 */
+	public void transcode(BitBuffer buffer, XMLStreamWriter writer) throws Exception {
+		transcode(buffer, encoder.indentingWriter(writer), true, true);
+	}
+
+	/**
+	 * Writes the element of a message with or without starting a new
+	 * document.
+	 */
+	void transcode(BitBuffer buffer, XMLStreamWriter writer, boolean document, boolean writeNamespaces)
+			throws Exception {
+		transcoder.writer = writer;
+		transcoder.document = document;
+		transcoder.writeNamespaces = writeNamespaces;
+		transcoder.depth = 0;
+		try {
+			decoder.visitMessage(buffer, transcoder);
+		} finally {
+			transcoder.writer = null;
+		}
+	}
+
+	/**
+	 * Writes the XML representation of the message within the given frame.
+	 *
+	 * @param frame
+	 *            buffer that contains exactly one binary message
+	 * @param writer
+	 *            writer for the XML document
+	 */
+	public void transcode(ByteBuffer frame, Writer writer) throws Exception {
+		XMLStreamWriter xmlWriter = new SimpleXMLStreamWriter(writer, encoder.indent);
+		transcode(BitBuffer.wrap(frame), xmlWriter);
+		xmlWriter.flush();
+	}
+
+	/**
+	 * Writes the visited messages and parameters as XML elements.
+	 */
+	class Transcoder extends PropertyVisitor {
+		XMLStreamWriter writer;
+		boolean document, writeNamespaces;
+
+		String[] namespaces = new String[16];
+		final XmlFieldWriter fieldWriter = new XmlFieldWriter();
+
+		Transcoder() {
+			super(BinaryToXmlTranscoder.this.context);
+		}
+
+		@Override
+		void push(Class<?> type) {
+			super.push(type);
+			if (depth > namespaces.length) {
+				namespaces = Arrays.copyOf(namespaces, properties.length);
+			}
+			namespaces[depth - 1] = context.xmlNamespace(type);
+		}
+
+		@Override
+		public boolean startMessage(Class<?> type, int typeNum, CustomKey key, long messageID) {
+			try {
+				if (document) {
+					writer.writeStartDocument("1.0");
+					encoder.setNamespaces(writer);
+				}
+				push(type);
+				writer.writeStartElement(namespaces[depth - 1], encoder.localName(type));
+				if (writeNamespaces) {
+					encoder.writeNamespaces(writer);
+				}
+			} catch (XMLStreamException e) {
+				throw new LlrpException(e);
+			}
+			return true;
+		}
+
+		@Override
+		public void endMessage(Class<?> type) {
+			try {
+				writer.writeEndElement();
+				if (document) {
+					writer.writeEndDocument();
+				}
+			} catch (XMLStreamException e) {
+				throw new LlrpException(e);
+			}
+			depth--;
+		}
+
+		@Override
+		public boolean startParameter(Class<?> type, int typeNum, CustomKey key) {
+			if (type == null) {
+				throw new LlrpException("Unknown parameter with type=" + typeNum);
+			}
+			push(type);
+			try {
+				writer.writeStartElement(namespaces[depth - 1], encoder.localName(type));
+			} catch (XMLStreamException e) {
+				throw new LlrpException(e);
+			}
+			return true;
+		}
+
+		@Override
+		public void endParameter(Class<?> type) {
+			try {
+				writer.writeEndElement();
+			} catch (XMLStreamException e) {
+				throw new LlrpException(e);
+			}
+			depth--;
+		}
+
+		@Override
+		void value(Property property, Object value) throws Exception {
+			fieldWriter.write(writer, namespaces[depth - 1], property.xmlName, value, property.fieldInfo.format());
+		}
+
+		@Override
+		public void onInt(String name, FieldType type, int value) {
+			Property property = nextField();
+			if (type != FieldType.U_1 && property.fieldInfo.format() == FieldFormat.DEC
+					&& property.elementType.isPrimitive()) {
+				// fast path for plain numbers
+				fieldIndexes[depth - 1]++;
+				try {
+					writer.writeStartElement(namespaces[depth - 1], property.xmlName);
+					writer.writeCharacters(Integer.toString(value));
+					writer.writeEndElement();
+				} catch (XMLStreamException e) {
+					throw new LlrpException(e);
+				}
+			} else {
+				super.onInt(name, type, value);
+			}
+		}
+	}
+}
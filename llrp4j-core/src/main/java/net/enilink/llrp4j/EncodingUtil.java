@@ -97,8 +97,8 @@ public class EncodingUtil {
 		}
 	}
 
-	private static Object fromValue(Class<?> enumClass, Number value) throws Exception {
-		return enumClass.getDeclaredMethod("fromValue", int.class).invoke(null, value.intValue());
+	private static Object fromValue(Class<?> enumClass, Number value) {
+		return EnumResolver.of(enumClass).fromValue(value.intValue());
 	}
 
 	static Object decodeEnum(Class<?> enumClass, Object value) throws Exception {
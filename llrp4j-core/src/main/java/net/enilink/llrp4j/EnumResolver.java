@@ -0,0 +1,78 @@
+package net.enilink.llrp4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.enilink.llrp4j.types.LlrpEnum;
+
+/**
+ * Resolves the constants of an enumeration by their names and values without
+ * reflective calls of the generated <code>valueOf</code> and
+ * <code>fromValue</code> methods.
+ */
+final class EnumResolver {
+	private static final ClassValue<EnumResolver> RESOLVERS = new ClassValue<EnumResolver>() {
+		@Override
+		protected EnumResolver computeValue(Class<?> type) {
+			return new EnumResolver(type);
+		}
+	};
+
+	final Class<?> enumClass;
+	final Map<String, Object> byName = new HashMap<>();
+	final Map<Integer, Object> byValue = new HashMap<>();
+
+	private EnumResolver(Class<?> enumClass) {
+		this.enumClass = enumClass;
+		Object[] constants = enumClass.getEnumConstants();
+		if (constants == null) {
+			throw new LlrpException("Not an enumeration: " + enumClass.getName());
+		}
+		for (Object constant : constants) {
+			byName.put(((LlrpEnum) constant).name(), constant);
+			Integer value = ((LlrpEnum) constant).value();
+			if (!byValue.containsKey(value)) {
+				byValue.put(value, constant);
+			}
+		}
+	}
+
+	static EnumResolver of(Class<?> enumClass) {
+		return RESOLVERS.get(enumClass);
+	}
+
+	Object fromName(String name) {
+		Object constant = byName.get(name);
+		if (constant == null) {
+			throw new IllegalArgumentException(
+					"No enum constant " + enumClass.getCanonicalName() + "." + name);
+		}
+		return constant;
+	}
+
+	/**
+	 * Resolves a single constant or a list of constants that are separated by
+	 * commas or white space.
+	 */
+	Object fromString(String value, boolean isList) {
+		if (isList) {
+			String[] elements = value.split("\\s*,\\s*|\\s+");
+			List<Object> constants = new ArrayList<>(elements.length);
+			for (int i = 0; i < elements.length; i++) {
+				constants.add(fromName(elements[i]));
+			}
+			return constants;
+		}
+		return fromName(value);
+	}
+
+	Object fromValue(int value) {
+		Object constant = byValue.get(value);
+		if (constant == null) {
+			throw new IllegalArgumentException();
+		}
+		return constant;
+	}
+}
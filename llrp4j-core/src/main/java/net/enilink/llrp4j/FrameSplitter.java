@@ -0,0 +1,221 @@
+package net.enilink.llrp4j;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * Splits a stream of concatenated LLRP messages into frames by reading the
+ * length field of the message headers.
+ * <p>
+ * Frames that are taken from a {@link ByteBuffer} are slices of this buffer.
+ * Frames that are read from an {@link InputStream} or a
+ * {@link ReadableByteChannel} are slices of an internal buffer that is reused
+ * and are only valid until the next frame is requested. Instances of this
+ * class are not thread-safe.
+ */
+public class FrameSplitter {
+	/**
+	 * Length of the LLRP message header in bytes.
+	 */
+	public static final int HEADER_LENGTH = 10;
+
+	/**
+	 * Number of bytes that are required to read the message length.
+	 */
+	static final int LENGTH_END = 6;
+
+	static final int DEFAULT_CAPACITY = 64 * 1024;
+
+	/**
+	 * Default upper bound for the length of a single frame in bytes.
+	 */
+	public static final int DEFAULT_MAX_FRAME_SIZE = 16 * 1024 * 1024;
+
+	protected ByteBuffer buffer;
+	protected int maxFrameSize = DEFAULT_MAX_FRAME_SIZE;
+	protected boolean endOfStream;
+
+	public FrameSplitter() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a splitter for streams and channels.
+	 *
+	 * @param capacity
+	 *            initial capacity of the read buffer in bytes
+	 */
+	public FrameSplitter(int capacity) {
+		buffer = ByteBuffer.allocate(Math.max(capacity, HEADER_LENGTH));
+		buffer.flip();
+	}
+
+	/**
+	 * Sets the maximum length of a frame that is read from a stream or
+	 * channel. The read buffer never grows beyond this length, so that a
+	 * corrupt length field can not exhaust the heap.
+	 *
+	 * @param maxFrameSize
+	 *            the maximum frame length in bytes
+	 * @return this splitter
+	 */
+	public FrameSplitter maxFrameSize(int maxFrameSize) {
+		if (maxFrameSize < HEADER_LENGTH) {
+			throw new IllegalArgumentException("Maximum frame size must be at least " + HEADER_LENGTH + " bytes.");
+		}
+		this.maxFrameSize = maxFrameSize;
+		return this;
+	}
+
+	/**
+	 * Returns the length of the message that starts at the given index.
+	 *
+	 * @param buffer
+	 *            the buffer
+	 * @param index
+	 *            absolute index of the first header byte
+	 * @return the length of the message in bytes or <code>-1</code> if the
+	 *         buffer does not yet contain the length field
+	 * @throws LlrpException
+	 *             if the length is smaller than the message header
+	 */
+	public static int frameLength(ByteBuffer buffer, int index) {
+		if (buffer.limit() - index < LENGTH_END) {
+			return -1;
+		}
+		long length = (buffer.get(index + 2) & 0xFFL) << 24 | (buffer.get(index + 3) & 0xFF) << 16
+				| (buffer.get(index + 4) & 0xFF) << 8 | buffer.get(index + 5) & 0xFF;
+		if (length < HEADER_LENGTH || length > Integer.MAX_VALUE) {
+			throw new LlrpException("Invalid message length " + length + ".");
+		}
+		return (int) length;
+	}
+
+	/**
+	 * Returns the next complete frame that starts at the position of the given
+	 * buffer and advances the position behind this frame.
+	 *
+	 * @param buffer
+	 *            the buffer
+	 * @return a slice of the buffer that contains exactly one message or
+	 *         <code>null</code> if the remaining bytes do not contain a
+	 *         complete message
+	 */
+	public static ByteBuffer next(ByteBuffer buffer) {
+		int start = buffer.position();
+		int length = frameLength(buffer, start);
+		if (length < 0 || buffer.limit() - start < length) {
+			return null;
+		}
+		ByteBuffer frame = buffer.duplicate();
+		frame.limit(start + length);
+		buffer.position(start + length);
+		return frame.slice();
+	}
+
+	/**
+	 * Reads the next frame from the given channel. Blocking channels are read
+	 * until a complete frame is available.
+	 *
+	 * @param channel
+	 *            the channel
+	 * @return the next frame or <code>null</code> if the end of the stream is
+	 *         reached or a non-blocking channel has no more data available
+	 * @throws EOFException
+	 *             if the stream ends within a frame
+	 */
+	public ByteBuffer next(ReadableByteChannel channel) throws IOException {
+		while (true) {
+			ByteBuffer frame = next(buffer);
+			if (frame != null) {
+				return frame;
+			}
+			prepareRead();
+			int read = channel.read(buffer);
+			buffer.flip();
+			if (read <= 0) {
+				return endOfData(read);
+			}
+		}
+	}
+
+	/**
+	 * Reads the next frame from the given stream.
+	 *
+	 * @param in
+	 *            the stream
+	 * @return the next frame or <code>null</code> if the end of the stream is
+	 *         reached
+	 * @throws EOFException
+	 *             if the stream ends within a frame
+	 */
+	public ByteBuffer next(InputStream in) throws IOException {
+		while (true) {
+			ByteBuffer frame = next(buffer);
+			if (frame != null) {
+				return frame;
+			}
+			prepareRead();
+			int read = in.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+			if (read > 0) {
+				buffer.position(buffer.position() + read);
+			}
+			buffer.flip();
+			if (read <= 0) {
+				return endOfData(read);
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the end of the last read stream or channel
+	 * was reached.
+	 */
+	public boolean isEndOfStream() {
+		return endOfStream;
+	}
+
+	/**
+	 * Returns the number of buffered bytes that do not yet form a complete
+	 * frame.
+	 */
+	public int buffered() {
+		return buffer.remaining();
+	}
+
+	/**
+	 * Compacts the buffer and ensures that it is able to hold the current
+	 * frame. The buffer is in write mode afterwards.
+	 *
+	 * @throws LlrpException
+	 *             if the length of the current frame exceeds the maximum
+	 *             frame size
+	 */
+	protected void prepareRead() {
+		int length = frameLength(buffer, buffer.position());
+		if (length > maxFrameSize) {
+			throw new LlrpException(
+					"Message length " + length + " exceeds the maximum frame size of " + maxFrameSize + " bytes.");
+		}
+		int required = Math.max(length, HEADER_LENGTH);
+		if (required > buffer.capacity()) {
+			ByteBuffer larger = ByteBuffer
+					.allocate(Math.max(required, (int) Math.min((long) buffer.capacity() * 2, maxFrameSize)));
+			larger.put(buffer);
+			buffer = larger;
+		} else {
+			buffer.compact();
+		}
+	}
+
+	private ByteBuffer endOfData(int read) throws EOFException {
+		endOfStream = read < 0;
+		if (endOfStream && buffer.hasRemaining()) {
+			throw new EOFException("Stream ended within a message (" + buffer.remaining() + " bytes remaining).");
+		}
+		return null;
+	}
+}
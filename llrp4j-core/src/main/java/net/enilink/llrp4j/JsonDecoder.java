@@ -0,0 +1,204 @@
+package net.enilink.llrp4j;
+
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
+
+import net.enilink.llrp4j.impl.BaseType;
+import net.enilink.llrp4j.impl.Property;
+import net.enilink.llrp4j.json.JsonException;
+import net.enilink.llrp4j.json.JsonReader;
+import net.enilink.llrp4j.json.JsonReader.Token;
+import net.enilink.llrp4j.types.LlrpEnum;
+import net.enilink.llrp4j.types.LlrpMessage;
+import net.enilink.llrp4j.types.XmlTypes;
+
+/**
+ * Decodes messages and parameters from the JSON format written by
+ * {@link JsonEncoder}.
+ * <p>
+ * The <code>@type</code> member must be the first member of an object.
+ * Instances of this class are not thread-safe.
+ */
+public class JsonDecoder {
+	protected LlrpContext context;
+
+	private Map<String, Class<?>> typesByName;
+	private final Map<BaseType, Map<String, Property>> propertiesByName = new HashMap<>();
+
+	public JsonDecoder(LlrpContext context) {
+		this.context = context;
+	}
+
+	protected Class<?> typeClass(String name) {
+		if (typesByName == null) {
+			typesByName = new HashMap<>();
+			for (Map.Entry<QName, Class<?>> entry : context.qnameToClass.entrySet()) {
+				typesByName.put(entry.getKey().getLocalPart(), entry.getValue());
+			}
+		}
+		Class<?> typeClass = typesByName.get(name);
+		if (typeClass == null) {
+			throw new JsonException("Unknown type: " + name);
+		}
+		return typeClass;
+	}
+
+	private Map<String, Property> properties(BaseType type) {
+		Map<String, Property> properties = propertiesByName.get(type);
+		if (properties == null) {
+			properties = new HashMap<>();
+			for (Property property : type.properties()) {
+				properties.put(property.xmlName, property);
+			}
+			propertiesByName.put(type, properties);
+		}
+		return properties;
+	}
+
+	/**
+	 * Decodes the next message from the given reader. Returns
+	 * <code>null</code> if the end of the input is reached, which allows to
+	 * read streams of newline-delimited JSON messages.
+	 */
+	public LlrpMessage decodeMessage(JsonReader reader) throws Exception {
+		if (reader.peek() == Token.END_DOCUMENT) {
+			return null;
+		}
+		reader.beginObject();
+		if (!reader.hasNext() || !JsonEncoder.TYPE.equals(reader.nextName())) {
+			throw new JsonException("Expected " + JsonEncoder.TYPE + " as first member of a message.");
+		}
+		Class<?> typeClass = typeClass(reader.nextString());
+		BaseType messageType = context.messageType(typeClass);
+		if (messageType == null) {
+			throw new JsonException("Not a message type: " + typeClass.getName());
+		}
+		LlrpMessage message = (LlrpMessage) messageType.typeClass.newInstance();
+		String name = reader.hasNext() ? reader.nextName() : null;
+		decodeProperties(message, messageType, name, reader);
+		return message;
+	}
+
+	/**
+	 * Decodes the next parameter from the given reader. The parameter must
+	 * contain a <code>@type</code> member.
+	 */
+	public Object decodeParameter(JsonReader reader) throws Exception {
+		if (reader.peek() == Token.END_DOCUMENT) {
+			return null;
+		}
+		return decodeParameter(null, reader);
+	}
+
+	private Object decodeParameter(Property property, JsonReader reader) throws Exception {
+		reader.beginObject();
+		String name = reader.hasNext() ? reader.nextName() : null;
+		Class<?> typeClass;
+		if (JsonEncoder.TYPE.equals(name)) {
+			typeClass = typeClass(reader.nextString());
+			name = reader.hasNext() ? reader.nextName() : null;
+		} else if (property != null) {
+			typeClass = property.elementType;
+		} else {
+			throw new JsonException("Expected " + JsonEncoder.TYPE + " as first member of a parameter.");
+		}
+		if (property != null && !property.elementType.isAssignableFrom(typeClass)) {
+			throw new JsonException("Parameter '" + typeClass.getSimpleName() + "' is not allowed for '"
+					+ property.field.getName() + "'.");
+		}
+		BaseType parameterType = context.type(typeClass);
+		if (parameterType == null) {
+			throw new JsonException("Not a parameter type: " + typeClass.getName());
+		}
+		Object parameter = typeClass.newInstance();
+		decodeProperties(parameter, parameterType, name, reader);
+		return parameter;
+	}
+
+	private void decodeProperties(Object o, BaseType type, String name, JsonReader reader) throws Exception {
+		Map<String, Property> properties = properties(type);
+		while (name != null) {
+			if (o instanceof LlrpMessage && JsonEncoder.MESSAGE_ID.equals(name)) {
+				((LlrpMessage) o).messageID(reader.nextLong());
+				name = reader.hasNext() ? reader.nextName() : null;
+				continue;
+			}
+			Property property = properties.get(name);
+			if (property == null) {
+				throw new JsonException(
+						"Unknown member '" + name + "' in type '" + type.typeClass.getSimpleName() + "'");
+			}
+			Object value;
+			if (reader.peek() == Token.NULL) {
+				reader.nextNull();
+				value = null;
+			} else if (property.isField) {
+				value = decodeField(property, reader);
+			} else if (property.isList) {
+				List<Object> values = new ArrayList<>();
+				reader.beginArray();
+				while (reader.hasNext()) {
+					values.add(decodeParameter(property, reader));
+				}
+				reader.endArray();
+				value = values;
+			} else {
+				value = decodeParameter(property, reader);
+			}
+			property.field.set(o, value);
+			name = reader.hasNext() ? reader.nextName() : null;
+		}
+		reader.endObject();
+
+		for (Property property : type.properties()) {
+			Object value = property.field.get(o);
+			if (property.required && (value == null || property.isList && ((List<?>) value).isEmpty())) {
+				throw new JsonException("Missing required " + (property.isField ? "field" : "parameter") + " '"
+						+ property.field.getName() + "' in type '" + type.typeClass.getSimpleName() + "'");
+			}
+		}
+	}
+
+	private Object decodeField(Property property, JsonReader reader) throws Exception {
+		boolean isEnum = LlrpEnum.class.isAssignableFrom(property.elementType);
+		if (reader.peek() == Token.BEGIN_ARRAY) {
+			List<Object> enumValues = isEnum ? new ArrayList<>() : null;
+			StringBuilder sb = new StringBuilder();
+			reader.beginArray();
+			while (reader.hasNext()) {
+				String element = reader.nextString();
+				if (isEnum) {
+					enumValues.add(stringToEnum(property.elementType, element));
+				} else {
+					if (sb.length() > 0) {
+						sb.append(' ');
+					}
+					sb.append(element);
+				}
+			}
+			reader.endArray();
+			if (isEnum) {
+				return enumValues;
+			}
+			return XmlTypes.fromString(property.fieldInfo.type(), property.fieldInfo.format(), sb.toString());
+		}
+		String value = reader.nextString();
+		if (isEnum) {
+			return stringToEnum(property.elementType, value);
+		}
+		try {
+			return XmlTypes.fromString(property.fieldInfo.type(), property.fieldInfo.format(), value);
+		} catch (NumberFormatException e) {
+			throw new JsonException("Invalid value '" + value + "' for field '" + property.field.getName() + "'");
+		}
+	}
+
+	private Object stringToEnum(Class<?> enumClass, String value) {
+		return EnumResolver.of(enumClass).fromName(value);
+	}
+}
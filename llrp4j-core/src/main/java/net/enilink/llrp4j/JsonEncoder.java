@@ -0,0 +1,143 @@
+package net.enilink.llrp4j;
+
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.util.List;
+
+import org.llrp.ltk.schema.core.FieldFormat;
+
+import net.enilink.llrp4j.impl.BaseType;
+import net.enilink.llrp4j.impl.Property;
+import net.enilink.llrp4j.json.JsonWriter;
+import net.enilink.llrp4j.types.LlrpEnum;
+import net.enilink.llrp4j.types.LlrpMessage;
+import net.enilink.llrp4j.types.XmlTypes;
+
+/**
+ * Encodes messages and parameters as JSON objects.
+ * <p>
+ * Messages are written as objects with the members <code>@type</code> and
+ * <code>@id</code> followed by their properties. Properties use the same names
+ * as the field elements of the XML format. Parameters are nested objects or
+ * arrays of objects for repeated parameters. The <code>@type</code> of a
+ * parameter is only written if it can not be inferred from its property.
+ * Decimal numbers and booleans are written as JSON literals, enumerations as
+ * their names and all other values in the same format as in XML documents.
+ */
+public class JsonEncoder {
+	public static final String TYPE = "@type";
+	public static final String MESSAGE_ID = "@id";
+
+	protected LlrpContext context;
+
+	public JsonEncoder(LlrpContext context) {
+		this.context = context;
+	}
+
+	protected String typeName(Class<?> c) {
+		return c.getSimpleName();
+	}
+
+	public void encodeMessage(LlrpMessage message, JsonWriter writer) throws Exception {
+		BaseType messageType = context.messageType(message.getClass());
+		if (messageType == null) {
+			throw new LlrpException("Unsupported message type: " + message.getClass());
+		}
+		writer.beginObject();
+		writer.name(TYPE).value(typeName(message.getClass()));
+		writer.name(MESSAGE_ID).value(message.messageID());
+		encodeProperties(message, messageType, writer);
+		writer.endObject();
+	}
+
+	public void encodeParameter(Object parameter, JsonWriter writer) throws Exception {
+		encodeParameter(parameter, null, writer);
+	}
+
+	private void encodeParameter(Object parameter, Property property, JsonWriter writer) throws Exception {
+		BaseType parameterType = context.type(parameter.getClass());
+		if (parameterType == null) {
+			throw new LlrpException("Unsupported parameter type: " + parameter.getClass());
+		}
+		writer.beginObject();
+		if (property == null || property.elementType != parameter.getClass()) {
+			writer.name(TYPE).value(typeName(parameter.getClass()));
+		}
+		encodeProperties(parameter, parameterType, writer);
+		writer.endObject();
+	}
+
+	private void encodeProperties(Object o, BaseType type, JsonWriter writer) throws Exception {
+		for (Property property : type.properties()) {
+			Object value = property.field.get(o);
+			boolean empty = value == null || property.isList && ((List<?>) value).isEmpty();
+			if (empty) {
+				if (property.required) {
+					throw new LlrpException("Missing required " + (property.isField ? "field" : "parameter") + " '"
+							+ property.field.getName() + "' in type '" + o.getClass().getSimpleName() + "'");
+				}
+				continue;
+			}
+			if (property.isField) {
+				writeField(property, value, writer);
+			} else {
+				writer.name(property.xmlName);
+				if (property.isList) {
+					writer.beginArray();
+					for (Object element : (List<?>) value) {
+						encodeParameter(element, property, writer);
+					}
+					writer.endArray();
+				} else {
+					encodeParameter(value, property, writer);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Writes the name and value of a field.
+	 */
+	void writeField(Property property, Object value, JsonWriter writer) throws IOException {
+		writer.name(property.xmlName);
+		FieldFormat format = property.fieldInfo.format();
+		if (value instanceof LlrpEnum) {
+			writer.value(((LlrpEnum) value).name());
+		} else if (value instanceof List<?>) {
+			writer.beginArray();
+			for (Object element : (List<?>) value) {
+				writer.value(((LlrpEnum) element).name());
+			}
+			writer.endArray();
+		} else if (value instanceof Boolean) {
+			writer.value(((Boolean) value).booleanValue());
+		} else if (format != FieldFormat.DEC) {
+			writer.value(XmlTypes.toString(value, format));
+		} else if (value instanceof Integer || value instanceof Long) {
+			writer.value(((Number) value).longValue());
+		} else if (value instanceof BigInteger) {
+			writer.numberValue(value.toString());
+		} else if (value instanceof int[]) {
+			writer.beginArray();
+			for (int element : (int[]) value) {
+				writer.value(element);
+			}
+			writer.endArray();
+		} else if (value instanceof long[]) {
+			writer.beginArray();
+			for (long element : (long[]) value) {
+				writer.value(element);
+			}
+			writer.endArray();
+		} else if (value instanceof BigInteger[]) {
+			writer.beginArray();
+			for (BigInteger element : (BigInteger[]) value) {
+				writer.numberValue(element.toString());
+			}
+			writer.endArray();
+		} else {
+			writer.value(XmlTypes.toString(value, format));
+		}
+	}
+}
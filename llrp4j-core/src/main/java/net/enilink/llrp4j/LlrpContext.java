@@ -1,39 +1,70 @@
 package net.enilink.llrp4j;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import net.enilink.llrp4j.annotations.LlrpCustomMessageType;
 import net.enilink.llrp4j.annotations.LlrpCustomParameterType;
 import net.enilink.llrp4j.annotations.LlrpMessageType;
 import net.enilink.llrp4j.annotations.LlrpNamespace;
 import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
 import net.enilink.llrp4j.impl.BaseType;
 import net.enilink.llrp4j.impl.CustomKey;
 import net.enilink.llrp4j.impl.CustomMessage;
 import net.enilink.llrp4j.impl.CustomParameter;
 import net.enilink.llrp4j.impl.Message;
 import net.enilink.llrp4j.impl.Parameter;
+import net.enilink.llrp4j.types.LlrpMessage;
 
 public class LlrpContext {
+	final static Logger logger = LoggerFactory.getLogger(LlrpContext.class);
+
 	protected final Set<Class<?>> classes = new HashSet<>();
 	protected final Map<String, String> namespaces = new HashMap<>();
 
-	protected final Map<Integer, Message> messageTypes = new HashMap<>();
-	protected final Map<Integer, Parameter> parameterTypes = new HashMap<>();
-	protected final Map<CustomKey, CustomMessage> customMessageTypes = new HashMap<>();
-	protected final Map<CustomKey, CustomParameter> customParameterTypes = new HashMap<>();
+	/**
+	 * The types of this context that are shared with all contexts using the
+	 * same classes.
+	 */
+	protected final TypeModel model;
+
+	protected final Map<Integer, Message> messageTypes;
+	protected final Map<Integer, Parameter> parameterTypes;
+	protected final Map<CustomKey, CustomMessage> customMessageTypes;
+	protected final Map<CustomKey, CustomParameter> customParameterTypes;
 
 	protected final Map<AnnotationKey, Annotation> cachedAnnotations = new HashMap<>();
 
-	protected final Map<QName, Class<?>> qnameToClass = new HashMap<>();
+	protected final Map<QName, Class<?>> qnameToClass;
+
+	protected final Map<Class<?>, BaseType> classToType;
+
+	protected final Map<QName, BaseType> qnameToType;
+
+	/**
+	 * All types indexed by their identifiers.
+	 */
+	protected final BaseType[] types;
+
+	protected volatile ValidationMode validationMode = ValidationMode.OFF;
 
 	static class AnnotationKey {
 		final Class<?> targetClass;
@@ -78,61 +109,101 @@ public class LlrpContext {
 	}
 
 	protected LlrpContext(Module[] modules) {
+		Map<Class<?>, TypeDescriptor> descriptors = new HashMap<>();
 		for (Module module : modules) {
 			classes.addAll(module.getClasses());
 			namespaces.putAll(module.getNamespaces());
+			descriptors.putAll(module.getDescriptors());
 		}
-		Set<Package> packages = new HashSet<>();
-		for (Class<?> c : classes) {
-			addParameter(c);
-			addMessage(c);
-			addCustomMessage(c);
-
-			addXmlType(c);
-
-			packages.add(c.getPackage());
-		}
+		TypeModel model = TypeModel.get(classes, descriptors);
+		this.model = model;
+		this.messageTypes = model.messageTypes;
+		this.parameterTypes = model.parameterTypes;
+		this.customMessageTypes = model.customMessageTypes;
+		this.customParameterTypes = model.customParameterTypes;
+		this.qnameToClass = model.qnameToClass;
+		this.classToType = model.classToType;
+		this.qnameToType = model.qnameToType;
+		this.types = model.types;
 	}
 
-	private void addCustomMessage(Class<?> c) {
-		LlrpCustomMessageType a = getAnnotation(c, LlrpCustomMessageType.class);
-		if (a != null) {
-			CustomKey key = new CustomKey(a.vendor(), a.subType());
-			customMessageTypes.put(key, new CustomMessage(key, a, c));
-		}
+	public static LlrpContext create(Module... modules) {
+		return new LlrpContext(modules);
+	}
 
+	/**
+	 * Sets the default validation mode of encoders and decoders created by
+	 * this context.
+	 *
+	 * @param validationMode
+	 *            the validation mode
+	 * @return this context
+	 */
+	public LlrpContext validationMode(ValidationMode validationMode) {
+		this.validationMode = validationMode;
+		return this;
 	}
 
-	private void addMessage(Class<?> c) {
-		LlrpMessageType a = getAnnotation(c, LlrpMessageType.class);
-		if (a != null) {
-			messageTypes.put(a.typeNum(), new Message(a, c));
-		}
+	public ValidationMode validationMode() {
+		return validationMode;
 	}
 
-	private void addParameter(Class<?> c) {
-		LlrpCustomParameterType customAnnotation = getAnnotation(c, LlrpCustomParameterType.class);
-		if (customAnnotation != null) {
-			CustomKey key = new CustomKey(customAnnotation.vendor(), customAnnotation.subType());
-			customParameterTypes.put(key, new CustomParameter(key, customAnnotation, c));
-		} else {
-			LlrpParameterType a = getAnnotation(c, LlrpParameterType.class);
-			if (a != null) {
-				parameterTypes.put(a.typeNum(), new Parameter(a, c));
+	/**
+	 * Warms up this context by encoding and decoding sample instances of all
+	 * registered message types in the binary and XML formats. This initializes
+	 * all lazily populated caches and gives the JIT compiler the chance to
+	 * compile the codecs before the first real messages are processed.
+	 *
+	 * @param iterations
+	 *            the number of round trips for each message type
+	 * @return the duration of the warm-up and the number of failures
+	 */
+	public WarmUpResult warmUp(int iterations) {
+		long start = System.nanoTime();
+		SampleFactory samples = new SampleFactory(this);
+		List<LlrpMessage> messages = new ArrayList<>();
+		int failures = 0;
+		for (BaseType type : types) {
+			if (LlrpMessage.class.isAssignableFrom(type.typeClass)) {
+				try {
+					messages.add((LlrpMessage) samples.create(type));
+				} catch (Exception e) {
+					logger.warn("Unable to create sample of {}", type.typeClass, e);
+					failures++;
+				}
 			}
 		}
-	}
 
-	private void addXmlType(Class<?> c) {
-		LlrpNamespace a = getAnnotation(c, LlrpNamespace.class);
-		if (a != null) {
-			qnameToClass.put(new QName(a.value(), c.getSimpleName()), c);
+		BinaryEncoder binaryEncoder = createBinaryEncoder();
+		BinaryDecoder binaryDecoder = createBinaryDecoder();
+		XmlEncoder xmlEncoder = createXmlEncoder();
+		XmlDecoder xmlDecoder = createXmlDecoder();
+		XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+		XMLInputFactory inputFactory = XMLInputFactory.newInstance();
+		for (int i = 0; i < iterations; i++) {
+			for (LlrpMessage message : messages) {
+				try {
+					BitBuffer buffer = BitBuffer.allocateDynamic();
+					binaryEncoder.encodeMessage(message, buffer);
+					binaryDecoder.decodeMessage(BitBuffer.wrap(buffer.asByteArray()));
+
+					StringWriter xml = new StringWriter();
+					XMLStreamWriter writer = outputFactory.createXMLStreamWriter(xml);
+					xmlEncoder.encodeMessage(message, writer);
+					writer.close();
+					xmlDecoder.decodeMessage(inputFactory.createXMLStreamReader(new StringReader(xml.toString())));
+				} catch (Exception e) {
+					if (i == 0) {
+						logger.warn("Warm-up failed for {}", message.getClass(), e);
+					}
+					failures++;
+				}
+			}
 		}
-
-	}
-
-	public static LlrpContext create(Module... modules) {
-		return new LlrpContext(modules);
+		long duration = (System.nanoTime() - start) / 1000000;
+		logger.info("Warm-up with {} message types and {} iterations took {} ms ({} failures).", messages.size(),
+				iterations, duration, failures);
+		return new WarmUpResult(messages.size(), duration, failures);
 	}
 
 	public BinaryEncoder createBinaryEncoder() {
@@ -155,11 +226,43 @@ public class LlrpContext {
 		return new XmlEncoder(this, indent);
 	}
 
+	public BinaryToXmlTranscoder createBinaryToXmlTranscoder() {
+		return createBinaryToXmlTranscoder(false);
+	}
+
+	public BinaryToXmlTranscoder createBinaryToXmlTranscoder(boolean indent) {
+		return new BinaryToXmlTranscoder(this, indent);
+	}
+
+	public XmlToBinaryTranscoder createXmlToBinaryTranscoder() {
+		return new XmlToBinaryTranscoder(this);
+	}
+
+	public JsonEncoder createJsonEncoder() {
+		return new JsonEncoder(this);
+	}
+
+	public JsonDecoder createJsonDecoder() {
+		return new JsonDecoder(this);
+	}
+
+	public BinaryToJsonTranscoder createBinaryToJsonTranscoder() {
+		return new BinaryToJsonTranscoder(this);
+	}
+
 	public Collection<Class<?>> getClasses() {
 		return Collections.unmodifiableCollection(classes);
 	}
 
+	BaseType type(Class<?> target) {
+		return classToType.get(target);
+	}
+
 	CustomMessage customMessageType(Class<?> target) {
+		BaseType type = classToType.get(target);
+		if (type instanceof CustomMessage) {
+			return (CustomMessage) type;
+		}
 		LlrpCustomMessageType a = getAnnotation(target, LlrpCustomMessageType.class);
 		if (a != null) {
 			return customMessageTypes.get(new CustomKey(a.vendor(), a.subType()));
@@ -168,6 +271,10 @@ public class LlrpContext {
 	}
 
 	BaseType messageType(Class<?> target) {
+		BaseType type = classToType.get(target);
+		if (type instanceof Message || type instanceof CustomMessage) {
+			return type;
+		}
 		LlrpMessageType a = getAnnotation(target, LlrpMessageType.class);
 		if (a != null) {
 			return messageTypes.get(a.typeNum());
@@ -176,6 +283,10 @@ public class LlrpContext {
 	}
 
 	CustomParameter customParameterType(Class<?> target) {
+		BaseType type = classToType.get(target);
+		if (type instanceof CustomParameter) {
+			return (CustomParameter) type;
+		}
 		LlrpCustomParameterType a = getAnnotation(target, LlrpCustomParameterType.class);
 		if (a != null) {
 			return customParameterTypes.get(new CustomKey(a.vendor(), a.subType()));
@@ -184,6 +295,10 @@ public class LlrpContext {
 	}
 
 	Parameter parameterType(Class<?> target) {
+		BaseType type = classToType.get(target);
+		if (type instanceof Parameter) {
+			return (Parameter) type;
+		}
 		LlrpParameterType a = getAnnotation(target, LlrpParameterType.class);
 		if (a != null) {
 			return parameterTypes.get(a.typeNum());
@@ -216,6 +331,10 @@ public class LlrpContext {
 	static final String DEFAULT_NAMESPACE = "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0";
 
 	protected String xmlNamespace(Class<?> clazz) {
+		BaseType type = classToType.get(clazz);
+		if (type != null) {
+			return type.xmlNamespace;
+		}
 		LlrpNamespace ns = clazz.getAnnotation(LlrpNamespace.class);
 		if (ns != null) {
 			return ns.value();
@@ -0,0 +1,111 @@
+package net.enilink.llrp4j;
+
+import org.llrp.ltk.schema.core.FieldType;
+
+import net.enilink.llrp4j.impl.CustomKey;
+
+/**
+ * Receives the contents of binary encoded messages as a sequence of events
+ * without creating message or parameter objects.
+ * <p>
+ * All methods of this class do nothing and subclasses override the methods
+ * for the events they are interested in. Arrays that are passed to the field
+ * callbacks are reused by the decoder and are only valid during the call.
+ *
+ * @see BinaryDecoder#visitMessage(net.enilink.llrp4j.bitbuffer.BitBuffer,
+ *      LlrpVisitor)
+ */
+public abstract class LlrpVisitor {
+	/**
+	 * Called at the start of a message.
+	 *
+	 * @param type
+	 *            the message class
+	 * @param typeNum
+	 *            the message type number
+	 * @param key
+	 *            vendor and subtype of custom messages, <code>null</code>
+	 *            otherwise
+	 * @param messageID
+	 *            the message ID
+	 * @return <code>true</code> if the contents of the message should be
+	 *         visited, else <code>false</code>
+	 */
+	public boolean startMessage(Class<?> type, int typeNum, CustomKey key, long messageID) {
+		return true;
+	}
+
+	/**
+	 * Called at the end of a message if its contents were visited.
+	 */
+	public void endMessage(Class<?> type) {
+	}
+
+	/**
+	 * Called at the start of a parameter.
+	 *
+	 * @param type
+	 *            the parameter class or <code>null</code> for unknown TLV
+	 *            parameters whose contents are skipped
+	 * @param typeNum
+	 *            the parameter type number
+	 * @param key
+	 *            vendor and subtype of custom parameters, <code>null</code>
+	 *            otherwise
+	 * @return <code>true</code> if the contents of the parameter should be
+	 *         visited, else <code>false</code>
+	 */
+	public boolean startParameter(Class<?> type, int typeNum, CustomKey key) {
+		return true;
+	}
+
+	/**
+	 * Called at the end of a parameter if its contents were visited.
+	 */
+	public void endParameter(Class<?> type) {
+	}
+
+	/**
+	 * Called for fields of the types <code>u1</code>, <code>u2</code>,
+	 * <code>u8</code>, <code>s8</code>, <code>u16</code>, <code>s16</code>
+	 * and <code>s32</code> and for enumerations.
+	 */
+	public void onInt(String name, FieldType type, int value) {
+	}
+
+	/**
+	 * Called for fields of the types <code>u32</code>, <code>u64</code> and
+	 * <code>s64</code>. Values of type <code>u64</code> are passed as raw
+	 * bits.
+	 */
+	public void onLong(String name, FieldType type, long value) {
+	}
+
+	/**
+	 * Called for vectors of the types <code>u8v</code>, <code>s8v</code>,
+	 * <code>u16v</code>, <code>s16v</code> and <code>s32v</code>.
+	 */
+	public void onInts(String name, FieldType type, int[] values, int count) {
+	}
+
+	/**
+	 * Called for vectors of the types <code>u32v</code>, <code>u64v</code> and
+	 * <code>s64v</code>.
+	 */
+	public void onLongs(String name, FieldType type, long[] values, int count) {
+	}
+
+	/**
+	 * Called for fields of the types <code>u96</code>, <code>utf8v</code> and
+	 * <code>bytesToEnd</code>.
+	 */
+	public void onBytes(String name, FieldType type, byte[] bytes, int length) {
+	}
+
+	/**
+	 * Called for bit vectors of the type <code>u1v</code>. The bits are packed
+	 * into bytes with the most significant bit first.
+	 */
+	public void onBits(String name, FieldType type, byte[] bits, int bitCount) {
+	}
+}
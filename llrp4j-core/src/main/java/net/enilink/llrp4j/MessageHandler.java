@@ -0,0 +1,10 @@
+package net.enilink.llrp4j;
+
+import net.enilink.llrp4j.types.LlrpMessage;
+
+/**
+ * Callback for messages that are decoded from a sequence of frames.
+ */
+public interface MessageHandler {
+	void handle(LlrpMessage message) throws Exception;
+}
@@ -3,6 +3,7 @@ package net.enilink.llrp4j;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
@@ -10,6 +11,7 @@ import java.util.Set;
 public class Module {
 	protected Set<Class<?>> classes = new LinkedHashSet<>();
 	protected Map<String, String> namespaces = new HashMap<>();
+	protected Map<Class<?>, TypeDescriptor> descriptors = new LinkedHashMap<>();
 
 	public Module() {
 	}
@@ -40,9 +42,21 @@ public class Module {
 		return this;
 	}
 
+	/**
+	 * Adds the class of a type together with its precomputed metadata.
+	 */
+	public Module addTypes(TypeDescriptor... descriptors) {
+		for (TypeDescriptor descriptor : descriptors) {
+			this.classes.add(descriptor.typeClass);
+			this.descriptors.put(descriptor.typeClass, descriptor);
+		}
+		return this;
+	}
+
 	public Module include(Module other) {
 		this.classes.addAll(other.classes);
 		this.namespaces.putAll(other.namespaces);
+		this.descriptors.putAll(other.descriptors);
 		return this;
 	}
 
@@ -54,6 +68,10 @@ public class Module {
 		return Collections.unmodifiableMap(namespaces);
 	}
 
+	public Map<Class<?>, TypeDescriptor> getDescriptors() {
+		return Collections.unmodifiableMap(descriptors);
+	}
+
 	@Override
 	public int hashCode() {
 		final int prime = 31;
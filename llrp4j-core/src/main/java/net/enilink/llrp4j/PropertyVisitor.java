@@ -0,0 +1,143 @@
+package net.enilink.llrp4j;
+
+import static net.enilink.llrp4j.EncodingUtil.decodeEnum;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.llrp.ltk.schema.core.FieldType;
+
+import net.enilink.llrp4j.impl.BaseType;
+import net.enilink.llrp4j.impl.Property;
+import net.enilink.llrp4j.types.BitList;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+/**
+ * Visitor that tracks the properties of the visited messages and parameters
+ * and converts the field values to the same objects that are used by decoded
+ * messages.
+ */
+abstract class PropertyVisitor extends LlrpVisitor {
+	final LlrpContext context;
+
+	Class<?>[] types = new Class<?>[16];
+	Property[][] properties = new Property[16][];
+	int[] fieldIndexes = new int[16];
+	int depth;
+
+	PropertyVisitor(LlrpContext context) {
+		this.context = context;
+	}
+
+	void push(Class<?> type) {
+		BaseType baseType = context.type(type);
+		if (baseType == null) {
+			throw new LlrpException("Unknown type " + type.getName());
+		}
+		if (depth == properties.length) {
+			types = Arrays.copyOf(types, depth * 2);
+			properties = Arrays.copyOf(properties, depth * 2);
+			fieldIndexes = Arrays.copyOf(fieldIndexes, depth * 2);
+		}
+		types[depth] = type;
+		properties[depth] = baseType.properties();
+		fieldIndexes[depth] = 0;
+		depth++;
+	}
+
+	/**
+	 * Returns the property of the next field without consuming it.
+	 */
+	Property nextField() {
+		return properties[depth - 1][fieldIndexes[depth - 1]];
+	}
+
+	/**
+	 * Called for each field of the current message or parameter.
+	 *
+	 * @param property
+	 *            the field's property
+	 * @param value
+	 *            the value, enumeration values are already converted
+	 */
+	abstract void value(Property property, Object value) throws Exception;
+
+	void write(Object value) {
+		Property property = properties[depth - 1][fieldIndexes[depth - 1]++];
+		try {
+			if (LlrpEnum.class.isAssignableFrom(property.elementType)) {
+				value = decodeEnum(property.elementType, value);
+			}
+			value(property, value);
+		} catch (LlrpException e) {
+			throw e;
+		} catch (Exception e) {
+			throw new LlrpException(e);
+		}
+	}
+
+	@Override
+	public void onInt(String name, FieldType type, int value) {
+		if (type == FieldType.U_1) {
+			write(value != 0);
+		} else {
+			write(value);
+		}
+	}
+
+	@Override
+	public void onLong(String name, FieldType type, long value) {
+		if (type == FieldType.U_32) {
+			write(value);
+		} else {
+			write(unsigned(value));
+		}
+	}
+
+	BigInteger unsigned(long value) {
+		BigInteger result = BigInteger.valueOf(value);
+		return value < 0 ? result.add(BigInteger.ONE.shiftLeft(64)) : result;
+	}
+
+	@Override
+	public void onInts(String name, FieldType type, int[] values, int count) {
+		write(Arrays.copyOf(values, count));
+	}
+
+	@Override
+	public void onLongs(String name, FieldType type, long[] values, int count) {
+		if (type == FieldType.U_32_V) {
+			write(Arrays.copyOf(values, count));
+		} else {
+			BigInteger[] result = new BigInteger[count];
+			for (int i = 0; i < count; i++) {
+				result[i] = unsigned(values[i]);
+			}
+			write(result);
+		}
+	}
+
+	@Override
+	public void onBytes(String name, FieldType type, byte[] bytes, int length) {
+		switch (type) {
+		case U_96:
+			write(new BigInteger(1, Arrays.copyOf(bytes, length)));
+			break;
+		case UTF_8_V:
+			write(new String(bytes, 0, length, StandardCharsets.UTF_8));
+			break;
+		default:
+			write(Arrays.copyOf(bytes, length));
+		}
+	}
+
+	@Override
+	public void onBits(String name, FieldType type, byte[] bits, int bitCount) {
+		BitList list = new BitList(bitCount);
+		for (int i = 0; i < bitCount; i++) {
+			list.set(i, (bits[i >>> 3] & (0x80 >>> (i & 7))) != 0);
+		}
+		write(list);
+	}
+}
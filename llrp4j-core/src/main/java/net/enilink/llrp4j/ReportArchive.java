@@ -0,0 +1,265 @@
+package net.enilink.llrp4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.llrp.ltk.schema.core.FieldType;
+
+import net.enilink.llrp4j.impl.BaseType;
+import net.enilink.llrp4j.impl.Parameter;
+import net.enilink.llrp4j.impl.Property;
+
+/**
+ * Layout and shared helpers of the report archive format.
+ * <p>
+ * An archive starts with a header that contains {@link #MAGIC} and the type
+ * number of the archived records, followed by blocks and an index:
+ *
+ * <pre>
+ * block  = int length, varint recordCount, section shapes, section shapeRefs,
+ *          section dictionary, section dictionaryRefs, varint columnCount,
+ *          { varint typeNum, section values }
+ * index  = int -1, { long offset, int recordCount }, int blockCount,
+ *          long indexOffset, MAGIC
+ * </pre>
+ *
+ * Each section is prefixed with its length in bytes. A shape is the sequence
+ * of sub-parameters of a record where TV parameters with a single integer
+ * field are stored in value columns and all other parameters in a dictionary
+ * that is local to the block.
+ */
+final class ReportArchive {
+	static final byte[] MAGIC = { 'L', 'R', 'A', '1' };
+
+	static final int HEADER_LENGTH = MAGIC.length + 2;
+	static final int TRAILER_LENGTH = 4 + 8 + MAGIC.length;
+	static final int INDEX_MARKER = -1;
+
+	/**
+	 * Shape code for parameters that are stored in the dictionary, value
+	 * columns use their type number plus one.
+	 */
+	static final int DICTIONARY = 0;
+
+	static final int UNKNOWN = 0, BYTES = 1, VARINT = 2, DELTA = 3;
+
+	final LlrpContext context;
+	final int recordTypeNum;
+
+	// column kinds, lengths in bytes and signedness of TV parameters
+	final int[] kinds = new int[128];
+	final int[] lengths = new int[128];
+	final boolean[] signed = new boolean[128];
+
+	ReportArchive(LlrpContext context, int recordTypeNum) {
+		this.context = context;
+		this.recordTypeNum = recordTypeNum;
+	}
+
+	static int recordTypeNum(LlrpContext context, Class<?> recordType) {
+		BaseType type = context.type(recordType);
+		if (!(type instanceof Parameter) || ((Parameter) type).typeNum < 128) {
+			throw new LlrpException("Archived records must be TLV parameters: " + recordType.getName());
+		}
+		for (Property property : type.properties()) {
+			if (property.isField) {
+				throw new LlrpException("Archived records must not contain fields: " + recordType.getName());
+			}
+		}
+		return ((Parameter) type).typeNum;
+	}
+
+	/**
+	 * Returns the kind of the column for the given TV parameter.
+	 */
+	int kind(int typeNum) {
+		int kind = kinds[typeNum];
+		if (kind == UNKNOWN) {
+			Parameter type = context.parameterTypes.get(typeNum);
+			if (type == null) {
+				throw new LlrpException("Unknown parameter with type=" + typeNum);
+			}
+			int bits = 0;
+			Property[] properties = type.properties();
+			for (Property property : properties) {
+				FieldType fieldType = property.fieldInfo.type();
+				if (fieldType.name().endsWith("_V") || fieldType == FieldType.BYTES_TO_END) {
+					throw new LlrpException("Unsupported TV parameter with type=" + typeNum);
+				}
+				bits += BinaryDecoder.BITS[fieldType.ordinal()] + property.fieldInfo.reservedBefore()
+						+ property.fieldInfo.reservedAfter();
+			}
+			lengths[typeNum] = 1 + bits / 8;
+			kind = BYTES;
+			if (properties.length == 1 && bits % 8 == 0 && bits >= 8 && bits <= 64
+					&& BinaryDecoder.BITS[properties[0].fieldInfo.type().ordinal()] == bits) {
+				FieldType fieldType = properties[0].fieldInfo.type();
+				signed[typeNum] = fieldType.name().startsWith("S_");
+				kind = bits == 64 ? DELTA : VARINT;
+			}
+			kinds[typeNum] = kind;
+		}
+		return kind;
+	}
+
+	/**
+	 * Returns the length in bytes of the given TV parameter.
+	 */
+	int tvLength(int typeNum) {
+		kind(typeNum);
+		return lengths[typeNum];
+	}
+
+	/**
+	 * Returns the length of the sub-parameter at the given index.
+	 */
+	int parameterLength(ByteBuffer buffer, int index) {
+		int first = buffer.get(index) & 0xFF;
+		if ((first & 0x80) != 0) {
+			return tvLength(first & 0x7F);
+		}
+		int length = buffer.getShort(index + 2) & 0xFFFF;
+		if (length < 4) {
+			throw new LlrpException("Invalid parameter length " + length + ".");
+		}
+		return length;
+	}
+
+	/**
+	 * Reads the value of a TV parameter with a single integer field.
+	 */
+	long readValue(ByteBuffer buffer, int index, int typeNum) {
+		int length = lengths[typeNum] - 1;
+		long value = 0;
+		for (int i = 1; i <= length; i++) {
+			value = value << 8 | buffer.get(index + i) & 0xFF;
+		}
+		if (signed[typeNum] && length < 8) {
+			int shift = 64 - length * 8;
+			value = value << shift >> shift;
+		}
+		return value;
+	}
+
+	/**
+	 * Writes a TV parameter with a single integer field.
+	 */
+	void writeValue(ByteBuffer buffer, int typeNum, long value) {
+		buffer.put((byte) (0x80 | typeNum));
+		for (int shift = (lengths[typeNum] - 2) * 8; shift >= 0; shift -= 8) {
+			buffer.put((byte) (value >>> shift));
+		}
+	}
+
+	static long zigZag(long value) {
+		return value << 1 ^ value >> 63;
+	}
+
+	static long unZigZag(long value) {
+		return value >>> 1 ^ -(value & 1);
+	}
+
+	static long readVarLong(ByteBuffer buffer) {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = buffer.get();
+			value |= (long) (b & 0x7F) << shift;
+			if (b >= 0) {
+				return value;
+			}
+		}
+		throw new LlrpException("Malformed variable-length integer.");
+	}
+
+	static int readVarInt(ByteBuffer buffer) {
+		long value = readVarLong(buffer);
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new LlrpException("Invalid length or count " + value + ".");
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Returns a slice of the next section and advances the position behind
+	 * it.
+	 */
+	static ByteBuffer section(ByteBuffer buffer) {
+		int length = readVarInt(buffer);
+		ByteBuffer section = buffer.duplicate();
+		section.limit(buffer.position() + length);
+		buffer.position(buffer.position() + length);
+		return section.slice();
+	}
+
+	/**
+	 * Growable byte array with support for variable-length integers.
+	 */
+	static final class Bytes {
+		byte[] data;
+		int length;
+
+		Bytes(int capacity) {
+			data = new byte[capacity];
+		}
+
+		void ensure(int additional) {
+			if (length + additional > data.length) {
+				data = Arrays.copyOf(data, Math.max(length + additional, data.length * 2));
+			}
+		}
+
+		void write(int b) {
+			ensure(1);
+			data[length++] = (byte) b;
+		}
+
+		void write(ByteBuffer src, int index, int count) {
+			ensure(count);
+			for (int i = 0; i < count; i++) {
+				data[length++] = src.get(index + i);
+			}
+		}
+
+		void write(Bytes bytes) {
+			ensure(bytes.length);
+			System.arraycopy(bytes.data, 0, data, length, bytes.length);
+			length += bytes.length;
+		}
+
+		void writeVarLong(long value) {
+			ensure(10);
+			while ((value & ~0x7FL) != 0) {
+				data[length++] = (byte) (value & 0x7F | 0x80);
+				value >>>= 7;
+			}
+			data[length++] = (byte) value;
+		}
+
+		void writeSection(Bytes section) {
+			writeVarLong(section.length);
+			write(section);
+		}
+
+		void writeInt(int value) {
+			ensure(4);
+			for (int shift = 24; shift >= 0; shift -= 8) {
+				data[length++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeLong(long value) {
+			writeInt((int) (value >>> 32));
+			writeInt((int) value);
+		}
+
+		void writeTo(OutputStream out) throws IOException {
+			out.write(data, 0, length);
+		}
+
+		void clear() {
+			length = 0;
+		}
+	}
+}
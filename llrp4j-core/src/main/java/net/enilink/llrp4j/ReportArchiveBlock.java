@@ -0,0 +1,178 @@
+package net.enilink.llrp4j;
+
+import static net.enilink.llrp4j.ReportArchive.DELTA;
+import static net.enilink.llrp4j.ReportArchive.DICTIONARY;
+import static net.enilink.llrp4j.ReportArchive.readVarInt;
+import static net.enilink.llrp4j.ReportArchive.readVarLong;
+import static net.enilink.llrp4j.ReportArchive.section;
+import static net.enilink.llrp4j.ReportArchive.unZigZag;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+
+/**
+ * A block of records that was read from a report archive.
+ * <p>
+ * The columns of a block are decoded on demand. This allows to scan single
+ * columns, for example the antenna IDs of all records, without restoring the
+ * records themselves.
+ */
+public class ReportArchiveBlock {
+	protected final ReportArchive format;
+	protected final int recordCount;
+
+	private final ByteBuffer shapes, shapeRefs, dictionary, dictionaryRefs;
+	private final ByteBuffer[] columns = new ByteBuffer[128];
+
+	ReportArchiveBlock(ReportArchive format, ByteBuffer block) {
+		this.format = format;
+		this.recordCount = readVarInt(block);
+		this.shapes = section(block);
+		this.shapeRefs = section(block);
+		this.dictionary = section(block);
+		this.dictionaryRefs = section(block);
+		int columnCount = readVarInt(block);
+		for (int i = 0; i < columnCount; i++) {
+			int typeNum = readVarInt(block);
+			if (typeNum >= columns.length || format.kind(typeNum) == ReportArchive.BYTES) {
+				throw new LlrpException("Invalid column for parameter type=" + typeNum + ".");
+			}
+			columns[typeNum] = section(block);
+		}
+	}
+
+	/**
+	 * Returns the number of records within this block.
+	 */
+	public int recordCount() {
+		return recordCount;
+	}
+
+	/**
+	 * Returns the values of the TV parameters with the given type number in
+	 * the order of the records that contain such a parameter.
+	 *
+	 * @param typeNum
+	 *            type number of a TV parameter with a single integer field
+	 * @return the values or an empty array if no record contains this
+	 *         parameter
+	 */
+	public long[] values(int typeNum) {
+		ByteBuffer column = typeNum < columns.length ? columns[typeNum] : null;
+		if (column == null) {
+			return new long[0];
+		}
+		column = column.duplicate();
+		boolean delta = format.kind(typeNum) == DELTA;
+		long[] values = new long[16];
+		int count = 0;
+		long previous = 0, previousDelta = 0;
+		while (column.hasRemaining()) {
+			long value = unZigZag(readVarLong(column));
+			if (delta) {
+				previousDelta += value;
+				previous += previousDelta;
+				value = previous;
+			}
+			if (count == values.length) {
+				values = Arrays.copyOf(values, count * 2);
+			}
+			values[count++] = value;
+		}
+		return Arrays.copyOf(values, count);
+	}
+
+	/**
+	 * Restores the binary encoded records of this block.
+	 *
+	 * @return a list of buffers that each contain exactly one record
+	 */
+	public List<ByteBuffer> records() {
+		// decode shapes and dictionary
+		ByteBuffer in = shapes.duplicate();
+		List<int[]> shapeList = new ArrayList<>();
+		while (in.hasRemaining()) {
+			int[] shape = new int[readVarInt(in)];
+			for (int i = 0; i < shape.length; i++) {
+				shape[i] = readVarInt(in);
+			}
+			shapeList.add(shape);
+		}
+		in = dictionary.duplicate();
+		ByteBuffer[] entries = new ByteBuffer[readVarInt(in)];
+		for (int i = 0; i < entries.length; i++) {
+			entries[i] = section(in);
+		}
+		long[][] values = new long[columns.length][];
+		int[] valueIndexes = new int[columns.length];
+
+		// compute the size of all records
+		ByteBuffer refs = shapeRefs.duplicate();
+		ByteBuffer dictRefs = dictionaryRefs.duplicate();
+		int size = 0;
+		for (int r = 0; r < recordCount; r++) {
+			int[] shape = shapeList.get(readVarInt(refs));
+			size += 4;
+			for (int code : shape) {
+				if (code == DICTIONARY) {
+					size += entries[readVarInt(dictRefs)].remaining();
+				} else {
+					size += format.tvLength(code - 1);
+				}
+			}
+		}
+
+		ByteBuffer out = ByteBuffer.allocate(size);
+		List<ByteBuffer> records = new ArrayList<>(recordCount);
+		refs = shapeRefs.duplicate();
+		dictRefs = dictionaryRefs.duplicate();
+		for (int r = 0; r < recordCount; r++) {
+			int[] shape = shapeList.get(readVarInt(refs));
+			int start = out.position();
+			out.putShort((short) format.recordTypeNum);
+			out.putShort((short) 0);
+			for (int code : shape) {
+				if (code == DICTIONARY) {
+					out.put(entries[readVarInt(dictRefs)].duplicate());
+				} else {
+					int typeNum = code - 1;
+					if (values[typeNum] == null) {
+						values[typeNum] = values(typeNum);
+					}
+					if (valueIndexes[typeNum] >= values[typeNum].length) {
+						throw new LlrpException("Missing values for parameter type=" + typeNum + ".");
+					}
+					format.writeValue(out, typeNum, values[typeNum][valueIndexes[typeNum]++]);
+				}
+			}
+			int length = out.position() - start;
+			if (length > 0xFFFF) {
+				throw new LlrpException("Invalid record length " + length + ".");
+			}
+			out.putShort(start + 2, (short) length);
+			ByteBuffer record = out.duplicate();
+			record.limit(out.position()).position(start);
+			records.add(record.slice());
+		}
+		return records;
+	}
+
+	/**
+	 * Restores and decodes the records of this block.
+	 *
+	 * @param decoder
+	 *            decoder for the binary records
+	 * @return the record objects
+	 */
+	public List<Object> decode(BinaryDecoder decoder) throws Exception {
+		List<Object> result = new ArrayList<>(recordCount);
+		for (ByteBuffer record : records()) {
+			result.add(decoder.decodeParameter(BitBuffer.wrap(record)));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,185 @@
+package net.enilink.llrp4j;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Reads archives that were written by a {@link ReportArchiveWriter}.
+ * <p>
+ * Blocks can be read sequentially from streams and channels. Readers for
+ * seekable channels additionally support random access by block index.
+ * Instances of this class are not thread-safe.
+ */
+public class ReportArchiveReader implements Closeable {
+	protected final LlrpContext context;
+	protected final DataInputStream in;
+	protected final SeekableByteChannel channel;
+
+	private ReportArchive format;
+	private boolean endOfBlocks;
+
+	// offsets and record counts of blocks if the index was read
+	private long[] offsets;
+	private int[] recordCounts;
+
+	/**
+	 * Creates a reader for sequential access.
+	 *
+	 * @param context
+	 *            the context
+	 * @param in
+	 *            the archive stream
+	 */
+	public ReportArchiveReader(LlrpContext context, InputStream in) throws IOException {
+		this.context = context;
+		this.in = new DataInputStream(in);
+		this.channel = null;
+		readHeader();
+	}
+
+	/**
+	 * Creates a reader for sequential and random access.
+	 *
+	 * @param context
+	 *            the context
+	 * @param channel
+	 *            the archive channel
+	 */
+	public ReportArchiveReader(LlrpContext context, SeekableByteChannel channel) throws IOException {
+		this.context = context;
+		this.channel = channel;
+		this.in = new DataInputStream(Channels.newInputStream(channel));
+		channel.position(0);
+		readHeader();
+	}
+
+	private void readHeader() throws IOException {
+		byte[] magic = new byte[ReportArchive.MAGIC.length];
+		in.readFully(magic);
+		if (!Arrays.equals(magic, ReportArchive.MAGIC)) {
+			throw new LlrpException("Not a report archive.");
+		}
+		format = new ReportArchive(context, in.readUnsignedShort());
+	}
+
+	/**
+	 * Returns the type number of the archived records.
+	 */
+	public int recordTypeNum() {
+		return format.recordTypeNum;
+	}
+
+	/**
+	 * Reads the next block.
+	 *
+	 * @return the next block or <code>null</code> if all blocks were read
+	 */
+	public ReportArchiveBlock next() throws IOException {
+		if (endOfBlocks) {
+			return null;
+		}
+		int length;
+		try {
+			length = in.readInt();
+		} catch (EOFException e) {
+			// archive without index, e.g. if the writer was not closed
+			endOfBlocks = true;
+			return null;
+		}
+		if (length == ReportArchive.INDEX_MARKER) {
+			endOfBlocks = true;
+			return null;
+		}
+		if (length < 0) {
+			throw new LlrpException("Invalid block length " + length + ".");
+		}
+		byte[] block = new byte[length];
+		in.readFully(block);
+		return new ReportArchiveBlock(format, ByteBuffer.wrap(block));
+	}
+
+	private void readIndex() throws IOException {
+		if (offsets != null) {
+			return;
+		}
+		if (channel == null) {
+			throw new IllegalStateException("Random access requires a seekable channel.");
+		}
+		long size = channel.size();
+		ByteBuffer trailer = ByteBuffer.allocate(ReportArchive.TRAILER_LENGTH);
+		readFully(size - trailer.capacity(), trailer);
+		int blockCount = trailer.getInt();
+		long indexOffset = trailer.getLong();
+		byte[] magic = new byte[ReportArchive.MAGIC.length];
+		trailer.get(magic);
+		if (!Arrays.equals(magic, ReportArchive.MAGIC) || blockCount < 0
+				|| indexOffset + 4 + blockCount * 12L + trailer.capacity() != size) {
+			throw new LlrpException("Report archive has no valid index.");
+		}
+		ByteBuffer index = ByteBuffer.allocate(blockCount * 12);
+		readFully(indexOffset + 4, index);
+		offsets = new long[blockCount];
+		recordCounts = new int[blockCount];
+		for (int i = 0; i < blockCount; i++) {
+			offsets[i] = index.getLong();
+			recordCounts[i] = index.getInt();
+		}
+	}
+
+	private void readFully(long position, ByteBuffer buffer) throws IOException {
+		long mark = channel.position();
+		channel.position(position);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer) < 0) {
+				throw new EOFException();
+			}
+		}
+		buffer.flip();
+		channel.position(mark);
+	}
+
+	/**
+	 * Returns the number of blocks within the archive.
+	 */
+	public int blockCount() throws IOException {
+		readIndex();
+		return offsets.length;
+	}
+
+	/**
+	 * Returns the number of records within the given block without reading
+	 * it.
+	 */
+	public int recordCount(int blockIndex) throws IOException {
+		readIndex();
+		return recordCounts[blockIndex];
+	}
+
+	/**
+	 * Reads the block with the given index.
+	 *
+	 * @param blockIndex
+	 *            the index of the block
+	 * @return the block
+	 */
+	public ReportArchiveBlock block(int blockIndex) throws IOException {
+		readIndex();
+		ByteBuffer length = ByteBuffer.allocate(4);
+		readFully(offsets[blockIndex], length);
+		ByteBuffer block = ByteBuffer.allocate(length.getInt());
+		readFully(offsets[blockIndex] + 4, block);
+		return new ReportArchiveBlock(format, block);
+	}
+
+	@Override
+	public void close() throws IOException {
+		in.close();
+	}
+}
@@ -0,0 +1,318 @@
+package net.enilink.llrp4j;
+
+import static net.enilink.llrp4j.ReportArchive.DELTA;
+import static net.enilink.llrp4j.ReportArchive.DICTIONARY;
+import static net.enilink.llrp4j.ReportArchive.VARINT;
+import static net.enilink.llrp4j.ReportArchive.zigZag;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import net.enilink.llrp4j.ReportArchive.Bytes;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+
+/**
+ * Writes report parameters like <code>TagReportData</code> to a compact
+ * archive.
+ * <p>
+ * Records are collected in blocks and stored column-wise. Values of TV
+ * parameters with a single integer field are written as variable-length
+ * integers, 64-bit values like timestamps as delta-of-delta. All other
+ * parameters, e.g. EPCs, are dictionary-encoded per block. The archive is
+ * completed with an index for random access to blocks when the writer is
+ * closed. Instances of this class are not thread-safe.
+ *
+ * @see ReportArchiveReader
+ */
+public class ReportArchiveWriter implements Closeable {
+	static final int DEFAULT_BLOCK_SIZE = 4096;
+
+	protected final ReportArchive format;
+	protected final OutputStream out;
+	protected int blockSize = DEFAULT_BLOCK_SIZE;
+
+	private BinaryEncoder encoder;
+	private long offset;
+	private final Bytes index = new Bytes(256);
+	private int blockCount;
+
+	// state of the current block
+	private int recordCount;
+	private final Map<IntBuffer, Integer> shapes = new HashMap<>();
+	private final Bytes shapeBytes = new Bytes(256);
+	private final Bytes shapeRefs = new Bytes(4096);
+	private final Map<ByteBuffer, Integer> dictionary = new HashMap<>();
+	private final Bytes dictionaryBytes = new Bytes(4096);
+	private final Bytes dictionaryRefs = new Bytes(4096);
+	private final Column[] columns = new Column[128];
+	private final List<Column> usedColumns = new ArrayList<>();
+	private int[] shape = new int[16];
+
+	private final Bytes block = new Bytes(4096);
+
+	/**
+	 * Values of one TV parameter type within a block.
+	 */
+	static class Column {
+		final int typeNum;
+		final int kind;
+		final Bytes values = new Bytes(1024);
+		long previous, previousDelta;
+
+		Column(int typeNum, int kind) {
+			this.typeNum = typeNum;
+			this.kind = kind;
+		}
+
+		void add(long value) {
+			if (kind == DELTA) {
+				long delta = value - previous;
+				values.writeVarLong(zigZag(delta - previousDelta));
+				previous = value;
+				previousDelta = delta;
+			} else {
+				values.writeVarLong(zigZag(value));
+			}
+		}
+
+		void clear() {
+			values.clear();
+			previous = previousDelta = 0;
+		}
+	}
+
+	/**
+	 * Creates a writer for records of the given type.
+	 *
+	 * @param context
+	 *            the context
+	 * @param recordType
+	 *            type of the records, a TLV parameter without fields
+	 * @param out
+	 *            the target stream
+	 */
+	public ReportArchiveWriter(LlrpContext context, Class<?> recordType, OutputStream out) throws IOException {
+		this.format = new ReportArchive(context, ReportArchive.recordTypeNum(context, recordType));
+		this.out = out;
+		Bytes header = new Bytes(ReportArchive.HEADER_LENGTH);
+		for (byte b : ReportArchive.MAGIC) {
+			header.write(b);
+		}
+		header.write(format.recordTypeNum >>> 8);
+		header.write(format.recordTypeNum);
+		header.writeTo(out);
+		offset = header.length;
+	}
+
+	/**
+	 * Sets the maximum number of records per block.
+	 *
+	 * @param blockSize
+	 *            the number of records
+	 * @return this writer
+	 */
+	public ReportArchiveWriter blockSize(int blockSize) {
+		if (blockSize < 1) {
+			throw new IllegalArgumentException("Block size must be positive.");
+		}
+		this.blockSize = blockSize;
+		return this;
+	}
+
+	/**
+	 * Writes a record.
+	 *
+	 * @param record
+	 *            the record object
+	 */
+	public void write(Object record) throws IOException {
+		if (encoder == null) {
+			encoder = format.context.createBinaryEncoder();
+		}
+		BitBuffer buffer = BitBuffer.allocateDynamic();
+		encoder.encodeParameter(record, buffer);
+		write(ByteBuffer.wrap(buffer.asByteArray()));
+	}
+
+	/**
+	 * Writes the binary encoded record at the position of the given buffer
+	 * and advances the position behind it.
+	 *
+	 * @param record
+	 *            buffer with the binary record
+	 */
+	public void write(ByteBuffer record) throws IOException {
+		int start = record.position();
+		int typeNum = record.getShort(start) & 0x3FF;
+		if ((record.get(start) & 0x80) != 0 || typeNum != format.recordTypeNum) {
+			throw new LlrpException("Unexpected parameter with type=" + typeNum + ".");
+		}
+		int end = start + (record.getShort(start + 2) & 0xFFFF);
+		if (end > record.limit()) {
+			throw new LlrpException("Record exceeds the buffer by " + (end - record.limit()) + " bytes.");
+		}
+
+		int shapeLength = 0;
+		for (int i = start + 4; i < end;) {
+			int length = format.parameterLength(record, i);
+			if (i + length > end) {
+				throw new LlrpException("Parameter exceeds its record by " + (i + length - end) + " bytes.");
+			}
+			int code;
+			int first = record.get(i) & 0xFF;
+			int kind = (first & 0x80) != 0 ? format.kind(first & 0x7F) : ReportArchive.BYTES;
+			if (kind == VARINT || kind == DELTA) {
+				int tvTypeNum = first & 0x7F;
+				Column column = columns[tvTypeNum];
+				if (column == null) {
+					column = columns[tvTypeNum] = new Column(tvTypeNum, kind);
+				}
+				if (column.values.length == 0 && !usedColumns.contains(column)) {
+					usedColumns.add(column);
+				}
+				column.add(format.readValue(record, i, tvTypeNum));
+				code = tvTypeNum + 1;
+			} else {
+				ByteBuffer key = record.duplicate();
+				key.limit(i + length).position(i);
+				Integer ref = dictionary.get(key);
+				if (ref == null) {
+					ref = dictionary.size();
+					byte[] copy = new byte[length];
+					key.duplicate().get(copy);
+					dictionary.put(ByteBuffer.wrap(copy), ref);
+					dictionaryBytes.writeVarLong(length);
+					dictionaryBytes.write(record, i, length);
+				}
+				dictionaryRefs.writeVarLong(ref);
+				code = DICTIONARY;
+			}
+			if (shapeLength == shape.length) {
+				shape = Arrays.copyOf(shape, shapeLength * 2);
+			}
+			shape[shapeLength++] = code;
+			i += length;
+		}
+
+		IntBuffer shapeKey = IntBuffer.wrap(shape, 0, shapeLength);
+		Integer shapeRef = shapes.get(shapeKey);
+		if (shapeRef == null) {
+			shapeRef = shapes.size();
+			shapes.put(IntBuffer.wrap(Arrays.copyOf(shape, shapeLength)), shapeRef);
+			shapeBytes.writeVarLong(shapeLength);
+			for (int i = 0; i < shapeLength; i++) {
+				shapeBytes.writeVarLong(shape[i]);
+			}
+		}
+		shapeRefs.writeVarLong(shapeRef);
+
+		record.position(end);
+		if (++recordCount >= blockSize) {
+			writeBlock();
+		}
+	}
+
+	/**
+	 * Writes all records that are direct children of the message in the given
+	 * frame, e.g. the <code>TagReportData</code> of an
+	 * <code>RO_ACCESS_REPORT</code>.
+	 *
+	 * @param frame
+	 *            buffer that contains exactly one binary message
+	 * @return the number of written records
+	 */
+	public int writeMessage(ByteBuffer frame) throws IOException {
+		int start = frame.position();
+		int typeNum = frame.getShort(start) & 0x3FF;
+		int end = start + FrameSplitter.frameLength(frame, start);
+		int count = 0;
+		for (int i = start + (typeNum == 1023 ? 15 : FrameSplitter.HEADER_LENGTH); i < end;) {
+			int length = format.parameterLength(frame, i);
+			if ((frame.get(i) & 0x80) == 0 && (frame.getShort(i) & 0x3FF) == format.recordTypeNum) {
+				ByteBuffer record = frame.duplicate();
+				record.limit(i + length).position(i);
+				write(record);
+				count++;
+			}
+			i += length;
+		}
+		frame.position(end);
+		return count;
+	}
+
+	/**
+	 * Completes the current block and flushes the stream.
+	 */
+	public void flush() throws IOException {
+		writeBlock();
+		out.flush();
+	}
+
+	private void writeBlock() throws IOException {
+		if (recordCount == 0) {
+			return;
+		}
+		block.clear();
+		block.writeInt(0);
+		block.writeVarLong(recordCount);
+		block.writeSection(shapeBytes);
+		block.writeSection(shapeRefs);
+		Bytes entries = new Bytes(dictionaryBytes.length + 5);
+		entries.writeVarLong(dictionary.size());
+		entries.write(dictionaryBytes);
+		block.writeSection(entries);
+		block.writeSection(dictionaryRefs);
+		block.writeVarLong(usedColumns.size());
+		for (Column column : usedColumns) {
+			block.writeVarLong(column.typeNum);
+			block.writeSection(column.values);
+			column.clear();
+		}
+		// patch the length
+		int length = block.length - 4;
+		block.length = 0;
+		block.writeInt(length);
+		block.length = length + 4;
+		block.writeTo(out);
+
+		index.writeLong(offset);
+		index.writeInt(recordCount);
+		offset += block.length;
+		blockCount++;
+
+		recordCount = 0;
+		shapes.clear();
+		shapeBytes.clear();
+		shapeRefs.clear();
+		dictionary.clear();
+		dictionaryBytes.clear();
+		dictionaryRefs.clear();
+		usedColumns.clear();
+	}
+
+	/**
+	 * Completes the current block, writes the index and closes the stream.
+	 */
+	@Override
+	public void close() throws IOException {
+		writeBlock();
+		Bytes trailer = new Bytes(index.length + 32);
+		trailer.writeInt(ReportArchive.INDEX_MARKER);
+		trailer.write(index);
+		trailer.writeInt(blockCount);
+		trailer.writeLong(offset);
+		for (byte b : ReportArchive.MAGIC) {
+			trailer.write(b);
+		}
+		trailer.writeTo(out);
+		out.close();
+	}
+}
@@ -0,0 +1,208 @@
+package net.enilink.llrp4j;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import net.enilink.llrp4j.annotations.LlrpCustomParameterType;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.impl.Property;
+import net.enilink.llrp4j.types.BitList;
+
+/**
+ * Remembers the last received or sent value of optional parameters within
+ * report parameters like <code>TagReportData</code>.
+ * <p>
+ * The LLRP specification states that if an enabled optional parameter is
+ * absent in a report then the client shall assume that its value is identical
+ * to the last parameter of the same type that was received. A
+ * {@link BinaryDecoder} uses this cache to fill in omitted parameters and a
+ * {@link BinaryEncoder} uses it to omit parameters whose values did not change
+ * since they were sent the last time.
+ * <p>
+ * The state is bound to a single connection and instances of this class are
+ * not thread-safe.
+ */
+public class ReportStateCache {
+	protected final Map<Class<?>, Set<String>> trackedTypes = new HashMap<>();
+	protected final Map<Class<?>, Field[]> trackedFields = new HashMap<>();
+	protected final Map<Field, Object> lastValues = new HashMap<>();
+	protected final Map<Class<?>, Field[]> copiedFields = new HashMap<>();
+
+	/**
+	 * Tracks all optional parameters of the given type that may occur at most
+	 * once.
+	 *
+	 * @param type
+	 *            the report parameter type, e.g. <code>TagReportData</code>
+	 * @return this cache
+	 */
+	public ReportStateCache track(Class<?> type) {
+		trackedTypes.put(type, null);
+		trackedFields.remove(type);
+		return this;
+	}
+
+	/**
+	 * Tracks only the given optional parameters of the given type.
+	 *
+	 * @param type
+	 *            the report parameter type, e.g. <code>TagReportData</code>
+	 * @param properties
+	 *            names of the tracked properties
+	 * @return this cache
+	 */
+	public ReportStateCache track(Class<?> type, String... properties) {
+		trackedTypes.put(type, new HashSet<>(Arrays.asList(properties)));
+		trackedFields.remove(type);
+		return this;
+	}
+
+	/**
+	 * Returns <code>true</code> if parameters of the given type are tracked by
+	 * this cache.
+	 */
+	public boolean isTracked(Class<?> type) {
+		return trackedTypes.containsKey(type);
+	}
+
+	/**
+	 * Forgets all remembered values, e.g. after a connection was
+	 * re-established or the report configuration of the reader was changed.
+	 */
+	public void clear() {
+		lastValues.clear();
+	}
+
+	/**
+	 * Replaces absent optional parameters of a decoded object with copies of
+	 * the last received values and remembers all present values.
+	 */
+	void fill(Object o) throws IllegalAccessException {
+		Field[] fields = trackedFields(o.getClass());
+		if (fields == null) {
+			return;
+		}
+		for (Field field : fields) {
+			Object value = field.get(o);
+			if (value == null) {
+				Object last = lastValues.get(field);
+				if (last != null) {
+					// reports must not share mutable parameters
+					field.set(o, copy(last));
+				}
+			} else {
+				lastValues.put(field, value);
+			}
+		}
+	}
+
+	/**
+	 * Determines if the value of a property may be omitted while encoding since
+	 * it is equal to the last sent value. The given value is remembered as last
+	 * sent value otherwise.
+	 */
+	boolean omit(Object o, Property property, Object value) {
+		Field[] fields = trackedFields(o.getClass());
+		if (fields == null || value == null || !contains(fields, property.field)) {
+			return false;
+		}
+		if (Objects.equals(value, lastValues.get(property.field))) {
+			return true;
+		}
+		lastValues.put(property.field, value);
+		return false;
+	}
+
+	/**
+	 * Creates a deep copy of a parameter value.
+	 */
+	protected Object copy(Object value) throws IllegalAccessException {
+		if (value instanceof List<?>) {
+			List<Object> list = new ArrayList<>();
+			for (Object element : (List<?>) value) {
+				list.add(copy(element));
+			}
+			return list;
+		} else if (value instanceof BitList) {
+			BitList bits = (BitList) value;
+			return bits.subList(0, bits.length());
+		} else if (value instanceof byte[]) {
+			return ((byte[]) value).clone();
+		} else if (value != null && (value.getClass().isAnnotationPresent(LlrpParameterType.class)
+				|| value.getClass().isAnnotationPresent(LlrpCustomParameterType.class))) {
+			Object copy;
+			try {
+				copy = value.getClass().newInstance();
+			} catch (InstantiationException e) {
+				throw new LlrpException(e);
+			}
+			for (Field field : copiedFields(value.getClass())) {
+				field.set(copy, copy(field.get(value)));
+			}
+			return copy;
+		}
+		// numbers, strings and enums are immutable
+		return value;
+	}
+
+	private Field[] copiedFields(Class<?> type) {
+		Field[] fields = copiedFields.get(type);
+		if (fields == null) {
+			List<Field> candidates = new ArrayList<>();
+			for (Class<?> c = type; c != null && !Object.class.equals(c); c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					if (!Modifier.isStatic(field.getModifiers())) {
+						field.setAccessible(true);
+						candidates.add(field);
+					}
+				}
+			}
+			fields = candidates.toArray(new Field[candidates.size()]);
+			copiedFields.put(type, fields);
+		}
+		return fields;
+	}
+
+	private static boolean contains(Field[] fields, Field field) {
+		for (Field f : fields) {
+			if (f.equals(field)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private Field[] trackedFields(Class<?> type) {
+		Field[] fields = trackedFields.get(type);
+		if (fields == null) {
+			if (!trackedTypes.containsKey(type)) {
+				return null;
+			}
+			Set<String> names = trackedTypes.get(type);
+			List<Field> candidates = new ArrayList<>();
+			for (Field field : type.getDeclaredFields()) {
+				if (names == null ? isOptionalSingleParameter(field) : names.contains(field.getName())) {
+					field.setAccessible(true);
+					candidates.add(field);
+				}
+			}
+			fields = candidates.toArray(new Field[candidates.size()]);
+			trackedFields.put(type, fields);
+		}
+		return fields;
+	}
+
+	private static boolean isOptionalSingleParameter(Field field) {
+		LlrpParam param = field.getAnnotation(LlrpParam.class);
+		return param != null && !param.required() && !List.class.isAssignableFrom(field.getType());
+	}
+}
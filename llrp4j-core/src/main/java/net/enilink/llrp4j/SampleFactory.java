@@ -0,0 +1,98 @@
+package net.enilink.llrp4j;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import net.enilink.llrp4j.impl.BaseType;
+import net.enilink.llrp4j.impl.Property;
+import net.enilink.llrp4j.types.BitList;
+
+/**
+ * Creates sample instances of messages and parameters with non-empty values
+ * based on the property metadata of a context.
+ */
+class SampleFactory {
+	/**
+	 * Optional parameters are only created up to this depth to limit the size
+	 * of samples and to prevent endless recursion.
+	 */
+	static final int MAX_OPTIONAL_DEPTH = 3;
+
+	static final int MAX_DEPTH = 16;
+
+	final LlrpContext context;
+
+	SampleFactory(LlrpContext context) {
+		this.context = context;
+	}
+
+	Object create(BaseType type) throws Exception {
+		return create(type, 0);
+	}
+
+	private Object create(BaseType type, int depth) throws Exception {
+		Object o = type.typeClass.newInstance();
+		for (Property property : type.properties()) {
+			Object value;
+			if (property.isField) {
+				value = fieldValue(property);
+			} else if (depth < MAX_DEPTH && (property.required || depth < MAX_OPTIONAL_DEPTH)) {
+				value = parameterValue(property, depth);
+			} else {
+				value = null;
+			}
+			if (value != null) {
+				property.field.set(o, value);
+			}
+		}
+		return o;
+	}
+
+	private Object parameterValue(Property property, int depth) throws Exception {
+		int id = property.allowedTypes.nextSetBit(0);
+		if (id < 0) {
+			return null;
+		}
+		Object value = create(context.types[id], depth + 1);
+		if (property.isList) {
+			List<Object> list = new ArrayList<>();
+			list.add(value);
+			return list;
+		}
+		return value;
+	}
+
+	private Object fieldValue(Property property) {
+		Class<?> type = property.field.getType();
+		if (property.isList) {
+			// list of enumeration values
+			List<Object> list = new ArrayList<>();
+			list.add(property.elementType.getEnumConstants()[0]);
+			return list;
+		} else if (type.isEnum()) {
+			return type.getEnumConstants()[0];
+		} else if (boolean.class.equals(type)) {
+			return true;
+		} else if (int.class.equals(type)) {
+			return 1;
+		} else if (long.class.equals(type)) {
+			return 1L;
+		} else if (BigInteger.class.equals(type)) {
+			return BigInteger.ONE;
+		} else if (String.class.equals(type)) {
+			return "sample";
+		} else if (BitList.class.equals(type)) {
+			return new BitList(new byte[] { 1 });
+		} else if (byte[].class.equals(type)) {
+			return new byte[] { 1 };
+		} else if (int[].class.equals(type)) {
+			return new int[] { 1 };
+		} else if (long[].class.equals(type)) {
+			return new long[] { 1 };
+		} else if (BigInteger[].class.equals(type)) {
+			return new BigInteger[] { BigInteger.ONE };
+		}
+		return null;
+	}
+}
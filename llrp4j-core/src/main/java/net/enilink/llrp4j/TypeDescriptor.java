@@ -0,0 +1,66 @@
+package net.enilink.llrp4j;
+
+/**
+ * Precomputed metadata of a message or parameter type that is emitted by the
+ * generator into modules. It allows a context to register types without
+ * scanning their annotations.
+ */
+public final class TypeDescriptor {
+	public enum Kind {
+		MESSAGE, CUSTOM_MESSAGE, PARAMETER, CUSTOM_PARAMETER
+	}
+
+	final Kind kind;
+	final Class<?> typeClass;
+	final long typeNum;
+	final long vendor;
+	final long subType;
+	final Class<?> responseType;
+	final int reserved;
+	final String namespace;
+	final String[] properties;
+
+	private TypeDescriptor(Kind kind, Class<?> typeClass, long typeNum, long vendor, long subType,
+			Class<?> responseType, int reserved, String namespace, String[] properties) {
+		this.kind = kind;
+		this.typeClass = typeClass;
+		this.typeNum = typeNum;
+		this.vendor = vendor;
+		this.subType = subType;
+		this.responseType = responseType == null ? void.class : responseType;
+		this.reserved = reserved;
+		this.namespace = namespace;
+		this.properties = properties;
+	}
+
+	public static TypeDescriptor message(Class<?> typeClass, int typeNum, Class<?> responseType, int reserved,
+			String namespace, String... properties) {
+		return new TypeDescriptor(Kind.MESSAGE, typeClass, typeNum, 0, 0, responseType, reserved, namespace,
+				properties);
+	}
+
+	public static TypeDescriptor customMessage(Class<?> typeClass, long vendor, int subType, Class<?> responseType,
+			int reserved, String namespace, String... properties) {
+		return new TypeDescriptor(Kind.CUSTOM_MESSAGE, typeClass, 1023, vendor, subType, responseType, reserved,
+				namespace, properties);
+	}
+
+	public static TypeDescriptor parameter(Class<?> typeClass, int typeNum, int reserved, String namespace,
+			String... properties) {
+		return new TypeDescriptor(Kind.PARAMETER, typeClass, typeNum, 0, 0, null, reserved, namespace, properties);
+	}
+
+	public static TypeDescriptor customParameter(Class<?> typeClass, long vendor, long subType, int reserved,
+			String namespace, String... properties) {
+		return new TypeDescriptor(Kind.CUSTOM_PARAMETER, typeClass, 1023, vendor, subType, null, reserved, namespace,
+				properties);
+	}
+
+	public Kind getKind() {
+		return kind;
+	}
+
+	public Class<?> getTypeClass() {
+		return typeClass;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,249 @@
+package net.enilink.llrp4j;
+
+import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import javax.xml.namespace.QName;
+
+import net.enilink.llrp4j.annotations.AllowedIn;
+import net.enilink.llrp4j.annotations.LlrpCustomMessageType;
+import net.enilink.llrp4j.annotations.LlrpCustomParameterType;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.impl.BaseType;
+import net.enilink.llrp4j.impl.CustomKey;
+import net.enilink.llrp4j.impl.CustomMessage;
+import net.enilink.llrp4j.impl.CustomParameter;
+import net.enilink.llrp4j.impl.Message;
+import net.enilink.llrp4j.impl.Parameter;
+import net.enilink.llrp4j.impl.Property;
+
+/**
+ * The registered types of a context together with their compiled validation
+ * tables.
+ * <p>
+ * A model only depends on the set of registered classes and is immutable
+ * after its creation. Therefore, contexts that combine the same classes share
+ * the same model.
+ */
+class TypeModel {
+	/**
+	 * Models indexed by their set of classes. The values are only weakly
+	 * referenced and each model references its key to keep the entry alive as
+	 * long as the model is used by some context.
+	 */
+	private static final Map<Set<Class<?>>, WeakReference<TypeModel>> models = new WeakHashMap<>();
+
+	final Set<Class<?>> classes;
+
+	final Map<Integer, Message> messageTypes = new HashMap<>();
+	final Map<Integer, Parameter> parameterTypes = new HashMap<>();
+	final Map<CustomKey, CustomMessage> customMessageTypes = new HashMap<>();
+	final Map<CustomKey, CustomParameter> customParameterTypes = new HashMap<>();
+
+	final Map<QName, Class<?>> qnameToClass = new HashMap<>();
+
+	final Map<Class<?>, BaseType> classToType = new HashMap<>();
+
+	final Map<QName, BaseType> qnameToType = new HashMap<>();
+
+	/**
+	 * All types indexed by their identifiers.
+	 */
+	BaseType[] types;
+
+	static TypeModel get(Set<Class<?>> classes, Map<Class<?>, TypeDescriptor> descriptors) {
+		synchronized (models) {
+			WeakReference<TypeModel> ref = models.get(classes);
+			TypeModel model = ref == null ? null : ref.get();
+			if (model == null) {
+				model = new TypeModel(new HashSet<>(classes), descriptors);
+				models.put(model.classes, new WeakReference<>(model));
+			}
+			return model;
+		}
+	}
+
+	private TypeModel(Set<Class<?>> classes, Map<Class<?>, TypeDescriptor> descriptors) {
+		this.classes = classes;
+		for (Class<?> c : classes) {
+			TypeDescriptor descriptor = descriptors.get(c);
+			if (descriptor != null) {
+				addType(descriptor);
+			} else {
+				addParameter(c);
+				addMessage(c);
+				addCustomMessage(c);
+				addXmlType(c);
+			}
+		}
+		compileTables();
+	}
+
+	private void addType(TypeDescriptor d) {
+		switch (d.kind) {
+		case MESSAGE:
+			messageTypes.put((int) d.typeNum,
+					new Message((int) d.typeNum, d.responseType, d.reserved, d.typeClass, d.properties));
+			break;
+		case CUSTOM_MESSAGE:
+			CustomKey messageKey = new CustomKey(d.vendor, d.subType);
+			customMessageTypes.put(messageKey,
+					new CustomMessage(messageKey, d.responseType, d.reserved, d.typeClass, d.properties));
+			break;
+		case PARAMETER:
+			parameterTypes.put((int) d.typeNum,
+					new Parameter((int) d.typeNum, d.reserved, d.typeClass, d.properties));
+			break;
+		case CUSTOM_PARAMETER:
+			CustomKey parameterKey = new CustomKey(d.vendor, d.subType);
+			customParameterTypes.put(parameterKey,
+					new CustomParameter(parameterKey, d.reserved, d.typeClass, d.properties));
+			break;
+		}
+		if (d.namespace != null) {
+			qnameToClass.put(new QName(d.namespace, d.typeClass.getSimpleName()), d.typeClass);
+		}
+	}
+
+	private void addCustomMessage(Class<?> c) {
+		LlrpCustomMessageType a = getAnnotation(c, LlrpCustomMessageType.class);
+		if (a != null) {
+			CustomKey key = new CustomKey(a.vendor(), a.subType());
+			customMessageTypes.put(key, new CustomMessage(key, a, c));
+		}
+	}
+
+	private void addMessage(Class<?> c) {
+		LlrpMessageType a = getAnnotation(c, LlrpMessageType.class);
+		if (a != null) {
+			messageTypes.put(a.typeNum(), new Message(a, c));
+		}
+	}
+
+	private void addParameter(Class<?> c) {
+		LlrpCustomParameterType customAnnotation = getAnnotation(c, LlrpCustomParameterType.class);
+		if (customAnnotation != null) {
+			CustomKey key = new CustomKey(customAnnotation.vendor(), customAnnotation.subType());
+			customParameterTypes.put(key, new CustomParameter(key, customAnnotation, c));
+		} else {
+			LlrpParameterType a = getAnnotation(c, LlrpParameterType.class);
+			if (a != null) {
+				parameterTypes.put(a.typeNum(), new Parameter(a, c));
+			}
+		}
+	}
+
+	private void addXmlType(Class<?> c) {
+		LlrpNamespace a = getAnnotation(c, LlrpNamespace.class);
+		if (a != null) {
+			qnameToClass.put(new QName(a.value(), c.getSimpleName()), c);
+		}
+	}
+
+	private static <E extends Annotation> E getAnnotation(Class<?> target, Class<E> annotationClass) {
+		for (Class<?> c = target; c != null && !Object.class.equals(c); c = c.getSuperclass()) {
+			E annotation = c.getAnnotation(annotationClass);
+			if (annotation != null) {
+				return annotation;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Assigns an identifier and an XML namespace to each type and compiles the allowed parameter
+	 * types of all properties and the allowed containers of custom parameters
+	 * into bit sets that are used for validation while encoding and decoding.
+	 */
+	private void compileTables() {
+		List<BaseType> types = new ArrayList<>();
+		types.addAll(messageTypes.values());
+		types.addAll(customMessageTypes.values());
+		types.addAll(parameterTypes.values());
+		types.addAll(customParameterTypes.values());
+		int id = 0;
+		for (BaseType type : types) {
+			type.id = id++;
+			classToType.put(type.typeClass, type);
+		}
+		this.types = types.toArray(new BaseType[types.size()]);
+
+		for (Map.Entry<QName, Class<?>> entry : qnameToClass.entrySet()) {
+			BaseType type = classToType.get(entry.getValue());
+			if (type != null) {
+				type.xmlNamespace = entry.getKey().getNamespaceURI();
+				qnameToType.put(entry.getKey(), type);
+			}
+		}
+		for (BaseType type : types) {
+			if (type.xmlNamespace == null) {
+				type.xmlNamespace = LlrpContext.DEFAULT_NAMESPACE;
+			}
+		}
+
+		List<BaseType> parameters = new ArrayList<>();
+		parameters.addAll(parameterTypes.values());
+		parameters.addAll(customParameterTypes.values());
+		for (BaseType type : types) {
+			for (Property property : type.properties()) {
+				if (property.isField) {
+					continue;
+				}
+				for (BaseType parameter : parameters) {
+					if (property.elementType.isAssignableFrom(parameter.typeClass)) {
+						property.allowedTypes.set(parameter.id);
+					}
+				}
+			}
+		}
+
+		for (CustomParameter parameter : customParameterTypes.values()) {
+			LlrpCustomParameterType annotation = parameter.type != null ? parameter.type
+					: getAnnotation(parameter.typeClass, LlrpCustomParameterType.class);
+			AllowedIn[] allowedIn = annotation == null ? new AllowedIn[0] : annotation.allowedIn();
+			if (allowedIn.length == 0) {
+				continue;
+			}
+			parameter.allowedIn = new BitSet();
+			parameter.multipleIn = new BitSet();
+			for (AllowedIn a : allowedIn) {
+				for (BaseType container : types) {
+					if (isContainer(container, a.targetType())) {
+						parameter.allowedIn.set(container.id);
+						if (a.multiple()) {
+							parameter.multipleIn.set(container.id);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Determines if the given type is a container of parameters that are
+	 * allowed in the given target. Targets are either messages or parameters
+	 * or choice interfaces, the latter allow the parameter wherever the choice
+	 * is used.
+	 */
+	private static boolean isContainer(BaseType type, Class<?> target) {
+		if (!target.isInterface()) {
+			return target.equals(type.typeClass);
+		}
+		for (Property property : type.properties()) {
+			if (!property.isField && target.equals(property.elementType)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,20 @@
+package net.enilink.llrp4j;
+
+/**
+ * Controls how encoders and decoders react to messages that violate the
+ * structural rules of their definitions like unexpected or missing parameters.
+ */
+public enum ValidationMode {
+	/**
+	 * Structural rules are not checked.
+	 */
+	OFF,
+	/**
+	 * Violations are logged as warnings.
+	 */
+	WARN,
+	/**
+	 * Violations are rejected with an {@link LlrpException}.
+	 */
+	STRICT
+}
@@ -0,0 +1,51 @@
+package net.enilink.llrp4j;
+
+/**
+ * Outcome of {@link LlrpContext#warmUp(int)}.
+ */
+public class WarmUpResult {
+	protected final int messageTypes;
+	protected final long durationMillis;
+	protected final int failures;
+
+	WarmUpResult(int messageTypes, long durationMillis, int failures) {
+		this.messageTypes = messageTypes;
+		this.durationMillis = durationMillis;
+		this.failures = failures;
+	}
+
+	/**
+	 * Returns the number of message types that were encoded and decoded.
+	 */
+	public int messageTypes() {
+		return messageTypes;
+	}
+
+	/**
+	 * Returns the duration of the warm-up in milliseconds.
+	 */
+	public long durationMillis() {
+		return durationMillis;
+	}
+
+	/**
+	 * Returns the number of message types whose samples could not be created
+	 * plus the number of failed round trips.
+	 */
+	public int failures() {
+		return failures;
+	}
+
+	/**
+	 * Returns <code>true</code> if all codecs were warmed up without failures.
+	 */
+	public boolean isSuccessful() {
+		return failures == 0;
+	}
+
+	@Override
+	public String toString() {
+		return "WarmUpResult [messageTypes=" + messageTypes + ", durationMillis=" + durationMillis + ", failures="
+				+ failures + "]";
+	}
+}
@@ -1,26 +1,16 @@
 package net.enilink.llrp4j;
 
-import static net.enilink.llrp4j.EncodingUtil.firstUpper;
 import static net.enilink.llrp4j.EncodingUtil.indent;
-import static net.enilink.llrp4j.EncodingUtil.parameterType;
-import static net.enilink.llrp4j.EncodingUtil.properties;
-import static net.enilink.llrp4j.EncodingUtil.typeNum;
-
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
-import java.lang.reflect.Method;
-import java.lang.reflect.ParameterizedType;
+
 import java.util.ArrayList;
 import java.util.List;
 
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamReader;
 
-import org.llrp.ltk.schema.core.FieldType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import net.enilink.llrp4j.annotations.LlrpField;
 import net.enilink.llrp4j.impl.BaseType;
 import net.enilink.llrp4j.impl.Property;
 import net.enilink.llrp4j.types.LlrpEnum;
@@ -36,16 +26,50 @@ public class XmlDecoder {
 		}
 
 		LlrpMessage parseMessage() throws Exception {
-			QName name = nextOrFail();
-			Class<?> typeClass = context.qnameToClass.get(name);
-			if (typeClass == null) {
+			return parseMessage(nextOrFail());
+		}
+
+		private boolean started;
+
+		/**
+		 * Parses the next message of a document whose root element is either
+		 * a single message or an arbitrary element that contains a sequence
+		 * of messages.
+		 * 
+		 * @return the next message or <code>null</code> if all messages were
+		 *         read
+		 */
+		LlrpMessage parseNextMessage() throws Exception {
+			QName name = next();
+			if (name == null) {
+				return null;
+			}
+			if (!started) {
+				started = true;
+				BaseType type = context.qnameToType.get(name);
+				if (type == null || !LlrpMessage.class.isAssignableFrom(type.typeClass)) {
+					// the root element is a container for messages
+					name = next();
+					if (name == null) {
+						return null;
+					}
+				}
+			}
+			LlrpMessage message = parseMessage(name);
+			// consume the end element of the message
+			end();
+			return message;
+		}
+
+		private LlrpMessage parseMessage(QName name) throws Exception {
+			BaseType messageType = context.qnameToType.get(name);
+			if (messageType == null || !LlrpMessage.class.isAssignableFrom(messageType.typeClass)) {
 				throw new ParseException("Unknown element: " + name);
 			}
 
-			LlrpMessage message = (LlrpMessage) typeClass.newInstance();
-			BaseType messageType = context.messageType(typeClass);
+			LlrpMessage message = (LlrpMessage) messageType.typeClass.newInstance();
 			parseProperties(message, messageType.properties());
-			return (LlrpMessage) message;
+			return message;
 		}
 
 		int depth = 0;
@@ -63,9 +87,8 @@ public class XmlDecoder {
 				boolean propertyWasRead = false;
 				if (property.isField) {
 					// this is a simple scalar field
-					String expectedName = firstUpper(property.field.getName());
-					if (name != null && name.getLocalPart().equals(expectedName)) {
-						Object fieldValue = parseField(property.field, null);
+					if (name != null && name.getLocalPart().equals(property.xmlName)) {
+						Object fieldValue = parseField(property, null);
 						if (property.required && fieldValue == null) {
 							throw new ParseException("Missing content in element " + name);
 						}
@@ -76,15 +99,14 @@ public class XmlDecoder {
 					}
 				} else {
 					// this is a parameter object
-					boolean isList = List.class.isAssignableFrom(property.field.getType());
+					boolean isList = property.isList;
 					List<Object> valueList = null;
 					boolean required = property.required;
-					Class<?> expectedClass = propertyType(property.field);
 
 					Object fieldValue = null;
 					while (true) {
-						Class<?> elementClass = context.qnameToClass.get(name);
-						if (elementClass == null || !expectedClass.isAssignableFrom(elementClass)) {
+						BaseType elementType = name == null ? null : context.qnameToType.get(name);
+						if (elementType == null || !property.allowedTypes.get(elementType.id)) {
 							// reset read flag in case of lists
 							propertyWasRead = false;
 							if (required) {
@@ -94,20 +116,15 @@ public class XmlDecoder {
 						}
 
 						propertyWasRead = true;
-						fieldValue = parseParameter(elementClass, isList, required);
-						if (required && (fieldValue == null
-								|| fieldValue instanceof List && ((List<?>) fieldValue).isEmpty())) {
+						fieldValue = parseParameter(elementType);
+						if (required && fieldValue == null) {
 							unexpected(name);
 						}
 						if (isList) {
 							if (valueList == null) {
 								valueList = new ArrayList<>();
 							}
-							if (fieldValue instanceof List) {
-								valueList.addAll((List<?>) fieldValue);
-							} else {
-								valueList.add(fieldValue);
-							}
+							valueList.add(fieldValue);
 							// at least one parameter value was already read
 							required = false;
 
@@ -141,65 +158,31 @@ public class XmlDecoder {
 			}
 		}
 
-		private Object stringToEnum(Class<?> enumClass, boolean isList, String value) throws Exception {
-			Method valueOf = enumClass.getDeclaredMethod("valueOf", String.class);
-			if (isList) {
-				String[] elements = value.split("\\s*,\\s*");
-				List<Object> enumValues = new ArrayList<>(elements.length);
-				for (int i = 0; i < elements.length; i++) {
-					enumValues.add(valueOf.invoke(null, elements[i]));
-				}
-				return enumValues;
-			} else {
-				return valueOf.invoke(null, value);
-			}
-		}
-
-		private Object parseField(Field field, String value) throws Exception {
-			LlrpField annotation = field.getAnnotation(LlrpField.class);
-			FieldType type = annotation.type();
-
+		private Object parseField(Property property, String value) throws Exception {
 			if (value == null) {
 				value = parseStringValue();
 			}
 			if (value.length() > 0) {
-				Class<?> elementType = propertyType(field);
-				Object javaValue;
-				if (LlrpEnum.class.isAssignableFrom(elementType)) {
-					javaValue = stringToEnum(elementType, List.class.isAssignableFrom(field.getType()), value);
-				} else {
-					javaValue = XmlTypes.fromString(type, annotation.format(), value);
+				if (LlrpEnum.class.isAssignableFrom(property.elementType)) {
+					return EnumResolver.of(property.elementType).fromString(value, property.isList);
 				}
-				return javaValue;
+				return XmlTypes.fromString(property.fieldInfo.type(), property.fieldInfo.format(), value);
 			}
 			return null;
 		}
 
 		protected Object parseParameter() throws Exception {
 			QName name = nextOrFail();
-			Class<?> elementClass = context.qnameToClass.get(name);
-			return parseParameter(elementClass, false, false);
-		}
-
-		private Object parseParameter(Class<?> expectedType, boolean list, boolean required) throws Exception {
-			Annotation parameterType = parameterType(expectedType);
-			if (parameterType != null && typeNum(parameterType) < 128) {
-				return parseTVParameter(parameterType, expectedType);
-			} else {
-				return parseTLVParameter(parameterType, expectedType, required);
+			BaseType type = context.qnameToType.get(name);
+			if (type == null) {
+				throw new ParseException("Unknown element: " + name);
 			}
+			return parseParameter(type);
 		}
 
-		private Object parseTVParameter(Annotation parameterType, Class<?> expectedType) throws Exception {
-			Object parameter = expectedType.newInstance();
-			parseProperties(parameter, properties(parameterType, context));
-			return parameter;
-		}
-
-		private Object parseTLVParameter(Annotation parameterType, Class<?> expectedType, boolean required)
-				throws Exception {
-			Object parameter = expectedType.newInstance();
-			parseProperties(parameter, properties(parameterType, context));
+		private Object parseParameter(BaseType type) throws Exception {
+			Object parameter = type.typeClass.newInstance();
+			parseProperties(parameter, type.properties());
 			return parameter;
 		}
 	}
@@ -212,17 +195,6 @@ public class XmlDecoder {
 		this.context = context;
 	}
 
-	private Class<?> propertyType(Field field) {
-		Class<?> propertyType = field.getType();
-		if (List.class.isAssignableFrom(propertyType)) {
-			if (field.getGenericType() instanceof ParameterizedType) {
-				ParameterizedType pType = (ParameterizedType) field.getGenericType();
-				propertyType = (Class<?>) pType.getActualTypeArguments()[0];
-			}
-		}
-		return propertyType;
-	}
-
 	public LlrpMessage decodeMessage(XMLStreamReader reader) throws Exception {
 		return new Parser(reader).parseMessage();
 	}
@@ -1,16 +1,9 @@
 package net.enilink.llrp4j;
 
-import static net.enilink.llrp4j.EncodingUtil.firstUpper;
 import static net.enilink.llrp4j.EncodingUtil.indent;
-import static net.enilink.llrp4j.EncodingUtil.parameterType;
-import static net.enilink.llrp4j.EncodingUtil.properties;
-import static net.enilink.llrp4j.EncodingUtil.propertyType;
-import static net.enilink.llrp4j.EncodingUtil.typeNum;
 
-import java.lang.annotation.Annotation;
-import java.lang.reflect.Field;
+import java.io.Writer;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -20,19 +13,19 @@ import javax.xml.stream.XMLStreamWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import net.enilink.llrp4j.annotations.LlrpField;
 import net.enilink.llrp4j.impl.BaseType;
+import net.enilink.llrp4j.impl.Parameter;
 import net.enilink.llrp4j.impl.Property;
-import net.enilink.llrp4j.types.LlrpEnum;
 import net.enilink.llrp4j.types.LlrpMessage;
-import net.enilink.llrp4j.types.XmlTypes;
 import net.enilink.llrp4j.xml.IndentingXMLStreamWriter;
+import net.enilink.llrp4j.xml.SimpleXMLStreamWriter;
 
 public class XmlEncoder {
 	final static Logger logger = LoggerFactory.getLogger(XmlEncoder.class);
 
 	protected LlrpContext context;
 	protected final boolean indent;
+	private final XmlFieldWriter fieldWriter = new XmlFieldWriter();
 
 	public XmlEncoder(LlrpContext context, boolean indent) {
 		this.context = context;
@@ -62,7 +55,7 @@ public class XmlEncoder {
 	}
 
 	protected XMLStreamWriter indentingWriter(XMLStreamWriter writer) {
-		if (indent) {
+		if (indent && !(writer instanceof SimpleXMLStreamWriter && ((SimpleXMLStreamWriter) writer).isIndenting())) {
 			return new IndentingXMLStreamWriter(writer);
 		}
 		return writer;
@@ -72,22 +65,38 @@ public class XmlEncoder {
 		writer = indentingWriter(writer);
 		writer.writeStartDocument("1.0");
 		setNamespaces(writer);
+		encodeMessageElement(message, writer, true);
+		writer.writeEndDocument();
+	}
 
-		Class<?> c = message.getClass();
-		String ns = context.xmlNamespace(c);
-		writer.writeStartElement(ns, localName(c));
-		writeNamespaces(writer);
-
-		BaseType messageType = context.messageType(message.getClass());
+	/**
+	 * Writes the element of a message without starting a new document.
+	 */
+	void encodeMessageElement(LlrpMessage message, XMLStreamWriter writer, boolean writeNamespaces)
+			throws Exception {
+		BaseType messageType = context.type(message.getClass());
 		if (messageType == null) {
-			messageType = context.customMessageType(message.getClass());
+			throw new LlrpException("Unknown message type: " + message.getClass().getName());
+		}
+		writer.writeStartElement(messageType.xmlNamespace, localName(messageType.typeClass));
+		if (writeNamespaces) {
+			writeNamespaces(writer);
 		}
 
 		// call the message specific encode function
-		encodeProperties(message, messageType.properties(), writer);
+		encodeProperties(message, messageType, writer);
 
 		writer.writeEndElement();
-		writer.writeEndDocument();
+	}
+
+	/**
+	 * Writes a message as XML document to the given character stream by
+	 * using a {@link SimpleXMLStreamWriter}.
+	 */
+	public void encodeMessage(LlrpMessage message, Writer writer) throws Exception {
+		XMLStreamWriter xmlWriter = new SimpleXMLStreamWriter(writer, indent);
+		encodeMessage(message, xmlWriter);
+		xmlWriter.flush();
 	}
 
 	public void encodeParameter(Object parameter, XMLStreamWriter writer) throws Exception {
@@ -99,12 +108,10 @@ public class XmlEncoder {
 
 	int depth = 0;
 
-	private void encodeProperties(Object o, Property[] properties, XMLStreamWriter writer) throws Exception {
-		String namespace = context.xmlNamespace(o.getClass());
-		for (Property property : properties) {
+	private void encodeProperties(Object o, BaseType type, XMLStreamWriter writer) throws Exception {
+		for (Property property : type.properties()) {
 			Object fieldValue = property.field.get(o);
-			boolean list = List.class.isAssignableFrom(property.field.getType());
-			boolean empty = fieldValue == null || list && ((List<?>) fieldValue).isEmpty();
+			boolean empty = fieldValue == null || property.isList && ((List<?>) fieldValue).isEmpty();
 			if (empty && property.required) {
 				throw new LlrpException("Missing required " + (property.isField ? "field" : "parameter") + "' "
 						+ property.field.getName() + "' in "
@@ -120,7 +127,7 @@ public class XmlEncoder {
 				depth++;
 			}
 			if (property.isField) {
-				encodeField(property.field, fieldValue, namespace, writer);
+				encodeField(property, fieldValue, type.xmlNamespace, writer);
 			} else {
 				encodeParameterInternal(fieldValue, writer, false);
 			}
@@ -131,36 +138,9 @@ public class XmlEncoder {
 		}
 	}
 
-	private String enumToString(Object value) {
-		if (value instanceof List<?>) {
-			StringBuilder sb = new StringBuilder();
-			for (Iterator<?> it = ((List<?>) value).iterator(); it.hasNext();) {
-				LlrpEnum element = (LlrpEnum) it.next();
-				sb.append(element.name());
-				if (it.hasNext()) {
-					sb.append(" ");
-				}
-			}
-			return sb.toString();
-		} else {
-			return ((LlrpEnum) value).name();
-		}
-	}
-
-	private String encodeField(Field field, Object value, String namespace, XMLStreamWriter writer) throws Exception {
-		LlrpField annotation = field.getAnnotation(LlrpField.class);
-		if (value instanceof LlrpEnum
-				|| (value instanceof List<?> && LlrpEnum.class.isAssignableFrom(propertyType(field)))) {
-			value = enumToString(value);
-		}
-		String fieldName = firstUpper(field.getName());
-		String fieldValue = XmlTypes.toString(value, annotation.format());
-		if (writer != null) {
-			writer.writeStartElement(namespace, fieldName);
-			writer.writeCharacters(fieldValue);
-			writer.writeEndElement();
-		}
-		return fieldValue;
+	private void encodeField(Property property, Object value, String namespace, XMLStreamWriter writer)
+			throws Exception {
+		fieldWriter.write(writer, namespace, property.xmlName, value, property.fieldInfo.format());
 	}
 
 	protected void encodeParameterInternal(Object parameter, XMLStreamWriter writer, boolean writeNamespaces)
@@ -168,42 +148,28 @@ public class XmlEncoder {
 		boolean isList = parameter instanceof List;
 		List<?> elements = isList ? (List<?>) parameter : Arrays.asList(parameter);
 		for (Object element : elements) {
-			writer.writeStartElement(context.xmlNamespace(element.getClass()), localName(element.getClass()));
+			BaseType type = context.type(element.getClass());
+			if (type == null) {
+				throw new LlrpException("Unknown parameter type: " + element.getClass().getName());
+			}
+			writer.writeStartElement(type.xmlNamespace, localName(type.typeClass));
 			if (writeNamespaces) {
 				writeNamespaces(writer);
 			}
-			Annotation parameterType = parameterType(element.getClass());
 			// TV Parameters have type number from 0 - 127, TLV from 128 -
 			// 2047
-			int typeNum = typeNum(parameterType);
-			if (typeNum < 128) {
-				encodeTVParameter(parameterType, element, writer);
+			if (type instanceof Parameter && ((Parameter) type).typeNum < 128) {
+				encodeTVParameter(type, element, writer);
 			} else {
-				encodeTLVParameter(parameterType, element, writer);
+				encodeProperties(element, type, writer);
 			}
 			writer.writeEndElement();
 		}
 	}
 
-	private void encodeTVParameter(Annotation parameterType, Object parameter, XMLStreamWriter writer)
-			throws Exception {
-		Property[] properties = properties(parameterType, context);
-		// boolean inlineField = properties.length == 1;
-
-		String namespace = context.xmlNamespace(parameter.getClass());
-		for (Property property : properties) {
-			Object fieldValue = property.field.get(parameter);
-
-			// String encoded = encodeField(property.field, fieldValue,
-			// namespace, inlineField ? null : writer);
-			// writer.writeCharacters(encoded);
-
-			encodeField(property.field, fieldValue, namespace, writer);
+	private void encodeTVParameter(BaseType type, Object parameter, XMLStreamWriter writer) throws Exception {
+		for (Property property : type.properties()) {
+			encodeField(property, property.field.get(parameter), type.xmlNamespace, writer);
 		}
 	}
-
-	private void encodeTLVParameter(Annotation parameterType, Object parameter, XMLStreamWriter writer)
-			throws Exception {
-		encodeProperties(parameter, properties(parameterType, context), writer);
-	}
 }
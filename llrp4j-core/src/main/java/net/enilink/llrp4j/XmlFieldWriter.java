@@ -0,0 +1,46 @@
+package net.enilink.llrp4j;
+
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.llrp.ltk.schema.core.FieldFormat;
+
+import net.enilink.llrp4j.types.LlrpEnum;
+import net.enilink.llrp4j.types.XmlTypes;
+
+/**
+ * Writes field elements by formatting their values into a reusable buffer.
+ */
+final class XmlFieldWriter {
+	private final StringBuilder sb = new StringBuilder(64);
+	private char[] chars = new char[64];
+
+	void write(XMLStreamWriter writer, String namespace, String localName, Object value, FieldFormat format)
+			throws XMLStreamException {
+		sb.setLength(0);
+		if (value instanceof LlrpEnum) {
+			sb.append(((LlrpEnum) value).name());
+		} else if (value instanceof List<?>) {
+			// lists of enumeration values
+			List<?> list = (List<?>) value;
+			for (int i = 0; i < list.size(); i++) {
+				if (i > 0) {
+					sb.append(' ');
+				}
+				sb.append(((LlrpEnum) list.get(i)).name());
+			}
+		} else {
+			XmlTypes.append(sb, value, format);
+		}
+		int length = sb.length();
+		if (length > chars.length) {
+			chars = new char[Math.max(length, 2 * chars.length)];
+		}
+		sb.getChars(0, length, chars, 0);
+		writer.writeStartElement(namespace, localName);
+		writer.writeCharacters(chars, 0, length);
+		writer.writeEndElement();
+	}
+}
@@ -0,0 +1,126 @@
+package net.enilink.llrp4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import net.enilink.llrp4j.types.LlrpMessage;
+
+/**
+ * Reads the messages of a document or of an XML fragment log sequentially in
+ * one pass.
+ * <p>
+ * A document either consists of a single message or of a root element with
+ * multiple messages like those written by an {@link XmlMessageWriter}.
+ * Instances of this class are not thread-safe.
+ */
+public class XmlMessageReader implements Closeable {
+	protected final XMLStreamReader reader;
+
+	private final XmlDecoder.Parser parser;
+	private final Reader source;
+
+	/**
+	 * Creates a message reader for an existing stream reader that is
+	 * positioned before the root element.
+	 *
+	 * @param context
+	 *            the context
+	 * @param reader
+	 *            the stream reader
+	 */
+	public XmlMessageReader(LlrpContext context, XMLStreamReader reader) {
+		this(context, reader, null);
+	}
+
+	/**
+	 * Creates a message reader for a document that is read from the given
+	 * character stream.
+	 *
+	 * @param context
+	 *            the context
+	 * @param reader
+	 *            the character stream
+	 */
+	public XmlMessageReader(LlrpContext context, Reader reader) throws XMLStreamException {
+		this(context, XMLInputFactory.newInstance().createXMLStreamReader(reader), reader);
+	}
+
+	private XmlMessageReader(LlrpContext context, XMLStreamReader reader, Reader source) {
+		this.reader = reader;
+		this.parser = context.createXmlDecoder().new Parser(reader);
+		this.source = source;
+	}
+
+	/**
+	 * Creates a message reader for a sequence of message elements without a
+	 * common root element, e.g. an XML fragment log.
+	 *
+	 * @param context
+	 *            the context
+	 * @param reader
+	 *            the character stream
+	 * @return the message reader
+	 */
+	public static XmlMessageReader fragments(LlrpContext context, Reader reader) throws XMLStreamException {
+		return new XmlMessageReader(context, XMLInputFactory.newInstance()
+				.createXMLStreamReader(new FragmentReader(reader)), reader);
+	}
+
+	/**
+	 * Reads the next message.
+	 *
+	 * @return the next message or <code>null</code> if all messages were read
+	 */
+	public LlrpMessage read() throws Exception {
+		return parser.parseNextMessage();
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			reader.close();
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+		if (source != null) {
+			source.close();
+		}
+	}
+
+	/**
+	 * Encloses a sequence of elements with a synthetic root element.
+	 */
+	static class FragmentReader extends Reader {
+		final Reader[] parts;
+		int part;
+
+		FragmentReader(Reader fragments) {
+			parts = new Reader[] { new StringReader("<fragments>"), fragments, new StringReader("</fragments>") };
+		}
+
+		@Override
+		public int read(char[] cbuf, int off, int len) throws IOException {
+			while (part < parts.length) {
+				int read = parts[part].read(cbuf, off, len);
+				if (read > 0 || len == 0) {
+					return read;
+				}
+				part++;
+			}
+			return -1;
+		}
+
+		@Override
+		public void close() throws IOException {
+			for (Reader reader : parts) {
+				reader.close();
+			}
+		}
+	}
+}
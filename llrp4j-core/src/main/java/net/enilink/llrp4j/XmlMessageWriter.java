@@ -0,0 +1,219 @@
+package net.enilink.llrp4j;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.types.LlrpMessage;
+import net.enilink.llrp4j.xml.SimpleXMLStreamWriter;
+
+/**
+ * Writes a long-lived stream of messages either as children of a common root
+ * element or as an XML fragment log with one message element per line.
+ * <p>
+ * The writer and the namespaces are only set up once. Within a document the
+ * namespaces are declared by the root element, within a fragment log by each
+ * message element. Both variants can be read by an {@link XmlMessageReader}.
+ * Instances of this class are not thread-safe.
+ */
+public class XmlMessageWriter implements Closeable, Flushable {
+	/**
+	 * A root element that may be used for documents with multiple messages.
+	 */
+	public static final QName DEFAULT_ROOT_ELEMENT = new QName(LlrpContext.DEFAULT_NAMESPACE, "LLRPMessages");
+
+	protected final LlrpContext context;
+	protected final XmlEncoder encoder;
+	protected final XMLStreamWriter writer;
+	protected QName rootElement;
+	protected boolean autoFlush;
+
+	private final Writer target;
+	private BinaryToXmlTranscoder transcoder;
+	private boolean started, closed;
+
+	/**
+	 * Creates a message writer for an existing stream writer. The stream
+	 * writer must not be used by other components afterwards.
+	 *
+	 * @param context
+	 *            the context
+	 * @param writer
+	 *            the stream writer
+	 * @param indent
+	 *            <code>true</code> if the output should be indented
+	 */
+	public XmlMessageWriter(LlrpContext context, XMLStreamWriter writer, boolean indent) {
+		this(context, writer, indent, null);
+	}
+
+	/**
+	 * Creates a message writer for a character stream that is closed together
+	 * with this writer.
+	 *
+	 * @param context
+	 *            the context
+	 * @param writer
+	 *            the character stream
+	 * @param indent
+	 *            <code>true</code> if the output should be indented
+	 */
+	public XmlMessageWriter(LlrpContext context, Writer writer, boolean indent) {
+		this(context, new SimpleXMLStreamWriter(writer, indent), indent, writer);
+	}
+
+	private XmlMessageWriter(LlrpContext context, XMLStreamWriter writer, boolean indent, Writer target) {
+		this.context = context;
+		this.encoder = context.createXmlEncoder(indent);
+		this.writer = encoder.indentingWriter(writer);
+		this.target = target;
+	}
+
+	/**
+	 * Sets the root element of the document that contains the messages. If
+	 * no root element is set then the messages are written as XML fragments.
+	 *
+	 * @param rootElement
+	 *            name of the root element or <code>null</code>
+	 * @return this writer
+	 */
+	public XmlMessageWriter rootElement(QName rootElement) {
+		if (started) {
+			throw new IllegalStateException("The root element must be set before writing messages.");
+		}
+		this.rootElement = rootElement;
+		return this;
+	}
+
+	/**
+	 * Enables or disables flushing of the underlying stream after each
+	 * message.
+	 *
+	 * @param autoFlush
+	 *            <code>true</code> if each message should be flushed
+	 * @return this writer
+	 */
+	public XmlMessageWriter autoFlush(boolean autoFlush) {
+		this.autoFlush = autoFlush;
+		return this;
+	}
+
+	private void start() throws XMLStreamException {
+		if (closed) {
+			throw new IllegalStateException("Writer is closed.");
+		}
+		if (started) {
+			return;
+		}
+		started = true;
+		if (rootElement != null) {
+			writer.writeStartDocument("1.0");
+		}
+		encoder.setNamespaces(writer);
+		if (rootElement != null) {
+			String ns = rootElement.getNamespaceURI();
+			String prefix = writer.getPrefix(ns);
+			boolean declare = prefix == null;
+			if (declare) {
+				prefix = rootElement.getPrefix();
+				if (prefix.isEmpty()) {
+					throw new LlrpException("A prefix is required for the root element " + rootElement + ".");
+				}
+				writer.setPrefix(prefix, ns);
+			}
+			writer.writeStartElement(prefix, rootElement.getLocalPart(), ns);
+			encoder.writeNamespaces(writer);
+			if (declare) {
+				writer.writeNamespace(prefix, ns);
+			}
+		}
+	}
+
+	private void end() throws XMLStreamException {
+		if (rootElement == null) {
+			// one message per line
+			writer.writeCharacters("\n");
+		}
+		if (autoFlush) {
+			writer.flush();
+		}
+	}
+
+	/**
+	 * Writes a message.
+	 *
+	 * @param message
+	 *            the message
+	 */
+	public void write(LlrpMessage message) throws Exception {
+		start();
+		encoder.encodeMessageElement(message, writer, rootElement == null);
+		end();
+	}
+
+	/**
+	 * Writes the binary message at the position of the given buffer and
+	 * advances the position behind it.
+	 *
+	 * @param frame
+	 *            buffer with the binary message
+	 */
+	public void write(ByteBuffer frame) throws Exception {
+		start();
+		if (transcoder == null) {
+			transcoder = context.createBinaryToXmlTranscoder(encoder.indent);
+		}
+		int length = FrameSplitter.frameLength(frame, frame.position());
+		if (length < 0 || length > frame.remaining()) {
+			throw new LlrpException("Incomplete message in buffer.");
+		}
+		ByteBuffer message = frame.duplicate();
+		message.limit(frame.position() + length);
+		transcoder.transcode(BitBuffer.wrap(message), writer, false, rootElement == null);
+		frame.position(frame.position() + length);
+		end();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		try {
+			writer.flush();
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Completes the document and closes the underlying stream if it was
+	 * passed as character stream.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (closed) {
+			return;
+		}
+		try {
+			if (rootElement != null) {
+				// an empty document still consists of the root element
+				start();
+				writer.writeEndElement();
+				writer.writeEndDocument();
+			}
+			closed = true;
+			writer.flush();
+			writer.close();
+		} catch (XMLStreamException e) {
+			throw new IOException(e);
+		}
+		if (target != null) {
+			target.close();
+		}
+	}
+}
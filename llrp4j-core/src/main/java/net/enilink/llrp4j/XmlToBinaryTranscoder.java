@@ -0,0 +1,296 @@
+package net.enilink.llrp4j;
+
+import static net.enilink.llrp4j.EncodingUtil.encodeEnum;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamReader;
+
+import org.llrp.ltk.schema.core.FieldType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.impl.BaseType;
+import net.enilink.llrp4j.impl.CustomMessage;
+import net.enilink.llrp4j.impl.CustomParameter;
+import net.enilink.llrp4j.impl.Message;
+import net.enilink.llrp4j.impl.Parameter;
+import net.enilink.llrp4j.impl.Property;
+import net.enilink.llrp4j.types.LlrpEnum;
+import net.enilink.llrp4j.types.Types;
+import net.enilink.llrp4j.types.XmlTypes;
+import net.enilink.llrp4j.xml.AbstractXMLParser;
+import net.enilink.llrp4j.xml.ParseException;
+
+/**
+ * Converts XML encoded messages to their binary representation without
+ * creating message or parameter objects.
+ * <p>
+ * The output is the same as that of a {@link BinaryEncoder} for the message
+ * returned by an {@link XmlDecoder}. Lengths of messages and parameters are
+ * written as placeholders and patched when the respective element is closed.
+ * Instances of this class are not thread-safe.
+ */
+public class XmlToBinaryTranscoder {
+	final static Logger logger = LoggerFactory.getLogger(XmlToBinaryTranscoder.class);
+
+	protected final LlrpContext context;
+
+	protected ValidationMode validation;
+
+	public XmlToBinaryTranscoder(LlrpContext context) {
+		this.context = context;
+		this.validation = context.validationMode();
+	}
+
+	/**
+	 * Sets the validation mode of this transcoder that overrides the default
+	 * mode of the context.
+	 *
+	 * @param validation
+	 *            the validation mode
+	 * @return this transcoder
+	 */
+	public XmlToBinaryTranscoder validation(ValidationMode validation) {
+		this.validation = validation;
+		return this;
+	}
+
+	protected void violation(String message) {
+		if (validation == ValidationMode.STRICT) {
+			throw new LlrpException(message);
+		}
+		logger.warn(message);
+	}
+
+	/**
+	 * Writes the binary representation of the XML message to the given buffer
+	 * using a message ID of <code>0</code>.
+	 *
+	 * @param reader
+	 *            reader for the XML document
+	 * @param buffer
+	 *            the target buffer
+	 */
+	public void transcode(XMLStreamReader reader, BitBuffer buffer) throws Exception {
+		transcode(reader, buffer, 0);
+	}
+
+	/**
+	 * Writes the binary representation of the XML message to the given buffer.
+	 *
+	 * @param reader
+	 *            reader for the XML document
+	 * @param buffer
+	 *            the target buffer
+	 * @param messageID
+	 *            the ID of the message
+	 */
+	public void transcode(XMLStreamReader reader, BitBuffer buffer, long messageID) throws Exception {
+		new Transcoder(reader, buffer).transcodeMessage(messageID);
+	}
+
+	/**
+	 * Writes the binary representation of the XML message at the position of
+	 * the given buffer and advances the position behind the message.
+	 *
+	 * @param reader
+	 *            reader for the XML document
+	 * @param buffer
+	 *            the target buffer
+	 * @param messageID
+	 *            the ID of the message
+	 */
+	public void transcode(XMLStreamReader reader, ByteBuffer buffer, long messageID) throws Exception {
+		BitBuffer bits = BitBuffer.wrap(buffer);
+		transcode(reader, bits, messageID);
+		buffer.position(buffer.position() + (bits.position() + 7) / 8);
+	}
+
+	class Transcoder extends AbstractXMLParser {
+		final BitBuffer buffer;
+		int messageStart;
+
+		Transcoder(XMLStreamReader reader, BitBuffer buffer) {
+			super(reader);
+			this.buffer = buffer;
+		}
+
+		void transcodeMessage(long messageID) throws Exception {
+			QName name = nextOrFail();
+			BaseType messageType = context.qnameToType.get(name);
+			if (!(messageType instanceof Message || messageType instanceof CustomMessage)) {
+				throw new ParseException("Unknown element: " + name);
+			}
+			int typeNum = messageType instanceof CustomMessage ? 1023 : ((Message) messageType).typeNum;
+
+			messageStart = buffer.position();
+			// Rsvd 3 bits, Version 3 bits, Message Type 10 bits
+			buffer.putInt(0, 3);
+			buffer.putInt(1, 3);
+			buffer.putInt(typeNum, 10);
+			int lengthStart = buffer.position();
+			// Message Length 32 bits - patched below
+			buffer.putInt(0, 32);
+			buffer.putLong(messageID, 32);
+			if (messageType instanceof CustomMessage) {
+				buffer.putLong(((CustomMessage) messageType).key.vendor, 32);
+				buffer.putInt((int) ((CustomMessage) messageType).key.subType, 8);
+			}
+			reserved(messageType);
+
+			transcodeProperties(messageType, false);
+
+			int messageLength = (buffer.position() - messageStart + 7) / 8;
+			patch(lengthStart, messageLength, 32);
+		}
+
+		void reserved(BaseType type) {
+			int reserved = type.reservedBits;
+			while (reserved-- > 0) {
+				buffer.putBoolean(false);
+			}
+		}
+
+		void patch(int index, int value, int bits) {
+			int mark = buffer.position();
+			buffer.position(index);
+			buffer.putInt(value, bits);
+			buffer.position(mark);
+		}
+
+		void transcodeProperties(BaseType type, boolean tv) throws Exception {
+			Property[] properties = type.properties();
+			QName name = next();
+			for (int i = 0; i < properties.length; i++) {
+				Property property = properties[i];
+
+				boolean propertyWasRead = false;
+				if (property.isField) {
+					String expectedName = property.xmlName;
+					if (name != null && name.getLocalPart().equals(expectedName)) {
+						String value = parseStringValue();
+						if (value.length() > 0) {
+							writeField(property, value);
+						} else if (property.required) {
+							throw new ParseException("Missing content in element " + name);
+						} else if (tv) {
+							throw new LlrpException("Missing field '" + property.field.getName() + "' in parameter "
+									+ "of type '" + type.typeClass.getSimpleName() + "'");
+						}
+						propertyWasRead = true;
+					} else if (property.required) {
+						unexpected(name);
+					}
+				} else {
+					boolean isList = property.isList;
+					boolean required = property.required;
+					BitSet restricted = null;
+					while (true) {
+						BaseType elementType = name == null ? null : context.qnameToType.get(name);
+						if (elementType == null || !property.allowedTypes.get(elementType.id)) {
+							propertyWasRead = false;
+							if (required) {
+								unexpected(name);
+							}
+							break;
+						}
+
+						propertyWasRead = true;
+						restricted = transcodeParameter(property, type, elementType, restricted);
+						if (isList) {
+							required = false;
+							end();
+							name = next();
+						} else {
+							break;
+						}
+					}
+				}
+
+				if (propertyWasRead) {
+					end();
+					name = next();
+				}
+			}
+			if (name != null) {
+				useCurrentAsNext();
+			}
+		}
+
+		void writeField(Property property, String value) throws Exception {
+			LlrpField annotation = property.fieldInfo;
+			FieldType type = annotation.type();
+			for (int i = 0; i < annotation.reservedBefore(); i++) {
+				buffer.putBoolean(false);
+			}
+			Object javaValue;
+			Class<?> elementType = property.elementType;
+			if (LlrpEnum.class.isAssignableFrom(elementType)) {
+				javaValue = encodeEnum(type, EnumResolver.of(elementType).fromString(value, property.isList));
+			} else {
+				javaValue = XmlTypes.fromString(type, annotation.format(), value);
+			}
+			Types.encode(javaValue, type, buffer);
+			for (int i = 0; i < annotation.reservedAfter(); i++) {
+				buffer.putBoolean(false);
+			}
+		}
+
+		BitSet transcodeParameter(Property property, BaseType container, BaseType parameterType, BitSet restricted)
+				throws Exception {
+			if (validation != ValidationMode.OFF) {
+				if (parameterType.allowedIn != null) {
+					if (!parameterType.allowedIn.get(container.id)) {
+						violation("Parameter '" + parameterType.typeClass.getSimpleName() + "' is not allowed in '"
+								+ container.typeClass.getSimpleName() + "'.");
+					} else if (!parameterType.multipleIn.get(container.id)) {
+						if (restricted == null) {
+							restricted = new BitSet();
+						}
+						if (restricted.get(parameterType.id)) {
+							violation("Parameter '" + parameterType.typeClass.getSimpleName()
+									+ "' may occur only once in '" + container.typeClass.getSimpleName() + "'.");
+						}
+						restricted.set(parameterType.id);
+					}
+				}
+			}
+
+			int typeNum = parameterType instanceof CustomParameter ? 1023 : ((Parameter) parameterType).typeNum;
+			if (typeNum < 128) {
+				// first bit must always be set to 1
+				buffer.put(true);
+				buffer.putInt(typeNum, 7);
+				transcodeProperties(parameterType, true);
+			} else {
+				int start = buffer.position();
+				// Reserved 6 bits, Parameter Type 10 bits
+				buffer.putInt(0, 6);
+				buffer.putInt(typeNum, 10);
+				int lengthStart = buffer.position();
+				// Parameter Length 16 bits - patched below
+				buffer.putInt(0, 16);
+				if (parameterType instanceof CustomParameter) {
+					CustomParameter customType = (CustomParameter) parameterType;
+					buffer.putLong(customType.key.vendor, 32);
+					buffer.putLong(customType.key.subType, 32);
+				}
+				transcodeProperties(parameterType, false);
+
+				// same padding as the binary encoder
+				int parameterLength = (buffer.position() - start + 7) / 8;
+				int padding = parameterLength * 8 - (buffer.position() - messageStart);
+				while (padding-- > 0) {
+					buffer.putBoolean(false);
+				}
+				patch(lengthStart, parameterLength, 16);
+			}
+			return restricted;
+		}
+	}
+}
@@ -1130,6 +1130,23 @@ public abstract class BitBuffer {
 		return new ArrayBitBuffer(array);
 	}
 
+	/**
+	 * Wraps bitbuffer around the remaining bytes of the given buffer without
+	 * copying them. Any operation on this bitBuffer will modify the contents
+	 * of the given buffer but not its position or limit.
+	 * 
+	 * @param buffer
+	 *            A byte buffer to wrap this buffer around
+	 * @return Newly created instance of BitBuffer wrapped around buffer
+	 */
+	public static BitBuffer wrap(ByteBuffer buffer) {
+		if (buffer.hasArray()) {
+			return new ArrayBitBuffer(buffer.array(), buffer.remaining() * 8,
+					(buffer.arrayOffset() + buffer.position()) * 8);
+		}
+		return new ByteBufferBitBuffer(buffer, buffer.position(), buffer.remaining() * 8, 0);
+	}
+
 	public abstract BitBuffer slice();
 
 	public abstract BitBuffer slice(int start, int length);
@@ -0,0 +1,52 @@
+package net.enilink.llrp4j.bitbuffer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Bit buffer that reads and writes the bytes of a {@link ByteBuffer} using
+ * absolute indexes.
+ */
+class ByteBufferBitBuffer extends SimpleBitBuffer {
+	private final ByteBuffer buffer;
+	private final int base;
+
+	protected ByteBufferBitBuffer(ByteBuffer buffer, int base, int limit, int offset) {
+		this.buffer = buffer;
+		this.base = base;
+		this.limit = limit;
+		this.offset = offset;
+		this.size = limit;
+	}
+
+	@Override
+	protected byte rawGet(int index) {
+		return buffer.get(base + index);
+	}
+
+	@Override
+	protected void rawSet(int index, byte value) {
+		buffer.put(base + index, value);
+	}
+
+	@Override
+	protected int rawLength() {
+		return limit;
+	}
+
+	@Override
+	public int limit() {
+		return limit;
+	}
+
+	public BitBuffer slice() {
+		return new ByteBufferBitBuffer(buffer, base, size() - position(), offset + position());
+	}
+
+	public BitBuffer slice(int start, int length) {
+		return new ByteBufferBitBuffer(buffer, base, Math.min(length, size() - start), offset + start);
+	}
+
+	public BitBuffer slice(int start) {
+		return slice(start, size() - start);
+	}
+}
@@ -1,24 +1,57 @@
 package net.enilink.llrp4j.impl;
 
+import java.util.BitSet;
+
 import net.enilink.llrp4j.LlrpException;
 import net.enilink.llrp4j.annotations.LlrpProperties;
 
 public class BaseType {
 	public final Class<?> typeClass;
 	public final int reservedBits;
+	private String[] propertyNames;
 	private Property[] properties;
 
+	/**
+	 * Index of this type within its context, assigned by the context.
+	 */
+	public int id = -1;
+
+	/**
+	 * Namespace of the XML element for this type, assigned by the context.
+	 */
+	public String xmlNamespace;
+
+	/**
+	 * Identifiers of the types this parameter type is allowed in or
+	 * <code>null</code> if it is allowed anywhere.
+	 */
+	public BitSet allowedIn;
+
+	/**
+	 * Identifiers of the types this parameter type may occur multiple times
+	 * in. Only used if {@link #allowedIn} is not <code>null</code>.
+	 */
+	public BitSet multipleIn;
+
 	public BaseType(Class<?> typeClass, int reservedBits) {
 		this.typeClass = typeClass;
 		this.reservedBits = reservedBits;
 	}
 
+	public BaseType(Class<?> typeClass, int reservedBits, String[] propertyNames) {
+		this(typeClass, reservedBits);
+		this.propertyNames = propertyNames;
+	}
+
 	public synchronized Property[] properties() {
 		if (properties == null) {
-			LlrpProperties annotation = typeClass.getAnnotation(LlrpProperties.class);
-			properties = new Property[annotation.value().length];
+			String[] names = propertyNames;
+			if (names == null) {
+				names = typeClass.getAnnotation(LlrpProperties.class).value();
+			}
+			properties = new Property[names.length];
 			int i = 0;
-			for (String name : annotation.value()) {
+			for (String name : names) {
 				try {
 					properties[i++] = new Property(typeClass.getDeclaredField(name));
 				} catch (Exception e) {
@@ -4,11 +4,25 @@ import net.enilink.llrp4j.annotations.LlrpCustomMessageType;
 
 public class CustomMessage extends BaseType {
 	public final CustomKey key;
+	/**
+	 * The type annotation or <code>null</code> if this type was created from
+	 * a precomputed descriptor.
+	 */
 	public final LlrpCustomMessageType type;
+	public final Class<?> responseType;
 
 	public CustomMessage(CustomKey key, LlrpCustomMessageType type, Class<?> typeClass) {
 		super(typeClass, type.reserved());
 		this.key = key;
 		this.type = type;
+		this.responseType = type.responseType();
+	}
+
+	public CustomMessage(CustomKey key, Class<?> responseType, int reservedBits, Class<?> typeClass,
+			String[] propertyNames) {
+		super(typeClass, reservedBits, propertyNames);
+		this.key = key;
+		this.type = null;
+		this.responseType = responseType;
 	}
 }
\ No newline at end of file
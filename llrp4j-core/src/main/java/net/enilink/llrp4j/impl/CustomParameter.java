@@ -4,6 +4,10 @@ import net.enilink.llrp4j.annotations.LlrpCustomParameterType;
 
 public class CustomParameter extends BaseType {
 	public final CustomKey key;
+	/**
+	 * The type annotation or <code>null</code> if this type was created from
+	 * a precomputed descriptor.
+	 */
 	public final LlrpCustomParameterType type;
 
 	public CustomParameter(CustomKey key, LlrpCustomParameterType type, Class<?> typeClass) {
@@ -11,4 +15,10 @@ public class CustomParameter extends BaseType {
 		this.key = key;
 		this.type = type;
 	}
+
+	public CustomParameter(CustomKey key, int reservedBits, Class<?> typeClass, String[] propertyNames) {
+		super(typeClass, reservedBits, propertyNames);
+		this.key = key;
+		this.type = null;
+	}
 }
\ No newline at end of file
@@ -3,10 +3,26 @@ package net.enilink.llrp4j.impl;
 import net.enilink.llrp4j.annotations.LlrpMessageType;
 
 public class Message extends BaseType {
+	/**
+	 * The type annotation or <code>null</code> if this type was created from
+	 * a precomputed descriptor.
+	 */
 	public final LlrpMessageType type;
+	public final int typeNum;
+	public final Class<?> responseType;
 
 	public Message(LlrpMessageType type, Class<?> typeClass) {
 		super(typeClass, type.reserved());
 		this.type = type;
+		this.typeNum = type.typeNum();
+		this.responseType = type.responseType();
+	}
+
+	public Message(int typeNum, Class<?> responseType, int reservedBits, Class<?> typeClass,
+			String[] propertyNames) {
+		super(typeClass, reservedBits, propertyNames);
+		this.type = null;
+		this.typeNum = typeNum;
+		this.responseType = responseType;
 	}
 }
\ No newline at end of file
@@ -3,10 +3,22 @@ package net.enilink.llrp4j.impl;
 import net.enilink.llrp4j.annotations.LlrpParameterType;
 
 public class Parameter extends BaseType {
+	/**
+	 * The type annotation or <code>null</code> if this type was created from
+	 * a precomputed descriptor.
+	 */
 	public final LlrpParameterType type;
+	public final int typeNum;
 
 	public Parameter(LlrpParameterType type, Class<?> typeClass) {
 		super(typeClass, type.reserved());
 		this.type = type;
+		this.typeNum = type.typeNum();
+	}
+
+	public Parameter(int typeNum, int reservedBits, Class<?> typeClass, String[] propertyNames) {
+		super(typeClass, reservedBits, propertyNames);
+		this.type = null;
+		this.typeNum = typeNum;
 	}
 }
\ No newline at end of file
@@ -1,6 +1,9 @@
 package net.enilink.llrp4j.impl;
 
 import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.util.BitSet;
+import java.util.List;
 
 import net.enilink.llrp4j.annotations.LlrpField;
 import net.enilink.llrp4j.annotations.LlrpParam;
@@ -9,16 +12,43 @@ public class Property {
 	public final Field field;
 	public final boolean required;
 	public final boolean isField;
+	public final boolean isList;
+	public final Class<?> elementType;
+
+	/**
+	 * The local name of the XML element of a field or parameter property.
+	 */
+	public final String xmlName;
+
+	/**
+	 * The encoding of a field or <code>null</code> for parameters.
+	 */
+	public final LlrpField fieldInfo;
+
+	/**
+	 * Identifiers of the parameter types that may be assigned to this
+	 * property, filled by the context.
+	 */
+	public final BitSet allowedTypes = new BitSet();
 
 	public Property(Field field) {
 		this.field = field;
 		field.setAccessible(true);
-		this.isField = field.isAnnotationPresent(LlrpField.class);
+		this.fieldInfo = field.getAnnotation(LlrpField.class);
+		this.isField = fieldInfo != null;
 		boolean required = isField;
 		if (!required) {
 			LlrpParam param = field.getAnnotation(LlrpParam.class);
 			required = param.required();
 		}
 		this.required = required;
+		this.isList = List.class.isAssignableFrom(field.getType());
+		Class<?> elementType = field.getType();
+		if (isList && field.getGenericType() instanceof ParameterizedType) {
+			elementType = (Class<?>) ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0];
+		}
+		this.elementType = elementType;
+		String name = field.getName();
+		this.xmlName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
 	}
 }
\ No newline at end of file
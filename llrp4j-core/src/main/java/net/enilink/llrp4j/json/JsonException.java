@@ -0,0 +1,11 @@
+package net.enilink.llrp4j.json;
+
+import net.enilink.llrp4j.LlrpException;
+
+public class JsonException extends LlrpException {
+	private static final long serialVersionUID = -4409735893962203418L;
+
+	public JsonException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,333 @@
+package net.enilink.llrp4j.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Minimal pull parser for JSON documents.
+ * <p>
+ * Multiple documents may follow each other in the same stream, separated by
+ * whitespace, as used by newline-delimited JSON.
+ */
+public class JsonReader {
+	public enum Token {
+		BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+	}
+
+	private static final int IN_OBJECT = 1, IN_ARRAY = 2;
+
+	protected Reader in;
+
+	private final char[] buffer = new char[1024];
+	private int pos, limit;
+	private long offset;
+
+	private int[] scopes = new int[16];
+	// true if the current object or array already contains a value
+	private boolean[] hasValue = new boolean[16];
+	private int depth;
+	private boolean expectValue;
+
+	private Token peeked;
+	private final StringBuilder text = new StringBuilder();
+
+	public JsonReader(Reader in) {
+		this.in = in;
+	}
+
+	private int read() throws IOException {
+		if (pos == limit) {
+			offset += limit;
+			pos = 0;
+			limit = in.read(buffer, 0, buffer.length);
+			if (limit <= 0) {
+				limit = 0;
+				return -1;
+			}
+		}
+		return buffer[pos++];
+	}
+
+	private int nextNonWhitespace() throws IOException {
+		int c;
+		do {
+			c = read();
+		} while (c == ' ' || c == '\t' || c == '\n' || c == '\r');
+		return c;
+	}
+
+	protected JsonException error(String message) {
+		return new JsonException(message + " at offset " + (offset + pos));
+	}
+
+	/**
+	 * Returns the type of the next token without consuming it.
+	 */
+	public Token peek() throws IOException {
+		if (peeked != null) {
+			return peeked;
+		}
+		int c = nextNonWhitespace();
+		int scope = depth > 0 ? scopes[depth - 1] : 0;
+		if (scope != 0 && !expectValue) {
+			boolean close = c == (scope == IN_OBJECT ? '}' : ']');
+			if (close) {
+				return peeked = scope == IN_OBJECT ? Token.END_OBJECT : Token.END_ARRAY;
+			}
+			if (hasValue[depth - 1]) {
+				if (c != ',') {
+					throw error("Expected ',' but found " + describe(c));
+				}
+				c = nextNonWhitespace();
+			}
+			if (scope == IN_OBJECT) {
+				if (c != '"') {
+					throw error("Expected name but found " + describe(c));
+				}
+				readString();
+				if (nextNonWhitespace() != ':') {
+					throw error("Expected ':' after name");
+				}
+				return peeked = Token.NAME;
+			}
+		}
+		switch (c) {
+		case -1:
+			if (depth > 0) {
+				throw error("Unexpected end of input");
+			}
+			return peeked = Token.END_DOCUMENT;
+		case '{':
+			return peeked = Token.BEGIN_OBJECT;
+		case '[':
+			return peeked = Token.BEGIN_ARRAY;
+		case '"':
+			readString();
+			return peeked = Token.STRING;
+		case 't':
+			readLiteral("true");
+			return peeked = Token.BOOLEAN;
+		case 'f':
+			readLiteral("false");
+			return peeked = Token.BOOLEAN;
+		case 'n':
+			readLiteral("null");
+			return peeked = Token.NULL;
+		default:
+			if (c == '-' || c >= '0' && c <= '9') {
+				readNumber(c);
+				return peeked = Token.NUMBER;
+			}
+			throw error("Unexpected " + describe(c));
+		}
+	}
+
+	private String describe(int c) {
+		return c < 0 ? "end of input" : "'" + (char) c + "'";
+	}
+
+	private void readLiteral(String literal) throws IOException {
+		text.setLength(0);
+		text.append(literal.charAt(0));
+		for (int i = 1; i < literal.length(); i++) {
+			int c = read();
+			if (c != literal.charAt(i)) {
+				throw error("Invalid literal");
+			}
+			text.append((char) c);
+		}
+	}
+
+	private void readNumber(int c) throws IOException {
+		text.setLength(0);
+		while (c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E' || c >= '0' && c <= '9') {
+			text.append((char) c);
+			c = read();
+		}
+		if (c >= 0) {
+			// push back the delimiter
+			pos--;
+		}
+	}
+
+	private void readString() throws IOException {
+		text.setLength(0);
+		while (true) {
+			int start = pos;
+			while (pos < limit) {
+				char c = buffer[pos];
+				if (c == '"' || c == '\\') {
+					break;
+				}
+				pos++;
+			}
+			text.append(buffer, start, pos - start);
+			int c = read();
+			if (c == '"') {
+				return;
+			} else if (c == '\\') {
+				c = read();
+				switch (c) {
+				case 'n':
+					text.append('\n');
+					break;
+				case 'r':
+					text.append('\r');
+					break;
+				case 't':
+					text.append('\t');
+					break;
+				case 'b':
+					text.append('\b');
+					break;
+				case 'f':
+					text.append('\f');
+					break;
+				case 'u':
+					int value = 0;
+					for (int i = 0; i < 4; i++) {
+						int digit = Character.digit(read(), 16);
+						if (digit < 0) {
+							throw error("Invalid escape sequence");
+						}
+						value = value << 4 | digit;
+					}
+					text.append((char) value);
+					break;
+				case '"':
+				case '\\':
+				case '/':
+					text.append((char) c);
+					break;
+				default:
+					throw error("Invalid escape sequence");
+				}
+			} else if (c < 0) {
+				throw error("Unterminated string");
+			} else {
+				// first character after refilling the buffer
+				text.append((char) c);
+			}
+		}
+	}
+
+	private Token consume(Token expected) throws IOException {
+		Token token = peek();
+		if (token != expected) {
+			throw error("Expected " + expected + " but found " + token);
+		}
+		peeked = null;
+		if (token == Token.NAME) {
+			expectValue = true;
+		} else {
+			expectValue = false;
+			if (depth > 0 && token != Token.END_OBJECT && token != Token.END_ARRAY) {
+				hasValue[depth - 1] = true;
+			}
+		}
+		return token;
+	}
+
+	private void push(int scope) {
+		if (depth == scopes.length) {
+			scopes = Arrays.copyOf(scopes, depth * 2);
+			hasValue = Arrays.copyOf(hasValue, depth * 2);
+		}
+		scopes[depth] = scope;
+		hasValue[depth++] = false;
+	}
+
+	public void beginObject() throws IOException {
+		consume(Token.BEGIN_OBJECT);
+		push(IN_OBJECT);
+	}
+
+	public void endObject() throws IOException {
+		consume(Token.END_OBJECT);
+		depth--;
+	}
+
+	public void beginArray() throws IOException {
+		consume(Token.BEGIN_ARRAY);
+		push(IN_ARRAY);
+	}
+
+	public void endArray() throws IOException {
+		consume(Token.END_ARRAY);
+		depth--;
+	}
+
+	/**
+	 * Returns <code>true</code> if the current object or array has more
+	 * elements.
+	 */
+	public boolean hasNext() throws IOException {
+		Token token = peek();
+		return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+	}
+
+	public String nextName() throws IOException {
+		consume(Token.NAME);
+		return text.toString();
+	}
+
+	/**
+	 * Returns the next string, number or boolean value as text.
+	 */
+	public String nextString() throws IOException {
+		Token token = peek();
+		if (token != Token.STRING && token != Token.NUMBER && token != Token.BOOLEAN) {
+			throw error("Expected a value but found " + token);
+		}
+		consume(token);
+		return text.toString();
+	}
+
+	public long nextLong() throws IOException {
+		consume(Token.NUMBER);
+		try {
+			return Long.parseLong(text.toString());
+		} catch (NumberFormatException e) {
+			throw error("Invalid number " + text);
+		}
+	}
+
+	public void nextNull() throws IOException {
+		consume(Token.NULL);
+	}
+
+	/**
+	 * Skips the next value including nested objects and arrays.
+	 */
+	public void skipValue() throws IOException {
+		int level = 0;
+		do {
+			switch (peek()) {
+			case BEGIN_OBJECT:
+				beginObject();
+				level++;
+				break;
+			case BEGIN_ARRAY:
+				beginArray();
+				level++;
+				break;
+			case END_OBJECT:
+				endObject();
+				level--;
+				break;
+			case END_ARRAY:
+				endArray();
+				level--;
+				break;
+			case NAME:
+				nextName();
+				break;
+			case END_DOCUMENT:
+				throw error("Unexpected end of input");
+			default:
+				consume(peeked);
+			}
+		} while (level > 0);
+	}
+}
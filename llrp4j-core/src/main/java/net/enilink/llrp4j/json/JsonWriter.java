@@ -0,0 +1,176 @@
+package net.enilink.llrp4j.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+/**
+ * Minimal streaming writer for JSON documents.
+ * <p>
+ * Commas and colons are inserted automatically. The writer does not check if
+ * the written tokens form a valid document.
+ */
+public class JsonWriter {
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+	protected Writer out;
+
+	// true if the current object or array already contains a value
+	private boolean[] hasValue = new boolean[16];
+	private int depth;
+	private boolean afterName;
+
+	public JsonWriter(Writer out) {
+		this.out = out;
+	}
+
+	public Writer getWriter() {
+		return out;
+	}
+
+	private void beforeValue() throws IOException {
+		if (afterName) {
+			afterName = false;
+		} else if (depth > 0) {
+			if (hasValue[depth - 1]) {
+				out.write(',');
+			}
+			hasValue[depth - 1] = true;
+		}
+	}
+
+	private JsonWriter open(char c) throws IOException {
+		beforeValue();
+		if (depth == hasValue.length) {
+			hasValue = Arrays.copyOf(hasValue, depth * 2);
+		}
+		hasValue[depth++] = false;
+		out.write(c);
+		return this;
+	}
+
+	private JsonWriter close(char c) throws IOException {
+		depth--;
+		out.write(c);
+		return this;
+	}
+
+	public JsonWriter beginObject() throws IOException {
+		return open('{');
+	}
+
+	public JsonWriter endObject() throws IOException {
+		return close('}');
+	}
+
+	public JsonWriter beginArray() throws IOException {
+		return open('[');
+	}
+
+	public JsonWriter endArray() throws IOException {
+		return close(']');
+	}
+
+	public JsonWriter name(String name) throws IOException {
+		beforeValue();
+		writeString(name);
+		out.write(':');
+		afterName = true;
+		return this;
+	}
+
+	public JsonWriter value(String value) throws IOException {
+		if (value == null) {
+			return nullValue();
+		}
+		beforeValue();
+		writeString(value);
+		return this;
+	}
+
+	public JsonWriter value(long value) throws IOException {
+		beforeValue();
+		out.write(Long.toString(value));
+		return this;
+	}
+
+	public JsonWriter value(boolean value) throws IOException {
+		beforeValue();
+		out.write(value ? "true" : "false");
+		return this;
+	}
+
+	/**
+	 * Writes a number that is given by its textual representation.
+	 *
+	 * @param number
+	 *            a valid JSON number
+	 * @return this writer
+	 */
+	public JsonWriter numberValue(String number) throws IOException {
+		beforeValue();
+		out.write(number);
+		return this;
+	}
+
+	public JsonWriter nullValue() throws IOException {
+		beforeValue();
+		out.write("null");
+		return this;
+	}
+
+	/**
+	 * Ends the current line of a newline-delimited stream of documents.
+	 *
+	 * @return this writer
+	 */
+	public JsonWriter newLine() throws IOException {
+		out.write('\n');
+		return this;
+	}
+
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	private void writeString(String s) throws IOException {
+		out.write('"');
+		int start = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (c >= 0x20 && c != '"' && c != '\\') {
+				continue;
+			}
+			if (i > start) {
+				out.write(s, start, i - start);
+			}
+			start = i + 1;
+			switch (c) {
+			case '"':
+				out.write("\\\"");
+				break;
+			case '\\':
+				out.write("\\\\");
+				break;
+			case '\n':
+				out.write("\\n");
+				break;
+			case '\r':
+				out.write("\\r");
+				break;
+			case '\t':
+				out.write("\\t");
+				break;
+			default:
+				out.write("\\u00");
+				out.write(HEX[c >> 4]);
+				out.write(HEX[c & 0xF]);
+			}
+		}
+		if (length > start) {
+			out.write(s, start, length - start);
+		}
+		out.write('"');
+	}
+}
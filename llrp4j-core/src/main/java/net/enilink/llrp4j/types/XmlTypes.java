@@ -31,106 +31,200 @@ public class XmlTypes {
 	public static String toString(Object value, FieldFormat format) {
 		if (value instanceof String) {
 			return (String) value;
+		}
+		return append(new StringBuilder(), value, format).toString();
+	}
+
+	/**
+	 * Appends the XML representation of the given value to a string builder.
+	 * The result is the same as that of {@link #toString(Object, FieldFormat)}
+	 * but no intermediate objects are created for common values like
+	 * timestamps, numbers and arrays.
+	 * 
+	 * @param sb
+	 *            the target builder
+	 * @param value
+	 *            the value
+	 * @param format
+	 *            the format of the value
+	 * @return the target builder
+	 */
+	public static StringBuilder append(StringBuilder sb, Object value, FieldFormat format) {
+		if (value instanceof String) {
+			return sb.append((String) value);
 		} else if (value instanceof Boolean) {
-			return Boolean.TRUE.equals(value) ? "1" : "0";
+			return sb.append(Boolean.TRUE.equals(value) ? '1' : '0');
 		} else if (value instanceof BitList) {
-			return toString((BitList) value, format);
-		} else if (value instanceof Number) {
-			Number n = (Number) value;
-			switch (format) {
-			case DATETIME:
-				BigInteger timestampUTC;
-				if (n instanceof BigInteger) {
-					timestampUTC = (BigInteger) n;
-				} else {
-					timestampUTC = BigInteger.valueOf(n.longValue());
-				}
-				// TimeZone timezone = TimeZone.getDefault();
-				// TODO Always use UTC here?
-				TimeZone timezone = TimeZone.getTimeZone("UTC");
-				GregorianCalendar cal = new GregorianCalendar(timezone);
-
-				// initialize calendar after removing the last
-				// three digits that represent microseconds
-				BigInteger[] millisAndMicros = timestampUTC.divideAndRemainder(BigInteger.valueOf(1000));
-				cal.setTimeInMillis(millisAndMicros[0].longValue());
-
-				DatatypeFactory df = datatypeFactory();
-				XMLGregorianCalendar xmlcal = df.newXMLGregorianCalendar(cal);
-
-				xmlcal.setFractionalSecond(
-						xmlcal.getFractionalSecond().add(new BigDecimal(millisAndMicros[1]).movePointLeft(6)));
-
-				return xmlcal.toXMLFormat();
-			case HEX:
-				if (n instanceof BigInteger) {
-					return ((BigInteger) n).toString(16);
-				} else {
-					return Long.toString(n.longValue(), 16);
-				}
-			default:
-				return n.toString();
+			BitList bits = (BitList) value;
+			int length = bits.length();
+			for (int i = 0; i < length; i++) {
+				sb.append(bits.get(i) ? '1' : '0');
 			}
+			return sb;
+		} else if (value instanceof Number) {
+			return appendNumber(sb, (Number) value, format);
 		} else if (value.getClass().isArray()) {
 			if (value instanceof int[]) {
-				return toString((int[]) value, format);
+				int[] elements = (int[]) value;
+				for (int i = 0; i < elements.length; i++) {
+					if (i > 0) {
+						sb.append(' ');
+					}
+					appendLong(sb, elements[i], format);
+				}
+				return sb;
 			} else if (value instanceof long[]) {
-				return toString((long[]) value, format);
+				long[] elements = (long[]) value;
+				for (int i = 0; i < elements.length; i++) {
+					if (i > 0) {
+						sb.append(' ');
+					}
+					appendLong(sb, elements[i], format);
+				}
+				return sb;
 			} else if (value instanceof boolean[]) {
-				return toString((boolean[]) value, format);
+				boolean[] elements = (boolean[]) value;
+				for (int i = 0; i < elements.length; i++) {
+					if (i > 0) {
+						sb.append(' ');
+					}
+					sb.append(elements[i] ? '1' : '0');
+				}
+				return sb;
 			} else if (value instanceof Object[]) {
-				return toString((Object[]) value, format);
+				Object[] elements = (Object[]) value;
+				for (int i = 0; i < elements.length; i++) {
+					if (i > 0) {
+						sb.append(' ');
+					}
+					append(sb, elements[i], format);
+				}
+				return sb;
 			} else if (value instanceof byte[]) {
-				return bytesToHex((byte[]) value);
+				byte[] bytes = (byte[]) value;
+				for (int i = 0; i < bytes.length; i++) {
+					int v = bytes[i] & 0xFF;
+					sb.append(hexArray[v >>> 4]).append(hexArray[v & 0x0F]);
+				}
+				return sb;
 			}
 		}
 		throw new IllegalArgumentException("Unknown type: " + value.getClass());
 	}
 
-	private static String toString(BitList bits, FieldFormat format) {
-		StringBuilder sb = new StringBuilder();
-		int length = bits.length();
-		for (int i = 0; i < length; i++) {
-			sb.append(bits.get(i) ? "1" : "0");
+	private static StringBuilder appendNumber(StringBuilder sb, Number n, FieldFormat format) {
+		if (n instanceof BigInteger && ((BigInteger) n).bitLength() > 63) {
+			switch (format) {
+			case DATETIME:
+				return sb.append(formatTimestamp((BigInteger) n));
+			case HEX:
+				return sb.append(((BigInteger) n).toString(16));
+			default:
+				return sb.append(n.toString());
+			}
 		}
-		return sb.toString();
+		return appendLong(sb, n.longValue(), format);
 	}
 
-	private static String toString(int[] elements, FieldFormat format) {
-		StringBuilder sb = new StringBuilder();
-		for (int i = 0; i < elements.length; i++) {
-			sb.append(toString(elements[i], format)).append(' ');
-		}
-		if (sb.length() > 0) {
-			sb.replace(sb.length() - 1, sb.length(), "");
+	private static StringBuilder appendLong(StringBuilder sb, long value, FieldFormat format) {
+		switch (format) {
+		case DATETIME:
+			return appendTimestamp(sb, value);
+		case HEX:
+			if (value < 0) {
+				sb.append('-');
+				value = -value;
+			}
+			// Long.MIN_VALUE stays negative and is treated as unsigned value
+			int shift = 60;
+			while (shift > 0 && (value >>> shift) == 0) {
+				shift -= 4;
+			}
+			for (; shift >= 0; shift -= 4) {
+				sb.append(lowerHexArray[(int) (value >>> shift) & 0x0F]);
+			}
+			return sb;
+		default:
+			return sb.append(value);
 		}
-		return sb.toString();
 	}
 
-	private static String toString(long[] elements, FieldFormat format) {
-		StringBuilder sb = new StringBuilder();
-		for (int i = 0; i < elements.length; i++) {
-			sb.append(toString(elements[i], format)).append(' ');
-		}
-		if (sb.length() > 0) {
-			sb.replace(sb.length() - 1, sb.length(), "");
+	// microseconds of 10000-01-01T00:00:00Z, timestamps from then on require
+	// years with more than four digits
+	private static final long MAX_SIMPLE_TIMESTAMP = 253402300800000000L;
+
+	/**
+	 * Formats a timestamp in microseconds since the epoch as xsd:dateTime in
+	 * UTC with six fractional digits, e.g.
+	 * <code>2017-07-14T02:40:00.123456Z</code>.
+	 */
+	private static StringBuilder appendTimestamp(StringBuilder sb, long micros) {
+		if (micros < 0 || micros >= MAX_SIMPLE_TIMESTAMP) {
+			return sb.append(formatTimestamp(BigInteger.valueOf(micros)));
 		}
-		return sb.toString();
+		long seconds = micros / 1000000;
+		int fraction = (int) (micros % 1000000);
+		int secondOfDay = (int) (seconds % 86400);
+
+		// civil date from days since the epoch, see
+		// http://howardhinnant.github.io/date_algorithms.html#civil_from_days
+		long days = seconds / 86400 + 719468;
+		long era = days / 146097;
+		int dayOfEra = (int) (days - era * 146097);
+		int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		int mp = (5 * dayOfYear + 2) / 153;
+		int day = dayOfYear - (153 * mp + 2) / 5 + 1;
+		int month = mp < 10 ? mp + 3 : mp - 9;
+		int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+		appendDigits(sb, year, 4).append('-');
+		appendDigits(sb, month, 2).append('-');
+		appendDigits(sb, day, 2).append('T');
+		appendDigits(sb, secondOfDay / 3600, 2).append(':');
+		appendDigits(sb, secondOfDay / 60 % 60, 2).append(':');
+		appendDigits(sb, secondOfDay % 60, 2).append('.');
+		return appendDigits(sb, fraction, 6).append('Z');
 	}
 
-	private static String toString(Object[] elements, FieldFormat format) {
-		StringBuilder sb = new StringBuilder();
-		for (int i = 0; i < elements.length; i++) {
-			sb.append(toString(elements[i], format)).append(' ');
+	private static StringBuilder appendDigits(StringBuilder sb, int value, int digits) {
+		for (int divisor = POWERS_OF_TEN[digits - 1]; divisor > 0; divisor /= 10) {
+			sb.append((char) ('0' + value / divisor % 10));
 		}
-		if (sb.length() > 0) {
-			sb.replace(sb.length() - 1, sb.length(), "");
-		}
-		return sb.toString();
+		return sb;
+	}
+
+	private static final int[] POWERS_OF_TEN = { 1, 10, 100, 1000, 10000, 100000 };
+
+	/**
+	 * Formats arbitrary timestamps by using {@link XMLGregorianCalendar}.
+	 */
+	private static String formatTimestamp(BigInteger timestampUTC) {
+		// TimeZone timezone = TimeZone.getDefault();
+		// TODO Always use UTC here?
+		TimeZone timezone = TimeZone.getTimeZone("UTC");
+		GregorianCalendar cal = new GregorianCalendar(timezone);
+
+		// initialize calendar after removing the last
+		// three digits that represent microseconds
+		BigInteger[] millisAndMicros = timestampUTC.divideAndRemainder(BigInteger.valueOf(1000));
+		cal.setTimeInMillis(millisAndMicros[0].longValue());
+
+		DatatypeFactory df = datatypeFactory();
+		XMLGregorianCalendar xmlcal = df.newXMLGregorianCalendar(cal);
+
+		xmlcal.setFractionalSecond(
+				xmlcal.getFractionalSecond().add(new BigDecimal(millisAndMicros[1]).movePointLeft(6)));
+
+		return xmlcal.toXMLFormat();
 	}
 
 	public static Object fromString(FieldType fieldType, FieldFormat format, String s) {
 		if (format == FieldFormat.DATETIME && fieldType == FieldType.U_64) {
+			long micros = parseTimestamp(s);
+			if (micros != Long.MIN_VALUE) {
+				return BigInteger.valueOf(micros);
+			}
 			DatatypeFactory df = datatypeFactory();
 			XMLGregorianCalendar cal = df.newXMLGregorianCalendar(s);
 			BigDecimal fractional = cal.getFractionalSecond();
@@ -161,49 +255,37 @@ public class XmlTypes {
 		case U_8:
 		case S_8:
 			return Integer.valueOf(s, radix);
-		case U_8_V: {
-			String[] strings = split(s);
-			return fromString(new int[strings.length], FieldType.U_8, format, strings);
-		}
-		case S_8_V: {
-			String[] strings = split(s);
-			return fromString(new int[strings.length], FieldType.S_8, format, strings);
-		}
+		case U_8_V:
+		case S_8_V:
+			return parseInts(s, radix);
 		case UTF_8_V:
 			return s;
 		case U_16:
 		case S_16:
 			return Integer.valueOf(s, radix);
-		case U_16_V: {
-			String[] strings = split(s);
-			return fromString(new int[strings.length], FieldType.U_16, format, strings);
-		}
-		case S_16_V: {
-			String[] strings = split(s);
-			return fromString(new int[strings.length], FieldType.S_16, format, strings);
-		}
+		case U_16_V:
+		case S_16_V:
+			return parseInts(s, radix);
 		case U_32:
 			return Long.valueOf(s, radix);
 		case S_32:
 			return Integer.valueOf(s, radix);
-		case U_32_V: {
-			String[] strings = split(s);
-			return fromString(new long[strings.length], FieldType.U_32, format, strings);
-		}
-		case S_32_V: {
-			String[] strings = split(s);
-			return fromString(new long[strings.length], FieldType.S_32, format, strings);
-		}
+		case U_32_V:
+		case S_32_V:
+			return parseLongs(s, radix);
 		case U_64:
 		case S_64:
 			return new BigInteger(s, radix);
-		case U_64_V: {
-			String[] strings = split(s);
-			return fromString(new BigInteger[strings.length], FieldType.U_64, format, strings);
-		}
+		case U_64_V:
 		case S_64_V: {
-			String[] strings = split(s);
-			return fromString(new BigInteger[strings.length], FieldType.S_64, format, strings);
+			BigInteger[] values = new BigInteger[countTokens(s)];
+			int end = 0;
+			for (int i = 0; i < values.length; i++) {
+				int start = nextToken(s, end);
+				end = tokenEnd(s, start);
+				values[i] = new BigInteger(s.substring(start, end), radix);
+			}
+			return values;
 		}
 		case U_96:
 			return new BigInteger(s, radix);
@@ -216,37 +298,202 @@ public class XmlTypes {
 
 	}
 
-	private static String[] split(String s) {
-		if (s.trim().length() == 0) {
-			return new String[0];
-		} else {
-			return s.split("\\s+");
+	private static boolean isSpace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f' || c == '\u000B';
+	}
+
+	private static int countTokens(String s) {
+		int count = 0;
+		boolean inToken = false;
+		for (int i = 0; i < s.length(); i++) {
+			boolean space = isSpace(s.charAt(i));
+			if (!space && !inToken) {
+				count++;
+			}
+			inToken = !space;
+		}
+		return count;
+	}
+
+	private static int nextToken(String s, int pos) {
+		while (isSpace(s.charAt(pos))) {
+			pos++;
+		}
+		return pos;
+	}
+
+	private static int tokenEnd(String s, int pos) {
+		while (pos < s.length() && !isSpace(s.charAt(pos))) {
+			pos++;
+		}
+		return pos;
+	}
+
+	private static int[] parseInts(String s, int radix) {
+		int[] values = new int[countTokens(s)];
+		int end = 0;
+		for (int i = 0; i < values.length; i++) {
+			int start = nextToken(s, end);
+			end = tokenEnd(s, start);
+			long value = parseLong(s, start, end, radix);
+			if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+				// throws an appropriate exception
+				Integer.parseInt(s.substring(start, end), radix);
+			}
+			values[i] = (int) value;
+		}
+		return values;
+	}
+
+	private static long[] parseLongs(String s, int radix) {
+		long[] values = new long[countTokens(s)];
+		int end = 0;
+		for (int i = 0; i < values.length; i++) {
+			int start = nextToken(s, end);
+			end = tokenEnd(s, start);
+			values[i] = parseLong(s, start, end, radix);
+		}
+		return values;
+	}
+
+	/**
+	 * Parses a number within the given range of a string without creating a
+	 * substring for values that can not overflow.
+	 */
+	private static long parseLong(String s, int start, int end, int radix) {
+		boolean negative = false;
+		int i = start;
+		if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+			negative = s.charAt(i) == '-';
+			i++;
+		}
+		if (i == end || end - i > (radix == 16 ? 15 : 18)) {
+			return Long.parseLong(s.substring(start, end), radix);
+		}
+		long value = 0;
+		for (; i < end; i++) {
+			int digit = digit(s.charAt(i), radix);
+			if (digit < 0) {
+				return Long.parseLong(s.substring(start, end), radix);
+			}
+			value = value * radix + digit;
+		}
+		return negative ? -value : value;
+	}
+
+	private static int digit(char c, int radix) {
+		if (c >= '0' && c <= '9') {
+			return c - '0';
+		} else if (radix == 16) {
+			if (c >= 'a' && c <= 'f') {
+				return c - 'a' + 10;
+			} else if (c >= 'A' && c <= 'F') {
+				return c - 'A' + 10;
+			}
 		}
+		return -1;
 	}
 
-	private static int[] fromString(int[] elements, FieldType fieldType, FieldFormat format, String[] strings) {
-		for (int i = 0; i < strings.length; i++) {
-			elements[i] = (Integer) fromString(fieldType, format, strings[i]);
+	private static int parseDigits(String s, int start, int count) {
+		if (start + count > s.length()) {
+			return -1;
+		}
+		int value = 0;
+		for (int i = start; i < start + count; i++) {
+			char c = s.charAt(i);
+			if (c < '0' || c > '9') {
+				return -1;
+			}
+			value = value * 10 + c - '0';
 		}
-		return elements;
+		return value;
 	}
 
-	private static long[] fromString(long[] elements, FieldType fieldType, FieldFormat format, String[] strings) {
-		for (int i = 0; i < strings.length; i++) {
-			elements[i] = (Long) fromString(fieldType, format, strings[i]);
+	/**
+	 * Parses timestamps of the form <code>yyyy-MM-ddTHH:mm:ss[.S+]Z</code>
+	 * or with an explicit time zone offset <code>+HH:mm</code> into
+	 * microseconds since the epoch.
+	 * 
+	 * @return the microseconds or {@link Long#MIN_VALUE} if the timestamp
+	 *         must be parsed by the generic implementation
+	 */
+	private static long parseTimestamp(String s) {
+		int length = s.length();
+		if (length < 20 || s.charAt(4) != '-' || s.charAt(7) != '-' || s.charAt(10) != 'T' || s.charAt(13) != ':'
+				|| s.charAt(16) != ':') {
+			return Long.MIN_VALUE;
+		}
+		int year = parseDigits(s, 0, 4), month = parseDigits(s, 5, 2), day = parseDigits(s, 8, 2);
+		int hour = parseDigits(s, 11, 2), minute = parseDigits(s, 14, 2), second = parseDigits(s, 17, 2);
+		if (year < 1600 || month < 1 || month > 12 || day < 1 || day > daysOfMonth(year, month) || hour < 0
+				|| hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+			return Long.MIN_VALUE;
+		}
+		int pos = 19;
+		long fraction = 0;
+		if (s.charAt(pos) == '.') {
+			int digits = 0;
+			pos++;
+			while (pos < length && s.charAt(pos) >= '0' && s.charAt(pos) <= '9') {
+				// digits behind microseconds are truncated
+				if (digits++ < 6) {
+					fraction = fraction * 10 + s.charAt(pos) - '0';
+				}
+				pos++;
+			}
+			if (digits == 0) {
+				return Long.MIN_VALUE;
+			}
+			for (; digits < 6; digits++) {
+				fraction *= 10;
+			}
+		}
+		int offset;
+		if (pos == length - 1 && s.charAt(pos) == 'Z') {
+			offset = 0;
+		} else if (pos == length - 6 && (s.charAt(pos) == '+' || s.charAt(pos) == '-') && s.charAt(pos + 3) == ':') {
+			int offsetHours = parseDigits(s, pos + 1, 2), offsetMinutes = parseDigits(s, pos + 4, 2);
+			if (offsetHours < 0 || offsetMinutes < 0 || offsetMinutes > 59 || offsetHours * 60 + offsetMinutes > 14 * 60) {
+				return Long.MIN_VALUE;
+			}
+			offset = (offsetHours * 60 + offsetMinutes) * 60;
+			if (s.charAt(pos) == '-') {
+				offset = -offset;
+			}
+		} else {
+			// local time or invalid
+			return Long.MIN_VALUE;
 		}
-		return elements;
+
+		// days since the epoch from civil date, see
+		// http://howardhinnant.github.io/date_algorithms.html#days_from_civil
+		int y = month <= 2 ? year - 1 : year;
+		int era = y / 400;
+		int yearOfEra = y - era * 400;
+		int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+		int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		long days = era * 146097L + dayOfEra - 719468;
+
+		long seconds = days * 86400 + hour * 3600 + minute * 60 + second - offset;
+		return seconds * 1000000 + fraction;
 	}
 
-	private static BigInteger[] fromString(BigInteger[] elements, FieldType fieldType, FieldFormat format,
-			String[] strings) {
-		for (int i = 0; i < strings.length; i++) {
-			elements[i] = (BigInteger) fromString(fieldType, format, strings[i]);
+	private static int daysOfMonth(int year, int month) {
+		switch (month) {
+		case 2:
+			return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ? 29 : 28;
+		case 4:
+		case 6:
+		case 9:
+		case 11:
+			return 30;
+		default:
+			return 31;
 		}
-		return elements;
 	}
 
 	final protected static char[] hexArray = "0123456789ABCDEF".toCharArray();
+	final private static char[] lowerHexArray = "0123456789abcdef".toCharArray();
 
 	public static String bytesToHex(byte[] bytes) {
 		char[] hexChars = new char[bytes.length * 2];
@@ -259,13 +506,13 @@ public class XmlTypes {
 	}
 
 	public static byte[] hexStringToByteArray(String s) {
-		if ((s.length() % 2) != 0) {
-			s = "0" + s;
-		}
 		int len = s.length();
-		byte[] data = new byte[len / 2];
-		for (int i = 0; i < len; i += 2) {
-			data[i / 2] = (byte) ((Character.digit(s.charAt(i), 16) << 4) + Character.digit(s.charAt(i + 1), 16));
+		// an odd number of digits is padded with a leading zero
+		int pad = len % 2;
+		byte[] data = new byte[(len + pad) / 2];
+		for (int i = 0; i < data.length; i++) {
+			int high = i == 0 && pad == 1 ? 0 : Character.digit(s.charAt(2 * i - pad), 16);
+			data[i] = (byte) ((high << 4) + Character.digit(s.charAt(2 * i + 1 - pad), 16));
 		}
 		return data;
 	}
@@ -0,0 +1,367 @@
+package net.enilink.llrp4j.view;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.llrp.ltk.schema.core.FieldType;
+
+import net.enilink.llrp4j.LlrpException;
+import net.enilink.llrp4j.types.BitList;
+
+/**
+ * Base class of flyweight views that read the fields and parameters of
+ * messages or parameters directly from the binary encoding within a
+ * {@link ByteBuffer}.
+ * <p>
+ * A view does not copy any data and can be re-pointed to other positions or
+ * buffers by calling <code>wrap</code>. The offsets of variable length fields
+ * and of contained parameters are computed lazily once for each position.
+ * Views are not thread-safe.
+ */
+public abstract class LlrpView {
+	private static final FieldType[] FIELD_TYPES = FieldType.values();
+
+	protected static final int[] NO_FIELDS = new int[0];
+
+	/**
+	 * Encodes the layout of a field for the field table of a view.
+	 */
+	protected static int field(FieldType type, int reservedBefore, int reservedAfter) {
+		return type.ordinal() << 16 | reservedBefore << 8 | reservedAfter;
+	}
+
+	protected final int[] tvLengths;
+	protected final int[] fields;
+	protected final int reservedBits;
+	private final int[] fieldOffsets;
+
+	protected ByteBuffer buffer;
+	protected int offset;
+	protected int length;
+	protected int contentOffset;
+
+	private boolean fieldsResolved;
+	private int parametersOffset;
+	private int parameterCount = -1;
+	private int[] parameterTypes = new int[4];
+	private int[] parameterOffsets = new int[4];
+
+	/**
+	 * Creates a view.
+	 *
+	 * @param tvLengths
+	 *            lengths of TV parameters in bytes indexed by their type
+	 *            number
+	 * @param fields
+	 *            the field table of this view
+	 * @param reservedBits
+	 *            number of reserved bits that are not covered by the field
+	 *            table
+	 */
+	protected LlrpView(int[] tvLengths, int[] fields, int reservedBits) {
+		this.tvLengths = tvLengths;
+		this.fields = fields;
+		this.reservedBits = reservedBits;
+		this.fieldOffsets = new int[fields.length];
+	}
+
+	/**
+	 * Points this view to a new position.
+	 *
+	 * @param buffer
+	 *            the buffer
+	 * @param offset
+	 *            offset of the header in bytes
+	 * @param length
+	 *            the total length in bytes
+	 * @param contentOffset
+	 *            offset of the first field in bits
+	 */
+	protected void point(ByteBuffer buffer, int offset, int length, int contentOffset) {
+		this.buffer = buffer;
+		this.offset = offset;
+		this.length = length;
+		this.contentOffset = contentOffset;
+		this.fieldsResolved = false;
+		this.parameterCount = -1;
+	}
+
+	public ByteBuffer getBuffer() {
+		return buffer;
+	}
+
+	/**
+	 * Returns the offset of this view within its buffer in bytes.
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Returns the total length of the viewed message or parameter in bytes.
+	 */
+	public int getLength() {
+		return length;
+	}
+
+	protected long readBits(int bitOffset, int width) {
+		long value = 0;
+		if ((bitOffset & 7) == 0 && (width & 7) == 0) {
+			int index = bitOffset >>> 3;
+			for (int i = 0; i < width; i += 8) {
+				value = value << 8 | buffer.get(index++) & 0xFF;
+			}
+		} else {
+			for (int i = 0; i < width; i++) {
+				int bit = bitOffset + i;
+				value = value << 1 | (buffer.get(bit >>> 3) >>> (7 - (bit & 7))) & 1;
+			}
+		}
+		return value;
+	}
+
+	private int fieldBits(FieldType type, int bitOffset) {
+		switch (type) {
+		case U_1:
+			return 1;
+		case U_2:
+			return 2;
+		case U_8:
+		case S_8:
+			return 8;
+		case U_16:
+		case S_16:
+			return 16;
+		case U_32:
+		case S_32:
+			return 32;
+		case U_64:
+		case S_64:
+			return 64;
+		case U_96:
+			return 96;
+		case U_1_V:
+			return 16 + ((int) readBits(bitOffset, 16) + 7) / 8 * 8;
+		case U_8_V:
+		case S_8_V:
+		case UTF_8_V:
+			return 16 + (int) readBits(bitOffset, 16) * 8;
+		case U_16_V:
+		case S_16_V:
+			return 16 + (int) readBits(bitOffset, 16) * 16;
+		case U_32_V:
+		case S_32_V:
+			return 16 + (int) readBits(bitOffset, 16) * 32;
+		case U_64_V:
+		case S_64_V:
+			return 16 + (int) readBits(bitOffset, 16) * 64;
+		case BYTES_TO_END:
+			return (offset + length) * 8 - bitOffset;
+		}
+		throw new IllegalArgumentException("Unknown type " + type);
+	}
+
+	private void resolveFields() {
+		int pos = contentOffset + reservedBits;
+		for (int i = 0; i < fields.length; i++) {
+			int field = fields[i];
+			pos += field >>> 8 & 0xFF;
+			fieldOffsets[i] = pos;
+			pos += fieldBits(FIELD_TYPES[field >>> 16], pos);
+			pos += field & 0xFF;
+		}
+		parametersOffset = (pos + 7) >>> 3;
+		fieldsResolved = true;
+	}
+
+	/**
+	 * Returns the offset of a field in bits.
+	 */
+	protected int fieldOffset(int field) {
+		if (!fieldsResolved) {
+			resolveFields();
+		}
+		return fieldOffsets[field];
+	}
+
+	protected boolean getBit(int field) {
+		return readBits(fieldOffset(field), 1) != 0;
+	}
+
+	protected int getUnsigned(int field, int width) {
+		return (int) readBits(fieldOffset(field), width);
+	}
+
+	protected int getSigned(int field, int width) {
+		return (int) (readBits(fieldOffset(field), width) << (64 - width) >> (64 - width));
+	}
+
+	protected long getLong(int field, int width) {
+		return readBits(fieldOffset(field), width);
+	}
+
+	protected BigInteger getBigInteger(int field, int width) {
+		byte[] bytes = new byte[width / 8];
+		copyBytes(fieldOffset(field), bytes);
+		return new BigInteger(1, bytes);
+	}
+
+	/**
+	 * Copies the bytes of a fixed length field into the given array.
+	 */
+	protected void copyBytes(int field, int width, byte[] target) {
+		if (target.length < width / 8) {
+			throw new IllegalArgumentException("Target array is too small.");
+		}
+		copyBytes(fieldOffset(field), target);
+	}
+
+	private void copyBytes(int bitOffset, byte[] target) {
+		int index = bitOffset >>> 3;
+		for (int i = 0; i < target.length; i++) {
+			target[i] = (bitOffset & 7) == 0 ? buffer.get(index + i) : (byte) readBits(bitOffset + i * 8, 8);
+		}
+	}
+
+	/**
+	 * Returns the number of elements of a vector field.
+	 */
+	protected int getCount(int field) {
+		return (int) readBits(fieldOffset(field), 16);
+	}
+
+	protected long getElement(int field, int index, int width) {
+		return readBits(fieldOffset(field) + 16 + index * width, width);
+	}
+
+	protected long getSignedElement(int field, int index, int width) {
+		return readBits(fieldOffset(field) + 16 + index * width, width) << (64 - width) >> (64 - width);
+	}
+
+	protected String getString(int field) {
+		byte[] bytes = new byte[getCount(field)];
+		copyBytes(fieldOffset(field) + 16, bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	protected BitList getBits(int field) {
+		int count = getCount(field);
+		int pos = fieldOffset(field) + 16;
+		BitList bits = new BitList(count);
+		for (int i = 0; i < count; i++) {
+			bits.set(i, readBits(pos + i, 1) != 0);
+		}
+		return bits;
+	}
+
+	protected byte[] getBytes(int field) {
+		int pos = fieldOffset(field);
+		byte[] bytes = new byte[((offset + length) * 8 - pos) / 8];
+		copyBytes(pos, bytes);
+		return bytes;
+	}
+
+	private void scanParameters() {
+		if (!fieldsResolved) {
+			resolveFields();
+		}
+		int count = 0;
+		int pos = parametersOffset;
+		int end = offset + length;
+		while (pos < end) {
+			int first = buffer.get(pos) & 0xFF;
+			int typeNum, parameterLength;
+			if ((first & 0x80) != 0) {
+				typeNum = first & 0x7F;
+				parameterLength = tvLengths[typeNum];
+				if (parameterLength <= 0) {
+					throw new LlrpException("Unknown parameter with type=" + typeNum);
+				}
+			} else {
+				typeNum = (first & 0x03) << 8 | buffer.get(pos + 1) & 0xFF;
+				parameterLength = (buffer.get(pos + 2) & 0xFF) << 8 | buffer.get(pos + 3) & 0xFF;
+				if (parameterLength < 4) {
+					throw new LlrpException("Invalid length " + parameterLength + " of parameter with type=" + typeNum);
+				}
+			}
+			if (count == parameterTypes.length) {
+				parameterTypes = Arrays.copyOf(parameterTypes, count * 2);
+				parameterOffsets = Arrays.copyOf(parameterOffsets, count * 2);
+			}
+			parameterTypes[count] = typeNum;
+			parameterOffsets[count] = pos;
+			count++;
+			pos += parameterLength;
+		}
+		parameterCount = count;
+	}
+
+	/**
+	 * Returns the number of parameters that are directly contained in the
+	 * viewed message or parameter.
+	 */
+	public int getParameterCount() {
+		if (parameterCount < 0) {
+			scanParameters();
+		}
+		return parameterCount;
+	}
+
+	/**
+	 * Returns the type number of the contained parameter at the given index.
+	 */
+	public int getParameterType(int index) {
+		if (parameterCount < 0) {
+			scanParameters();
+		}
+		return parameterTypes[index];
+	}
+
+	/**
+	 * Points the given view to the contained parameter at the given index.
+	 */
+	public <V extends ParameterView> V getParameter(int index, V view) {
+		if (parameterCount < 0) {
+			scanParameters();
+		}
+		view.wrap(buffer, parameterOffsets[index]);
+		return view;
+	}
+
+	protected int countParameters(int... typeNums) {
+		int count = 0;
+		for (int i = 0, n = getParameterCount(); i < n; i++) {
+			if (contains(typeNums, parameterTypes[i])) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Points the given view to the n-th contained parameter with one of the
+	 * given type numbers.
+	 *
+	 * @return the view or <code>null</code> if no such parameter exists
+	 */
+	protected <V extends ParameterView> V findParameter(V view, int index, int... typeNums) {
+		for (int i = 0, n = getParameterCount(); i < n; i++) {
+			if (contains(typeNums, parameterTypes[i]) && index-- == 0) {
+				view.wrap(buffer, parameterOffsets[i]);
+				return view;
+			}
+		}
+		return null;
+	}
+
+	private static boolean contains(int[] values, int value) {
+		for (int v : values) {
+			if (v == value) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,58 @@
+package net.enilink.llrp4j.view;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Base class of generated message views.
+ */
+public abstract class MessageView extends LlrpView {
+	private final boolean custom;
+	private int typeNum;
+	private long messageID;
+
+	/**
+	 * Creates a message view.
+	 *
+	 * @param tvLengths
+	 *            lengths of TV parameters in bytes indexed by their type
+	 *            number
+	 * @param fields
+	 *            the field table of this view
+	 * @param reservedBits
+	 *            number of reserved bits that are not covered by the field
+	 *            table
+	 * @param custom
+	 *            <code>true</code> if the fields are preceded by the vendor
+	 *            identifier and subtype of a custom message
+	 */
+	protected MessageView(int[] tvLengths, int[] fields, int reservedBits, boolean custom) {
+		super(tvLengths, fields, reservedBits);
+		this.custom = custom;
+	}
+
+	/**
+	 * Points this view to the message at the given offset.
+	 *
+	 * @param buffer
+	 *            the buffer
+	 * @param offset
+	 *            the offset of the message in bytes
+	 * @return this view
+	 */
+	public MessageView wrap(ByteBuffer buffer, int offset) {
+		this.buffer = buffer;
+		typeNum = (int) readBits(offset * 8 + 6, 10);
+		int length = (int) readBits((offset + 2) * 8, 32);
+		messageID = readBits((offset + 6) * 8, 32);
+		point(buffer, offset, length, (offset + (custom ? 15 : 10)) * 8);
+		return this;
+	}
+
+	public int getTypeNum() {
+		return typeNum;
+	}
+
+	public long getMessageID() {
+		return messageID;
+	}
+}
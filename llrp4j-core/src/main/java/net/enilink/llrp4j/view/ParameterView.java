@@ -0,0 +1,73 @@
+package net.enilink.llrp4j.view;
+
+import java.nio.ByteBuffer;
+
+/**
+ * View of a TV or TLV encoded parameter.
+ * <p>
+ * Instances of this class can be used to inspect the type and length of
+ * arbitrary parameters. Generated subclasses additionally provide accessors
+ * for the fields and parameters of specific parameter types.
+ */
+public class ParameterView extends LlrpView {
+	private final boolean customHeader;
+	private int typeNum;
+
+	public ParameterView(int[] tvLengths) {
+		this(tvLengths, NO_FIELDS, 0, false);
+	}
+
+	/**
+	 * Creates a parameter view.
+	 *
+	 * @param tvLengths
+	 *            lengths of TV parameters in bytes indexed by their type
+	 *            number
+	 * @param fields
+	 *            the field table of this view
+	 * @param reservedBits
+	 *            number of reserved bits that are not covered by the field
+	 *            table
+	 * @param customHeader
+	 *            <code>true</code> if the fields are preceded by the vendor
+	 *            identifier and subtype of a custom parameter
+	 */
+	protected ParameterView(int[] tvLengths, int[] fields, int reservedBits, boolean customHeader) {
+		super(tvLengths, fields, reservedBits);
+		this.customHeader = customHeader;
+	}
+
+	/**
+	 * Points this view to the parameter at the given offset.
+	 *
+	 * @param buffer
+	 *            the buffer
+	 * @param offset
+	 *            the offset of the parameter in bytes
+	 * @return this view
+	 */
+	public ParameterView wrap(ByteBuffer buffer, int offset) {
+		int first = buffer.get(offset) & 0xFF;
+		if ((first & 0x80) != 0) {
+			typeNum = first & 0x7F;
+			point(buffer, offset, tvLengths[typeNum], (offset + 1) * 8);
+		} else {
+			typeNum = (first & 0x03) << 8 | buffer.get(offset + 1) & 0xFF;
+			int length = (buffer.get(offset + 2) & 0xFF) << 8 | buffer.get(offset + 3) & 0xFF;
+			point(buffer, offset, length, (offset + (customHeader ? 12 : 4)) * 8);
+		}
+		return this;
+	}
+
+	public int getTypeNum() {
+		return typeNum;
+	}
+
+	/**
+	 * Points the given view to the same parameter as this view.
+	 */
+	public <V extends ParameterView> V as(V view) {
+		view.wrap(buffer, offset);
+		return view;
+	}
+}
@@ -1,7 +1,7 @@
 package net.enilink.llrp4j.xml;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
-import java.util.Stack;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
@@ -13,7 +13,7 @@ import javax.xml.stream.XMLStreamReader;
  * This is an abstract implementation for a StAX-based XML parser.
  */
 public abstract class AbstractXMLParser {
-	private Stack<QName> context = new Stack<QName>();
+	private final ArrayDeque<QName> context = new ArrayDeque<QName>();
 	protected XMLStreamReader reader;
 	private boolean useCurrentAsNext;
 
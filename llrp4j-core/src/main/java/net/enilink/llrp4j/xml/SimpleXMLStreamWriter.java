@@ -0,0 +1,468 @@
+package net.enilink.llrp4j.xml;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.namespace.NamespaceContext;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+/**
+ * A minimal {@link XMLStreamWriter} for data-oriented documents like those of
+ * the LTK XML encoding.
+ * <p>
+ * Namespace prefixes are bound globally for the whole document by
+ * {@link #setPrefix(String, String)} and {@link #setDefaultNamespace(String)}
+ * instead of per element scope. Elements contain either character data or
+ * other elements. The output is collected in a reusable character buffer and
+ * can optionally be indented in the same way as by
+ * {@link IndentingXMLStreamWriter}. Instances of this class are not
+ * thread-safe.
+ */
+public class SimpleXMLStreamWriter implements XMLStreamWriter {
+	protected final Writer out;
+	protected final boolean indent;
+
+	private final char[] buffer = new char[8192];
+	private int pos;
+
+	private final Map<String, String> prefixes = new HashMap<>();
+	private String[] elements = new String[16];
+	// bits of the current scope: 1 = markup was written, 2 = data was written
+	private int[] written = new int[17];
+	private int depth;
+	private boolean startTagOpen;
+
+	private NamespaceContext namespaceContext;
+
+	/**
+	 * Creates a writer for the given character stream.
+	 *
+	 * @param out
+	 *            the target stream
+	 * @param indent
+	 *            <code>true</code> if nested elements should be indented
+	 */
+	public SimpleXMLStreamWriter(Writer out, boolean indent) {
+		this.out = out;
+		this.indent = indent;
+	}
+
+	/**
+	 * Creates a writer that encodes the document as UTF-8.
+	 *
+	 * @param out
+	 *            the target stream
+	 * @param indent
+	 *            <code>true</code> if nested elements should be indented
+	 */
+	public SimpleXMLStreamWriter(OutputStream out, boolean indent) {
+		this(new OutputStreamWriter(out, StandardCharsets.UTF_8), indent);
+	}
+
+	/**
+	 * Returns <code>true</code> if this writer indents nested elements.
+	 */
+	public boolean isIndenting() {
+		return indent;
+	}
+
+	private void write(char c) throws XMLStreamException {
+		if (pos == buffer.length) {
+			flushBuffer();
+		}
+		buffer[pos++] = c;
+	}
+
+	private void write(String s) throws XMLStreamException {
+		int length = s.length();
+		if (pos + length > buffer.length) {
+			flushBuffer();
+			if (length > buffer.length) {
+				try {
+					out.write(s);
+				} catch (IOException e) {
+					throw new XMLStreamException(e);
+				}
+				return;
+			}
+		}
+		s.getChars(0, length, buffer, pos);
+		pos += length;
+	}
+
+	private void writeEscaped(char[] text, int start, int len, boolean attribute) throws XMLStreamException {
+		for (int i = start; i < start + len; i++) {
+			char c = text[i];
+			switch (c) {
+			case '<':
+				write("&lt;");
+				break;
+			case '>':
+				write("&gt;");
+				break;
+			case '&':
+				write("&amp;");
+				break;
+			case '"':
+				if (attribute) {
+					write("&quot;");
+				} else {
+					write(c);
+				}
+				break;
+			default:
+				write(c);
+			}
+		}
+	}
+
+	private void writeEscaped(String text, boolean attribute) throws XMLStreamException {
+		int length = text.length();
+		int i = 0;
+		while (i < length) {
+			char c = text.charAt(i);
+			if (c == '<' || c == '>' || c == '&' || attribute && c == '"') {
+				break;
+			}
+			i++;
+		}
+		if (i == length) {
+			// nothing to escape
+			write(text);
+		} else {
+			char[] chars = text.toCharArray();
+			writeEscaped(chars, 0, chars.length, attribute);
+		}
+	}
+
+	private void flushBuffer() throws XMLStreamException {
+		try {
+			out.write(buffer, 0, pos);
+		} catch (IOException e) {
+			throw new XMLStreamException(e);
+		}
+		pos = 0;
+	}
+
+	private void closeStartTag() throws XMLStreamException {
+		if (startTagOpen) {
+			write('>');
+			startTagOpen = false;
+		}
+	}
+
+	private void newLine(int indentation) throws XMLStreamException {
+		write('\n');
+		for (int i = 0; i < indentation; i++) {
+			write("  ");
+		}
+	}
+
+	private String qualifiedName(String namespaceURI, String localName) throws XMLStreamException {
+		String prefix = getPrefix(namespaceURI);
+		if (prefix == null) {
+			throw new XMLStreamException("Namespace is not bound to a prefix: " + namespaceURI);
+		}
+		return prefix.isEmpty() ? localName : prefix + ":" + localName;
+	}
+
+	@Override
+	public void writeStartElement(String localName) throws XMLStreamException {
+		startElement(localName);
+	}
+
+	@Override
+	public void writeStartElement(String namespaceURI, String localName) throws XMLStreamException {
+		startElement(qualifiedName(namespaceURI, localName));
+	}
+
+	@Override
+	public void writeStartElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+		startElement(prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName);
+	}
+
+	/**
+	 * Prepares to write markup by closing an open start tag and writing a new
+	 * line and indentation if required.
+	 */
+	private void beforeMarkup() throws XMLStreamException {
+		closeStartTag();
+		if (indent && (written[depth] & 2) == 0 && (depth > 0 || written[depth] != 0)) {
+			newLine(depth);
+		}
+		written[depth] |= 1;
+	}
+
+	private void startElement(String name) throws XMLStreamException {
+		beforeMarkup();
+		if (depth == elements.length) {
+			elements = Arrays.copyOf(elements, depth * 2);
+			written = Arrays.copyOf(written, depth * 2 + 1);
+		}
+		elements[depth++] = name;
+		written[depth] = 0;
+		write('<');
+		write(name);
+		startTagOpen = true;
+	}
+
+	@Override
+	public void writeEmptyElement(String namespaceURI, String localName) throws XMLStreamException {
+		writeStartElement(namespaceURI, localName);
+		writeEndElement();
+	}
+
+	@Override
+	public void writeEmptyElement(String prefix, String localName, String namespaceURI) throws XMLStreamException {
+		writeStartElement(prefix, localName, namespaceURI);
+		writeEndElement();
+	}
+
+	@Override
+	public void writeEmptyElement(String localName) throws XMLStreamException {
+		writeStartElement(localName);
+		writeEndElement();
+	}
+
+	@Override
+	public void writeEndElement() throws XMLStreamException {
+		if (depth == 0) {
+			throw new XMLStreamException("No element to close.");
+		}
+		closeStartTag();
+		if (indent && written[depth] == 1) {
+			newLine(depth - 1);
+		}
+		String name = elements[--depth];
+		elements[depth] = null;
+		write("</");
+		write(name);
+		write('>');
+	}
+
+	@Override
+	public void writeEndDocument() throws XMLStreamException {
+		while (depth > 0) {
+			writeEndElement();
+		}
+		if (indent && written[0] == 1) {
+			write('\n');
+		}
+		written[0] = 0;
+	}
+
+	@Override
+	public void close() throws XMLStreamException {
+		flush();
+	}
+
+	@Override
+	public void flush() throws XMLStreamException {
+		flushBuffer();
+		try {
+			out.flush();
+		} catch (IOException e) {
+			throw new XMLStreamException(e);
+		}
+	}
+
+	@Override
+	public void writeAttribute(String localName, String value) throws XMLStreamException {
+		attribute(localName, value);
+	}
+
+	@Override
+	public void writeAttribute(String prefix, String namespaceURI, String localName, String value)
+			throws XMLStreamException {
+		attribute(prefix == null || prefix.isEmpty() ? localName : prefix + ":" + localName, value);
+	}
+
+	@Override
+	public void writeAttribute(String namespaceURI, String localName, String value) throws XMLStreamException {
+		String prefix = getPrefix(namespaceURI);
+		if (prefix == null) {
+			throw new XMLStreamException("Namespace is not bound to a prefix: " + namespaceURI);
+		}
+		attribute(prefix.isEmpty() ? localName : prefix + ":" + localName, value);
+	}
+
+	private void attribute(String name, String value) throws XMLStreamException {
+		if (!startTagOpen) {
+			throw new XMLStreamException("Attributes must be written directly after a start tag.");
+		}
+		write(' ');
+		write(name);
+		write("=\"");
+		writeEscaped(value, true);
+		write('"');
+	}
+
+	@Override
+	public void writeNamespace(String prefix, String namespaceURI) throws XMLStreamException {
+		if (prefix == null || prefix.isEmpty() || XMLConstants.XMLNS_ATTRIBUTE.equals(prefix)) {
+			writeDefaultNamespace(namespaceURI);
+		} else {
+			attribute("xmlns:" + prefix, namespaceURI);
+		}
+	}
+
+	@Override
+	public void writeDefaultNamespace(String namespaceURI) throws XMLStreamException {
+		attribute(XMLConstants.XMLNS_ATTRIBUTE, namespaceURI);
+	}
+
+	@Override
+	public void writeComment(String data) throws XMLStreamException {
+		beforeMarkup();
+		write("<!--");
+		write(data);
+		write("-->");
+	}
+
+	@Override
+	public void writeProcessingInstruction(String target) throws XMLStreamException {
+		writeProcessingInstruction(target, null);
+	}
+
+	@Override
+	public void writeProcessingInstruction(String target, String data) throws XMLStreamException {
+		beforeMarkup();
+		write("<?");
+		write(target);
+		if (data != null) {
+			write(' ');
+			write(data);
+		}
+		write("?>");
+	}
+
+	@Override
+	public void writeCData(String data) throws XMLStreamException {
+		closeStartTag();
+		write("<![CDATA[");
+		write(data);
+		write("]]>");
+		written[depth] |= 2;
+	}
+
+	@Override
+	public void writeDTD(String dtd) throws XMLStreamException {
+		beforeMarkup();
+		write(dtd);
+	}
+
+	@Override
+	public void writeEntityRef(String name) throws XMLStreamException {
+		closeStartTag();
+		write('&');
+		write(name);
+		write(';');
+		written[depth] |= 2;
+	}
+
+	@Override
+	public void writeStartDocument() throws XMLStreamException {
+		writeStartDocument("1.0");
+	}
+
+	@Override
+	public void writeStartDocument(String version) throws XMLStreamException {
+		beforeMarkup();
+		write("<?xml version=\"");
+		write(version);
+		write("\"?>");
+	}
+
+	@Override
+	public void writeStartDocument(String encoding, String version) throws XMLStreamException {
+		beforeMarkup();
+		write("<?xml version=\"");
+		write(version);
+		write("\" encoding=\"");
+		write(encoding);
+		write("\"?>");
+	}
+
+	@Override
+	public void writeCharacters(String text) throws XMLStreamException {
+		closeStartTag();
+		writeEscaped(text, false);
+		written[depth] |= 2;
+	}
+
+	@Override
+	public void writeCharacters(char[] text, int start, int len) throws XMLStreamException {
+		closeStartTag();
+		writeEscaped(text, start, len, false);
+		written[depth] |= 2;
+	}
+
+	@Override
+	public String getPrefix(String uri) throws XMLStreamException {
+		String prefix = prefixes.get(uri);
+		if (prefix == null && namespaceContext != null) {
+			prefix = namespaceContext.getPrefix(uri);
+		}
+		return prefix;
+	}
+
+	@Override
+	public void setPrefix(String prefix, String uri) throws XMLStreamException {
+		prefixes.put(uri, prefix);
+	}
+
+	@Override
+	public void setDefaultNamespace(String uri) throws XMLStreamException {
+		prefixes.put(uri, XMLConstants.DEFAULT_NS_PREFIX);
+	}
+
+	@Override
+	public void setNamespaceContext(NamespaceContext context) throws XMLStreamException {
+		this.namespaceContext = context;
+	}
+
+	@Override
+	public NamespaceContext getNamespaceContext() {
+		return new NamespaceContext() {
+			@Override
+			public String getNamespaceURI(String prefix) {
+				for (Map.Entry<String, String> entry : prefixes.entrySet()) {
+					if (entry.getValue().equals(prefix)) {
+						return entry.getKey();
+					}
+				}
+				return namespaceContext != null ? namespaceContext.getNamespaceURI(prefix) : null;
+			}
+
+			@Override
+			public String getPrefix(String namespaceURI) {
+				try {
+					return SimpleXMLStreamWriter.this.getPrefix(namespaceURI);
+				} catch (XMLStreamException e) {
+					return null;
+				}
+			}
+
+			@Override
+			public Iterator<?> getPrefixes(String namespaceURI) {
+				String prefix = getPrefix(namespaceURI);
+				return prefix == null ? Collections.emptyIterator() : Collections.singleton(prefix).iterator();
+			}
+		};
+	}
+
+	@Override
+	public Object getProperty(String name) throws IllegalArgumentException {
+		throw new IllegalArgumentException("Unsupported property: " + name);
+	}
+}
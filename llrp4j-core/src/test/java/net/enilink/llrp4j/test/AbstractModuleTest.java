@@ -20,9 +20,12 @@ import net.enilink.llrp4j.BinaryDecoder;
 import net.enilink.llrp4j.BinaryEncoder;
 import net.enilink.llrp4j.LlrpContext;
 import net.enilink.llrp4j.Module;
+import net.enilink.llrp4j.WarmUpResult;
 import net.enilink.llrp4j.XmlDecoder;
 import net.enilink.llrp4j.XmlEncoder;
 import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.json.JsonReader;
+import net.enilink.llrp4j.json.JsonWriter;
 import net.enilink.llrp4j.types.LlrpMessage;
 import net.enilink.llrp4j.xml.IndentingXMLStreamWriter;
 
@@ -64,9 +67,30 @@ public abstract class AbstractModuleTest {
 			} catch (Exception e) {
 				throw new AssertionError("XML encoding test failed.", e);
 			}
+
+			try {
+				testTranscoding(ctx, msg);
+			} catch (Exception e) {
+				throw new AssertionError("Transcoding test failed.", e);
+			}
+
+			try {
+				testJsonEncoding(ctx, msg);
+			} catch (Exception e) {
+				throw new AssertionError("JSON encoding test failed.", e);
+			}
 		}
 	}
 
+	@Test
+	public void testWarmUp() throws Exception {
+		LlrpContext ctx = LlrpContext.create(combined);
+		WarmUpResult result = ctx.warmUp(2);
+		Assert.assertEquals(0, result.failures());
+		Assert.assertTrue(result.messageTypes() > 0);
+		Assert.assertTrue(result.durationMillis() >= 0);
+	}
+
 	protected void testBinaryEncoding(LlrpContext ctx, LlrpMessage msg) throws Exception {
 		BinaryEncoder encoder = ctx.createBinaryEncoder();
 
@@ -95,6 +119,53 @@ public abstract class AbstractModuleTest {
 			throw e;
 		}
 		Assert.assertEquals("Encoding an XML message should always produce the same result.", xml, toXml(ctx, msg2));
+
+		StringWriter sw = new StringWriter();
+		ctx.createXmlEncoder(true).encodeMessage(msg, sw);
+		Assert.assertEquals("The built-in writer should produce the same XML as StAX.", xml, sw.toString());
+	}
+
+	protected void testTranscoding(LlrpContext ctx, LlrpMessage msg) throws Exception {
+		BitBuffer buffer = BitBuffer.allocateDynamic();
+		ctx.createBinaryEncoder().encodeMessage(msg, buffer);
+		byte[] bytes = buffer.asByteArray();
+		LlrpMessage decoded = ctx.createBinaryDecoder().decodeMessage(BitBuffer.wrap(bytes));
+
+		StringWriter sw = new StringWriter();
+		XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(sw);
+		ctx.createBinaryToXmlTranscoder().transcode(BitBuffer.wrap(bytes), new IndentingXMLStreamWriter(writer));
+		Assert.assertEquals("Transcoded XML should be the same as the encoded message.", toXml(ctx, decoded),
+				sw.toString());
+
+		// XML to binary must match the encoding of the decoded XML message
+		String xml = sw.toString();
+		LlrpMessage fromXml = ctx.createXmlDecoder()
+				.decodeMessage(XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml)));
+		BitBuffer expected = BitBuffer.allocateDynamic();
+		ctx.createBinaryEncoder().encodeMessage(fromXml, expected);
+		BitBuffer transcoded = BitBuffer.allocateDynamic();
+		ctx.createXmlToBinaryTranscoder()
+				.transcode(XMLInputFactory.newInstance().createXMLStreamReader(new StringReader(xml)), transcoded);
+		Assert.assertArrayEquals("Transcoded binary should be the same as the encoded XML message.",
+				expected.asByteArray(), transcoded.asByteArray());
+	}
+
+	protected void testJsonEncoding(LlrpContext ctx, LlrpMessage msg) throws Exception {
+		String json = toJson(ctx, msg);
+		LlrpMessage msg2 = ctx.createJsonDecoder().decodeMessage(new JsonReader(new StringReader(json)));
+		Assert.assertEquals("Decoded JSON message should be the same as the original message.", msg, msg2);
+
+		BitBuffer buffer = BitBuffer.allocateDynamic();
+		ctx.createBinaryEncoder().encodeMessage(msg, buffer);
+		StringWriter sw = new StringWriter();
+		ctx.createBinaryToJsonTranscoder().transcode(BitBuffer.wrap(buffer.asByteArray()), new JsonWriter(sw));
+		Assert.assertEquals("Transcoded JSON should be the same as the encoded message.", json, sw.toString());
+	}
+
+	protected String toJson(LlrpContext ctx, LlrpMessage msg) throws Exception {
+		StringWriter sw = new StringWriter();
+		ctx.createJsonEncoder().encodeMessage(msg, new JsonWriter(sw));
+		return sw.toString();
 	}
 
 	protected String toXml(LlrpContext ctx, LlrpMessage msg) throws Exception {
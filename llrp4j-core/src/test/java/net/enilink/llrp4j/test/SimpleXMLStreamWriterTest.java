@@ -0,0 +1,78 @@
+package net.enilink.llrp4j.test;
+
+import java.io.StringWriter;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.enilink.llrp4j.xml.IndentingXMLStreamWriter;
+import net.enilink.llrp4j.xml.SimpleXMLStreamWriter;
+
+public class SimpleXMLStreamWriterTest {
+	static final String NS = "http://example.org/ns";
+	static final String OTHER_NS = "http://example.org/other";
+
+	void write(XMLStreamWriter writer) throws XMLStreamException {
+		writer.writeStartDocument("1.0");
+		writer.setDefaultNamespace(NS);
+		writer.setPrefix("o", OTHER_NS);
+		writer.writeStartElement(NS, "Root");
+		writer.writeDefaultNamespace(NS);
+		writer.writeNamespace("o", OTHER_NS);
+		writer.writeStartElement(NS, "Text");
+		writer.writeCharacters("a < b & c > \"d\"");
+		writer.writeEndElement();
+		writer.writeStartElement(OTHER_NS, "Nested");
+		writer.writeStartElement(NS, "Empty");
+		writer.writeEndElement();
+		char[] chars = "x1234y".toCharArray();
+		writer.writeStartElement(OTHER_NS, "Chars");
+		writer.writeCharacters(chars, 1, 4);
+		writer.writeEndElement();
+		writer.writeEndElement();
+		writer.writeEndElement();
+		writer.writeEndDocument();
+		writer.flush();
+	}
+
+	@Test
+	public void testSameAsStax() throws Exception {
+		for (boolean indent : new boolean[] { false, true }) {
+			StringWriter expected = new StringWriter();
+			XMLStreamWriter stax = XMLOutputFactory.newInstance().createXMLStreamWriter(expected);
+			write(indent ? new IndentingXMLStreamWriter(stax) : stax);
+
+			StringWriter actual = new StringWriter();
+			write(new SimpleXMLStreamWriter(actual, indent));
+			Assert.assertEquals(expected.toString(), actual.toString());
+		}
+	}
+
+	@Test
+	public void testLargeContent() throws Exception {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < 5000; i++) {
+			text.append("<&>");
+		}
+		StringWriter out = new StringWriter();
+		XMLStreamWriter writer = new SimpleXMLStreamWriter(out, false);
+		writer.writeStartElement("Data");
+		writer.writeAttribute("value", "\"quoted\"");
+		writer.writeCharacters(text.toString());
+		writer.writeEndElement();
+		writer.flush();
+		String xml = out.toString();
+		Assert.assertTrue(xml.startsWith("<Data value=\"&quot;quoted&quot;\">&lt;&amp;&gt;"));
+		Assert.assertEquals("<Data value=\"&quot;quoted&quot;\">".length() + 5000 * 13 + "</Data>".length(),
+				xml.length());
+	}
+
+	@Test(expected = XMLStreamException.class)
+	public void testUnboundNamespace() throws Exception {
+		new SimpleXMLStreamWriter(new StringWriter(), false).writeStartElement(OTHER_NS, "Element");
+	}
+}
@@ -0,0 +1,116 @@
+package net.enilink.llrp4j.test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.GregorianCalendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.datatype.XMLGregorianCalendar;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+import net.enilink.llrp4j.types.BitList;
+import net.enilink.llrp4j.types.XmlTypes;
+
+public class XmlTypesTest {
+	DatatypeFactory df;
+
+	public XmlTypesTest() throws Exception {
+		df = DatatypeFactory.newInstance();
+	}
+
+	String formatTimestamp(BigInteger timestamp) {
+		GregorianCalendar cal = new GregorianCalendar(TimeZone.getTimeZone("UTC"));
+		BigInteger[] millisAndMicros = timestamp.divideAndRemainder(BigInteger.valueOf(1000));
+		cal.setTimeInMillis(millisAndMicros[0].longValue());
+		XMLGregorianCalendar xmlcal = df.newXMLGregorianCalendar(cal);
+		xmlcal.setFractionalSecond(
+				xmlcal.getFractionalSecond().add(new BigDecimal(millisAndMicros[1]).movePointLeft(6)));
+		return xmlcal.toXMLFormat();
+	}
+
+	BigInteger parseTimestamp(String s) {
+		XMLGregorianCalendar cal = df.newXMLGregorianCalendar(s);
+		BigDecimal fractional = cal.getFractionalSecond();
+		cal.setFractionalSecond(BigDecimal.ZERO);
+		BigInteger value = BigInteger.valueOf(cal.toGregorianCalendar().getTimeInMillis());
+		value = value.multiply(BigInteger.valueOf(1000));
+		return fractional == null ? value : value.add(fractional.movePointRight(6).toBigInteger());
+	}
+
+	@Test
+	public void testTimestamps() {
+		Random rnd = new Random(1);
+		long[] fixed = { 0, 1, 999, 1000, 999999, 1000000, 951782400000000L, 1500000000123456L,
+				253402300799999999L, 253402300800000000L };
+		for (int i = 0; i < 20000; i++) {
+			long micros = i < fixed.length ? fixed[i] : (rnd.nextLong() >>> 1) % 300000000000000000L;
+			BigInteger timestamp = BigInteger.valueOf(micros);
+			String expected = formatTimestamp(timestamp);
+			Assert.assertEquals(expected, XmlTypes.toString(timestamp, FieldFormat.DATETIME));
+			Assert.assertEquals(expected, XmlTypes.toString(micros, FieldFormat.DATETIME));
+			Assert.assertEquals(timestamp, XmlTypes.fromString(FieldType.U_64, FieldFormat.DATETIME, expected));
+		}
+		BigInteger large = BigInteger.ONE.shiftLeft(64).subtract(BigInteger.ONE);
+		Assert.assertEquals(formatTimestamp(large), XmlTypes.toString(large, FieldFormat.DATETIME));
+
+		String[] values = { "2017-07-14T02:40:00Z", "2017-07-14T02:40:00.1Z", "2017-07-14T02:40:00.1234567Z",
+				"2017-07-14T04:40:00.5+02:00", "2016-02-29T23:59:59-14:00", "1899-12-31T12:00:00.000001Z",
+				"2000-01-01T00:00:00+05:30" };
+		for (String value : values) {
+			Assert.assertEquals(value, parseTimestamp(value),
+					XmlTypes.fromString(FieldType.U_64, FieldFormat.DATETIME, value));
+		}
+	}
+
+	@Test
+	public void testArrays() {
+		int[] ints = { 0, 1, -1, 255, 65535, Integer.MAX_VALUE, Integer.MIN_VALUE };
+		long[] longs = { 0, 4294967295L, -7, Long.MIN_VALUE, Long.MAX_VALUE };
+		StringBuilder dec = new StringBuilder(), hex = new StringBuilder();
+		for (int v : ints) {
+			dec.append(dec.length() > 0 ? " " : "").append(v);
+			hex.append(hex.length() > 0 ? " " : "").append(Long.toString(v, 16));
+		}
+		Assert.assertEquals(dec.toString(), XmlTypes.toString(ints, FieldFormat.DEC));
+		Assert.assertEquals(hex.toString(), XmlTypes.toString(ints, FieldFormat.HEX));
+		Assert.assertArrayEquals(ints, (int[]) XmlTypes.fromString(FieldType.S_16_V, FieldFormat.DEC, dec.toString()));
+		Assert.assertArrayEquals(ints, (int[]) XmlTypes.fromString(FieldType.S_16_V, FieldFormat.HEX, hex.toString()));
+
+		dec.setLength(0);
+		hex.setLength(0);
+		for (long v : longs) {
+			dec.append(dec.length() > 0 ? " " : "").append(v);
+			hex.append(hex.length() > 0 ? " " : "").append(Long.toString(v, 16));
+		}
+		Assert.assertEquals(dec.toString(), XmlTypes.toString(longs, FieldFormat.DEC));
+		Assert.assertEquals(hex.toString(), XmlTypes.toString(longs, FieldFormat.HEX));
+		Assert.assertArrayEquals(longs,
+				(long[]) XmlTypes.fromString(FieldType.U_32_V, FieldFormat.DEC, " " + dec + "\n"));
+		Assert.assertArrayEquals(longs, (long[]) XmlTypes.fromString(FieldType.U_32_V, FieldFormat.HEX, hex.toString()));
+		Assert.assertArrayEquals(new int[0], (int[]) XmlTypes.fromString(FieldType.U_8_V, FieldFormat.DEC, ""));
+
+		try {
+			XmlTypes.fromString(FieldType.U_16_V, FieldFormat.HEX, "1 100000000");
+			Assert.fail("Overflow should be detected");
+		} catch (NumberFormatException e) {
+			// expected
+		}
+
+		byte[] bytes = { 0, 1, (byte) 0xAB, (byte) 0xFF, 0x10 };
+		Assert.assertEquals("0001ABFF10", XmlTypes.toString(bytes, FieldFormat.HEX));
+		Assert.assertArrayEquals(bytes, (byte[]) XmlTypes.fromString(FieldType.BYTES_TO_END, FieldFormat.HEX,
+				"0001ABFF10"));
+		Assert.assertArrayEquals(new byte[] { 1, (byte) 0xAB },
+				(byte[]) XmlTypes.fromString(FieldType.BYTES_TO_END, FieldFormat.HEX, "1AB"));
+
+		Assert.assertEquals("300833b2ddd9014000000000", XmlTypes.toString(
+				new BigInteger("300833B2DDD9014000000000", 16), FieldFormat.HEX));
+		Assert.assertEquals("1011001", XmlTypes.toString(new BitList("1011001"), FieldFormat.DEC));
+	}
+}
@@ -10,10 +10,12 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBElement;
@@ -57,6 +59,7 @@ import com.helger.jcodemodel.AbstractJType;
 import com.helger.jcodemodel.EClassType;
 import com.helger.jcodemodel.JAnnotationArrayMember;
 import com.helger.jcodemodel.JAnnotationUse;
+import com.helger.jcodemodel.JArray;
 import com.helger.jcodemodel.JBlock;
 import com.helger.jcodemodel.JClassAlreadyExistsException;
 import com.helger.jcodemodel.JCodeModel;
@@ -76,6 +79,7 @@ import com.helger.jcodemodel.writer.FileCodeWriter;
 import com.helger.jcodemodel.writer.OutputStreamCodeWriter;
 
 import net.enilink.llrp4j.Module;
+import net.enilink.llrp4j.TypeDescriptor;
 import net.enilink.llrp4j.annotations.AllowedIn;
 import net.enilink.llrp4j.annotations.LlrpCustomMessageType;
 import net.enilink.llrp4j.annotations.LlrpCustomParameterType;
@@ -104,6 +108,23 @@ public class Generator {
 		}
 	}
 
+	static class TypeInfo {
+		final JDefinedClass typeClass;
+		final String factory;
+		final List<Object> keys;
+		final AbstractJClass responseType;
+		final List<String> properties;
+
+		TypeInfo(JDefinedClass typeClass, String factory, List<Object> keys, AbstractJClass responseType,
+				List<String> properties) {
+			this.typeClass = typeClass;
+			this.factory = factory;
+			this.keys = keys;
+			this.responseType = responseType;
+			this.properties = properties;
+		}
+	}
+
 	protected String packagePrefix = "org.llrp.";
 
 	protected JCodeModel codeModel = new JCodeModel();
@@ -112,6 +133,10 @@ public class Generator {
 
 	protected List<AllowedInInfo> allowedInRefs = new ArrayList<>();
 
+	protected List<TypeInfo> typeInfos = new ArrayList<>();
+
+	protected Map<JDefinedClass, Integer> reservedBits = new HashMap<>();
+
 	protected List<NamespaceDefinition> namespaces = new ArrayList<>();
 
 	protected TransformerFactory tf = TransformerFactory.newInstance();
@@ -130,7 +155,12 @@ public class Generator {
 	public static void main(String[] args) throws Exception {
 		List<Path> definitionFiles = new ArrayList<>();
 		Path outputPath = null;
+		ViewGenerator viewGenerator = null;
 		for (String arg : args) {
+			if ("--views".equals(arg)) {
+				viewGenerator = new ViewGenerator();
+				continue;
+			}
 			Path p = Paths.get(arg);
 			if (Files.isRegularFile(p)) {
 				definitionFiles.add(p);
@@ -155,6 +185,9 @@ public class Generator {
 			generator.generateHashCodeAndEquals();
 			generator.addNamespaces();
 			generator.generateModules();
+			if (viewGenerator != null) {
+				viewGenerator.generate(generator, definition);
+			}
 
 			if (outputPath != null) {
 				generator.getCodeModel().build(new FileCodeWriter(outputPath.toFile(), Charset.forName("UTF-8")));
@@ -192,13 +225,42 @@ public class Generator {
 		for (NamespaceDefinition nd : namespaces) {
 			moduleClass.instanceInit().invoke("addNamespace").arg(nd.getPrefix().toLowerCase()).arg(nd.getURI());
 		}
+
+		// precomputed registry of all messages and parameters
+		String namespace = namespaces.isEmpty() ? "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"
+				: namespaces.get(0).getURI();
+		AbstractJClass descriptorClass = codeModel.ref(TypeDescriptor.class);
+		JArray descriptors = JExpr.newArray(descriptorClass);
+		Set<JDefinedClass> describedClasses = new HashSet<>();
+		for (TypeInfo info : typeInfos) {
+			JInvocation descriptor = descriptorClass.staticInvoke(info.factory).arg(JExpr.dotclass(info.typeClass));
+			for (Object key : info.keys) {
+				descriptor.arg(key instanceof Long ? JExpr.lit((Long) key) : JExpr.lit((Integer) key));
+			}
+			if (!"parameter".equals(info.factory) && !"customParameter".equals(info.factory)) {
+				descriptor.arg(info.responseType != null ? JExpr.dotclass(info.responseType) : JExpr._null());
+			}
+			Integer reserved = reservedBits.get(info.typeClass);
+			descriptor.arg(JExpr.lit(reserved != null ? reserved : 0)).arg(namespace);
+			for (String property : info.properties) {
+				descriptor.arg(property);
+			}
+			descriptors.add(descriptor);
+			describedClasses.add(info.typeClass);
+		}
+		JFieldVar typesField = moduleClass.field(JMod.PUBLIC | JMod.STATIC | JMod.FINAL, descriptorClass.array(),
+				"TYPES", descriptors);
+		moduleClass.instanceInit().invoke("addTypes").arg(typesField);
+
 		for (Iterator<JPackage> it = codeModel.packages(); it.hasNext();) {
 			JPackage p = it.next();
 			if (p.name().endsWith("modules") || p.name().endsWith("interfaces")) {
 				continue;
 			}
 			for (JDefinedClass c : p.classes()) {
-				moduleClass.instanceInit().invoke("addClass").arg(JExpr.dotclass(c));
+				if (!describedClasses.contains(c)) {
+					moduleClass.instanceInit().invoke("addClass").arg(JExpr.dotclass(c));
+				}
 			}
 		}
 	}
@@ -369,6 +431,8 @@ public class Generator {
 				properties.addAll(fields(_class, msgAnnotation, d.getFieldOrReserved(), false));
 				properties.addAll(parameters(_class, d.getParameterOrChoice(), false));
 				addProperties(_class, properties);
+				typeInfos.add(new TypeInfo(_class, "message", Arrays.<Object> asList(typeNum),
+						d.getResponseType() != null ? messageClass(d.getResponseType(), false) : null, properties));
 			} else if (element instanceof ParameterDefinition) {
 				ParameterDefinition d = (ParameterDefinition) element;
 				String name = d.getName();
@@ -395,6 +459,7 @@ public class Generator {
 				properties.addAll(fields(_class, parameterAnnotation, d.getFieldOrReserved(), false));
 				properties.addAll(parameters(_class, d.getParameterOrChoice(), false));
 				addProperties(_class, properties);
+				typeInfos.add(new TypeInfo(_class, "parameter", Arrays.<Object> asList(typeNum), null, properties));
 			} else if (element instanceof ChoiceDefinition) {
 				ChoiceDefinition d = (ChoiceDefinition) element;
 				String name = d.getName();
@@ -454,6 +519,8 @@ public class Generator {
 				properties.addAll(fields(_class, msgAnnotation, d.getFieldOrReserved(), true));
 				properties.addAll(parameters(_class, d.getParameterOrChoice(), true));
 				addProperties(_class, properties);
+				typeInfos.add(new TypeInfo(_class, "customMessage", Arrays.<Object> asList(vendorID, subType),
+						d.getResponseType() != null ? messageClass(d.getResponseType(), true) : null, properties));
 
 				String responseType = d.getResponseType();
 			} else if (element instanceof CustomParameterDefinition) {
@@ -481,6 +548,8 @@ public class Generator {
 				properties.addAll(fields(_class, parameterAnnotation, d.getFieldOrReserved(), true));
 				properties.addAll(parameters(_class, d.getParameterOrChoice(), true));
 				addProperties(_class, properties);
+				typeInfos.add(new TypeInfo(_class, "customParameter", Arrays.<Object> asList(vendorID, subType), null,
+						properties));
 
 				if (!d.getAllowedIn().isEmpty()) {
 					allowedInRefs.add(new AllowedInInfo(_class, parameterAnnotation, d.getAllowedIn()));
@@ -665,6 +734,7 @@ public class Generator {
 		}
 		if (reservedBefore > 0) {
 			typeAnnotation.param("reserved", reservedBefore);
+			reservedBits.put(_class, reservedBefore);
 		}
 		return fields;
 	}
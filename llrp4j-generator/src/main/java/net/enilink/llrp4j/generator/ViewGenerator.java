@@ -0,0 +1,434 @@
+package net.enilink.llrp4j.generator;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.llrp.ltk.schema.core.ChoiceDefinition;
+import org.llrp.ltk.schema.core.ChoiceParameterReference;
+import org.llrp.ltk.schema.core.ChoiceReference;
+import org.llrp.ltk.schema.core.CustomChoiceDefinition;
+import org.llrp.ltk.schema.core.CustomMessageDefinition;
+import org.llrp.ltk.schema.core.CustomParameterDefinition;
+import org.llrp.ltk.schema.core.FieldDefinition;
+import org.llrp.ltk.schema.core.FieldType;
+import org.llrp.ltk.schema.core.LlrpDefinition;
+import org.llrp.ltk.schema.core.MessageDefinition;
+import org.llrp.ltk.schema.core.ParameterDefinition;
+import org.llrp.ltk.schema.core.ParameterReference;
+import org.llrp.ltk.schema.core.ReservedDefinition;
+import org.llrp.ltk.schema.core.VendorDefinition;
+
+import com.helger.jcodemodel.AbstractJClass;
+import com.helger.jcodemodel.AbstractJType;
+import com.helger.jcodemodel.IJExpression;
+import com.helger.jcodemodel.JArray;
+import com.helger.jcodemodel.JClassAlreadyExistsException;
+import com.helger.jcodemodel.JCodeModel;
+import com.helger.jcodemodel.JDefinedClass;
+import com.helger.jcodemodel.JExpr;
+import com.helger.jcodemodel.JFieldVar;
+import com.helger.jcodemodel.JInvocation;
+import com.helger.jcodemodel.JMethod;
+import com.helger.jcodemodel.JMod;
+import com.helger.jcodemodel.JPrimitiveType;
+import com.helger.jcodemodel.JVar;
+
+import net.enilink.llrp4j.types.BitList;
+import net.enilink.llrp4j.view.MessageView;
+import net.enilink.llrp4j.view.ParameterView;
+
+/**
+ * Generates flyweight views for the messages and parameters of an LLRP
+ * definition. The views are placed into a <code>views</code> package next to
+ * the generated message and parameter classes.
+ * <p>
+ * A single instance should be used for all definitions of a generator run
+ * since later definitions may reference parameters and choices of earlier
+ * ones.
+ */
+public class ViewGenerator {
+	static final int CUSTOM_TYPE_NUM = 1023;
+
+	protected final Map<String, Integer> typeNums = new HashMap<>();
+	protected final Map<String, AbstractJClass> views = new HashMap<>();
+	protected final Map<String, List<Integer>> choices = new HashMap<>();
+	protected final int[] tvLengths = new int[128];
+
+	protected Generator generator;
+	protected JCodeModel codeModel;
+	protected AbstractJClass tvLengthsClass;
+
+	public void generate(Generator generator, LlrpDefinition definition) throws JClassAlreadyExistsException {
+		this.generator = generator;
+		this.codeModel = generator.getCodeModel();
+
+		String pkg = generator.packagePrefix;
+		Map<String, Long> vendors = new HashMap<>();
+		for (Object element : definition.getElements()) {
+			if (element instanceof VendorDefinition) {
+				vendors.put(((VendorDefinition) element).getName(), ((VendorDefinition) element).getVendorID());
+			}
+		}
+		// same rule as used for the package of the module class
+		String moduleName = generator.namespaces.isEmpty() ? "llrp" : generator.namespaces.get(0).getPrefix();
+		boolean core = "llrp".equals(moduleName);
+		String viewPkg = pkg + (core ? "" : moduleName.toLowerCase() + ".") + "views.";
+
+		// first pass: type numbers and views of all parameters
+		for (Object element : definition.getElements()) {
+			if (element instanceof ParameterDefinition) {
+				ParameterDefinition d = (ParameterDefinition) element;
+				typeNums.put(d.getName(), d.getTypeNum());
+				views.put(d.getName(), codeModel._class(viewPkg + d.getName() + "View"));
+				if (d.getTypeNum() < 128) {
+					int bits = 8;
+					for (Object fr : d.getFieldOrReserved()) {
+						bits += fr instanceof FieldDefinition ? fixedBits(((FieldDefinition) fr).getType())
+								: ((ReservedDefinition) fr).getBitCount();
+					}
+					tvLengths[d.getTypeNum()] = (bits + 7) / 8;
+				}
+			} else if (element instanceof CustomParameterDefinition) {
+				CustomParameterDefinition d = (CustomParameterDefinition) element;
+				typeNums.put(d.getName(), CUSTOM_TYPE_NUM);
+				views.put(d.getName(), codeModel._class(viewPkg + d.getName() + "View"));
+			}
+		}
+		// second pass: members of choices
+		for (Object element : definition.getElements()) {
+			if (element instanceof ChoiceDefinition) {
+				ChoiceDefinition d = (ChoiceDefinition) element;
+				choices.put(d.getName(), choiceTypeNums(d.getParameter()));
+			} else if (element instanceof CustomChoiceDefinition) {
+				CustomChoiceDefinition d = (CustomChoiceDefinition) element;
+				choices.put(d.getName(), choiceTypeNums(d.getParameter()));
+			}
+		}
+
+		if (core) {
+			JDefinedClass lengthsClass = codeModel._class(viewPkg + "LlrpViews");
+			lengthsClass.javadoc().add("Tables that are shared by all views.");
+			lengthsClass.constructor(JMod.PRIVATE);
+			JArray lengths = JExpr.newArray(JPrimitiveType.INT);
+			for (int length : tvLengths) {
+				lengths.add(JExpr.lit(length));
+			}
+			lengthsClass.field(JMod.PUBLIC | JMod.STATIC | JMod.FINAL, JPrimitiveType.INT.array(), "TV_LENGTHS",
+					lengths).javadoc().add("Lengths of TV encoded parameters in bytes indexed by their type number.");
+			tvLengthsClass = lengthsClass;
+		} else {
+			tvLengthsClass = codeModel.directClass(pkg + "views.LlrpViews");
+		}
+
+		for (Object element : definition.getElements()) {
+			if (element instanceof MessageDefinition) {
+				MessageDefinition d = (MessageDefinition) element;
+				JDefinedClass view = codeModel._class(viewPkg + d.getName() + "View");
+				view._extends(MessageView.class);
+				typeNumConstant(view, d.getTypeNum());
+				view(view, d.getFieldOrReserved(), d.getParameterOrChoice(), false, true);
+			} else if (element instanceof CustomMessageDefinition) {
+				CustomMessageDefinition d = (CustomMessageDefinition) element;
+				JDefinedClass view = codeModel._class(viewPkg + d.getName() + "View");
+				view._extends(MessageView.class);
+				typeNumConstant(view, CUSTOM_TYPE_NUM);
+				customConstants(view, vendors.get(d.getVendor()), d.getSubtype());
+				view(view, d.getFieldOrReserved(), d.getParameterOrChoice(), true, true);
+			} else if (element instanceof ParameterDefinition) {
+				ParameterDefinition d = (ParameterDefinition) element;
+				JDefinedClass view = (JDefinedClass) views.get(d.getName());
+				view._extends(ParameterView.class);
+				typeNumConstant(view, d.getTypeNum());
+				view(view, d.getFieldOrReserved(), d.getParameterOrChoice(), false, false);
+			} else if (element instanceof CustomParameterDefinition) {
+				CustomParameterDefinition d = (CustomParameterDefinition) element;
+				JDefinedClass view = (JDefinedClass) views.get(d.getName());
+				view._extends(ParameterView.class);
+				typeNumConstant(view, CUSTOM_TYPE_NUM);
+				customConstants(view, vendors.get(d.getVendor()), d.getSubtype());
+				view(view, d.getFieldOrReserved(), d.getParameterOrChoice(), true, false);
+			}
+		}
+	}
+
+	List<Integer> choiceTypeNums(List<ChoiceParameterReference> parameters) {
+		List<Integer> result = new ArrayList<>();
+		for (ChoiceParameterReference ref : parameters) {
+			Integer typeNum = typeNum(ref.getType());
+			if (typeNum != null) {
+				result.add(typeNum);
+			}
+		}
+		return result;
+	}
+
+	Integer typeNum(String type) {
+		Integer typeNum = typeNums.get(type);
+		if (typeNum == null) {
+			// search views that were generated by an earlier run
+			try {
+				Class<?> view = getClass().getClassLoader()
+						.loadClass(generator.packagePrefix + "views." + type + "View");
+				typeNum = view.getField("TYPE_NUM").getInt(null);
+				typeNums.put(type, typeNum);
+				views.put(type, codeModel.ref(view));
+			} catch (ReflectiveOperationException e) {
+				// ignore
+			}
+		}
+		return typeNum;
+	}
+
+	void typeNumConstant(JDefinedClass view, int typeNum) {
+		view.field(JMod.PUBLIC | JMod.STATIC | JMod.FINAL, JPrimitiveType.INT, "TYPE_NUM", JExpr.lit(typeNum));
+	}
+
+	void customConstants(JDefinedClass view, Long vendor, long subType) {
+		if (vendor == null) {
+			throw new IllegalArgumentException("Vendor definition for '" + view.name() + "' is missing.");
+		}
+		view.field(JMod.PUBLIC | JMod.STATIC | JMod.FINAL, JPrimitiveType.LONG, "VENDOR", JExpr.lit(vendor));
+		view.field(JMod.PUBLIC | JMod.STATIC | JMod.FINAL, JPrimitiveType.LONG, "SUBTYPE", JExpr.lit(subType));
+	}
+
+	void view(JDefinedClass view, List<Object> fieldOrReserved, List<Object> parameterOrChoice, boolean custom,
+			boolean message) {
+		// field table with reserved bits before and after each field
+		JArray fields = JExpr.newArray(JPrimitiveType.INT);
+		List<FieldDefinition> fieldDefinitions = new ArrayList<>();
+		int reservedBefore = 0;
+		JInvocation last = null;
+		for (Object fr : fieldOrReserved) {
+			if (fr instanceof FieldDefinition) {
+				FieldDefinition fd = (FieldDefinition) fr;
+				if (last != null) {
+					last.arg(JExpr.lit(0));
+				}
+				last = JExpr.invoke("field").arg(codeModel.ref(FieldType.class).staticRef(fd.getType().name()))
+						.arg(JExpr.lit(reservedBefore));
+				fields.add(last);
+				fieldDefinitions.add(fd);
+				reservedBefore = 0;
+			} else if (fr instanceof ReservedDefinition) {
+				int bits = ((ReservedDefinition) fr).getBitCount();
+				if (last != null) {
+					last.arg(JExpr.lit(bits));
+					last = null;
+				} else {
+					reservedBefore += bits;
+				}
+			}
+		}
+		if (last != null) {
+			last.arg(JExpr.lit(0));
+		}
+		JFieldVar fieldsVar = view.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, JPrimitiveType.INT.array(),
+				"FIELDS", fields);
+
+		JMethod constructor = view.constructor(JMod.PUBLIC);
+		constructor.body().invoke("super").arg(tvLengthsClass.staticRef("TV_LENGTHS")).arg(fieldsVar)
+				.arg(JExpr.lit(reservedBefore)).arg(JExpr.lit(custom));
+
+		JMethod wrap = view.method(JMod.PUBLIC, view, "wrap");
+		wrap.annotate(Override.class);
+		JVar buffer = wrap.param(ByteBuffer.class, "buffer");
+		JVar offset = wrap.param(JPrimitiveType.INT, "offset");
+		wrap.body().invoke(JExpr._super(), "wrap").arg(buffer).arg(offset);
+		wrap.body()._return(JExpr._this());
+
+		for (int i = 0; i < fieldDefinitions.size(); i++) {
+			fieldAccessors(view, fieldDefinitions.get(i), i, custom);
+		}
+		// custom parameters are counted by the accessors of a parameter
+		// reference and not also by those of choices
+		boolean customReference = false;
+		for (Object pc : parameterOrChoice) {
+			if (pc instanceof ParameterReference) {
+				Integer typeNum = typeNum(((ParameterReference) pc).getType());
+				customReference |= typeNum != null && typeNum == CUSTOM_TYPE_NUM;
+			}
+		}
+		for (Object pc : parameterOrChoice) {
+			parameterAccessors(view, pc, customReference);
+		}
+	}
+
+	void fieldAccessors(JDefinedClass view, FieldDefinition fd, int index, boolean custom) {
+		String name = generator.startLower(fd.getName());
+		FieldType type = fd.getType();
+		IJExpression field = JExpr.lit(index);
+		AbstractJClass enumType = fd.getEnumeration() != null ? generator.enumClassRef(fd.getEnumeration(), custom)
+				: null;
+		switch (type) {
+		case U_1:
+		case U_2:
+		case U_8:
+		case U_16:
+		case S_8:
+		case S_16:
+		case S_32: {
+			int width = fixedBits(type);
+			IJExpression value;
+			AbstractJType returnType = JPrimitiveType.INT;
+			if (enumType != null) {
+				value = enumType.staticInvoke("fromValue")
+						.arg(JExpr.invoke("getUnsigned").arg(field).arg(JExpr.lit(width)));
+				returnType = enumType;
+			} else if (type == FieldType.U_1) {
+				value = JExpr.invoke("getBit").arg(field);
+				returnType = JPrimitiveType.BOOLEAN;
+			} else {
+				value = JExpr.invoke(type.name().startsWith("S") ? "getSigned" : "getUnsigned").arg(field)
+						.arg(JExpr.lit(width));
+			}
+			view.method(JMod.PUBLIC, returnType, name).body()._return(value);
+			break;
+		}
+		case U_32:
+		case U_64:
+		case S_64:
+			view.method(JMod.PUBLIC, JPrimitiveType.LONG, name).body()
+					._return(JExpr.invoke("getLong").arg(field).arg(JExpr.lit(fixedBits(type))));
+			break;
+		case U_96: {
+			view.method(JMod.PUBLIC, BigInteger.class, name).body()
+					._return(JExpr.invoke("getBigInteger").arg(field).arg(JExpr.lit(96)));
+			JMethod copy = view.method(JMod.PUBLIC, JPrimitiveType.VOID, name);
+			JVar target = copy.param(JPrimitiveType.BYTE.array(), "target");
+			copy.body().invoke("copyBytes").arg(field).arg(JExpr.lit(96)).arg(target);
+			break;
+		}
+		case U_8_V:
+		case U_16_V:
+		case U_32_V:
+		case U_64_V:
+		case S_8_V:
+		case S_16_V:
+		case S_32_V:
+		case S_64_V: {
+			view.method(JMod.PUBLIC, JPrimitiveType.INT, name + "Count").body()
+					._return(JExpr.invoke("getCount").arg(field));
+			FieldType elementType = FieldType.valueOf(type.name().substring(0, type.name().length() - 2));
+			int width = fixedBits(elementType);
+			boolean signed = type.name().startsWith("S");
+			JMethod element = view.method(JMod.PUBLIC, JPrimitiveType.INT, name);
+			JVar i = element.param(JPrimitiveType.INT, "index");
+			IJExpression value = JExpr.invoke(signed ? "getSignedElement" : "getElement").arg(field).arg(i)
+					.arg(JExpr.lit(width));
+			if (enumType != null) {
+				element.type(enumType);
+				value = enumType.staticInvoke("fromValue").arg(JExpr.cast(JPrimitiveType.INT, value));
+			} else if (width > 32 || width == 32 && !signed) {
+				element.type(JPrimitiveType.LONG);
+			} else {
+				value = JExpr.cast(JPrimitiveType.INT, value);
+			}
+			element.body()._return(value);
+			break;
+		}
+		case U_1_V:
+			view.method(JMod.PUBLIC, BitList.class, name).body()._return(JExpr.invoke("getBits").arg(field));
+			break;
+		case UTF_8_V:
+			view.method(JMod.PUBLIC, String.class, name).body()._return(JExpr.invoke("getString").arg(field));
+			break;
+		case BYTES_TO_END:
+			view.method(JMod.PUBLIC, JPrimitiveType.BYTE.array(), name).body()
+					._return(JExpr.invoke("getBytes").arg(field));
+			break;
+		}
+	}
+
+	void parameterAccessors(JDefinedClass view, Object pc, boolean customReference) {
+		String name, type, repeatExpr;
+		AbstractJClass viewType;
+		IJExpression typeNums;
+		if (pc instanceof ParameterReference) {
+			ParameterReference pr = (ParameterReference) pc;
+			name = pr.getName();
+			type = pr.getType();
+			repeatExpr = pr.getRepeat();
+			Integer typeNum = typeNum(type);
+			if (typeNum == null) {
+				throw new IllegalArgumentException("Unknown parameter type '" + type + "'.");
+			}
+			if (typeNum == CUSTOM_TYPE_NUM && !"Custom".equals(type)) {
+				// custom parameters can only be distinguished by vendor and
+				// subtype
+				viewType = codeModel.ref(ParameterView.class);
+			} else {
+				viewType = views.get(type);
+			}
+			typeNums = JExpr.lit(typeNum);
+		} else {
+			ChoiceReference cr = (ChoiceReference) pc;
+			name = cr.getName();
+			type = cr.getType();
+			repeatExpr = cr.getRepeat();
+			List<Integer> members = choices.get(type);
+			if (members == null) {
+				throw new IllegalArgumentException("Unknown choice '" + type + "'.");
+			}
+			JArray array = JExpr.newArray(JPrimitiveType.INT);
+			for (Integer member : members) {
+				if (member != CUSTOM_TYPE_NUM || !customReference) {
+					array.add(JExpr.lit(member));
+				}
+			}
+			viewType = codeModel.ref(ParameterView.class);
+			typeNums = view.field(JMod.PRIVATE | JMod.STATIC | JMod.FINAL, JPrimitiveType.INT.array(),
+					type.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toUpperCase() + "_TYPES",
+					array);
+		}
+		if (name == null || name.trim().length() == 0) {
+			name = type;
+		}
+		name = generator.startLower(name);
+
+		// cached view of the parameter
+		JFieldVar cached = view.field(JMod.PRIVATE, viewType, name);
+		IJExpression newView = viewType.fullName().equals(ParameterView.class.getName())
+				? JExpr._new(viewType).arg(tvLengthsClass.staticRef("TV_LENGTHS")) : JExpr._new(viewType);
+
+		Repeat repeat = Repeat.parse(repeatExpr);
+		boolean multiple = repeat == Repeat.R0_TO_N || repeat == Repeat.R1_TO_N;
+		JMethod accessor = view.method(JMod.PUBLIC, viewType, name);
+		IJExpression index = JExpr.lit(0);
+		if (multiple) {
+			view.method(JMod.PUBLIC, JPrimitiveType.INT, name + "Count").body()
+					._return(JExpr.invoke("countParameters").arg(typeNums));
+			index = accessor.param(JPrimitiveType.INT, "index");
+		}
+		accessor.body()._if(cached.eqNull())._then().assign(cached, newView);
+		accessor.body()._return(JExpr.invoke("findParameter").arg(cached).arg(index).arg(typeNums));
+	}
+
+	static int fixedBits(FieldType type) {
+		switch (type) {
+		case U_1:
+			return 1;
+		case U_2:
+			return 2;
+		case U_8:
+		case S_8:
+			return 8;
+		case U_16:
+		case S_16:
+			return 16;
+		case U_32:
+		case S_32:
+			return 32;
+		case U_64:
+		case S_64:
+			return 64;
+		case U_96:
+			return 96;
+		default:
+			throw new IllegalArgumentException("Field type " + type + " has no fixed length.");
+		}
+	}
+}
@@ -0,0 +1,16 @@
+
+package org.llrp.impinj.modules;
+
+import net.enilink.llrp4j.Module;
+import net.enilink.llrp4j.TypeDescriptor;
+
+public class ImpinjModule
+    extends Module
+{
+    public final static TypeDescriptor[] TYPES = new TypeDescriptor[] { };
+
+    {
+        addNamespace("impinj", "http://developer.impinj.com/ltk/schema/encoding/xml/1.20");
+        addTypes(TYPES);
+    }
+}
@@ -0,0 +1,38 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=91&amp;view=fit">LLRP Specification Section 13.2.6.9</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum AISpecEventType
+    implements LlrpEnum
+{
+    End_Of_AISpec(0);
+    private final int value;
+
+    private AISpecEventType(int value) {
+        this.value = value;
+    }
+
+    public static AISpecEventType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return AISpecEventType.End_Of_AISpec;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,61 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>Description:</p>
+ * <ul><li><p>0: Null - Stop when ROSpec is done.</p>
+ * </li><li><p>1: Duration</p>
+ * </li><li><p>2: GPI with a timeout value</p>
+ * </li><li><p>3: Tag observation</p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=58&amp;view=fit">LLRP Specification Section 10.2.2.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum AISpecStopTriggerType
+    implements LlrpEnum
+{
+    Null(0),
+    Duration(1),
+    GPI_With_Timeout(2),
+    Tag_Observation(3);
+    private final int value;
+
+    private AISpecStopTriggerType(int value) {
+        this.value = value;
+    }
+
+    public static AISpecStopTriggerType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return AISpecStopTriggerType.Null;
+            }
+            case  1 :
+            {
+                return AISpecStopTriggerType.Duration;
+            }
+            case  2 :
+            {
+                return AISpecStopTriggerType.GPI_With_Timeout;
+            }
+            case  3 :
+            {
+                return AISpecStopTriggerType.Tag_Observation;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,43 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=80&amp;view=fit">LLRP Specification Section 13.2.2</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum AccessReportTriggerType
+    implements LlrpEnum
+{
+    Whenever_ROReport_Is_Generated(0),
+    End_Of_AccessSpec(1);
+    private final int value;
+
+    private AccessReportTriggerType(int value) {
+        this.value = value;
+    }
+
+    public static AccessReportTriggerType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return AccessReportTriggerType.Whenever_ROReport_Is_Generated;
+            }
+            case  1 :
+            {
+                return AccessReportTriggerType.End_Of_AccessSpec;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,43 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=64&amp;view=fit">LLRP Specification Section 11.2.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum AccessSpecState
+    implements LlrpEnum
+{
+    Disabled(0),
+    Active(1);
+    private final int value;
+
+    private AccessSpecState(int value) {
+        this.value = value;
+    }
+
+    public static AccessSpecState fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return AccessSpecState.Disabled;
+            }
+            case  1 :
+            {
+                return AccessSpecState.Active;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,49 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>Description:</p>
+ * <ul><li><p>0: Null - No stop trigger defined.</p>
+ * </li><li><p>1: Operation count</p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=65&amp;view=fit">LLRP Specification Section 11.2.1.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum AccessSpecStopTriggerType
+    implements LlrpEnum
+{
+    Null(0),
+    Operation_Count(1);
+    private final int value;
+
+    private AccessSpecStopTriggerType(int value) {
+        this.value = value;
+    }
+
+    public static AccessSpecStopTriggerType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return AccessSpecStopTriggerType.Null;
+            }
+            case  1 :
+            {
+                return AccessSpecStopTriggerType.Operation_Count;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
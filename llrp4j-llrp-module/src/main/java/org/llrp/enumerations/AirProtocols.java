@@ -0,0 +1,45 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>This is the identifier of the air protocol. </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=38&amp;view=fit">LLRP Specification Section 7.1.4</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum AirProtocols
+    implements LlrpEnum
+{
+    Unspecified(0),
+    EPCGlobalClass1Gen2(1);
+    private final int value;
+
+    private AirProtocols(int value) {
+        this.value = value;
+    }
+
+    public static AirProtocols fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return AirProtocols.Unspecified;
+            }
+            case  1 :
+            {
+                return AirProtocols.EPCGlobalClass1Gen2;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,43 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=91&amp;view=fit">LLRP Specification Section 13.2.6.10</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum AntennaEventType
+    implements LlrpEnum
+{
+    Antenna_Disconnected(0),
+    Antenna_Connected(1);
+    private final int value;
+
+    private AntennaEventType(int value) {
+        this.value = value;
+    }
+
+    public static AntennaEventType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return AntennaEventType.Antenna_Disconnected;
+            }
+            case  1 :
+            {
+                return AntennaEventType.Antenna_Connected;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,48 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=99&amp;view=fit">LLRP Specification Section 15.2.1.1.2.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2ForwardLinkModulation
+    implements LlrpEnum
+{
+    PR_ASK(0),
+    SSB_ASK(1),
+    DSB_ASK(2);
+    private final int value;
+
+    private C1G2ForwardLinkModulation(int value) {
+        this.value = value;
+    }
+
+    public static C1G2ForwardLinkModulation fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2ForwardLinkModulation.PR_ASK;
+            }
+            case  1 :
+            {
+                return C1G2ForwardLinkModulation.SSB_ASK;
+            }
+            case  2 :
+            {
+                return C1G2ForwardLinkModulation.DSB_ASK;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,63 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=113&amp;view=fit">//LLRP Specification Section 15.2.1.5.5.4</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2GetBlockPermalockStatusResultType
+    implements LlrpEnum
+{
+    Success(0),
+    Nonspecific_Tag_Error(1),
+    No_Response_From_Tag(2),
+    Nonspecific_Reader_Error(3),
+    Incorrect_Password_Error(4),
+    Tag_Memory_Overrun_Error(5);
+    private final int value;
+
+    private C1G2GetBlockPermalockStatusResultType(int value) {
+        this.value = value;
+    }
+
+    public static C1G2GetBlockPermalockStatusResultType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2GetBlockPermalockStatusResultType.Success;
+            }
+            case  1 :
+            {
+                return C1G2GetBlockPermalockStatusResultType.Nonspecific_Tag_Error;
+            }
+            case  2 :
+            {
+                return C1G2GetBlockPermalockStatusResultType.No_Response_From_Tag;
+            }
+            case  3 :
+            {
+                return C1G2GetBlockPermalockStatusResultType.Nonspecific_Reader_Error;
+            }
+            case  4 :
+            {
+                return C1G2GetBlockPermalockStatusResultType.Incorrect_Password_Error;
+            }
+            case  5 :
+            {
+                return C1G2GetBlockPermalockStatusResultType.Tag_Memory_Overrun_Error;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
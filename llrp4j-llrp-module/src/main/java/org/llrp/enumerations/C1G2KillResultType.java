@@ -0,0 +1,68 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=112&amp;view=fit">LLRP Specification Section 15.2.1.5.5.3</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2KillResultType
+    implements LlrpEnum
+{
+    Success(0),
+    Zero_Kill_Password_Error(1),
+    Insufficient_Power(2),
+    Nonspecific_Tag_Error(3),
+    No_Response_From_Tag(4),
+    Nonspecific_Reader_Error(5),
+    Incorrect_Password_Error(6);
+    private final int value;
+
+    private C1G2KillResultType(int value) {
+        this.value = value;
+    }
+
+    public static C1G2KillResultType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2KillResultType.Success;
+            }
+            case  1 :
+            {
+                return C1G2KillResultType.Zero_Kill_Password_Error;
+            }
+            case  2 :
+            {
+                return C1G2KillResultType.Insufficient_Power;
+            }
+            case  3 :
+            {
+                return C1G2KillResultType.Nonspecific_Tag_Error;
+            }
+            case  4 :
+            {
+                return C1G2KillResultType.No_Response_From_Tag;
+            }
+            case  5 :
+            {
+                return C1G2KillResultType.Nonspecific_Reader_Error;
+            }
+            case  6 :
+            {
+                return C1G2KillResultType.Incorrect_Password_Error;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,58 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=109&amp;view=fit">LLRP Specification Section 15.2.1.3.2.4.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2LockDataField
+    implements LlrpEnum
+{
+    Kill_Password(0),
+    Access_Password(1),
+    EPC_Memory(2),
+    TID_Memory(3),
+    User_Memory(4);
+    private final int value;
+
+    private C1G2LockDataField(int value) {
+        this.value = value;
+    }
+
+    public static C1G2LockDataField fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2LockDataField.Kill_Password;
+            }
+            case  1 :
+            {
+                return C1G2LockDataField.Access_Password;
+            }
+            case  2 :
+            {
+                return C1G2LockDataField.EPC_Memory;
+            }
+            case  3 :
+            {
+                return C1G2LockDataField.TID_Memory;
+            }
+            case  4 :
+            {
+                return C1G2LockDataField.User_Memory;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,57 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>Read_Write means lock for either reading or writing (depends on
+ * memory bank).
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=109&amp;view=fit">LLRP Specification Section 15.2.1.3.2.4.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2LockPrivilege
+    implements LlrpEnum
+{
+    Read_Write(0),
+    Perma_Lock(1),
+    Perma_Unlock(2),
+    Unlock(3);
+    private final int value;
+
+    private C1G2LockPrivilege(int value) {
+        this.value = value;
+    }
+
+    public static C1G2LockPrivilege fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2LockPrivilege.Read_Write;
+            }
+            case  1 :
+            {
+                return C1G2LockPrivilege.Perma_Lock;
+            }
+            case  2 :
+            {
+                return C1G2LockPrivilege.Perma_Unlock;
+            }
+            case  3 :
+            {
+                return C1G2LockPrivilege.Unlock;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
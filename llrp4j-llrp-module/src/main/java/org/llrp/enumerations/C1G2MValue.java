@@ -0,0 +1,53 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=99&amp;view=fit">LLRP Specification Section 15.2.1.1.2.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2MValue
+    implements LlrpEnum
+{
+    MV_FM0(0),
+    MV_2(1),
+    MV_4(2),
+    MV_8(3);
+    private final int value;
+
+    private C1G2MValue(int value) {
+        this.value = value;
+    }
+
+    public static C1G2MValue fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2MValue.MV_FM0;
+            }
+            case  1 :
+            {
+                return C1G2MValue.MV_2;
+            }
+            case  2 :
+            {
+                return C1G2MValue.MV_4;
+            }
+            case  3 :
+            {
+                return C1G2MValue.MV_8;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,68 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=112&amp;view=fit">LLRP Specification Section 15.2.1.5.5.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2ReadResultType
+    implements LlrpEnum
+{
+    Success(0),
+    Nonspecific_Tag_Error(1),
+    No_Response_From_Tag(2),
+    Nonspecific_Reader_Error(3),
+    Tag_Memory_Overrun_Error(4),
+    Tag_Memory_Locked_Error(5),
+    Incorrect_password_error(6);
+    private final int value;
+
+    private C1G2ReadResultType(int value) {
+        this.value = value;
+    }
+
+    public static C1G2ReadResultType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2ReadResultType.Success;
+            }
+            case  1 :
+            {
+                return C1G2ReadResultType.Nonspecific_Tag_Error;
+            }
+            case  2 :
+            {
+                return C1G2ReadResultType.No_Response_From_Tag;
+            }
+            case  3 :
+            {
+                return C1G2ReadResultType.Nonspecific_Reader_Error;
+            }
+            case  4 :
+            {
+                return C1G2ReadResultType.Tag_Memory_Overrun_Error;
+            }
+            case  5 :
+            {
+                return C1G2ReadResultType.Tag_Memory_Locked_Error;
+            }
+            case  6 :
+            {
+                return C1G2ReadResultType.Incorrect_password_error;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,61 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>Description</p>
+ * <ul><li><p>0: Unknown</p>
+ * </li><li><p>1: SI -Meets [C1G2] Single-Interrogator Mode Mask</p>
+ * </li><li><p>2: MI - Meets [C1G2] Multi-Interrogator Mode Mask</p>
+ * </li><li><p>3: DI - Meets [C1G2] Dense-Interrogator Mode Mask</p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=100&amp;view=fit">LLRP Specification Section 15.2.1.1.2.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2SpectralMaskIndicator
+    implements LlrpEnum
+{
+    Unknown(0),
+    SI(1),
+    MI(2),
+    DI(3);
+    private final int value;
+
+    private C1G2SpectralMaskIndicator(int value) {
+        this.value = value;
+    }
+
+    public static C1G2SpectralMaskIndicator fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2SpectralMaskIndicator.Unknown;
+            }
+            case  1 :
+            {
+                return C1G2SpectralMaskIndicator.SI;
+            }
+            case  2 :
+            {
+                return C1G2SpectralMaskIndicator.MI;
+            }
+            case  3 :
+            {
+                return C1G2SpectralMaskIndicator.DI;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
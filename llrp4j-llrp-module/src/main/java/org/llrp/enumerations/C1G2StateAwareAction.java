@@ -0,0 +1,73 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=103&amp;view=fit">LLRP Specification Section 15.2.1.2.1.1.2</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2StateAwareAction
+    implements LlrpEnum
+{
+    AssertSLOrA_DeassertSLOrB(0),
+    AssertSLOrA_Noop(1),
+    Noop_DeassertSLOrB(2),
+    NegateSLOrABBA_Noop(3),
+    DeassertSLOrB_AssertSLOrA(4),
+    DeassertSLOrB_Noop(5),
+    Noop_AssertSLOrA(6),
+    Noop_NegateSLOrABBA(7);
+    private final int value;
+
+    private C1G2StateAwareAction(int value) {
+        this.value = value;
+    }
+
+    public static C1G2StateAwareAction fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2StateAwareAction.AssertSLOrA_DeassertSLOrB;
+            }
+            case  1 :
+            {
+                return C1G2StateAwareAction.AssertSLOrA_Noop;
+            }
+            case  2 :
+            {
+                return C1G2StateAwareAction.Noop_DeassertSLOrB;
+            }
+            case  3 :
+            {
+                return C1G2StateAwareAction.NegateSLOrABBA_Noop;
+            }
+            case  4 :
+            {
+                return C1G2StateAwareAction.DeassertSLOrB_AssertSLOrA;
+            }
+            case  5 :
+            {
+                return C1G2StateAwareAction.DeassertSLOrB_Noop;
+            }
+            case  6 :
+            {
+                return C1G2StateAwareAction.Noop_AssertSLOrA;
+            }
+            case  7 :
+            {
+                return C1G2StateAwareAction.Noop_NegateSLOrABBA;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
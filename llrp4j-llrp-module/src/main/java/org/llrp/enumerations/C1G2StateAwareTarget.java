@@ -0,0 +1,58 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=103&amp;view=fit">LLRP Specification Section 15.2.1.2.1.1.2</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2StateAwareTarget
+    implements LlrpEnum
+{
+    SL(0),
+    Inventoried_State_For_Session_S0(1),
+    Inventoried_State_For_Session_S1(2),
+    Inventoried_State_For_Session_S2(3),
+    Inventoried_State_For_Session_S3(4);
+    private final int value;
+
+    private C1G2StateAwareTarget(int value) {
+        this.value = value;
+    }
+
+    public static C1G2StateAwareTarget fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2StateAwareTarget.SL;
+            }
+            case  1 :
+            {
+                return C1G2StateAwareTarget.Inventoried_State_For_Session_S0;
+            }
+            case  2 :
+            {
+                return C1G2StateAwareTarget.Inventoried_State_For_Session_S1;
+            }
+            case  3 :
+            {
+                return C1G2StateAwareTarget.Inventoried_State_For_Session_S2;
+            }
+            case  4 :
+            {
+                return C1G2StateAwareTarget.Inventoried_State_For_Session_S3;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,63 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=104&amp;view=fit">LLRP Specification Section 15.2.1.2.1.1.3</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2StateUnawareAction
+    implements LlrpEnum
+{
+    Select_Unselect(0),
+    Select_DoNothing(1),
+    DoNothing_Unselect(2),
+    Unselect_DoNothing(3),
+    Unselect_Select(4),
+    DoNothing_Select(5);
+    private final int value;
+
+    private C1G2StateUnawareAction(int value) {
+        this.value = value;
+    }
+
+    public static C1G2StateUnawareAction fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2StateUnawareAction.Select_Unselect;
+            }
+            case  1 :
+            {
+                return C1G2StateUnawareAction.Select_DoNothing;
+            }
+            case  2 :
+            {
+                return C1G2StateUnawareAction.DoNothing_Unselect;
+            }
+            case  3 :
+            {
+                return C1G2StateUnawareAction.Unselect_DoNothing;
+            }
+            case  4 :
+            {
+                return C1G2StateUnawareAction.Unselect_Select;
+            }
+            case  5 :
+            {
+                return C1G2StateUnawareAction.DoNothing_Select;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,43 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=106&amp;view=fit">LLRP Specification Section 15.2.1.2.1.3.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2TagInventoryStateAwareS
+    implements LlrpEnum
+{
+    SL(0),
+    Not_SL(1);
+    private final int value;
+
+    private C1G2TagInventoryStateAwareS(int value) {
+        this.value = value;
+    }
+
+    public static C1G2TagInventoryStateAwareS fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2TagInventoryStateAwareS.SL;
+            }
+            case  1 :
+            {
+                return C1G2TagInventoryStateAwareS.Not_SL;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
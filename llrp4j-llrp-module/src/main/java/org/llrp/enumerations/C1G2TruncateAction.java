@@ -0,0 +1,48 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=102&amp;view=fit">LLRP Specification Section 15.2.1.2.1.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2TruncateAction
+    implements LlrpEnum
+{
+    Unspecified(0),
+    Do_Not_Truncate(1),
+    Truncate(2);
+    private final int value;
+
+    private C1G2TruncateAction(int value) {
+        this.value = value;
+    }
+
+    public static C1G2TruncateAction fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2TruncateAction.Unspecified;
+            }
+            case  1 :
+            {
+                return C1G2TruncateAction.Do_Not_Truncate;
+            }
+            case  2 :
+            {
+                return C1G2TruncateAction.Truncate;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
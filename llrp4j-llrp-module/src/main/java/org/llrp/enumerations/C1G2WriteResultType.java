@@ -0,0 +1,74 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=112&amp;view=fit">LLRP Specification Section 15.2.1.5.5.2</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum C1G2WriteResultType
+    implements LlrpEnum
+{
+    Success(0),
+    Tag_Memory_Overrun_Error(1),
+    Tag_Memory_Locked_Error(2),
+    Insufficient_Power(3),
+    Nonspecific_Tag_Error(4),
+    No_Response_From_Tag(5),
+    Nonspecific_Reader_Error(6),
+    Incorrect_Password_Error(7);
+    private final int value;
+
+    private C1G2WriteResultType(int value) {
+        this.value = value;
+    }
+
+    public static C1G2WriteResultType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return C1G2WriteResultType.Success;
+            }
+            case  1 :
+            {
+                return C1G2WriteResultType.Tag_Memory_Overrun_Error;
+            }
+            case  2 :
+            {
+                return C1G2WriteResultType.Tag_Memory_Locked_Error;
+            }
+            case  3 :
+            {
+                return C1G2WriteResultType.Insufficient_Power;
+            }
+            case  4 :
+            {
+                return C1G2WriteResultType.Nonspecific_Tag_Error;
+            }
+            case  5 :
+            {
+                return C1G2WriteResultType.No_Response_From_Tag;
+            }
+            case  6 :
+            {
+                return C1G2WriteResultType.Nonspecific_Reader_Error;
+            }
+            case  7 :
+            {
+                return C1G2WriteResultType.Incorrect_Password_Error;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,87 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>This field carries the enumerations of the communications
+ * standard.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=49&amp;view=fit">LLRP Specification Section 9.2.4</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum CommunicationsStandard
+    implements LlrpEnum
+{
+    Unspecified(0),
+    US_FCC_Part_15(1),
+    ETSI_302_208(2),
+    ETSI_300_220(3),
+    Australia_LIPD_1W(4),
+    Australia_LIPD_4W(5),
+    Japan_ARIB_STD_T89(6),
+    Hong_Kong_OFTA_1049(7),
+    Taiwan_DGT_LP0002(8),
+    Korea_MIC_Article_5_2(9);
+    private final int value;
+
+    private CommunicationsStandard(int value) {
+        this.value = value;
+    }
+
+    public static CommunicationsStandard fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return CommunicationsStandard.Unspecified;
+            }
+            case  1 :
+            {
+                return CommunicationsStandard.US_FCC_Part_15;
+            }
+            case  2 :
+            {
+                return CommunicationsStandard.ETSI_302_208;
+            }
+            case  3 :
+            {
+                return CommunicationsStandard.ETSI_300_220;
+            }
+            case  4 :
+            {
+                return CommunicationsStandard.Australia_LIPD_1W;
+            }
+            case  5 :
+            {
+                return CommunicationsStandard.Australia_LIPD_4W;
+            }
+            case  6 :
+            {
+                return CommunicationsStandard.Japan_ARIB_STD_T89;
+            }
+            case  7 :
+            {
+                return CommunicationsStandard.Hong_Kong_OFTA_1049;
+            }
+            case  8 :
+            {
+                return CommunicationsStandard.Taiwan_DGT_LP0002;
+            }
+            case  9 :
+            {
+                return CommunicationsStandard.Korea_MIC_Article_5_2;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,59 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=92&amp;view=fit">LLRP Specification Section 13.2.6.11</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum ConnectionAttemptStatusType
+    implements LlrpEnum
+{
+    Success(0),
+    Failed_A_Reader_Initiated_Connection_Already_Exists(1),
+    Failed_A_Client_Initiated_Connection_Already_Exists(2),
+    Failed_Reason_Other_Than_A_Connection_Already_Exists(3),
+    Another_Connection_Attempted(4);
+    private final int value;
+
+    private ConnectionAttemptStatusType(int value) {
+        this.value = value;
+    }
+
+    public static ConnectionAttemptStatusType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return ConnectionAttemptStatusType.Success;
+            }
+            case  1 :
+            {
+                return ConnectionAttemptStatusType.Failed_A_Reader_Initiated_Connection_Already_Exists;
+            }
+            case  2 :
+            {
+                return ConnectionAttemptStatusType.Failed_A_Client_Initiated_Connection_Already_Exists;
+            }
+            case  3 :
+            {
+                return ConnectionAttemptStatusType.Failed_Reason_Other_Than_A_Connection_Already_Exists;
+            }
+            case  4 :
+            {
+                return ConnectionAttemptStatusType.Another_Connection_Attempted;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,48 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=75&amp;view=fit">LLRP Specification Section 12.2.6.3</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum GPIPortState
+    implements LlrpEnum
+{
+    Low(0),
+    High(1),
+    Unknown(2);
+    private final int value;
+
+    private GPIPortState(int value) {
+        this.value = value;
+    }
+
+    public static GPIPortState fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return GPIPortState.Low;
+            }
+            case  1 :
+            {
+                return GPIPortState.High;
+            }
+            case  2 :
+            {
+                return GPIPortState.Unknown;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
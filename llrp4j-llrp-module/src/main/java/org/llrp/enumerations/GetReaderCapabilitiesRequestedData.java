@@ -0,0 +1,58 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=44&amp;view=fit">LLRP Specification Section 9.1.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum GetReaderCapabilitiesRequestedData
+    implements LlrpEnum
+{
+    All(0),
+    General_Device_Capabilities(1),
+    LLRP_Capabilities(2),
+    Regulatory_Capabilities(3),
+    LLRP_Air_Protocol_Capabilities(4);
+    private final int value;
+
+    private GetReaderCapabilitiesRequestedData(int value) {
+        this.value = value;
+    }
+
+    public static GetReaderCapabilitiesRequestedData fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return GetReaderCapabilitiesRequestedData.All;
+            }
+            case  1 :
+            {
+                return GetReaderCapabilitiesRequestedData.General_Device_Capabilities;
+            }
+            case  2 :
+            {
+                return GetReaderCapabilitiesRequestedData.LLRP_Capabilities;
+            }
+            case  3 :
+            {
+                return GetReaderCapabilitiesRequestedData.Regulatory_Capabilities;
+            }
+            case  4 :
+            {
+                return GetReaderCapabilitiesRequestedData.LLRP_Air_Protocol_Capabilities;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
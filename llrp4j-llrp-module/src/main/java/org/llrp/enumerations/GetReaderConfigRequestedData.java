@@ -0,0 +1,93 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=67&amp;view=fit">LLRP Specification Section 12.1.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum GetReaderConfigRequestedData
+    implements LlrpEnum
+{
+    All(0),
+    Identification(1),
+    AntennaProperties(2),
+    AntennaConfiguration(3),
+    ROReportSpec(4),
+    ReaderEventNotificationSpec(5),
+    AccessReportSpec(6),
+    LLRPConfigurationStateValue(7),
+    KeepaliveSpec(8),
+    GPIPortCurrentState(9),
+    GPOWriteData(10),
+    EventsAndReports(11);
+    private final int value;
+
+    private GetReaderConfigRequestedData(int value) {
+        this.value = value;
+    }
+
+    public static GetReaderConfigRequestedData fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return GetReaderConfigRequestedData.All;
+            }
+            case  1 :
+            {
+                return GetReaderConfigRequestedData.Identification;
+            }
+            case  2 :
+            {
+                return GetReaderConfigRequestedData.AntennaProperties;
+            }
+            case  3 :
+            {
+                return GetReaderConfigRequestedData.AntennaConfiguration;
+            }
+            case  4 :
+            {
+                return GetReaderConfigRequestedData.ROReportSpec;
+            }
+            case  5 :
+            {
+                return GetReaderConfigRequestedData.ReaderEventNotificationSpec;
+            }
+            case  6 :
+            {
+                return GetReaderConfigRequestedData.AccessReportSpec;
+            }
+            case  7 :
+            {
+                return GetReaderConfigRequestedData.LLRPConfigurationStateValue;
+            }
+            case  8 :
+            {
+                return GetReaderConfigRequestedData.KeepaliveSpec;
+            }
+            case  9 :
+            {
+                return GetReaderConfigRequestedData.GPIPortCurrentState;
+            }
+            case  10 :
+            {
+                return GetReaderConfigRequestedData.GPOWriteData;
+            }
+            case  11 :
+            {
+                return GetReaderConfigRequestedData.EventsAndReports;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
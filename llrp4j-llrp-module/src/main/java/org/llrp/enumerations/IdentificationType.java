@@ -0,0 +1,43 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=72&amp;view=fit">LLRP Specification Section 12.2.2</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum IdentificationType
+    implements LlrpEnum
+{
+    MAC_Address(0),
+    EPC(1);
+    private final int value;
+
+    private IdentificationType(int value) {
+        this.value = value;
+    }
+
+    public static IdentificationType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return IdentificationType.MAC_Address;
+            }
+            case  1 :
+            {
+                return IdentificationType.EPC;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,53 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>Description:</p>
+ * <ul><li><p>
+ *  0: Null - No keepalives
+ * <b>SHALL</b>
+ * be sent by the Reader
+ * </p>
+ * </li><li><p>1: Periodic</p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=73&amp;view=fit">LLRP Specification Section 12.2.4</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum KeepaliveTriggerType
+    implements LlrpEnum
+{
+    Null(0),
+    Periodic(1);
+    private final int value;
+
+    private KeepaliveTriggerType(int value) {
+        this.value = value;
+    }
+
+    public static KeepaliveTriggerType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return KeepaliveTriggerType.Null;
+            }
+            case  1 :
+            {
+                return KeepaliveTriggerType.Periodic;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
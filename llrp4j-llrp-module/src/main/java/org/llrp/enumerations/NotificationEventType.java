@@ -0,0 +1,83 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=86&amp;view=fit">LLRP Specification Section 13.2.5.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum NotificationEventType
+    implements LlrpEnum
+{
+    Upon_Hopping_To_Next_Channel(0),
+    GPI_Event(1),
+    ROSpec_Event(2),
+    Report_Buffer_Fill_Warning(3),
+    Reader_Exception_Event(4),
+    RFSurvey_Event(5),
+    AISpec_Event(6),
+    AISpec_Event_With_Details(7),
+    Antenna_Event(8),
+    SpecLoop_Event(9);
+    private final int value;
+
+    private NotificationEventType(int value) {
+        this.value = value;
+    }
+
+    public static NotificationEventType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return NotificationEventType.Upon_Hopping_To_Next_Channel;
+            }
+            case  1 :
+            {
+                return NotificationEventType.GPI_Event;
+            }
+            case  2 :
+            {
+                return NotificationEventType.ROSpec_Event;
+            }
+            case  3 :
+            {
+                return NotificationEventType.Report_Buffer_Fill_Warning;
+            }
+            case  4 :
+            {
+                return NotificationEventType.Reader_Exception_Event;
+            }
+            case  5 :
+            {
+                return NotificationEventType.RFSurvey_Event;
+            }
+            case  6 :
+            {
+                return NotificationEventType.AISpec_Event;
+            }
+            case  7 :
+            {
+                return NotificationEventType.AISpec_Event_With_Details;
+            }
+            case  8 :
+            {
+                return NotificationEventType.Antenna_Event;
+            }
+            case  9 :
+            {
+                return NotificationEventType.SpecLoop_Event;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
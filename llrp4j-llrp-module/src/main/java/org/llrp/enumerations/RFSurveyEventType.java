@@ -0,0 +1,43 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=90&amp;view=fit">LLRP Specification Section 13.2.6.8</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum RFSurveyEventType
+    implements LlrpEnum
+{
+    Start_Of_RFSurvey(0),
+    End_Of_RFSurvey(1);
+    private final int value;
+
+    private RFSurveyEventType(int value) {
+        this.value = value;
+    }
+
+    public static RFSurveyEventType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return RFSurveyEventType.Start_Of_RFSurvey;
+            }
+            case  1 :
+            {
+                return RFSurveyEventType.End_Of_RFSurvey;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,48 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=60&amp;view=fit">LLRP Specification Section 10.2.3.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum RFSurveySpecStopTriggerType
+    implements LlrpEnum
+{
+    Null(0),
+    Duration(1),
+    N_Iterations_Through_Frequency_Range(2);
+    private final int value;
+
+    private RFSurveySpecStopTriggerType(int value) {
+        this.value = value;
+    }
+
+    public static RFSurveySpecStopTriggerType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return RFSurveySpecStopTriggerType.Null;
+            }
+            case  1 :
+            {
+                return RFSurveySpecStopTriggerType.Duration;
+            }
+            case  2 :
+            {
+                return RFSurveySpecStopTriggerType.N_Iterations_Through_Frequency_Range;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
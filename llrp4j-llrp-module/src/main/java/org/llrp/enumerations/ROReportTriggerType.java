@@ -0,0 +1,68 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=78&amp;view=fit">LLRP Specification Section 13.2.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum ROReportTriggerType
+    implements LlrpEnum
+{
+    None(0),
+    Upon_N_Tags_Or_End_Of_AISpec_Or_End_Of_RFSurveySpec(1),
+    Upon_N_Tags_Or_End_Of_ROSpec(2),
+    Upon_N_Seconds_Or_End_Of_AISpec_Or_End_Of_RFSurveySpec(3),
+    Upon_N_Seconds_Or_End_Of_ROSpec(4),
+    Upon_N_Milliseconds_Or_End_Of_AISpec_Or_End_Of_RFSurveySpec(5),
+    Upon_N_Milliseconds_Or_End_Of_ROSpec(6);
+    private final int value;
+
+    private ROReportTriggerType(int value) {
+        this.value = value;
+    }
+
+    public static ROReportTriggerType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return ROReportTriggerType.None;
+            }
+            case  1 :
+            {
+                return ROReportTriggerType.Upon_N_Tags_Or_End_Of_AISpec_Or_End_Of_RFSurveySpec;
+            }
+            case  2 :
+            {
+                return ROReportTriggerType.Upon_N_Tags_Or_End_Of_ROSpec;
+            }
+            case  3 :
+            {
+                return ROReportTriggerType.Upon_N_Seconds_Or_End_Of_AISpec_Or_End_Of_RFSurveySpec;
+            }
+            case  4 :
+            {
+                return ROReportTriggerType.Upon_N_Seconds_Or_End_Of_ROSpec;
+            }
+            case  5 :
+            {
+                return ROReportTriggerType.Upon_N_Milliseconds_Or_End_Of_AISpec_Or_End_Of_RFSurveySpec;
+            }
+            case  6 :
+            {
+                return ROReportTriggerType.Upon_N_Milliseconds_Or_End_Of_ROSpec;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,48 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=89&amp;view=fit">LLRP Specification Section 13.2.6.4</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum ROSpecEventType
+    implements LlrpEnum
+{
+    Start_Of_ROSpec(0),
+    End_Of_ROSpec(1),
+    Preemption_Of_ROSpec(2);
+    private final int value;
+
+    private ROSpecEventType(int value) {
+        this.value = value;
+    }
+
+    public static ROSpecEventType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return ROSpecEventType.Start_Of_ROSpec;
+            }
+            case  1 :
+            {
+                return ROSpecEventType.End_Of_ROSpec;
+            }
+            case  2 :
+            {
+                return ROSpecEventType.Preemption_Of_ROSpec;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,63 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>Description</p>
+ * <ul><li><p>0: Null. No start trigger. The only way to start this ROSpec
+ * is with a START_ROSPEC from the Client.
+ * </p>
+ * </li><li><p>1: Immediate</p>
+ * </li><li><p>2: Periodic</p>
+ * </li><li><p>3: GPI</p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=56&amp;view=fit">LLRP Specification Section 10.2.1.1.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum ROSpecStartTriggerType
+    implements LlrpEnum
+{
+    Null(0),
+    Immediate(1),
+    Periodic(2),
+    GPI(3);
+    private final int value;
+
+    private ROSpecStartTriggerType(int value) {
+        this.value = value;
+    }
+
+    public static ROSpecStartTriggerType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return ROSpecStartTriggerType.Null;
+            }
+            case  1 :
+            {
+                return ROSpecStartTriggerType.Immediate;
+            }
+            case  2 :
+            {
+                return ROSpecStartTriggerType.Periodic;
+            }
+            case  3 :
+            {
+                return ROSpecStartTriggerType.GPI;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
@@ -0,0 +1,48 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=55&amp;view=fit">LLRP Specification Section 10.2.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum ROSpecState
+    implements LlrpEnum
+{
+    Disabled(0),
+    Inactive(1),
+    Active(2);
+    private final int value;
+
+    private ROSpecState(int value) {
+        this.value = value;
+    }
+
+    public static ROSpecState fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return ROSpecState.Disabled;
+            }
+            case  1 :
+            {
+                return ROSpecState.Inactive;
+            }
+            case  2 :
+            {
+                return ROSpecState.Active;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
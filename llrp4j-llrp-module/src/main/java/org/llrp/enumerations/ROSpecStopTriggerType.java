@@ -0,0 +1,57 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>Description</p>
+ * <ul><li><p>0: Null - Stop when all AISpecs are done, or when preempted,
+ * or with a STOP_ROSPEC from the Client.
+ * </p>
+ * </li><li><p>1: Duration</p>
+ * </li><li><p>2: GPI with a timeout value</p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=57&amp;view=fit">LLRP Specification Section 10.2.1.1.2</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum ROSpecStopTriggerType
+    implements LlrpEnum
+{
+    Null(0),
+    Duration(1),
+    GPI_With_Timeout(2);
+    private final int value;
+
+    private ROSpecStopTriggerType(int value) {
+        this.value = value;
+    }
+
+    public static ROSpecStopTriggerType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return ROSpecStopTriggerType.Null;
+            }
+            case  1 :
+            {
+                return ROSpecStopTriggerType.Duration;
+            }
+            case  2 :
+            {
+                return ROSpecStopTriggerType.GPI_With_Timeout;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
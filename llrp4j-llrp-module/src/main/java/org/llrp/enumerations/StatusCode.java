@@ -0,0 +1,172 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>Status can be a success or one of the error conditions. This
+ * section lists a set of generic error conditions that, in
+ * combination with the identifier of the culprit field, conveys the
+ * error condition. The codes are broken into four scopes: message,
+ * parameter, field and device. The device code indicates that the
+ * error is in the Reader device rather than the message, parameter or
+ * field.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=93&amp;view=fit">LLRP Specification Section 14.2.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum StatusCode
+    implements LlrpEnum
+{
+    M_Success(0),
+    M_ParameterError(100),
+    M_FieldError(101),
+    M_UnexpectedParameter(102),
+    M_MissingParameter(103),
+    M_DuplicateParameter(104),
+    M_OverflowParameter(105),
+    M_OverflowField(106),
+    M_UnknownParameter(107),
+    M_UnknownField(108),
+    M_UnsupportedMessage(109),
+    M_UnsupportedVersion(110),
+    M_UnsupportedParameter(111),
+    P_ParameterError(200),
+    P_FieldError(201),
+    P_UnexpectedParameter(202),
+    P_MissingParameter(203),
+    P_DuplicateParameter(204),
+    P_OverflowParameter(205),
+    P_OverflowField(206),
+    P_UnknownParameter(207),
+    P_UnknownField(208),
+    P_UnsupportedParameter(209),
+    A_Invalid(300),
+    A_OutOfRange(301),
+    R_DeviceError(401);
+    private final int value;
+
+    private StatusCode(int value) {
+        this.value = value;
+    }
+
+    public static StatusCode fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return StatusCode.M_Success;
+            }
+            case  100 :
+            {
+                return StatusCode.M_ParameterError;
+            }
+            case  101 :
+            {
+                return StatusCode.M_FieldError;
+            }
+            case  102 :
+            {
+                return StatusCode.M_UnexpectedParameter;
+            }
+            case  103 :
+            {
+                return StatusCode.M_MissingParameter;
+            }
+            case  104 :
+            {
+                return StatusCode.M_DuplicateParameter;
+            }
+            case  105 :
+            {
+                return StatusCode.M_OverflowParameter;
+            }
+            case  106 :
+            {
+                return StatusCode.M_OverflowField;
+            }
+            case  107 :
+            {
+                return StatusCode.M_UnknownParameter;
+            }
+            case  108 :
+            {
+                return StatusCode.M_UnknownField;
+            }
+            case  109 :
+            {
+                return StatusCode.M_UnsupportedMessage;
+            }
+            case  110 :
+            {
+                return StatusCode.M_UnsupportedVersion;
+            }
+            case  111 :
+            {
+                return StatusCode.M_UnsupportedParameter;
+            }
+            case  200 :
+            {
+                return StatusCode.P_ParameterError;
+            }
+            case  201 :
+            {
+                return StatusCode.P_FieldError;
+            }
+            case  202 :
+            {
+                return StatusCode.P_UnexpectedParameter;
+            }
+            case  203 :
+            {
+                return StatusCode.P_MissingParameter;
+            }
+            case  204 :
+            {
+                return StatusCode.P_DuplicateParameter;
+            }
+            case  205 :
+            {
+                return StatusCode.P_OverflowParameter;
+            }
+            case  206 :
+            {
+                return StatusCode.P_OverflowField;
+            }
+            case  207 :
+            {
+                return StatusCode.P_UnknownParameter;
+            }
+            case  208 :
+            {
+                return StatusCode.P_UnknownField;
+            }
+            case  209 :
+            {
+                return StatusCode.P_UnsupportedParameter;
+            }
+            case  300 :
+            {
+                return StatusCode.A_Invalid;
+            }
+            case  301 :
+            {
+                return StatusCode.A_OutOfRange;
+            }
+            case  401 :
+            {
+                return StatusCode.R_DeviceError;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
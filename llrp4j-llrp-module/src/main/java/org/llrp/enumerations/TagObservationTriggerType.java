@@ -0,0 +1,73 @@
+
+package org.llrp.enumerations;
+
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.types.LlrpEnum;
+
+
+/**
+ * 
+ * <p>Description:</p>
+ * <ul><li><p>0: Upon seeing N tag observations, or timeout. The definition
+ * of an "observation" is vendor specific.
+ * </p>
+ * </li><li><p>1: Upon seeing no more new tag observations for T ms, or
+ * timeout. The definition of an "observation" is vendor specific.
+ * </p>
+ * </li><li><p>2: N attempts to see all tags in the FOV, or timeout</p>
+ * </li><li><p>3: Upon seeing N unique tag observations, or timeout.</p>
+ * </li><li><p>4: Upon seeing no more new unique tag observations for T ms,
+ * or timeout.
+ * </p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=58&amp;view=fit">LLRP Specification Section 10.2.2.1.1</a>
+ * 
+ * 
+ */
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public enum TagObservationTriggerType
+    implements LlrpEnum
+{
+    Upon_Seeing_N_Tags_Or_Timeout(0),
+    Upon_Seeing_No_More_New_Tags_For_Tms_Or_Timeout(1),
+    N_Attempts_To_See_All_Tags_In_FOV_Or_Timeout(2),
+    Upon_Seeing_N_Unique_Tags_Or_Timeout(3),
+    Upon_Seeing_No_More_New_Unique_Tags_For_Tms_Or_Timeout(4);
+    private final int value;
+
+    private TagObservationTriggerType(int value) {
+        this.value = value;
+    }
+
+    public static TagObservationTriggerType fromValue(int value) {
+        switch (value) {
+            case  0 :
+            {
+                return TagObservationTriggerType.Upon_Seeing_N_Tags_Or_Timeout;
+            }
+            case  1 :
+            {
+                return TagObservationTriggerType.Upon_Seeing_No_More_New_Tags_For_Tms_Or_Timeout;
+            }
+            case  2 :
+            {
+                return TagObservationTriggerType.N_Attempts_To_See_All_Tags_In_FOV_Or_Timeout;
+            }
+            case  3 :
+            {
+                return TagObservationTriggerType.Upon_Seeing_N_Unique_Tags_Or_Timeout;
+            }
+            case  4 :
+            {
+                return TagObservationTriggerType.Upon_Seeing_No_More_New_Unique_Tags_For_Tms_Or_Timeout;
+            }
+        }
+        throw new IllegalArgumentException();
+    }
+
+    public int value() {
+        return value;
+    }
+}
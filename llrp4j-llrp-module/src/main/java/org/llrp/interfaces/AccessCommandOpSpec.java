@@ -0,0 +1,5 @@
+
+package org.llrp.interfaces;
+
+public interface AccessCommandOpSpec {
+}
@@ -0,0 +1,83 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.parameters.AccessSpec;
+
+
+/**
+ * 
+ * <p>This command creates a new AccessSpec at the Reader. The
+ * AccessSpec starts at the Disabled state waiting for the
+ * ENABLE_ACCESSSPEC message for the AccessSpec from the Client, upon
+ * which it transitions to the Active state. The AccessSpecID is
+ * generated by the Client.
+ * </p>
+ * <p>
+ * The Client
+ * <b>SHALL</b>
+ * add an AccessSpec in a Disabled State i.e., CurrentState field in
+ * the AccessSpec Parameter (section 11.2.1)
+ * <b>SHALL</b>
+ * be set to false. If the CurrentState value is different than false,
+ * an error
+ * <b>SHALL</b>
+ * be returned in the ADD_ACCESSSPEC_RESPONSE (e.g. P_FieldError).
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=60&amp;view=fit">LLRP Specification Section 11.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=121&amp;view=fit">LLRP Specification Section 16.1.17</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 40, responseType = ADD_ACCESSSPEC_RESPONSE.class)
+@LlrpProperties({
+    "accessSpec"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ADD_ACCESSSPEC
+    extends LlrpMessage
+{
+    @LlrpParam(required = true)
+    protected AccessSpec accessSpec;
+
+    public ADD_ACCESSSPEC accessSpec(AccessSpec accessSpec) {
+        this.accessSpec = accessSpec;
+        return this;
+    }
+
+    public AccessSpec accessSpec() {
+        if (accessSpec == null) {
+            accessSpec = new AccessSpec();
+        }
+        return accessSpec;
+    }
+
+    public AccessSpec getAccessSpec() {
+        return accessSpec;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.accessSpec);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ADD_ACCESSSPEC other;
+        other = ((ADD_ACCESSSPEC) obj);
+        if (!Objects.equals(this.accessSpec, other.accessSpec)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,84 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.parameters.ROSpec;
+
+
+/**
+ * 
+ * <p>An ADD_ROSPEC message communicates the information of a ROSpec
+ * to the Reader. LLRP supports configuration of multiple ROSpecs.
+ * Each ROSpec is uniquely identified using a ROSpecID, generated by
+ * the Client. The ROSpec starts at the Disabled state waiting for the
+ * ENABLE_ROSPEC message for the ROSpec from the Client, upon which it
+ * transitions to the Inactive state.
+ * </p>
+ * <p>
+ * The Client
+ * <b>SHALL</b>
+ * add a ROSpec in a Disabled State - i.e., CurrentState field in the
+ * ROSpec Parameter (section 10.2.1)
+ * <b>SHALL</b>
+ * be set to disabled. If the CurrentState value is different than
+ * disabled, an error
+ * <b>SHALL</b>
+ * be returned in the ADD_ROSPEC_RESPONSE (e.g. P_FieldError).
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=51&amp;view=fit">LLRP Specification Section 10.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=117&amp;view=fit">LLRP Specification Section 16.1.3</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 20, responseType = ADD_ROSPEC_RESPONSE.class)
+@LlrpProperties({
+    "rOSpec"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ADD_ROSPEC
+    extends LlrpMessage
+{
+    @LlrpParam(required = true)
+    protected ROSpec rOSpec;
+
+    public ADD_ROSPEC roSpec(ROSpec rOSpec) {
+        this.rOSpec = rOSpec;
+        return this;
+    }
+
+    public ROSpec roSpec() {
+        if (rOSpec == null) {
+            rOSpec = new ROSpec();
+        }
+        return rOSpec;
+    }
+
+    public ROSpec getROSpec() {
+        return rOSpec;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOSpec);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ADD_ROSPEC other;
+        other = ((ADD_ROSPEC) obj);
+        if (!Objects.equals(this.rOSpec, other.rOSpec)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,63 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+
+/**
+ * 
+ * <p>
+ * This command is issued by the Client to the Reader. This command
+ * instructs the Reader to gracefully close its connection with the
+ * Client. Under normal operating conditions, a Client
+ * <b>SHALL</b>
+ * attempt to send this command before closing an LLRP connection. A
+ * Client should wait briefly for the Reader to respond with a
+ * CLOSE_CONNECTION_RESPONSE.
+ * </p>
+ * <p>
+ * Upon receipt of this command, the Reader
+ * <b>SHALL</b>
+ * respond with the CLOSE_CONNECTION_REPONSE message and it should
+ * then attempt to close the connection between the Reader and Client.
+ * </p>
+ * <p>
+ * Having executed a CLOSE_CONNECTION command, a Reader
+ * <b>MAY</b>
+ * persist its configuration state as defined by the
+ * ReaderConfigurationStateValue parameter specified in section
+ *  12.2.1.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=70&amp;view=fit">LLRP Specification Section 12.1.5</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=128&amp;view=fit">LLRP Specification Section 16.1.40</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 14, responseType = CLOSE_CONNECTION_RESPONSE.class)
+@LlrpProperties({
+
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class CLOSE_CONNECTION
+    extends LlrpMessage
+{
+
+    public int hashCode() {
+        return Objects.hash();
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.parameters.LLRPStatus;
+
+
+/**
+ * 
+ * <p>
+ * This is the response by the Reader to a CLOSE_CONNECTON command
+ * from the Client. Upon receiving a CLOSE_CONNECTION command, the
+ * Reader
+ * <b>SHALL</b>
+ * attempt to send this response to the Client. After attempting to
+ * send this response, the Reader
+ * <b>SHALL</b>
+ * close its connection with the Client.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=71&amp;view=fit">LLRP Specification Section 12.1.6</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=128&amp;view=fit">LLRP Specification Section 16.1.41</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 4)
+@LlrpProperties({
+    "lLRPStatus"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class CLOSE_CONNECTION_RESPONSE
+    extends LlrpMessage
+{
+    @LlrpParam(required = true)
+    protected LLRPStatus lLRPStatus;
+
+    public CLOSE_CONNECTION_RESPONSE llrpStatus(LLRPStatus lLRPStatus) {
+        this.lLRPStatus = lLRPStatus;
+        return this;
+    }
+
+    public LLRPStatus llrpStatus() {
+        if (lLRPStatus == null) {
+            lLRPStatus = new LLRPStatus();
+        }
+        return lLRPStatus;
+    }
+
+    public LLRPStatus getLLRPStatus() {
+        return lLRPStatus;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.lLRPStatus);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        CLOSE_CONNECTION_RESPONSE other;
+        other = ((CLOSE_CONNECTION_RESPONSE) obj);
+        if (!Objects.equals(this.lLRPStatus, other.lLRPStatus)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,104 @@
+
+package org.llrp.messages;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This message carries a vendor defined format from Reader to
+ * Client or Client to Reader.
+ * </p>
+ * <p>
+ * No requirements are made as to the content or parameters contained
+ * within the Data portion of these messages. Clients
+ * <b>MAY</b>
+ * ignore CUSTOM_MESSAGEs. Readers
+ * <b>SHALL</b>
+ * accept CUSTOM_MESSAGE and return an ERROR_MESSAGE if CUSTOM_MESSAGE
+ * is unsupported by the Reader or the CUSTOM_MESSAGE contains fields
+ * and/or parameters that are unsupported by the Reader.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=42&amp;view=fit">LLRP Specification Section 8.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=129&amp;view=fit">LLRP Specification Section 16.1.42</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 1023)
+@LlrpProperties({
+    "vendorIdentifier",
+    "messageSubtype",
+    "data"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class CUSTOM_MESSAGE
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_32)
+    protected long vendorIdentifier;
+    @LlrpField(type = FieldType.U_8)
+    protected int messageSubtype;
+    @LlrpField(type = FieldType.BYTES_TO_END, format = FieldFormat.HEX)
+    protected byte[] data;
+
+    public CUSTOM_MESSAGE vendorIdentifier(long vendorIdentifier) {
+        this.vendorIdentifier = vendorIdentifier;
+        return this;
+    }
+
+    public long vendorIdentifier() {
+        return vendorIdentifier;
+    }
+
+    public CUSTOM_MESSAGE messageSubtype(int messageSubtype) {
+        this.messageSubtype = messageSubtype;
+        return this;
+    }
+
+    public int messageSubtype() {
+        return messageSubtype;
+    }
+
+    public CUSTOM_MESSAGE data(byte[] data) {
+        this.data = data;
+        return this;
+    }
+
+    public byte[] data() {
+        return data;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.vendorIdentifier, this.messageSubtype, this.data);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        CUSTOM_MESSAGE other;
+        other = ((CUSTOM_MESSAGE) obj);
+        if (!Objects.equals(this.vendorIdentifier, other.vendorIdentifier)) {
+            return false;
+        }
+        if (!Objects.equals(this.messageSubtype, other.messageSubtype)) {
+            return false;
+        }
+        if (!Arrays.equals(this.data, other.data)) {
+            return false;
+        }
+        return true;
+    }
+}
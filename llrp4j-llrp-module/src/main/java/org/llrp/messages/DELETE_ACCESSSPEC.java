@@ -0,0 +1,65 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This command is issued by the Client to the Reader. The Reader
+ * deletes the AccessSpec corresponding to the AccessSpecId, and this
+ * AccessSpec will stop taking effect from the next inventory round.
+ * </p>
+ * <p>AccessSpecID: If set to Zero, all AccessSpecs are deleted.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=61&amp;view=fit">LLRP Specification Section 11.1.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=122&amp;view=fit">LLRP Specification Section 16.1.19</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 41, responseType = DELETE_ACCESSSPEC_RESPONSE.class)
+@LlrpProperties({
+    "accessSpecID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class DELETE_ACCESSSPEC
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_32)
+    protected long accessSpecID;
+
+    public DELETE_ACCESSSPEC accessSpecID(long accessSpecID) {
+        this.accessSpecID = accessSpecID;
+        return this;
+    }
+
+    public long accessSpecID() {
+        return accessSpecID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.accessSpecID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        DELETE_ACCESSSPEC other;
+        other = ((DELETE_ACCESSSPEC) obj);
+        if (!Objects.equals(this.accessSpecID, other.accessSpecID)) {
+            return false;
+        }
+        return true;
+    }
+}
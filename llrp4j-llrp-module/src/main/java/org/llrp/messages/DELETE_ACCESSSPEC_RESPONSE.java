@@ -0,0 +1,73 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.parameters.LLRPStatus;
+
+
+/**
+ * 
+ * <p>This is the response by the Reader to a DELETE_ACCESSSPEC
+ * command. If there was an AccessSpec at the Reader corresponding to
+ * the AccessSpecID passed in the DELETE_ACCESSSPEC command, and the
+ * Reader was successful in deleting that AccessSpec, then the success
+ * code is returned in the LLRPStatus parameter. If there is an error,
+ * the appropriate error code is returned in the LLRPStatus parameter.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=61&amp;view=fit">LLRP Specification Section 11.1.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=122&amp;view=fit">LLRP Specification Section 16.1.20</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 51)
+@LlrpProperties({
+    "lLRPStatus"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class DELETE_ACCESSSPEC_RESPONSE
+    extends LlrpMessage
+{
+    @LlrpParam(required = true)
+    protected LLRPStatus lLRPStatus;
+
+    public DELETE_ACCESSSPEC_RESPONSE llrpStatus(LLRPStatus lLRPStatus) {
+        this.lLRPStatus = lLRPStatus;
+        return this;
+    }
+
+    public LLRPStatus llrpStatus() {
+        if (lLRPStatus == null) {
+            lLRPStatus = new LLRPStatus();
+        }
+        return lLRPStatus;
+    }
+
+    public LLRPStatus getLLRPStatus() {
+        return lLRPStatus;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.lLRPStatus);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        DELETE_ACCESSSPEC_RESPONSE other;
+        other = ((DELETE_ACCESSSPEC_RESPONSE) obj);
+        if (!Objects.equals(this.lLRPStatus, other.lLRPStatus)) {
+            return false;
+        }
+        return true;
+    }
+}
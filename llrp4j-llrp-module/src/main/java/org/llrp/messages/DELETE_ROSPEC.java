@@ -0,0 +1,64 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This command is issued by the Client to the Reader. This
+ * command deletes the ROSpec at the Reader corresponding to ROSpecID
+ * passed in this message.
+ * </p>
+ * <p>ROSpecID: Zero indicates to delete all ROSpecs.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=51&amp;view=fit">LLRP Specification Section 10.1.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=118&amp;view=fit">LLRP Specification Section 16.1.5</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 21, responseType = DELETE_ROSPEC_RESPONSE.class)
+@LlrpProperties({
+    "rOSpecID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class DELETE_ROSPEC
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_32)
+    protected long rOSpecID;
+
+    public DELETE_ROSPEC roSpecID(long rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public long roSpecID() {
+        return rOSpecID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOSpecID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        DELETE_ROSPEC other;
+        other = ((DELETE_ROSPEC) obj);
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This message is issued by the Client to the Reader. Upon
+ * receiving the message, the Reader stops the execution of the
+ * AccessSpec corresponding to AccessSpecID in this message. This
+ * basically moves the AccessSpec's state to Disabled. This message
+ * does not delete the AccessSpec. The AccessSpec will stop taking
+ * effect from the next inventory round.
+ * </p>
+ * <p>AccessSpecID: If set to zero, all AccessSpecs are disabled.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=62&amp;view=fit">LLRP Specification Section 11.1.7</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=123&amp;view=fit">LLRP Specification Section 16.1.23</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 43, responseType = DISABLE_ACCESSSPEC_RESPONSE.class)
+@LlrpProperties({
+    "accessSpecID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class DISABLE_ACCESSSPEC
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_32)
+    protected long accessSpecID;
+
+    public DISABLE_ACCESSSPEC accessSpecID(long accessSpecID) {
+        this.accessSpecID = accessSpecID;
+        return this;
+    }
+
+    public long accessSpecID() {
+        return accessSpecID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.accessSpecID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        DISABLE_ACCESSSPEC other;
+        other = ((DISABLE_ACCESSSPEC) obj);
+        if (!Objects.equals(this.accessSpecID, other.accessSpecID)) {
+            return false;
+        }
+        return true;
+    }
+}
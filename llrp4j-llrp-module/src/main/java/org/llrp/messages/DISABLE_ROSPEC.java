@@ -0,0 +1,64 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This message is issued by the Client to the Reader. Upon
+ * receiving the message, the Reader moves the ROSpec corresponding to
+ * the ROSpecID passed in this message to the disabled state.
+ * </p>
+ * <p>ROSpecID: If set to Zero, all ROSpecs are disabled.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=54&amp;view=fit">LLRP Specification Section 10.1.11</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=120&amp;view=fit">LLRP Specification Section 16.1.13</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 25, responseType = DISABLE_ROSPEC_RESPONSE.class)
+@LlrpProperties({
+    "rOSpecID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class DISABLE_ROSPEC
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_32)
+    protected long rOSpecID;
+
+    public DISABLE_ROSPEC roSpecID(long rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public long roSpecID() {
+        return rOSpecID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOSpecID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        DISABLE_ROSPEC other;
+        other = ((DISABLE_ROSPEC) obj);
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,68 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This message is issued by the Client to the Reader. Upon
+ * receiving the message, the Reader moves the AccessSpec
+ * corresponding to the AccessSpecID in this message from the Disabled
+ * state to the Active state. The Reader executes this access-spec
+ * until it gets a DISABLE_ACCESSSPEC or a DELETE_ACCESSSPEC from the
+ * Client. The AccessSpec takes effect with the next (and subsequent)
+ * inventory rounds.
+ * </p>
+ * <p>AccessSpecID: If set to 0, all AccessSpecs are enabled.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=62&amp;view=fit">LLRP Specification Section 11.1.5</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=122&amp;view=fit">LLRP Specification Section 16.1.21</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 42, responseType = ENABLE_ACCESSSPEC_RESPONSE.class)
+@LlrpProperties({
+    "accessSpecID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ENABLE_ACCESSSPEC
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_32)
+    protected long accessSpecID;
+
+    public ENABLE_ACCESSSPEC accessSpecID(long accessSpecID) {
+        this.accessSpecID = accessSpecID;
+        return this;
+    }
+
+    public long accessSpecID() {
+        return accessSpecID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.accessSpecID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ENABLE_ACCESSSPEC other;
+        other = ((ENABLE_ACCESSSPEC) obj);
+        if (!Objects.equals(this.accessSpecID, other.accessSpecID)) {
+            return false;
+        }
+        return true;
+    }
+}
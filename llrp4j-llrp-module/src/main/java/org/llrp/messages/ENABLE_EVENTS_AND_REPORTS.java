@@ -0,0 +1,49 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+
+/**
+ * 
+ * <p>This message can be issued by the Client to the Reader after a
+ * LLRP connection is established. The Client uses this message to
+ * inform the Reader that it can remove its hold on event and report
+ * messages. Readers that are configured to hold events and reports on
+ * reconnection (See Section 12.2.6.4) respond to this message by
+ * returning the tag reports accumulated (same way they respond to
+ * GET_REPORT (See Section 13.1.1)).
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=78&amp;view=fit">LLRP Specification Section 13.1.6</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=126&amp;view=fit">LLRP Specification Section 16.1.34</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 64)
+@LlrpProperties({
+
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ENABLE_EVENTS_AND_REPORTS
+    extends LlrpMessage
+{
+
+    public int hashCode() {
+        return Objects.hash();
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        return true;
+    }
+}
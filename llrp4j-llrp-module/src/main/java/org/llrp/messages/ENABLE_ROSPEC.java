@@ -0,0 +1,65 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This message is issued by the Client to the Reader. Upon
+ * receiving the message, the Reader moves the ROSpec corresponding to
+ * the ROSpecID passed in this message from the disabled to the
+ * enabled state.
+ * </p>
+ * <p>ROSpecID: If set to zero, all ROSpecs are enabled.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=53&amp;view=fit">LLRP Specification Section 10.1.9</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=119&amp;view=fit">LLRP Specification Section 16.1.11</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 24, responseType = ENABLE_ROSPEC_RESPONSE.class)
+@LlrpProperties({
+    "rOSpecID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ENABLE_ROSPEC
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_32)
+    protected long rOSpecID;
+
+    public ENABLE_ROSPEC roSpecID(long rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public long roSpecID() {
+        return rOSpecID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOSpecID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ENABLE_ROSPEC other;
+        other = ((ENABLE_ROSPEC) obj);
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        return true;
+    }
+}
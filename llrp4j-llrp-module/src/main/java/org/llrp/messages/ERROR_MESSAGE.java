@@ -0,0 +1,113 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.parameters.LLRPStatus;
+
+
+/**
+ * 
+ * <p>
+ * The Reader
+ * <b>SHALL</b>
+ * discard the message if there is at least one error in the message,
+ * or cannot be fully processed. In addition, no portion of the
+ * message containing an error
+ * <b>SHALL</b>
+ * be executed by the Reader. In case the message has one or more
+ * errors, the Reader
+ * <b>SHALL</b>
+ * return at least one error parameter for one of the errors. The
+ * Reader
+ * <b>MAY</b>
+ * return more than one error parameter, one for each error. The
+ * errors are conveyed using a combination of "generic error codes", a
+ * pointer to the culprit parameter/field, and a description of the
+ * error encoded as a string of UTF-8 characters.
+ * </p>
+ * <p>
+ * Typically the errors in the LLRP defined messages are conveyed
+ * inside of the responses from the Reader. However, in cases where
+ * the message received by the Reader contains an unsupported message
+ * type, or a CUSTOM_MESSAGE with unsupported parameters or fields,
+ * the Reader
+ * <b>SHALL</b>
+ * respond with the ERROR_MESSAGE.
+ * </p>
+ * <p>
+ * When a Reader or Client receives a command or notification with a
+ * version that is not supported, the receiver
+ * <b>SHALL</b>
+ * send an ERROR_MESSAGE in reply consisting of: A version that is the
+ * same as the received message, the message ID that matches the
+ * received message, and an LLRPStatusParameter with the ErrorCode set
+ * to M_UnsupportedVersion. This message
+ * <b>SHALL</b>
+ * contain no sub-parameters (such as Field Error, Parameter Error).
+ * </p>
+ * <p>
+ * Readers and Clients
+ * <b>SHALL</b>
+ * not respond to an ERROR_MESSAGE.
+ * </p>
+ * <p>This message is issued by the Reader to the Client, and it
+ * contains the LLRPStatus parameter that describes the error in the
+ * message.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=93&amp;view=fit">LLRP Specification Section 14.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=126&amp;view=fit">LLRP Specification Section 16.1.35</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 100)
+@LlrpProperties({
+    "lLRPStatus"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ERROR_MESSAGE
+    extends LlrpMessage
+{
+    @LlrpParam(required = true)
+    protected LLRPStatus lLRPStatus;
+
+    public ERROR_MESSAGE llrpStatus(LLRPStatus lLRPStatus) {
+        this.lLRPStatus = lLRPStatus;
+        return this;
+    }
+
+    public LLRPStatus llrpStatus() {
+        if (lLRPStatus == null) {
+            lLRPStatus = new LLRPStatus();
+        }
+        return lLRPStatus;
+    }
+
+    public LLRPStatus getLLRPStatus() {
+        return lLRPStatus;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.lLRPStatus);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ERROR_MESSAGE other;
+        other = ((ERROR_MESSAGE) obj);
+        if (!Objects.equals(this.lLRPStatus, other.lLRPStatus)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,100 @@
+
+package org.llrp.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.parameters.AccessSpec;
+import org.llrp.parameters.LLRPStatus;
+
+
+/**
+ * 
+ * <p>This is the response by the Reader to a GET_ACCESSSPECS
+ * command. If there are no AccessSpecs configured at the Reader, the
+ * response is just the LLRPStatus parameter with the success code.
+ * Else, a list of (AccessSpecID, AccessSpec parameter) is returned by
+ * the Reader, along with the LLRPStatus parameter containing the
+ * success code. The order of the AccessSpecs listed in the message is
+ * normatively the order in which the AccessSpecs were created at the
+ * Reader.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=63&amp;view=fit">LLRP Specification Section 11.1.10</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=123&amp;view=fit">LLRP Specification Section 16.1.26</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 54)
+@LlrpProperties({
+    "lLRPStatus",
+    "accessSpec"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GET_ACCESSSPECS_RESPONSE
+    extends LlrpMessage
+{
+    @LlrpParam(required = true)
+    protected LLRPStatus lLRPStatus;
+    @LlrpParam(required = false)
+    protected List<AccessSpec> accessSpec;
+
+    public GET_ACCESSSPECS_RESPONSE llrpStatus(LLRPStatus lLRPStatus) {
+        this.lLRPStatus = lLRPStatus;
+        return this;
+    }
+
+    public LLRPStatus llrpStatus() {
+        if (lLRPStatus == null) {
+            lLRPStatus = new LLRPStatus();
+        }
+        return lLRPStatus;
+    }
+
+    public LLRPStatus getLLRPStatus() {
+        return lLRPStatus;
+    }
+
+    public GET_ACCESSSPECS_RESPONSE accessSpec(List<AccessSpec> accessSpec) {
+        this.accessSpec = accessSpec;
+        return this;
+    }
+
+    public List<AccessSpec> accessSpec() {
+        if (accessSpec == null) {
+            accessSpec = new ArrayList<AccessSpec>();
+        }
+        return accessSpec;
+    }
+
+    public List<AccessSpec> getAccessSpec() {
+        return accessSpec;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.lLRPStatus, this.accessSpec);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GET_ACCESSSPECS_RESPONSE other;
+        other = ((GET_ACCESSSPECS_RESPONSE) obj);
+        if (!Objects.equals(this.lLRPStatus, other.lLRPStatus)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessSpec, other.accessSpec)) {
+            return false;
+        }
+        return true;
+    }
+}
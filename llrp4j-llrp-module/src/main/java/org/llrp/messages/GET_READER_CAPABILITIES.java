@@ -0,0 +1,90 @@
+
+package org.llrp.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.enumerations.GetReaderCapabilitiesRequestedData;
+import org.llrp.ltk.schema.core.FieldType;
+import org.llrp.parameters.Custom;
+
+
+/**
+ * 
+ * <p>This message is sent from the Client to the Reader. The Client
+ * is able to request only a subset or all the capabilities from the
+ * Reader.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=44&amp;view=fit">LLRP Specification Section 9.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=117&amp;view=fit">LLRP Specification Section 16.1.1</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 1, responseType = GET_READER_CAPABILITIES_RESPONSE.class)
+@LlrpProperties({
+    "requestedData",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GET_READER_CAPABILITIES
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_8)
+    protected GetReaderCapabilitiesRequestedData requestedData;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public GET_READER_CAPABILITIES requestedData(GetReaderCapabilitiesRequestedData requestedData) {
+        this.requestedData = requestedData;
+        return this;
+    }
+
+    public GetReaderCapabilitiesRequestedData requestedData() {
+        return requestedData;
+    }
+
+    public GET_READER_CAPABILITIES custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.requestedData, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GET_READER_CAPABILITIES other;
+        other = ((GET_READER_CAPABILITIES) obj);
+        if (!Objects.equals(this.requestedData, other.requestedData)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,182 @@
+
+package org.llrp.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.interfaces.AirProtocolLLRPCapabilities;
+import org.llrp.parameters.Custom;
+import org.llrp.parameters.GeneralDeviceCapabilities;
+import org.llrp.parameters.LLRPCapabilities;
+import org.llrp.parameters.LLRPStatus;
+import org.llrp.parameters.RegulatoryCapabilities;
+
+
+/**
+ * 
+ * <p>This is the response from the Reader to the
+ * GET_READER_CAPABILITIES message. The response contains the
+ * LLRPStatus Parameter and the list of parameters for the requested
+ * capabilities conveyed via RequestedData in the
+ * GET_READER_CAPABILITIES message.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=44&amp;view=fit">LLRP Specification Section 9.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=117&amp;view=fit">LLRP Specification Section 16.1.2</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 11)
+@LlrpProperties({
+    "lLRPStatus",
+    "generalDeviceCapabilities",
+    "lLRPCapabilities",
+    "regulatoryCapabilities",
+    "airProtocolLLRPCapabilities",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GET_READER_CAPABILITIES_RESPONSE
+    extends LlrpMessage
+{
+    @LlrpParam(required = true)
+    protected LLRPStatus lLRPStatus;
+    @LlrpParam(required = false)
+    protected GeneralDeviceCapabilities generalDeviceCapabilities;
+    @LlrpParam(required = false)
+    protected LLRPCapabilities lLRPCapabilities;
+    @LlrpParam(required = false)
+    protected RegulatoryCapabilities regulatoryCapabilities;
+    @LlrpParam(required = false)
+    protected AirProtocolLLRPCapabilities airProtocolLLRPCapabilities;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public GET_READER_CAPABILITIES_RESPONSE llrpStatus(LLRPStatus lLRPStatus) {
+        this.lLRPStatus = lLRPStatus;
+        return this;
+    }
+
+    public LLRPStatus llrpStatus() {
+        if (lLRPStatus == null) {
+            lLRPStatus = new LLRPStatus();
+        }
+        return lLRPStatus;
+    }
+
+    public LLRPStatus getLLRPStatus() {
+        return lLRPStatus;
+    }
+
+    public GET_READER_CAPABILITIES_RESPONSE generalDeviceCapabilities(GeneralDeviceCapabilities generalDeviceCapabilities) {
+        this.generalDeviceCapabilities = generalDeviceCapabilities;
+        return this;
+    }
+
+    public GeneralDeviceCapabilities generalDeviceCapabilities() {
+        if (generalDeviceCapabilities == null) {
+            generalDeviceCapabilities = new GeneralDeviceCapabilities();
+        }
+        return generalDeviceCapabilities;
+    }
+
+    public GeneralDeviceCapabilities getGeneralDeviceCapabilities() {
+        return generalDeviceCapabilities;
+    }
+
+    public GET_READER_CAPABILITIES_RESPONSE llrpCapabilities(LLRPCapabilities lLRPCapabilities) {
+        this.lLRPCapabilities = lLRPCapabilities;
+        return this;
+    }
+
+    public LLRPCapabilities llrpCapabilities() {
+        if (lLRPCapabilities == null) {
+            lLRPCapabilities = new LLRPCapabilities();
+        }
+        return lLRPCapabilities;
+    }
+
+    public LLRPCapabilities getLLRPCapabilities() {
+        return lLRPCapabilities;
+    }
+
+    public GET_READER_CAPABILITIES_RESPONSE regulatoryCapabilities(RegulatoryCapabilities regulatoryCapabilities) {
+        this.regulatoryCapabilities = regulatoryCapabilities;
+        return this;
+    }
+
+    public RegulatoryCapabilities regulatoryCapabilities() {
+        if (regulatoryCapabilities == null) {
+            regulatoryCapabilities = new RegulatoryCapabilities();
+        }
+        return regulatoryCapabilities;
+    }
+
+    public RegulatoryCapabilities getRegulatoryCapabilities() {
+        return regulatoryCapabilities;
+    }
+
+    public GET_READER_CAPABILITIES_RESPONSE airProtocolLLRPCapabilities(AirProtocolLLRPCapabilities airProtocolLLRPCapabilities) {
+        this.airProtocolLLRPCapabilities = airProtocolLLRPCapabilities;
+        return this;
+    }
+
+    public AirProtocolLLRPCapabilities airProtocolLLRPCapabilities() {
+        return airProtocolLLRPCapabilities;
+    }
+
+    public GET_READER_CAPABILITIES_RESPONSE custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.lLRPStatus, this.generalDeviceCapabilities, this.lLRPCapabilities, this.regulatoryCapabilities, this.airProtocolLLRPCapabilities, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GET_READER_CAPABILITIES_RESPONSE other;
+        other = ((GET_READER_CAPABILITIES_RESPONSE) obj);
+        if (!Objects.equals(this.lLRPStatus, other.lLRPStatus)) {
+            return false;
+        }
+        if (!Objects.equals(this.generalDeviceCapabilities, other.generalDeviceCapabilities)) {
+            return false;
+        }
+        if (!Objects.equals(this.lLRPCapabilities, other.lLRPCapabilities)) {
+            return false;
+        }
+        if (!Objects.equals(this.regulatoryCapabilities, other.regulatoryCapabilities)) {
+            return false;
+        }
+        if (!Objects.equals(this.airProtocolLLRPCapabilities, other.airProtocolLLRPCapabilities)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,136 @@
+
+package org.llrp.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.enumerations.GetReaderConfigRequestedData;
+import org.llrp.ltk.schema.core.FieldType;
+import org.llrp.parameters.Custom;
+
+
+/**
+ * 
+ * <p>This command is issued by the Client to get the current
+ * configuration information of the Reader. The Requested Data passed
+ * in the command represents the parameter(s) of interest to the
+ * Client that has to be returned by the Reader.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=67&amp;view=fit">LLRP Specification Section 12.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=126&amp;view=fit">LLRP Specification Section 16.1.36</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 2, responseType = GET_READER_CONFIG_RESPONSE.class)
+@LlrpProperties({
+    "antennaID",
+    "requestedData",
+    "gPIPortNum",
+    "gPOPortNum",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GET_READER_CONFIG
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int antennaID;
+    @LlrpField(type = FieldType.U_8)
+    protected GetReaderConfigRequestedData requestedData;
+    @LlrpField(type = FieldType.U_16)
+    protected int gPIPortNum;
+    @LlrpField(type = FieldType.U_16)
+    protected int gPOPortNum;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public GET_READER_CONFIG antennaID(int antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public int antennaID() {
+        return antennaID;
+    }
+
+    public GET_READER_CONFIG requestedData(GetReaderConfigRequestedData requestedData) {
+        this.requestedData = requestedData;
+        return this;
+    }
+
+    public GetReaderConfigRequestedData requestedData() {
+        return requestedData;
+    }
+
+    public GET_READER_CONFIG gpiPortNum(int gPIPortNum) {
+        this.gPIPortNum = gPIPortNum;
+        return this;
+    }
+
+    public int gpiPortNum() {
+        return gPIPortNum;
+    }
+
+    public GET_READER_CONFIG gpoPortNum(int gPOPortNum) {
+        this.gPOPortNum = gPOPortNum;
+        return this;
+    }
+
+    public int gpoPortNum() {
+        return gPOPortNum;
+    }
+
+    public GET_READER_CONFIG custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.antennaID, this.requestedData, this.gPIPortNum, this.gPOPortNum, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GET_READER_CONFIG other;
+        other = ((GET_READER_CONFIG) obj);
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        if (!Objects.equals(this.requestedData, other.requestedData)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPIPortNum, other.gPIPortNum)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPOPortNum, other.gPOPortNum)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,372 @@
+
+package org.llrp.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.parameters.AccessReportSpec;
+import org.llrp.parameters.AntennaConfiguration;
+import org.llrp.parameters.AntennaProperties;
+import org.llrp.parameters.Custom;
+import org.llrp.parameters.EventsAndReports;
+import org.llrp.parameters.GPIPortCurrentState;
+import org.llrp.parameters.GPOWriteData;
+import org.llrp.parameters.Identification;
+import org.llrp.parameters.KeepaliveSpec;
+import org.llrp.parameters.LLRPConfigurationStateValue;
+import org.llrp.parameters.LLRPStatus;
+import org.llrp.parameters.ROReportSpec;
+import org.llrp.parameters.ReaderEventNotificationSpec;
+
+
+/**
+ * 
+ * <p>This is the response by the Reader to the GET_READER_CONFIG
+ * message. The response is the LLRPStatus Parameter and the list of
+ * configuration parameters based on the RequestedData in
+ * GET_READER_CONFIG. If the GET_READER_CONFIG message did not have
+ * any errors, the success code is returned in the LLRPStatus
+ * parameter, and in addition the requested configuration parameters
+ * are returned. If there is an error, the appropriate error code is
+ * returned in the LLRPStatus parameter. The response contains at most
+ * one instance of each configuration parameter except for two cases,
+ * which are as follows:
+ * </p>
+ * <ul><li><p>
+ * If RequestedData is 0, 2 or 3, and AntennaID is set to 0 in the
+ * GET_READER_CONFIG message, the Reader
+ * <b>SHALL</b>
+ * return one instance of AntennaProperties Parameter or
+ * AntennaConfiguration Parameter per requested antenna.
+ * </p>
+ * </li><li><p>
+ * If RequestedData is 0 or 9 (10), and GPIPortNum (GPOPortNum) is
+ * set to 0 in the GET_READER_CONFIG message, and, if the Reader
+ * supports GPI (GPO), the Reader
+ * <b>SHALL</b>
+ * return one instance of GPIPortCurrentState (GPOWriteData)
+ * Parameter per requested GPI Port (GPO Port).
+ * </p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=68&amp;view=fit">LLRP Specification Section 12.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=127&amp;view=fit">LLRP Specification Section 16.1.37</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 12)
+@LlrpProperties({
+    "lLRPStatus",
+    "identification",
+    "antennaProperties",
+    "antennaConfiguration",
+    "readerEventNotificationSpec",
+    "rOReportSpec",
+    "accessReportSpec",
+    "lLRPConfigurationStateValue",
+    "keepaliveSpec",
+    "gPIPortCurrentState",
+    "gPOWriteData",
+    "eventsAndReports",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GET_READER_CONFIG_RESPONSE
+    extends LlrpMessage
+{
+    @LlrpParam(required = true)
+    protected LLRPStatus lLRPStatus;
+    @LlrpParam(required = false)
+    protected Identification identification;
+    @LlrpParam(required = false)
+    protected List<AntennaProperties> antennaProperties;
+    @LlrpParam(required = false)
+    protected List<AntennaConfiguration> antennaConfiguration;
+    @LlrpParam(required = false)
+    protected ReaderEventNotificationSpec readerEventNotificationSpec;
+    @LlrpParam(required = false)
+    protected ROReportSpec rOReportSpec;
+    @LlrpParam(required = false)
+    protected AccessReportSpec accessReportSpec;
+    @LlrpParam(required = false)
+    protected LLRPConfigurationStateValue lLRPConfigurationStateValue;
+    @LlrpParam(required = false)
+    protected KeepaliveSpec keepaliveSpec;
+    @LlrpParam(required = false)
+    protected List<GPIPortCurrentState> gPIPortCurrentState;
+    @LlrpParam(required = false)
+    protected List<GPOWriteData> gPOWriteData;
+    @LlrpParam(required = false)
+    protected EventsAndReports eventsAndReports;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public GET_READER_CONFIG_RESPONSE llrpStatus(LLRPStatus lLRPStatus) {
+        this.lLRPStatus = lLRPStatus;
+        return this;
+    }
+
+    public LLRPStatus llrpStatus() {
+        if (lLRPStatus == null) {
+            lLRPStatus = new LLRPStatus();
+        }
+        return lLRPStatus;
+    }
+
+    public LLRPStatus getLLRPStatus() {
+        return lLRPStatus;
+    }
+
+    public GET_READER_CONFIG_RESPONSE identification(Identification identification) {
+        this.identification = identification;
+        return this;
+    }
+
+    public Identification identification() {
+        if (identification == null) {
+            identification = new Identification();
+        }
+        return identification;
+    }
+
+    public Identification getIdentification() {
+        return identification;
+    }
+
+    public GET_READER_CONFIG_RESPONSE antennaProperties(List<AntennaProperties> antennaProperties) {
+        this.antennaProperties = antennaProperties;
+        return this;
+    }
+
+    public List<AntennaProperties> antennaProperties() {
+        if (antennaProperties == null) {
+            antennaProperties = new ArrayList<AntennaProperties>();
+        }
+        return antennaProperties;
+    }
+
+    public List<AntennaProperties> getAntennaProperties() {
+        return antennaProperties;
+    }
+
+    public GET_READER_CONFIG_RESPONSE antennaConfiguration(List<AntennaConfiguration> antennaConfiguration) {
+        this.antennaConfiguration = antennaConfiguration;
+        return this;
+    }
+
+    public List<AntennaConfiguration> antennaConfiguration() {
+        if (antennaConfiguration == null) {
+            antennaConfiguration = new ArrayList<AntennaConfiguration>();
+        }
+        return antennaConfiguration;
+    }
+
+    public List<AntennaConfiguration> getAntennaConfiguration() {
+        return antennaConfiguration;
+    }
+
+    public GET_READER_CONFIG_RESPONSE readerEventNotificationSpec(ReaderEventNotificationSpec readerEventNotificationSpec) {
+        this.readerEventNotificationSpec = readerEventNotificationSpec;
+        return this;
+    }
+
+    public ReaderEventNotificationSpec readerEventNotificationSpec() {
+        if (readerEventNotificationSpec == null) {
+            readerEventNotificationSpec = new ReaderEventNotificationSpec();
+        }
+        return readerEventNotificationSpec;
+    }
+
+    public ReaderEventNotificationSpec getReaderEventNotificationSpec() {
+        return readerEventNotificationSpec;
+    }
+
+    public GET_READER_CONFIG_RESPONSE roReportSpec(ROReportSpec rOReportSpec) {
+        this.rOReportSpec = rOReportSpec;
+        return this;
+    }
+
+    public ROReportSpec roReportSpec() {
+        if (rOReportSpec == null) {
+            rOReportSpec = new ROReportSpec();
+        }
+        return rOReportSpec;
+    }
+
+    public ROReportSpec getROReportSpec() {
+        return rOReportSpec;
+    }
+
+    public GET_READER_CONFIG_RESPONSE accessReportSpec(AccessReportSpec accessReportSpec) {
+        this.accessReportSpec = accessReportSpec;
+        return this;
+    }
+
+    public AccessReportSpec accessReportSpec() {
+        if (accessReportSpec == null) {
+            accessReportSpec = new AccessReportSpec();
+        }
+        return accessReportSpec;
+    }
+
+    public AccessReportSpec getAccessReportSpec() {
+        return accessReportSpec;
+    }
+
+    public GET_READER_CONFIG_RESPONSE llrpConfigurationStateValue(LLRPConfigurationStateValue lLRPConfigurationStateValue) {
+        this.lLRPConfigurationStateValue = lLRPConfigurationStateValue;
+        return this;
+    }
+
+    public LLRPConfigurationStateValue llrpConfigurationStateValue() {
+        if (lLRPConfigurationStateValue == null) {
+            lLRPConfigurationStateValue = new LLRPConfigurationStateValue();
+        }
+        return lLRPConfigurationStateValue;
+    }
+
+    public LLRPConfigurationStateValue getLLRPConfigurationStateValue() {
+        return lLRPConfigurationStateValue;
+    }
+
+    public GET_READER_CONFIG_RESPONSE keepaliveSpec(KeepaliveSpec keepaliveSpec) {
+        this.keepaliveSpec = keepaliveSpec;
+        return this;
+    }
+
+    public KeepaliveSpec keepaliveSpec() {
+        if (keepaliveSpec == null) {
+            keepaliveSpec = new KeepaliveSpec();
+        }
+        return keepaliveSpec;
+    }
+
+    public KeepaliveSpec getKeepaliveSpec() {
+        return keepaliveSpec;
+    }
+
+    public GET_READER_CONFIG_RESPONSE gpiPortCurrentState(List<GPIPortCurrentState> gPIPortCurrentState) {
+        this.gPIPortCurrentState = gPIPortCurrentState;
+        return this;
+    }
+
+    public List<GPIPortCurrentState> gpiPortCurrentState() {
+        if (gPIPortCurrentState == null) {
+            gPIPortCurrentState = new ArrayList<GPIPortCurrentState>();
+        }
+        return gPIPortCurrentState;
+    }
+
+    public List<GPIPortCurrentState> getGPIPortCurrentState() {
+        return gPIPortCurrentState;
+    }
+
+    public GET_READER_CONFIG_RESPONSE gpoWriteData(List<GPOWriteData> gPOWriteData) {
+        this.gPOWriteData = gPOWriteData;
+        return this;
+    }
+
+    public List<GPOWriteData> gpoWriteData() {
+        if (gPOWriteData == null) {
+            gPOWriteData = new ArrayList<GPOWriteData>();
+        }
+        return gPOWriteData;
+    }
+
+    public List<GPOWriteData> getGPOWriteData() {
+        return gPOWriteData;
+    }
+
+    public GET_READER_CONFIG_RESPONSE eventsAndReports(EventsAndReports eventsAndReports) {
+        this.eventsAndReports = eventsAndReports;
+        return this;
+    }
+
+    public EventsAndReports eventsAndReports() {
+        if (eventsAndReports == null) {
+            eventsAndReports = new EventsAndReports();
+        }
+        return eventsAndReports;
+    }
+
+    public EventsAndReports getEventsAndReports() {
+        return eventsAndReports;
+    }
+
+    public GET_READER_CONFIG_RESPONSE custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.lLRPStatus, this.identification, this.antennaProperties, this.antennaConfiguration, this.readerEventNotificationSpec, this.rOReportSpec, this.accessReportSpec, this.lLRPConfigurationStateValue, this.keepaliveSpec, this.gPIPortCurrentState, this.gPOWriteData, this.eventsAndReports, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GET_READER_CONFIG_RESPONSE other;
+        other = ((GET_READER_CONFIG_RESPONSE) obj);
+        if (!Objects.equals(this.lLRPStatus, other.lLRPStatus)) {
+            return false;
+        }
+        if (!Objects.equals(this.identification, other.identification)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaProperties, other.antennaProperties)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaConfiguration, other.antennaConfiguration)) {
+            return false;
+        }
+        if (!Objects.equals(this.readerEventNotificationSpec, other.readerEventNotificationSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOReportSpec, other.rOReportSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessReportSpec, other.accessReportSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.lLRPConfigurationStateValue, other.lLRPConfigurationStateValue)) {
+            return false;
+        }
+        if (!Objects.equals(this.keepaliveSpec, other.keepaliveSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPIPortCurrentState, other.gPIPortCurrentState)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPOWriteData, other.gPOWriteData)) {
+            return false;
+        }
+        if (!Objects.equals(this.eventsAndReports, other.eventsAndReports)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+
+/**
+ * 
+ * <p>
+ * This message is issued by the Client to the Reader to get the tag
+ * reports. In response to this message, the Reader
+ * <b>SHALL</b>
+ * return tag reports accumulated.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=76&amp;view=fit">LLRP Specification Section 13.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=124&amp;view=fit">LLRP Specification Section 16.1.29</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 60)
+@LlrpProperties({
+
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GET_REPORT
+    extends LlrpMessage
+{
+
+    public int hashCode() {
+        return Objects.hash();
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        return true;
+    }
+}
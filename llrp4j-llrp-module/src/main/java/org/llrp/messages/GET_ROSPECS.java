@@ -0,0 +1,44 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+
+/**
+ * 
+ * <p>This is the request from the Client to the Reader to retrieve
+ * all the ROSpecs that have been configured at the Reader.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=54&amp;view=fit">LLRP Specification Section 10.1.13</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=120&amp;view=fit">LLRP Specification Section 16.1.15</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 26, responseType = GET_ROSPECS_RESPONSE.class)
+@LlrpProperties({
+
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GET_ROSPECS
+    extends LlrpMessage
+{
+
+    public int hashCode() {
+        return Objects.hash();
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,97 @@
+
+package org.llrp.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.parameters.LLRPStatus;
+import org.llrp.parameters.ROSpec;
+
+
+/**
+ * 
+ * <p>This is the response by the Reader to a GET_ROSPECS command. If
+ * there are no ROSpecs configured at the Reader, the response is just
+ * the LLRPStatus parameter with the success code. Else, a list of
+ * ROSpec parameter is returned by the Reader, along with the success
+ * code in the LLRPStatus parameter.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=55&amp;view=fit">LLRP Specification Section 10.1.14</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=121&amp;view=fit">LLRP Specification Section 16.1.16</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 36)
+@LlrpProperties({
+    "lLRPStatus",
+    "rOSpec"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GET_ROSPECS_RESPONSE
+    extends LlrpMessage
+{
+    @LlrpParam(required = true)
+    protected LLRPStatus lLRPStatus;
+    @LlrpParam(required = false)
+    protected List<ROSpec> rOSpec;
+
+    public GET_ROSPECS_RESPONSE llrpStatus(LLRPStatus lLRPStatus) {
+        this.lLRPStatus = lLRPStatus;
+        return this;
+    }
+
+    public LLRPStatus llrpStatus() {
+        if (lLRPStatus == null) {
+            lLRPStatus = new LLRPStatus();
+        }
+        return lLRPStatus;
+    }
+
+    public LLRPStatus getLLRPStatus() {
+        return lLRPStatus;
+    }
+
+    public GET_ROSPECS_RESPONSE roSpec(List<ROSpec> rOSpec) {
+        this.rOSpec = rOSpec;
+        return this;
+    }
+
+    public List<ROSpec> roSpec() {
+        if (rOSpec == null) {
+            rOSpec = new ArrayList<ROSpec>();
+        }
+        return rOSpec;
+    }
+
+    public List<ROSpec> getROSpec() {
+        return rOSpec;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.lLRPStatus, this.rOSpec);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GET_ROSPECS_RESPONSE other;
+        other = ((GET_ROSPECS_RESPONSE) obj);
+        if (!Objects.equals(this.lLRPStatus, other.lLRPStatus)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOSpec, other.rOSpec)) {
+            return false;
+        }
+        return true;
+    }
+}
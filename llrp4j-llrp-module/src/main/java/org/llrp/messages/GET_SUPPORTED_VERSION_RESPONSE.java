@@ -0,0 +1,102 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.ltk.schema.core.FieldType;
+import org.llrp.parameters.LLRPStatus;
+
+
+/**
+ * 
+ * <p>This is the response message from the Reader to the
+ * GET_SUPPORTED_VERSION message. The response contains the LLRPStatus
+ * Parameter and the version information supported by the Reader.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=44&amp;view=fit">//LLRP Specification Section 9.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=117&amp;view=fit">//LLRP Specification Section 16.1.1</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 56)
+@LlrpProperties({
+    "currentVersion",
+    "supportedVersion",
+    "lLRPStatus"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GET_SUPPORTED_VERSION_RESPONSE
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_8)
+    protected int currentVersion;
+    @LlrpField(type = FieldType.U_8)
+    protected int supportedVersion;
+    @LlrpParam(required = true)
+    protected LLRPStatus lLRPStatus;
+
+    public GET_SUPPORTED_VERSION_RESPONSE currentVersion(int currentVersion) {
+        this.currentVersion = currentVersion;
+        return this;
+    }
+
+    public int currentVersion() {
+        return currentVersion;
+    }
+
+    public GET_SUPPORTED_VERSION_RESPONSE supportedVersion(int supportedVersion) {
+        this.supportedVersion = supportedVersion;
+        return this;
+    }
+
+    public int supportedVersion() {
+        return supportedVersion;
+    }
+
+    public GET_SUPPORTED_VERSION_RESPONSE llrpStatus(LLRPStatus lLRPStatus) {
+        this.lLRPStatus = lLRPStatus;
+        return this;
+    }
+
+    public LLRPStatus llrpStatus() {
+        if (lLRPStatus == null) {
+            lLRPStatus = new LLRPStatus();
+        }
+        return lLRPStatus;
+    }
+
+    public LLRPStatus getLLRPStatus() {
+        return lLRPStatus;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.currentVersion, this.supportedVersion, this.lLRPStatus);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GET_SUPPORTED_VERSION_RESPONSE other;
+        other = ((GET_SUPPORTED_VERSION_RESPONSE) obj);
+        if (!Objects.equals(this.currentVersion, other.currentVersion)) {
+            return false;
+        }
+        if (!Objects.equals(this.supportedVersion, other.supportedVersion)) {
+            return false;
+        }
+        if (!Objects.equals(this.lLRPStatus, other.lLRPStatus)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,47 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+
+/**
+ * 
+ * <p>This message is issued by the Reader to the Client. This
+ * message can be used by the Client to monitor the LLRP-layer
+ * connectivity with the Reader. The Client configures the trigger at
+ * the Reader to send the Keepalive message. The configuration is done
+ * using the KeepaliveSpec parameter (section 12.2.4).
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=77&amp;view=fit">LLRP Specification Section 13.1.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=125&amp;view=fit">LLRP Specification Section 16.1.31</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 62)
+@LlrpProperties({
+
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class KEEPALIVE
+    extends LlrpMessage
+{
+
+    public int hashCode() {
+        return Objects.hash();
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,70 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.parameters.ReaderEventNotificationData;
+
+
+/**
+ * 
+ * <p>This message is issued by the Reader to the Client whenever an
+ * event that the Client subscribed to occurs. The pertinent event
+ * data is conveyed using the ReaderEventNotificationData parameter.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=77&amp;view=fit">LLRP Specification Section 13.1.5</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=126&amp;view=fit">LLRP Specification Section 16.1.33</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 63)
+@LlrpProperties({
+    "readerEventNotificationData"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class READER_EVENT_NOTIFICATION
+    extends LlrpMessage
+{
+    @LlrpParam(required = true)
+    protected ReaderEventNotificationData readerEventNotificationData;
+
+    public READER_EVENT_NOTIFICATION readerEventNotificationData(ReaderEventNotificationData readerEventNotificationData) {
+        this.readerEventNotificationData = readerEventNotificationData;
+        return this;
+    }
+
+    public ReaderEventNotificationData readerEventNotificationData() {
+        if (readerEventNotificationData == null) {
+            readerEventNotificationData = new ReaderEventNotificationData();
+        }
+        return readerEventNotificationData;
+    }
+
+    public ReaderEventNotificationData getReaderEventNotificationData() {
+        return readerEventNotificationData;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.readerEventNotificationData);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        READER_EVENT_NOTIFICATION other;
+        other = ((READER_EVENT_NOTIFICATION) obj);
+        if (!Objects.equals(this.readerEventNotificationData, other.readerEventNotificationData)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+
+package org.llrp.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.parameters.Custom;
+import org.llrp.parameters.RFSurveyReportData;
+import org.llrp.parameters.TagReportData;
+
+
+/**
+ * 
+ * <p>This message is issued by the Reader to the Client, and it
+ * contains the results of the RO and Access operations. The
+ * ROReportSpec and AccessReportSpec parameters define the contents
+ * and triggers for this message.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=77&amp;view=fit">LLRP Specification Section 13.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=125&amp;view=fit">LLRP Specification Section 16.1.30</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 61)
+@LlrpProperties({
+    "tagReportData",
+    "rFSurveyReportData",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class RO_ACCESS_REPORT
+    extends LlrpMessage
+{
+    @LlrpParam(required = false)
+    protected List<TagReportData> tagReportData;
+    @LlrpParam(required = false)
+    protected List<RFSurveyReportData> rFSurveyReportData;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public RO_ACCESS_REPORT tagReportData(List<TagReportData> tagReportData) {
+        this.tagReportData = tagReportData;
+        return this;
+    }
+
+    public List<TagReportData> tagReportData() {
+        if (tagReportData == null) {
+            tagReportData = new ArrayList<TagReportData>();
+        }
+        return tagReportData;
+    }
+
+    public List<TagReportData> getTagReportData() {
+        return tagReportData;
+    }
+
+    public RO_ACCESS_REPORT rfSurveyReportData(List<RFSurveyReportData> rFSurveyReportData) {
+        this.rFSurveyReportData = rFSurveyReportData;
+        return this;
+    }
+
+    public List<RFSurveyReportData> rfSurveyReportData() {
+        if (rFSurveyReportData == null) {
+            rFSurveyReportData = new ArrayList<RFSurveyReportData>();
+        }
+        return rFSurveyReportData;
+    }
+
+    public List<RFSurveyReportData> getRFSurveyReportData() {
+        return rFSurveyReportData;
+    }
+
+    public RO_ACCESS_REPORT custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.tagReportData, this.rFSurveyReportData, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        RO_ACCESS_REPORT other;
+        other = ((RO_ACCESS_REPORT) obj);
+        if (!Objects.equals(this.tagReportData, other.tagReportData)) {
+            return false;
+        }
+        if (!Objects.equals(this.rFSurveyReportData, other.rFSurveyReportData)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+
+package org.llrp.messages;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This message is sent from the Client to the Reader to set the
+ * protocol version for the current connection.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=44&amp;view=fit">//LLRP Specification Section 9.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=117&amp;view=fit">//LLRP Specification Section 16.1.1</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 47, responseType = SET_PROTOCOL_VERSION_RESPONSE.class)
+@LlrpProperties({
+    "protocolVersion"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class SET_PROTOCOL_VERSION
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_8)
+    protected int protocolVersion;
+
+    public SET_PROTOCOL_VERSION protocolVersion(int protocolVersion) {
+        this.protocolVersion = protocolVersion;
+        return this;
+    }
+
+    public int protocolVersion() {
+        return protocolVersion;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.protocolVersion);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        SET_PROTOCOL_VERSION other;
+        other = ((SET_PROTOCOL_VERSION) obj);
+        if (!Objects.equals(this.protocolVersion, other.protocolVersion)) {
+            return false;
+        }
+        return true;
+    }
+}
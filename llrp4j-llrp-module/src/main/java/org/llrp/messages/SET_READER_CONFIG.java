@@ -0,0 +1,313 @@
+
+package org.llrp.messages;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpMessageType;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.LlrpMessage;
+import org.llrp.ltk.schema.core.FieldType;
+import org.llrp.parameters.AccessReportSpec;
+import org.llrp.parameters.AntennaConfiguration;
+import org.llrp.parameters.AntennaProperties;
+import org.llrp.parameters.Custom;
+import org.llrp.parameters.EventsAndReports;
+import org.llrp.parameters.GPIPortCurrentState;
+import org.llrp.parameters.GPOWriteData;
+import org.llrp.parameters.KeepaliveSpec;
+import org.llrp.parameters.ROReportSpec;
+import org.llrp.parameters.ReaderEventNotificationSpec;
+
+
+/**
+ * 
+ * <p>
+ * This command is issued by the Client to the Reader. This command
+ * sets the Reader configuration using the parameters specified in
+ * this command. Values passed by the SET_READER_CONFIG
+ * <b>SHALL</b>
+ * apply for the duration of the LLRP connection, or until the values
+ * are changed by additional SET_READER_CONFIG messages.
+ * </p>
+ * <p>For example, ROReportSpec defines the reporting of ROReport
+ * format and trigger for a ROSpec. ROReportSpec sent as part of
+ * SET_READER_CONFIG becomes the default ROReportSpec for the Reader.
+ * A ROReportSpec sent as part of ROSpec in the ADD_ROSPEC command
+ * overrides the default value for that ROSpec. However, in cases
+ * where there is no ROReportSpec specified in a ROSpec sent as part
+ * of ADD_ROSPEC, that particular ROSpec inherits the default
+ * ROReportSpec.
+ * </p>
+ * <p>The data field ResetToFactoryDefault informs the Reader to set
+ * all configurable values to factory defaults before applying the
+ * remaining parameters.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=69&amp;view=fit">LLRP Specification Section 12.1.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=127&amp;view=fit">LLRP Specification Section 16.1.38</a>
+ * 
+ * 
+ */
+@LlrpMessageType(typeNum = 3, responseType = SET_READER_CONFIG_RESPONSE.class)
+@LlrpProperties({
+    "resetToFactoryDefault",
+    "readerEventNotificationSpec",
+    "antennaProperties",
+    "antennaConfiguration",
+    "rOReportSpec",
+    "accessReportSpec",
+    "keepaliveSpec",
+    "gPOWriteData",
+    "gPIPortCurrentState",
+    "eventsAndReports",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class SET_READER_CONFIG
+    extends LlrpMessage
+{
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected boolean resetToFactoryDefault;
+    @LlrpParam(required = false)
+    protected ReaderEventNotificationSpec readerEventNotificationSpec;
+    @LlrpParam(required = false)
+    protected List<AntennaProperties> antennaProperties;
+    @LlrpParam(required = false)
+    protected List<AntennaConfiguration> antennaConfiguration;
+    @LlrpParam(required = false)
+    protected ROReportSpec rOReportSpec;
+    @LlrpParam(required = false)
+    protected AccessReportSpec accessReportSpec;
+    @LlrpParam(required = false)
+    protected KeepaliveSpec keepaliveSpec;
+    @LlrpParam(required = false)
+    protected List<GPOWriteData> gPOWriteData;
+    @LlrpParam(required = false)
+    protected List<GPIPortCurrentState> gPIPortCurrentState;
+    @LlrpParam(required = false)
+    protected EventsAndReports eventsAndReports;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public SET_READER_CONFIG resetToFactoryDefault(boolean resetToFactoryDefault) {
+        this.resetToFactoryDefault = resetToFactoryDefault;
+        return this;
+    }
+
+    public boolean resetToFactoryDefault() {
+        return resetToFactoryDefault;
+    }
+
+    public SET_READER_CONFIG readerEventNotificationSpec(ReaderEventNotificationSpec readerEventNotificationSpec) {
+        this.readerEventNotificationSpec = readerEventNotificationSpec;
+        return this;
+    }
+
+    public ReaderEventNotificationSpec readerEventNotificationSpec() {
+        if (readerEventNotificationSpec == null) {
+            readerEventNotificationSpec = new ReaderEventNotificationSpec();
+        }
+        return readerEventNotificationSpec;
+    }
+
+    public ReaderEventNotificationSpec getReaderEventNotificationSpec() {
+        return readerEventNotificationSpec;
+    }
+
+    public SET_READER_CONFIG antennaProperties(List<AntennaProperties> antennaProperties) {
+        this.antennaProperties = antennaProperties;
+        return this;
+    }
+
+    public List<AntennaProperties> antennaProperties() {
+        if (antennaProperties == null) {
+            antennaProperties = new ArrayList<AntennaProperties>();
+        }
+        return antennaProperties;
+    }
+
+    public List<AntennaProperties> getAntennaProperties() {
+        return antennaProperties;
+    }
+
+    public SET_READER_CONFIG antennaConfiguration(List<AntennaConfiguration> antennaConfiguration) {
+        this.antennaConfiguration = antennaConfiguration;
+        return this;
+    }
+
+    public List<AntennaConfiguration> antennaConfiguration() {
+        if (antennaConfiguration == null) {
+            antennaConfiguration = new ArrayList<AntennaConfiguration>();
+        }
+        return antennaConfiguration;
+    }
+
+    public List<AntennaConfiguration> getAntennaConfiguration() {
+        return antennaConfiguration;
+    }
+
+    public SET_READER_CONFIG roReportSpec(ROReportSpec rOReportSpec) {
+        this.rOReportSpec = rOReportSpec;
+        return this;
+    }
+
+    public ROReportSpec roReportSpec() {
+        if (rOReportSpec == null) {
+            rOReportSpec = new ROReportSpec();
+        }
+        return rOReportSpec;
+    }
+
+    public ROReportSpec getROReportSpec() {
+        return rOReportSpec;
+    }
+
+    public SET_READER_CONFIG accessReportSpec(AccessReportSpec accessReportSpec) {
+        this.accessReportSpec = accessReportSpec;
+        return this;
+    }
+
+    public AccessReportSpec accessReportSpec() {
+        if (accessReportSpec == null) {
+            accessReportSpec = new AccessReportSpec();
+        }
+        return accessReportSpec;
+    }
+
+    public AccessReportSpec getAccessReportSpec() {
+        return accessReportSpec;
+    }
+
+    public SET_READER_CONFIG keepaliveSpec(KeepaliveSpec keepaliveSpec) {
+        this.keepaliveSpec = keepaliveSpec;
+        return this;
+    }
+
+    public KeepaliveSpec keepaliveSpec() {
+        if (keepaliveSpec == null) {
+            keepaliveSpec = new KeepaliveSpec();
+        }
+        return keepaliveSpec;
+    }
+
+    public KeepaliveSpec getKeepaliveSpec() {
+        return keepaliveSpec;
+    }
+
+    public SET_READER_CONFIG gpoWriteData(List<GPOWriteData> gPOWriteData) {
+        this.gPOWriteData = gPOWriteData;
+        return this;
+    }
+
+    public List<GPOWriteData> gpoWriteData() {
+        if (gPOWriteData == null) {
+            gPOWriteData = new ArrayList<GPOWriteData>();
+        }
+        return gPOWriteData;
+    }
+
+    public List<GPOWriteData> getGPOWriteData() {
+        return gPOWriteData;
+    }
+
+    public SET_READER_CONFIG gpiPortCurrentState(List<GPIPortCurrentState> gPIPortCurrentState) {
+        this.gPIPortCurrentState = gPIPortCurrentState;
+        return this;
+    }
+
+    public List<GPIPortCurrentState> gpiPortCurrentState() {
+        if (gPIPortCurrentState == null) {
+            gPIPortCurrentState = new ArrayList<GPIPortCurrentState>();
+        }
+        return gPIPortCurrentState;
+    }
+
+    public List<GPIPortCurrentState> getGPIPortCurrentState() {
+        return gPIPortCurrentState;
+    }
+
+    public SET_READER_CONFIG eventsAndReports(EventsAndReports eventsAndReports) {
+        this.eventsAndReports = eventsAndReports;
+        return this;
+    }
+
+    public EventsAndReports eventsAndReports() {
+        if (eventsAndReports == null) {
+            eventsAndReports = new EventsAndReports();
+        }
+        return eventsAndReports;
+    }
+
+    public EventsAndReports getEventsAndReports() {
+        return eventsAndReports;
+    }
+
+    public SET_READER_CONFIG custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.resetToFactoryDefault, this.readerEventNotificationSpec, this.antennaProperties, this.antennaConfiguration, this.rOReportSpec, this.accessReportSpec, this.keepaliveSpec, this.gPOWriteData, this.gPIPortCurrentState, this.eventsAndReports, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        SET_READER_CONFIG other;
+        other = ((SET_READER_CONFIG) obj);
+        if (!Objects.equals(this.resetToFactoryDefault, other.resetToFactoryDefault)) {
+            return false;
+        }
+        if (!Objects.equals(this.readerEventNotificationSpec, other.readerEventNotificationSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaProperties, other.antennaProperties)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaConfiguration, other.antennaConfiguration)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOReportSpec, other.rOReportSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessReportSpec, other.accessReportSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.keepaliveSpec, other.keepaliveSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPOWriteData, other.gPOWriteData)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPIPortCurrentState, other.gPIPortCurrentState)) {
+            return false;
+        }
+        if (!Objects.equals(this.eventsAndReports, other.eventsAndReports)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
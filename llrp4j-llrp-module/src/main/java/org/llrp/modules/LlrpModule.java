@@ -0,0 +1,268 @@
+
+package org.llrp.modules;
+
+import net.enilink.llrp4j.Module;
+import net.enilink.llrp4j.TypeDescriptor;
+import org.llrp.enumerations.AISpecEventType;
+import org.llrp.enumerations.AISpecStopTriggerType;
+import org.llrp.enumerations.AccessReportTriggerType;
+import org.llrp.enumerations.AccessSpecState;
+import org.llrp.enumerations.AccessSpecStopTriggerType;
+import org.llrp.enumerations.AirProtocols;
+import org.llrp.enumerations.AntennaEventType;
+import org.llrp.enumerations.C1G2BlockEraseResultType;
+import org.llrp.enumerations.C1G2BlockPermalockResultType;
+import org.llrp.enumerations.C1G2BlockWriteResultType;
+import org.llrp.enumerations.C1G2DRValue;
+import org.llrp.enumerations.C1G2ForwardLinkModulation;
+import org.llrp.enumerations.C1G2GetBlockPermalockStatusResultType;
+import org.llrp.enumerations.C1G2KillResultType;
+import org.llrp.enumerations.C1G2LockDataField;
+import org.llrp.enumerations.C1G2LockPrivilege;
+import org.llrp.enumerations.C1G2LockResultType;
+import org.llrp.enumerations.C1G2MValue;
+import org.llrp.enumerations.C1G2ReadResultType;
+import org.llrp.enumerations.C1G2RecommissionResultType;
+import org.llrp.enumerations.C1G2SpectralMaskIndicator;
+import org.llrp.enumerations.C1G2StateAwareAction;
+import org.llrp.enumerations.C1G2StateAwareTarget;
+import org.llrp.enumerations.C1G2StateUnawareAction;
+import org.llrp.enumerations.C1G2TagInventoryStateAwareI;
+import org.llrp.enumerations.C1G2TagInventoryStateAwareS;
+import org.llrp.enumerations.C1G2TruncateAction;
+import org.llrp.enumerations.C1G2WriteResultType;
+import org.llrp.enumerations.CommunicationsStandard;
+import org.llrp.enumerations.ConnectionAttemptStatusType;
+import org.llrp.enumerations.GPIPortState;
+import org.llrp.enumerations.GetReaderCapabilitiesRequestedData;
+import org.llrp.enumerations.GetReaderConfigRequestedData;
+import org.llrp.enumerations.IdentificationType;
+import org.llrp.enumerations.KeepaliveTriggerType;
+import org.llrp.enumerations.NotificationEventType;
+import org.llrp.enumerations.RFSurveyEventType;
+import org.llrp.enumerations.RFSurveySpecStopTriggerType;
+import org.llrp.enumerations.ROReportTriggerType;
+import org.llrp.enumerations.ROSpecEventType;
+import org.llrp.enumerations.ROSpecStartTriggerType;
+import org.llrp.enumerations.ROSpecState;
+import org.llrp.enumerations.ROSpecStopTriggerType;
+import org.llrp.enumerations.StatusCode;
+import org.llrp.enumerations.TagObservationTriggerType;
+import org.llrp.messages.ADD_ACCESSSPEC;
+import org.llrp.messages.ADD_ACCESSSPEC_RESPONSE;
+import org.llrp.messages.ADD_ROSPEC;
+import org.llrp.messages.ADD_ROSPEC_RESPONSE;
+import org.llrp.messages.CLOSE_CONNECTION;
+import org.llrp.messages.CLOSE_CONNECTION_RESPONSE;
+import org.llrp.messages.CUSTOM_MESSAGE;
+import org.llrp.messages.DELETE_ACCESSSPEC;
+import org.llrp.messages.DELETE_ACCESSSPEC_RESPONSE;
+import org.llrp.messages.DELETE_ROSPEC;
+import org.llrp.messages.DELETE_ROSPEC_RESPONSE;
+import org.llrp.messages.DISABLE_ACCESSSPEC;
+import org.llrp.messages.DISABLE_ACCESSSPEC_RESPONSE;
+import org.llrp.messages.DISABLE_ROSPEC;
+import org.llrp.messages.DISABLE_ROSPEC_RESPONSE;
+import org.llrp.messages.ENABLE_ACCESSSPEC;
+import org.llrp.messages.ENABLE_ACCESSSPEC_RESPONSE;
+import org.llrp.messages.ENABLE_EVENTS_AND_REPORTS;
+import org.llrp.messages.ENABLE_ROSPEC;
+import org.llrp.messages.ENABLE_ROSPEC_RESPONSE;
+import org.llrp.messages.ERROR_MESSAGE;
+import org.llrp.messages.GET_ACCESSSPECS;
+import org.llrp.messages.GET_ACCESSSPECS_RESPONSE;
+import org.llrp.messages.GET_READER_CAPABILITIES;
+import org.llrp.messages.GET_READER_CAPABILITIES_RESPONSE;
+import org.llrp.messages.GET_READER_CONFIG;
+import org.llrp.messages.GET_READER_CONFIG_RESPONSE;
+import org.llrp.messages.GET_REPORT;
+import org.llrp.messages.GET_ROSPECS;
+import org.llrp.messages.GET_ROSPECS_RESPONSE;
+import org.llrp.messages.GET_SUPPORTED_VERSION;
+import org.llrp.messages.GET_SUPPORTED_VERSION_RESPONSE;
+import org.llrp.messages.KEEPALIVE;
+import org.llrp.messages.KEEPALIVE_ACK;
+import org.llrp.messages.READER_EVENT_NOTIFICATION;
+import org.llrp.messages.RO_ACCESS_REPORT;
+import org.llrp.messages.SET_PROTOCOL_VERSION;
+import org.llrp.messages.SET_PROTOCOL_VERSION_RESPONSE;
+import org.llrp.messages.SET_READER_CONFIG;
+import org.llrp.messages.SET_READER_CONFIG_RESPONSE;
+import org.llrp.messages.START_ROSPEC;
+import org.llrp.messages.START_ROSPEC_RESPONSE;
+import org.llrp.messages.STOP_ROSPEC;
+import org.llrp.messages.STOP_ROSPEC_RESPONSE;
+import org.llrp.parameters.AISpec;
+import org.llrp.parameters.AISpecEvent;
+import org.llrp.parameters.AISpecStopTrigger;
+import org.llrp.parameters.AccessCommand;
+import org.llrp.parameters.AccessReportSpec;
+import org.llrp.parameters.AccessSpec;
+import org.llrp.parameters.AccessSpecID;
+import org.llrp.parameters.AccessSpecStopTrigger;
+import org.llrp.parameters.AntennaConfiguration;
+import org.llrp.parameters.AntennaEvent;
+import org.llrp.parameters.AntennaID;
+import org.llrp.parameters.AntennaProperties;
+import org.llrp.parameters.C1G2BlockErase;
+import org.llrp.parameters.C1G2BlockEraseOpSpecResult;
+import org.llrp.parameters.C1G2BlockPermalock;
+import org.llrp.parameters.C1G2BlockPermalockOpSpecResult;
+import org.llrp.parameters.C1G2BlockWrite;
+import org.llrp.parameters.C1G2BlockWriteOpSpecResult;
+import org.llrp.parameters.C1G2EPCMemorySelector;
+import org.llrp.parameters.C1G2Filter;
+import org.llrp.parameters.C1G2GetBlockPermalockStatus;
+import org.llrp.parameters.C1G2GetBlockPermalockStatusOpSpecResult;
+import org.llrp.parameters.C1G2InventoryCommand;
+import org.llrp.parameters.C1G2Kill;
+import org.llrp.parameters.C1G2KillOpSpecResult;
+import org.llrp.parameters.C1G2LLRPCapabilities;
+import org.llrp.parameters.C1G2Lock;
+import org.llrp.parameters.C1G2LockOpSpecResult;
+import org.llrp.parameters.C1G2LockPayload;
+import org.llrp.parameters.C1G2RFControl;
+import org.llrp.parameters.C1G2Read;
+import org.llrp.parameters.C1G2ReadOpSpecResult;
+import org.llrp.parameters.C1G2Recommission;
+import org.llrp.parameters.C1G2RecommissionOpSpecResult;
+import org.llrp.parameters.C1G2SingulationControl;
+import org.llrp.parameters.C1G2SingulationDetails;
+import org.llrp.parameters.C1G2TagInventoryMask;
+import org.llrp.parameters.C1G2TagInventoryStateAwareFilterAction;
+import org.llrp.parameters.C1G2TagInventoryStateAwareSingulationAction;
+import org.llrp.parameters.C1G2TagInventoryStateUnawareFilterAction;
+import org.llrp.parameters.C1G2TagSpec;
+import org.llrp.parameters.C1G2TargetTag;
+import org.llrp.parameters.C1G2UHFRFModeTable;
+import org.llrp.parameters.C1G2UHFRFModeTableEntry;
+import org.llrp.parameters.C1G2Write;
+import org.llrp.parameters.C1G2WriteOpSpecResult;
+import org.llrp.parameters.C1G2_CRC;
+import org.llrp.parameters.C1G2_PC;
+import org.llrp.parameters.C1G2_XPCW1;
+import org.llrp.parameters.C1G2_XPCW2;
+import org.llrp.parameters.ChannelIndex;
+import org.llrp.parameters.ConnectionAttemptEvent;
+import org.llrp.parameters.ConnectionCloseEvent;
+import org.llrp.parameters.Custom;
+import org.llrp.parameters.EPCData;
+import org.llrp.parameters.EPC_96;
+import org.llrp.parameters.EventNotificationState;
+import org.llrp.parameters.EventsAndReports;
+import org.llrp.parameters.FieldError;
+import org.llrp.parameters.FirstSeenTimestampUTC;
+import org.llrp.parameters.FirstSeenTimestampUptime;
+import org.llrp.parameters.FixedFrequencyTable;
+import org.llrp.parameters.FrequencyHopTable;
+import org.llrp.parameters.FrequencyInformation;
+import org.llrp.parameters.FrequencyRSSILevelEntry;
+import org.llrp.parameters.GPIEvent;
+import org.llrp.parameters.GPIOCapabilities;
+import org.llrp.parameters.GPIPortCurrentState;
+import org.llrp.parameters.GPITriggerValue;
+import org.llrp.parameters.GPOWriteData;
+import org.llrp.parameters.GeneralDeviceCapabilities;
+import org.llrp.parameters.HoppingEvent;
+import org.llrp.parameters.Identification;
+import org.llrp.parameters.InventoryParameterSpec;
+import org.llrp.parameters.InventoryParameterSpecID;
+import org.llrp.parameters.KeepaliveSpec;
+import org.llrp.parameters.LLRPCapabilities;
+import org.llrp.parameters.LLRPConfigurationStateValue;
+import org.llrp.parameters.LLRPStatus;
+import org.llrp.parameters.LastSeenTimestampUTC;
+import org.llrp.parameters.LastSeenTimestampUptime;
+import org.llrp.parameters.LoopSpec;
+import org.llrp.parameters.OpSpecID;
+import org.llrp.parameters.ParameterError;
+import org.llrp.parameters.PeakRSSI;
+import org.llrp.parameters.PerAntennaAirProtocol;
+import org.llrp.parameters.PerAntennaReceiveSensitivityRange;
+import org.llrp.parameters.PeriodicTriggerValue;
+import org.llrp.parameters.RFReceiver;
+import org.llrp.parameters.RFSurveyEvent;
+import org.llrp.parameters.RFSurveyReportData;
+import org.llrp.parameters.RFSurveySpec;
+import org.llrp.parameters.RFSurveySpecStopTrigger;
+import org.llrp.parameters.RFTransmitter;
+import org.llrp.parameters.ROBoundarySpec;
+import org.llrp.parameters.ROReportSpec;
+import org.llrp.parameters.ROSpec;
+import org.llrp.parameters.ROSpecEvent;
+import org.llrp.parameters.ROSpecID;
+import org.llrp.parameters.ROSpecStartTrigger;
+import org.llrp.parameters.ROSpecStopTrigger;
+import org.llrp.parameters.ReaderEventNotificationData;
+import org.llrp.parameters.ReaderEventNotificationSpec;
+import org.llrp.parameters.ReaderExceptionEvent;
+import org.llrp.parameters.ReceiveSensitivityTableEntry;
+import org.llrp.parameters.RegulatoryCapabilities;
+import org.llrp.parameters.ReportBufferLevelWarningEvent;
+import org.llrp.parameters.ReportBufferOverflowErrorEvent;
+import org.llrp.parameters.SpecIndex;
+import org.llrp.parameters.SpecLoopEvent;
+import org.llrp.parameters.TagObservationTrigger;
+import org.llrp.parameters.TagReportContentSelector;
+import org.llrp.parameters.TagReportData;
+import org.llrp.parameters.TagSeenCount;
+import org.llrp.parameters.TransmitPowerLevelTableEntry;
+import org.llrp.parameters.UHFBandCapabilities;
+import org.llrp.parameters.UTCTimestamp;
+import org.llrp.parameters.Uptime;
+
+public class LlrpModule
+    extends Module
+{
+    public final static TypeDescriptor[] TYPES = new TypeDescriptor[] {TypeDescriptor.parameter(UTCTimestamp.class, 128, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "microseconds"), TypeDescriptor.parameter(Uptime.class, 129, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "microseconds"), TypeDescriptor.message(CUSTOM_MESSAGE.class, 1023, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "vendorIdentifier", "messageSubtype", "data"), TypeDescriptor.parameter(Custom.class, 1023, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "vendorIdentifier", "parameterSubtype", "data"), TypeDescriptor.message(GET_SUPPORTED_VERSION.class, 46, GET_SUPPORTED_VERSION_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"), TypeDescriptor.message(GET_SUPPORTED_VERSION_RESPONSE.class, 56, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "currentVersion", "supportedVersion", "lLRPStatus"), TypeDescriptor.message(SET_PROTOCOL_VERSION.class, 47, SET_PROTOCOL_VERSION_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "protocolVersion"), TypeDescriptor.message(SET_PROTOCOL_VERSION_RESPONSE.class, 57, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(GET_READER_CAPABILITIES.class, 1, GET_READER_CAPABILITIES_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "requestedData", "custom"), TypeDescriptor.message(GET_READER_CAPABILITIES_RESPONSE.class, 11, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus", "generalDeviceCapabilities", "lLRPCapabilities", "regulatoryCapabilities", "airProtocolLLRPCapabilities", "custom"), TypeDescriptor.parameter(GeneralDeviceCapabilities.class, 137, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "maxNumberOfAntennaSupported", "canSetAntennaProperties", "hasUTCClockCapability", "deviceManufacturerName", "modelName", "readerFirmwareVersion", "receiveSensitivityTableEntry", "perAntennaReceiveSensitivityRange", "gPIOCapabilities", "perAntennaAirProtocol"), TypeDescriptor.parameter(ReceiveSensitivityTableEntry.class, 139, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "index", "receiveSensitivityValue"), TypeDescriptor.parameter(PerAntennaReceiveSensitivityRange.class, 149, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "antennaID", "receiveSensitivityIndexMin", "receiveSensitivityIndexMax"), TypeDescriptor.parameter(PerAntennaAirProtocol.class, 140, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "antennaID", "protocolID"), TypeDescriptor.parameter(GPIOCapabilities.class, 141, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "numGPIs", "numGPOs"), TypeDescriptor.parameter(LLRPCapabilities.class, 142, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "canDoRFSurvey", "canReportBufferFillWarning", "supportsClientRequestOpSpec", "canDoTagInventoryStateAwareSingulation", "supportsEventAndReportHolding", "maxNumPriorityLevelsSupported", "clientRequestOpSpecTimeout", "maxNumROSpecs", "maxNumSpecsPerROSpec", "maxNumInventoryParameterSpecsPerAISpec", "maxNumAccessSpecs", "maxNumOpSpecsPerAccessSpec"), TypeDescriptor.parameter(RegulatoryCapabilities.class, 143, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "countryCode", "communicationsStandard", "uHFBandCapabilities", "custom"), TypeDescriptor.parameter(UHFBandCapabilities.class, 144, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "transmitPowerLevelTableEntry", "frequencyInformation", "airProtocolUHFRFModeTable"), TypeDescriptor.parameter(TransmitPowerLevelTableEntry.class, 145, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "index", "transmitPowerValue"), TypeDescriptor.parameter(FrequencyInformation.class, 146, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "hopping", "frequencyHopTable", "fixedFrequencyTable"), TypeDescriptor.parameter(FrequencyHopTable.class, 147, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "hopTableID", "frequency"), TypeDescriptor.parameter(FixedFrequencyTable.class, 148, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "frequency"), TypeDescriptor.message(ADD_ROSPEC.class, 20, ADD_ROSPEC_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpec"), TypeDescriptor.message(ADD_ROSPEC_RESPONSE.class, 30, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(DELETE_ROSPEC.class, 21, DELETE_ROSPEC_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecID"), TypeDescriptor.message(DELETE_ROSPEC_RESPONSE.class, 31, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(START_ROSPEC.class, 22, START_ROSPEC_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecID"), TypeDescriptor.message(START_ROSPEC_RESPONSE.class, 32, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(STOP_ROSPEC.class, 23, STOP_ROSPEC_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecID"), TypeDescriptor.message(STOP_ROSPEC_RESPONSE.class, 33, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(ENABLE_ROSPEC.class, 24, ENABLE_ROSPEC_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecID"), TypeDescriptor.message(ENABLE_ROSPEC_RESPONSE.class, 34, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(DISABLE_ROSPEC.class, 25, DISABLE_ROSPEC_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecID"), TypeDescriptor.message(DISABLE_ROSPEC_RESPONSE.class, 35, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(GET_ROSPECS.class, 26, GET_ROSPECS_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"), TypeDescriptor.message(GET_ROSPECS_RESPONSE.class, 36, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus", "rOSpec"), TypeDescriptor.parameter(ROSpec.class, 177, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecID", "priority", "currentState", "rOBoundarySpec", "specParameter", "rOReportSpec"), TypeDescriptor.parameter(ROBoundarySpec.class, 178, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecStartTrigger", "rOSpecStopTrigger"), TypeDescriptor.parameter(ROSpecStartTrigger.class, 179, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecStartTriggerType", "periodicTriggerValue", "gPITriggerValue"), TypeDescriptor.parameter(PeriodicTriggerValue.class, 180, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "offset", "period", "uTCTimestamp"), TypeDescriptor.parameter(GPITriggerValue.class, 181, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "gPIPortNum", "gPIEvent", "timeout"), TypeDescriptor.parameter(ROSpecStopTrigger.class, 182, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecStopTriggerType", "durationTriggerValue", "gPITriggerValue"), TypeDescriptor.parameter(AISpec.class, 183, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "antennaIDs", "aISpecStopTrigger", "inventoryParameterSpec", "custom"), TypeDescriptor.parameter(AISpecStopTrigger.class, 184, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "aISpecStopTriggerType", "durationTrigger", "gPITriggerValue", "tagObservationTrigger"), TypeDescriptor.parameter(TagObservationTrigger.class, 185, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "triggerType", "numberOfTags", "numberOfAttempts", "t", "timeout"), TypeDescriptor.parameter(InventoryParameterSpec.class, 186, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "inventoryParameterSpecID", "protocolID", "antennaConfiguration", "custom"), TypeDescriptor.parameter(RFSurveySpec.class, 187, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "antennaID", "startFrequency", "endFrequency", "rFSurveySpecStopTrigger", "custom"), TypeDescriptor.parameter(RFSurveySpecStopTrigger.class, 188, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "stopTriggerType", "durationPeriod", "n"), TypeDescriptor.parameter(LoopSpec.class, 189, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "loopCount"), TypeDescriptor.message(ADD_ACCESSSPEC.class, 40, ADD_ACCESSSPEC_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "accessSpec"), TypeDescriptor.message(ADD_ACCESSSPEC_RESPONSE.class, 50, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(DELETE_ACCESSSPEC.class, 41, DELETE_ACCESSSPEC_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "accessSpecID"), TypeDescriptor.message(DELETE_ACCESSSPEC_RESPONSE.class, 51, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(ENABLE_ACCESSSPEC.class, 42, ENABLE_ACCESSSPEC_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "accessSpecID"), TypeDescriptor.message(ENABLE_ACCESSSPEC_RESPONSE.class, 52, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(DISABLE_ACCESSSPEC.class, 43, DISABLE_ACCESSSPEC_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "accessSpecID"), TypeDescriptor.message(DISABLE_ACCESSSPEC_RESPONSE.class, 53, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(GET_ACCESSSPECS.class, 44, GET_ACCESSSPECS_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"), TypeDescriptor.message(GET_ACCESSSPECS_RESPONSE.class, 54, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus", "accessSpec"), TypeDescriptor.parameter(AccessSpec.class, 207, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "accessSpecID", "antennaID", "protocolID", "currentState", "rOSpecID", "accessSpecStopTrigger", "accessCommand", "accessReportSpec", "custom"), TypeDescriptor.parameter(AccessSpecStopTrigger.class, 208, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "accessSpecStopTrigger", "operationCountValue"), TypeDescriptor.parameter(AccessCommand.class, 209, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "airProtocolTagSpec", "accessCommandOpSpec", "custom"), TypeDescriptor.message(GET_READER_CONFIG.class, 2, GET_READER_CONFIG_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "antennaID", "requestedData", "gPIPortNum", "gPOPortNum", "custom"), TypeDescriptor.message(GET_READER_CONFIG_RESPONSE.class, 12, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus", "identification", "antennaProperties", "antennaConfiguration", "readerEventNotificationSpec", "rOReportSpec", "accessReportSpec", "lLRPConfigurationStateValue", "keepaliveSpec", "gPIPortCurrentState", "gPOWriteData", "eventsAndReports", "custom"), TypeDescriptor.message(SET_READER_CONFIG.class, 3, SET_READER_CONFIG_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "resetToFactoryDefault", "readerEventNotificationSpec", "antennaProperties", "antennaConfiguration", "rOReportSpec", "accessReportSpec", "keepaliveSpec", "gPOWriteData", "gPIPortCurrentState", "eventsAndReports", "custom"), TypeDescriptor.message(SET_READER_CONFIG_RESPONSE.class, 13, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.message(CLOSE_CONNECTION.class, 14, CLOSE_CONNECTION_RESPONSE.class, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"), TypeDescriptor.message(CLOSE_CONNECTION_RESPONSE.class, 4, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.parameter(LLRPConfigurationStateValue.class, 217, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPConfigurationStateValue"), TypeDescriptor.parameter(Identification.class, 218, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "iDType", "readerID"), TypeDescriptor.parameter(GPOWriteData.class, 219, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "gPOPortNumber", "gPOData"), TypeDescriptor.parameter(KeepaliveSpec.class, 220, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "keepaliveTriggerType", "periodicTriggerValue"), TypeDescriptor.parameter(AntennaProperties.class, 221, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "antennaConnected", "antennaID", "antennaGain"), TypeDescriptor.parameter(AntennaConfiguration.class, 222, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "antennaID", "rFReceiver", "rFTransmitter", "airProtocolInventoryCommandSettings"), TypeDescriptor.parameter(RFReceiver.class, 223, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "receiverSensitivity"), TypeDescriptor.parameter(RFTransmitter.class, 224, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "hopTableID", "channelIndex", "transmitPower"), TypeDescriptor.parameter(GPIPortCurrentState.class, 225, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "gPIPortNum", "config", "state"), TypeDescriptor.parameter(EventsAndReports.class, 226, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "holdEventsAndReportsUponReconnect"), TypeDescriptor.message(GET_REPORT.class, 60, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"), TypeDescriptor.message(RO_ACCESS_REPORT.class, 61, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "tagReportData", "rFSurveyReportData", "custom"), TypeDescriptor.message(KEEPALIVE.class, 62, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"), TypeDescriptor.message(KEEPALIVE_ACK.class, 72, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"), TypeDescriptor.message(READER_EVENT_NOTIFICATION.class, 63, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "readerEventNotificationData"), TypeDescriptor.message(ENABLE_EVENTS_AND_REPORTS.class, 64, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"), TypeDescriptor.parameter(ROReportSpec.class, 237, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOReportTrigger", "n", "tagReportContentSelector", "custom"), TypeDescriptor.parameter(TagReportContentSelector.class, 238, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "enableROSpecID", "enableSpecIndex", "enableInventoryParameterSpecID", "enableAntennaID", "enableChannelIndex", "enablePeakRSSI", "enableFirstSeenTimestamp", "enableLastSeenTimestamp", "enableTagSeenCount", "enableAccessSpecID", "airProtocolEPCMemorySelector"), TypeDescriptor.parameter(AccessReportSpec.class, 239, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "accessReportTrigger"), TypeDescriptor.parameter(TagReportData.class, 240, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "ePCParameter", "rOSpecID", "specIndex", "inventoryParameterSpecID", "antennaID", "peakRSSI", "channelIndex", "firstSeenTimestampUTC", "firstSeenTimestampUptime", "lastSeenTimestampUTC", "lastSeenTimestampUptime", "tagSeenCount", "airProtocolTagData", "accessSpecID", "accessCommandOpSpecResult", "custom"), TypeDescriptor.parameter(EPCData.class, 241, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "ePC"), TypeDescriptor.parameter(EPC_96 .class, 13, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "ePC"), TypeDescriptor.parameter(ROSpecID.class, 9, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecID"), TypeDescriptor.parameter(SpecIndex.class, 14, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "specIndex"), TypeDescriptor.parameter(InventoryParameterSpecID.class, 10, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "inventoryParameterSpecID"), TypeDescriptor.parameter(AntennaID.class, 1, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "antennaID"), TypeDescriptor.parameter(PeakRSSI.class, 6, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "peakRSSI"), TypeDescriptor.parameter(ChannelIndex.class, 7, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "channelIndex"), TypeDescriptor.parameter(FirstSeenTimestampUTC.class, 2, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "microseconds"), TypeDescriptor.parameter(FirstSeenTimestampUptime.class, 3, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "microseconds"), TypeDescriptor.parameter(LastSeenTimestampUTC.class, 4, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "microseconds"), TypeDescriptor.parameter(LastSeenTimestampUptime.class, 5, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "microseconds"), TypeDescriptor.parameter(TagSeenCount.class, 8, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "tagCount"), TypeDescriptor.parameter(AccessSpecID.class, 16, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "accessSpecID"), TypeDescriptor.parameter(RFSurveyReportData.class, 242, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecID", "specIndex", "frequencyRSSILevelEntry", "custom"), TypeDescriptor.parameter(FrequencyRSSILevelEntry.class, 243, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "frequency", "bandwidth", "averageRSSI", "peakRSSI", "timestamp"), TypeDescriptor.parameter(ReaderEventNotificationSpec.class, 244, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "eventNotificationState"), TypeDescriptor.parameter(EventNotificationState.class, 245, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "eventType", "notificationState"), TypeDescriptor.parameter(ReaderEventNotificationData.class, 246, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "timestamp", "hoppingEvent", "gPIEvent", "rOSpecEvent", "reportBufferLevelWarningEvent", "reportBufferOverflowErrorEvent", "readerExceptionEvent", "rFSurveyEvent", "aISpecEvent", "antennaEvent", "connectionAttemptEvent", "connectionCloseEvent", "specLoopEvent", "custom"), TypeDescriptor.parameter(HoppingEvent.class, 247, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "hopTableID", "nextChannelIndex"), TypeDescriptor.parameter(GPIEvent.class, 248, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "gPIPortNumber", "gPIEvent"), TypeDescriptor.parameter(ROSpecEvent.class, 249, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "eventType", "rOSpecID", "preemptingROSpecID"), TypeDescriptor.parameter(ReportBufferLevelWarningEvent.class, 250, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "reportBufferPercentageFull"), TypeDescriptor.parameter(ReportBufferOverflowErrorEvent.class, 251, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"), TypeDescriptor.parameter(ReaderExceptionEvent.class, 252, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "message", "rOSpecID", "specIndex", "inventoryParameterSpecID", "antennaID", "accessSpecID", "opSpecID", "custom"), TypeDescriptor.parameter(OpSpecID.class, 17, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "opSpecID"), TypeDescriptor.parameter(RFSurveyEvent.class, 253, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "eventType", "rOSpecID", "specIndex"), TypeDescriptor.parameter(AISpecEvent.class, 254, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "eventType", "rOSpecID", "specIndex", "airProtocolSingulationDetails"), TypeDescriptor.parameter(AntennaEvent.class, 255, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "eventType", "antennaID"), TypeDescriptor.parameter(ConnectionAttemptEvent.class, 256, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "status"), TypeDescriptor.parameter(ConnectionCloseEvent.class, 257, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0"), TypeDescriptor.parameter(SpecLoopEvent.class, 356, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "rOSpecID", "loopCount"), TypeDescriptor.message(ERROR_MESSAGE.class, 100, null, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "lLRPStatus"), TypeDescriptor.parameter(LLRPStatus.class, 287, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "statusCode", "errorDescription", "fieldError", "parameterError"), TypeDescriptor.parameter(FieldError.class, 288, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "fieldNum", "errorCode"), TypeDescriptor.parameter(ParameterError.class, 289, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "parameterType", "errorCode", "fieldError", "parameterError"), TypeDescriptor.parameter(C1G2LLRPCapabilities.class, 327, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "canSupportBlockErase", "canSupportBlockWrite", "canSupportBlockPermalock", "canSupportTagRecommissioning", "canSupportUMIMethod2", "canSupportXPC", "maxNumSelectFiltersPerQuery"), TypeDescriptor.parameter(C1G2UHFRFModeTable.class, 328, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "c1G2UHFRFModeTableEntry"), TypeDescriptor.parameter(C1G2UHFRFModeTableEntry.class, 329, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "modeIdentifier", "dRValue", "ePCHAGTCConformance", "mValue", "forwardLinkModulation", "spectralMaskIndicator", "bDRValue", "pIEValue", "minTariValue", "maxTariValue", "stepTariValue"), TypeDescriptor.parameter(C1G2InventoryCommand.class, 330, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "tagInventoryStateAware", "c1G2Filter", "c1G2RFControl", "c1G2SingulationControl", "custom"), TypeDescriptor.parameter(C1G2Filter.class, 331, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "t", "c1G2TagInventoryMask", "c1G2TagInventoryStateAwareFilterAction", "c1G2TagInventoryStateUnawareFilterAction"), TypeDescriptor.parameter(C1G2TagInventoryMask.class, 332, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "mB", "pointer", "tagMask"), TypeDescriptor.parameter(C1G2TagInventoryStateAwareFilterAction.class, 333, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "target", "action"), TypeDescriptor.parameter(C1G2TagInventoryStateUnawareFilterAction.class, 334, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "action"), TypeDescriptor.parameter(C1G2RFControl.class, 335, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "modeIndex", "tari"), TypeDescriptor.parameter(C1G2SingulationControl.class, 336, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "session", "tagPopulation", "tagTransitTime", "c1G2TagInventoryStateAwareSingulationAction"), TypeDescriptor.parameter(C1G2TagInventoryStateAwareSingulationAction.class, 337, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "i", "s"), TypeDescriptor.parameter(C1G2TagSpec.class, 338, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "c1G2TargetTag"), TypeDescriptor.parameter(C1G2TargetTag.class, 339, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "mB", "match", "pointer", "tagMask", "tagData"), TypeDescriptor.parameter(C1G2Read.class, 341, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "opSpecID", "accessPassword", "mB", "wordPointer", "wordCount"), TypeDescriptor.parameter(C1G2Write.class, 342, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "opSpecID", "accessPassword", "mB", "wordPointer", "writeData"), TypeDescriptor.parameter(C1G2Kill.class, 343, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "opSpecID", "killPassword"), TypeDescriptor.parameter(C1G2Recommission.class, 357, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "opSpecID", "killPassword", "bIT_3SB", "bIT_2SB", "bIT_LSB"), TypeDescriptor.parameter(C1G2Lock.class, 344, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "opSpecID", "accessPassword", "c1G2LockPayload"), TypeDescriptor.parameter(C1G2LockPayload.class, 345, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "privilege", "dataField"), TypeDescriptor.parameter(C1G2BlockErase.class, 346, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "opSpecID", "accessPassword", "mB", "wordPointer", "wordCount"), TypeDescriptor.parameter(C1G2BlockWrite.class, 347, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "opSpecID", "accessPassword", "mB", "wordPointer", "writeData"), TypeDescriptor.parameter(C1G2BlockPermalock.class, 358, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "opSpecID", "accessPassword", "mB", "blockPointer", "blockMaskWordCount", "blockMask"), TypeDescriptor.parameter(C1G2GetBlockPermalockStatus.class, 359, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "opSpecID", "accessPassword", "mB", "blockPointer", "blockRange"), TypeDescriptor.parameter(C1G2EPCMemorySelector.class, 348, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "enableCRC", "enablePCBits"), TypeDescriptor.parameter(C1G2_PC.class, 12, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "pC_Bits"), TypeDescriptor.parameter(C1G2_XPCW1 .class, 19, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "xPC_W1"), TypeDescriptor.parameter(C1G2_XPCW2 .class, 20, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "xPC_W2"), TypeDescriptor.parameter(C1G2_CRC.class, 11, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "cRC"), TypeDescriptor.parameter(C1G2SingulationDetails.class, 18, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "numCollisionSlots", "numEmptySlots"), TypeDescriptor.parameter(C1G2ReadOpSpecResult.class, 349, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "result", "opSpecID", "readData"), TypeDescriptor.parameter(C1G2WriteOpSpecResult.class, 350, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "result", "opSpecID", "numWordsWritten"), TypeDescriptor.parameter(C1G2KillOpSpecResult.class, 351, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "result", "opSpecID"), TypeDescriptor.parameter(C1G2RecommissionOpSpecResult.class, 360, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "result", "opSpecID"), TypeDescriptor.parameter(C1G2LockOpSpecResult.class, 352, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "result", "opSpecID"), TypeDescriptor.parameter(C1G2BlockEraseOpSpecResult.class, 353, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "result", "opSpecID"), TypeDescriptor.parameter(C1G2BlockWriteOpSpecResult.class, 354, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "result", "opSpecID", "numWordsWritten"), TypeDescriptor.parameter(C1G2BlockPermalockOpSpecResult.class, 361, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "result", "opSpecID"), TypeDescriptor.parameter(C1G2GetBlockPermalockStatusOpSpecResult.class, 362, 0, "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0", "result", "opSpecID", "permalockStatus")};
+
+    {
+        addNamespace("llrp", "http://www.llrp.org/ltk/schema/core/encoding/xml/1.0");
+        addTypes(TYPES);
+        addClass(AISpecEventType.class);
+        addClass(AISpecStopTriggerType.class);
+        addClass(AccessReportTriggerType.class);
+        addClass(AccessSpecState.class);
+        addClass(AccessSpecStopTriggerType.class);
+        addClass(AirProtocols.class);
+        addClass(AntennaEventType.class);
+        addClass(C1G2BlockEraseResultType.class);
+        addClass(C1G2BlockPermalockResultType.class);
+        addClass(C1G2BlockWriteResultType.class);
+        addClass(C1G2DRValue.class);
+        addClass(C1G2ForwardLinkModulation.class);
+        addClass(C1G2GetBlockPermalockStatusResultType.class);
+        addClass(C1G2KillResultType.class);
+        addClass(C1G2LockDataField.class);
+        addClass(C1G2LockPrivilege.class);
+        addClass(C1G2LockResultType.class);
+        addClass(C1G2MValue.class);
+        addClass(C1G2ReadResultType.class);
+        addClass(C1G2RecommissionResultType.class);
+        addClass(C1G2SpectralMaskIndicator.class);
+        addClass(C1G2StateAwareAction.class);
+        addClass(C1G2StateAwareTarget.class);
+        addClass(C1G2StateUnawareAction.class);
+        addClass(C1G2TagInventoryStateAwareI.class);
+        addClass(C1G2TagInventoryStateAwareS.class);
+        addClass(C1G2TruncateAction.class);
+        addClass(C1G2WriteResultType.class);
+        addClass(CommunicationsStandard.class);
+        addClass(ConnectionAttemptStatusType.class);
+        addClass(GPIPortState.class);
+        addClass(GetReaderCapabilitiesRequestedData.class);
+        addClass(GetReaderConfigRequestedData.class);
+        addClass(IdentificationType.class);
+        addClass(KeepaliveTriggerType.class);
+        addClass(NotificationEventType.class);
+        addClass(RFSurveyEventType.class);
+        addClass(RFSurveySpecStopTriggerType.class);
+        addClass(ROReportTriggerType.class);
+        addClass(ROSpecEventType.class);
+        addClass(ROSpecStartTriggerType.class);
+        addClass(ROSpecState.class);
+        addClass(ROSpecStopTriggerType.class);
+        addClass(StatusCode.class);
+        addClass(TagObservationTriggerType.class);
+    }
+}
@@ -0,0 +1,130 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.SpecParameter;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter defines antenna inventory operations.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=57&amp;view=fit">LLRP Specification Section 10.2.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=137&amp;view=fit">LLRP Specification Section 16.2.4.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 183)
+@LlrpProperties({
+    "antennaIDs",
+    "aISpecStopTrigger",
+    "inventoryParameterSpec",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AISpec
+    implements SpecParameter
+{
+    @LlrpField(type = FieldType.U_16_V)
+    protected int[] antennaIDs;
+    @LlrpParam(required = true)
+    protected AISpecStopTrigger aISpecStopTrigger;
+    @LlrpParam(required = true)
+    protected List<InventoryParameterSpec> inventoryParameterSpec;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public AISpec antennaIDs(int[] antennaIDs) {
+        this.antennaIDs = antennaIDs;
+        return this;
+    }
+
+    public int[] antennaIDs() {
+        return antennaIDs;
+    }
+
+    public AISpec aiSpecStopTrigger(AISpecStopTrigger aISpecStopTrigger) {
+        this.aISpecStopTrigger = aISpecStopTrigger;
+        return this;
+    }
+
+    public AISpecStopTrigger aiSpecStopTrigger() {
+        if (aISpecStopTrigger == null) {
+            aISpecStopTrigger = new AISpecStopTrigger();
+        }
+        return aISpecStopTrigger;
+    }
+
+    public AISpecStopTrigger getAISpecStopTrigger() {
+        return aISpecStopTrigger;
+    }
+
+    public AISpec inventoryParameterSpec(List<InventoryParameterSpec> inventoryParameterSpec) {
+        this.inventoryParameterSpec = inventoryParameterSpec;
+        return this;
+    }
+
+    public List<InventoryParameterSpec> inventoryParameterSpec() {
+        if (inventoryParameterSpec == null) {
+            inventoryParameterSpec = new ArrayList<InventoryParameterSpec>();
+        }
+        return inventoryParameterSpec;
+    }
+
+    public List<InventoryParameterSpec> getInventoryParameterSpec() {
+        return inventoryParameterSpec;
+    }
+
+    public AISpec custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.antennaIDs, this.aISpecStopTrigger, this.inventoryParameterSpec, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AISpec other;
+        other = ((AISpec) obj);
+        if (!Arrays.equals(this.antennaIDs, other.antennaIDs)) {
+            return false;
+        }
+        if (!Objects.equals(this.aISpecStopTrigger, other.aISpecStopTrigger)) {
+            return false;
+        }
+        if (!Objects.equals(this.inventoryParameterSpec, other.inventoryParameterSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,112 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.AISpecEventType;
+import org.llrp.interfaces.AirProtocolSingulationDetails;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>
+ * This parameter carries the AISpec event details. The EventType is
+ * the end of the AISpec. When reporting the end event, the
+ * AirProtocolSingulationDetails
+ * <b>MAY</b>
+ * be reported if it is supported by the Reader and EventType of 7 has
+ * been enabled (Section 13.2.5.1).
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=91&amp;view=fit">LLRP Specification Section 13.2.6.9</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=150&amp;view=fit">LLRP Specification Section 16.2.7.6.8</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 254)
+@LlrpProperties({
+    "eventType",
+    "rOSpecID",
+    "specIndex",
+    "airProtocolSingulationDetails"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AISpecEvent {
+    @LlrpField(type = FieldType.U_8)
+    protected AISpecEventType eventType;
+    @LlrpField(type = FieldType.U_32)
+    protected long rOSpecID;
+    @LlrpField(type = FieldType.U_16)
+    protected int specIndex;
+    @LlrpParam(required = false)
+    protected AirProtocolSingulationDetails airProtocolSingulationDetails;
+
+    public AISpecEvent eventType(AISpecEventType eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    public AISpecEventType eventType() {
+        return eventType;
+    }
+
+    public AISpecEvent roSpecID(long rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public long roSpecID() {
+        return rOSpecID;
+    }
+
+    public AISpecEvent specIndex(int specIndex) {
+        this.specIndex = specIndex;
+        return this;
+    }
+
+    public int specIndex() {
+        return specIndex;
+    }
+
+    public AISpecEvent airProtocolSingulationDetails(AirProtocolSingulationDetails airProtocolSingulationDetails) {
+        this.airProtocolSingulationDetails = airProtocolSingulationDetails;
+        return this;
+    }
+
+    public AirProtocolSingulationDetails airProtocolSingulationDetails() {
+        return airProtocolSingulationDetails;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.eventType, this.rOSpecID, this.specIndex, this.airProtocolSingulationDetails);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AISpecEvent other;
+        other = ((AISpecEvent) obj);
+        if (!Objects.equals(this.eventType, other.eventType)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.specIndex, other.specIndex)) {
+            return false;
+        }
+        if (!Objects.equals(this.airProtocolSingulationDetails, other.airProtocolSingulationDetails)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,120 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.AISpecStopTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter defines the stop (i.e., terminating boundary) of
+ * an antenna inventory operation.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=58&amp;view=fit">LLRP Specification Section 10.2.2.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=137&amp;view=fit">LLRP Specification Section 16.2.4.2.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 184)
+@LlrpProperties({
+    "aISpecStopTriggerType",
+    "durationTrigger",
+    "gPITriggerValue",
+    "tagObservationTrigger"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AISpecStopTrigger {
+    @LlrpField(type = FieldType.U_8)
+    protected AISpecStopTriggerType aISpecStopTriggerType;
+    @LlrpField(type = FieldType.U_32)
+    protected long durationTrigger;
+    @LlrpParam(required = false)
+    protected GPITriggerValue gPITriggerValue;
+    @LlrpParam(required = false)
+    protected TagObservationTrigger tagObservationTrigger;
+
+    public AISpecStopTrigger aiSpecStopTriggerType(AISpecStopTriggerType aISpecStopTriggerType) {
+        this.aISpecStopTriggerType = aISpecStopTriggerType;
+        return this;
+    }
+
+    public AISpecStopTriggerType aiSpecStopTriggerType() {
+        return aISpecStopTriggerType;
+    }
+
+    public AISpecStopTrigger durationTrigger(long durationTrigger) {
+        this.durationTrigger = durationTrigger;
+        return this;
+    }
+
+    public long durationTrigger() {
+        return durationTrigger;
+    }
+
+    public AISpecStopTrigger gpiTriggerValue(GPITriggerValue gPITriggerValue) {
+        this.gPITriggerValue = gPITriggerValue;
+        return this;
+    }
+
+    public GPITriggerValue gpiTriggerValue() {
+        if (gPITriggerValue == null) {
+            gPITriggerValue = new GPITriggerValue();
+        }
+        return gPITriggerValue;
+    }
+
+    public GPITriggerValue getGPITriggerValue() {
+        return gPITriggerValue;
+    }
+
+    public AISpecStopTrigger tagObservationTrigger(TagObservationTrigger tagObservationTrigger) {
+        this.tagObservationTrigger = tagObservationTrigger;
+        return this;
+    }
+
+    public TagObservationTrigger tagObservationTrigger() {
+        if (tagObservationTrigger == null) {
+            tagObservationTrigger = new TagObservationTrigger();
+        }
+        return tagObservationTrigger;
+    }
+
+    public TagObservationTrigger getTagObservationTrigger() {
+        return tagObservationTrigger;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.aISpecStopTriggerType, this.durationTrigger, this.gPITriggerValue, this.tagObservationTrigger);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AISpecStopTrigger other;
+        other = ((AISpecStopTrigger) obj);
+        if (!Objects.equals(this.aISpecStopTriggerType, other.aISpecStopTriggerType)) {
+            return false;
+        }
+        if (!Objects.equals(this.durationTrigger, other.durationTrigger)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPITriggerValue, other.gPITriggerValue)) {
+            return false;
+        }
+        if (!Objects.equals(this.tagObservationTrigger, other.tagObservationTrigger)) {
+            return false;
+        }
+        return true;
+    }
+}
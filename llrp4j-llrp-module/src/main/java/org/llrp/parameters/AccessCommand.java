@@ -0,0 +1,125 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AccessCommandOpSpec;
+import org.llrp.interfaces.AirProtocolTagSpec;
+
+
+/**
+ * 
+ * <p>This parameter defines the air protocol access-specific
+ * settings. It contains a TagSpec and an OpSpec Parameter. The
+ * TagSpec specifies the tag filters in terms of air protocol specific
+ * memory capabilities (e.g., memory banks, pointer and length). The
+ * OpSpec specifies all the details of the operations required for the
+ * air protocol specific access operation commands.
+ * </p>
+ * <p>
+ * In case there are multiple AccessSpecs that get matched during a
+ * TagSpec lookup, the Reader
+ * <b>SHALL</b>
+ * only execute the first enabled AccessSpec that matches, where the
+ * ordering of the AccessSpecs is the order in which the AccessSpecs
+ * were created by the Client.
+ * </p>
+ * <p>
+ * The order of execution of OpSpecs within an AccessSpec is the order
+ * in which the OpSpecs were set up in the AccessSpec. If an OpSpec
+ * execution fails, the Reader
+ * <b>SHALL</b>
+ * stop the execution of the AccessSpec.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=65&amp;view=fit">LLRP Specification Section 11.2.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=139&amp;view=fit">LLRP Specification Section 16.2.5.1.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 209)
+@LlrpProperties({
+    "airProtocolTagSpec",
+    "accessCommandOpSpec",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AccessCommand {
+    @LlrpParam(required = true)
+    protected AirProtocolTagSpec airProtocolTagSpec;
+    @LlrpParam(required = true)
+    protected List<AccessCommandOpSpec> accessCommandOpSpec;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public AccessCommand airProtocolTagSpec(AirProtocolTagSpec airProtocolTagSpec) {
+        this.airProtocolTagSpec = airProtocolTagSpec;
+        return this;
+    }
+
+    public AirProtocolTagSpec airProtocolTagSpec() {
+        return airProtocolTagSpec;
+    }
+
+    public AccessCommand accessCommandOpSpec(List<AccessCommandOpSpec> accessCommandOpSpec) {
+        this.accessCommandOpSpec = accessCommandOpSpec;
+        return this;
+    }
+
+    public List<AccessCommandOpSpec> accessCommandOpSpec() {
+        if (accessCommandOpSpec == null) {
+            accessCommandOpSpec = new ArrayList<AccessCommandOpSpec>();
+        }
+        return accessCommandOpSpec;
+    }
+
+    public List<AccessCommandOpSpec> getAccessCommandOpSpec() {
+        return accessCommandOpSpec;
+    }
+
+    public AccessCommand custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.airProtocolTagSpec, this.accessCommandOpSpec, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AccessCommand other;
+        other = ((AccessCommand) obj);
+        if (!Objects.equals(this.airProtocolTagSpec, other.airProtocolTagSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessCommandOpSpec, other.accessCommandOpSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.AccessReportTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter sets up the triggers for the Reader to send the
+ * access results to the Client. In addition, the Client can enable or
+ * disable reporting of ROSpec details in the access results.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=79&amp;view=fit">LLRP Specification Section 13.2.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=143&amp;view=fit">LLRP Specification Section 16.2.7.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 239)
+@LlrpProperties({
+    "accessReportTrigger"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AccessReportSpec {
+    @LlrpField(type = FieldType.U_8)
+    protected AccessReportTriggerType accessReportTrigger;
+
+    public AccessReportSpec accessReportTrigger(AccessReportTriggerType accessReportTrigger) {
+        this.accessReportTrigger = accessReportTrigger;
+        return this;
+    }
+
+    public AccessReportTriggerType accessReportTrigger() {
+        return accessReportTrigger;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.accessReportTrigger);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AccessReportSpec other;
+        other = ((AccessReportSpec) obj);
+        if (!Objects.equals(this.accessReportTrigger, other.accessReportTrigger)) {
+            return false;
+        }
+        return true;
+    }
+}
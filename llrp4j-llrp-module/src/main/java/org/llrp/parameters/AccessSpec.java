@@ -0,0 +1,212 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.AccessSpecState;
+import org.llrp.enumerations.AirProtocols;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries information of the Reader access
+ * operation.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=64&amp;view=fit">LLRP Specification Section 11.2.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=138&amp;view=fit">LLRP Specification Section 16.2.5.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 207)
+@LlrpProperties({
+    "accessSpecID",
+    "antennaID",
+    "protocolID",
+    "currentState",
+    "rOSpecID",
+    "accessSpecStopTrigger",
+    "accessCommand",
+    "accessReportSpec",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AccessSpec {
+    @LlrpField(type = FieldType.U_32)
+    protected long accessSpecID;
+    @LlrpField(type = FieldType.U_16)
+    protected int antennaID;
+    @LlrpField(type = FieldType.U_8)
+    protected AirProtocols protocolID;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected AccessSpecState currentState;
+    @LlrpField(type = FieldType.U_32)
+    protected long rOSpecID;
+    @LlrpParam(required = true)
+    protected AccessSpecStopTrigger accessSpecStopTrigger;
+    @LlrpParam(required = true)
+    protected AccessCommand accessCommand;
+    @LlrpParam(required = false)
+    protected AccessReportSpec accessReportSpec;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public AccessSpec accessSpecID(long accessSpecID) {
+        this.accessSpecID = accessSpecID;
+        return this;
+    }
+
+    public long accessSpecID() {
+        return accessSpecID;
+    }
+
+    public AccessSpec antennaID(int antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public int antennaID() {
+        return antennaID;
+    }
+
+    public AccessSpec protocolID(AirProtocols protocolID) {
+        this.protocolID = protocolID;
+        return this;
+    }
+
+    public AirProtocols protocolID() {
+        return protocolID;
+    }
+
+    public AccessSpec currentState(AccessSpecState currentState) {
+        this.currentState = currentState;
+        return this;
+    }
+
+    public AccessSpecState currentState() {
+        return currentState;
+    }
+
+    public AccessSpec roSpecID(long rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public long roSpecID() {
+        return rOSpecID;
+    }
+
+    public AccessSpec accessSpecStopTrigger(AccessSpecStopTrigger accessSpecStopTrigger) {
+        this.accessSpecStopTrigger = accessSpecStopTrigger;
+        return this;
+    }
+
+    public AccessSpecStopTrigger accessSpecStopTrigger() {
+        if (accessSpecStopTrigger == null) {
+            accessSpecStopTrigger = new AccessSpecStopTrigger();
+        }
+        return accessSpecStopTrigger;
+    }
+
+    public AccessSpecStopTrigger getAccessSpecStopTrigger() {
+        return accessSpecStopTrigger;
+    }
+
+    public AccessSpec accessCommand(AccessCommand accessCommand) {
+        this.accessCommand = accessCommand;
+        return this;
+    }
+
+    public AccessCommand accessCommand() {
+        if (accessCommand == null) {
+            accessCommand = new AccessCommand();
+        }
+        return accessCommand;
+    }
+
+    public AccessCommand getAccessCommand() {
+        return accessCommand;
+    }
+
+    public AccessSpec accessReportSpec(AccessReportSpec accessReportSpec) {
+        this.accessReportSpec = accessReportSpec;
+        return this;
+    }
+
+    public AccessReportSpec accessReportSpec() {
+        if (accessReportSpec == null) {
+            accessReportSpec = new AccessReportSpec();
+        }
+        return accessReportSpec;
+    }
+
+    public AccessReportSpec getAccessReportSpec() {
+        return accessReportSpec;
+    }
+
+    public AccessSpec custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.accessSpecID, this.antennaID, this.protocolID, this.currentState, this.rOSpecID, this.accessSpecStopTrigger, this.accessCommand, this.accessReportSpec, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AccessSpec other;
+        other = ((AccessSpec) obj);
+        if (!Objects.equals(this.accessSpecID, other.accessSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        if (!Objects.equals(this.protocolID, other.protocolID)) {
+            return false;
+        }
+        if (!Objects.equals(this.currentState, other.currentState)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessSpecStopTrigger, other.accessSpecStopTrigger)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessCommand, other.accessCommand)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessReportSpec, other.accessReportSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,57 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the AccessSpecID information.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=85&amp;view=fit">LLRP Specification Section 13.2.3.15</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=146&amp;view=fit">LLRP Specification Section 16.2.7.3.15</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 16)
+@LlrpProperties({
+    "accessSpecID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AccessSpecID {
+    @LlrpField(type = FieldType.U_32)
+    protected long accessSpecID;
+
+    public AccessSpecID accessSpecID(long accessSpecID) {
+        this.accessSpecID = accessSpecID;
+        return this;
+    }
+
+    public long accessSpecID() {
+        return accessSpecID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.accessSpecID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AccessSpecID other;
+        other = ((AccessSpecID) obj);
+        if (!Objects.equals(this.accessSpecID, other.accessSpecID)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,79 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.AccessSpecStopTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Defines the condition upon which an AccessSpec will be
+ * automatically deleted
+ * </p>
+ * <p>OperationCountValue: A count to indicate the number of times
+ * this Spec is executed before it is deleted. If set to zero, this is
+ * equivalent to no stop trigger defined.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=65&amp;view=fit">LLRP Specification Section 11.2.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=139&amp;view=fit">LLRP Specification Section 16.2.5.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 208)
+@LlrpProperties({
+    "accessSpecStopTrigger",
+    "operationCountValue"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AccessSpecStopTrigger {
+    @LlrpField(type = FieldType.U_8)
+    protected AccessSpecStopTriggerType accessSpecStopTrigger;
+    @LlrpField(type = FieldType.U_16)
+    protected int operationCountValue;
+
+    public AccessSpecStopTrigger accessSpecStopTrigger(AccessSpecStopTriggerType accessSpecStopTrigger) {
+        this.accessSpecStopTrigger = accessSpecStopTrigger;
+        return this;
+    }
+
+    public AccessSpecStopTriggerType accessSpecStopTrigger() {
+        return accessSpecStopTrigger;
+    }
+
+    public AccessSpecStopTrigger operationCountValue(int operationCountValue) {
+        this.operationCountValue = operationCountValue;
+        return this;
+    }
+
+    public int operationCountValue() {
+        return operationCountValue;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.accessSpecStopTrigger, this.operationCountValue);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AccessSpecStopTrigger other;
+        other = ((AccessSpecStopTrigger) obj);
+        if (!Objects.equals(this.accessSpecStopTrigger, other.accessSpecStopTrigger)) {
+            return false;
+        }
+        if (!Objects.equals(this.operationCountValue, other.operationCountValue)) {
+            return false;
+        }
+        return true;
+    }
+}
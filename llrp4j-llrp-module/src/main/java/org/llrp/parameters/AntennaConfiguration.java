@@ -0,0 +1,133 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolInventoryCommandSettings;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries a single antenna's configuration and it
+ * specifies the default values for the parameter set that are passed
+ * in this parameter block. The scope of the default values is the
+ * antenna. The default values are used for parameters during an
+ * operation on this antenna if the parameter was unspecified in the
+ * spec that describes the operation.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=74&amp;view=fit">LLRP Specification Section 12.2.6</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=141&amp;view=fit">LLRP Specification Section 16.2.6.6</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 222)
+@LlrpProperties({
+    "antennaID",
+    "rFReceiver",
+    "rFTransmitter",
+    "airProtocolInventoryCommandSettings"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AntennaConfiguration {
+    @LlrpField(type = FieldType.U_16)
+    protected int antennaID;
+    @LlrpParam(required = false)
+    protected RFReceiver rFReceiver;
+    @LlrpParam(required = false)
+    protected RFTransmitter rFTransmitter;
+    @LlrpParam(required = false)
+    protected List<AirProtocolInventoryCommandSettings> airProtocolInventoryCommandSettings;
+
+    public AntennaConfiguration antennaID(int antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public int antennaID() {
+        return antennaID;
+    }
+
+    public AntennaConfiguration rfReceiver(RFReceiver rFReceiver) {
+        this.rFReceiver = rFReceiver;
+        return this;
+    }
+
+    public RFReceiver rfReceiver() {
+        if (rFReceiver == null) {
+            rFReceiver = new RFReceiver();
+        }
+        return rFReceiver;
+    }
+
+    public RFReceiver getRFReceiver() {
+        return rFReceiver;
+    }
+
+    public AntennaConfiguration rfTransmitter(RFTransmitter rFTransmitter) {
+        this.rFTransmitter = rFTransmitter;
+        return this;
+    }
+
+    public RFTransmitter rfTransmitter() {
+        if (rFTransmitter == null) {
+            rFTransmitter = new RFTransmitter();
+        }
+        return rFTransmitter;
+    }
+
+    public RFTransmitter getRFTransmitter() {
+        return rFTransmitter;
+    }
+
+    public AntennaConfiguration airProtocolInventoryCommandSettings(List<AirProtocolInventoryCommandSettings> airProtocolInventoryCommandSettings) {
+        this.airProtocolInventoryCommandSettings = airProtocolInventoryCommandSettings;
+        return this;
+    }
+
+    public List<AirProtocolInventoryCommandSettings> airProtocolInventoryCommandSettings() {
+        if (airProtocolInventoryCommandSettings == null) {
+            airProtocolInventoryCommandSettings = new ArrayList<AirProtocolInventoryCommandSettings>();
+        }
+        return airProtocolInventoryCommandSettings;
+    }
+
+    public List<AirProtocolInventoryCommandSettings> getAirProtocolInventoryCommandSettings() {
+        return airProtocolInventoryCommandSettings;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.antennaID, this.rFReceiver, this.rFTransmitter, this.airProtocolInventoryCommandSettings);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AntennaConfiguration other;
+        other = ((AntennaConfiguration) obj);
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        if (!Objects.equals(this.rFReceiver, other.rFReceiver)) {
+            return false;
+        }
+        if (!Objects.equals(this.rFTransmitter, other.rFTransmitter)) {
+            return false;
+        }
+        if (!Objects.equals(this.airProtocolInventoryCommandSettings, other.airProtocolInventoryCommandSettings)) {
+            return false;
+        }
+        return true;
+    }
+}
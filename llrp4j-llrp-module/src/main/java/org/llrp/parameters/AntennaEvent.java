@@ -0,0 +1,75 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.AntennaEventType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This event is generated when the Reader detects that an antenna
+ * is connected or disconnected.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=91&amp;view=fit">LLRP Specification Section 13.2.6.10</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=150&amp;view=fit">LLRP Specification Section 16.2.7.6.9</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 255)
+@LlrpProperties({
+    "eventType",
+    "antennaID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AntennaEvent {
+    @LlrpField(type = FieldType.U_8)
+    protected AntennaEventType eventType;
+    @LlrpField(type = FieldType.U_16)
+    protected int antennaID;
+
+    public AntennaEvent eventType(AntennaEventType eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    public AntennaEventType eventType() {
+        return eventType;
+    }
+
+    public AntennaEvent antennaID(int antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public int antennaID() {
+        return antennaID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.eventType, this.antennaID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AntennaEvent other;
+        other = ((AntennaEvent) obj);
+        if (!Objects.equals(this.eventType, other.eventType)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        return true;
+    }
+}
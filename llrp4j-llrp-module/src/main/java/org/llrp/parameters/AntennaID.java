@@ -0,0 +1,57 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the AntennaID information.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=83&amp;view=fit">LLRP Specification Section 13.2.3.6</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=145&amp;view=fit">LLRP Specification Section 16.2.7.3.6</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 1)
+@LlrpProperties({
+    "antennaID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AntennaID {
+    @LlrpField(type = FieldType.U_16)
+    protected int antennaID;
+
+    public AntennaID antennaID(int antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public int antennaID() {
+        return antennaID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.antennaID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AntennaID other;
+        other = ((AntennaID) obj);
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        return true;
+    }
+}
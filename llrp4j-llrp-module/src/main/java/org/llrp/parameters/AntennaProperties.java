@@ -0,0 +1,93 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries a single antenna's properties. The
+ * properties include the gain and the connectivity status of the
+ * antenna.The antenna gain is the composite gain and includes the
+ * loss of the associated cable from the Reader to the antenna. The
+ * gain is represented in dBi*100 to allow fractional dBi
+ * representation.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=73&amp;view=fit">LLRP Specification Section 12.2.5</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=141&amp;view=fit">LLRP Specification Section 16.2.6.5</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 221)
+@LlrpProperties({
+    "antennaConnected",
+    "antennaID",
+    "antennaGain"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class AntennaProperties {
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected boolean antennaConnected;
+    @LlrpField(type = FieldType.U_16)
+    protected int antennaID;
+    @LlrpField(type = FieldType.S_16)
+    protected int antennaGain;
+
+    public AntennaProperties antennaConnected(boolean antennaConnected) {
+        this.antennaConnected = antennaConnected;
+        return this;
+    }
+
+    public boolean antennaConnected() {
+        return antennaConnected;
+    }
+
+    public AntennaProperties antennaID(int antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public int antennaID() {
+        return antennaID;
+    }
+
+    public AntennaProperties antennaGain(int antennaGain) {
+        this.antennaGain = antennaGain;
+        return this;
+    }
+
+    public int antennaGain() {
+        return antennaGain;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.antennaConnected, this.antennaID, this.antennaGain);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        AntennaProperties other;
+        other = ((AntennaProperties) obj);
+        if (!Objects.equals(this.antennaConnected, other.antennaConnected)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaGain, other.antennaGain)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,134 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AccessCommandOpSpec;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>MB is the memory bank to use. WordPtr is the starting word
+ * address. Word Count is the number of 16-bit words to be read.
+ * Access Password is the password used by the Reader to transition
+ * the tag to the secure state so that it can erase protected tag
+ * memory regions.
+ * </p>
+ * <p>
+ * Readers that do not support C1G2BlockErase
+ * <b>SHALL</b>
+ * set CanSupportBlockErase to false in C1G2LLRPCapabilities. If such
+ * a Reader receives an ADD_ACCESSSPEC with an AccessSpec that
+ * contained this OpSpec parameter, the Reader
+ * <b>SHALL</b>
+ * return an error for that message and not add the AccessSpec.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=109&amp;view=fit">LLRP Specification Section 15.2.1.3.2.5</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=158&amp;view=fit">LLRP Specification Section 16.3.1.3.2.5</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 346)
+@LlrpProperties({
+    "opSpecID",
+    "accessPassword",
+    "mB",
+    "wordPointer",
+    "wordCount"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2BlockErase
+    implements AccessCommandOpSpec
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_32)
+    protected long accessPassword;
+    @LlrpField(type = FieldType.U_2, reservedAfter = 6)
+    protected int mB;
+    @LlrpField(type = FieldType.U_16)
+    protected int wordPointer;
+    @LlrpField(type = FieldType.U_16)
+    protected int wordCount;
+
+    public C1G2BlockErase opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2BlockErase accessPassword(long accessPassword) {
+        this.accessPassword = accessPassword;
+        return this;
+    }
+
+    public long accessPassword() {
+        return accessPassword;
+    }
+
+    public C1G2BlockErase mb(int mB) {
+        this.mB = mB;
+        return this;
+    }
+
+    public int mb() {
+        return mB;
+    }
+
+    public C1G2BlockErase wordPointer(int wordPointer) {
+        this.wordPointer = wordPointer;
+        return this;
+    }
+
+    public int wordPointer() {
+        return wordPointer;
+    }
+
+    public C1G2BlockErase wordCount(int wordCount) {
+        this.wordCount = wordCount;
+        return this;
+    }
+
+    public int wordCount() {
+        return wordCount;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.opSpecID, this.accessPassword, this.mB, this.wordPointer, this.wordCount);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2BlockErase other;
+        other = ((C1G2BlockErase) obj);
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessPassword, other.accessPassword)) {
+            return false;
+        }
+        if (!Objects.equals(this.mB, other.mB)) {
+            return false;
+        }
+        if (!Objects.equals(this.wordPointer, other.wordPointer)) {
+            return false;
+        }
+        if (!Objects.equals(this.wordCount, other.wordCount)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,85 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2BlockEraseResultType;
+import org.llrp.interfaces.AccessCommandOpSpecResult;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Contains the result of a block erase operation.</p>
+ * <p>
+ * Readers that do not support C1G2 Block Erase
+ * <b>SHALL</b>
+ * set CanSupportBlockErase to false in C1G2LLRPCapabilities. If such
+ * a Reader receives an ADD_ACCESSSPEC with an AccessSpec that
+ * contains this OpSpec parameter, the Reader
+ * <b>SHALL</b>
+ * return an error for that message and not add the AccessSpec.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=113&amp;view=fit">LLRP Specification Section 15.2.1.5.5.5</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=160&amp;view=fit">LLRP Specification Section 16.3.1.5.5.5</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 353)
+@LlrpProperties({
+    "result",
+    "opSpecID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2BlockEraseOpSpecResult
+    implements AccessCommandOpSpecResult
+{
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2BlockEraseResultType result;
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+
+    public C1G2BlockEraseOpSpecResult result(C1G2BlockEraseResultType result) {
+        this.result = result;
+        return this;
+    }
+
+    public C1G2BlockEraseResultType result() {
+        return result;
+    }
+
+    public C1G2BlockEraseOpSpecResult opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.result, this.opSpecID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2BlockEraseOpSpecResult other;
+        other = ((C1G2BlockEraseOpSpecResult) obj);
+        if (!Objects.equals(this.result, other.result)) {
+            return false;
+        }
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        return true;
+    }
+}
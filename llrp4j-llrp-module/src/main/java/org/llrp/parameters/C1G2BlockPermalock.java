@@ -0,0 +1,137 @@
+
+package org.llrp.parameters;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AccessCommandOpSpec;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Equivalent to Class1 Gen2 BlockPermalock.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=108&amp;view=fit">//LLRP Specification Section 15.2.1.3.2.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=157&amp;view=fit">//LLRP Specification Section 16.3.1.3.2.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 358)
+@LlrpProperties({
+    "opSpecID",
+    "accessPassword",
+    "mB",
+    "blockPointer",
+    "blockMaskWordCount",
+    "blockMask"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2BlockPermalock
+    implements AccessCommandOpSpec
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_32)
+    protected long accessPassword;
+    @LlrpField(type = FieldType.U_2, reservedAfter = 6)
+    protected int mB;
+    @LlrpField(type = FieldType.U_16)
+    protected int blockPointer;
+    @LlrpField(type = FieldType.U_16)
+    protected int blockMaskWordCount;
+    @LlrpField(type = FieldType.U_16_V)
+    protected int[] blockMask;
+
+    public C1G2BlockPermalock opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2BlockPermalock accessPassword(long accessPassword) {
+        this.accessPassword = accessPassword;
+        return this;
+    }
+
+    public long accessPassword() {
+        return accessPassword;
+    }
+
+    public C1G2BlockPermalock mb(int mB) {
+        this.mB = mB;
+        return this;
+    }
+
+    public int mb() {
+        return mB;
+    }
+
+    public C1G2BlockPermalock blockPointer(int blockPointer) {
+        this.blockPointer = blockPointer;
+        return this;
+    }
+
+    public int blockPointer() {
+        return blockPointer;
+    }
+
+    public C1G2BlockPermalock blockMaskWordCount(int blockMaskWordCount) {
+        this.blockMaskWordCount = blockMaskWordCount;
+        return this;
+    }
+
+    public int blockMaskWordCount() {
+        return blockMaskWordCount;
+    }
+
+    public C1G2BlockPermalock blockMask(int[] blockMask) {
+        this.blockMask = blockMask;
+        return this;
+    }
+
+    public int[] blockMask() {
+        return blockMask;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.opSpecID, this.accessPassword, this.mB, this.blockPointer, this.blockMaskWordCount, this.blockMask);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2BlockPermalock other;
+        other = ((C1G2BlockPermalock) obj);
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessPassword, other.accessPassword)) {
+            return false;
+        }
+        if (!Objects.equals(this.mB, other.mB)) {
+            return false;
+        }
+        if (!Objects.equals(this.blockPointer, other.blockPointer)) {
+            return false;
+        }
+        if (!Objects.equals(this.blockMaskWordCount, other.blockMaskWordCount)) {
+            return false;
+        }
+        if (!Arrays.equals(this.blockMask, other.blockMask)) {
+            return false;
+        }
+        return true;
+    }
+}
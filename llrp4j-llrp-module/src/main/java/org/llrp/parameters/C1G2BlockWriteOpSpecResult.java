@@ -0,0 +1,100 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2BlockWriteResultType;
+import org.llrp.interfaces.AccessCommandOpSpecResult;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Contains the result of a block write operation</p>
+ * <p>
+ * Readers that do not support C1G2 Block Write
+ * <b>SHALL</b>
+ * set CanSupportBlockWrite to false in C1G2LLRPCapabilities. If such
+ * a Reader receives an ADD_ACCESSSPEC with an AccessSpec that
+ * contains this OpSpec parameter, the Reader
+ * <b>SHALL</b>
+ * return an error for that message and not add the AccessSpec.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=113&amp;view=fit">LLRP Specification Section 15.2.1.5.5.6</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=161&amp;view=fit">LLRP Specification Section 16.3.1.5.5.6</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 354)
+@LlrpProperties({
+    "result",
+    "opSpecID",
+    "numWordsWritten"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2BlockWriteOpSpecResult
+    implements AccessCommandOpSpecResult
+{
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2BlockWriteResultType result;
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_16)
+    protected int numWordsWritten;
+
+    public C1G2BlockWriteOpSpecResult result(C1G2BlockWriteResultType result) {
+        this.result = result;
+        return this;
+    }
+
+    public C1G2BlockWriteResultType result() {
+        return result;
+    }
+
+    public C1G2BlockWriteOpSpecResult opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2BlockWriteOpSpecResult numWordsWritten(int numWordsWritten) {
+        this.numWordsWritten = numWordsWritten;
+        return this;
+    }
+
+    public int numWordsWritten() {
+        return numWordsWritten;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.result, this.opSpecID, this.numWordsWritten);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2BlockWriteOpSpecResult other;
+        other = ((C1G2BlockWriteOpSpecResult) obj);
+        if (!Objects.equals(this.result, other.result)) {
+            return false;
+        }
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.numWordsWritten, other.numWordsWritten)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,81 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolEPCMemorySelector;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter is used to determine what contents are of
+ * interest in the C1G2EPC memory bank for reporting. If enableCRC and
+ * enablePC is set to false, only the EPC is returned in the RO
+ * Report. If enablePC is set to true, the PC bits and the EPC are
+ * returned in the RO Report. If enablePC and enableCRC is set to
+ * true, the EPC, PC bits and CRC are returned in the RO Report.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=110&amp;view=fit">LLRP Specification Section 15.2.1.5.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=159&amp;view=fit">LLRP Specification Section 16.3.1.5.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 348)
+@LlrpProperties({
+    "enableCRC",
+    "enablePCBits"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2EPCMemorySelector
+    implements AirProtocolEPCMemorySelector
+{
+    @LlrpField(type = FieldType.U_1)
+    protected boolean enableCRC;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 6)
+    protected boolean enablePCBits;
+
+    public C1G2EPCMemorySelector enableCRC(boolean enableCRC) {
+        this.enableCRC = enableCRC;
+        return this;
+    }
+
+    public boolean enableCRC() {
+        return enableCRC;
+    }
+
+    public C1G2EPCMemorySelector enablePCBits(boolean enablePCBits) {
+        this.enablePCBits = enablePCBits;
+        return this;
+    }
+
+    public boolean enablePCBits() {
+        return enablePCBits;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.enableCRC, this.enablePCBits);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2EPCMemorySelector other;
+        other = ((C1G2EPCMemorySelector) obj);
+        if (!Objects.equals(this.enableCRC, other.enableCRC)) {
+            return false;
+        }
+        if (!Objects.equals(this.enablePCBits, other.enablePCBits)) {
+            return false;
+        }
+        return true;
+    }
+}
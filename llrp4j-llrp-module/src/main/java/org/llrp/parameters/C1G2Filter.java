@@ -0,0 +1,151 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2TruncateAction;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries information specific to C1G2 filter (in
+ * particular, the parameters for the select command) operation, and
+ * are optionally sent with each inventory command from the Client to
+ * the Reader. This sets up the target tag population that gets
+ * inventoried. For an inventory operation with multiple filters,
+ * multiple instances of filter parameters are sent. A filter
+ * parameter contains the following fields:
+ * </p>
+ * <ul><li><p>Target tag mask: This contains the information for the tag
+ * memory data pattern used for the select operation.
+ * </p>
+ * </li><li><p>T: This value is set if the Client is interested in only a
+ * truncated portion of the tag to be backscattered by the tag. The
+ * portion that gets backscattered includes the portion of the tag
+ * ID following the mask. This bit has to be set only in the last
+ * filter-spec.
+ * </p>
+ * </li><li><p>TagInventoryStateAwareFilterAction: This is used if the
+ * TagInventoryStateAware flag is set to true in the
+ * InventoryParameterSpec.
+ * </p>
+ * </li><li><p>TagInventoryStateUnawareFilterAction: This is used if the
+ * TagInventoryStateAware flag is set to false in the
+ * InventoryParameterSpec.
+ * </p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=101&amp;view=fit">LLRP Specification Section 15.2.1.2.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=154&amp;view=fit">LLRP Specification Section 16.3.1.2.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 331)
+@LlrpProperties({
+    "t",
+    "c1G2TagInventoryMask",
+    "c1G2TagInventoryStateAwareFilterAction",
+    "c1G2TagInventoryStateUnawareFilterAction"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2Filter {
+    @LlrpField(type = FieldType.U_2, reservedAfter = 6)
+    protected C1G2TruncateAction t;
+    @LlrpParam(required = true)
+    protected C1G2TagInventoryMask c1G2TagInventoryMask;
+    @LlrpParam(required = false)
+    protected C1G2TagInventoryStateAwareFilterAction c1G2TagInventoryStateAwareFilterAction;
+    @LlrpParam(required = false)
+    protected C1G2TagInventoryStateUnawareFilterAction c1G2TagInventoryStateUnawareFilterAction;
+
+    public C1G2Filter t(C1G2TruncateAction t) {
+        this.t = t;
+        return this;
+    }
+
+    public C1G2TruncateAction t() {
+        return t;
+    }
+
+    public C1G2Filter c1G2TagInventoryMask(C1G2TagInventoryMask c1G2TagInventoryMask) {
+        this.c1G2TagInventoryMask = c1G2TagInventoryMask;
+        return this;
+    }
+
+    public C1G2TagInventoryMask c1G2TagInventoryMask() {
+        if (c1G2TagInventoryMask == null) {
+            c1G2TagInventoryMask = new C1G2TagInventoryMask();
+        }
+        return c1G2TagInventoryMask;
+    }
+
+    public C1G2TagInventoryMask getC1G2TagInventoryMask() {
+        return c1G2TagInventoryMask;
+    }
+
+    public C1G2Filter c1G2TagInventoryStateAwareFilterAction(C1G2TagInventoryStateAwareFilterAction c1G2TagInventoryStateAwareFilterAction) {
+        this.c1G2TagInventoryStateAwareFilterAction = c1G2TagInventoryStateAwareFilterAction;
+        return this;
+    }
+
+    public C1G2TagInventoryStateAwareFilterAction c1G2TagInventoryStateAwareFilterAction() {
+        if (c1G2TagInventoryStateAwareFilterAction == null) {
+            c1G2TagInventoryStateAwareFilterAction = new C1G2TagInventoryStateAwareFilterAction();
+        }
+        return c1G2TagInventoryStateAwareFilterAction;
+    }
+
+    public C1G2TagInventoryStateAwareFilterAction getC1G2TagInventoryStateAwareFilterAction() {
+        return c1G2TagInventoryStateAwareFilterAction;
+    }
+
+    public C1G2Filter c1G2TagInventoryStateUnawareFilterAction(C1G2TagInventoryStateUnawareFilterAction c1G2TagInventoryStateUnawareFilterAction) {
+        this.c1G2TagInventoryStateUnawareFilterAction = c1G2TagInventoryStateUnawareFilterAction;
+        return this;
+    }
+
+    public C1G2TagInventoryStateUnawareFilterAction c1G2TagInventoryStateUnawareFilterAction() {
+        if (c1G2TagInventoryStateUnawareFilterAction == null) {
+            c1G2TagInventoryStateUnawareFilterAction = new C1G2TagInventoryStateUnawareFilterAction();
+        }
+        return c1G2TagInventoryStateUnawareFilterAction;
+    }
+
+    public C1G2TagInventoryStateUnawareFilterAction getC1G2TagInventoryStateUnawareFilterAction() {
+        return c1G2TagInventoryStateUnawareFilterAction;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.t, this.c1G2TagInventoryMask, this.c1G2TagInventoryStateAwareFilterAction, this.c1G2TagInventoryStateUnawareFilterAction);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2Filter other;
+        other = ((C1G2Filter) obj);
+        if (!Objects.equals(this.t, other.t)) {
+            return false;
+        }
+        if (!Objects.equals(this.c1G2TagInventoryMask, other.c1G2TagInventoryMask)) {
+            return false;
+        }
+        if (!Objects.equals(this.c1G2TagInventoryStateAwareFilterAction, other.c1G2TagInventoryStateAwareFilterAction)) {
+            return false;
+        }
+        if (!Objects.equals(this.c1G2TagInventoryStateUnawareFilterAction, other.c1G2TagInventoryStateUnawareFilterAction)) {
+            return false;
+        }
+        return true;
+    }
+}
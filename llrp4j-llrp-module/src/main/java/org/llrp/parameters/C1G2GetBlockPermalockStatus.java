@@ -0,0 +1,118 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Get BlockPermalock status.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=108&amp;view=fit">//LLRP Specification Section 15.2.1.3.2.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=157&amp;view=fit">//LLRP Specification Section 16.3.1.3.2.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 359)
+@LlrpProperties({
+    "opSpecID",
+    "accessPassword",
+    "mB",
+    "blockPointer",
+    "blockRange"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2GetBlockPermalockStatus {
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_32)
+    protected long accessPassword;
+    @LlrpField(type = FieldType.U_2, reservedAfter = 6)
+    protected int mB;
+    @LlrpField(type = FieldType.U_16)
+    protected int blockPointer;
+    @LlrpField(type = FieldType.U_16)
+    protected int blockRange;
+
+    public C1G2GetBlockPermalockStatus opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2GetBlockPermalockStatus accessPassword(long accessPassword) {
+        this.accessPassword = accessPassword;
+        return this;
+    }
+
+    public long accessPassword() {
+        return accessPassword;
+    }
+
+    public C1G2GetBlockPermalockStatus mb(int mB) {
+        this.mB = mB;
+        return this;
+    }
+
+    public int mb() {
+        return mB;
+    }
+
+    public C1G2GetBlockPermalockStatus blockPointer(int blockPointer) {
+        this.blockPointer = blockPointer;
+        return this;
+    }
+
+    public int blockPointer() {
+        return blockPointer;
+    }
+
+    public C1G2GetBlockPermalockStatus blockRange(int blockRange) {
+        this.blockRange = blockRange;
+        return this;
+    }
+
+    public int blockRange() {
+        return blockRange;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.opSpecID, this.accessPassword, this.mB, this.blockPointer, this.blockRange);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2GetBlockPermalockStatus other;
+        other = ((C1G2GetBlockPermalockStatus) obj);
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessPassword, other.accessPassword)) {
+            return false;
+        }
+        if (!Objects.equals(this.mB, other.mB)) {
+            return false;
+        }
+        if (!Objects.equals(this.blockPointer, other.blockPointer)) {
+            return false;
+        }
+        if (!Objects.equals(this.blockRange, other.blockRange)) {
+            return false;
+        }
+        return true;
+    }
+}
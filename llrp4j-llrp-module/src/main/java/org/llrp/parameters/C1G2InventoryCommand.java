@@ -0,0 +1,174 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolInventoryCommandSettings;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter defines the C1G2 inventory-specific settings to
+ * be used during a particular C1G2 inventory operation. This
+ * comprises of C1G2Filter Parameter, C1G2RF Parameter and
+ * C1G2Singulation Parameter. It is not necessary that the Filter, RF
+ * Control and Singulation Control Parameters be specified in each and
+ * every inventory command. They are optional parameters. If not
+ * specified, the default values in the Reader are used during the
+ * inventory operation. If multiple C1G2Filter parameters are
+ * encapsulated by the Client in the C1G2InventoryCommand parameter,
+ * the ordering of the filter parameters determine the order of C1G2
+ * air-protocol commands (e.g., Select command) generated by the
+ * Reader.
+ * </p>
+ * <p>
+ * The TagInventoryStateAware flag is used to determine how to process
+ * all the C1G2Filter and C1G2Singulation parameters in this command.
+ * At a functional level, if the Client is managing the tag states
+ * during an inventory operation, it would set that flag to true and
+ * pass the appropriate fields in the C1G2 Filter and C1G2 Singulation
+ * parameters. If a reader set CanDoTagInventoryStateAwareSingulation
+ * to False in LLRPCapabilities (section 9.2.2), it
+ * <b>SHALL</b>
+ * ignore the TagInventoryStateAware flag.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=100&amp;view=fit">LLRP Specification Section 15.2.1.2.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=154&amp;view=fit">LLRP Specification Section 16.3.1.2.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 330)
+@LlrpProperties({
+    "tagInventoryStateAware",
+    "c1G2Filter",
+    "c1G2RFControl",
+    "c1G2SingulationControl",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2InventoryCommand
+    implements AirProtocolInventoryCommandSettings
+{
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected boolean tagInventoryStateAware;
+    @LlrpParam(required = false)
+    protected List<C1G2Filter> c1G2Filter;
+    @LlrpParam(required = false)
+    protected C1G2RFControl c1G2RFControl;
+    @LlrpParam(required = false)
+    protected C1G2SingulationControl c1G2SingulationControl;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public C1G2InventoryCommand tagInventoryStateAware(boolean tagInventoryStateAware) {
+        this.tagInventoryStateAware = tagInventoryStateAware;
+        return this;
+    }
+
+    public boolean tagInventoryStateAware() {
+        return tagInventoryStateAware;
+    }
+
+    public C1G2InventoryCommand c1G2Filter(List<C1G2Filter> c1G2Filter) {
+        this.c1G2Filter = c1G2Filter;
+        return this;
+    }
+
+    public List<C1G2Filter> c1G2Filter() {
+        if (c1G2Filter == null) {
+            c1G2Filter = new ArrayList<C1G2Filter>();
+        }
+        return c1G2Filter;
+    }
+
+    public List<C1G2Filter> getC1G2Filter() {
+        return c1G2Filter;
+    }
+
+    public C1G2InventoryCommand c1G2RFControl(C1G2RFControl c1G2RFControl) {
+        this.c1G2RFControl = c1G2RFControl;
+        return this;
+    }
+
+    public C1G2RFControl c1G2RFControl() {
+        if (c1G2RFControl == null) {
+            c1G2RFControl = new C1G2RFControl();
+        }
+        return c1G2RFControl;
+    }
+
+    public C1G2RFControl getC1G2RFControl() {
+        return c1G2RFControl;
+    }
+
+    public C1G2InventoryCommand c1G2SingulationControl(C1G2SingulationControl c1G2SingulationControl) {
+        this.c1G2SingulationControl = c1G2SingulationControl;
+        return this;
+    }
+
+    public C1G2SingulationControl c1G2SingulationControl() {
+        if (c1G2SingulationControl == null) {
+            c1G2SingulationControl = new C1G2SingulationControl();
+        }
+        return c1G2SingulationControl;
+    }
+
+    public C1G2SingulationControl getC1G2SingulationControl() {
+        return c1G2SingulationControl;
+    }
+
+    public C1G2InventoryCommand custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.tagInventoryStateAware, this.c1G2Filter, this.c1G2RFControl, this.c1G2SingulationControl, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2InventoryCommand other;
+        other = ((C1G2InventoryCommand) obj);
+        if (!Objects.equals(this.tagInventoryStateAware, other.tagInventoryStateAware)) {
+            return false;
+        }
+        if (!Objects.equals(this.c1G2Filter, other.c1G2Filter)) {
+            return false;
+        }
+        if (!Objects.equals(this.c1G2RFControl, other.c1G2RFControl)) {
+            return false;
+        }
+        if (!Objects.equals(this.c1G2SingulationControl, other.c1G2SingulationControl)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,77 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AccessCommandOpSpec;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Kill Password is the value of the kill password to be used or
+ * set.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=108&amp;view=fit">LLRP Specification Section 15.2.1.3.2.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=157&amp;view=fit">LLRP Specification Section 16.3.1.3.2.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 343)
+@LlrpProperties({
+    "opSpecID",
+    "killPassword"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2Kill
+    implements AccessCommandOpSpec
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_32)
+    protected long killPassword;
+
+    public C1G2Kill opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2Kill killPassword(long killPassword) {
+        this.killPassword = killPassword;
+        return this;
+    }
+
+    public long killPassword() {
+        return killPassword;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.opSpecID, this.killPassword);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2Kill other;
+        other = ((C1G2Kill) obj);
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.killPassword, other.killPassword)) {
+            return false;
+        }
+        return true;
+    }
+}
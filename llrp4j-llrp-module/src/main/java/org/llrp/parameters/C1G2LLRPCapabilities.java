@@ -0,0 +1,158 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolLLRPCapabilities;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>
+ * Readers
+ * <b>MAY</b>
+ * support BlockErase, and
+ * <b>MAY</b>
+ * support BlockWrite. Readers
+ * <b>SHALL</b>
+ * support at least one select filter per query.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=98&amp;view=fit">LLRP Specification Section 15.2.1.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=153&amp;view=fit">LLRP Specification Section 16.3.1.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 327)
+@LlrpProperties({
+    "canSupportBlockErase",
+    "canSupportBlockWrite",
+    "canSupportBlockPermalock",
+    "canSupportTagRecommissioning",
+    "canSupportUMIMethod2",
+    "canSupportXPC",
+    "maxNumSelectFiltersPerQuery"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2LLRPCapabilities
+    implements AirProtocolLLRPCapabilities
+{
+    @LlrpField(type = FieldType.U_1)
+    protected boolean canSupportBlockErase;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean canSupportBlockWrite;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean canSupportBlockPermalock;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean canSupportTagRecommissioning;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean canSupportUMIMethod2;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 2)
+    protected boolean canSupportXPC;
+    @LlrpField(type = FieldType.U_16)
+    protected int maxNumSelectFiltersPerQuery;
+
+    public C1G2LLRPCapabilities canSupportBlockErase(boolean canSupportBlockErase) {
+        this.canSupportBlockErase = canSupportBlockErase;
+        return this;
+    }
+
+    public boolean canSupportBlockErase() {
+        return canSupportBlockErase;
+    }
+
+    public C1G2LLRPCapabilities canSupportBlockWrite(boolean canSupportBlockWrite) {
+        this.canSupportBlockWrite = canSupportBlockWrite;
+        return this;
+    }
+
+    public boolean canSupportBlockWrite() {
+        return canSupportBlockWrite;
+    }
+
+    public C1G2LLRPCapabilities canSupportBlockPermalock(boolean canSupportBlockPermalock) {
+        this.canSupportBlockPermalock = canSupportBlockPermalock;
+        return this;
+    }
+
+    public boolean canSupportBlockPermalock() {
+        return canSupportBlockPermalock;
+    }
+
+    public C1G2LLRPCapabilities canSupportTagRecommissioning(boolean canSupportTagRecommissioning) {
+        this.canSupportTagRecommissioning = canSupportTagRecommissioning;
+        return this;
+    }
+
+    public boolean canSupportTagRecommissioning() {
+        return canSupportTagRecommissioning;
+    }
+
+    public C1G2LLRPCapabilities canSupportUMIMethod2(boolean canSupportUMIMethod2) {
+        this.canSupportUMIMethod2 = canSupportUMIMethod2;
+        return this;
+    }
+
+    public boolean canSupportUMIMethod2() {
+        return canSupportUMIMethod2;
+    }
+
+    public C1G2LLRPCapabilities canSupportXPC(boolean canSupportXPC) {
+        this.canSupportXPC = canSupportXPC;
+        return this;
+    }
+
+    public boolean canSupportXPC() {
+        return canSupportXPC;
+    }
+
+    public C1G2LLRPCapabilities maxNumSelectFiltersPerQuery(int maxNumSelectFiltersPerQuery) {
+        this.maxNumSelectFiltersPerQuery = maxNumSelectFiltersPerQuery;
+        return this;
+    }
+
+    public int maxNumSelectFiltersPerQuery() {
+        return maxNumSelectFiltersPerQuery;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.canSupportBlockErase, this.canSupportBlockWrite, this.canSupportBlockPermalock, this.canSupportTagRecommissioning, this.canSupportUMIMethod2, this.canSupportXPC, this.maxNumSelectFiltersPerQuery);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2LLRPCapabilities other;
+        other = ((C1G2LLRPCapabilities) obj);
+        if (!Objects.equals(this.canSupportBlockErase, other.canSupportBlockErase)) {
+            return false;
+        }
+        if (!Objects.equals(this.canSupportBlockWrite, other.canSupportBlockWrite)) {
+            return false;
+        }
+        if (!Objects.equals(this.canSupportBlockPermalock, other.canSupportBlockPermalock)) {
+            return false;
+        }
+        if (!Objects.equals(this.canSupportTagRecommissioning, other.canSupportTagRecommissioning)) {
+            return false;
+        }
+        if (!Objects.equals(this.canSupportUMIMethod2, other.canSupportUMIMethod2)) {
+            return false;
+        }
+        if (!Objects.equals(this.canSupportXPC, other.canSupportXPC)) {
+            return false;
+        }
+        if (!Objects.equals(this.maxNumSelectFiltersPerQuery, other.maxNumSelectFiltersPerQuery)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,112 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AccessCommandOpSpec;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter contains the definition of the access privilege
+ * updates (read/write/permalock) to be performed in various locations
+ * of the memory. The five data fields for which we can define access
+ * control using the lock command are: Kill Password, Access Password,
+ * EPC memory, TID memory and User memory. The access privilege
+ * updates are expressed as a list of C1G2LockPayload Parameters, one
+ * for each memory location.
+ * </p>
+ * <p>The Access Password provides the password to enter the secured
+ * state. A Reader can perform a lock operation on a tag only if the
+ * tag is in the secured state. The tag enters the secured state only
+ * using the Access Password (if a non-zero value).
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=108&amp;view=fit">LLRP Specification Section 15.2.1.3.2.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=157&amp;view=fit">LLRP Specification Section 16.3.1.3.2.4</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 344)
+@LlrpProperties({
+    "opSpecID",
+    "accessPassword",
+    "c1G2LockPayload"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2Lock
+    implements AccessCommandOpSpec
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_32)
+    protected long accessPassword;
+    @LlrpParam(required = true)
+    protected List<C1G2LockPayload> c1G2LockPayload;
+
+    public C1G2Lock opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2Lock accessPassword(long accessPassword) {
+        this.accessPassword = accessPassword;
+        return this;
+    }
+
+    public long accessPassword() {
+        return accessPassword;
+    }
+
+    public C1G2Lock c1G2LockPayload(List<C1G2LockPayload> c1G2LockPayload) {
+        this.c1G2LockPayload = c1G2LockPayload;
+        return this;
+    }
+
+    public List<C1G2LockPayload> c1G2LockPayload() {
+        if (c1G2LockPayload == null) {
+            c1G2LockPayload = new ArrayList<C1G2LockPayload>();
+        }
+        return c1G2LockPayload;
+    }
+
+    public List<C1G2LockPayload> getC1G2LockPayload() {
+        return c1G2LockPayload;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.opSpecID, this.accessPassword, this.c1G2LockPayload);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2Lock other;
+        other = ((C1G2Lock) obj);
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessPassword, other.accessPassword)) {
+            return false;
+        }
+        if (!Objects.equals(this.c1G2LockPayload, other.c1G2LockPayload)) {
+            return false;
+        }
+        return true;
+    }
+}
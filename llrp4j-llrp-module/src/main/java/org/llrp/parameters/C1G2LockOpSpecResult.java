@@ -0,0 +1,76 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2LockResultType;
+import org.llrp.interfaces.AccessCommandOpSpecResult;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Contains the result of a lock operation.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=113&amp;view=fit">LLRP Specification Section 15.2.1.5.5.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=160&amp;view=fit">LLRP Specification Section 16.3.1.5.5.4</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 352)
+@LlrpProperties({
+    "result",
+    "opSpecID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2LockOpSpecResult
+    implements AccessCommandOpSpecResult
+{
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2LockResultType result;
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+
+    public C1G2LockOpSpecResult result(C1G2LockResultType result) {
+        this.result = result;
+        return this;
+    }
+
+    public C1G2LockResultType result() {
+        return result;
+    }
+
+    public C1G2LockOpSpecResult opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.result, this.opSpecID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2LockOpSpecResult other;
+        other = ((C1G2LockOpSpecResult) obj);
+        if (!Objects.equals(this.result, other.result)) {
+            return false;
+        }
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        return true;
+    }
+}
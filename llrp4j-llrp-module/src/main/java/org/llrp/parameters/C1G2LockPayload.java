@@ -0,0 +1,79 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2LockDataField;
+import org.llrp.enumerations.C1G2LockPrivilege;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter contains the definition of the access privilege
+ * updates (read/write/permalock) to be performed for a single
+ * location of the tag memory. The five data fields for which we can
+ * define access control using the lock command are: Kill Password,
+ * Access Password, EPC memory, TID memory and User memory.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=109&amp;view=fit">LLRP Specification Section 15.2.1.3.2.4.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=158&amp;view=fit">LLRP Specification Section 16.3.1.3.2.4.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 345)
+@LlrpProperties({
+    "privilege",
+    "dataField"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2LockPayload {
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2LockPrivilege privilege;
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2LockDataField dataField;
+
+    public C1G2LockPayload privilege(C1G2LockPrivilege privilege) {
+        this.privilege = privilege;
+        return this;
+    }
+
+    public C1G2LockPrivilege privilege() {
+        return privilege;
+    }
+
+    public C1G2LockPayload dataField(C1G2LockDataField dataField) {
+        this.dataField = dataField;
+        return this;
+    }
+
+    public C1G2LockDataField dataField() {
+        return dataField;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.privilege, this.dataField);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2LockPayload other;
+        other = ((C1G2LockPayload) obj);
+        if (!Objects.equals(this.privilege, other.privilege)) {
+            return false;
+        }
+        if (!Objects.equals(this.dataField, other.dataField)) {
+            return false;
+        }
+        return true;
+    }
+}
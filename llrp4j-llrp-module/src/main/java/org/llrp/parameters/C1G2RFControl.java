@@ -0,0 +1,83 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This Parameter carries the settings relevant to RF forward and
+ * reverse link control in the C1G2 air protocol. This is basically
+ * the C1G2 RF Mode and the Tari value to use for the inventory
+ * operation.
+ * </p>
+ * <p>Tari: Value of Tari to use for this mode specified in nsec.
+ * This is specified if the mode selected has a Tari range. If the
+ * selected mode has a range, and the Tari is set to zero, the Reader
+ * implementation picks up any Tari value within the range. If the
+ * selected mode has a range, and the specified Tari is out of that
+ * range and is not set to zero, an error message is generated.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=104&amp;view=fit">LLRP Specification Section 15.2.1.2.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=155&amp;view=fit">LLRP Specification Section 16.3.1.2.1.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 335)
+@LlrpProperties({
+    "modeIndex",
+    "tari"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2RFControl {
+    @LlrpField(type = FieldType.U_16)
+    protected int modeIndex;
+    @LlrpField(type = FieldType.U_16)
+    protected int tari;
+
+    public C1G2RFControl modeIndex(int modeIndex) {
+        this.modeIndex = modeIndex;
+        return this;
+    }
+
+    public int modeIndex() {
+        return modeIndex;
+    }
+
+    public C1G2RFControl tari(int tari) {
+        this.tari = tari;
+        return this;
+    }
+
+    public int tari() {
+        return tari;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.modeIndex, this.tari);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2RFControl other;
+        other = ((C1G2RFControl) obj);
+        if (!Objects.equals(this.modeIndex, other.modeIndex)) {
+            return false;
+        }
+        if (!Objects.equals(this.tari, other.tari)) {
+            return false;
+        }
+        return true;
+    }
+}
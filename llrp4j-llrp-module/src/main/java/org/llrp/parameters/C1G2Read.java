@@ -0,0 +1,138 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AccessCommandOpSpec;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>MB is the memory bank to use. WordPtr is the starting word
+ * address. WordCount is the number of 16-bit words to be read.
+ * Following is text reproduced from the C1G2 specification regarding
+ * WordCount=0. [If WordCount = 0, the tag backscatters the contents
+ * of the chosen memory bank starting at WordPtr and ending at the end
+ * of the bank, unless MB = 1, in which case the Tag shall backscatter
+ * the EPC memory contents starting at WordPtr and ending at the
+ * length of the EPC specified by the first 5 bits of the PC if
+ * WordPtr lies within the EPC, and shall backscatter the EPC memory
+ * contents starting at WordPtr and ending at the end of EPC memory if
+ * WordPtr lies outside the EPC.]
+ * </p>
+ * <p>Access Password is the password used by the Reader to
+ * transition the tag to the secure state so that it can read
+ * protected tag memory regions. For example, the Tag's Reserved
+ * memory is locked but not permalocked, meaning that the Reader must
+ * issue the access password and transition the Tag to the secured
+ * state before performing the read operation.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=107&amp;view=fit">LLRP Specification Section 15.2.1.3.2.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=157&amp;view=fit">LLRP Specification Section 16.3.1.3.2.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 341)
+@LlrpProperties({
+    "opSpecID",
+    "accessPassword",
+    "mB",
+    "wordPointer",
+    "wordCount"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2Read
+    implements AccessCommandOpSpec
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_32)
+    protected long accessPassword;
+    @LlrpField(type = FieldType.U_2, reservedAfter = 6)
+    protected int mB;
+    @LlrpField(type = FieldType.U_16)
+    protected int wordPointer;
+    @LlrpField(type = FieldType.U_16)
+    protected int wordCount;
+
+    public C1G2Read opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2Read accessPassword(long accessPassword) {
+        this.accessPassword = accessPassword;
+        return this;
+    }
+
+    public long accessPassword() {
+        return accessPassword;
+    }
+
+    public C1G2Read mb(int mB) {
+        this.mB = mB;
+        return this;
+    }
+
+    public int mb() {
+        return mB;
+    }
+
+    public C1G2Read wordPointer(int wordPointer) {
+        this.wordPointer = wordPointer;
+        return this;
+    }
+
+    public int wordPointer() {
+        return wordPointer;
+    }
+
+    public C1G2Read wordCount(int wordCount) {
+        this.wordCount = wordCount;
+        return this;
+    }
+
+    public int wordCount() {
+        return wordCount;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.opSpecID, this.accessPassword, this.mB, this.wordPointer, this.wordCount);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2Read other;
+        other = ((C1G2Read) obj);
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessPassword, other.accessPassword)) {
+            return false;
+        }
+        if (!Objects.equals(this.mB, other.mB)) {
+            return false;
+        }
+        if (!Objects.equals(this.wordPointer, other.wordPointer)) {
+            return false;
+        }
+        if (!Objects.equals(this.wordCount, other.wordCount)) {
+            return false;
+        }
+        return true;
+    }
+}
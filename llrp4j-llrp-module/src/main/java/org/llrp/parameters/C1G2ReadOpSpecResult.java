@@ -0,0 +1,93 @@
+
+package org.llrp.parameters;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2ReadResultType;
+import org.llrp.interfaces.AccessCommandOpSpecResult;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Contains the results from a read operation.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=111&amp;view=fit">LLRP Specification Section 15.2.1.5.5.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=159&amp;view=fit">LLRP Specification Section 16.3.1.5.5.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 349)
+@LlrpProperties({
+    "result",
+    "opSpecID",
+    "readData"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2ReadOpSpecResult
+    implements AccessCommandOpSpecResult
+{
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2ReadResultType result;
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_16_V, format = FieldFormat.HEX)
+    protected int[] readData;
+
+    public C1G2ReadOpSpecResult result(C1G2ReadResultType result) {
+        this.result = result;
+        return this;
+    }
+
+    public C1G2ReadResultType result() {
+        return result;
+    }
+
+    public C1G2ReadOpSpecResult opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2ReadOpSpecResult readData(int[] readData) {
+        this.readData = readData;
+        return this;
+    }
+
+    public int[] readData() {
+        return readData;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.result, this.opSpecID, this.readData);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2ReadOpSpecResult other;
+        other = ((C1G2ReadOpSpecResult) obj);
+        if (!Objects.equals(this.result, other.result)) {
+            return false;
+        }
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Arrays.equals(this.readData, other.readData)) {
+            return false;
+        }
+        return true;
+    }
+}
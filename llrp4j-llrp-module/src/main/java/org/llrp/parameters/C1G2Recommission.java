@@ -0,0 +1,122 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AccessCommandOpSpec;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter allows a tag to be recommissioned instead of
+ * killed.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=108&amp;view=fit">//LLRP Specification Section 15.2.1.3.2.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=157&amp;view=fit">//LLRP Specification Section 16.3.1.3.2.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 357)
+@LlrpProperties({
+    "opSpecID",
+    "killPassword",
+    "bIT_3SB",
+    "bIT_2SB",
+    "bIT_LSB"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2Recommission
+    implements AccessCommandOpSpec
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_32, reservedAfter = 5)
+    protected long killPassword;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean bIT_3SB;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean bIT_2SB;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean bIT_LSB;
+
+    public C1G2Recommission opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2Recommission killPassword(long killPassword) {
+        this.killPassword = killPassword;
+        return this;
+    }
+
+    public long killPassword() {
+        return killPassword;
+    }
+
+    public C1G2Recommission biT_3SB(boolean bIT_3SB) {
+        this.bIT_3SB = bIT_3SB;
+        return this;
+    }
+
+    public boolean biT_3SB() {
+        return bIT_3SB;
+    }
+
+    public C1G2Recommission biT_2SB(boolean bIT_2SB) {
+        this.bIT_2SB = bIT_2SB;
+        return this;
+    }
+
+    public boolean biT_2SB() {
+        return bIT_2SB;
+    }
+
+    public C1G2Recommission biT_LSB(boolean bIT_LSB) {
+        this.bIT_LSB = bIT_LSB;
+        return this;
+    }
+
+    public boolean biT_LSB() {
+        return bIT_LSB;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.opSpecID, this.killPassword, this.bIT_3SB, this.bIT_2SB, this.bIT_LSB);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2Recommission other;
+        other = ((C1G2Recommission) obj);
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.killPassword, other.killPassword)) {
+            return false;
+        }
+        if (!Objects.equals(this.bIT_3SB, other.bIT_3SB)) {
+            return false;
+        }
+        if (!Objects.equals(this.bIT_2SB, other.bIT_2SB)) {
+            return false;
+        }
+        if (!Objects.equals(this.bIT_LSB, other.bIT_LSB)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,161 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This C1G2SingulationControl Parameter provides controls
+ * particular to the singulation process in the C1G2 air protocol. The
+ * singulation process is started using a Query command in the C1G2
+ * protocol. The Query command describes the session number, tag
+ * state, the start Q value to use, and the RF link parameters. The RF
+ * link parameters are specified using the C1G2RFControl Parameter
+ * (see section 15.2.1.2.1.2). This Singulation Parameter specifies
+ * the session, tag state and description of the target singulation
+ * environment. The following attributes are specified to provide
+ * guidance to the Reader for the singulation algorithm:
+ * </p>
+ * <ul><li><p>Tag transit time: This is the measure of expected tag
+ * mobility in the field of view of the antenna where this inventory
+ * operation is getting executed.
+ * </p>
+ * </li><li><p>Tag population: This is the expected tag population in the
+ * field of view of the antenna.
+ * </p>
+ * </li>
+ * </ul>
+ * <p>In addition, the Singulation Parameter allows setting of the
+ * following:
+ * </p>
+ * <ul><li><p>Session ID: This is the C1G2 session number that the tags use
+ * to update the inventory state upon successful singulation.
+ * </p>
+ * </li><li><p>TagInventoryStateAwareSingulationAction: This is used if the
+ * TagInventoryStateAware flag is set to true in the
+ * InventoryParameterSpec.
+ * </p><ul><li><p> I: This is the inventoried state of the target tag
+ * population in the selected session. Only tags that match the
+ * session state participate in the inventory round. If the Ignore
+ * value is specified, the Reader ignores this field, and its up
+ * to the Reader implementation to determine the value of I used
+ * in the inventory round.
+ * </p>
+ * </li><li><p> S: This is the state of the SL flag in the tag. Only tags
+ * that match that tag state participate in the inventory round.
+ * If the Ignore value is specified, the Reader ignores this
+ * field, and its up to the Reader implementation to determine the
+ * value of S used in the inventory round.
+ * </p>
+ * </li>
+ * </ul>
+ * </li>
+ * </ul>
+ * <p>
+ * If a reader sets CanDoTagInventoryStateAwareSingulation to False in
+ * LLRPCapabilities (section 9.2.2), it
+ * <b>SHALL</b>
+ * ignore the TagInventoryStateAwareSingulationAction field.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=104&amp;view=fit">LLRP Specification Section 15.2.1.2.1.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=155&amp;view=fit">LLRP Specification Section 16.3.1.2.1.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 336)
+@LlrpProperties({
+    "session",
+    "tagPopulation",
+    "tagTransitTime",
+    "c1G2TagInventoryStateAwareSingulationAction"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2SingulationControl {
+    @LlrpField(type = FieldType.U_2, reservedAfter = 6)
+    protected int session;
+    @LlrpField(type = FieldType.U_16)
+    protected int tagPopulation;
+    @LlrpField(type = FieldType.U_32)
+    protected long tagTransitTime;
+    @LlrpParam(required = false)
+    protected C1G2TagInventoryStateAwareSingulationAction c1G2TagInventoryStateAwareSingulationAction;
+
+    public C1G2SingulationControl session(int session) {
+        this.session = session;
+        return this;
+    }
+
+    public int session() {
+        return session;
+    }
+
+    public C1G2SingulationControl tagPopulation(int tagPopulation) {
+        this.tagPopulation = tagPopulation;
+        return this;
+    }
+
+    public int tagPopulation() {
+        return tagPopulation;
+    }
+
+    public C1G2SingulationControl tagTransitTime(long tagTransitTime) {
+        this.tagTransitTime = tagTransitTime;
+        return this;
+    }
+
+    public long tagTransitTime() {
+        return tagTransitTime;
+    }
+
+    public C1G2SingulationControl c1G2TagInventoryStateAwareSingulationAction(C1G2TagInventoryStateAwareSingulationAction c1G2TagInventoryStateAwareSingulationAction) {
+        this.c1G2TagInventoryStateAwareSingulationAction = c1G2TagInventoryStateAwareSingulationAction;
+        return this;
+    }
+
+    public C1G2TagInventoryStateAwareSingulationAction c1G2TagInventoryStateAwareSingulationAction() {
+        if (c1G2TagInventoryStateAwareSingulationAction == null) {
+            c1G2TagInventoryStateAwareSingulationAction = new C1G2TagInventoryStateAwareSingulationAction();
+        }
+        return c1G2TagInventoryStateAwareSingulationAction;
+    }
+
+    public C1G2TagInventoryStateAwareSingulationAction getC1G2TagInventoryStateAwareSingulationAction() {
+        return c1G2TagInventoryStateAwareSingulationAction;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.session, this.tagPopulation, this.tagTransitTime, this.c1G2TagInventoryStateAwareSingulationAction);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2SingulationControl other;
+        other = ((C1G2SingulationControl) obj);
+        if (!Objects.equals(this.session, other.session)) {
+            return false;
+        }
+        if (!Objects.equals(this.tagPopulation, other.tagPopulation)) {
+            return false;
+        }
+        if (!Objects.equals(this.tagTransitTime, other.tagTransitTime)) {
+            return false;
+        }
+        if (!Objects.equals(this.c1G2TagInventoryStateAwareSingulationAction, other.c1G2TagInventoryStateAwareSingulationAction)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,73 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolSingulationDetails;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=111&amp;view=fit">LLRP Specification Section 15.2.1.5.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=159&amp;view=fit">LLRP Specification Section 16.3.1.5.4</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 18)
+@LlrpProperties({
+    "numCollisionSlots",
+    "numEmptySlots"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2SingulationDetails
+    implements AirProtocolSingulationDetails
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int numCollisionSlots;
+    @LlrpField(type = FieldType.U_16)
+    protected int numEmptySlots;
+
+    public C1G2SingulationDetails numCollisionSlots(int numCollisionSlots) {
+        this.numCollisionSlots = numCollisionSlots;
+        return this;
+    }
+
+    public int numCollisionSlots() {
+        return numCollisionSlots;
+    }
+
+    public C1G2SingulationDetails numEmptySlots(int numEmptySlots) {
+        this.numEmptySlots = numEmptySlots;
+        return this;
+    }
+
+    public int numEmptySlots() {
+        return numEmptySlots;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.numCollisionSlots, this.numEmptySlots);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2SingulationDetails other;
+        other = ((C1G2SingulationDetails) obj);
+        if (!Objects.equals(this.numCollisionSlots, other.numCollisionSlots)) {
+            return false;
+        }
+        if (!Objects.equals(this.numEmptySlots, other.numEmptySlots)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.BitList;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=102&amp;view=fit">LLRP Specification Section 15.2.1.2.1.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=154&amp;view=fit">LLRP Specification Section 16.3.1.2.1.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 332)
+@LlrpProperties({
+    "mB",
+    "pointer",
+    "tagMask"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2TagInventoryMask {
+    @LlrpField(type = FieldType.U_2, reservedAfter = 6)
+    protected int mB;
+    @LlrpField(type = FieldType.U_16)
+    protected int pointer;
+    @LlrpField(type = FieldType.U_1_V, format = FieldFormat.HEX)
+    protected BitList tagMask;
+
+    public C1G2TagInventoryMask mb(int mB) {
+        this.mB = mB;
+        return this;
+    }
+
+    public int mb() {
+        return mB;
+    }
+
+    public C1G2TagInventoryMask pointer(int pointer) {
+        this.pointer = pointer;
+        return this;
+    }
+
+    public int pointer() {
+        return pointer;
+    }
+
+    public C1G2TagInventoryMask tagMask(BitList tagMask) {
+        this.tagMask = tagMask;
+        return this;
+    }
+
+    public BitList tagMask() {
+        if (tagMask == null) {
+            tagMask = new BitList();
+        }
+        return tagMask;
+    }
+
+    public BitList getTagMask() {
+        return tagMask;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.mB, this.pointer, this.tagMask);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2TagInventoryMask other;
+        other = ((C1G2TagInventoryMask) obj);
+        if (!Objects.equals(this.mB, other.mB)) {
+            return false;
+        }
+        if (!Objects.equals(this.pointer, other.pointer)) {
+            return false;
+        }
+        if (!Objects.equals(this.tagMask, other.tagMask)) {
+            return false;
+        }
+        return true;
+    }
+}
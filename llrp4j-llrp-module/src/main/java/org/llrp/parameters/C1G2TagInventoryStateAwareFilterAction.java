@@ -0,0 +1,94 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2StateAwareAction;
+import org.llrp.enumerations.C1G2StateAwareTarget;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter is used by the Client to manage the tag states
+ * during an inventory operation. In order to use this parameter
+ * during inventory, the TagInventoryStateAware flag is set to true in
+ * the InventoryParameterSpec. This parameter contains:
+ * </p>
+ * <ul><li><p>Target: This value indicates which flag in the tag to modify
+ * - whether the SL flag or its inventoried flag for a particular
+ * session.
+ * </p>
+ * </li><li><p>Action describes the action for matching and non-matching
+ * tags. The actions are specific about the tag-inventory states -
+ * e.g., do nothing, assert or deassert SL, assign inventoried
+ * S0/S1/S2/S3 to A or B.
+ * </p>
+ * </li><p>
+ * Readers that do not support tag inventory state aware singulation
+ * <b>SHALL</b>
+ * set CanDoTagInventoryStateAwareSingulation to false in
+ * LLRPCapabilities
+ * </p>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=102&amp;view=fit">LLRP Specification Section 15.2.1.2.1.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=155&amp;view=fit">LLRP Specification Section 16.3.1.2.1.1.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 333)
+@LlrpProperties({
+    "target",
+    "action"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2TagInventoryStateAwareFilterAction {
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2StateAwareTarget target;
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2StateAwareAction action;
+
+    public C1G2TagInventoryStateAwareFilterAction target(C1G2StateAwareTarget target) {
+        this.target = target;
+        return this;
+    }
+
+    public C1G2StateAwareTarget target() {
+        return target;
+    }
+
+    public C1G2TagInventoryStateAwareFilterAction action(C1G2StateAwareAction action) {
+        this.action = action;
+        return this;
+    }
+
+    public C1G2StateAwareAction action() {
+        return action;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.target, this.action);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2TagInventoryStateAwareFilterAction other;
+        other = ((C1G2TagInventoryStateAwareFilterAction) obj);
+        if (!Objects.equals(this.target, other.target)) {
+            return false;
+        }
+        if (!Objects.equals(this.action, other.action)) {
+            return false;
+        }
+        return true;
+    }
+}
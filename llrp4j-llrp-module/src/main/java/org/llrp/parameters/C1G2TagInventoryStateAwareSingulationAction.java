@@ -0,0 +1,77 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2TagInventoryStateAwareI;
+import org.llrp.enumerations.C1G2TagInventoryStateAwareS;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * Readers that do not support tag inventory state aware singulation
+ * <b>SHALL</b>
+ * set CanDoTagInventoryStateAwareSingulation to false in
+ * LLRPCapabilities.
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=105&amp;view=fit">LLRP Specification Section 15.2.1.2.1.3.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=156&amp;view=fit">LLRP Specification Section 16.3.1.2.1.3.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 337)
+@LlrpProperties({
+    "i",
+    "s"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2TagInventoryStateAwareSingulationAction {
+    @LlrpField(type = FieldType.U_1)
+    protected C1G2TagInventoryStateAwareI i;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 6)
+    protected C1G2TagInventoryStateAwareS s;
+
+    public C1G2TagInventoryStateAwareSingulationAction i(C1G2TagInventoryStateAwareI i) {
+        this.i = i;
+        return this;
+    }
+
+    public C1G2TagInventoryStateAwareI i() {
+        return i;
+    }
+
+    public C1G2TagInventoryStateAwareSingulationAction s(C1G2TagInventoryStateAwareS s) {
+        this.s = s;
+        return this;
+    }
+
+    public C1G2TagInventoryStateAwareS s() {
+        return s;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.i, this.s);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2TagInventoryStateAwareSingulationAction other;
+        other = ((C1G2TagInventoryStateAwareSingulationAction) obj);
+        if (!Objects.equals(this.i, other.i)) {
+            return false;
+        }
+        if (!Objects.equals(this.s, other.s)) {
+            return false;
+        }
+        return true;
+    }
+}
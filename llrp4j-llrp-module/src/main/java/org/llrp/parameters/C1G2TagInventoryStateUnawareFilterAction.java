@@ -0,0 +1,76 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2StateUnawareAction;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter is used by the Client if it does not want to
+ * manage the tag states during an inventory operation. Using this
+ * parameter, the Client instructs the Reader about the tags that
+ * should and should not participate in the inventory action. In order
+ * to use this parameter during inventory, the TagInventoryStateAware
+ * flag is set to false in the InventoryParameterSpec. This parameter
+ * contains:
+ * </p>
+ * <ul><li><p>Action describes the action for matching and non-matching
+ * tags. However, the action is simply specifying whether matching
+ * or non-matching tags partake in this inventory. The Reader is
+ * expected to handle the tag inventory states to facilitate this.
+ * </p>
+ * </li>
+ * </ul>
+ * <p>In this parameter, Action=Select means search for pattern in
+ * Inventory, and Action=Unselect means do not search for pattern in
+ * Inventory.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=103&amp;view=fit">LLRP Specification Section 15.2.1.2.1.1.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=155&amp;view=fit">LLRP Specification Section 16.3.1.2.1.1.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 334)
+@LlrpProperties({
+    "action"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2TagInventoryStateUnawareFilterAction {
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2StateUnawareAction action;
+
+    public C1G2TagInventoryStateUnawareFilterAction action(C1G2StateUnawareAction action) {
+        this.action = action;
+        return this;
+    }
+
+    public C1G2StateUnawareAction action() {
+        return action;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.action);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2TagInventoryStateUnawareFilterAction other;
+        other = ((C1G2TagInventoryStateUnawareFilterAction) obj);
+        if (!Objects.equals(this.action, other.action)) {
+            return false;
+        }
+        return true;
+    }
+}
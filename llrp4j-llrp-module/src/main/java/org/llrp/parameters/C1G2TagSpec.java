@@ -0,0 +1,84 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolTagSpec;
+
+
+/**
+ * 
+ * <p>This parameter describes the target tag population on which
+ * certain operations have to be performed. This Parameter is similar
+ * to the selection C1G2Filter Parameter described earlier. However,
+ * because these tags are stored in the Reader's memory and ternary
+ * comparisons are to be allowed for, each bit i in the target tag is
+ * represented using 2 bits - bit i in mask, and bit i in tag pattern.
+ * If bit i in the mask is zero, then bit i of the target tag is a
+ * don't care (X); if bit i in the mask is one, then bit i of the
+ * target tag is bit i of the tag pattern. For example, "all tags" is
+ * specified using a mask length of zero.
+ * </p>
+ * <p>This parameter can carry up to two tag patterns. If more than
+ * one pattern is present, a Boolean AND is implied. Each tag pattern
+ * has a match or a non-match flag, allowing (A and B,!A and B, !A and
+ * !B, A and !B), where A and B are the tag patterns.
+ * </p>
+ * <p>The tagSpec contains 2 tag patterns.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=106&amp;view=fit">LLRP Specification Section 15.2.1.3.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=156&amp;view=fit">LLRP Specification Section 16.3.1.3.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 338)
+@LlrpProperties({
+    "c1G2TargetTag"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2TagSpec
+    implements AirProtocolTagSpec
+{
+    @LlrpParam(required = true)
+    protected List<C1G2TargetTag> c1G2TargetTag;
+
+    public C1G2TagSpec c1G2TargetTag(List<C1G2TargetTag> c1G2TargetTag) {
+        this.c1G2TargetTag = c1G2TargetTag;
+        return this;
+    }
+
+    public List<C1G2TargetTag> c1G2TargetTag() {
+        if (c1G2TargetTag == null) {
+            c1G2TargetTag = new ArrayList<C1G2TargetTag>();
+        }
+        return c1G2TargetTag;
+    }
+
+    public List<C1G2TargetTag> getC1G2TargetTag() {
+        return c1G2TargetTag;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.c1G2TargetTag);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2TagSpec other;
+        other = ((C1G2TagSpec) obj);
+        if (!Objects.equals(this.c1G2TargetTag, other.c1G2TargetTag)) {
+            return false;
+        }
+        return true;
+    }
+}
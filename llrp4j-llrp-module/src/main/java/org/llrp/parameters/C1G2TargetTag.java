@@ -0,0 +1,135 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.BitList;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>If Length is zero, this pattern will match all tags regardless
+ * of MB, pointer, mask and data.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=106&amp;view=fit">LLRP Specification Section 15.2.1.3.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=156&amp;view=fit">LLRP Specification Section 16.3.1.3.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 339)
+@LlrpProperties({
+    "mB",
+    "match",
+    "pointer",
+    "tagMask",
+    "tagData"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2TargetTag {
+    @LlrpField(type = FieldType.U_2)
+    protected int mB;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 5)
+    protected boolean match;
+    @LlrpField(type = FieldType.U_16)
+    protected int pointer;
+    @LlrpField(type = FieldType.U_1_V, format = FieldFormat.HEX)
+    protected BitList tagMask;
+    @LlrpField(type = FieldType.U_1_V, format = FieldFormat.HEX)
+    protected BitList tagData;
+
+    public C1G2TargetTag mb(int mB) {
+        this.mB = mB;
+        return this;
+    }
+
+    public int mb() {
+        return mB;
+    }
+
+    public C1G2TargetTag match(boolean match) {
+        this.match = match;
+        return this;
+    }
+
+    public boolean match() {
+        return match;
+    }
+
+    public C1G2TargetTag pointer(int pointer) {
+        this.pointer = pointer;
+        return this;
+    }
+
+    public int pointer() {
+        return pointer;
+    }
+
+    public C1G2TargetTag tagMask(BitList tagMask) {
+        this.tagMask = tagMask;
+        return this;
+    }
+
+    public BitList tagMask() {
+        if (tagMask == null) {
+            tagMask = new BitList();
+        }
+        return tagMask;
+    }
+
+    public BitList getTagMask() {
+        return tagMask;
+    }
+
+    public C1G2TargetTag tagData(BitList tagData) {
+        this.tagData = tagData;
+        return this;
+    }
+
+    public BitList tagData() {
+        if (tagData == null) {
+            tagData = new BitList();
+        }
+        return tagData;
+    }
+
+    public BitList getTagData() {
+        return tagData;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.mB, this.match, this.pointer, this.tagMask, this.tagData);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2TargetTag other;
+        other = ((C1G2TargetTag) obj);
+        if (!Objects.equals(this.mB, other.mB)) {
+            return false;
+        }
+        if (!Objects.equals(this.match, other.match)) {
+            return false;
+        }
+        if (!Objects.equals(this.pointer, other.pointer)) {
+            return false;
+        }
+        if (!Objects.equals(this.tagMask, other.tagMask)) {
+            return false;
+        }
+        if (!Objects.equals(this.tagData, other.tagData)) {
+            return false;
+        }
+        return true;
+    }
+}
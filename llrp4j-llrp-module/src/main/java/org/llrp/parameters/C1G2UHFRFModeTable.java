@@ -0,0 +1,70 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolUHFRFModeTable;
+
+
+/**
+ * 
+ * <p>This parameter carries the set of C1G2 RF modes that the Reader
+ * is capable of operating.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=98&amp;view=fit">LLRP Specification Section 15.2.1.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=153&amp;view=fit">LLRP Specification Section 16.3.1.1.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 328)
+@LlrpProperties({
+    "c1G2UHFRFModeTableEntry"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2UHFRFModeTable
+    implements AirProtocolUHFRFModeTable
+{
+    @LlrpParam(required = true)
+    protected List<C1G2UHFRFModeTableEntry> c1G2UHFRFModeTableEntry;
+
+    public C1G2UHFRFModeTable c1G2UHFRFModeTableEntry(List<C1G2UHFRFModeTableEntry> c1G2UHFRFModeTableEntry) {
+        this.c1G2UHFRFModeTableEntry = c1G2UHFRFModeTableEntry;
+        return this;
+    }
+
+    public List<C1G2UHFRFModeTableEntry> c1G2UHFRFModeTableEntry() {
+        if (c1G2UHFRFModeTableEntry == null) {
+            c1G2UHFRFModeTableEntry = new ArrayList<C1G2UHFRFModeTableEntry>();
+        }
+        return c1G2UHFRFModeTableEntry;
+    }
+
+    public List<C1G2UHFRFModeTableEntry> getC1G2UHFRFModeTableEntry() {
+        return c1G2UHFRFModeTableEntry;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.c1G2UHFRFModeTableEntry);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2UHFRFModeTable other;
+        other = ((C1G2UHFRFModeTable) obj);
+        if (!Objects.equals(this.c1G2UHFRFModeTableEntry, other.c1G2UHFRFModeTableEntry)) {
+            return false;
+        }
+        return true;
+    }
+}
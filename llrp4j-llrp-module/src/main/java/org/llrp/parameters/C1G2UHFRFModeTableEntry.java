@@ -0,0 +1,215 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2DRValue;
+import org.llrp.enumerations.C1G2ForwardLinkModulation;
+import org.llrp.enumerations.C1G2MValue;
+import org.llrp.enumerations.C1G2SpectralMaskIndicator;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the information for each UHFC1G2 RF
+ * mode. A mode that has been tested for conformance by the EPCGlobal
+ * Hardware Action Group's Testing and Conformance (HAG T and C)
+ * group, is indicated using a conformance flag.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=99&amp;view=fit">LLRP Specification Section 15.2.1.1.2.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=153&amp;view=fit">LLRP Specification Section 16.3.1.1.2.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 329)
+@LlrpProperties({
+    "modeIdentifier",
+    "dRValue",
+    "ePCHAGTCConformance",
+    "mValue",
+    "forwardLinkModulation",
+    "spectralMaskIndicator",
+    "bDRValue",
+    "pIEValue",
+    "minTariValue",
+    "maxTariValue",
+    "stepTariValue"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2UHFRFModeTableEntry {
+    @LlrpField(type = FieldType.U_32)
+    protected long modeIdentifier;
+    @LlrpField(type = FieldType.U_1)
+    protected C1G2DRValue dRValue;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 6)
+    protected boolean ePCHAGTCConformance;
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2MValue mValue;
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2ForwardLinkModulation forwardLinkModulation;
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2SpectralMaskIndicator spectralMaskIndicator;
+    @LlrpField(type = FieldType.U_32)
+    protected long bDRValue;
+    @LlrpField(type = FieldType.U_32)
+    protected long pIEValue;
+    @LlrpField(type = FieldType.U_32)
+    protected long minTariValue;
+    @LlrpField(type = FieldType.U_32)
+    protected long maxTariValue;
+    @LlrpField(type = FieldType.U_32)
+    protected long stepTariValue;
+
+    public C1G2UHFRFModeTableEntry modeIdentifier(long modeIdentifier) {
+        this.modeIdentifier = modeIdentifier;
+        return this;
+    }
+
+    public long modeIdentifier() {
+        return modeIdentifier;
+    }
+
+    public C1G2UHFRFModeTableEntry drValue(C1G2DRValue dRValue) {
+        this.dRValue = dRValue;
+        return this;
+    }
+
+    public C1G2DRValue drValue() {
+        return dRValue;
+    }
+
+    public C1G2UHFRFModeTableEntry epchagtcConformance(boolean ePCHAGTCConformance) {
+        this.ePCHAGTCConformance = ePCHAGTCConformance;
+        return this;
+    }
+
+    public boolean epchagtcConformance() {
+        return ePCHAGTCConformance;
+    }
+
+    public C1G2UHFRFModeTableEntry mValue(C1G2MValue mValue) {
+        this.mValue = mValue;
+        return this;
+    }
+
+    public C1G2MValue mValue() {
+        return mValue;
+    }
+
+    public C1G2UHFRFModeTableEntry forwardLinkModulation(C1G2ForwardLinkModulation forwardLinkModulation) {
+        this.forwardLinkModulation = forwardLinkModulation;
+        return this;
+    }
+
+    public C1G2ForwardLinkModulation forwardLinkModulation() {
+        return forwardLinkModulation;
+    }
+
+    public C1G2UHFRFModeTableEntry spectralMaskIndicator(C1G2SpectralMaskIndicator spectralMaskIndicator) {
+        this.spectralMaskIndicator = spectralMaskIndicator;
+        return this;
+    }
+
+    public C1G2SpectralMaskIndicator spectralMaskIndicator() {
+        return spectralMaskIndicator;
+    }
+
+    public C1G2UHFRFModeTableEntry bdrValue(long bDRValue) {
+        this.bDRValue = bDRValue;
+        return this;
+    }
+
+    public long bdrValue() {
+        return bDRValue;
+    }
+
+    public C1G2UHFRFModeTableEntry pieValue(long pIEValue) {
+        this.pIEValue = pIEValue;
+        return this;
+    }
+
+    public long pieValue() {
+        return pIEValue;
+    }
+
+    public C1G2UHFRFModeTableEntry minTariValue(long minTariValue) {
+        this.minTariValue = minTariValue;
+        return this;
+    }
+
+    public long minTariValue() {
+        return minTariValue;
+    }
+
+    public C1G2UHFRFModeTableEntry maxTariValue(long maxTariValue) {
+        this.maxTariValue = maxTariValue;
+        return this;
+    }
+
+    public long maxTariValue() {
+        return maxTariValue;
+    }
+
+    public C1G2UHFRFModeTableEntry stepTariValue(long stepTariValue) {
+        this.stepTariValue = stepTariValue;
+        return this;
+    }
+
+    public long stepTariValue() {
+        return stepTariValue;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.modeIdentifier, this.dRValue, this.ePCHAGTCConformance, this.mValue, this.forwardLinkModulation, this.spectralMaskIndicator, this.bDRValue, this.pIEValue, this.minTariValue, this.maxTariValue, this.stepTariValue);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2UHFRFModeTableEntry other;
+        other = ((C1G2UHFRFModeTableEntry) obj);
+        if (!Objects.equals(this.modeIdentifier, other.modeIdentifier)) {
+            return false;
+        }
+        if (!Objects.equals(this.dRValue, other.dRValue)) {
+            return false;
+        }
+        if (!Objects.equals(this.ePCHAGTCConformance, other.ePCHAGTCConformance)) {
+            return false;
+        }
+        if (!Objects.equals(this.mValue, other.mValue)) {
+            return false;
+        }
+        if (!Objects.equals(this.forwardLinkModulation, other.forwardLinkModulation)) {
+            return false;
+        }
+        if (!Objects.equals(this.spectralMaskIndicator, other.spectralMaskIndicator)) {
+            return false;
+        }
+        if (!Objects.equals(this.bDRValue, other.bDRValue)) {
+            return false;
+        }
+        if (!Objects.equals(this.pIEValue, other.pIEValue)) {
+            return false;
+        }
+        if (!Objects.equals(this.minTariValue, other.minTariValue)) {
+            return false;
+        }
+        if (!Objects.equals(this.maxTariValue, other.maxTariValue)) {
+            return false;
+        }
+        if (!Objects.equals(this.stepTariValue, other.stepTariValue)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,129 @@
+
+package org.llrp.parameters;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AccessCommandOpSpec;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>MB is the memory bank to use. WordPtr is the starting word
+ * address. Write Data is the data to be written to the tag. Word
+ * Count is the number of words to be written. Depending on the word
+ * count, the Reader may have to execute multiple C1G2 air protocol
+ * Write commands. Access Password is the password used by the Reader
+ * to transition the tag to the secure state so that it can write to
+ * protected tag memory regions.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=107&amp;view=fit">LLRP Specification Section 15.2.1.3.2.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=157&amp;view=fit">LLRP Specification Section 16.3.1.3.2.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 342)
+@LlrpProperties({
+    "opSpecID",
+    "accessPassword",
+    "mB",
+    "wordPointer",
+    "writeData"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2Write
+    implements AccessCommandOpSpec
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_32)
+    protected long accessPassword;
+    @LlrpField(type = FieldType.U_2, reservedAfter = 6)
+    protected int mB;
+    @LlrpField(type = FieldType.U_16)
+    protected int wordPointer;
+    @LlrpField(type = FieldType.U_16_V, format = FieldFormat.HEX)
+    protected int[] writeData;
+
+    public C1G2Write opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2Write accessPassword(long accessPassword) {
+        this.accessPassword = accessPassword;
+        return this;
+    }
+
+    public long accessPassword() {
+        return accessPassword;
+    }
+
+    public C1G2Write mb(int mB) {
+        this.mB = mB;
+        return this;
+    }
+
+    public int mb() {
+        return mB;
+    }
+
+    public C1G2Write wordPointer(int wordPointer) {
+        this.wordPointer = wordPointer;
+        return this;
+    }
+
+    public int wordPointer() {
+        return wordPointer;
+    }
+
+    public C1G2Write writeData(int[] writeData) {
+        this.writeData = writeData;
+        return this;
+    }
+
+    public int[] writeData() {
+        return writeData;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.opSpecID, this.accessPassword, this.mB, this.wordPointer, this.writeData);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2Write other;
+        other = ((C1G2Write) obj);
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessPassword, other.accessPassword)) {
+            return false;
+        }
+        if (!Objects.equals(this.mB, other.mB)) {
+            return false;
+        }
+        if (!Objects.equals(this.wordPointer, other.wordPointer)) {
+            return false;
+        }
+        if (!Arrays.equals(this.writeData, other.writeData)) {
+            return false;
+        }
+        return true;
+    }
+}
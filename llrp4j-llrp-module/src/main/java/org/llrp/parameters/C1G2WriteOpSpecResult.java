@@ -0,0 +1,97 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.C1G2WriteResultType;
+import org.llrp.interfaces.AccessCommandOpSpecResult;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Contains the result from a write operation.</p>
+ * <p>
+ * If the number of words written is not equal to the length of the
+ * data pattern to write, the Result
+ * <b>SHALL</b>
+ * be non-zero.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=112&amp;view=fit">LLRP Specification Section 15.2.1.5.5.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=160&amp;view=fit">LLRP Specification Section 16.3.1.5.5.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 350)
+@LlrpProperties({
+    "result",
+    "opSpecID",
+    "numWordsWritten"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2WriteOpSpecResult
+    implements AccessCommandOpSpecResult
+{
+    @LlrpField(type = FieldType.U_8)
+    protected C1G2WriteResultType result;
+    @LlrpField(type = FieldType.U_16)
+    protected int opSpecID;
+    @LlrpField(type = FieldType.U_16)
+    protected int numWordsWritten;
+
+    public C1G2WriteOpSpecResult result(C1G2WriteResultType result) {
+        this.result = result;
+        return this;
+    }
+
+    public C1G2WriteResultType result() {
+        return result;
+    }
+
+    public C1G2WriteOpSpecResult opSpecID(int opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public int opSpecID() {
+        return opSpecID;
+    }
+
+    public C1G2WriteOpSpecResult numWordsWritten(int numWordsWritten) {
+        this.numWordsWritten = numWordsWritten;
+        return this;
+    }
+
+    public int numWordsWritten() {
+        return numWordsWritten;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.result, this.opSpecID, this.numWordsWritten);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2WriteOpSpecResult other;
+        other = ((C1G2WriteOpSpecResult) obj);
+        if (!Objects.equals(this.result, other.result)) {
+            return false;
+        }
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.numWordsWritten, other.numWordsWritten)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolTagData;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>CRC generated by the tag from the UHF Gen2 Air Interface
+ * Protocol
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=111&amp;view=fit">LLRP Specification Section 15.2.1.5.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=159&amp;view=fit">LLRP Specification Section 16.3.1.5.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 11)
+@LlrpProperties({
+    "cRC"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2_CRC
+    implements AirProtocolTagData
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int cRC;
+
+    public C1G2_CRC crc(int cRC) {
+        this.cRC = cRC;
+        return this;
+    }
+
+    public int crc() {
+        return cRC;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.cRC);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2_CRC other;
+        other = ((C1G2_CRC) obj);
+        if (!Objects.equals(this.cRC, other.cRC)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolTagData;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Protocol control bits from the UHF Gen2 Air Interface protocol
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=111&amp;view=fit">LLRP Specification Section 15.2.1.5.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=159&amp;view=fit">LLRP Specification Section 16.3.1.5.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 12)
+@LlrpProperties({
+    "pC_Bits"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2_PC
+    implements AirProtocolTagData
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int pC_Bits;
+
+    public C1G2_PC pC_Bits(int pC_Bits) {
+        this.pC_Bits = pC_Bits;
+        return this;
+    }
+
+    public int pC_Bits() {
+        return pC_Bits;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.pC_Bits);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2_PC other;
+        other = ((C1G2_PC) obj);
+        if (!Objects.equals(this.pC_Bits, other.pC_Bits)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolTagData;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter is included within a TagReportData parameter if
+ * enableXPC is set to true and the tag backscattered XPC_W1.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=111&amp;view=fit">//LLRP Specification Section 15.2.1.5.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=159&amp;view=fit">//LLRP Specification Section 16.3.1.5.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 19)
+@LlrpProperties({
+    "xPC_W1"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class C1G2_XPCW1
+    implements AirProtocolTagData
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int xPC_W1;
+
+    public C1G2_XPCW1 xpC_W1(int xPC_W1) {
+        this.xPC_W1 = xPC_W1;
+        return this;
+    }
+
+    public int xpC_W1() {
+        return xPC_W1;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.xPC_W1);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        C1G2_XPCW1 other;
+        other = ((C1G2_XPCW1) obj);
+        if (!Objects.equals(this.xPC_W1, other.xPC_W1)) {
+            return false;
+        }
+        return true;
+    }
+}
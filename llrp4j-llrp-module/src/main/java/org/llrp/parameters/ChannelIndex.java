@@ -0,0 +1,59 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the one-based ChannelIndex
+ * informationvalue.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=83&amp;view=fit">LLRP Specification Section 13.2.3.8</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=145&amp;view=fit">LLRP Specification Section 16.2.7.3.8</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 7)
+@LlrpProperties({
+    "channelIndex"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ChannelIndex {
+    @LlrpField(type = FieldType.U_16)
+    protected int channelIndex;
+
+    public ChannelIndex channelIndex(int channelIndex) {
+        this.channelIndex = channelIndex;
+        return this;
+    }
+
+    public int channelIndex() {
+        return channelIndex;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.channelIndex);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ChannelIndex other;
+        other = ((ChannelIndex) obj);
+        if (!Objects.equals(this.channelIndex, other.channelIndex)) {
+            return false;
+        }
+        return true;
+    }
+}
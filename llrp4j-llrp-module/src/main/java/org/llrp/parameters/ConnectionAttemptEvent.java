@@ -0,0 +1,62 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.ConnectionAttemptStatusType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This status report parameter establishes Reader connection
+ * status when the Client or Reader initiates a connection. See
+ * section 18.1, TCP Transport, for more details regarding the use of
+ * this report.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=92&amp;view=fit">LLRP Specification Section 13.2.6.11</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=151&amp;view=fit">LLRP Specification Section 16.2.7.6.10</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 256)
+@LlrpProperties({
+    "status"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ConnectionAttemptEvent {
+    @LlrpField(type = FieldType.U_16)
+    protected ConnectionAttemptStatusType status;
+
+    public ConnectionAttemptEvent status(ConnectionAttemptStatusType status) {
+        this.status = status;
+        return this;
+    }
+
+    public ConnectionAttemptStatusType status() {
+        return status;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.status);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ConnectionAttemptEvent other;
+        other = ((ConnectionAttemptEvent) obj);
+        if (!Objects.equals(this.status, other.status)) {
+            return false;
+        }
+        return true;
+    }
+}
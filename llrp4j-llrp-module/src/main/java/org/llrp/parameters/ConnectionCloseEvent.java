@@ -0,0 +1,58 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+
+
+/**
+ * 
+ * <p>
+ * This status report parameter informs the Client that, unsolicited
+ * by the Client, the Reader will close the connection between the
+ * Reader and Client. Before the Reader closes a connection with the
+ * Client that is not solicited by the Client, the Reader
+ * <b>SHALL</b>
+ * first attempt to send a READER_EVENT_NOTIFICATION containing this
+ * parameter to the Client.
+ * </p>
+ * <p>
+ * Once the Reader sends this event to the Client, the Reader
+ * <b>SHALL</b>
+ * close the connection to the Client. This is also to say that, once
+ * the Reader sends this event, the Reader
+ * <b>SHALL</b>
+ * send no additional messages to the Client and the Reader
+ * <b>SHALL</b>
+ * ignore any messages received from the Client until another new
+ * connection is established.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=92&amp;view=fit">LLRP Specification Section 13.2.6.12</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=151&amp;view=fit">LLRP Specification Section 16.2.7.6.11</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 257)
+@LlrpProperties({
+
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ConnectionCloseEvent {
+
+    public int hashCode() {
+        return Objects.hash();
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,104 @@
+
+package org.llrp.parameters;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Certain Messages and Parameter Sets within LLRP allow for the
+ * insertion of vendor defined parameters
+ * </p>
+ * <p>
+ * Clients
+ * <b>SHALL</b>
+ * accept messages (except for CUSTOM_MESSAGE) that contain custom
+ * parameters but
+ * <b>MAY</b>
+ * ignore all custom parameters within these messages. Readers
+ * <b>SHALL</b>
+ * accept messages (except for CUSTOM_MESSAGE) that contain custom
+ * parameters and
+ * <b>SHALL</b>
+ * return an error when such parameters are unsupported.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=42&amp;view=fit">LLRP Specification Section 8.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=152&amp;view=fit">LLRP Specification Section 16.2.9</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 1023)
+@LlrpProperties({
+    "vendorIdentifier",
+    "parameterSubtype",
+    "data"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class Custom {
+    @LlrpField(type = FieldType.U_32)
+    protected long vendorIdentifier;
+    @LlrpField(type = FieldType.U_32)
+    protected long parameterSubtype;
+    @LlrpField(type = FieldType.BYTES_TO_END, format = FieldFormat.HEX)
+    protected byte[] data;
+
+    public Custom vendorIdentifier(long vendorIdentifier) {
+        this.vendorIdentifier = vendorIdentifier;
+        return this;
+    }
+
+    public long vendorIdentifier() {
+        return vendorIdentifier;
+    }
+
+    public Custom parameterSubtype(long parameterSubtype) {
+        this.parameterSubtype = parameterSubtype;
+        return this;
+    }
+
+    public long parameterSubtype() {
+        return parameterSubtype;
+    }
+
+    public Custom data(byte[] data) {
+        this.data = data;
+        return this;
+    }
+
+    public byte[] data() {
+        return data;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.vendorIdentifier, this.parameterSubtype, this.data);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        Custom other;
+        other = ((Custom) obj);
+        if (!Objects.equals(this.vendorIdentifier, other.vendorIdentifier)) {
+            return false;
+        }
+        if (!Objects.equals(this.parameterSubtype, other.parameterSubtype)) {
+            return false;
+        }
+        if (!Arrays.equals(this.data, other.data)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.types.BitList;
+import org.llrp.interfaces.EPCParameter;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the EPC identifier information.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=82&amp;view=fit">LLRP Specification Section 13.2.3.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=144&amp;view=fit">LLRP Specification Section 16.2.7.3.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 241)
+@LlrpProperties({
+    "ePC"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class EPCData
+    implements EPCParameter
+{
+    @LlrpField(type = FieldType.U_1_V, format = FieldFormat.HEX)
+    protected BitList ePC;
+
+    public EPCData epc(BitList ePC) {
+        this.ePC = ePC;
+        return this;
+    }
+
+    public BitList epc() {
+        if (ePC == null) {
+            ePC = new BitList();
+        }
+        return ePC;
+    }
+
+    public BitList getEPC() {
+        return ePC;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.ePC);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        EPCData other;
+        other = ((EPCData) obj);
+        if (!Objects.equals(this.ePC, other.ePC)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+
+package org.llrp.parameters;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.EPCParameter;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries 96-bit EPC identifier information.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=82&amp;view=fit">LLRP Specification Section 13.2.3.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=144&amp;view=fit">LLRP Specification Section 16.2.7.3.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 13)
+@LlrpProperties({
+    "ePC"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class EPC_96
+    implements EPCParameter
+{
+    @LlrpField(type = FieldType.U_96, format = FieldFormat.HEX)
+    protected BigInteger ePC;
+
+    public EPC_96 epc(BigInteger ePC) {
+        this.ePC = ePC;
+        return this;
+    }
+
+    public BigInteger epc() {
+        return ePC;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.ePC);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        EPC_96 other;
+        other = ((EPC_96) obj);
+        if (!Objects.equals(this.ePC, other.ePC)) {
+            return false;
+        }
+        return true;
+    }
+}
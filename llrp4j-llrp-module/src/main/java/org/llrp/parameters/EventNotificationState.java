@@ -0,0 +1,75 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.NotificationEventType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter is used to enable or disable notification of a
+ * single Reader event type.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=86&amp;view=fit">LLRP Specification Section 13.2.5.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=148&amp;view=fit">LLRP Specification Section 16.2.7.5.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 245)
+@LlrpProperties({
+    "eventType",
+    "notificationState"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class EventNotificationState {
+    @LlrpField(type = FieldType.U_16)
+    protected NotificationEventType eventType;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected boolean notificationState;
+
+    public EventNotificationState eventType(NotificationEventType eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    public NotificationEventType eventType() {
+        return eventType;
+    }
+
+    public EventNotificationState notificationState(boolean notificationState) {
+        this.notificationState = notificationState;
+        return this;
+    }
+
+    public boolean notificationState() {
+        return notificationState;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.eventType, this.notificationState);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        EventNotificationState other;
+        other = ((EventNotificationState) obj);
+        if (!Objects.equals(this.eventType, other.eventType)) {
+            return false;
+        }
+        if (!Objects.equals(this.notificationState, other.notificationState)) {
+            return false;
+        }
+        return true;
+    }
+}
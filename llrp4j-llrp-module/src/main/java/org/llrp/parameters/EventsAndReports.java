@@ -0,0 +1,69 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter controls the behavior of the Reader when a new
+ * LLRP connection is established. In a SET_READER_CONFIG message,
+ * this parameter is used to enable or disable the holding of events
+ * and reports upon connection using the
+ * HoldEventsAndReportsUponReconnect field. In a GET_READER_CONFIG
+ * message, this parameter reports the current configuration. If the
+ * HoldEventsAndReportsUponReconnect is true, the reader will not
+ * deliver any reports or events (except the ConnectionAttemptEvent)
+ * to the Client until the Client issues an ENABLE_EVENTS_AND_REPORTS
+ * message. Once the ENABLE_EVENTS_AND_REPORTS message is received the
+ * reader ceases its hold on events and reports for the duration of
+ * the connection.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=75&amp;view=fit">LLRP Specification Section 12.2.6.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=142&amp;view=fit">LLRP Specification Section 16.2.6.10</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 226)
+@LlrpProperties({
+    "holdEventsAndReportsUponReconnect"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class EventsAndReports {
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected boolean holdEventsAndReportsUponReconnect;
+
+    public EventsAndReports holdEventsAndReportsUponReconnect(boolean holdEventsAndReportsUponReconnect) {
+        this.holdEventsAndReportsUponReconnect = holdEventsAndReportsUponReconnect;
+        return this;
+    }
+
+    public boolean holdEventsAndReportsUponReconnect() {
+        return holdEventsAndReportsUponReconnect;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.holdEventsAndReportsUponReconnect);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        EventsAndReports other;
+        other = ((EventsAndReports) obj);
+        if (!Objects.equals(this.holdEventsAndReportsUponReconnect, other.holdEventsAndReportsUponReconnect)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.StatusCode;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>FieldNum: Field number for which the error applies. The fields
+ * are numbered after the order in which they appear in the parameter
+ * or message body.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=96&amp;view=fit">LLRP Specification Section 14.2.2.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=151&amp;view=fit">LLRP Specification Section 16.2.8.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 288)
+@LlrpProperties({
+    "fieldNum",
+    "errorCode"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class FieldError {
+    @LlrpField(type = FieldType.U_16)
+    protected int fieldNum;
+    @LlrpField(type = FieldType.U_16)
+    protected StatusCode errorCode;
+
+    public FieldError fieldNum(int fieldNum) {
+        this.fieldNum = fieldNum;
+        return this;
+    }
+
+    public int fieldNum() {
+        return fieldNum;
+    }
+
+    public FieldError errorCode(StatusCode errorCode) {
+        this.errorCode = errorCode;
+        return this;
+    }
+
+    public StatusCode errorCode() {
+        return errorCode;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.fieldNum, this.errorCode);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        FieldError other;
+        other = ((FieldError) obj);
+        if (!Objects.equals(this.fieldNum, other.fieldNum)) {
+            return false;
+        }
+        if (!Objects.equals(this.errorCode, other.errorCode)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,69 @@
+
+package org.llrp.parameters;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the FirstSeenTimestamp information in
+ * UTC.
+ * </p>
+ * <p>
+ * Compliant Readers and Clients that have UTC clocks
+ * <b>SHALL</b>
+ * implement this parameter.
+ * </p>
+ * <p>This is the time elapsed since the Epoch (00:00:00 UTC, January
+ *  1, 1970) measured in microseconds.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=83&amp;view=fit">LLRP Specification Section 13.2.3.9</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=145&amp;view=fit">LLRP Specification Section 16.2.7.3.9</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 2)
+@LlrpProperties({
+    "microseconds"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class FirstSeenTimestampUTC {
+    @LlrpField(type = FieldType.U_64, format = FieldFormat.DATETIME)
+    protected BigInteger microseconds;
+
+    public FirstSeenTimestampUTC microseconds(BigInteger microseconds) {
+        this.microseconds = microseconds;
+        return this;
+    }
+
+    public BigInteger microseconds() {
+        return microseconds;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.microseconds);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        FirstSeenTimestampUTC other;
+        other = ((FirstSeenTimestampUTC) obj);
+        if (!Objects.equals(this.microseconds, other.microseconds)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+
+package org.llrp.parameters;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the fixed frequency list that can be
+ * used by the Reader. The one-based position of a frequency in the
+ * list is defined as its ChannelIndex (i.e. the first frequency is
+ * referred to as ChannelIndex one).
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=50&amp;view=fit">LLRP Specification Section 9.2.4.1.2.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=135&amp;view=fit">LLRP Specification Section 16.2.3.4.1.2.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 148)
+@LlrpProperties({
+    "frequency"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class FixedFrequencyTable {
+    @LlrpField(type = FieldType.U_32_V)
+    protected long[] frequency;
+
+    public FixedFrequencyTable frequency(long[] frequency) {
+        this.frequency = frequency;
+        return this;
+    }
+
+    public long[] frequency() {
+        return frequency;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.frequency);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        FixedFrequencyTable other;
+        other = ((FixedFrequencyTable) obj);
+        if (!Arrays.equals(this.frequency, other.frequency)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+
+package org.llrp.parameters;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the frequency hop table parameters. This
+ * is used for Readers operating in regions with frequency hopping
+ * regulatory requirements. If the Reader is capable of storing
+ * multiple hop tables, the Reader may send all of them to the Client.
+ * </p>
+ * <ul><li><p>HopTableID which is the index of the frequency hop table
+ * returned by the Reader.
+ * </p>
+ * </li><li><p>This is followed by a list of the frequencies (in kKHhz) in
+ * hop table order. The one-based position of a frequency in the
+ * list is defined as its ChannelIndex (i.e. the first frequency is
+ * referred to as ChannelIndex one).
+ * </p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=50&amp;view=fit">LLRP Specification Section 9.2.4.1.2.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=134&amp;view=fit">LLRP Specification Section 16.2.3.4.1.2.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 147)
+@LlrpProperties({
+    "hopTableID",
+    "frequency"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class FrequencyHopTable {
+    @LlrpField(type = FieldType.U_8, reservedAfter = 8)
+    protected int hopTableID;
+    @LlrpField(type = FieldType.U_32_V)
+    protected long[] frequency;
+
+    public FrequencyHopTable hopTableID(int hopTableID) {
+        this.hopTableID = hopTableID;
+        return this;
+    }
+
+    public int hopTableID() {
+        return hopTableID;
+    }
+
+    public FrequencyHopTable frequency(long[] frequency) {
+        this.frequency = frequency;
+        return this;
+    }
+
+    public long[] frequency() {
+        return frequency;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.hopTableID, this.frequency);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        FrequencyHopTable other;
+        other = ((FrequencyHopTable) obj);
+        if (!Objects.equals(this.hopTableID, other.hopTableID)) {
+            return false;
+        }
+        if (!Arrays.equals(this.frequency, other.frequency)) {
+            return false;
+        }
+        return true;
+    }
+}
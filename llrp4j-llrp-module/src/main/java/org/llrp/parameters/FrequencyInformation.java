@@ -0,0 +1,106 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Describes the fixed frequency or hopping frequencies supported
+ * in this UHFBand.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=50&amp;view=fit">LLRP Specification Section 9.2.4.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=134&amp;view=fit">LLRP Specification Section 16.2.3.4.1.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 146)
+@LlrpProperties({
+    "hopping",
+    "frequencyHopTable",
+    "fixedFrequencyTable"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class FrequencyInformation {
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected boolean hopping;
+    @LlrpParam(required = false)
+    protected List<FrequencyHopTable> frequencyHopTable;
+    @LlrpParam(required = false)
+    protected FixedFrequencyTable fixedFrequencyTable;
+
+    public FrequencyInformation hopping(boolean hopping) {
+        this.hopping = hopping;
+        return this;
+    }
+
+    public boolean hopping() {
+        return hopping;
+    }
+
+    public FrequencyInformation frequencyHopTable(List<FrequencyHopTable> frequencyHopTable) {
+        this.frequencyHopTable = frequencyHopTable;
+        return this;
+    }
+
+    public List<FrequencyHopTable> frequencyHopTable() {
+        if (frequencyHopTable == null) {
+            frequencyHopTable = new ArrayList<FrequencyHopTable>();
+        }
+        return frequencyHopTable;
+    }
+
+    public List<FrequencyHopTable> getFrequencyHopTable() {
+        return frequencyHopTable;
+    }
+
+    public FrequencyInformation fixedFrequencyTable(FixedFrequencyTable fixedFrequencyTable) {
+        this.fixedFrequencyTable = fixedFrequencyTable;
+        return this;
+    }
+
+    public FixedFrequencyTable fixedFrequencyTable() {
+        if (fixedFrequencyTable == null) {
+            fixedFrequencyTable = new FixedFrequencyTable();
+        }
+        return fixedFrequencyTable;
+    }
+
+    public FixedFrequencyTable getFixedFrequencyTable() {
+        return fixedFrequencyTable;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.hopping, this.frequencyHopTable, this.fixedFrequencyTable);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        FrequencyInformation other;
+        other = ((FrequencyInformation) obj);
+        if (!Objects.equals(this.hopping, other.hopping)) {
+            return false;
+        }
+        if (!Objects.equals(this.frequencyHopTable, other.frequencyHopTable)) {
+            return false;
+        }
+        if (!Objects.equals(this.fixedFrequencyTable, other.fixedFrequencyTable)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,133 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.Timestamp;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Description</p>
+ * <ul><li><p>Frequency: The frequency on which the measurement was taken,
+ * specified in kHz.
+ * </p>
+ * </li><li><p>Bandwidth: The measurement bandwidth of the measurement in
+ * kHz.
+ * </p>
+ * </li><li><p>Average RSSI: The average power level observed at this
+ * frequency in dBm.
+ * </p>
+ * </li><li><p>Peak RSSI: The peak power level observed at this frequency in
+ * dBm.
+ * </p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=85&amp;view=fit">LLRP Specification Section 13.2.4.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=147&amp;view=fit">LLRP Specification Section 16.2.7.4.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 243)
+@LlrpProperties({
+    "frequency",
+    "bandwidth",
+    "averageRSSI",
+    "peakRSSI",
+    "timestamp"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class FrequencyRSSILevelEntry {
+    @LlrpField(type = FieldType.U_32)
+    protected long frequency;
+    @LlrpField(type = FieldType.U_32)
+    protected long bandwidth;
+    @LlrpField(type = FieldType.S_8)
+    protected int averageRSSI;
+    @LlrpField(type = FieldType.S_8)
+    protected int peakRSSI;
+    @LlrpParam(required = true)
+    protected Timestamp timestamp;
+
+    public FrequencyRSSILevelEntry frequency(long frequency) {
+        this.frequency = frequency;
+        return this;
+    }
+
+    public long frequency() {
+        return frequency;
+    }
+
+    public FrequencyRSSILevelEntry bandwidth(long bandwidth) {
+        this.bandwidth = bandwidth;
+        return this;
+    }
+
+    public long bandwidth() {
+        return bandwidth;
+    }
+
+    public FrequencyRSSILevelEntry averageRSSI(int averageRSSI) {
+        this.averageRSSI = averageRSSI;
+        return this;
+    }
+
+    public int averageRSSI() {
+        return averageRSSI;
+    }
+
+    public FrequencyRSSILevelEntry peakRSSI(int peakRSSI) {
+        this.peakRSSI = peakRSSI;
+        return this;
+    }
+
+    public int peakRSSI() {
+        return peakRSSI;
+    }
+
+    public FrequencyRSSILevelEntry timestamp(Timestamp timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    public Timestamp timestamp() {
+        return timestamp;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.frequency, this.bandwidth, this.averageRSSI, this.peakRSSI, this.timestamp);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        FrequencyRSSILevelEntry other;
+        other = ((FrequencyRSSILevelEntry) obj);
+        if (!Objects.equals(this.frequency, other.frequency)) {
+            return false;
+        }
+        if (!Objects.equals(this.bandwidth, other.bandwidth)) {
+            return false;
+        }
+        if (!Objects.equals(this.averageRSSI, other.averageRSSI)) {
+            return false;
+        }
+        if (!Objects.equals(this.peakRSSI, other.peakRSSI)) {
+            return false;
+        }
+        if (!Objects.equals(this.timestamp, other.timestamp)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,74 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>A reader reports this event every time an enabled GPI changes
+ * GPIstate.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=88&amp;view=fit">LLRP Specification Section 13.2.6.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=149&amp;view=fit">LLRP Specification Section 16.2.7.6.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 248)
+@LlrpProperties({
+    "gPIPortNumber",
+    "gPIEvent"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GPIEvent {
+    @LlrpField(type = FieldType.U_16)
+    protected int gPIPortNumber;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected boolean gPIEvent;
+
+    public GPIEvent gpiPortNumber(int gPIPortNumber) {
+        this.gPIPortNumber = gPIPortNumber;
+        return this;
+    }
+
+    public int gpiPortNumber() {
+        return gPIPortNumber;
+    }
+
+    public GPIEvent gpiEvent(boolean gPIEvent) {
+        this.gPIEvent = gPIEvent;
+        return this;
+    }
+
+    public boolean gpiEvent() {
+        return gPIEvent;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.gPIPortNumber, this.gPIEvent);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GPIEvent other;
+        other = ((GPIEvent) obj);
+        if (!Objects.equals(this.gPIPortNumber, other.gPIPortNumber)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPIEvent, other.gPIEvent)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter describes the GPIO capabilities of the Reader. A
+ * value of zero for NumGPIs indicates that the Reader does not have
+ * general purpose inputs. A value of zero for NumGPOs indicates that
+ * the Reader does not have general purpose outputs.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=47&amp;view=fit">LLRP Specification Section 9.2.1.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=133&amp;view=fit">LLRP Specification Section 16.2.3.1.4</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 141)
+@LlrpProperties({
+    "numGPIs",
+    "numGPOs"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GPIOCapabilities {
+    @LlrpField(type = FieldType.U_16)
+    protected int numGPIs;
+    @LlrpField(type = FieldType.U_16)
+    protected int numGPOs;
+
+    public GPIOCapabilities numGPIs(int numGPIs) {
+        this.numGPIs = numGPIs;
+        return this;
+    }
+
+    public int numGPIs() {
+        return numGPIs;
+    }
+
+    public GPIOCapabilities numGPOs(int numGPOs) {
+        this.numGPOs = numGPOs;
+        return this;
+    }
+
+    public int numGPOs() {
+        return numGPOs;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.numGPIs, this.numGPOs);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GPIOCapabilities other;
+        other = ((GPIOCapabilities) obj);
+        if (!Objects.equals(this.numGPIs, other.numGPIs)) {
+            return false;
+        }
+        if (!Objects.equals(this.numGPOs, other.numGPOs)) {
+            return false;
+        }
+        return true;
+    }
+}
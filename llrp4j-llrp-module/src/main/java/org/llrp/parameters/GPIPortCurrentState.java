@@ -0,0 +1,109 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.GPIPortState;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This Parameter carries the current configuration and state of a
+ * single GPI port. In a SET_READER_CONFIG message, this parameter is
+ * used to enable or disable the GPI port using the GPIConfig field;
+ * the GPIState field is ignored by the reader. In a GET_READER_CONFIG
+ * message, this parameter reports both the configuration and state of
+ * the GPI port.
+ * </p>
+ * <p>When a ROSpec or AISpec is configured on a GPI-capable reader
+ * with GPI start and/or stop triggers, those GPIs must be enabled by
+ * the client with a SET_READER_CONFIG message for the triggers to
+ * function.
+ * </p>
+ * <p>
+ * Readers that do not support GPIs
+ * <b>SHALL</b>
+ * set NumGPIs in the GPIOCapabilities to zero. If such a Reader
+ * receives a GET_READER_CONFIG with a GPIPortCurrentState Parameter,
+ * the Reader
+ * <b>SHALL</b>
+ * return an error message and not process any of the parameters in
+ * that message.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=75&amp;view=fit">LLRP Specification Section 12.2.6.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=142&amp;view=fit">LLRP Specification Section 16.2.6.9</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 225)
+@LlrpProperties({
+    "gPIPortNum",
+    "config",
+    "state"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GPIPortCurrentState {
+    @LlrpField(type = FieldType.U_16)
+    protected int gPIPortNum;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected boolean config;
+    @LlrpField(type = FieldType.U_8)
+    protected GPIPortState state;
+
+    public GPIPortCurrentState gpiPortNum(int gPIPortNum) {
+        this.gPIPortNum = gPIPortNum;
+        return this;
+    }
+
+    public int gpiPortNum() {
+        return gPIPortNum;
+    }
+
+    public GPIPortCurrentState config(boolean config) {
+        this.config = config;
+        return this;
+    }
+
+    public boolean config() {
+        return config;
+    }
+
+    public GPIPortCurrentState state(GPIPortState state) {
+        this.state = state;
+        return this;
+    }
+
+    public GPIPortState state() {
+        return state;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.gPIPortNum, this.config, this.state);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GPIPortCurrentState other;
+        other = ((GPIPortCurrentState) obj);
+        if (!Objects.equals(this.gPIPortNum, other.gPIPortNum)) {
+            return false;
+        }
+        if (!Objects.equals(this.config, other.config)) {
+            return false;
+        }
+        if (!Objects.equals(this.state, other.state)) {
+            return false;
+        }
+        return true;
+    }
+}
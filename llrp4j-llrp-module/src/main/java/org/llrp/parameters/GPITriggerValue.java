@@ -0,0 +1,110 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This trigger is tied to an event on the General Purpose Input
+ * (GPI) of the Reader. The event is represented as a boolean type,
+ * and it is up to the internal implementation of the Reader to map
+ * exact physical event to a boolean type. For example, a 0 to 1 and a
+ *  1 to 0 transition on an input pin of the Reader could be mapped to
+ * a boolean true and a boolean false event respectively.
+ * </p>
+ * <p>
+ * This trigger parameter has a timeout value field. The timeout is
+ * useful for specifying a fail-safe timeout when this trigger is used
+ * as a stop trigger. When the timeout is 0, it indicates that there
+ * is no timeout. When used as a start trigger, the timeout value
+ * <b>SHALL</b>
+ * be ignored.
+ * </p>
+ * <p>
+ * Readers that do not support GPIs
+ * <b>SHALL</b>
+ * return zero for numGPIs in the capabilities discovery. If the
+ * Client sets up the GPI trigger for such a Reader, the Reader
+ * <b>SHALL</b>
+ * send an error message for the ADD_ROSPEC message and not add the
+ * ROSpec.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=57&amp;view=fit">LLRP Specification Section 10.2.1.1.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=136&amp;view=fit">LLRP Specification Section 16.2.4.1.1.1.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 181)
+@LlrpProperties({
+    "gPIPortNum",
+    "gPIEvent",
+    "timeout"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GPITriggerValue {
+    @LlrpField(type = FieldType.U_16)
+    protected int gPIPortNum;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected boolean gPIEvent;
+    @LlrpField(type = FieldType.U_32)
+    protected long timeout;
+
+    public GPITriggerValue gpiPortNum(int gPIPortNum) {
+        this.gPIPortNum = gPIPortNum;
+        return this;
+    }
+
+    public int gpiPortNum() {
+        return gPIPortNum;
+    }
+
+    public GPITriggerValue gpiEvent(boolean gPIEvent) {
+        this.gPIEvent = gPIEvent;
+        return this;
+    }
+
+    public boolean gpiEvent() {
+        return gPIEvent;
+    }
+
+    public GPITriggerValue timeout(long timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public long timeout() {
+        return timeout;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.gPIPortNum, this.gPIEvent, this.timeout);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GPITriggerValue other;
+        other = ((GPITriggerValue) obj);
+        if (!Objects.equals(this.gPIPortNum, other.gPIPortNum)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPIEvent, other.gPIEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.timeout, other.timeout)) {
+            return false;
+        }
+        return true;
+    }
+}
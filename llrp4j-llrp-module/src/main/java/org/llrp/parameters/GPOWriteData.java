@@ -0,0 +1,84 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the data pertinent to perform the write
+ * to a general purpose output port.
+ * </p>
+ * <p>
+ * Readers that do not support GPOs
+ * <b>SHALL</b>
+ * set NumGPOs in the GPIOCapabilities to zero. If such a Reader
+ * receives a SET_READER_CONFIG with GPOWriteData Parameter, the
+ * Reader
+ * <b>SHALL</b>
+ * return an error message and not process any of the parameters in
+ * that message.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=72&amp;view=fit">LLRP Specification Section 12.2.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=140&amp;view=fit">LLRP Specification Section 16.2.6.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 219)
+@LlrpProperties({
+    "gPOPortNumber",
+    "gPOData"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GPOWriteData {
+    @LlrpField(type = FieldType.U_16)
+    protected int gPOPortNumber;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 7)
+    protected boolean gPOData;
+
+    public GPOWriteData gpoPortNumber(int gPOPortNumber) {
+        this.gPOPortNumber = gPOPortNumber;
+        return this;
+    }
+
+    public int gpoPortNumber() {
+        return gPOPortNumber;
+    }
+
+    public GPOWriteData gpoData(boolean gPOData) {
+        this.gPOData = gPOData;
+        return this;
+    }
+
+    public boolean gpoData() {
+        return gPOData;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.gPOPortNumber, this.gPOData);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GPOWriteData other;
+        other = ((GPOWriteData) obj);
+        if (!Objects.equals(this.gPOPortNumber, other.gPOPortNumber)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPOData, other.gPOData)) {
+            return false;
+        }
+        return true;
+    }
+}
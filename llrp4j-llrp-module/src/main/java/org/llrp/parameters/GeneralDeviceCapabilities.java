@@ -0,0 +1,235 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the general capabilities of the device
+ * like supported air protocols, version of the Reader firmware,
+ * device hardware and software information, and receive sensitivity
+ * table.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=45&amp;view=fit">LLRP Specification Section 9.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=131&amp;view=fit">LLRP Specification Section 16.2.3.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 137)
+@LlrpProperties({
+    "maxNumberOfAntennaSupported",
+    "canSetAntennaProperties",
+    "hasUTCClockCapability",
+    "deviceManufacturerName",
+    "modelName",
+    "readerFirmwareVersion",
+    "receiveSensitivityTableEntry",
+    "perAntennaReceiveSensitivityRange",
+    "gPIOCapabilities",
+    "perAntennaAirProtocol"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class GeneralDeviceCapabilities {
+    @LlrpField(type = FieldType.U_16)
+    protected int maxNumberOfAntennaSupported;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean canSetAntennaProperties;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 14)
+    protected boolean hasUTCClockCapability;
+    @LlrpField(type = FieldType.U_32)
+    protected long deviceManufacturerName;
+    @LlrpField(type = FieldType.U_32)
+    protected long modelName;
+    @LlrpField(type = FieldType.UTF_8_V, format = FieldFormat.UTF_8)
+    protected String readerFirmwareVersion;
+    @LlrpParam(required = true)
+    protected List<ReceiveSensitivityTableEntry> receiveSensitivityTableEntry;
+    @LlrpParam(required = false)
+    protected List<PerAntennaReceiveSensitivityRange> perAntennaReceiveSensitivityRange;
+    @LlrpParam(required = true)
+    protected GPIOCapabilities gPIOCapabilities;
+    @LlrpParam(required = true)
+    protected List<PerAntennaAirProtocol> perAntennaAirProtocol;
+
+    public GeneralDeviceCapabilities maxNumberOfAntennaSupported(int maxNumberOfAntennaSupported) {
+        this.maxNumberOfAntennaSupported = maxNumberOfAntennaSupported;
+        return this;
+    }
+
+    public int maxNumberOfAntennaSupported() {
+        return maxNumberOfAntennaSupported;
+    }
+
+    public GeneralDeviceCapabilities canSetAntennaProperties(boolean canSetAntennaProperties) {
+        this.canSetAntennaProperties = canSetAntennaProperties;
+        return this;
+    }
+
+    public boolean canSetAntennaProperties() {
+        return canSetAntennaProperties;
+    }
+
+    public GeneralDeviceCapabilities hasUTCClockCapability(boolean hasUTCClockCapability) {
+        this.hasUTCClockCapability = hasUTCClockCapability;
+        return this;
+    }
+
+    public boolean hasUTCClockCapability() {
+        return hasUTCClockCapability;
+    }
+
+    public GeneralDeviceCapabilities deviceManufacturerName(long deviceManufacturerName) {
+        this.deviceManufacturerName = deviceManufacturerName;
+        return this;
+    }
+
+    public long deviceManufacturerName() {
+        return deviceManufacturerName;
+    }
+
+    public GeneralDeviceCapabilities modelName(long modelName) {
+        this.modelName = modelName;
+        return this;
+    }
+
+    public long modelName() {
+        return modelName;
+    }
+
+    public GeneralDeviceCapabilities readerFirmwareVersion(String readerFirmwareVersion) {
+        this.readerFirmwareVersion = readerFirmwareVersion;
+        return this;
+    }
+
+    public String readerFirmwareVersion() {
+        if (readerFirmwareVersion == null) {
+            readerFirmwareVersion = new String();
+        }
+        return readerFirmwareVersion;
+    }
+
+    public String getReaderFirmwareVersion() {
+        return readerFirmwareVersion;
+    }
+
+    public GeneralDeviceCapabilities receiveSensitivityTableEntry(List<ReceiveSensitivityTableEntry> receiveSensitivityTableEntry) {
+        this.receiveSensitivityTableEntry = receiveSensitivityTableEntry;
+        return this;
+    }
+
+    public List<ReceiveSensitivityTableEntry> receiveSensitivityTableEntry() {
+        if (receiveSensitivityTableEntry == null) {
+            receiveSensitivityTableEntry = new ArrayList<ReceiveSensitivityTableEntry>();
+        }
+        return receiveSensitivityTableEntry;
+    }
+
+    public List<ReceiveSensitivityTableEntry> getReceiveSensitivityTableEntry() {
+        return receiveSensitivityTableEntry;
+    }
+
+    public GeneralDeviceCapabilities perAntennaReceiveSensitivityRange(List<PerAntennaReceiveSensitivityRange> perAntennaReceiveSensitivityRange) {
+        this.perAntennaReceiveSensitivityRange = perAntennaReceiveSensitivityRange;
+        return this;
+    }
+
+    public List<PerAntennaReceiveSensitivityRange> perAntennaReceiveSensitivityRange() {
+        if (perAntennaReceiveSensitivityRange == null) {
+            perAntennaReceiveSensitivityRange = new ArrayList<PerAntennaReceiveSensitivityRange>();
+        }
+        return perAntennaReceiveSensitivityRange;
+    }
+
+    public List<PerAntennaReceiveSensitivityRange> getPerAntennaReceiveSensitivityRange() {
+        return perAntennaReceiveSensitivityRange;
+    }
+
+    public GeneralDeviceCapabilities gpioCapabilities(GPIOCapabilities gPIOCapabilities) {
+        this.gPIOCapabilities = gPIOCapabilities;
+        return this;
+    }
+
+    public GPIOCapabilities gpioCapabilities() {
+        if (gPIOCapabilities == null) {
+            gPIOCapabilities = new GPIOCapabilities();
+        }
+        return gPIOCapabilities;
+    }
+
+    public GPIOCapabilities getGPIOCapabilities() {
+        return gPIOCapabilities;
+    }
+
+    public GeneralDeviceCapabilities perAntennaAirProtocol(List<PerAntennaAirProtocol> perAntennaAirProtocol) {
+        this.perAntennaAirProtocol = perAntennaAirProtocol;
+        return this;
+    }
+
+    public List<PerAntennaAirProtocol> perAntennaAirProtocol() {
+        if (perAntennaAirProtocol == null) {
+            perAntennaAirProtocol = new ArrayList<PerAntennaAirProtocol>();
+        }
+        return perAntennaAirProtocol;
+    }
+
+    public List<PerAntennaAirProtocol> getPerAntennaAirProtocol() {
+        return perAntennaAirProtocol;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.maxNumberOfAntennaSupported, this.canSetAntennaProperties, this.hasUTCClockCapability, this.deviceManufacturerName, this.modelName, this.readerFirmwareVersion, this.receiveSensitivityTableEntry, this.perAntennaReceiveSensitivityRange, this.gPIOCapabilities, this.perAntennaAirProtocol);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        GeneralDeviceCapabilities other;
+        other = ((GeneralDeviceCapabilities) obj);
+        if (!Objects.equals(this.maxNumberOfAntennaSupported, other.maxNumberOfAntennaSupported)) {
+            return false;
+        }
+        if (!Objects.equals(this.canSetAntennaProperties, other.canSetAntennaProperties)) {
+            return false;
+        }
+        if (!Objects.equals(this.hasUTCClockCapability, other.hasUTCClockCapability)) {
+            return false;
+        }
+        if (!Objects.equals(this.deviceManufacturerName, other.deviceManufacturerName)) {
+            return false;
+        }
+        if (!Objects.equals(this.modelName, other.modelName)) {
+            return false;
+        }
+        if (!Objects.equals(this.readerFirmwareVersion, other.readerFirmwareVersion)) {
+            return false;
+        }
+        if (!Objects.equals(this.receiveSensitivityTableEntry, other.receiveSensitivityTableEntry)) {
+            return false;
+        }
+        if (!Objects.equals(this.perAntennaReceiveSensitivityRange, other.perAntennaReceiveSensitivityRange)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPIOCapabilities, other.gPIOCapabilities)) {
+            return false;
+        }
+        if (!Objects.equals(this.perAntennaAirProtocol, other.perAntennaAirProtocol)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>A Reader reports this event every time it hops frequency.</p>
+ * <p>NextChannelIndex: This is the one-based ChannelIindex of the
+ * next channel to which the Reader is going to hop change to. The
+ * channel Ids are listed in the Frequency Hop Table.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=88&amp;view=fit">LLRP Specification Section 13.2.6.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=148&amp;view=fit">LLRP Specification Section 16.2.7.6.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 247)
+@LlrpProperties({
+    "hopTableID",
+    "nextChannelIndex"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class HoppingEvent {
+    @LlrpField(type = FieldType.U_16)
+    protected int hopTableID;
+    @LlrpField(type = FieldType.U_16)
+    protected int nextChannelIndex;
+
+    public HoppingEvent hopTableID(int hopTableID) {
+        this.hopTableID = hopTableID;
+        return this;
+    }
+
+    public int hopTableID() {
+        return hopTableID;
+    }
+
+    public HoppingEvent nextChannelIndex(int nextChannelIndex) {
+        this.nextChannelIndex = nextChannelIndex;
+        return this;
+    }
+
+    public int nextChannelIndex() {
+        return nextChannelIndex;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.hopTableID, this.nextChannelIndex);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        HoppingEvent other;
+        other = ((HoppingEvent) obj);
+        if (!Objects.equals(this.hopTableID, other.hopTableID)) {
+            return false;
+        }
+        if (!Objects.equals(this.nextChannelIndex, other.nextChannelIndex)) {
+            return false;
+        }
+        return true;
+    }
+}
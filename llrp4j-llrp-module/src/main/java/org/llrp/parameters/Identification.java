@@ -0,0 +1,84 @@
+
+package org.llrp.parameters;
+
+import java.util.Arrays;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.IdentificationType;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries an identification parameter that is
+ * unique within the local administration domain. The identifier could
+ * be the Reader MAC address or EPC. The IDType defines the type of
+ * the identification value contained in this Parameter.
+ * </p>
+ * <p>
+ * If IDType=0, the MAC address
+ * <b>SHALL</b>
+ * be encoded as EUI-64.[EUI64]
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=72&amp;view=fit">LLRP Specification Section 12.2.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=140&amp;view=fit">LLRP Specification Section 16.2.6.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 218)
+@LlrpProperties({
+    "iDType",
+    "readerID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class Identification {
+    @LlrpField(type = FieldType.U_8)
+    protected IdentificationType iDType;
+    @LlrpField(type = FieldType.U_8_V, format = FieldFormat.HEX)
+    protected int[] readerID;
+
+    public Identification idType(IdentificationType iDType) {
+        this.iDType = iDType;
+        return this;
+    }
+
+    public IdentificationType idType() {
+        return iDType;
+    }
+
+    public Identification readerID(int[] readerID) {
+        this.readerID = readerID;
+        return this;
+    }
+
+    public int[] readerID() {
+        return readerID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.iDType, this.readerID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        Identification other;
+        other = ((Identification) obj);
+        if (!Objects.equals(this.iDType, other.iDType)) {
+            return false;
+        }
+        if (!Arrays.equals(this.readerID, other.readerID)) {
+            return false;
+        }
+        return true;
+    }
+}
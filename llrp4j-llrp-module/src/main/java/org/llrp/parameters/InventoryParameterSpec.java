@@ -0,0 +1,126 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.AirProtocols;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter defines the inventory operation to be performed
+ * at all antennas specified in the corresponding AISpec. This
+ * parameter is composed of an InventoryParameterSpecID, a ProtocolID,
+ * and zero or more optional antenna configuration parameters. Antenna
+ * configurations for antennas not indicated by the AntennaIDs within
+ * the AISpec are ignored by the reader.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=59&amp;view=fit">LLRP Specification Section 10.2.2.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=137&amp;view=fit">LLRP Specification Section 16.2.4.2.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 186)
+@LlrpProperties({
+    "inventoryParameterSpecID",
+    "protocolID",
+    "antennaConfiguration",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class InventoryParameterSpec {
+    @LlrpField(type = FieldType.U_16)
+    protected int inventoryParameterSpecID;
+    @LlrpField(type = FieldType.U_8)
+    protected AirProtocols protocolID;
+    @LlrpParam(required = false)
+    protected List<AntennaConfiguration> antennaConfiguration;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public InventoryParameterSpec inventoryParameterSpecID(int inventoryParameterSpecID) {
+        this.inventoryParameterSpecID = inventoryParameterSpecID;
+        return this;
+    }
+
+    public int inventoryParameterSpecID() {
+        return inventoryParameterSpecID;
+    }
+
+    public InventoryParameterSpec protocolID(AirProtocols protocolID) {
+        this.protocolID = protocolID;
+        return this;
+    }
+
+    public AirProtocols protocolID() {
+        return protocolID;
+    }
+
+    public InventoryParameterSpec antennaConfiguration(List<AntennaConfiguration> antennaConfiguration) {
+        this.antennaConfiguration = antennaConfiguration;
+        return this;
+    }
+
+    public List<AntennaConfiguration> antennaConfiguration() {
+        if (antennaConfiguration == null) {
+            antennaConfiguration = new ArrayList<AntennaConfiguration>();
+        }
+        return antennaConfiguration;
+    }
+
+    public List<AntennaConfiguration> getAntennaConfiguration() {
+        return antennaConfiguration;
+    }
+
+    public InventoryParameterSpec custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.inventoryParameterSpecID, this.protocolID, this.antennaConfiguration, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        InventoryParameterSpec other;
+        other = ((InventoryParameterSpec) obj);
+        if (!Objects.equals(this.inventoryParameterSpecID, other.inventoryParameterSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.protocolID, other.protocolID)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaConfiguration, other.antennaConfiguration)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,59 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the InventoryParameterSpecID
+ * information.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=83&amp;view=fit">LLRP Specification Section 13.2.3.5</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=145&amp;view=fit">LLRP Specification Section 16.2.7.3.5</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 10)
+@LlrpProperties({
+    "inventoryParameterSpecID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class InventoryParameterSpecID {
+    @LlrpField(type = FieldType.U_16)
+    protected int inventoryParameterSpecID;
+
+    public InventoryParameterSpecID inventoryParameterSpecID(int inventoryParameterSpecID) {
+        this.inventoryParameterSpecID = inventoryParameterSpecID;
+        return this;
+    }
+
+    public int inventoryParameterSpecID() {
+        return inventoryParameterSpecID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.inventoryParameterSpecID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        InventoryParameterSpecID other;
+        other = ((InventoryParameterSpecID) obj);
+        if (!Objects.equals(this.inventoryParameterSpecID, other.inventoryParameterSpecID)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,76 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.KeepaliveTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the specification for the keepalive
+ * message generation by the Reader. This includes the definition of
+ * the periodic trigger to send the keepalive message.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=73&amp;view=fit">LLRP Specification Section 12.2.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=140&amp;view=fit">LLRP Specification Section 16.2.6.4</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 220)
+@LlrpProperties({
+    "keepaliveTriggerType",
+    "periodicTriggerValue"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class KeepaliveSpec {
+    @LlrpField(type = FieldType.U_8)
+    protected KeepaliveTriggerType keepaliveTriggerType;
+    @LlrpField(type = FieldType.U_32)
+    protected long periodicTriggerValue;
+
+    public KeepaliveSpec keepaliveTriggerType(KeepaliveTriggerType keepaliveTriggerType) {
+        this.keepaliveTriggerType = keepaliveTriggerType;
+        return this;
+    }
+
+    public KeepaliveTriggerType keepaliveTriggerType() {
+        return keepaliveTriggerType;
+    }
+
+    public KeepaliveSpec periodicTriggerValue(long periodicTriggerValue) {
+        this.periodicTriggerValue = periodicTriggerValue;
+        return this;
+    }
+
+    public long periodicTriggerValue() {
+        return periodicTriggerValue;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.keepaliveTriggerType, this.periodicTriggerValue);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        KeepaliveSpec other;
+        other = ((KeepaliveSpec) obj);
+        if (!Objects.equals(this.keepaliveTriggerType, other.keepaliveTriggerType)) {
+            return false;
+        }
+        if (!Objects.equals(this.periodicTriggerValue, other.periodicTriggerValue)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,245 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter describes the LLRP protocol capabilities of the
+ * Reader. These include optional LLRP commands and parameters,
+ * capacities of data structures used in LLRP operations, and air
+ * protocol specific capabilities used by LLRP.
+ * </p>
+ * <p>
+ * Readers
+ * <b>MAY</b>
+ * support RFSurvey,
+ * <b>MAY</b>
+ * support tag inventory state aware singulation,
+ * <b>MAY</b>
+ * support UTC clocks,
+ * <b>MAY</b>
+ * support buffer fill warning reports,
+ * <b>MAY</b>
+ * support EventAndReportHolding upon reconnect, and
+ * <b>MAY</b>
+ * support ClientRequestOpspec. Readers
+ * <b>SHALL</b>
+ * support at least one ROSpec, one AISpec per ROSpec, one
+ * InventoryParameterSpec per AISpec, one AccessSpec, and one OpSpec
+ * per AccessSpec.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=47&amp;view=fit">LLRP Specification Section 9.2.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=133&amp;view=fit">LLRP Specification Section 16.2.3.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 142)
+@LlrpProperties({
+    "canDoRFSurvey",
+    "canReportBufferFillWarning",
+    "supportsClientRequestOpSpec",
+    "canDoTagInventoryStateAwareSingulation",
+    "supportsEventAndReportHolding",
+    "maxNumPriorityLevelsSupported",
+    "clientRequestOpSpecTimeout",
+    "maxNumROSpecs",
+    "maxNumSpecsPerROSpec",
+    "maxNumInventoryParameterSpecsPerAISpec",
+    "maxNumAccessSpecs",
+    "maxNumOpSpecsPerAccessSpec"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class LLRPCapabilities {
+    @LlrpField(type = FieldType.U_1)
+    protected boolean canDoRFSurvey;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean canReportBufferFillWarning;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean supportsClientRequestOpSpec;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean canDoTagInventoryStateAwareSingulation;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 3)
+    protected boolean supportsEventAndReportHolding;
+    @LlrpField(type = FieldType.U_8)
+    protected int maxNumPriorityLevelsSupported;
+    @LlrpField(type = FieldType.U_16)
+    protected int clientRequestOpSpecTimeout;
+    @LlrpField(type = FieldType.U_32)
+    protected long maxNumROSpecs;
+    @LlrpField(type = FieldType.U_32)
+    protected long maxNumSpecsPerROSpec;
+    @LlrpField(type = FieldType.U_32)
+    protected long maxNumInventoryParameterSpecsPerAISpec;
+    @LlrpField(type = FieldType.U_32)
+    protected long maxNumAccessSpecs;
+    @LlrpField(type = FieldType.U_32)
+    protected long maxNumOpSpecsPerAccessSpec;
+
+    public LLRPCapabilities canDoRFSurvey(boolean canDoRFSurvey) {
+        this.canDoRFSurvey = canDoRFSurvey;
+        return this;
+    }
+
+    public boolean canDoRFSurvey() {
+        return canDoRFSurvey;
+    }
+
+    public LLRPCapabilities canReportBufferFillWarning(boolean canReportBufferFillWarning) {
+        this.canReportBufferFillWarning = canReportBufferFillWarning;
+        return this;
+    }
+
+    public boolean canReportBufferFillWarning() {
+        return canReportBufferFillWarning;
+    }
+
+    public LLRPCapabilities supportsClientRequestOpSpec(boolean supportsClientRequestOpSpec) {
+        this.supportsClientRequestOpSpec = supportsClientRequestOpSpec;
+        return this;
+    }
+
+    public boolean supportsClientRequestOpSpec() {
+        return supportsClientRequestOpSpec;
+    }
+
+    public LLRPCapabilities canDoTagInventoryStateAwareSingulation(boolean canDoTagInventoryStateAwareSingulation) {
+        this.canDoTagInventoryStateAwareSingulation = canDoTagInventoryStateAwareSingulation;
+        return this;
+    }
+
+    public boolean canDoTagInventoryStateAwareSingulation() {
+        return canDoTagInventoryStateAwareSingulation;
+    }
+
+    public LLRPCapabilities supportsEventAndReportHolding(boolean supportsEventAndReportHolding) {
+        this.supportsEventAndReportHolding = supportsEventAndReportHolding;
+        return this;
+    }
+
+    public boolean supportsEventAndReportHolding() {
+        return supportsEventAndReportHolding;
+    }
+
+    public LLRPCapabilities maxNumPriorityLevelsSupported(int maxNumPriorityLevelsSupported) {
+        this.maxNumPriorityLevelsSupported = maxNumPriorityLevelsSupported;
+        return this;
+    }
+
+    public int maxNumPriorityLevelsSupported() {
+        return maxNumPriorityLevelsSupported;
+    }
+
+    public LLRPCapabilities clientRequestOpSpecTimeout(int clientRequestOpSpecTimeout) {
+        this.clientRequestOpSpecTimeout = clientRequestOpSpecTimeout;
+        return this;
+    }
+
+    public int clientRequestOpSpecTimeout() {
+        return clientRequestOpSpecTimeout;
+    }
+
+    public LLRPCapabilities maxNumROSpecs(long maxNumROSpecs) {
+        this.maxNumROSpecs = maxNumROSpecs;
+        return this;
+    }
+
+    public long maxNumROSpecs() {
+        return maxNumROSpecs;
+    }
+
+    public LLRPCapabilities maxNumSpecsPerROSpec(long maxNumSpecsPerROSpec) {
+        this.maxNumSpecsPerROSpec = maxNumSpecsPerROSpec;
+        return this;
+    }
+
+    public long maxNumSpecsPerROSpec() {
+        return maxNumSpecsPerROSpec;
+    }
+
+    public LLRPCapabilities maxNumInventoryParameterSpecsPerAISpec(long maxNumInventoryParameterSpecsPerAISpec) {
+        this.maxNumInventoryParameterSpecsPerAISpec = maxNumInventoryParameterSpecsPerAISpec;
+        return this;
+    }
+
+    public long maxNumInventoryParameterSpecsPerAISpec() {
+        return maxNumInventoryParameterSpecsPerAISpec;
+    }
+
+    public LLRPCapabilities maxNumAccessSpecs(long maxNumAccessSpecs) {
+        this.maxNumAccessSpecs = maxNumAccessSpecs;
+        return this;
+    }
+
+    public long maxNumAccessSpecs() {
+        return maxNumAccessSpecs;
+    }
+
+    public LLRPCapabilities maxNumOpSpecsPerAccessSpec(long maxNumOpSpecsPerAccessSpec) {
+        this.maxNumOpSpecsPerAccessSpec = maxNumOpSpecsPerAccessSpec;
+        return this;
+    }
+
+    public long maxNumOpSpecsPerAccessSpec() {
+        return maxNumOpSpecsPerAccessSpec;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.canDoRFSurvey, this.canReportBufferFillWarning, this.supportsClientRequestOpSpec, this.canDoTagInventoryStateAwareSingulation, this.supportsEventAndReportHolding, this.maxNumPriorityLevelsSupported, this.clientRequestOpSpecTimeout, this.maxNumROSpecs, this.maxNumSpecsPerROSpec, this.maxNumInventoryParameterSpecsPerAISpec, this.maxNumAccessSpecs, this.maxNumOpSpecsPerAccessSpec);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        LLRPCapabilities other;
+        other = ((LLRPCapabilities) obj);
+        if (!Objects.equals(this.canDoRFSurvey, other.canDoRFSurvey)) {
+            return false;
+        }
+        if (!Objects.equals(this.canReportBufferFillWarning, other.canReportBufferFillWarning)) {
+            return false;
+        }
+        if (!Objects.equals(this.supportsClientRequestOpSpec, other.supportsClientRequestOpSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.canDoTagInventoryStateAwareSingulation, other.canDoTagInventoryStateAwareSingulation)) {
+            return false;
+        }
+        if (!Objects.equals(this.supportsEventAndReportHolding, other.supportsEventAndReportHolding)) {
+            return false;
+        }
+        if (!Objects.equals(this.maxNumPriorityLevelsSupported, other.maxNumPriorityLevelsSupported)) {
+            return false;
+        }
+        if (!Objects.equals(this.clientRequestOpSpecTimeout, other.clientRequestOpSpecTimeout)) {
+            return false;
+        }
+        if (!Objects.equals(this.maxNumROSpecs, other.maxNumROSpecs)) {
+            return false;
+        }
+        if (!Objects.equals(this.maxNumSpecsPerROSpec, other.maxNumSpecsPerROSpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.maxNumInventoryParameterSpecsPerAISpec, other.maxNumInventoryParameterSpecsPerAISpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.maxNumAccessSpecs, other.maxNumAccessSpecs)) {
+            return false;
+        }
+        if (!Objects.equals(this.maxNumOpSpecsPerAccessSpec, other.maxNumOpSpecsPerAccessSpec)) {
+            return false;
+        }
+        return true;
+    }
+}
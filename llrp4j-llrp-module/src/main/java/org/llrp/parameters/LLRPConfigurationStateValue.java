@@ -0,0 +1,102 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>
+ * This parameter, LLRPConfigurationStateValue, is a 32-bit value
+ * which represents a Reader's entire LLRP configuration state
+ * including: LLRP configuration parameters, vendor extension
+ * configuration parameters, ROSpecs, and AccessSpecs. A Reader
+ * <b>SHALL</b>
+ * change this value only:
+ * </p>
+ * <ul><li><p>Upon successful execution of any of the following messages:
+ * ADD_ROSPEC, DELETE_ROSPEC, ADD_ACCESSSPEC, DELETE_ACCESSSPEC,
+ * SET_READER_CONFIG, or any CUSTOM_MESSAGE command that alters the
+ * reader's internal configuration.
+ * </p>
+ * </li><li><p>Upon an automatically deleted AccessSpec due to completion of
+ * OperationCountValue number of operations (Section 11.2.1.1).
+ * </p>
+ * </li>
+ * </ul>
+ * <p>
+ * A Reader
+ * <b>SHALL</b>
+ * not change this value when the CurrentState of a ROSpec or
+ * AccessSpec changes.
+ * </p>
+ * <p>The mechanism used to compute the LLRP configuration state
+ * value is implementation dependent. However, a good implementation
+ * will insure that there's a high probability that the value will
+ * change when the Reader's configuration state changes.
+ * </p>
+ * <p>It is expected that a Client will configure the Reader and then
+ * request the Reader's configuration state value. The Client will
+ * then save this state value. If this value does not change between
+ * two requests for it, then a Client may assume that the above
+ * components of the LLRP configuration have also not changed.
+ * </p>
+ * <p>
+ * When requested by a Client, the Reader
+ * <b>SHALL</b>
+ * compute a state value based upon the Reader's current configuration
+ * state. Upon each request, the Reader
+ * <b>SHALL</b>
+ * return the same state value provided a Client has not altered the
+ * Reader's configuration state between requests. Aside from this
+ * requirement, the computation of the state value is implementation
+ * dependent.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=71&amp;view=fit">LLRP Specification Section 12.2.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=140&amp;view=fit">LLRP Specification Section 16.2.6.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 217)
+@LlrpProperties({
+    "lLRPConfigurationStateValue"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class LLRPConfigurationStateValue {
+    @LlrpField(type = FieldType.U_32)
+    protected long lLRPConfigurationStateValue;
+
+    public LLRPConfigurationStateValue llrpConfigurationStateValue(long lLRPConfigurationStateValue) {
+        this.lLRPConfigurationStateValue = lLRPConfigurationStateValue;
+        return this;
+    }
+
+    public long llrpConfigurationStateValue() {
+        return lLRPConfigurationStateValue;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.lLRPConfigurationStateValue);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        LLRPConfigurationStateValue other;
+        other = ((LLRPConfigurationStateValue) obj);
+        if (!Objects.equals(this.lLRPConfigurationStateValue, other.lLRPConfigurationStateValue)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,124 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.StatusCode;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=95&amp;view=fit">LLRP Specification Section 14.2.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=151&amp;view=fit">LLRP Specification Section 16.2.8.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 287)
+@LlrpProperties({
+    "statusCode",
+    "errorDescription",
+    "fieldError",
+    "parameterError"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class LLRPStatus {
+    @LlrpField(type = FieldType.U_16)
+    protected StatusCode statusCode;
+    @LlrpField(type = FieldType.UTF_8_V, format = FieldFormat.UTF_8)
+    protected String errorDescription;
+    @LlrpParam(required = false)
+    protected FieldError fieldError;
+    @LlrpParam(required = false)
+    protected ParameterError parameterError;
+
+    public LLRPStatus statusCode(StatusCode statusCode) {
+        this.statusCode = statusCode;
+        return this;
+    }
+
+    public StatusCode statusCode() {
+        return statusCode;
+    }
+
+    public LLRPStatus errorDescription(String errorDescription) {
+        this.errorDescription = errorDescription;
+        return this;
+    }
+
+    public String errorDescription() {
+        if (errorDescription == null) {
+            errorDescription = new String();
+        }
+        return errorDescription;
+    }
+
+    public String getErrorDescription() {
+        return errorDescription;
+    }
+
+    public LLRPStatus fieldError(FieldError fieldError) {
+        this.fieldError = fieldError;
+        return this;
+    }
+
+    public FieldError fieldError() {
+        if (fieldError == null) {
+            fieldError = new FieldError();
+        }
+        return fieldError;
+    }
+
+    public FieldError getFieldError() {
+        return fieldError;
+    }
+
+    public LLRPStatus parameterError(ParameterError parameterError) {
+        this.parameterError = parameterError;
+        return this;
+    }
+
+    public ParameterError parameterError() {
+        if (parameterError == null) {
+            parameterError = new ParameterError();
+        }
+        return parameterError;
+    }
+
+    public ParameterError getParameterError() {
+        return parameterError;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.statusCode, this.errorDescription, this.fieldError, this.parameterError);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        LLRPStatus other;
+        other = ((LLRPStatus) obj);
+        if (!Objects.equals(this.statusCode, other.statusCode)) {
+            return false;
+        }
+        if (!Objects.equals(this.errorDescription, other.errorDescription)) {
+            return false;
+        }
+        if (!Objects.equals(this.fieldError, other.fieldError)) {
+            return false;
+        }
+        if (!Objects.equals(this.parameterError, other.parameterError)) {
+            return false;
+        }
+        return true;
+    }
+}
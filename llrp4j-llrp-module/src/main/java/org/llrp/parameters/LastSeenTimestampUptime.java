@@ -0,0 +1,63 @@
+
+package org.llrp.parameters;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the LastSeenTimestamp information in
+ * UTC.
+ * </p>
+ * <p>This is the time elapsed since the Epoch (00:00:00 UTC, January
+ *  1, 1970) measured in microseconds.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=84&amp;view=fit">LLRP Specification Section 13.2.3.12</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=146&amp;view=fit">LLRP Specification Section 16.2.7.3.12</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 5)
+@LlrpProperties({
+    "microseconds"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class LastSeenTimestampUptime {
+    @LlrpField(type = FieldType.U_64)
+    protected BigInteger microseconds;
+
+    public LastSeenTimestampUptime microseconds(BigInteger microseconds) {
+        this.microseconds = microseconds;
+        return this;
+    }
+
+    public BigInteger microseconds() {
+        return microseconds;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.microseconds);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        LastSeenTimestampUptime other;
+        other = ((LastSeenTimestampUptime) obj);
+        if (!Objects.equals(this.microseconds, other.microseconds)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,62 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.SpecParameter;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>LLRP 1.1 compiliant parameter. This parameter instructs the
+ * Reader to loop execution of the ROSpec, starting at SpecIndex 1.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=57&amp;view=fit">LLRP Specification Section 10.2.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=137&amp;view=fit">LLRP Specification Section 16.2.4.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 189)
+@LlrpProperties({
+    "loopCount"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class LoopSpec
+    implements SpecParameter
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int loopCount;
+
+    public LoopSpec loopCount(int loopCount) {
+        this.loopCount = loopCount;
+        return this;
+    }
+
+    public int loopCount() {
+        return loopCount;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.loopCount);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        LoopSpec other;
+        other = ((LoopSpec) obj);
+        if (!Objects.equals(this.loopCount, other.loopCount)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,118 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.StatusCode;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>The parameter type that caused this error.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=96&amp;view=fit">LLRP Specification Section 14.2.2.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=152&amp;view=fit">LLRP Specification Section 16.2.8.1.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 289)
+@LlrpProperties({
+    "parameterType",
+    "errorCode",
+    "fieldError",
+    "parameterError"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ParameterError {
+    @LlrpField(type = FieldType.U_16)
+    protected int parameterType;
+    @LlrpField(type = FieldType.U_16)
+    protected StatusCode errorCode;
+    @LlrpParam(required = false)
+    protected FieldError fieldError;
+    @LlrpParam(required = false)
+    protected ParameterError parameterError;
+
+    public ParameterError parameterType(int parameterType) {
+        this.parameterType = parameterType;
+        return this;
+    }
+
+    public int parameterType() {
+        return parameterType;
+    }
+
+    public ParameterError errorCode(StatusCode errorCode) {
+        this.errorCode = errorCode;
+        return this;
+    }
+
+    public StatusCode errorCode() {
+        return errorCode;
+    }
+
+    public ParameterError fieldError(FieldError fieldError) {
+        this.fieldError = fieldError;
+        return this;
+    }
+
+    public FieldError fieldError() {
+        if (fieldError == null) {
+            fieldError = new FieldError();
+        }
+        return fieldError;
+    }
+
+    public FieldError getFieldError() {
+        return fieldError;
+    }
+
+    public ParameterError parameterError(ParameterError parameterError) {
+        this.parameterError = parameterError;
+        return this;
+    }
+
+    public ParameterError parameterError() {
+        if (parameterError == null) {
+            parameterError = new ParameterError();
+        }
+        return parameterError;
+    }
+
+    public ParameterError getParameterError() {
+        return parameterError;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.parameterType, this.errorCode, this.fieldError, this.parameterError);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ParameterError other;
+        other = ((ParameterError) obj);
+        if (!Objects.equals(this.parameterType, other.parameterType)) {
+            return false;
+        }
+        if (!Objects.equals(this.errorCode, other.errorCode)) {
+            return false;
+        }
+        if (!Objects.equals(this.fieldError, other.fieldError)) {
+            return false;
+        }
+        if (!Objects.equals(this.parameterError, other.parameterError)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,60 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the PeakRSSI information.</p>
+ * <p>PeakRSSI: The peak received power of the EPC backscatter in
+ * dBm.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=83&amp;view=fit">LLRP Specification Section 13.2.3.7</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=145&amp;view=fit">LLRP Specification Section 16.2.7.3.7</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 6)
+@LlrpProperties({
+    "peakRSSI"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class PeakRSSI {
+    @LlrpField(type = FieldType.S_8)
+    protected int peakRSSI;
+
+    public PeakRSSI peakRSSI(int peakRSSI) {
+        this.peakRSSI = peakRSSI;
+        return this;
+    }
+
+    public int peakRSSI() {
+        return peakRSSI;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.peakRSSI);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        PeakRSSI other;
+        other = ((PeakRSSI) obj);
+        if (!Objects.equals(this.peakRSSI, other.peakRSSI)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,75 @@
+
+package org.llrp.parameters;
+
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.AirProtocols;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Describes the air-protocols supporter on a per-antenna basis.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=46&amp;view=fit">LLRP Specification Section 9.2.1.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=132&amp;view=fit">LLRP Specification Section 16.2.3.1.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 140)
+@LlrpProperties({
+    "antennaID",
+    "protocolID"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class PerAntennaAirProtocol {
+    @LlrpField(type = FieldType.U_16)
+    protected int antennaID;
+    @LlrpField(type = FieldType.U_8_V)
+    protected List<AirProtocols> protocolID;
+
+    public PerAntennaAirProtocol antennaID(int antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public int antennaID() {
+        return antennaID;
+    }
+
+    public PerAntennaAirProtocol protocolID(List<AirProtocols> protocolID) {
+        this.protocolID = protocolID;
+        return this;
+    }
+
+    public List<AirProtocols> protocolID() {
+        return protocolID;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.antennaID, this.protocolID);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        PerAntennaAirProtocol other;
+        other = ((PerAntennaAirProtocol) obj);
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        if (!Objects.equals(this.protocolID, other.protocolID)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,99 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>For a particular antenna, this parameter specifies the Reader's
+ * valid index range in the Receive Sensitivity Table. A Reader should
+ * report this parameter if the Reader allows control of receive
+ * sensitivity (i.e., the Reader reports a Receive Sensitivity Table
+ * with more than one entry) and the Reader supports multiple antennas
+ * where the antennas can have different receive sensitivity values.
+ * </p>
+ * <p>
+ * If this parameter is omitted, then the Client
+ * <b>SHALL</b>
+ * assume that for all of the Reader's antennas the index range is the
+ * same as in the Receive Sensitivity Table.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=46&amp;view=fit">LLRP Specification Section 9.2.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=132&amp;view=fit">LLRP Specification Section 16.2.3.1.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 149)
+@LlrpProperties({
+    "antennaID",
+    "receiveSensitivityIndexMin",
+    "receiveSensitivityIndexMax"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class PerAntennaReceiveSensitivityRange {
+    @LlrpField(type = FieldType.U_16)
+    protected int antennaID;
+    @LlrpField(type = FieldType.U_16)
+    protected int receiveSensitivityIndexMin;
+    @LlrpField(type = FieldType.U_16)
+    protected int receiveSensitivityIndexMax;
+
+    public PerAntennaReceiveSensitivityRange antennaID(int antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public int antennaID() {
+        return antennaID;
+    }
+
+    public PerAntennaReceiveSensitivityRange receiveSensitivityIndexMin(int receiveSensitivityIndexMin) {
+        this.receiveSensitivityIndexMin = receiveSensitivityIndexMin;
+        return this;
+    }
+
+    public int receiveSensitivityIndexMin() {
+        return receiveSensitivityIndexMin;
+    }
+
+    public PerAntennaReceiveSensitivityRange receiveSensitivityIndexMax(int receiveSensitivityIndexMax) {
+        this.receiveSensitivityIndexMax = receiveSensitivityIndexMax;
+        return this;
+    }
+
+    public int receiveSensitivityIndexMax() {
+        return receiveSensitivityIndexMax;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.antennaID, this.receiveSensitivityIndexMin, this.receiveSensitivityIndexMax);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        PerAntennaReceiveSensitivityRange other;
+        other = ((PerAntennaReceiveSensitivityRange) obj);
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        if (!Objects.equals(this.receiveSensitivityIndexMin, other.receiveSensitivityIndexMin)) {
+            return false;
+        }
+        if (!Objects.equals(this.receiveSensitivityIndexMax, other.receiveSensitivityIndexMax)) {
+            return false;
+        }
+        return true;
+    }
+}
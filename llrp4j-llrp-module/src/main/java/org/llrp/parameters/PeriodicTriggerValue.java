@@ -0,0 +1,112 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Periodic trigger is specified using UTC time, offset and
+ * period.
+ * </p>
+ * <p>For one-shot inventory, period is set to 0, and for periodic
+ * inventory operation period &gt; 0.
+ * </p>
+ * <p>If UTC time is not specified, the first start time is
+ * determined as (time of message receipt + offset), else, the first
+ * start time is determined as (UTC time + offset). Subsequent start
+ * times = first start time + k * period (where, k &gt; 0).
+ * </p>
+ * <p>
+ * If the Reader does not support UTC clock (as indicated by
+ * HasUTCClockCapability), and it receives the UTC time as part of the
+ * PeriodicTriggerValue parameter from the Client, the Reader
+ * <b>SHALL</b>
+ * return an error.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=56&amp;view=fit">LLRP Specification Section 10.2.1.1.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=136&amp;view=fit">LLRP Specification Section 16.2.4.1.1.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 180)
+@LlrpProperties({
+    "offset",
+    "period",
+    "uTCTimestamp"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class PeriodicTriggerValue {
+    @LlrpField(type = FieldType.U_32)
+    protected long offset;
+    @LlrpField(type = FieldType.U_32)
+    protected long period;
+    @LlrpParam(required = false)
+    protected UTCTimestamp uTCTimestamp;
+
+    public PeriodicTriggerValue offset(long offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    public long offset() {
+        return offset;
+    }
+
+    public PeriodicTriggerValue period(long period) {
+        this.period = period;
+        return this;
+    }
+
+    public long period() {
+        return period;
+    }
+
+    public PeriodicTriggerValue utcTimestamp(UTCTimestamp uTCTimestamp) {
+        this.uTCTimestamp = uTCTimestamp;
+        return this;
+    }
+
+    public UTCTimestamp utcTimestamp() {
+        if (uTCTimestamp == null) {
+            uTCTimestamp = new UTCTimestamp();
+        }
+        return uTCTimestamp;
+    }
+
+    public UTCTimestamp getUTCTimestamp() {
+        return uTCTimestamp;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.offset, this.period, this.uTCTimestamp);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        PeriodicTriggerValue other;
+        other = ((PeriodicTriggerValue) obj);
+        if (!Objects.equals(this.offset, other.offset)) {
+            return false;
+        }
+        if (!Objects.equals(this.period, other.period)) {
+            return false;
+        }
+        if (!Objects.equals(this.uTCTimestamp, other.uTCTimestamp)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,61 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This Parameter carries the RF receiver information. The
+ * Receiver Sensitivity defines the sensitivity setting at the
+ * receiver. The value is the index into the ReceiveSensitivityTable
+ * (section 9.2.1.1).
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=74&amp;view=fit">LLRP Specification Section 12.2.6.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=141&amp;view=fit">LLRP Specification Section 16.2.6.7</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 223)
+@LlrpProperties({
+    "receiverSensitivity"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class RFReceiver {
+    @LlrpField(type = FieldType.U_16)
+    protected int receiverSensitivity;
+
+    public RFReceiver receiverSensitivity(int receiverSensitivity) {
+        this.receiverSensitivity = receiverSensitivity;
+        return this;
+    }
+
+    public int receiverSensitivity() {
+        return receiverSensitivity;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.receiverSensitivity);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        RFReceiver other;
+        other = ((RFReceiver) obj);
+        if (!Objects.equals(this.receiverSensitivity, other.receiverSensitivity)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.RFSurveyEventType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>ROSpecID: The identifier of the ROSpec that contains the
+ * RFSurveySpec.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=90&amp;view=fit">LLRP Specification Section 13.2.6.8</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=150&amp;view=fit">LLRP Specification Section 16.2.7.6.7</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 253)
+@LlrpProperties({
+    "eventType",
+    "rOSpecID",
+    "specIndex"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class RFSurveyEvent {
+    @LlrpField(type = FieldType.U_8)
+    protected RFSurveyEventType eventType;
+    @LlrpField(type = FieldType.U_32)
+    protected long rOSpecID;
+    @LlrpField(type = FieldType.U_16)
+    protected int specIndex;
+
+    public RFSurveyEvent eventType(RFSurveyEventType eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    public RFSurveyEventType eventType() {
+        return eventType;
+    }
+
+    public RFSurveyEvent roSpecID(long rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public long roSpecID() {
+        return rOSpecID;
+    }
+
+    public RFSurveyEvent specIndex(int specIndex) {
+        this.specIndex = specIndex;
+        return this;
+    }
+
+    public int specIndex() {
+        return specIndex;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.eventType, this.rOSpecID, this.specIndex);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        RFSurveyEvent other;
+        other = ((RFSurveyEvent) obj);
+        if (!Objects.equals(this.eventType, other.eventType)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.specIndex, other.specIndex)) {
+            return false;
+        }
+        return true;
+    }
+}
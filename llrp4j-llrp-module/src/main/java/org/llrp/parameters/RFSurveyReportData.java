@@ -0,0 +1,131 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+
+
+/**
+ * 
+ * <p>This describes the content of the RF Survey Report.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=85&amp;view=fit">LLRP Specification Section 13.2.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=147&amp;view=fit">LLRP Specification Section 16.2.7.4</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 242)
+@LlrpProperties({
+    "rOSpecID",
+    "specIndex",
+    "frequencyRSSILevelEntry",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class RFSurveyReportData {
+    @LlrpParam(required = false)
+    protected ROSpecID rOSpecID;
+    @LlrpParam(required = false)
+    protected SpecIndex specIndex;
+    @LlrpParam(required = true)
+    protected List<FrequencyRSSILevelEntry> frequencyRSSILevelEntry;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public RFSurveyReportData roSpecID(ROSpecID rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public ROSpecID roSpecID() {
+        if (rOSpecID == null) {
+            rOSpecID = new ROSpecID();
+        }
+        return rOSpecID;
+    }
+
+    public ROSpecID getROSpecID() {
+        return rOSpecID;
+    }
+
+    public RFSurveyReportData specIndex(SpecIndex specIndex) {
+        this.specIndex = specIndex;
+        return this;
+    }
+
+    public SpecIndex specIndex() {
+        if (specIndex == null) {
+            specIndex = new SpecIndex();
+        }
+        return specIndex;
+    }
+
+    public SpecIndex getSpecIndex() {
+        return specIndex;
+    }
+
+    public RFSurveyReportData frequencyRSSILevelEntry(List<FrequencyRSSILevelEntry> frequencyRSSILevelEntry) {
+        this.frequencyRSSILevelEntry = frequencyRSSILevelEntry;
+        return this;
+    }
+
+    public List<FrequencyRSSILevelEntry> frequencyRSSILevelEntry() {
+        if (frequencyRSSILevelEntry == null) {
+            frequencyRSSILevelEntry = new ArrayList<FrequencyRSSILevelEntry>();
+        }
+        return frequencyRSSILevelEntry;
+    }
+
+    public List<FrequencyRSSILevelEntry> getFrequencyRSSILevelEntry() {
+        return frequencyRSSILevelEntry;
+    }
+
+    public RFSurveyReportData custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOSpecID, this.specIndex, this.frequencyRSSILevelEntry, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        RFSurveyReportData other;
+        other = ((RFSurveyReportData) obj);
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.specIndex, other.specIndex)) {
+            return false;
+        }
+        if (!Objects.equals(this.frequencyRSSILevelEntry, other.frequencyRSSILevelEntry)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,144 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.SpecParameter;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter defines RF Survey operations. RF Survey is an
+ * operation during which the Reader performs a scan and measures the
+ * power levels across a set of frequencies at an antenna. This
+ * parameter defines the identifier of the antenna where this survey
+ * is to be performed, the duration of the survey operation (specified
+ * via stop trigger), and the range of frequencies to measure power
+ * levels of.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=59&amp;view=fit">LLRP Specification Section 10.2.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=138&amp;view=fit">LLRP Specification Section 16.2.4.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 187)
+@LlrpProperties({
+    "antennaID",
+    "startFrequency",
+    "endFrequency",
+    "rFSurveySpecStopTrigger",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class RFSurveySpec
+    implements SpecParameter
+{
+    @LlrpField(type = FieldType.U_16)
+    protected int antennaID;
+    @LlrpField(type = FieldType.U_32)
+    protected long startFrequency;
+    @LlrpField(type = FieldType.U_32)
+    protected long endFrequency;
+    @LlrpParam(required = true)
+    protected RFSurveySpecStopTrigger rFSurveySpecStopTrigger;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public RFSurveySpec antennaID(int antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public int antennaID() {
+        return antennaID;
+    }
+
+    public RFSurveySpec startFrequency(long startFrequency) {
+        this.startFrequency = startFrequency;
+        return this;
+    }
+
+    public long startFrequency() {
+        return startFrequency;
+    }
+
+    public RFSurveySpec endFrequency(long endFrequency) {
+        this.endFrequency = endFrequency;
+        return this;
+    }
+
+    public long endFrequency() {
+        return endFrequency;
+    }
+
+    public RFSurveySpec rfSurveySpecStopTrigger(RFSurveySpecStopTrigger rFSurveySpecStopTrigger) {
+        this.rFSurveySpecStopTrigger = rFSurveySpecStopTrigger;
+        return this;
+    }
+
+    public RFSurveySpecStopTrigger rfSurveySpecStopTrigger() {
+        if (rFSurveySpecStopTrigger == null) {
+            rFSurveySpecStopTrigger = new RFSurveySpecStopTrigger();
+        }
+        return rFSurveySpecStopTrigger;
+    }
+
+    public RFSurveySpecStopTrigger getRFSurveySpecStopTrigger() {
+        return rFSurveySpecStopTrigger;
+    }
+
+    public RFSurveySpec custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.antennaID, this.startFrequency, this.endFrequency, this.rFSurveySpecStopTrigger, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        RFSurveySpec other;
+        other = ((RFSurveySpec) obj);
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        if (!Objects.equals(this.startFrequency, other.startFrequency)) {
+            return false;
+        }
+        if (!Objects.equals(this.endFrequency, other.endFrequency)) {
+            return false;
+        }
+        if (!Objects.equals(this.rFSurveySpecStopTrigger, other.rFSurveySpecStopTrigger)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,90 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.RFSurveySpecStopTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter defines the stop trigger for RF Survey
+ * operations.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=60&amp;view=fit">LLRP Specification Section 10.2.3.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=138&amp;view=fit">LLRP Specification Section 16.2.4.3.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 188)
+@LlrpProperties({
+    "stopTriggerType",
+    "durationPeriod",
+    "n"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class RFSurveySpecStopTrigger {
+    @LlrpField(type = FieldType.U_8)
+    protected RFSurveySpecStopTriggerType stopTriggerType;
+    @LlrpField(type = FieldType.U_32)
+    protected long durationPeriod;
+    @LlrpField(type = FieldType.U_32)
+    protected long n;
+
+    public RFSurveySpecStopTrigger stopTriggerType(RFSurveySpecStopTriggerType stopTriggerType) {
+        this.stopTriggerType = stopTriggerType;
+        return this;
+    }
+
+    public RFSurveySpecStopTriggerType stopTriggerType() {
+        return stopTriggerType;
+    }
+
+    public RFSurveySpecStopTrigger durationPeriod(long durationPeriod) {
+        this.durationPeriod = durationPeriod;
+        return this;
+    }
+
+    public long durationPeriod() {
+        return durationPeriod;
+    }
+
+    public RFSurveySpecStopTrigger n(long n) {
+        this.n = n;
+        return this;
+    }
+
+    public long n() {
+        return n;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.stopTriggerType, this.durationPeriod, this.n);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        RFSurveySpecStopTrigger other;
+        other = ((RFSurveySpecStopTrigger) obj);
+        if (!Objects.equals(this.stopTriggerType, other.stopTriggerType)) {
+            return false;
+        }
+        if (!Objects.equals(this.durationPeriod, other.durationPeriod)) {
+            return false;
+        }
+        if (!Objects.equals(this.n, other.n)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This Parameter carries the RF transmitter information. The
+ * Transmit Power defines the transmit power for the antenna expressed
+ * as an index into the TransmitPowerTable (section 9.2.4.1.1). The
+ * HopTableID is the index of the frequency hop table to be used by
+ * the Reader (section 9.2.4.1.2.1) and is used when operating in
+ * frequency-hopping regulatory regions. This field is ignored in
+ * non-frequency-hopping regulatory regions. The ChannelIndex is the
+ * one-based channel index in the FixedFrequencyTable to use during
+ * transmission (section 9.2.4.1.2.2) and is used when operating in
+ * non-frequency-hopping regulatory regions. This field is ignored in
+ * frequency-hopping regulatory regions.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=74&amp;view=fit">LLRP Specification Section 12.2.6.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=141&amp;view=fit">LLRP Specification Section 16.2.6.8</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 224)
+@LlrpProperties({
+    "hopTableID",
+    "channelIndex",
+    "transmitPower"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class RFTransmitter {
+    @LlrpField(type = FieldType.U_16)
+    protected int hopTableID;
+    @LlrpField(type = FieldType.U_16)
+    protected int channelIndex;
+    @LlrpField(type = FieldType.U_16)
+    protected int transmitPower;
+
+    public RFTransmitter hopTableID(int hopTableID) {
+        this.hopTableID = hopTableID;
+        return this;
+    }
+
+    public int hopTableID() {
+        return hopTableID;
+    }
+
+    public RFTransmitter channelIndex(int channelIndex) {
+        this.channelIndex = channelIndex;
+        return this;
+    }
+
+    public int channelIndex() {
+        return channelIndex;
+    }
+
+    public RFTransmitter transmitPower(int transmitPower) {
+        this.transmitPower = transmitPower;
+        return this;
+    }
+
+    public int transmitPower() {
+        return transmitPower;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.hopTableID, this.channelIndex, this.transmitPower);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        RFTransmitter other;
+        other = ((RFTransmitter) obj);
+        if (!Objects.equals(this.hopTableID, other.hopTableID)) {
+            return false;
+        }
+        if (!Objects.equals(this.channelIndex, other.channelIndex)) {
+            return false;
+        }
+        if (!Objects.equals(this.transmitPower, other.transmitPower)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,87 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+
+
+/**
+ * 
+ * <p>This parameter carries the lifetime of the command,
+ * ROStartTrigger and ROStopTrigger parameters.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=55&amp;view=fit">LLRP Specification Section 10.2.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=135&amp;view=fit">LLRP Specification Section 16.2.4.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 178)
+@LlrpProperties({
+    "rOSpecStartTrigger",
+    "rOSpecStopTrigger"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ROBoundarySpec {
+    @LlrpParam(required = true)
+    protected ROSpecStartTrigger rOSpecStartTrigger;
+    @LlrpParam(required = true)
+    protected ROSpecStopTrigger rOSpecStopTrigger;
+
+    public ROBoundarySpec roSpecStartTrigger(ROSpecStartTrigger rOSpecStartTrigger) {
+        this.rOSpecStartTrigger = rOSpecStartTrigger;
+        return this;
+    }
+
+    public ROSpecStartTrigger roSpecStartTrigger() {
+        if (rOSpecStartTrigger == null) {
+            rOSpecStartTrigger = new ROSpecStartTrigger();
+        }
+        return rOSpecStartTrigger;
+    }
+
+    public ROSpecStartTrigger getROSpecStartTrigger() {
+        return rOSpecStartTrigger;
+    }
+
+    public ROBoundarySpec roSpecStopTrigger(ROSpecStopTrigger rOSpecStopTrigger) {
+        this.rOSpecStopTrigger = rOSpecStopTrigger;
+        return this;
+    }
+
+    public ROSpecStopTrigger roSpecStopTrigger() {
+        if (rOSpecStopTrigger == null) {
+            rOSpecStopTrigger = new ROSpecStopTrigger();
+        }
+        return rOSpecStopTrigger;
+    }
+
+    public ROSpecStopTrigger getROSpecStopTrigger() {
+        return rOSpecStopTrigger;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOSpecStartTrigger, this.rOSpecStopTrigger);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ROBoundarySpec other;
+        other = ((ROBoundarySpec) obj);
+        if (!Objects.equals(this.rOSpecStartTrigger, other.rOSpecStartTrigger)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOSpecStopTrigger, other.rOSpecStopTrigger)) {
+            return false;
+        }
+        return true;
+    }
+}
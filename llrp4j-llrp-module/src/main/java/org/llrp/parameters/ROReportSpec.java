@@ -0,0 +1,134 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.ROReportTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This Parameter carries the Reader inventory and RF survey
+ * reporting definition for the antenna. This parameter describes the
+ * contents of the report sent by the Reader and defines the events
+ * that cause the report to be sent.
+ * </p>
+ * <p>The ROReportTrigger field defines the events that cause the
+ * report to be sent.
+ * </p>
+ * <p>The TagReportContentSelector parameter defines the desired
+ * contents of the report. The ROReportTrigger defines the event that
+ * causes the report to be sent by the Reader to the Client.
+ * </p>
+ * <p>See section 13.2.6.1 for details about the order that reports
+ * are to be sent with respect to Reader event notifications.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=78&amp;view=fit">LLRP Specification Section 13.2.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=142&amp;view=fit">LLRP Specification Section 16.2.7.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 237)
+@LlrpProperties({
+    "rOReportTrigger",
+    "n",
+    "tagReportContentSelector",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ROReportSpec {
+    @LlrpField(type = FieldType.U_8)
+    protected ROReportTriggerType rOReportTrigger;
+    @LlrpField(type = FieldType.U_16)
+    protected int n;
+    @LlrpParam(required = true)
+    protected TagReportContentSelector tagReportContentSelector;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public ROReportSpec roReportTrigger(ROReportTriggerType rOReportTrigger) {
+        this.rOReportTrigger = rOReportTrigger;
+        return this;
+    }
+
+    public ROReportTriggerType roReportTrigger() {
+        return rOReportTrigger;
+    }
+
+    public ROReportSpec n(int n) {
+        this.n = n;
+        return this;
+    }
+
+    public int n() {
+        return n;
+    }
+
+    public ROReportSpec tagReportContentSelector(TagReportContentSelector tagReportContentSelector) {
+        this.tagReportContentSelector = tagReportContentSelector;
+        return this;
+    }
+
+    public TagReportContentSelector tagReportContentSelector() {
+        if (tagReportContentSelector == null) {
+            tagReportContentSelector = new TagReportContentSelector();
+        }
+        return tagReportContentSelector;
+    }
+
+    public TagReportContentSelector getTagReportContentSelector() {
+        return tagReportContentSelector;
+    }
+
+    public ROReportSpec custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOReportTrigger, this.n, this.tagReportContentSelector, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ROReportSpec other;
+        other = ((ROReportSpec) obj);
+        if (!Objects.equals(this.rOReportTrigger, other.rOReportTrigger)) {
+            return false;
+        }
+        if (!Objects.equals(this.n, other.n)) {
+            return false;
+        }
+        if (!Objects.equals(this.tagReportContentSelector, other.tagReportContentSelector)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,160 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.ROSpecState;
+import org.llrp.interfaces.SpecParameter;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the information of the Reader inventory
+ * and survey operation.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=55&amp;view=fit">LLRP Specification Section 10.2.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=135&amp;view=fit">LLRP Specification Section 16.2.4.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 177)
+@LlrpProperties({
+    "rOSpecID",
+    "priority",
+    "currentState",
+    "rOBoundarySpec",
+    "specParameter",
+    "rOReportSpec"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ROSpec {
+    @LlrpField(type = FieldType.U_32)
+    protected long rOSpecID;
+    @LlrpField(type = FieldType.U_8)
+    protected int priority;
+    @LlrpField(type = FieldType.U_8)
+    protected ROSpecState currentState;
+    @LlrpParam(required = true)
+    protected ROBoundarySpec rOBoundarySpec;
+    @LlrpParam(required = true)
+    protected List<SpecParameter> specParameter;
+    @LlrpParam(required = false)
+    protected ROReportSpec rOReportSpec;
+
+    public ROSpec roSpecID(long rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public long roSpecID() {
+        return rOSpecID;
+    }
+
+    public ROSpec priority(int priority) {
+        this.priority = priority;
+        return this;
+    }
+
+    public int priority() {
+        return priority;
+    }
+
+    public ROSpec currentState(ROSpecState currentState) {
+        this.currentState = currentState;
+        return this;
+    }
+
+    public ROSpecState currentState() {
+        return currentState;
+    }
+
+    public ROSpec roBoundarySpec(ROBoundarySpec rOBoundarySpec) {
+        this.rOBoundarySpec = rOBoundarySpec;
+        return this;
+    }
+
+    public ROBoundarySpec roBoundarySpec() {
+        if (rOBoundarySpec == null) {
+            rOBoundarySpec = new ROBoundarySpec();
+        }
+        return rOBoundarySpec;
+    }
+
+    public ROBoundarySpec getROBoundarySpec() {
+        return rOBoundarySpec;
+    }
+
+    public ROSpec specParameter(List<SpecParameter> specParameter) {
+        this.specParameter = specParameter;
+        return this;
+    }
+
+    public List<SpecParameter> specParameter() {
+        if (specParameter == null) {
+            specParameter = new ArrayList<SpecParameter>();
+        }
+        return specParameter;
+    }
+
+    public List<SpecParameter> getSpecParameter() {
+        return specParameter;
+    }
+
+    public ROSpec roReportSpec(ROReportSpec rOReportSpec) {
+        this.rOReportSpec = rOReportSpec;
+        return this;
+    }
+
+    public ROReportSpec roReportSpec() {
+        if (rOReportSpec == null) {
+            rOReportSpec = new ROReportSpec();
+        }
+        return rOReportSpec;
+    }
+
+    public ROReportSpec getROReportSpec() {
+        return rOReportSpec;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOSpecID, this.priority, this.currentState, this.rOBoundarySpec, this.specParameter, this.rOReportSpec);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ROSpec other;
+        other = ((ROSpec) obj);
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.priority, other.priority)) {
+            return false;
+        }
+        if (!Objects.equals(this.currentState, other.currentState)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOBoundarySpec, other.rOBoundarySpec)) {
+            return false;
+        }
+        if (!Objects.equals(this.specParameter, other.specParameter)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOReportSpec, other.rOReportSpec)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,105 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.ROSpecStartTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Describes the condition upon which the ROSpec will start
+ * execution.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=56&amp;view=fit">LLRP Specification Section 10.2.1.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=136&amp;view=fit">LLRP Specification Section 16.2.4.1.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 179)
+@LlrpProperties({
+    "rOSpecStartTriggerType",
+    "periodicTriggerValue",
+    "gPITriggerValue"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ROSpecStartTrigger {
+    @LlrpField(type = FieldType.U_8)
+    protected ROSpecStartTriggerType rOSpecStartTriggerType;
+    @LlrpParam(required = false)
+    protected PeriodicTriggerValue periodicTriggerValue;
+    @LlrpParam(required = false)
+    protected GPITriggerValue gPITriggerValue;
+
+    public ROSpecStartTrigger roSpecStartTriggerType(ROSpecStartTriggerType rOSpecStartTriggerType) {
+        this.rOSpecStartTriggerType = rOSpecStartTriggerType;
+        return this;
+    }
+
+    public ROSpecStartTriggerType roSpecStartTriggerType() {
+        return rOSpecStartTriggerType;
+    }
+
+    public ROSpecStartTrigger periodicTriggerValue(PeriodicTriggerValue periodicTriggerValue) {
+        this.periodicTriggerValue = periodicTriggerValue;
+        return this;
+    }
+
+    public PeriodicTriggerValue periodicTriggerValue() {
+        if (periodicTriggerValue == null) {
+            periodicTriggerValue = new PeriodicTriggerValue();
+        }
+        return periodicTriggerValue;
+    }
+
+    public PeriodicTriggerValue getPeriodicTriggerValue() {
+        return periodicTriggerValue;
+    }
+
+    public ROSpecStartTrigger gpiTriggerValue(GPITriggerValue gPITriggerValue) {
+        this.gPITriggerValue = gPITriggerValue;
+        return this;
+    }
+
+    public GPITriggerValue gpiTriggerValue() {
+        if (gPITriggerValue == null) {
+            gPITriggerValue = new GPITriggerValue();
+        }
+        return gPITriggerValue;
+    }
+
+    public GPITriggerValue getGPITriggerValue() {
+        return gPITriggerValue;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOSpecStartTriggerType, this.periodicTriggerValue, this.gPITriggerValue);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ROSpecStartTrigger other;
+        other = ((ROSpecStartTrigger) obj);
+        if (!Objects.equals(this.rOSpecStartTriggerType, other.rOSpecStartTriggerType)) {
+            return false;
+        }
+        if (!Objects.equals(this.periodicTriggerValue, other.periodicTriggerValue)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPITriggerValue, other.gPITriggerValue)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.ROSpecStopTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Describes the condition upon which the ROSpec will stop.</p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=57&amp;view=fit">LLRP Specification Section 10.2.1.1.2</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=136&amp;view=fit">LLRP Specification Section 16.2.4.1.1.2</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 182)
+@LlrpProperties({
+    "rOSpecStopTriggerType",
+    "durationTriggerValue",
+    "gPITriggerValue"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ROSpecStopTrigger {
+    @LlrpField(type = FieldType.U_8)
+    protected ROSpecStopTriggerType rOSpecStopTriggerType;
+    @LlrpField(type = FieldType.U_32)
+    protected long durationTriggerValue;
+    @LlrpParam(required = false)
+    protected GPITriggerValue gPITriggerValue;
+
+    public ROSpecStopTrigger roSpecStopTriggerType(ROSpecStopTriggerType rOSpecStopTriggerType) {
+        this.rOSpecStopTriggerType = rOSpecStopTriggerType;
+        return this;
+    }
+
+    public ROSpecStopTriggerType roSpecStopTriggerType() {
+        return rOSpecStopTriggerType;
+    }
+
+    public ROSpecStopTrigger durationTriggerValue(long durationTriggerValue) {
+        this.durationTriggerValue = durationTriggerValue;
+        return this;
+    }
+
+    public long durationTriggerValue() {
+        return durationTriggerValue;
+    }
+
+    public ROSpecStopTrigger gpiTriggerValue(GPITriggerValue gPITriggerValue) {
+        this.gPITriggerValue = gPITriggerValue;
+        return this;
+    }
+
+    public GPITriggerValue gpiTriggerValue() {
+        if (gPITriggerValue == null) {
+            gPITriggerValue = new GPITriggerValue();
+        }
+        return gPITriggerValue;
+    }
+
+    public GPITriggerValue getGPITriggerValue() {
+        return gPITriggerValue;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOSpecStopTriggerType, this.durationTriggerValue, this.gPITriggerValue);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ROSpecStopTrigger other;
+        other = ((ROSpecStopTrigger) obj);
+        if (!Objects.equals(this.rOSpecStopTriggerType, other.rOSpecStopTriggerType)) {
+            return false;
+        }
+        if (!Objects.equals(this.durationTriggerValue, other.durationTriggerValue)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPITriggerValue, other.gPITriggerValue)) {
+            return false;
+        }
+        return true;
+    }
+}
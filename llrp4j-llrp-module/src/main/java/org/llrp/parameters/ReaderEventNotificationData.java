@@ -0,0 +1,424 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.Timestamp;
+
+
+/**
+ * 
+ * <p>This parameter describes the contents of the event notification
+ * sent by the Reader, and defines the events that cause the
+ * notification to be sent. Event notification messages may be sent by
+ * the Reader due to connection establishment/closing event, critical
+ * events such as hopping, fault-detection in a Reader functional
+ * block, buffer overflow, due to the activation of a Reader accessory
+ * trigger input (e.g. motion detection), or due to performance
+ * monitoring events such as abnormalities in the RF environment.
+ * </p>
+ * <p>Timestamp is the time that the events reported occurred.</p>
+ * <p>
+ * LLRP assumes a reliable stream transport mechanism. Messages sent
+ * through LLRP will arrive in the order that they were sent over the
+ * transport and binding utilized. Status events within the same
+ * message
+ * <b>SHALL</b>
+ * be ordered chronologically.
+ * </p>
+ * <p>Status events delivered by reader event notifications are
+ * useful, especially in conjunction with the tag report data. The
+ * following describes the requirements of the reader event
+ * notifications ordering with respect to the ordering of tag reports
+ * and Reader Event Notifications.
+ * </p>
+ * <p>The following requirements are made on the ordering of Event
+ * Parameters with respect to each other and to tag report Parameters.
+ * These statements apply if the respective status events and report
+ * triggers are enabled.
+ * </p>
+ * <ul><li><p>
+ * If the start of an ROSpec is triggered by a GPI, the GPIEvent
+ * Parameter
+ * <b>SHALL</b>
+ * be sent before the ROSpecEvent Parameter signaling the start of
+ * the ROSpec.
+ * </p>
+ * </li><li><p>
+ * If the end of an ROSpec is triggered by a GPI, the GPIEvent
+ * Parameter
+ * <b>SHALL</b>
+ * be sent before the ROSpecEvent Parameter signaling the end of the
+ * ROSpec.
+ * </p>
+ * </li><li><p>
+ * If an ROSpec contains one or more AISpecs, the ROSpecEvent
+ * parameter signaling the end of an ROSpec
+ * <b>SHALL</b>
+ * be sent after the AISpecEvent Parameter signaling the end of the
+ * last AISpec within that ROSpec.
+ * </p>
+ * </li><li><p>
+ * If one ROSpec pre-empts another ROSpec, the ROSpecEvent parameter
+ * signaling the preemption of the first ROSpec
+ * <b>SHALL</b>
+ * be sent before the ROSpecEvent parameter signaling the start of
+ * the next ROSpec.
+ * </p>
+ * </li><li><p>
+ * Tag data received during an ROSpec execution
+ * <b>SHALL</b>
+ * be sent between the ROSpecEvent parameter signaling the start of
+ * the ROSpec and the ROSpecEvent parameter signaling the end or
+ * preemption of the ROSpec if the ROReportTrigger is not set to
+ * "None".
+ * </p>
+ * </li><li><p>
+ * Tag data received during an AISpec execution
+ * <b>SHALL</b>
+ * be sent before the AISpecEvent Parameter signaling the end of the
+ * AISpec if the ROReportTrigger is not "None" or "end of RO Spec"
+ * </p>
+ * </li><li><p>
+ * Tag data received during the time on a channel
+ * <b>SHALL</b>
+ * be sent after the HoppingEvent parameter that announced this
+ * channel and before the next HoppingEvent parameter when the
+ * ROReportTrigger is not "None" and N=1.
+ * </p>
+ * </li>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=86&amp;view=fit">LLRP Specification Section 13.2.6</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=148&amp;view=fit">LLRP Specification Section 16.2.7.6</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 246)
+@LlrpProperties({
+    "timestamp",
+    "hoppingEvent",
+    "gPIEvent",
+    "rOSpecEvent",
+    "reportBufferLevelWarningEvent",
+    "reportBufferOverflowErrorEvent",
+    "readerExceptionEvent",
+    "rFSurveyEvent",
+    "aISpecEvent",
+    "antennaEvent",
+    "connectionAttemptEvent",
+    "connectionCloseEvent",
+    "specLoopEvent",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ReaderEventNotificationData {
+    @LlrpParam(required = true)
+    protected Timestamp timestamp;
+    @LlrpParam(required = false)
+    protected HoppingEvent hoppingEvent;
+    @LlrpParam(required = false)
+    protected GPIEvent gPIEvent;
+    @LlrpParam(required = false)
+    protected ROSpecEvent rOSpecEvent;
+    @LlrpParam(required = false)
+    protected ReportBufferLevelWarningEvent reportBufferLevelWarningEvent;
+    @LlrpParam(required = false)
+    protected ReportBufferOverflowErrorEvent reportBufferOverflowErrorEvent;
+    @LlrpParam(required = false)
+    protected ReaderExceptionEvent readerExceptionEvent;
+    @LlrpParam(required = false)
+    protected RFSurveyEvent rFSurveyEvent;
+    @LlrpParam(required = false)
+    protected AISpecEvent aISpecEvent;
+    @LlrpParam(required = false)
+    protected AntennaEvent antennaEvent;
+    @LlrpParam(required = false)
+    protected ConnectionAttemptEvent connectionAttemptEvent;
+    @LlrpParam(required = false)
+    protected ConnectionCloseEvent connectionCloseEvent;
+    @LlrpParam(required = false)
+    protected SpecLoopEvent specLoopEvent;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public ReaderEventNotificationData timestamp(Timestamp timestamp) {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    public Timestamp timestamp() {
+        return timestamp;
+    }
+
+    public ReaderEventNotificationData hoppingEvent(HoppingEvent hoppingEvent) {
+        this.hoppingEvent = hoppingEvent;
+        return this;
+    }
+
+    public HoppingEvent hoppingEvent() {
+        if (hoppingEvent == null) {
+            hoppingEvent = new HoppingEvent();
+        }
+        return hoppingEvent;
+    }
+
+    public HoppingEvent getHoppingEvent() {
+        return hoppingEvent;
+    }
+
+    public ReaderEventNotificationData gpiEvent(GPIEvent gPIEvent) {
+        this.gPIEvent = gPIEvent;
+        return this;
+    }
+
+    public GPIEvent gpiEvent() {
+        if (gPIEvent == null) {
+            gPIEvent = new GPIEvent();
+        }
+        return gPIEvent;
+    }
+
+    public GPIEvent getGPIEvent() {
+        return gPIEvent;
+    }
+
+    public ReaderEventNotificationData roSpecEvent(ROSpecEvent rOSpecEvent) {
+        this.rOSpecEvent = rOSpecEvent;
+        return this;
+    }
+
+    public ROSpecEvent roSpecEvent() {
+        if (rOSpecEvent == null) {
+            rOSpecEvent = new ROSpecEvent();
+        }
+        return rOSpecEvent;
+    }
+
+    public ROSpecEvent getROSpecEvent() {
+        return rOSpecEvent;
+    }
+
+    public ReaderEventNotificationData reportBufferLevelWarningEvent(ReportBufferLevelWarningEvent reportBufferLevelWarningEvent) {
+        this.reportBufferLevelWarningEvent = reportBufferLevelWarningEvent;
+        return this;
+    }
+
+    public ReportBufferLevelWarningEvent reportBufferLevelWarningEvent() {
+        if (reportBufferLevelWarningEvent == null) {
+            reportBufferLevelWarningEvent = new ReportBufferLevelWarningEvent();
+        }
+        return reportBufferLevelWarningEvent;
+    }
+
+    public ReportBufferLevelWarningEvent getReportBufferLevelWarningEvent() {
+        return reportBufferLevelWarningEvent;
+    }
+
+    public ReaderEventNotificationData reportBufferOverflowErrorEvent(ReportBufferOverflowErrorEvent reportBufferOverflowErrorEvent) {
+        this.reportBufferOverflowErrorEvent = reportBufferOverflowErrorEvent;
+        return this;
+    }
+
+    public ReportBufferOverflowErrorEvent reportBufferOverflowErrorEvent() {
+        if (reportBufferOverflowErrorEvent == null) {
+            reportBufferOverflowErrorEvent = new ReportBufferOverflowErrorEvent();
+        }
+        return reportBufferOverflowErrorEvent;
+    }
+
+    public ReportBufferOverflowErrorEvent getReportBufferOverflowErrorEvent() {
+        return reportBufferOverflowErrorEvent;
+    }
+
+    public ReaderEventNotificationData readerExceptionEvent(ReaderExceptionEvent readerExceptionEvent) {
+        this.readerExceptionEvent = readerExceptionEvent;
+        return this;
+    }
+
+    public ReaderExceptionEvent readerExceptionEvent() {
+        if (readerExceptionEvent == null) {
+            readerExceptionEvent = new ReaderExceptionEvent();
+        }
+        return readerExceptionEvent;
+    }
+
+    public ReaderExceptionEvent getReaderExceptionEvent() {
+        return readerExceptionEvent;
+    }
+
+    public ReaderEventNotificationData rfSurveyEvent(RFSurveyEvent rFSurveyEvent) {
+        this.rFSurveyEvent = rFSurveyEvent;
+        return this;
+    }
+
+    public RFSurveyEvent rfSurveyEvent() {
+        if (rFSurveyEvent == null) {
+            rFSurveyEvent = new RFSurveyEvent();
+        }
+        return rFSurveyEvent;
+    }
+
+    public RFSurveyEvent getRFSurveyEvent() {
+        return rFSurveyEvent;
+    }
+
+    public ReaderEventNotificationData aiSpecEvent(AISpecEvent aISpecEvent) {
+        this.aISpecEvent = aISpecEvent;
+        return this;
+    }
+
+    public AISpecEvent aiSpecEvent() {
+        if (aISpecEvent == null) {
+            aISpecEvent = new AISpecEvent();
+        }
+        return aISpecEvent;
+    }
+
+    public AISpecEvent getAISpecEvent() {
+        return aISpecEvent;
+    }
+
+    public ReaderEventNotificationData antennaEvent(AntennaEvent antennaEvent) {
+        this.antennaEvent = antennaEvent;
+        return this;
+    }
+
+    public AntennaEvent antennaEvent() {
+        if (antennaEvent == null) {
+            antennaEvent = new AntennaEvent();
+        }
+        return antennaEvent;
+    }
+
+    public AntennaEvent getAntennaEvent() {
+        return antennaEvent;
+    }
+
+    public ReaderEventNotificationData connectionAttemptEvent(ConnectionAttemptEvent connectionAttemptEvent) {
+        this.connectionAttemptEvent = connectionAttemptEvent;
+        return this;
+    }
+
+    public ConnectionAttemptEvent connectionAttemptEvent() {
+        if (connectionAttemptEvent == null) {
+            connectionAttemptEvent = new ConnectionAttemptEvent();
+        }
+        return connectionAttemptEvent;
+    }
+
+    public ConnectionAttemptEvent getConnectionAttemptEvent() {
+        return connectionAttemptEvent;
+    }
+
+    public ReaderEventNotificationData connectionCloseEvent(ConnectionCloseEvent connectionCloseEvent) {
+        this.connectionCloseEvent = connectionCloseEvent;
+        return this;
+    }
+
+    public ConnectionCloseEvent connectionCloseEvent() {
+        if (connectionCloseEvent == null) {
+            connectionCloseEvent = new ConnectionCloseEvent();
+        }
+        return connectionCloseEvent;
+    }
+
+    public ConnectionCloseEvent getConnectionCloseEvent() {
+        return connectionCloseEvent;
+    }
+
+    public ReaderEventNotificationData specLoopEvent(SpecLoopEvent specLoopEvent) {
+        this.specLoopEvent = specLoopEvent;
+        return this;
+    }
+
+    public SpecLoopEvent specLoopEvent() {
+        if (specLoopEvent == null) {
+            specLoopEvent = new SpecLoopEvent();
+        }
+        return specLoopEvent;
+    }
+
+    public SpecLoopEvent getSpecLoopEvent() {
+        return specLoopEvent;
+    }
+
+    public ReaderEventNotificationData custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.timestamp, this.hoppingEvent, this.gPIEvent, this.rOSpecEvent, this.reportBufferLevelWarningEvent, this.reportBufferOverflowErrorEvent, this.readerExceptionEvent, this.rFSurveyEvent, this.aISpecEvent, this.antennaEvent, this.connectionAttemptEvent, this.connectionCloseEvent, this.specLoopEvent, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ReaderEventNotificationData other;
+        other = ((ReaderEventNotificationData) obj);
+        if (!Objects.equals(this.timestamp, other.timestamp)) {
+            return false;
+        }
+        if (!Objects.equals(this.hoppingEvent, other.hoppingEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.gPIEvent, other.gPIEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOSpecEvent, other.rOSpecEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.reportBufferLevelWarningEvent, other.reportBufferLevelWarningEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.reportBufferOverflowErrorEvent, other.reportBufferOverflowErrorEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.readerExceptionEvent, other.readerExceptionEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.rFSurveyEvent, other.rFSurveyEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.aISpecEvent, other.aISpecEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaEvent, other.antennaEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.connectionAttemptEvent, other.connectionAttemptEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.connectionCloseEvent, other.connectionCloseEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.specLoopEvent, other.specLoopEvent)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
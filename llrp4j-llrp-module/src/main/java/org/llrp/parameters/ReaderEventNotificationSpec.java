@@ -0,0 +1,69 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+
+
+/**
+ * 
+ * <p>This parameter is used by the Client to enable or disable
+ * notification of one or more Reader events. Notification of buffer
+ * overflow events and connection events (attempt/close) are
+ * mandatory, and not configurable.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=86&amp;view=fit">LLRP Specification Section 13.2.5</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=147&amp;view=fit">LLRP Specification Section 16.2.7.5</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 244)
+@LlrpProperties({
+    "eventNotificationState"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ReaderEventNotificationSpec {
+    @LlrpParam(required = true)
+    protected List<EventNotificationState> eventNotificationState;
+
+    public ReaderEventNotificationSpec eventNotificationState(List<EventNotificationState> eventNotificationState) {
+        this.eventNotificationState = eventNotificationState;
+        return this;
+    }
+
+    public List<EventNotificationState> eventNotificationState() {
+        if (eventNotificationState == null) {
+            eventNotificationState = new ArrayList<EventNotificationState>();
+        }
+        return eventNotificationState;
+    }
+
+    public List<EventNotificationState> getEventNotificationState() {
+        return eventNotificationState;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.eventNotificationState);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ReaderEventNotificationSpec other;
+        other = ((ReaderEventNotificationSpec) obj);
+        if (!Objects.equals(this.eventNotificationState, other.eventNotificationState)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,226 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>The reader exception status event notifies the client that an
+ * unexpected event has occurred on the reader. Optional parameters
+ * provide more detail to the client as to the nature and scope of the
+ * event.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=90&amp;view=fit">LLRP Specification Section 13.2.6.7</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=149&amp;view=fit">LLRP Specification Section 16.2.7.6.6</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 252)
+@LlrpProperties({
+    "message",
+    "rOSpecID",
+    "specIndex",
+    "inventoryParameterSpecID",
+    "antennaID",
+    "accessSpecID",
+    "opSpecID",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ReaderExceptionEvent {
+    @LlrpField(type = FieldType.UTF_8_V, format = FieldFormat.UTF_8)
+    protected String message;
+    @LlrpParam(required = false)
+    protected ROSpecID rOSpecID;
+    @LlrpParam(required = false)
+    protected SpecIndex specIndex;
+    @LlrpParam(required = false)
+    protected InventoryParameterSpecID inventoryParameterSpecID;
+    @LlrpParam(required = false)
+    protected AntennaID antennaID;
+    @LlrpParam(required = false)
+    protected AccessSpecID accessSpecID;
+    @LlrpParam(required = false)
+    protected OpSpecID opSpecID;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public ReaderExceptionEvent message(String message) {
+        this.message = message;
+        return this;
+    }
+
+    public String message() {
+        if (message == null) {
+            message = new String();
+        }
+        return message;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public ReaderExceptionEvent roSpecID(ROSpecID rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public ROSpecID roSpecID() {
+        if (rOSpecID == null) {
+            rOSpecID = new ROSpecID();
+        }
+        return rOSpecID;
+    }
+
+    public ROSpecID getROSpecID() {
+        return rOSpecID;
+    }
+
+    public ReaderExceptionEvent specIndex(SpecIndex specIndex) {
+        this.specIndex = specIndex;
+        return this;
+    }
+
+    public SpecIndex specIndex() {
+        if (specIndex == null) {
+            specIndex = new SpecIndex();
+        }
+        return specIndex;
+    }
+
+    public SpecIndex getSpecIndex() {
+        return specIndex;
+    }
+
+    public ReaderExceptionEvent inventoryParameterSpecID(InventoryParameterSpecID inventoryParameterSpecID) {
+        this.inventoryParameterSpecID = inventoryParameterSpecID;
+        return this;
+    }
+
+    public InventoryParameterSpecID inventoryParameterSpecID() {
+        if (inventoryParameterSpecID == null) {
+            inventoryParameterSpecID = new InventoryParameterSpecID();
+        }
+        return inventoryParameterSpecID;
+    }
+
+    public InventoryParameterSpecID getInventoryParameterSpecID() {
+        return inventoryParameterSpecID;
+    }
+
+    public ReaderExceptionEvent antennaID(AntennaID antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public AntennaID antennaID() {
+        if (antennaID == null) {
+            antennaID = new AntennaID();
+        }
+        return antennaID;
+    }
+
+    public AntennaID getAntennaID() {
+        return antennaID;
+    }
+
+    public ReaderExceptionEvent accessSpecID(AccessSpecID accessSpecID) {
+        this.accessSpecID = accessSpecID;
+        return this;
+    }
+
+    public AccessSpecID accessSpecID() {
+        if (accessSpecID == null) {
+            accessSpecID = new AccessSpecID();
+        }
+        return accessSpecID;
+    }
+
+    public AccessSpecID getAccessSpecID() {
+        return accessSpecID;
+    }
+
+    public ReaderExceptionEvent opSpecID(OpSpecID opSpecID) {
+        this.opSpecID = opSpecID;
+        return this;
+    }
+
+    public OpSpecID opSpecID() {
+        if (opSpecID == null) {
+            opSpecID = new OpSpecID();
+        }
+        return opSpecID;
+    }
+
+    public OpSpecID getOpSpecID() {
+        return opSpecID;
+    }
+
+    public ReaderExceptionEvent custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.message, this.rOSpecID, this.specIndex, this.inventoryParameterSpecID, this.antennaID, this.accessSpecID, this.opSpecID, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ReaderExceptionEvent other;
+        other = ((ReaderExceptionEvent) obj);
+        if (!Objects.equals(this.message, other.message)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.specIndex, other.specIndex)) {
+            return false;
+        }
+        if (!Objects.equals(this.inventoryParameterSpecID, other.inventoryParameterSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessSpecID, other.accessSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.opSpecID, other.opSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
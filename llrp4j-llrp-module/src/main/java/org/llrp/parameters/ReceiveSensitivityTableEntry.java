@@ -0,0 +1,84 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter specifies the index into the Receive Sensitivity
+ * Table for a receive sensitivity value. The receive sensitivity is
+ * expressed in dB and the value is relative to the maximum
+ * sensitivity. If the Reader does not allow control of receive
+ * sensitivity, a table of one entry is returned, the entry having the
+ * value of zero.
+ * </p>
+ * <p>If the Reader allows control of receive sensitivity and the
+ * Reader also supports multiple antennas where the antennas can have
+ * different receive sensitivity values, then the Receive Sensitivity
+ * Table should be a set of values representing the union of
+ * sensitivity values for all antennas.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=45&amp;view=fit">LLRP Specification Section 9.2.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=132&amp;view=fit">LLRP Specification Section 16.2.3.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 139)
+@LlrpProperties({
+    "index",
+    "receiveSensitivityValue"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ReceiveSensitivityTableEntry {
+    @LlrpField(type = FieldType.U_16)
+    protected int index;
+    @LlrpField(type = FieldType.S_16)
+    protected int receiveSensitivityValue;
+
+    public ReceiveSensitivityTableEntry index(int index) {
+        this.index = index;
+        return this;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public ReceiveSensitivityTableEntry receiveSensitivityValue(int receiveSensitivityValue) {
+        this.receiveSensitivityValue = receiveSensitivityValue;
+        return this;
+    }
+
+    public int receiveSensitivityValue() {
+        return receiveSensitivityValue;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.index, this.receiveSensitivityValue);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ReceiveSensitivityTableEntry other;
+        other = ((ReceiveSensitivityTableEntry) obj);
+        if (!Objects.equals(this.index, other.index)) {
+            return false;
+        }
+        if (!Objects.equals(this.receiveSensitivityValue, other.receiveSensitivityValue)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,133 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.CommunicationsStandard;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the RF regulation specific attributes.
+ * They include regulatory standard, frequency band information, power
+ * levels supported, frequencies supported, and any air protocol
+ * specific values that are determined based on regulatory
+ * restriction.
+ * </p>
+ * <p> The regulatory standard is encoded using two Integer fields,
+ * (Country Code, Communications standard) and it specifies the
+ * current operational regulatory mode of the device. This should not
+ * be used to reflect the ability to operate in regulatory
+ * environments which require configuration different from the
+ * current. This version of the LLRP protocol will have support for
+ * only the UHF band.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=48&amp;view=fit">LLRP Specification Section 9.2.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=133&amp;view=fit">LLRP Specification Section 16.2.3.4</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 143)
+@LlrpProperties({
+    "countryCode",
+    "communicationsStandard",
+    "uHFBandCapabilities",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class RegulatoryCapabilities {
+    @LlrpField(type = FieldType.U_16)
+    protected int countryCode;
+    @LlrpField(type = FieldType.U_16)
+    protected CommunicationsStandard communicationsStandard;
+    @LlrpParam(required = false)
+    protected UHFBandCapabilities uHFBandCapabilities;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public RegulatoryCapabilities countryCode(int countryCode) {
+        this.countryCode = countryCode;
+        return this;
+    }
+
+    public int countryCode() {
+        return countryCode;
+    }
+
+    public RegulatoryCapabilities communicationsStandard(CommunicationsStandard communicationsStandard) {
+        this.communicationsStandard = communicationsStandard;
+        return this;
+    }
+
+    public CommunicationsStandard communicationsStandard() {
+        return communicationsStandard;
+    }
+
+    public RegulatoryCapabilities uhfBandCapabilities(UHFBandCapabilities uHFBandCapabilities) {
+        this.uHFBandCapabilities = uHFBandCapabilities;
+        return this;
+    }
+
+    public UHFBandCapabilities uhfBandCapabilities() {
+        if (uHFBandCapabilities == null) {
+            uHFBandCapabilities = new UHFBandCapabilities();
+        }
+        return uHFBandCapabilities;
+    }
+
+    public UHFBandCapabilities getUHFBandCapabilities() {
+        return uHFBandCapabilities;
+    }
+
+    public RegulatoryCapabilities custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.countryCode, this.communicationsStandard, this.uHFBandCapabilities, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        RegulatoryCapabilities other;
+        other = ((RegulatoryCapabilities) obj);
+        if (!Objects.equals(this.countryCode, other.countryCode)) {
+            return false;
+        }
+        if (!Objects.equals(this.communicationsStandard, other.communicationsStandard)) {
+            return false;
+        }
+        if (!Objects.equals(this.uHFBandCapabilities, other.uHFBandCapabilities)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
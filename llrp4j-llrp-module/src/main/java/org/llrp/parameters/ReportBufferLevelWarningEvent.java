@@ -0,0 +1,73 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>A Reader can warn the Client that the Reader's report buffer is
+ * filling up. A Client can act upon this warning by requesting report
+ * data from the Reader, thereby freeing the Reader's report memory
+ * resources.
+ * </p>
+ * <p>
+ * A Reader
+ * <b>MAY</b>
+ * send a report buffer level warning event whenever the Reader senses
+ * that its report memory resources are running short. The buffer
+ * level at which a warning is reported is Reader implementation
+ * dependent. A Client
+ * <b>MAY</b>
+ * act upon a report buffer level warning event by requesting report
+ * data from the Reader and thereby free report memory resources in
+ * the Reader.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=89&amp;view=fit">LLRP Specification Section 13.2.6.5</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=149&amp;view=fit">LLRP Specification Section 16.2.7.6.4</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 250)
+@LlrpProperties({
+    "reportBufferPercentageFull"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class ReportBufferLevelWarningEvent {
+    @LlrpField(type = FieldType.U_8)
+    protected int reportBufferPercentageFull;
+
+    public ReportBufferLevelWarningEvent reportBufferPercentageFull(int reportBufferPercentageFull) {
+        this.reportBufferPercentageFull = reportBufferPercentageFull;
+        return this;
+    }
+
+    public int reportBufferPercentageFull() {
+        return reportBufferPercentageFull;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.reportBufferPercentageFull);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        ReportBufferLevelWarningEvent other;
+        other = ((ReportBufferLevelWarningEvent) obj);
+        if (!Objects.equals(this.reportBufferPercentageFull, other.reportBufferPercentageFull)) {
+            return false;
+        }
+        return true;
+    }
+}
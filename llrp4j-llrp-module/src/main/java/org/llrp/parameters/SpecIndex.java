@@ -0,0 +1,60 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the SpecIndex information. The SpecIndex
+ * indicates the item within the ROSpec that was being executed at the
+ * time the tag was observed.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=82&amp;view=fit">LLRP Specification Section 13.2.3.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=145&amp;view=fit">LLRP Specification Section 16.2.7.3.4</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 14)
+@LlrpProperties({
+    "specIndex"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class SpecIndex {
+    @LlrpField(type = FieldType.U_16)
+    protected int specIndex;
+
+    public SpecIndex specIndex(int specIndex) {
+        this.specIndex = specIndex;
+        return this;
+    }
+
+    public int specIndex() {
+        return specIndex;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.specIndex);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        SpecIndex other;
+        other = ((SpecIndex) obj);
+        if (!Objects.equals(this.specIndex, other.specIndex)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,77 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter carries the ROSpec event details. The EventType
+ * could be start or end of the ROSpec.
+ * </p>
+ * <p>ROSpecID: This is the ID of the ROSpec that started, ended or
+ * got preempted.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=89&amp;view=fit">LLRP Specification Section 13.2.6.4</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=149&amp;view=fit">LLRP Specification Section 16.2.7.6.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 356)
+@LlrpProperties({
+    "rOSpecID",
+    "loopCount"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class SpecLoopEvent {
+    @LlrpField(type = FieldType.U_32)
+    protected long rOSpecID;
+    @LlrpField(type = FieldType.U_32)
+    protected long loopCount;
+
+    public SpecLoopEvent roSpecID(long rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public long roSpecID() {
+        return rOSpecID;
+    }
+
+    public SpecLoopEvent loopCount(long loopCount) {
+        this.loopCount = loopCount;
+        return this;
+    }
+
+    public long loopCount() {
+        return loopCount;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.rOSpecID, this.loopCount);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        SpecLoopEvent other;
+        other = ((SpecLoopEvent) obj);
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.loopCount, other.loopCount)) {
+            return false;
+        }
+        return true;
+    }
+}
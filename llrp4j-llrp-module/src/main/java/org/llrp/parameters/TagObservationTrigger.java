@@ -0,0 +1,120 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.enumerations.TagObservationTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>Describes the boundary (stop) condition that is based on tag
+ * observations.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=58&amp;view=fit">LLRP Specification Section 10.2.2.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=137&amp;view=fit">LLRP Specification Section 16.2.4.2.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 185)
+@LlrpProperties({
+    "triggerType",
+    "numberOfTags",
+    "numberOfAttempts",
+    "t",
+    "timeout"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class TagObservationTrigger {
+    @LlrpField(type = FieldType.U_8, reservedAfter = 8)
+    protected TagObservationTriggerType triggerType;
+    @LlrpField(type = FieldType.U_16)
+    protected int numberOfTags;
+    @LlrpField(type = FieldType.U_16)
+    protected int numberOfAttempts;
+    @LlrpField(type = FieldType.U_16)
+    protected int t;
+    @LlrpField(type = FieldType.U_32)
+    protected long timeout;
+
+    public TagObservationTrigger triggerType(TagObservationTriggerType triggerType) {
+        this.triggerType = triggerType;
+        return this;
+    }
+
+    public TagObservationTriggerType triggerType() {
+        return triggerType;
+    }
+
+    public TagObservationTrigger numberOfTags(int numberOfTags) {
+        this.numberOfTags = numberOfTags;
+        return this;
+    }
+
+    public int numberOfTags() {
+        return numberOfTags;
+    }
+
+    public TagObservationTrigger numberOfAttempts(int numberOfAttempts) {
+        this.numberOfAttempts = numberOfAttempts;
+        return this;
+    }
+
+    public int numberOfAttempts() {
+        return numberOfAttempts;
+    }
+
+    public TagObservationTrigger t(int t) {
+        this.t = t;
+        return this;
+    }
+
+    public int t() {
+        return t;
+    }
+
+    public TagObservationTrigger timeout(long timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public long timeout() {
+        return timeout;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.triggerType, this.numberOfTags, this.numberOfAttempts, this.t, this.timeout);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        TagObservationTrigger other;
+        other = ((TagObservationTrigger) obj);
+        if (!Objects.equals(this.triggerType, other.triggerType)) {
+            return false;
+        }
+        if (!Objects.equals(this.numberOfTags, other.numberOfTags)) {
+            return false;
+        }
+        if (!Objects.equals(this.numberOfAttempts, other.numberOfAttempts)) {
+            return false;
+        }
+        if (!Objects.equals(this.t, other.t)) {
+            return false;
+        }
+        if (!Objects.equals(this.timeout, other.timeout)) {
+            return false;
+        }
+        return true;
+    }
+}
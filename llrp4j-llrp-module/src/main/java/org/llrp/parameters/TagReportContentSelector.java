@@ -0,0 +1,221 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolEPCMemorySelector;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter is used to configure the contents that are of
+ * interest in TagReportData. If enabled, the field is reported along
+ * with the tag data in the TagReportData.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=78&amp;view=fit">LLRP Specification Section 13.2.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=142&amp;view=fit">LLRP Specification Section 16.2.7.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 238)
+@LlrpProperties({
+    "enableROSpecID",
+    "enableSpecIndex",
+    "enableInventoryParameterSpecID",
+    "enableAntennaID",
+    "enableChannelIndex",
+    "enablePeakRSSI",
+    "enableFirstSeenTimestamp",
+    "enableLastSeenTimestamp",
+    "enableTagSeenCount",
+    "enableAccessSpecID",
+    "airProtocolEPCMemorySelector"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class TagReportContentSelector {
+    @LlrpField(type = FieldType.U_1)
+    protected boolean enableROSpecID;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean enableSpecIndex;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean enableInventoryParameterSpecID;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean enableAntennaID;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean enableChannelIndex;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean enablePeakRSSI;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean enableFirstSeenTimestamp;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean enableLastSeenTimestamp;
+    @LlrpField(type = FieldType.U_1)
+    protected boolean enableTagSeenCount;
+    @LlrpField(type = FieldType.U_1, reservedAfter = 6)
+    protected boolean enableAccessSpecID;
+    @LlrpParam(required = false)
+    protected List<AirProtocolEPCMemorySelector> airProtocolEPCMemorySelector;
+
+    public TagReportContentSelector enableROSpecID(boolean enableROSpecID) {
+        this.enableROSpecID = enableROSpecID;
+        return this;
+    }
+
+    public boolean enableROSpecID() {
+        return enableROSpecID;
+    }
+
+    public TagReportContentSelector enableSpecIndex(boolean enableSpecIndex) {
+        this.enableSpecIndex = enableSpecIndex;
+        return this;
+    }
+
+    public boolean enableSpecIndex() {
+        return enableSpecIndex;
+    }
+
+    public TagReportContentSelector enableInventoryParameterSpecID(boolean enableInventoryParameterSpecID) {
+        this.enableInventoryParameterSpecID = enableInventoryParameterSpecID;
+        return this;
+    }
+
+    public boolean enableInventoryParameterSpecID() {
+        return enableInventoryParameterSpecID;
+    }
+
+    public TagReportContentSelector enableAntennaID(boolean enableAntennaID) {
+        this.enableAntennaID = enableAntennaID;
+        return this;
+    }
+
+    public boolean enableAntennaID() {
+        return enableAntennaID;
+    }
+
+    public TagReportContentSelector enableChannelIndex(boolean enableChannelIndex) {
+        this.enableChannelIndex = enableChannelIndex;
+        return this;
+    }
+
+    public boolean enableChannelIndex() {
+        return enableChannelIndex;
+    }
+
+    public TagReportContentSelector enablePeakRSSI(boolean enablePeakRSSI) {
+        this.enablePeakRSSI = enablePeakRSSI;
+        return this;
+    }
+
+    public boolean enablePeakRSSI() {
+        return enablePeakRSSI;
+    }
+
+    public TagReportContentSelector enableFirstSeenTimestamp(boolean enableFirstSeenTimestamp) {
+        this.enableFirstSeenTimestamp = enableFirstSeenTimestamp;
+        return this;
+    }
+
+    public boolean enableFirstSeenTimestamp() {
+        return enableFirstSeenTimestamp;
+    }
+
+    public TagReportContentSelector enableLastSeenTimestamp(boolean enableLastSeenTimestamp) {
+        this.enableLastSeenTimestamp = enableLastSeenTimestamp;
+        return this;
+    }
+
+    public boolean enableLastSeenTimestamp() {
+        return enableLastSeenTimestamp;
+    }
+
+    public TagReportContentSelector enableTagSeenCount(boolean enableTagSeenCount) {
+        this.enableTagSeenCount = enableTagSeenCount;
+        return this;
+    }
+
+    public boolean enableTagSeenCount() {
+        return enableTagSeenCount;
+    }
+
+    public TagReportContentSelector enableAccessSpecID(boolean enableAccessSpecID) {
+        this.enableAccessSpecID = enableAccessSpecID;
+        return this;
+    }
+
+    public boolean enableAccessSpecID() {
+        return enableAccessSpecID;
+    }
+
+    public TagReportContentSelector airProtocolEPCMemorySelector(List<AirProtocolEPCMemorySelector> airProtocolEPCMemorySelector) {
+        this.airProtocolEPCMemorySelector = airProtocolEPCMemorySelector;
+        return this;
+    }
+
+    public List<AirProtocolEPCMemorySelector> airProtocolEPCMemorySelector() {
+        if (airProtocolEPCMemorySelector == null) {
+            airProtocolEPCMemorySelector = new ArrayList<AirProtocolEPCMemorySelector>();
+        }
+        return airProtocolEPCMemorySelector;
+    }
+
+    public List<AirProtocolEPCMemorySelector> getAirProtocolEPCMemorySelector() {
+        return airProtocolEPCMemorySelector;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.enableROSpecID, this.enableSpecIndex, this.enableInventoryParameterSpecID, this.enableAntennaID, this.enableChannelIndex, this.enablePeakRSSI, this.enableFirstSeenTimestamp, this.enableLastSeenTimestamp, this.enableTagSeenCount, this.enableAccessSpecID, this.airProtocolEPCMemorySelector);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        TagReportContentSelector other;
+        other = ((TagReportContentSelector) obj);
+        if (!Objects.equals(this.enableROSpecID, other.enableROSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.enableSpecIndex, other.enableSpecIndex)) {
+            return false;
+        }
+        if (!Objects.equals(this.enableInventoryParameterSpecID, other.enableInventoryParameterSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.enableAntennaID, other.enableAntennaID)) {
+            return false;
+        }
+        if (!Objects.equals(this.enableChannelIndex, other.enableChannelIndex)) {
+            return false;
+        }
+        if (!Objects.equals(this.enablePeakRSSI, other.enablePeakRSSI)) {
+            return false;
+        }
+        if (!Objects.equals(this.enableFirstSeenTimestamp, other.enableFirstSeenTimestamp)) {
+            return false;
+        }
+        if (!Objects.equals(this.enableLastSeenTimestamp, other.enableLastSeenTimestamp)) {
+            return false;
+        }
+        if (!Objects.equals(this.enableTagSeenCount, other.enableTagSeenCount)) {
+            return false;
+        }
+        if (!Objects.equals(this.enableAccessSpecID, other.enableAccessSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.airProtocolEPCMemorySelector, other.airProtocolEPCMemorySelector)) {
+            return false;
+        }
+        return true;
+    }
+}
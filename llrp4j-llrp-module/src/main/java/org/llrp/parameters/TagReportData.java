@@ -0,0 +1,492 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AccessCommandOpSpecResult;
+import org.llrp.interfaces.AirProtocolTagData;
+import org.llrp.interfaces.EPCParameter;
+
+
+/**
+ * 
+ * <p>This report parameter is generated per tag per accumulation
+ * scope. The only mandatory portion of this parameter is the EPCData
+ * parameter. If there was an access operation performed on the tag,
+ * the results of the OpSpecs are mandatory in the report. The other
+ * sub-parameters in this report are optional. LLRP provides three
+ * ways to make the tag reporting efficient:
+ * </p>
+ * <ol><li><p>Allow parameters to be enabled or disabled via
+ * TagReportContentSelector (section 13.2.1.1) in TagReportSpec.
+ * </p>
+ * </li><li><p>
+ * If an optional parameter is enabled, and is absent in the report,
+ * the Client
+ * <b>SHALL</b>
+ * assume that the value is identical to the last parameter of the
+ * same type received. For example, this allows the Readers to not
+ * send a parameter in the report whose value has not changed since
+ * the last time it was sent by the Reader.
+ * </p>
+ * </li><li><p>Allow accumulation of tag reports. See next section for
+ * details of accumulation.
+ * </p>
+ * </li>
+ * </ol>
+ * <p>
+ * A Reader
+ * <b>MAY</b>
+ * accumulate multiple tag reports into a single tag report.. If a
+ * Reader accumulates, the Reader
+ * <b>SHALL</b>
+ * follow the accumulation rules specified in this section. The
+ * following specifies the rules for accumulating multiple tag
+ * observations into a single TagReportData:
+ * </p>
+ * <ul><li><p>EPCData:</p>
+ * </li><ul><li><p>
+ * The Reader
+ * <b>SHALL</b>
+ * not accumulate tag reports that do not have the same EPCData
+ * value.
+ * </p>
+ * </li>
+ * </ul><li><p>OpSpecResultList:</p>
+ * </li><ul><li><p>
+ * The Reader
+ * <b>SHALL</b>
+ * not accumulate tag reports that do not have the same value for
+ * the OpSpec results in the OpSpecResultList.
+ * </p>
+ * </li>
+ * </ul><li><p>SpecID, SpecIndex, InventoryParameterSpecID, AntennaID,
+ * AirProtocolTagData, AccessSpecID:
+ * </p>
+ * </li><ul><li><p>
+ * These fields are optional, and their reporting can be enabled by
+ * the Client. If the Client has enabled one or more fields listed
+ * above, the Reader
+ * <b>SHALL</b>
+ * not accumulate tag reports that do not have the same value for
+ * all the enabled fields.
+ * </p>
+ * </li>
+ * </ul><li><p>FirstSeenTimestamp, LastSeenTimestamp, PeakRSSI,
+ * TagSeenCount, ChannelIndex
+ * </p>
+ * </li><ul><li><p>These fields are optional, and their reporting can be
+ * enabled by the Client. If the field is enabled, the Reader sets
+ * the value of these fields as follows:
+ * </p>
+ * </li><ul><li><p>
+ * FirstSeenTimestamp: The Reader
+ * <b>SHALL</b>
+ * set it to the time of the first observation amongst the tag
+ * reports that get accumulated in the TagReportData.
+ * </p>
+ * </li><li><p>
+ * LastSeenTimestamp: The Reader
+ * <b>SHALL</b>
+ * set it to the time of the last observation amongst the tag
+ * reports that get accumulated in the TagReportData.
+ * </p>
+ * </li><li><p>
+ * PeakRSSI: The Reader
+ * <b>SHALL</b>
+ * set it to the maximum RSSI value observed amongst the tag
+ * reports that get accumulated in the TagReportData.
+ * </p>
+ * </li><li><p>
+ * ChannelIndex: The Reader
+ * <b>MAY</b>
+ * set it to the index of the first channel the tag was seen.
+ * </p>
+ * </li><li><p>
+ * TagSeenCount: The Reader
+ * <b>SHALL</b>
+ * set it to the number of tag reports that get accumulated in the
+ * TagReportData.
+ * </p>
+ * </li>
+ * </ul>
+ * </ul>
+ * </ul>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=80&amp;view=fit">LLRP Specification Section 13.2.3</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=143&amp;view=fit">LLRP Specification Section 16.2.7.3</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 240)
+@LlrpProperties({
+    "ePCParameter",
+    "rOSpecID",
+    "specIndex",
+    "inventoryParameterSpecID",
+    "antennaID",
+    "peakRSSI",
+    "channelIndex",
+    "firstSeenTimestampUTC",
+    "firstSeenTimestampUptime",
+    "lastSeenTimestampUTC",
+    "lastSeenTimestampUptime",
+    "tagSeenCount",
+    "airProtocolTagData",
+    "accessSpecID",
+    "accessCommandOpSpecResult",
+    "custom"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class TagReportData {
+    @LlrpParam(required = true)
+    protected EPCParameter ePCParameter;
+    @LlrpParam(required = false)
+    protected ROSpecID rOSpecID;
+    @LlrpParam(required = false)
+    protected SpecIndex specIndex;
+    @LlrpParam(required = false)
+    protected InventoryParameterSpecID inventoryParameterSpecID;
+    @LlrpParam(required = false)
+    protected AntennaID antennaID;
+    @LlrpParam(required = false)
+    protected PeakRSSI peakRSSI;
+    @LlrpParam(required = false)
+    protected ChannelIndex channelIndex;
+    @LlrpParam(required = false)
+    protected FirstSeenTimestampUTC firstSeenTimestampUTC;
+    @LlrpParam(required = false)
+    protected FirstSeenTimestampUptime firstSeenTimestampUptime;
+    @LlrpParam(required = false)
+    protected LastSeenTimestampUTC lastSeenTimestampUTC;
+    @LlrpParam(required = false)
+    protected LastSeenTimestampUptime lastSeenTimestampUptime;
+    @LlrpParam(required = false)
+    protected TagSeenCount tagSeenCount;
+    @LlrpParam(required = false)
+    protected List<AirProtocolTagData> airProtocolTagData;
+    @LlrpParam(required = false)
+    protected AccessSpecID accessSpecID;
+    @LlrpParam(required = false)
+    protected List<AccessCommandOpSpecResult> accessCommandOpSpecResult;
+    @LlrpParam(required = false)
+    protected List<Custom> custom;
+
+    public TagReportData epcParameter(EPCParameter ePCParameter) {
+        this.ePCParameter = ePCParameter;
+        return this;
+    }
+
+    public EPCParameter epcParameter() {
+        return ePCParameter;
+    }
+
+    public TagReportData roSpecID(ROSpecID rOSpecID) {
+        this.rOSpecID = rOSpecID;
+        return this;
+    }
+
+    public ROSpecID roSpecID() {
+        if (rOSpecID == null) {
+            rOSpecID = new ROSpecID();
+        }
+        return rOSpecID;
+    }
+
+    public ROSpecID getROSpecID() {
+        return rOSpecID;
+    }
+
+    public TagReportData specIndex(SpecIndex specIndex) {
+        this.specIndex = specIndex;
+        return this;
+    }
+
+    public SpecIndex specIndex() {
+        if (specIndex == null) {
+            specIndex = new SpecIndex();
+        }
+        return specIndex;
+    }
+
+    public SpecIndex getSpecIndex() {
+        return specIndex;
+    }
+
+    public TagReportData inventoryParameterSpecID(InventoryParameterSpecID inventoryParameterSpecID) {
+        this.inventoryParameterSpecID = inventoryParameterSpecID;
+        return this;
+    }
+
+    public InventoryParameterSpecID inventoryParameterSpecID() {
+        if (inventoryParameterSpecID == null) {
+            inventoryParameterSpecID = new InventoryParameterSpecID();
+        }
+        return inventoryParameterSpecID;
+    }
+
+    public InventoryParameterSpecID getInventoryParameterSpecID() {
+        return inventoryParameterSpecID;
+    }
+
+    public TagReportData antennaID(AntennaID antennaID) {
+        this.antennaID = antennaID;
+        return this;
+    }
+
+    public AntennaID antennaID() {
+        if (antennaID == null) {
+            antennaID = new AntennaID();
+        }
+        return antennaID;
+    }
+
+    public AntennaID getAntennaID() {
+        return antennaID;
+    }
+
+    public TagReportData peakRSSI(PeakRSSI peakRSSI) {
+        this.peakRSSI = peakRSSI;
+        return this;
+    }
+
+    public PeakRSSI peakRSSI() {
+        if (peakRSSI == null) {
+            peakRSSI = new PeakRSSI();
+        }
+        return peakRSSI;
+    }
+
+    public PeakRSSI getPeakRSSI() {
+        return peakRSSI;
+    }
+
+    public TagReportData channelIndex(ChannelIndex channelIndex) {
+        this.channelIndex = channelIndex;
+        return this;
+    }
+
+    public ChannelIndex channelIndex() {
+        if (channelIndex == null) {
+            channelIndex = new ChannelIndex();
+        }
+        return channelIndex;
+    }
+
+    public ChannelIndex getChannelIndex() {
+        return channelIndex;
+    }
+
+    public TagReportData firstSeenTimestampUTC(FirstSeenTimestampUTC firstSeenTimestampUTC) {
+        this.firstSeenTimestampUTC = firstSeenTimestampUTC;
+        return this;
+    }
+
+    public FirstSeenTimestampUTC firstSeenTimestampUTC() {
+        if (firstSeenTimestampUTC == null) {
+            firstSeenTimestampUTC = new FirstSeenTimestampUTC();
+        }
+        return firstSeenTimestampUTC;
+    }
+
+    public FirstSeenTimestampUTC getFirstSeenTimestampUTC() {
+        return firstSeenTimestampUTC;
+    }
+
+    public TagReportData firstSeenTimestampUptime(FirstSeenTimestampUptime firstSeenTimestampUptime) {
+        this.firstSeenTimestampUptime = firstSeenTimestampUptime;
+        return this;
+    }
+
+    public FirstSeenTimestampUptime firstSeenTimestampUptime() {
+        if (firstSeenTimestampUptime == null) {
+            firstSeenTimestampUptime = new FirstSeenTimestampUptime();
+        }
+        return firstSeenTimestampUptime;
+    }
+
+    public FirstSeenTimestampUptime getFirstSeenTimestampUptime() {
+        return firstSeenTimestampUptime;
+    }
+
+    public TagReportData lastSeenTimestampUTC(LastSeenTimestampUTC lastSeenTimestampUTC) {
+        this.lastSeenTimestampUTC = lastSeenTimestampUTC;
+        return this;
+    }
+
+    public LastSeenTimestampUTC lastSeenTimestampUTC() {
+        if (lastSeenTimestampUTC == null) {
+            lastSeenTimestampUTC = new LastSeenTimestampUTC();
+        }
+        return lastSeenTimestampUTC;
+    }
+
+    public LastSeenTimestampUTC getLastSeenTimestampUTC() {
+        return lastSeenTimestampUTC;
+    }
+
+    public TagReportData lastSeenTimestampUptime(LastSeenTimestampUptime lastSeenTimestampUptime) {
+        this.lastSeenTimestampUptime = lastSeenTimestampUptime;
+        return this;
+    }
+
+    public LastSeenTimestampUptime lastSeenTimestampUptime() {
+        if (lastSeenTimestampUptime == null) {
+            lastSeenTimestampUptime = new LastSeenTimestampUptime();
+        }
+        return lastSeenTimestampUptime;
+    }
+
+    public LastSeenTimestampUptime getLastSeenTimestampUptime() {
+        return lastSeenTimestampUptime;
+    }
+
+    public TagReportData tagSeenCount(TagSeenCount tagSeenCount) {
+        this.tagSeenCount = tagSeenCount;
+        return this;
+    }
+
+    public TagSeenCount tagSeenCount() {
+        if (tagSeenCount == null) {
+            tagSeenCount = new TagSeenCount();
+        }
+        return tagSeenCount;
+    }
+
+    public TagSeenCount getTagSeenCount() {
+        return tagSeenCount;
+    }
+
+    public TagReportData airProtocolTagData(List<AirProtocolTagData> airProtocolTagData) {
+        this.airProtocolTagData = airProtocolTagData;
+        return this;
+    }
+
+    public List<AirProtocolTagData> airProtocolTagData() {
+        if (airProtocolTagData == null) {
+            airProtocolTagData = new ArrayList<AirProtocolTagData>();
+        }
+        return airProtocolTagData;
+    }
+
+    public List<AirProtocolTagData> getAirProtocolTagData() {
+        return airProtocolTagData;
+    }
+
+    public TagReportData accessSpecID(AccessSpecID accessSpecID) {
+        this.accessSpecID = accessSpecID;
+        return this;
+    }
+
+    public AccessSpecID accessSpecID() {
+        if (accessSpecID == null) {
+            accessSpecID = new AccessSpecID();
+        }
+        return accessSpecID;
+    }
+
+    public AccessSpecID getAccessSpecID() {
+        return accessSpecID;
+    }
+
+    public TagReportData accessCommandOpSpecResult(List<AccessCommandOpSpecResult> accessCommandOpSpecResult) {
+        this.accessCommandOpSpecResult = accessCommandOpSpecResult;
+        return this;
+    }
+
+    public List<AccessCommandOpSpecResult> accessCommandOpSpecResult() {
+        if (accessCommandOpSpecResult == null) {
+            accessCommandOpSpecResult = new ArrayList<AccessCommandOpSpecResult>();
+        }
+        return accessCommandOpSpecResult;
+    }
+
+    public List<AccessCommandOpSpecResult> getAccessCommandOpSpecResult() {
+        return accessCommandOpSpecResult;
+    }
+
+    public TagReportData custom(List<Custom> custom) {
+        this.custom = custom;
+        return this;
+    }
+
+    public List<Custom> custom() {
+        if (custom == null) {
+            custom = new ArrayList<Custom>();
+        }
+        return custom;
+    }
+
+    public List<Custom> getCustom() {
+        return custom;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.ePCParameter, this.rOSpecID, this.specIndex, this.inventoryParameterSpecID, this.antennaID, this.peakRSSI, this.channelIndex, this.firstSeenTimestampUTC, this.firstSeenTimestampUptime, this.lastSeenTimestampUTC, this.lastSeenTimestampUptime, this.tagSeenCount, this.airProtocolTagData, this.accessSpecID, this.accessCommandOpSpecResult, this.custom);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        TagReportData other;
+        other = ((TagReportData) obj);
+        if (!Objects.equals(this.ePCParameter, other.ePCParameter)) {
+            return false;
+        }
+        if (!Objects.equals(this.rOSpecID, other.rOSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.specIndex, other.specIndex)) {
+            return false;
+        }
+        if (!Objects.equals(this.inventoryParameterSpecID, other.inventoryParameterSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.antennaID, other.antennaID)) {
+            return false;
+        }
+        if (!Objects.equals(this.peakRSSI, other.peakRSSI)) {
+            return false;
+        }
+        if (!Objects.equals(this.channelIndex, other.channelIndex)) {
+            return false;
+        }
+        if (!Objects.equals(this.firstSeenTimestampUTC, other.firstSeenTimestampUTC)) {
+            return false;
+        }
+        if (!Objects.equals(this.firstSeenTimestampUptime, other.firstSeenTimestampUptime)) {
+            return false;
+        }
+        if (!Objects.equals(this.lastSeenTimestampUTC, other.lastSeenTimestampUTC)) {
+            return false;
+        }
+        if (!Objects.equals(this.lastSeenTimestampUptime, other.lastSeenTimestampUptime)) {
+            return false;
+        }
+        if (!Objects.equals(this.tagSeenCount, other.tagSeenCount)) {
+            return false;
+        }
+        if (!Objects.equals(this.airProtocolTagData, other.airProtocolTagData)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessSpecID, other.accessSpecID)) {
+            return false;
+        }
+        if (!Objects.equals(this.accessCommandOpSpecResult, other.accessCommandOpSpecResult)) {
+            return false;
+        }
+        if (!Objects.equals(this.custom, other.custom)) {
+            return false;
+        }
+        return true;
+    }
+}
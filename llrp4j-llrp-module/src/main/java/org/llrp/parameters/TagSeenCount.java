@@ -0,0 +1,62 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>
+ * This parameter carries the tag seen count information. If
+ * TagSeenCount &gt; 65535 for the report period, the reader
+ * <b>SHALL</b>
+ * report 65535.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=84&amp;view=fit">LLRP Specification Section 13.2.3.13</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=146&amp;view=fit">LLRP Specification Section 16.2.7.3.13</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 8)
+@LlrpProperties({
+    "tagCount"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class TagSeenCount {
+    @LlrpField(type = FieldType.U_16)
+    protected int tagCount;
+
+    public TagSeenCount tagCount(int tagCount) {
+        this.tagCount = tagCount;
+        return this;
+    }
+
+    public int tagCount() {
+        return tagCount;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.tagCount);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        TagSeenCount other;
+        other = ((TagSeenCount) obj);
+        if (!Objects.equals(this.tagCount, other.tagCount)) {
+            return false;
+        }
+        return true;
+    }
+}
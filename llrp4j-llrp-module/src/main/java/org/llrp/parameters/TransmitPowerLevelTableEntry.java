@@ -0,0 +1,77 @@
+
+package org.llrp.parameters;
+
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>This parameter specifies the index into the
+ * TransmitPowerLevelTable for a transmit power value. The transmit
+ * power is expressed in dBm*100 to allow fractional dBm
+ * representation and is the conducted power at the connector of the
+ * Reader.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=49&amp;view=fit">LLRP Specification Section 9.2.4.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=134&amp;view=fit">LLRP Specification Section 16.2.3.4.1.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 145)
+@LlrpProperties({
+    "index",
+    "transmitPowerValue"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class TransmitPowerLevelTableEntry {
+    @LlrpField(type = FieldType.U_16)
+    protected int index;
+    @LlrpField(type = FieldType.S_16)
+    protected int transmitPowerValue;
+
+    public TransmitPowerLevelTableEntry index(int index) {
+        this.index = index;
+        return this;
+    }
+
+    public int index() {
+        return index;
+    }
+
+    public TransmitPowerLevelTableEntry transmitPowerValue(int transmitPowerValue) {
+        this.transmitPowerValue = transmitPowerValue;
+        return this;
+    }
+
+    public int transmitPowerValue() {
+        return transmitPowerValue;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.index, this.transmitPowerValue);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        TransmitPowerLevelTableEntry other;
+        other = ((TransmitPowerLevelTableEntry) obj);
+        if (!Objects.equals(this.index, other.index)) {
+            return false;
+        }
+        if (!Objects.equals(this.transmitPowerValue, other.transmitPowerValue)) {
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,112 @@
+
+package org.llrp.parameters;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParam;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.AirProtocolUHFRFModeTable;
+
+
+/**
+ * 
+ * <p>Describes the frequency, power, and air-protocol capabilities
+ * for the regulatory region.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=49&amp;view=fit">LLRP Specification Section 9.2.4.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=134&amp;view=fit">LLRP Specification Section 16.2.3.4.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 144)
+@LlrpProperties({
+    "transmitPowerLevelTableEntry",
+    "frequencyInformation",
+    "airProtocolUHFRFModeTable"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class UHFBandCapabilities {
+    @LlrpParam(required = true)
+    protected List<TransmitPowerLevelTableEntry> transmitPowerLevelTableEntry;
+    @LlrpParam(required = true)
+    protected FrequencyInformation frequencyInformation;
+    @LlrpParam(required = true)
+    protected List<AirProtocolUHFRFModeTable> airProtocolUHFRFModeTable;
+
+    public UHFBandCapabilities transmitPowerLevelTableEntry(List<TransmitPowerLevelTableEntry> transmitPowerLevelTableEntry) {
+        this.transmitPowerLevelTableEntry = transmitPowerLevelTableEntry;
+        return this;
+    }
+
+    public List<TransmitPowerLevelTableEntry> transmitPowerLevelTableEntry() {
+        if (transmitPowerLevelTableEntry == null) {
+            transmitPowerLevelTableEntry = new ArrayList<TransmitPowerLevelTableEntry>();
+        }
+        return transmitPowerLevelTableEntry;
+    }
+
+    public List<TransmitPowerLevelTableEntry> getTransmitPowerLevelTableEntry() {
+        return transmitPowerLevelTableEntry;
+    }
+
+    public UHFBandCapabilities frequencyInformation(FrequencyInformation frequencyInformation) {
+        this.frequencyInformation = frequencyInformation;
+        return this;
+    }
+
+    public FrequencyInformation frequencyInformation() {
+        if (frequencyInformation == null) {
+            frequencyInformation = new FrequencyInformation();
+        }
+        return frequencyInformation;
+    }
+
+    public FrequencyInformation getFrequencyInformation() {
+        return frequencyInformation;
+    }
+
+    public UHFBandCapabilities airProtocolUHFRFModeTable(List<AirProtocolUHFRFModeTable> airProtocolUHFRFModeTable) {
+        this.airProtocolUHFRFModeTable = airProtocolUHFRFModeTable;
+        return this;
+    }
+
+    public List<AirProtocolUHFRFModeTable> airProtocolUHFRFModeTable() {
+        if (airProtocolUHFRFModeTable == null) {
+            airProtocolUHFRFModeTable = new ArrayList<AirProtocolUHFRFModeTable>();
+        }
+        return airProtocolUHFRFModeTable;
+    }
+
+    public List<AirProtocolUHFRFModeTable> getAirProtocolUHFRFModeTable() {
+        return airProtocolUHFRFModeTable;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.transmitPowerLevelTableEntry, this.frequencyInformation, this.airProtocolUHFRFModeTable);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        UHFBandCapabilities other;
+        other = ((UHFBandCapabilities) obj);
+        if (!Objects.equals(this.transmitPowerLevelTableEntry, other.transmitPowerLevelTableEntry)) {
+            return false;
+        }
+        if (!Objects.equals(this.frequencyInformation, other.frequencyInformation)) {
+            return false;
+        }
+        if (!Objects.equals(this.airProtocolUHFRFModeTable, other.airProtocolUHFRFModeTable)) {
+            return false;
+        }
+        return true;
+    }
+}
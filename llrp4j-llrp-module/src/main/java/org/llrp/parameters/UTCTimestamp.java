@@ -0,0 +1,71 @@
+
+package org.llrp.parameters;
+
+import java.math.BigInteger;
+import java.util.Objects;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpNamespace;
+import net.enilink.llrp4j.annotations.LlrpParameterType;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import org.llrp.interfaces.Timestamp;
+import org.llrp.ltk.schema.core.FieldFormat;
+import org.llrp.ltk.schema.core.FieldType;
+
+
+/**
+ * 
+ * <p>
+ * The timestamps in LLRP messages or parameters can be either the
+ * uptime or the UTC time [UTC]. If a Reader has an UTC clock, all
+ * timestamps reported by the Reader
+ * <b>SHALL</b>
+ * use an UTC timestamp parameter. If a Reader has no UTC clock
+ * capability, all timestamps reported by the Reader.
+ * <b>SHALL</b>
+ * use the uptime parameter.
+ * </p>
+ * 
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=37&amp;view=fit">LLRP Specification Section 7.1.3.1.1.1</a>
+ * @see <a href="http://www.epcglobalinc.org/standards/llrp/llrp_1_0_1-standard-20070813.pdf#page=131&amp;view=fit">LLRP Specification Section 16.2.2.1</a>
+ * 
+ * 
+ */
+@LlrpParameterType(typeNum = 128)
+@LlrpProperties({
+    "microseconds"
+})
+@LlrpNamespace("http://www.llrp.org/ltk/schema/core/encoding/xml/1.0")
+public class UTCTimestamp
+    implements Timestamp
+{
+    @LlrpField(type = FieldType.U_64, format = FieldFormat.DATETIME)
+    protected BigInteger microseconds;
+
+    public UTCTimestamp microseconds(BigInteger microseconds) {
+        this.microseconds = microseconds;
+        return this;
+    }
+
+    public BigInteger microseconds() {
+        return microseconds;
+    }
+
+    public int hashCode() {
+        return Objects.hash(this.microseconds);
+    }
+
+    public boolean equals(Object obj) {
+        if (obj == null) {
+            return false;
+        }
+        if (obj.getClass()!= getClass()) {
+            return false;
+        }
+        UTCTimestamp other;
+        other = ((UTCTimestamp) obj);
+        if (!Objects.equals(this.microseconds, other.microseconds)) {
+            return false;
+        }
+        return true;
+    }
+}
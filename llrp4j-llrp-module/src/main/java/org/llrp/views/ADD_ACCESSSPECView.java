@@ -0,0 +1,30 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class ADD_ACCESSSPECView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 40;
+    private final static int[] FIELDS = new int[] { };
+    private AccessSpecView accessSpec;
+
+    public ADD_ACCESSSPECView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ADD_ACCESSSPECView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public AccessSpecView accessSpec() {
+        if (accessSpec == null) {
+            accessSpec = new AccessSpecView();
+        }
+        return findParameter(accessSpec, 0, 207);
+    }
+}
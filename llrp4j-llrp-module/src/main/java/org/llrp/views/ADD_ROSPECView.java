@@ -0,0 +1,30 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class ADD_ROSPECView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 20;
+    private final static int[] FIELDS = new int[] { };
+    private ROSpecView roSpec;
+
+    public ADD_ROSPECView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ADD_ROSPECView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ROSpecView roSpec() {
+        if (roSpec == null) {
+            roSpec = new ROSpecView();
+        }
+        return findParameter(roSpec, 0, 177);
+    }
+}
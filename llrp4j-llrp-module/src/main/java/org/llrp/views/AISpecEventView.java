@@ -0,0 +1,45 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.AISpecEventType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class AISpecEventView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 254;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_16, 0, 0)};
+    private final static int[] AIR_PROTOCOL_SINGULATION_DETAILS_TYPES = new int[] { 18 };
+    private ParameterView airProtocolSingulationDetails;
+
+    public AISpecEventView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public AISpecEventView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public AISpecEventType eventType() {
+        return AISpecEventType.fromValue(getUnsigned(0, 8));
+    }
+
+    public long roSpecID() {
+        return getLong(1, 32);
+    }
+
+    public int specIndex() {
+        return getUnsigned(2, 16);
+    }
+
+    public ParameterView airProtocolSingulationDetails() {
+        if (airProtocolSingulationDetails == null) {
+            airProtocolSingulationDetails = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(airProtocolSingulationDetails, 0, AIR_PROTOCOL_SINGULATION_DETAILS_TYPES);
+    }
+}
@@ -0,0 +1,48 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.AISpecStopTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class AISpecStopTriggerView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 184;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_32, 0, 0)};
+    private GPITriggerValueView gpiTriggerValue;
+    private TagObservationTriggerView tagObservationTrigger;
+
+    public AISpecStopTriggerView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public AISpecStopTriggerView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public AISpecStopTriggerType aiSpecStopTriggerType() {
+        return AISpecStopTriggerType.fromValue(getUnsigned(0, 8));
+    }
+
+    public long durationTrigger() {
+        return getLong(1, 32);
+    }
+
+    public GPITriggerValueView gpiTriggerValue() {
+        if (gpiTriggerValue == null) {
+            gpiTriggerValue = new GPITriggerValueView();
+        }
+        return findParameter(gpiTriggerValue, 0, 181);
+    }
+
+    public TagObservationTriggerView tagObservationTrigger() {
+        if (tagObservationTrigger == null) {
+            tagObservationTrigger = new TagObservationTriggerView();
+        }
+        return findParameter(tagObservationTrigger, 0, 185);
+    }
+}
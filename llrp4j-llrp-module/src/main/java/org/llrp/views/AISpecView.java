@@ -0,0 +1,63 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class AISpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 183;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16_V, 0, 0)};
+    private AISpecStopTriggerView aiSpecStopTrigger;
+    private InventoryParameterSpecView inventoryParameterSpec;
+    private CustomView custom;
+
+    public AISpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public AISpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int antennaIDsCount() {
+        return getCount(0);
+    }
+
+    public int antennaIDs(int index) {
+        return ((int) getElement(0, index, 16));
+    }
+
+    public AISpecStopTriggerView aiSpecStopTrigger() {
+        if (aiSpecStopTrigger == null) {
+            aiSpecStopTrigger = new AISpecStopTriggerView();
+        }
+        return findParameter(aiSpecStopTrigger, 0, 184);
+    }
+
+    public InventoryParameterSpecView inventoryParameterSpec(int index) {
+        if (inventoryParameterSpec == null) {
+            inventoryParameterSpec = new InventoryParameterSpecView();
+        }
+        return findParameter(inventoryParameterSpec, index, 186);
+    }
+
+    public int inventoryParameterSpecCount() {
+        return countParameters(186);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
@@ -0,0 +1,56 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class AccessCommandView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 209;
+    private final static int[] FIELDS = new int[] { };
+    private final static int[] AIR_PROTOCOL_TAG_SPEC_TYPES = new int[] { 338 };
+    private ParameterView airProtocolTagSpec;
+    private final static int[] ACCESS_COMMAND_OP_SPEC_TYPES = new int[] { 341, 342, 343, 357, 344, 346, 347, 358 };
+    private ParameterView accessCommandOpSpec;
+    private CustomView custom;
+
+    public AccessCommandView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public AccessCommandView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ParameterView airProtocolTagSpec() {
+        if (airProtocolTagSpec == null) {
+            airProtocolTagSpec = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(airProtocolTagSpec, 0, AIR_PROTOCOL_TAG_SPEC_TYPES);
+    }
+
+    public ParameterView accessCommandOpSpec(int index) {
+        if (accessCommandOpSpec == null) {
+            accessCommandOpSpec = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(accessCommandOpSpec, index, ACCESS_COMMAND_OP_SPEC_TYPES);
+    }
+
+    public int accessCommandOpSpecCount() {
+        return countParameters(ACCESS_COMMAND_OP_SPEC_TYPES);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
@@ -0,0 +1,28 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.AccessReportTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class AccessReportSpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 239;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0)};
+
+    public AccessReportSpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public AccessReportSpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public AccessReportTriggerType accessReportTrigger() {
+        return AccessReportTriggerType.fromValue(getUnsigned(0, 8));
+    }
+}
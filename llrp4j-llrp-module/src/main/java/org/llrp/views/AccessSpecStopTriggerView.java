@@ -0,0 +1,32 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.AccessSpecStopTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class AccessSpecStopTriggerView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 208;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_16, 0, 0)};
+
+    public AccessSpecStopTriggerView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public AccessSpecStopTriggerView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public AccessSpecStopTriggerType accessSpecStopTrigger() {
+        return AccessSpecStopTriggerType.fromValue(getUnsigned(0, 8));
+    }
+
+    public int operationCountValue() {
+        return getUnsigned(1, 16);
+    }
+}
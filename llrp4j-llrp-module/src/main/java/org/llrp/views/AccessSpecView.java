@@ -0,0 +1,81 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.AccessSpecState;
+import org.llrp.enumerations.AirProtocols;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class AccessSpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 207;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_32, 0, 0), field(FieldType.U_16, 0, 0), field(FieldType.U_8, 0, 0), field(FieldType.U_1, 0, 7), field(FieldType.U_32, 0, 0)};
+    private AccessSpecStopTriggerView accessSpecStopTrigger;
+    private AccessCommandView accessCommand;
+    private AccessReportSpecView accessReportSpec;
+    private CustomView custom;
+
+    public AccessSpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public AccessSpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public long accessSpecID() {
+        return getLong(0, 32);
+    }
+
+    public int antennaID() {
+        return getUnsigned(1, 16);
+    }
+
+    public AirProtocols protocolID() {
+        return AirProtocols.fromValue(getUnsigned(2, 8));
+    }
+
+    public AccessSpecState currentState() {
+        return AccessSpecState.fromValue(getUnsigned(3, 1));
+    }
+
+    public long roSpecID() {
+        return getLong(4, 32);
+    }
+
+    public AccessSpecStopTriggerView accessSpecStopTrigger() {
+        if (accessSpecStopTrigger == null) {
+            accessSpecStopTrigger = new AccessSpecStopTriggerView();
+        }
+        return findParameter(accessSpecStopTrigger, 0, 208);
+    }
+
+    public AccessCommandView accessCommand() {
+        if (accessCommand == null) {
+            accessCommand = new AccessCommandView();
+        }
+        return findParameter(accessCommand, 0, 209);
+    }
+
+    public AccessReportSpecView accessReportSpec() {
+        if (accessReportSpec == null) {
+            accessReportSpec = new AccessReportSpecView();
+        }
+        return findParameter(accessReportSpec, 0, 239);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
@@ -0,0 +1,56 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class AntennaConfigurationView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 222;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0)};
+    private RFReceiverView rfReceiver;
+    private RFTransmitterView rfTransmitter;
+    private final static int[] AIR_PROTOCOL_INVENTORY_COMMAND_SETTINGS_TYPES = new int[] { 330 };
+    private ParameterView airProtocolInventoryCommandSettings;
+
+    public AntennaConfigurationView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public AntennaConfigurationView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int antennaID() {
+        return getUnsigned(0, 16);
+    }
+
+    public RFReceiverView rfReceiver() {
+        if (rfReceiver == null) {
+            rfReceiver = new RFReceiverView();
+        }
+        return findParameter(rfReceiver, 0, 223);
+    }
+
+    public RFTransmitterView rfTransmitter() {
+        if (rfTransmitter == null) {
+            rfTransmitter = new RFTransmitterView();
+        }
+        return findParameter(rfTransmitter, 0, 224);
+    }
+
+    public ParameterView airProtocolInventoryCommandSettings(int index) {
+        if (airProtocolInventoryCommandSettings == null) {
+            airProtocolInventoryCommandSettings = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(airProtocolInventoryCommandSettings, index, AIR_PROTOCOL_INVENTORY_COMMAND_SETTINGS_TYPES);
+    }
+
+    public int airProtocolInventoryCommandSettingsCount() {
+        return countParameters(AIR_PROTOCOL_INVENTORY_COMMAND_SETTINGS_TYPES);
+    }
+}
@@ -0,0 +1,27 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class AntennaIDView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 1;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0)};
+
+    public AntennaIDView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public AntennaIDView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int antennaID() {
+        return getUnsigned(0, 16);
+    }
+}
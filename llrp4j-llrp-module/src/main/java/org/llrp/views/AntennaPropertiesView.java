@@ -0,0 +1,35 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class AntennaPropertiesView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 221;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1, 0, 7), field(FieldType.U_16, 0, 0), field(FieldType.S_16, 0, 0)};
+
+    public AntennaPropertiesView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public AntennaPropertiesView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public boolean antennaConnected() {
+        return getBit(0);
+    }
+
+    public int antennaID() {
+        return getUnsigned(1, 16);
+    }
+
+    public int antennaGain() {
+        return getSigned(2, 16);
+    }
+}
@@ -0,0 +1,32 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.C1G2BlockPermalockResultType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2BlockPermalockOpSpecResultView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 361;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_16, 0, 0)};
+
+    public C1G2BlockPermalockOpSpecResultView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2BlockPermalockOpSpecResultView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public C1G2BlockPermalockResultType result() {
+        return C1G2BlockPermalockResultType.fromValue(getUnsigned(0, 8));
+    }
+
+    public int opSpecID() {
+        return getUnsigned(1, 16);
+    }
+}
@@ -0,0 +1,36 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.C1G2BlockWriteResultType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2BlockWriteOpSpecResultView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 354;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0)};
+
+    public C1G2BlockWriteOpSpecResultView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2BlockWriteOpSpecResultView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public C1G2BlockWriteResultType result() {
+        return C1G2BlockWriteResultType.fromValue(getUnsigned(0, 8));
+    }
+
+    public int opSpecID() {
+        return getUnsigned(1, 16);
+    }
+
+    public int numWordsWritten() {
+        return getUnsigned(2, 16);
+    }
+}
@@ -0,0 +1,47 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2BlockWriteView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 347;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_2, 0, 6), field(FieldType.U_16, 0, 0), field(FieldType.U_16_V, 0, 0)};
+
+    public C1G2BlockWriteView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2BlockWriteView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int opSpecID() {
+        return getUnsigned(0, 16);
+    }
+
+    public long accessPassword() {
+        return getLong(1, 32);
+    }
+
+    public int mb() {
+        return getUnsigned(2, 2);
+    }
+
+    public int wordPointer() {
+        return getUnsigned(3, 16);
+    }
+
+    public int writeDataCount() {
+        return getCount(4);
+    }
+
+    public int writeData(int index) {
+        return ((int) getElement(4, index, 16));
+    }
+}
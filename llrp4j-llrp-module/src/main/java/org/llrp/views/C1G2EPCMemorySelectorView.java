@@ -0,0 +1,31 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2EPCMemorySelectorView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 348;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 6)};
+
+    public C1G2EPCMemorySelectorView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2EPCMemorySelectorView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public boolean enableCRC() {
+        return getBit(0);
+    }
+
+    public boolean enablePCBits() {
+        return getBit(1);
+    }
+}
@@ -0,0 +1,52 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.C1G2TruncateAction;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2FilterView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 331;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_2, 0, 6)};
+    private C1G2TagInventoryMaskView c1G2TagInventoryMask;
+    private C1G2TagInventoryStateAwareFilterActionView c1G2TagInventoryStateAwareFilterAction;
+    private C1G2TagInventoryStateUnawareFilterActionView c1G2TagInventoryStateUnawareFilterAction;
+
+    public C1G2FilterView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2FilterView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public C1G2TruncateAction t() {
+        return C1G2TruncateAction.fromValue(getUnsigned(0, 2));
+    }
+
+    public C1G2TagInventoryMaskView c1G2TagInventoryMask() {
+        if (c1G2TagInventoryMask == null) {
+            c1G2TagInventoryMask = new C1G2TagInventoryMaskView();
+        }
+        return findParameter(c1G2TagInventoryMask, 0, 332);
+    }
+
+    public C1G2TagInventoryStateAwareFilterActionView c1G2TagInventoryStateAwareFilterAction() {
+        if (c1G2TagInventoryStateAwareFilterAction == null) {
+            c1G2TagInventoryStateAwareFilterAction = new C1G2TagInventoryStateAwareFilterActionView();
+        }
+        return findParameter(c1G2TagInventoryStateAwareFilterAction, 0, 333);
+    }
+
+    public C1G2TagInventoryStateUnawareFilterActionView c1G2TagInventoryStateUnawareFilterAction() {
+        if (c1G2TagInventoryStateUnawareFilterAction == null) {
+            c1G2TagInventoryStateUnawareFilterAction = new C1G2TagInventoryStateUnawareFilterActionView();
+        }
+        return findParameter(c1G2TagInventoryStateUnawareFilterAction, 0, 334);
+    }
+}
@@ -0,0 +1,40 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.C1G2GetBlockPermalockStatusResultType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2GetBlockPermalockStatusOpSpecResultView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 362;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_16, 0, 0), field(FieldType.U_16_V, 0, 0)};
+
+    public C1G2GetBlockPermalockStatusOpSpecResultView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2GetBlockPermalockStatusOpSpecResultView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public C1G2GetBlockPermalockStatusResultType result() {
+        return C1G2GetBlockPermalockStatusResultType.fromValue(getUnsigned(0, 8));
+    }
+
+    public int opSpecID() {
+        return getUnsigned(1, 16);
+    }
+
+    public int permalockStatusCount() {
+        return getCount(2);
+    }
+
+    public int permalockStatus(int index) {
+        return ((int) getElement(2, index, 16));
+    }
+}
@@ -0,0 +1,67 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2InventoryCommandView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 330;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1, 0, 7)};
+    private C1G2FilterView c1G2Filter;
+    private C1G2RFControlView c1G2RFControl;
+    private C1G2SingulationControlView c1G2SingulationControl;
+    private CustomView custom;
+
+    public C1G2InventoryCommandView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2InventoryCommandView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public boolean tagInventoryStateAware() {
+        return getBit(0);
+    }
+
+    public C1G2FilterView c1G2Filter(int index) {
+        if (c1G2Filter == null) {
+            c1G2Filter = new C1G2FilterView();
+        }
+        return findParameter(c1G2Filter, index, 331);
+    }
+
+    public int c1G2FilterCount() {
+        return countParameters(331);
+    }
+
+    public C1G2RFControlView c1G2RFControl() {
+        if (c1G2RFControl == null) {
+            c1G2RFControl = new C1G2RFControlView();
+        }
+        return findParameter(c1G2RFControl, 0, 335);
+    }
+
+    public C1G2SingulationControlView c1G2SingulationControl() {
+        if (c1G2SingulationControl == null) {
+            c1G2SingulationControl = new C1G2SingulationControlView();
+        }
+        return findParameter(c1G2SingulationControl, 0, 336);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
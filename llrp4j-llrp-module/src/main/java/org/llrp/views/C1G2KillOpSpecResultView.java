@@ -0,0 +1,32 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.C1G2KillResultType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2KillOpSpecResultView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 351;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_16, 0, 0)};
+
+    public C1G2KillOpSpecResultView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2KillOpSpecResultView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public C1G2KillResultType result() {
+        return C1G2KillResultType.fromValue(getUnsigned(0, 8));
+    }
+
+    public int opSpecID() {
+        return getUnsigned(1, 16);
+    }
+}
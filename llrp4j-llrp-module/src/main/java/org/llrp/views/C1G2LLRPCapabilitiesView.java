@@ -0,0 +1,51 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2LLRPCapabilitiesView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 327;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 2), field(FieldType.U_16, 0, 0)};
+
+    public C1G2LLRPCapabilitiesView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2LLRPCapabilitiesView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public boolean canSupportBlockErase() {
+        return getBit(0);
+    }
+
+    public boolean canSupportBlockWrite() {
+        return getBit(1);
+    }
+
+    public boolean canSupportBlockPermalock() {
+        return getBit(2);
+    }
+
+    public boolean canSupportTagRecommissioning() {
+        return getBit(3);
+    }
+
+    public boolean canSupportUMIMethod2() {
+        return getBit(4);
+    }
+
+    public boolean canSupportXPC() {
+        return getBit(5);
+    }
+
+    public int maxNumSelectFiltersPerQuery() {
+        return getUnsigned(6, 16);
+    }
+}
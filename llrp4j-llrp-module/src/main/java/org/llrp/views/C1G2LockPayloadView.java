@@ -0,0 +1,33 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.C1G2LockDataField;
+import org.llrp.enumerations.C1G2LockPrivilege;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2LockPayloadView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 345;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_8, 0, 0)};
+
+    public C1G2LockPayloadView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2LockPayloadView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public C1G2LockPrivilege privilege() {
+        return C1G2LockPrivilege.fromValue(getUnsigned(0, 8));
+    }
+
+    public C1G2LockDataField dataField() {
+        return C1G2LockDataField.fromValue(getUnsigned(1, 8));
+    }
+}
@@ -0,0 +1,43 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2LockView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 344;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_32, 0, 0)};
+    private C1G2LockPayloadView c1G2LockPayload;
+
+    public C1G2LockView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2LockView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int opSpecID() {
+        return getUnsigned(0, 16);
+    }
+
+    public long accessPassword() {
+        return getLong(1, 32);
+    }
+
+    public C1G2LockPayloadView c1G2LockPayload(int index) {
+        if (c1G2LockPayload == null) {
+            c1G2LockPayload = new C1G2LockPayloadView();
+        }
+        return findParameter(c1G2LockPayload, index, 345);
+    }
+
+    public int c1G2LockPayloadCount() {
+        return countParameters(345);
+    }
+}
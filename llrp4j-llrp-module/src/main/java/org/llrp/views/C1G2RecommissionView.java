@@ -0,0 +1,43 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2RecommissionView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 357;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_32, 0, 5), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0)};
+
+    public C1G2RecommissionView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2RecommissionView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int opSpecID() {
+        return getUnsigned(0, 16);
+    }
+
+    public long killPassword() {
+        return getLong(1, 32);
+    }
+
+    public boolean biT_3SB() {
+        return getBit(2);
+    }
+
+    public boolean biT_2SB() {
+        return getBit(3);
+    }
+
+    public boolean biT_LSB() {
+        return getBit(4);
+    }
+}
@@ -0,0 +1,43 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2SingulationControlView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 336;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_2, 0, 6), field(FieldType.U_16, 0, 0), field(FieldType.U_32, 0, 0)};
+    private C1G2TagInventoryStateAwareSingulationActionView c1G2TagInventoryStateAwareSingulationAction;
+
+    public C1G2SingulationControlView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2SingulationControlView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int session() {
+        return getUnsigned(0, 2);
+    }
+
+    public int tagPopulation() {
+        return getUnsigned(1, 16);
+    }
+
+    public long tagTransitTime() {
+        return getLong(2, 32);
+    }
+
+    public C1G2TagInventoryStateAwareSingulationActionView c1G2TagInventoryStateAwareSingulationAction() {
+        if (c1G2TagInventoryStateAwareSingulationAction == null) {
+            c1G2TagInventoryStateAwareSingulationAction = new C1G2TagInventoryStateAwareSingulationActionView();
+        }
+        return findParameter(c1G2TagInventoryStateAwareSingulationAction, 0, 337);
+    }
+}
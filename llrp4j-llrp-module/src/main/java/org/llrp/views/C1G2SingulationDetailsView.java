@@ -0,0 +1,31 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2SingulationDetailsView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 18;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0)};
+
+    public C1G2SingulationDetailsView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2SingulationDetailsView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int numCollisionSlots() {
+        return getUnsigned(0, 16);
+    }
+
+    public int numEmptySlots() {
+        return getUnsigned(1, 16);
+    }
+}
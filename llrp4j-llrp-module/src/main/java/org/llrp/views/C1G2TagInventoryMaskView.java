@@ -0,0 +1,36 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.types.BitList;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2TagInventoryMaskView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 332;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_2, 0, 6), field(FieldType.U_16, 0, 0), field(FieldType.U_1_V, 0, 0)};
+
+    public C1G2TagInventoryMaskView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2TagInventoryMaskView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int mb() {
+        return getUnsigned(0, 2);
+    }
+
+    public int pointer() {
+        return getUnsigned(1, 16);
+    }
+
+    public BitList tagMask() {
+        return getBits(2);
+    }
+}
@@ -0,0 +1,33 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.C1G2TagInventoryStateAwareI;
+import org.llrp.enumerations.C1G2TagInventoryStateAwareS;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2TagInventoryStateAwareSingulationActionView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 337;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 6)};
+
+    public C1G2TagInventoryStateAwareSingulationActionView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2TagInventoryStateAwareSingulationActionView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public C1G2TagInventoryStateAwareI i() {
+        return C1G2TagInventoryStateAwareI.fromValue(getUnsigned(0, 1));
+    }
+
+    public C1G2TagInventoryStateAwareS s() {
+        return C1G2TagInventoryStateAwareS.fromValue(getUnsigned(1, 1));
+    }
+}
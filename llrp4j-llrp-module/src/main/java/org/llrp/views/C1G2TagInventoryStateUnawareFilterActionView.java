@@ -0,0 +1,28 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.C1G2StateUnawareAction;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2TagInventoryStateUnawareFilterActionView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 334;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0)};
+
+    public C1G2TagInventoryStateUnawareFilterActionView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2TagInventoryStateUnawareFilterActionView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public C1G2StateUnawareAction action() {
+        return C1G2StateUnawareAction.fromValue(getUnsigned(0, 8));
+    }
+}
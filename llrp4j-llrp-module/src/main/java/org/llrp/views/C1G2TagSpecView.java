@@ -0,0 +1,34 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class C1G2TagSpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 338;
+    private final static int[] FIELDS = new int[] { };
+    private C1G2TargetTagView c1G2TargetTag;
+
+    public C1G2TagSpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2TagSpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public C1G2TargetTagView c1G2TargetTag(int index) {
+        if (c1G2TargetTag == null) {
+            c1G2TargetTag = new C1G2TargetTagView();
+        }
+        return findParameter(c1G2TargetTag, index, 339);
+    }
+
+    public int c1G2TargetTagCount() {
+        return countParameters(339);
+    }
+}
@@ -0,0 +1,44 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.types.BitList;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2TargetTagView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 339;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_2, 0, 0), field(FieldType.U_1, 0, 5), field(FieldType.U_16, 0, 0), field(FieldType.U_1_V, 0, 0), field(FieldType.U_1_V, 0, 0)};
+
+    public C1G2TargetTagView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2TargetTagView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int mb() {
+        return getUnsigned(0, 2);
+    }
+
+    public boolean match() {
+        return getBit(1);
+    }
+
+    public int pointer() {
+        return getUnsigned(2, 16);
+    }
+
+    public BitList tagMask() {
+        return getBits(3);
+    }
+
+    public BitList tagData() {
+        return getBits(4);
+    }
+}
@@ -0,0 +1,71 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.C1G2DRValue;
+import org.llrp.enumerations.C1G2ForwardLinkModulation;
+import org.llrp.enumerations.C1G2MValue;
+import org.llrp.enumerations.C1G2SpectralMaskIndicator;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2UHFRFModeTableEntryView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 329;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_32, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 6), field(FieldType.U_8, 0, 0), field(FieldType.U_8, 0, 0), field(FieldType.U_8, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0)};
+
+    public C1G2UHFRFModeTableEntryView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2UHFRFModeTableEntryView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public long modeIdentifier() {
+        return getLong(0, 32);
+    }
+
+    public C1G2DRValue drValue() {
+        return C1G2DRValue.fromValue(getUnsigned(1, 1));
+    }
+
+    public boolean epchagtcConformance() {
+        return getBit(2);
+    }
+
+    public C1G2MValue mValue() {
+        return C1G2MValue.fromValue(getUnsigned(3, 8));
+    }
+
+    public C1G2ForwardLinkModulation forwardLinkModulation() {
+        return C1G2ForwardLinkModulation.fromValue(getUnsigned(4, 8));
+    }
+
+    public C1G2SpectralMaskIndicator spectralMaskIndicator() {
+        return C1G2SpectralMaskIndicator.fromValue(getUnsigned(5, 8));
+    }
+
+    public long bdrValue() {
+        return getLong(6, 32);
+    }
+
+    public long pieValue() {
+        return getLong(7, 32);
+    }
+
+    public long minTariValue() {
+        return getLong(8, 32);
+    }
+
+    public long maxTariValue() {
+        return getLong(9, 32);
+    }
+
+    public long stepTariValue() {
+        return getLong(10, 32);
+    }
+}
@@ -0,0 +1,34 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class C1G2UHFRFModeTableView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 328;
+    private final static int[] FIELDS = new int[] { };
+    private C1G2UHFRFModeTableEntryView c1G2UHFRFModeTableEntry;
+
+    public C1G2UHFRFModeTableView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2UHFRFModeTableView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public C1G2UHFRFModeTableEntryView c1G2UHFRFModeTableEntry(int index) {
+        if (c1G2UHFRFModeTableEntry == null) {
+            c1G2UHFRFModeTableEntry = new C1G2UHFRFModeTableEntryView();
+        }
+        return findParameter(c1G2UHFRFModeTableEntry, index, 329);
+    }
+
+    public int c1G2UHFRFModeTableEntryCount() {
+        return countParameters(329);
+    }
+}
@@ -0,0 +1,27 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class C1G2_XPCW1View
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 19;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0)};
+
+    public C1G2_XPCW1View() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public C1G2_XPCW1View wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int xpC_W1() {
+        return getUnsigned(0, 16);
+    }
+}
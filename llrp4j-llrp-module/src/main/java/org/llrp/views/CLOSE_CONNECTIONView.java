@@ -0,0 +1,22 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class CLOSE_CONNECTIONView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 14;
+    private final static int[] FIELDS = new int[] { };
+
+    public CLOSE_CONNECTIONView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public CLOSE_CONNECTIONView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+}
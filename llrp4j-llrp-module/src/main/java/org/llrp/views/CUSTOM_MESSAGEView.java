@@ -0,0 +1,35 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class CUSTOM_MESSAGEView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 1023;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_32, 0, 0), field(FieldType.U_8, 0, 0), field(FieldType.BYTES_TO_END, 0, 0)};
+
+    public CUSTOM_MESSAGEView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public CUSTOM_MESSAGEView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public long vendorIdentifier() {
+        return getLong(0, 32);
+    }
+
+    public int messageSubtype() {
+        return getUnsigned(1, 8);
+    }
+
+    public byte[] data() {
+        return getBytes(2);
+    }
+}
@@ -0,0 +1,28 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.ConnectionAttemptStatusType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class ConnectionAttemptEventView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 256;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0)};
+
+    public ConnectionAttemptEventView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ConnectionAttemptEventView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ConnectionAttemptStatusType status() {
+        return ConnectionAttemptStatusType.fromValue(getUnsigned(0, 16));
+    }
+}
@@ -0,0 +1,35 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class CustomView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 1023;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.BYTES_TO_END, 0, 0)};
+
+    public CustomView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public CustomView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public long vendorIdentifier() {
+        return getLong(0, 32);
+    }
+
+    public long parameterSubtype() {
+        return getLong(1, 32);
+    }
+
+    public byte[] data() {
+        return getBytes(2);
+    }
+}
@@ -0,0 +1,30 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class DELETE_ACCESSSPEC_RESPONSEView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 51;
+    private final static int[] FIELDS = new int[] { };
+    private LLRPStatusView llrpStatus;
+
+    public DELETE_ACCESSSPEC_RESPONSEView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public DELETE_ACCESSSPEC_RESPONSEView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public LLRPStatusView llrpStatus() {
+        if (llrpStatus == null) {
+            llrpStatus = new LLRPStatusView();
+        }
+        return findParameter(llrpStatus, 0, 287);
+    }
+}
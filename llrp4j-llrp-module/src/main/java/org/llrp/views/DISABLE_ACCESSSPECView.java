@@ -0,0 +1,27 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class DISABLE_ACCESSSPECView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 43;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_32, 0, 0)};
+
+    public DISABLE_ACCESSSPECView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public DISABLE_ACCESSSPECView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public long accessSpecID() {
+        return getLong(0, 32);
+    }
+}
@@ -0,0 +1,27 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class DISABLE_ROSPECView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 25;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_32, 0, 0)};
+
+    public DISABLE_ROSPECView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public DISABLE_ROSPECView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public long roSpecID() {
+        return getLong(0, 32);
+    }
+}
@@ -0,0 +1,22 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class ENABLE_EVENTS_AND_REPORTSView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 64;
+    private final static int[] FIELDS = new int[] { };
+
+    public ENABLE_EVENTS_AND_REPORTSView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ENABLE_EVENTS_AND_REPORTSView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+}
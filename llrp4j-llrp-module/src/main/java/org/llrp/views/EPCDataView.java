@@ -0,0 +1,28 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.types.BitList;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class EPCDataView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 241;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1_V, 0, 0)};
+
+    public EPCDataView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public EPCDataView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public BitList epc() {
+        return getBits(0);
+    }
+}
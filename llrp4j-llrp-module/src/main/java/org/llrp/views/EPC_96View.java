@@ -0,0 +1,32 @@
+
+package org.llrp.views;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class EPC_96View
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 13;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_96, 0, 0)};
+
+    public EPC_96View() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public EPC_96View wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public BigInteger epc() {
+        return getBigInteger(0, 96);
+    }
+
+    public void epc(byte[] target) {
+        copyBytes(0, 96, target);
+    }
+}
@@ -0,0 +1,32 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.NotificationEventType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class EventNotificationStateView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 245;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_1, 0, 7)};
+
+    public EventNotificationStateView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public EventNotificationStateView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public NotificationEventType eventType() {
+        return NotificationEventType.fromValue(getUnsigned(0, 16));
+    }
+
+    public boolean notificationState() {
+        return getBit(1);
+    }
+}
@@ -0,0 +1,27 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class EventsAndReportsView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 226;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1, 0, 7)};
+
+    public EventsAndReportsView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public EventsAndReportsView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public boolean holdEventsAndReportsUponReconnect() {
+        return getBit(0);
+    }
+}
@@ -0,0 +1,32 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.StatusCode;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class FieldErrorView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 288;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0)};
+
+    public FieldErrorView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public FieldErrorView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int fieldNum() {
+        return getUnsigned(0, 16);
+    }
+
+    public StatusCode errorCode() {
+        return StatusCode.fromValue(getUnsigned(1, 16));
+    }
+}
@@ -0,0 +1,31 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class FixedFrequencyTableView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 148;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_32_V, 0, 0)};
+
+    public FixedFrequencyTableView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public FixedFrequencyTableView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int frequencyCount() {
+        return getCount(0);
+    }
+
+    public long frequency(int index) {
+        return getElement(0, index, 32);
+    }
+}
@@ -0,0 +1,35 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class FrequencyHopTableView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 147;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 8), field(FieldType.U_32_V, 0, 0)};
+
+    public FrequencyHopTableView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public FrequencyHopTableView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int hopTableID() {
+        return getUnsigned(0, 8);
+    }
+
+    public int frequencyCount() {
+        return getCount(1);
+    }
+
+    public long frequency(int index) {
+        return getElement(1, index, 32);
+    }
+}
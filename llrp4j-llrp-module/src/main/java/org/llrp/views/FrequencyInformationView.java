@@ -0,0 +1,47 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class FrequencyInformationView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 146;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1, 0, 7)};
+    private FrequencyHopTableView frequencyHopTable;
+    private FixedFrequencyTableView fixedFrequencyTable;
+
+    public FrequencyInformationView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public FrequencyInformationView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public boolean hopping() {
+        return getBit(0);
+    }
+
+    public FrequencyHopTableView frequencyHopTable(int index) {
+        if (frequencyHopTable == null) {
+            frequencyHopTable = new FrequencyHopTableView();
+        }
+        return findParameter(frequencyHopTable, index, 147);
+    }
+
+    public int frequencyHopTableCount() {
+        return countParameters(147);
+    }
+
+    public FixedFrequencyTableView fixedFrequencyTable() {
+        if (fixedFrequencyTable == null) {
+            fixedFrequencyTable = new FixedFrequencyTableView();
+        }
+        return findParameter(fixedFrequencyTable, 0, 148);
+    }
+}
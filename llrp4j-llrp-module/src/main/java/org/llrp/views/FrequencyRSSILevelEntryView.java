@@ -0,0 +1,48 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class FrequencyRSSILevelEntryView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 243;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.S_8, 0, 0), field(FieldType.S_8, 0, 0)};
+    private final static int[] TIMESTAMP_TYPES = new int[] { 128, 129 };
+    private ParameterView timestamp;
+
+    public FrequencyRSSILevelEntryView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public FrequencyRSSILevelEntryView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public long frequency() {
+        return getLong(0, 32);
+    }
+
+    public long bandwidth() {
+        return getLong(1, 32);
+    }
+
+    public int averageRSSI() {
+        return getSigned(2, 8);
+    }
+
+    public int peakRSSI() {
+        return getSigned(3, 8);
+    }
+
+    public ParameterView timestamp() {
+        if (timestamp == null) {
+            timestamp = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(timestamp, 0, TIMESTAMP_TYPES);
+    }
+}
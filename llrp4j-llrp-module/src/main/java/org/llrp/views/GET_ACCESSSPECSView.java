@@ -0,0 +1,22 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class GET_ACCESSSPECSView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 44;
+    private final static int[] FIELDS = new int[] { };
+
+    public GET_ACCESSSPECSView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GET_ACCESSSPECSView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+}
@@ -0,0 +1,42 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class GET_ACCESSSPECS_RESPONSEView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 54;
+    private final static int[] FIELDS = new int[] { };
+    private LLRPStatusView llrpStatus;
+    private AccessSpecView accessSpec;
+
+    public GET_ACCESSSPECS_RESPONSEView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GET_ACCESSSPECS_RESPONSEView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public LLRPStatusView llrpStatus() {
+        if (llrpStatus == null) {
+            llrpStatus = new LLRPStatusView();
+        }
+        return findParameter(llrpStatus, 0, 287);
+    }
+
+    public AccessSpecView accessSpec(int index) {
+        if (accessSpec == null) {
+            accessSpec = new AccessSpecView();
+        }
+        return findParameter(accessSpec, index, 207);
+    }
+
+    public int accessSpecCount() {
+        return countParameters(207);
+    }
+}
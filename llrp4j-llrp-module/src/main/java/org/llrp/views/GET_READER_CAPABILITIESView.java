@@ -0,0 +1,40 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+import org.llrp.enumerations.GetReaderCapabilitiesRequestedData;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class GET_READER_CAPABILITIESView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 1;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0)};
+    private CustomView custom;
+
+    public GET_READER_CAPABILITIESView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GET_READER_CAPABILITIESView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public GetReaderCapabilitiesRequestedData requestedData() {
+        return GetReaderCapabilitiesRequestedData.fromValue(getUnsigned(0, 8));
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
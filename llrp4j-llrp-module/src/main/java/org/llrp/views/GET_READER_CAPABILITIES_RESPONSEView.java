@@ -0,0 +1,76 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class GET_READER_CAPABILITIES_RESPONSEView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 11;
+    private final static int[] FIELDS = new int[] { };
+    private LLRPStatusView llrpStatus;
+    private GeneralDeviceCapabilitiesView generalDeviceCapabilities;
+    private LLRPCapabilitiesView llrpCapabilities;
+    private RegulatoryCapabilitiesView regulatoryCapabilities;
+    private final static int[] AIR_PROTOCOL_LLRPCAPABILITIES_TYPES = new int[] { 327 };
+    private ParameterView airProtocolLLRPCapabilities;
+    private CustomView custom;
+
+    public GET_READER_CAPABILITIES_RESPONSEView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GET_READER_CAPABILITIES_RESPONSEView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public LLRPStatusView llrpStatus() {
+        if (llrpStatus == null) {
+            llrpStatus = new LLRPStatusView();
+        }
+        return findParameter(llrpStatus, 0, 287);
+    }
+
+    public GeneralDeviceCapabilitiesView generalDeviceCapabilities() {
+        if (generalDeviceCapabilities == null) {
+            generalDeviceCapabilities = new GeneralDeviceCapabilitiesView();
+        }
+        return findParameter(generalDeviceCapabilities, 0, 137);
+    }
+
+    public LLRPCapabilitiesView llrpCapabilities() {
+        if (llrpCapabilities == null) {
+            llrpCapabilities = new LLRPCapabilitiesView();
+        }
+        return findParameter(llrpCapabilities, 0, 142);
+    }
+
+    public RegulatoryCapabilitiesView regulatoryCapabilities() {
+        if (regulatoryCapabilities == null) {
+            regulatoryCapabilities = new RegulatoryCapabilitiesView();
+        }
+        return findParameter(regulatoryCapabilities, 0, 143);
+    }
+
+    public ParameterView airProtocolLLRPCapabilities() {
+        if (airProtocolLLRPCapabilities == null) {
+            airProtocolLLRPCapabilities = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(airProtocolLLRPCapabilities, 0, AIR_PROTOCOL_LLRPCAPABILITIES_TYPES);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
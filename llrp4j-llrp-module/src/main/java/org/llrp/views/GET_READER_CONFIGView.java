@@ -0,0 +1,52 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+import org.llrp.enumerations.GetReaderConfigRequestedData;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class GET_READER_CONFIGView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 2;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_8, 0, 0), field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0)};
+    private CustomView custom;
+
+    public GET_READER_CONFIGView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GET_READER_CONFIGView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int antennaID() {
+        return getUnsigned(0, 16);
+    }
+
+    public GetReaderConfigRequestedData requestedData() {
+        return GetReaderConfigRequestedData.fromValue(getUnsigned(1, 8));
+    }
+
+    public int gpiPortNum() {
+        return getUnsigned(2, 16);
+    }
+
+    public int gpoPortNum() {
+        return getUnsigned(3, 16);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
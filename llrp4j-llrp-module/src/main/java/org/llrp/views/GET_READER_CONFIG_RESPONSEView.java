@@ -0,0 +1,146 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class GET_READER_CONFIG_RESPONSEView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 12;
+    private final static int[] FIELDS = new int[] { };
+    private LLRPStatusView llrpStatus;
+    private IdentificationView identification;
+    private AntennaPropertiesView antennaProperties;
+    private AntennaConfigurationView antennaConfiguration;
+    private ReaderEventNotificationSpecView readerEventNotificationSpec;
+    private ROReportSpecView roReportSpec;
+    private AccessReportSpecView accessReportSpec;
+    private LLRPConfigurationStateValueView llrpConfigurationStateValue;
+    private KeepaliveSpecView keepaliveSpec;
+    private GPIPortCurrentStateView gpiPortCurrentState;
+    private GPOWriteDataView gpoWriteData;
+    private EventsAndReportsView eventsAndReports;
+    private CustomView custom;
+
+    public GET_READER_CONFIG_RESPONSEView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GET_READER_CONFIG_RESPONSEView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public LLRPStatusView llrpStatus() {
+        if (llrpStatus == null) {
+            llrpStatus = new LLRPStatusView();
+        }
+        return findParameter(llrpStatus, 0, 287);
+    }
+
+    public IdentificationView identification() {
+        if (identification == null) {
+            identification = new IdentificationView();
+        }
+        return findParameter(identification, 0, 218);
+    }
+
+    public AntennaPropertiesView antennaProperties(int index) {
+        if (antennaProperties == null) {
+            antennaProperties = new AntennaPropertiesView();
+        }
+        return findParameter(antennaProperties, index, 221);
+    }
+
+    public int antennaPropertiesCount() {
+        return countParameters(221);
+    }
+
+    public AntennaConfigurationView antennaConfiguration(int index) {
+        if (antennaConfiguration == null) {
+            antennaConfiguration = new AntennaConfigurationView();
+        }
+        return findParameter(antennaConfiguration, index, 222);
+    }
+
+    public int antennaConfigurationCount() {
+        return countParameters(222);
+    }
+
+    public ReaderEventNotificationSpecView readerEventNotificationSpec() {
+        if (readerEventNotificationSpec == null) {
+            readerEventNotificationSpec = new ReaderEventNotificationSpecView();
+        }
+        return findParameter(readerEventNotificationSpec, 0, 244);
+    }
+
+    public ROReportSpecView roReportSpec() {
+        if (roReportSpec == null) {
+            roReportSpec = new ROReportSpecView();
+        }
+        return findParameter(roReportSpec, 0, 237);
+    }
+
+    public AccessReportSpecView accessReportSpec() {
+        if (accessReportSpec == null) {
+            accessReportSpec = new AccessReportSpecView();
+        }
+        return findParameter(accessReportSpec, 0, 239);
+    }
+
+    public LLRPConfigurationStateValueView llrpConfigurationStateValue() {
+        if (llrpConfigurationStateValue == null) {
+            llrpConfigurationStateValue = new LLRPConfigurationStateValueView();
+        }
+        return findParameter(llrpConfigurationStateValue, 0, 217);
+    }
+
+    public KeepaliveSpecView keepaliveSpec() {
+        if (keepaliveSpec == null) {
+            keepaliveSpec = new KeepaliveSpecView();
+        }
+        return findParameter(keepaliveSpec, 0, 220);
+    }
+
+    public GPIPortCurrentStateView gpiPortCurrentState(int index) {
+        if (gpiPortCurrentState == null) {
+            gpiPortCurrentState = new GPIPortCurrentStateView();
+        }
+        return findParameter(gpiPortCurrentState, index, 225);
+    }
+
+    public int gpiPortCurrentStateCount() {
+        return countParameters(225);
+    }
+
+    public GPOWriteDataView gpoWriteData(int index) {
+        if (gpoWriteData == null) {
+            gpoWriteData = new GPOWriteDataView();
+        }
+        return findParameter(gpoWriteData, index, 219);
+    }
+
+    public int gpoWriteDataCount() {
+        return countParameters(219);
+    }
+
+    public EventsAndReportsView eventsAndReports() {
+        if (eventsAndReports == null) {
+            eventsAndReports = new EventsAndReportsView();
+        }
+        return findParameter(eventsAndReports, 0, 226);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
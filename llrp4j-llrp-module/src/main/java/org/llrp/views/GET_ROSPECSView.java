@@ -0,0 +1,22 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class GET_ROSPECSView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 26;
+    private final static int[] FIELDS = new int[] { };
+
+    public GET_ROSPECSView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GET_ROSPECSView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+}
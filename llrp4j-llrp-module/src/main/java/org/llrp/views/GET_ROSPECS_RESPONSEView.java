@@ -0,0 +1,42 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class GET_ROSPECS_RESPONSEView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 36;
+    private final static int[] FIELDS = new int[] { };
+    private LLRPStatusView llrpStatus;
+    private ROSpecView roSpec;
+
+    public GET_ROSPECS_RESPONSEView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GET_ROSPECS_RESPONSEView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public LLRPStatusView llrpStatus() {
+        if (llrpStatus == null) {
+            llrpStatus = new LLRPStatusView();
+        }
+        return findParameter(llrpStatus, 0, 287);
+    }
+
+    public ROSpecView roSpec(int index) {
+        if (roSpec == null) {
+            roSpec = new ROSpecView();
+        }
+        return findParameter(roSpec, index, 177);
+    }
+
+    public int roSpecCount() {
+        return countParameters(177);
+    }
+}
@@ -0,0 +1,39 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class GET_SUPPORTED_VERSION_RESPONSEView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 56;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_8, 0, 0)};
+    private LLRPStatusView llrpStatus;
+
+    public GET_SUPPORTED_VERSION_RESPONSEView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GET_SUPPORTED_VERSION_RESPONSEView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int currentVersion() {
+        return getUnsigned(0, 8);
+    }
+
+    public int supportedVersion() {
+        return getUnsigned(1, 8);
+    }
+
+    public LLRPStatusView llrpStatus() {
+        if (llrpStatus == null) {
+            llrpStatus = new LLRPStatusView();
+        }
+        return findParameter(llrpStatus, 0, 287);
+    }
+}
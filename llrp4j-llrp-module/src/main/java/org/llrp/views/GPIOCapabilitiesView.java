@@ -0,0 +1,31 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class GPIOCapabilitiesView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 141;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0)};
+
+    public GPIOCapabilitiesView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GPIOCapabilitiesView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int numGPIs() {
+        return getUnsigned(0, 16);
+    }
+
+    public int numGPOs() {
+        return getUnsigned(1, 16);
+    }
+}
@@ -0,0 +1,36 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.GPIPortState;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class GPIPortCurrentStateView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 225;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_1, 0, 7), field(FieldType.U_8, 0, 0)};
+
+    public GPIPortCurrentStateView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GPIPortCurrentStateView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int gpiPortNum() {
+        return getUnsigned(0, 16);
+    }
+
+    public boolean config() {
+        return getBit(1);
+    }
+
+    public GPIPortState state() {
+        return GPIPortState.fromValue(getUnsigned(2, 8));
+    }
+}
@@ -0,0 +1,35 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class GPITriggerValueView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 181;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_1, 0, 7), field(FieldType.U_32, 0, 0)};
+
+    public GPITriggerValueView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GPITriggerValueView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int gpiPortNum() {
+        return getUnsigned(0, 16);
+    }
+
+    public boolean gpiEvent() {
+        return getBit(1);
+    }
+
+    public long timeout() {
+        return getLong(2, 32);
+    }
+}
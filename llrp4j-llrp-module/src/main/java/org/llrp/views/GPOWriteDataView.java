@@ -0,0 +1,31 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class GPOWriteDataView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 219;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_1, 0, 7)};
+
+    public GPOWriteDataView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GPOWriteDataView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int gpoPortNumber() {
+        return getUnsigned(0, 16);
+    }
+
+    public boolean gpoData() {
+        return getBit(1);
+    }
+}
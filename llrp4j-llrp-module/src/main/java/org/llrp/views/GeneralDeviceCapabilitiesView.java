@@ -0,0 +1,91 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class GeneralDeviceCapabilitiesView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 137;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 14), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.UTF_8_V, 0, 0)};
+    private ReceiveSensitivityTableEntryView receiveSensitivityTableEntry;
+    private PerAntennaReceiveSensitivityRangeView perAntennaReceiveSensitivityRange;
+    private GPIOCapabilitiesView gpioCapabilities;
+    private PerAntennaAirProtocolView perAntennaAirProtocol;
+
+    public GeneralDeviceCapabilitiesView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public GeneralDeviceCapabilitiesView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int maxNumberOfAntennaSupported() {
+        return getUnsigned(0, 16);
+    }
+
+    public boolean canSetAntennaProperties() {
+        return getBit(1);
+    }
+
+    public boolean hasUTCClockCapability() {
+        return getBit(2);
+    }
+
+    public long deviceManufacturerName() {
+        return getLong(3, 32);
+    }
+
+    public long modelName() {
+        return getLong(4, 32);
+    }
+
+    public String readerFirmwareVersion() {
+        return getString(5);
+    }
+
+    public ReceiveSensitivityTableEntryView receiveSensitivityTableEntry(int index) {
+        if (receiveSensitivityTableEntry == null) {
+            receiveSensitivityTableEntry = new ReceiveSensitivityTableEntryView();
+        }
+        return findParameter(receiveSensitivityTableEntry, index, 139);
+    }
+
+    public int receiveSensitivityTableEntryCount() {
+        return countParameters(139);
+    }
+
+    public PerAntennaReceiveSensitivityRangeView perAntennaReceiveSensitivityRange(int index) {
+        if (perAntennaReceiveSensitivityRange == null) {
+            perAntennaReceiveSensitivityRange = new PerAntennaReceiveSensitivityRangeView();
+        }
+        return findParameter(perAntennaReceiveSensitivityRange, index, 149);
+    }
+
+    public int perAntennaReceiveSensitivityRangeCount() {
+        return countParameters(149);
+    }
+
+    public GPIOCapabilitiesView gpioCapabilities() {
+        if (gpioCapabilities == null) {
+            gpioCapabilities = new GPIOCapabilitiesView();
+        }
+        return findParameter(gpioCapabilities, 0, 141);
+    }
+
+    public PerAntennaAirProtocolView perAntennaAirProtocol(int index) {
+        if (perAntennaAirProtocol == null) {
+            perAntennaAirProtocol = new PerAntennaAirProtocolView();
+        }
+        return findParameter(perAntennaAirProtocol, index, 140);
+    }
+
+    public int perAntennaAirProtocolCount() {
+        return countParameters(140);
+    }
+}
@@ -0,0 +1,36 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.IdentificationType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class IdentificationView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 218;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_8_V, 0, 0)};
+
+    public IdentificationView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public IdentificationView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public IdentificationType idType() {
+        return IdentificationType.fromValue(getUnsigned(0, 8));
+    }
+
+    public int readerIDCount() {
+        return getCount(1);
+    }
+
+    public int readerID(int index) {
+        return ((int) getElement(1, index, 8));
+    }
+}
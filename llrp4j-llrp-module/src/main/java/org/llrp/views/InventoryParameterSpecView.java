@@ -0,0 +1,56 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.AirProtocols;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class InventoryParameterSpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 186;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_8, 0, 0)};
+    private AntennaConfigurationView antennaConfiguration;
+    private CustomView custom;
+
+    public InventoryParameterSpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public InventoryParameterSpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int inventoryParameterSpecID() {
+        return getUnsigned(0, 16);
+    }
+
+    public AirProtocols protocolID() {
+        return AirProtocols.fromValue(getUnsigned(1, 8));
+    }
+
+    public AntennaConfigurationView antennaConfiguration(int index) {
+        if (antennaConfiguration == null) {
+            antennaConfiguration = new AntennaConfigurationView();
+        }
+        return findParameter(antennaConfiguration, index, 222);
+    }
+
+    public int antennaConfigurationCount() {
+        return countParameters(222);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
@@ -0,0 +1,22 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class KEEPALIVEView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 62;
+    private final static int[] FIELDS = new int[] { };
+
+    public KEEPALIVEView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public KEEPALIVEView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+}
@@ -0,0 +1,22 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class KEEPALIVE_ACKView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 72;
+    private final static int[] FIELDS = new int[] { };
+
+    public KEEPALIVE_ACKView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public KEEPALIVE_ACKView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+}
@@ -0,0 +1,32 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.KeepaliveTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class KeepaliveSpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 220;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_32, 0, 0)};
+
+    public KeepaliveSpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public KeepaliveSpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public KeepaliveTriggerType keepaliveTriggerType() {
+        return KeepaliveTriggerType.fromValue(getUnsigned(0, 8));
+    }
+
+    public long periodicTriggerValue() {
+        return getLong(1, 32);
+    }
+}
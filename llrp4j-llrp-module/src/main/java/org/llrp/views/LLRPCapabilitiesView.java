@@ -0,0 +1,71 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class LLRPCapabilitiesView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 142;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 3), field(FieldType.U_8, 0, 0), field(FieldType.U_16, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0)};
+
+    public LLRPCapabilitiesView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public LLRPCapabilitiesView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public boolean canDoRFSurvey() {
+        return getBit(0);
+    }
+
+    public boolean canReportBufferFillWarning() {
+        return getBit(1);
+    }
+
+    public boolean supportsClientRequestOpSpec() {
+        return getBit(2);
+    }
+
+    public boolean canDoTagInventoryStateAwareSingulation() {
+        return getBit(3);
+    }
+
+    public boolean supportsEventAndReportHolding() {
+        return getBit(4);
+    }
+
+    public int maxNumPriorityLevelsSupported() {
+        return getUnsigned(5, 8);
+    }
+
+    public int clientRequestOpSpecTimeout() {
+        return getUnsigned(6, 16);
+    }
+
+    public long maxNumROSpecs() {
+        return getLong(7, 32);
+    }
+
+    public long maxNumSpecsPerROSpec() {
+        return getLong(8, 32);
+    }
+
+    public long maxNumInventoryParameterSpecsPerAISpec() {
+        return getLong(9, 32);
+    }
+
+    public long maxNumAccessSpecs() {
+        return getLong(10, 32);
+    }
+
+    public long maxNumOpSpecsPerAccessSpec() {
+        return getLong(11, 32);
+    }
+}
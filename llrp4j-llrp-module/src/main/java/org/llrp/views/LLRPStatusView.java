@@ -0,0 +1,48 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.StatusCode;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class LLRPStatusView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 287;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.UTF_8_V, 0, 0)};
+    private FieldErrorView fieldError;
+    private ParameterErrorView parameterError;
+
+    public LLRPStatusView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public LLRPStatusView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public StatusCode statusCode() {
+        return StatusCode.fromValue(getUnsigned(0, 16));
+    }
+
+    public String errorDescription() {
+        return getString(1);
+    }
+
+    public FieldErrorView fieldError() {
+        if (fieldError == null) {
+            fieldError = new FieldErrorView();
+        }
+        return findParameter(fieldError, 0, 288);
+    }
+
+    public ParameterErrorView parameterError() {
+        if (parameterError == null) {
+            parameterError = new ParameterErrorView();
+        }
+        return findParameter(parameterError, 0, 289);
+    }
+}
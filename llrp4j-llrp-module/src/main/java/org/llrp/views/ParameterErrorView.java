@@ -0,0 +1,48 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.StatusCode;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class ParameterErrorView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 289;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0)};
+    private FieldErrorView fieldError;
+    private ParameterErrorView parameterError;
+
+    public ParameterErrorView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ParameterErrorView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int parameterType() {
+        return getUnsigned(0, 16);
+    }
+
+    public StatusCode errorCode() {
+        return StatusCode.fromValue(getUnsigned(1, 16));
+    }
+
+    public FieldErrorView fieldError() {
+        if (fieldError == null) {
+            fieldError = new FieldErrorView();
+        }
+        return findParameter(fieldError, 0, 288);
+    }
+
+    public ParameterErrorView parameterError() {
+        if (parameterError == null) {
+            parameterError = new ParameterErrorView();
+        }
+        return findParameter(parameterError, 0, 289);
+    }
+}
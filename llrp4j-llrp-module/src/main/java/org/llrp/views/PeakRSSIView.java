@@ -0,0 +1,27 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class PeakRSSIView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 6;
+    private final static int[] FIELDS = new int[] {field(FieldType.S_8, 0, 0)};
+
+    public PeakRSSIView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public PeakRSSIView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int peakRSSI() {
+        return getSigned(0, 8);
+    }
+}
@@ -0,0 +1,36 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.AirProtocols;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class PerAntennaAirProtocolView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 140;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_8_V, 0, 0)};
+
+    public PerAntennaAirProtocolView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public PerAntennaAirProtocolView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int antennaID() {
+        return getUnsigned(0, 16);
+    }
+
+    public int protocolIDCount() {
+        return getCount(1);
+    }
+
+    public AirProtocols protocolID(int index) {
+        return AirProtocols.fromValue(((int) getElement(1, index, 8)));
+    }
+}
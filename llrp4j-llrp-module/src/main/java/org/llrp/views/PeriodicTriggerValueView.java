@@ -0,0 +1,39 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class PeriodicTriggerValueView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 180;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0)};
+    private UTCTimestampView utcTimestamp;
+
+    public PeriodicTriggerValueView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public PeriodicTriggerValueView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public long offset() {
+        return getLong(0, 32);
+    }
+
+    public long period() {
+        return getLong(1, 32);
+    }
+
+    public UTCTimestampView utcTimestamp() {
+        if (utcTimestamp == null) {
+            utcTimestamp = new UTCTimestampView();
+        }
+        return findParameter(utcTimestamp, 0, 128);
+    }
+}
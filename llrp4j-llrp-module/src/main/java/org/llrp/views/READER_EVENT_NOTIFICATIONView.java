@@ -0,0 +1,30 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class READER_EVENT_NOTIFICATIONView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 63;
+    private final static int[] FIELDS = new int[] { };
+    private ReaderEventNotificationDataView readerEventNotificationData;
+
+    public READER_EVENT_NOTIFICATIONView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public READER_EVENT_NOTIFICATIONView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ReaderEventNotificationDataView readerEventNotificationData() {
+        if (readerEventNotificationData == null) {
+            readerEventNotificationData = new ReaderEventNotificationDataView();
+        }
+        return findParameter(readerEventNotificationData, 0, 246);
+    }
+}
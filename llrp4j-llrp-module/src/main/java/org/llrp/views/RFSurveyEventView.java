@@ -0,0 +1,36 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.RFSurveyEventType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class RFSurveyEventView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 253;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_16, 0, 0)};
+
+    public RFSurveyEventView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public RFSurveyEventView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public RFSurveyEventType eventType() {
+        return RFSurveyEventType.fromValue(getUnsigned(0, 8));
+    }
+
+    public long roSpecID() {
+        return getLong(1, 32);
+    }
+
+    public int specIndex() {
+        return getUnsigned(2, 16);
+    }
+}
@@ -0,0 +1,62 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class RFSurveyReportDataView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 242;
+    private final static int[] FIELDS = new int[] { };
+    private ROSpecIDView roSpecID;
+    private SpecIndexView specIndex;
+    private FrequencyRSSILevelEntryView frequencyRSSILevelEntry;
+    private CustomView custom;
+
+    public RFSurveyReportDataView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public RFSurveyReportDataView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ROSpecIDView roSpecID() {
+        if (roSpecID == null) {
+            roSpecID = new ROSpecIDView();
+        }
+        return findParameter(roSpecID, 0, 9);
+    }
+
+    public SpecIndexView specIndex() {
+        if (specIndex == null) {
+            specIndex = new SpecIndexView();
+        }
+        return findParameter(specIndex, 0, 14);
+    }
+
+    public FrequencyRSSILevelEntryView frequencyRSSILevelEntry(int index) {
+        if (frequencyRSSILevelEntry == null) {
+            frequencyRSSILevelEntry = new FrequencyRSSILevelEntryView();
+        }
+        return findParameter(frequencyRSSILevelEntry, index, 243);
+    }
+
+    public int frequencyRSSILevelEntryCount() {
+        return countParameters(243);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
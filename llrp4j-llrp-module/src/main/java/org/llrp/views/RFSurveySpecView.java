@@ -0,0 +1,55 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class RFSurveySpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 187;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0)};
+    private RFSurveySpecStopTriggerView rfSurveySpecStopTrigger;
+    private CustomView custom;
+
+    public RFSurveySpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public RFSurveySpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int antennaID() {
+        return getUnsigned(0, 16);
+    }
+
+    public long startFrequency() {
+        return getLong(1, 32);
+    }
+
+    public long endFrequency() {
+        return getLong(2, 32);
+    }
+
+    public RFSurveySpecStopTriggerView rfSurveySpecStopTrigger() {
+        if (rfSurveySpecStopTrigger == null) {
+            rfSurveySpecStopTrigger = new RFSurveySpecStopTriggerView();
+        }
+        return findParameter(rfSurveySpecStopTrigger, 0, 188);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
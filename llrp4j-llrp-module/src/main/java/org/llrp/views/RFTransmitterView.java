@@ -0,0 +1,35 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class RFTransmitterView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 224;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0)};
+
+    public RFTransmitterView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public RFTransmitterView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int hopTableID() {
+        return getUnsigned(0, 16);
+    }
+
+    public int channelIndex() {
+        return getUnsigned(1, 16);
+    }
+
+    public int transmitPower() {
+        return getUnsigned(2, 16);
+    }
+}
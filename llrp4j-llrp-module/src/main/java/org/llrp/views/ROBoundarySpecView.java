@@ -0,0 +1,38 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class ROBoundarySpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 178;
+    private final static int[] FIELDS = new int[] { };
+    private ROSpecStartTriggerView roSpecStartTrigger;
+    private ROSpecStopTriggerView roSpecStopTrigger;
+
+    public ROBoundarySpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ROBoundarySpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ROSpecStartTriggerView roSpecStartTrigger() {
+        if (roSpecStartTrigger == null) {
+            roSpecStartTrigger = new ROSpecStartTriggerView();
+        }
+        return findParameter(roSpecStartTrigger, 0, 179);
+    }
+
+    public ROSpecStopTriggerView roSpecStopTrigger() {
+        if (roSpecStopTrigger == null) {
+            roSpecStopTrigger = new ROSpecStopTriggerView();
+        }
+        return findParameter(roSpecStopTrigger, 0, 182);
+    }
+}
@@ -0,0 +1,52 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.ROReportTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class ROReportSpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 237;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_16, 0, 0)};
+    private TagReportContentSelectorView tagReportContentSelector;
+    private CustomView custom;
+
+    public ROReportSpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ROReportSpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ROReportTriggerType roReportTrigger() {
+        return ROReportTriggerType.fromValue(getUnsigned(0, 8));
+    }
+
+    public int n() {
+        return getUnsigned(1, 16);
+    }
+
+    public TagReportContentSelectorView tagReportContentSelector() {
+        if (tagReportContentSelector == null) {
+            tagReportContentSelector = new TagReportContentSelectorView();
+        }
+        return findParameter(tagReportContentSelector, 0, 238);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
@@ -0,0 +1,36 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.ROSpecEventType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class ROSpecEventView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 249;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_32, 0, 0), field(FieldType.U_32, 0, 0)};
+
+    public ROSpecEventView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ROSpecEventView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ROSpecEventType eventType() {
+        return ROSpecEventType.fromValue(getUnsigned(0, 8));
+    }
+
+    public long roSpecID() {
+        return getLong(1, 32);
+    }
+
+    public long preemptingROSpecID() {
+        return getLong(2, 32);
+    }
+}
@@ -0,0 +1,44 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.ROSpecStartTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class ROSpecStartTriggerView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 179;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0)};
+    private PeriodicTriggerValueView periodicTriggerValue;
+    private GPITriggerValueView gpiTriggerValue;
+
+    public ROSpecStartTriggerView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ROSpecStartTriggerView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ROSpecStartTriggerType roSpecStartTriggerType() {
+        return ROSpecStartTriggerType.fromValue(getUnsigned(0, 8));
+    }
+
+    public PeriodicTriggerValueView periodicTriggerValue() {
+        if (periodicTriggerValue == null) {
+            periodicTriggerValue = new PeriodicTriggerValueView();
+        }
+        return findParameter(periodicTriggerValue, 0, 180);
+    }
+
+    public GPITriggerValueView gpiTriggerValue() {
+        if (gpiTriggerValue == null) {
+            gpiTriggerValue = new GPITriggerValueView();
+        }
+        return findParameter(gpiTriggerValue, 0, 181);
+    }
+}
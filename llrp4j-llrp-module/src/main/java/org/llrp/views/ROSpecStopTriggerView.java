@@ -0,0 +1,40 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.ROSpecStopTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class ROSpecStopTriggerView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 182;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0), field(FieldType.U_32, 0, 0)};
+    private GPITriggerValueView gpiTriggerValue;
+
+    public ROSpecStopTriggerView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ROSpecStopTriggerView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ROSpecStopTriggerType roSpecStopTriggerType() {
+        return ROSpecStopTriggerType.fromValue(getUnsigned(0, 8));
+    }
+
+    public long durationTriggerValue() {
+        return getLong(1, 32);
+    }
+
+    public GPITriggerValueView gpiTriggerValue() {
+        if (gpiTriggerValue == null) {
+            gpiTriggerValue = new GPITriggerValueView();
+        }
+        return findParameter(gpiTriggerValue, 0, 181);
+    }
+}
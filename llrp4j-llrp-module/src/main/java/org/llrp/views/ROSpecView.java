@@ -0,0 +1,65 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.ROSpecState;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class ROSpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 177;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_32, 0, 0), field(FieldType.U_8, 0, 0), field(FieldType.U_8, 0, 0)};
+    private ROBoundarySpecView roBoundarySpec;
+    private final static int[] SPEC_PARAMETER_TYPES = new int[] { 183, 187, 189, 1023 };
+    private ParameterView specParameter;
+    private ROReportSpecView roReportSpec;
+
+    public ROSpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ROSpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public long roSpecID() {
+        return getLong(0, 32);
+    }
+
+    public int priority() {
+        return getUnsigned(1, 8);
+    }
+
+    public ROSpecState currentState() {
+        return ROSpecState.fromValue(getUnsigned(2, 8));
+    }
+
+    public ROBoundarySpecView roBoundarySpec() {
+        if (roBoundarySpec == null) {
+            roBoundarySpec = new ROBoundarySpecView();
+        }
+        return findParameter(roBoundarySpec, 0, 178);
+    }
+
+    public ParameterView specParameter(int index) {
+        if (specParameter == null) {
+            specParameter = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(specParameter, index, SPEC_PARAMETER_TYPES);
+    }
+
+    public int specParameterCount() {
+        return countParameters(SPEC_PARAMETER_TYPES);
+    }
+
+    public ROReportSpecView roReportSpec() {
+        if (roReportSpec == null) {
+            roReportSpec = new ROReportSpecView();
+        }
+        return findParameter(roReportSpec, 0, 237);
+    }
+}
@@ -0,0 +1,58 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+
+public class RO_ACCESS_REPORTView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 61;
+    private final static int[] FIELDS = new int[] { };
+    private TagReportDataView tagReportData;
+    private RFSurveyReportDataView rfSurveyReportData;
+    private CustomView custom;
+
+    public RO_ACCESS_REPORTView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public RO_ACCESS_REPORTView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public TagReportDataView tagReportData(int index) {
+        if (tagReportData == null) {
+            tagReportData = new TagReportDataView();
+        }
+        return findParameter(tagReportData, index, 240);
+    }
+
+    public int tagReportDataCount() {
+        return countParameters(240);
+    }
+
+    public RFSurveyReportDataView rfSurveyReportData(int index) {
+        if (rfSurveyReportData == null) {
+            rfSurveyReportData = new RFSurveyReportDataView();
+        }
+        return findParameter(rfSurveyReportData, index, 242);
+    }
+
+    public int rfSurveyReportDataCount() {
+        return countParameters(242);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
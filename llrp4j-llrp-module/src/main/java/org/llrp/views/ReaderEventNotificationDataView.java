@@ -0,0 +1,139 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class ReaderEventNotificationDataView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 246;
+    private final static int[] FIELDS = new int[] { };
+    private final static int[] TIMESTAMP_TYPES = new int[] { 128, 129 };
+    private ParameterView timestamp;
+    private HoppingEventView hoppingEvent;
+    private GPIEventView gpiEvent;
+    private ROSpecEventView roSpecEvent;
+    private ReportBufferLevelWarningEventView reportBufferLevelWarningEvent;
+    private ReportBufferOverflowErrorEventView reportBufferOverflowErrorEvent;
+    private ReaderExceptionEventView readerExceptionEvent;
+    private RFSurveyEventView rfSurveyEvent;
+    private AISpecEventView aiSpecEvent;
+    private AntennaEventView antennaEvent;
+    private ConnectionAttemptEventView connectionAttemptEvent;
+    private ConnectionCloseEventView connectionCloseEvent;
+    private SpecLoopEventView specLoopEvent;
+    private CustomView custom;
+
+    public ReaderEventNotificationDataView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ReaderEventNotificationDataView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ParameterView timestamp() {
+        if (timestamp == null) {
+            timestamp = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(timestamp, 0, TIMESTAMP_TYPES);
+    }
+
+    public HoppingEventView hoppingEvent() {
+        if (hoppingEvent == null) {
+            hoppingEvent = new HoppingEventView();
+        }
+        return findParameter(hoppingEvent, 0, 247);
+    }
+
+    public GPIEventView gpiEvent() {
+        if (gpiEvent == null) {
+            gpiEvent = new GPIEventView();
+        }
+        return findParameter(gpiEvent, 0, 248);
+    }
+
+    public ROSpecEventView roSpecEvent() {
+        if (roSpecEvent == null) {
+            roSpecEvent = new ROSpecEventView();
+        }
+        return findParameter(roSpecEvent, 0, 249);
+    }
+
+    public ReportBufferLevelWarningEventView reportBufferLevelWarningEvent() {
+        if (reportBufferLevelWarningEvent == null) {
+            reportBufferLevelWarningEvent = new ReportBufferLevelWarningEventView();
+        }
+        return findParameter(reportBufferLevelWarningEvent, 0, 250);
+    }
+
+    public ReportBufferOverflowErrorEventView reportBufferOverflowErrorEvent() {
+        if (reportBufferOverflowErrorEvent == null) {
+            reportBufferOverflowErrorEvent = new ReportBufferOverflowErrorEventView();
+        }
+        return findParameter(reportBufferOverflowErrorEvent, 0, 251);
+    }
+
+    public ReaderExceptionEventView readerExceptionEvent() {
+        if (readerExceptionEvent == null) {
+            readerExceptionEvent = new ReaderExceptionEventView();
+        }
+        return findParameter(readerExceptionEvent, 0, 252);
+    }
+
+    public RFSurveyEventView rfSurveyEvent() {
+        if (rfSurveyEvent == null) {
+            rfSurveyEvent = new RFSurveyEventView();
+        }
+        return findParameter(rfSurveyEvent, 0, 253);
+    }
+
+    public AISpecEventView aiSpecEvent() {
+        if (aiSpecEvent == null) {
+            aiSpecEvent = new AISpecEventView();
+        }
+        return findParameter(aiSpecEvent, 0, 254);
+    }
+
+    public AntennaEventView antennaEvent() {
+        if (antennaEvent == null) {
+            antennaEvent = new AntennaEventView();
+        }
+        return findParameter(antennaEvent, 0, 255);
+    }
+
+    public ConnectionAttemptEventView connectionAttemptEvent() {
+        if (connectionAttemptEvent == null) {
+            connectionAttemptEvent = new ConnectionAttemptEventView();
+        }
+        return findParameter(connectionAttemptEvent, 0, 256);
+    }
+
+    public ConnectionCloseEventView connectionCloseEvent() {
+        if (connectionCloseEvent == null) {
+            connectionCloseEvent = new ConnectionCloseEventView();
+        }
+        return findParameter(connectionCloseEvent, 0, 257);
+    }
+
+    public SpecLoopEventView specLoopEvent() {
+        if (specLoopEvent == null) {
+            specLoopEvent = new SpecLoopEventView();
+        }
+        return findParameter(specLoopEvent, 0, 356);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
@@ -0,0 +1,34 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class ReaderEventNotificationSpecView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 244;
+    private final static int[] FIELDS = new int[] { };
+    private EventNotificationStateView eventNotificationState;
+
+    public ReaderEventNotificationSpecView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ReaderEventNotificationSpecView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public EventNotificationStateView eventNotificationState(int index) {
+        if (eventNotificationState == null) {
+            eventNotificationState = new EventNotificationStateView();
+        }
+        return findParameter(eventNotificationState, index, 245);
+    }
+
+    public int eventNotificationStateCount() {
+        return countParameters(245);
+    }
+}
@@ -0,0 +1,87 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class ReaderExceptionEventView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 252;
+    private final static int[] FIELDS = new int[] {field(FieldType.UTF_8_V, 0, 0)};
+    private ROSpecIDView roSpecID;
+    private SpecIndexView specIndex;
+    private InventoryParameterSpecIDView inventoryParameterSpecID;
+    private AntennaIDView antennaID;
+    private AccessSpecIDView accessSpecID;
+    private OpSpecIDView opSpecID;
+    private CustomView custom;
+
+    public ReaderExceptionEventView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ReaderExceptionEventView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public String message() {
+        return getString(0);
+    }
+
+    public ROSpecIDView roSpecID() {
+        if (roSpecID == null) {
+            roSpecID = new ROSpecIDView();
+        }
+        return findParameter(roSpecID, 0, 9);
+    }
+
+    public SpecIndexView specIndex() {
+        if (specIndex == null) {
+            specIndex = new SpecIndexView();
+        }
+        return findParameter(specIndex, 0, 14);
+    }
+
+    public InventoryParameterSpecIDView inventoryParameterSpecID() {
+        if (inventoryParameterSpecID == null) {
+            inventoryParameterSpecID = new InventoryParameterSpecIDView();
+        }
+        return findParameter(inventoryParameterSpecID, 0, 10);
+    }
+
+    public AntennaIDView antennaID() {
+        if (antennaID == null) {
+            antennaID = new AntennaIDView();
+        }
+        return findParameter(antennaID, 0, 1);
+    }
+
+    public AccessSpecIDView accessSpecID() {
+        if (accessSpecID == null) {
+            accessSpecID = new AccessSpecIDView();
+        }
+        return findParameter(accessSpecID, 0, 16);
+    }
+
+    public OpSpecIDView opSpecID() {
+        if (opSpecID == null) {
+            opSpecID = new OpSpecIDView();
+        }
+        return findParameter(opSpecID, 0, 17);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
@@ -0,0 +1,52 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.CommunicationsStandard;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class RegulatoryCapabilitiesView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 143;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0)};
+    private UHFBandCapabilitiesView uhfBandCapabilities;
+    private CustomView custom;
+
+    public RegulatoryCapabilitiesView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public RegulatoryCapabilitiesView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int countryCode() {
+        return getUnsigned(0, 16);
+    }
+
+    public CommunicationsStandard communicationsStandard() {
+        return CommunicationsStandard.fromValue(getUnsigned(1, 16));
+    }
+
+    public UHFBandCapabilitiesView uhfBandCapabilities() {
+        if (uhfBandCapabilities == null) {
+            uhfBandCapabilities = new UHFBandCapabilitiesView();
+        }
+        return findParameter(uhfBandCapabilities, 0, 144);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
@@ -0,0 +1,27 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class ReportBufferLevelWarningEventView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 250;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0)};
+
+    public ReportBufferLevelWarningEventView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ReportBufferLevelWarningEventView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int reportBufferPercentageFull() {
+        return getUnsigned(0, 8);
+    }
+}
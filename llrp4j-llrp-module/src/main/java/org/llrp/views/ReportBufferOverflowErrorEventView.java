@@ -0,0 +1,22 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class ReportBufferOverflowErrorEventView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 251;
+    private final static int[] FIELDS = new int[] { };
+
+    public ReportBufferOverflowErrorEventView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public ReportBufferOverflowErrorEventView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+}
@@ -0,0 +1,27 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class SET_PROTOCOL_VERSIONView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 47;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 0)};
+
+    public SET_PROTOCOL_VERSIONView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public SET_PROTOCOL_VERSIONView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public int protocolVersion() {
+        return getUnsigned(0, 8);
+    }
+}
@@ -0,0 +1,127 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.MessageView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class SET_READER_CONFIGView
+    extends MessageView
+{
+    public final static int TYPE_NUM = 3;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1, 0, 7)};
+    private ReaderEventNotificationSpecView readerEventNotificationSpec;
+    private AntennaPropertiesView antennaProperties;
+    private AntennaConfigurationView antennaConfiguration;
+    private ROReportSpecView roReportSpec;
+    private AccessReportSpecView accessReportSpec;
+    private KeepaliveSpecView keepaliveSpec;
+    private GPOWriteDataView gpoWriteData;
+    private GPIPortCurrentStateView gpiPortCurrentState;
+    private EventsAndReportsView eventsAndReports;
+    private CustomView custom;
+
+    public SET_READER_CONFIGView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public SET_READER_CONFIGView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public boolean resetToFactoryDefault() {
+        return getBit(0);
+    }
+
+    public ReaderEventNotificationSpecView readerEventNotificationSpec() {
+        if (readerEventNotificationSpec == null) {
+            readerEventNotificationSpec = new ReaderEventNotificationSpecView();
+        }
+        return findParameter(readerEventNotificationSpec, 0, 244);
+    }
+
+    public AntennaPropertiesView antennaProperties(int index) {
+        if (antennaProperties == null) {
+            antennaProperties = new AntennaPropertiesView();
+        }
+        return findParameter(antennaProperties, index, 221);
+    }
+
+    public int antennaPropertiesCount() {
+        return countParameters(221);
+    }
+
+    public AntennaConfigurationView antennaConfiguration(int index) {
+        if (antennaConfiguration == null) {
+            antennaConfiguration = new AntennaConfigurationView();
+        }
+        return findParameter(antennaConfiguration, index, 222);
+    }
+
+    public int antennaConfigurationCount() {
+        return countParameters(222);
+    }
+
+    public ROReportSpecView roReportSpec() {
+        if (roReportSpec == null) {
+            roReportSpec = new ROReportSpecView();
+        }
+        return findParameter(roReportSpec, 0, 237);
+    }
+
+    public AccessReportSpecView accessReportSpec() {
+        if (accessReportSpec == null) {
+            accessReportSpec = new AccessReportSpecView();
+        }
+        return findParameter(accessReportSpec, 0, 239);
+    }
+
+    public KeepaliveSpecView keepaliveSpec() {
+        if (keepaliveSpec == null) {
+            keepaliveSpec = new KeepaliveSpecView();
+        }
+        return findParameter(keepaliveSpec, 0, 220);
+    }
+
+    public GPOWriteDataView gpoWriteData(int index) {
+        if (gpoWriteData == null) {
+            gpoWriteData = new GPOWriteDataView();
+        }
+        return findParameter(gpoWriteData, index, 219);
+    }
+
+    public int gpoWriteDataCount() {
+        return countParameters(219);
+    }
+
+    public GPIPortCurrentStateView gpiPortCurrentState(int index) {
+        if (gpiPortCurrentState == null) {
+            gpiPortCurrentState = new GPIPortCurrentStateView();
+        }
+        return findParameter(gpiPortCurrentState, index, 225);
+    }
+
+    public int gpiPortCurrentStateCount() {
+        return countParameters(225);
+    }
+
+    public EventsAndReportsView eventsAndReports() {
+        if (eventsAndReports == null) {
+            eventsAndReports = new EventsAndReportsView();
+        }
+        return findParameter(eventsAndReports, 0, 226);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
@@ -0,0 +1,44 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.enumerations.TagObservationTriggerType;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class TagObservationTriggerView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 185;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_8, 0, 8), field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0), field(FieldType.U_16, 0, 0), field(FieldType.U_32, 0, 0)};
+
+    public TagObservationTriggerView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public TagObservationTriggerView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public TagObservationTriggerType triggerType() {
+        return TagObservationTriggerType.fromValue(getUnsigned(0, 8));
+    }
+
+    public int numberOfTags() {
+        return getUnsigned(1, 16);
+    }
+
+    public int numberOfAttempts() {
+        return getUnsigned(2, 16);
+    }
+
+    public int t() {
+        return getUnsigned(3, 16);
+    }
+
+    public long timeout() {
+        return getLong(4, 32);
+    }
+}
@@ -0,0 +1,76 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class TagReportContentSelectorView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 238;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 0), field(FieldType.U_1, 0, 6)};
+    private final static int[] AIR_PROTOCOL_EPCMEMORY_SELECTOR_TYPES = new int[] { 348 };
+    private ParameterView airProtocolEPCMemorySelector;
+
+    public TagReportContentSelectorView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public TagReportContentSelectorView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public boolean enableROSpecID() {
+        return getBit(0);
+    }
+
+    public boolean enableSpecIndex() {
+        return getBit(1);
+    }
+
+    public boolean enableInventoryParameterSpecID() {
+        return getBit(2);
+    }
+
+    public boolean enableAntennaID() {
+        return getBit(3);
+    }
+
+    public boolean enableChannelIndex() {
+        return getBit(4);
+    }
+
+    public boolean enablePeakRSSI() {
+        return getBit(5);
+    }
+
+    public boolean enableFirstSeenTimestamp() {
+        return getBit(6);
+    }
+
+    public boolean enableLastSeenTimestamp() {
+        return getBit(7);
+    }
+
+    public boolean enableTagSeenCount() {
+        return getBit(8);
+    }
+
+    public boolean enableAccessSpecID() {
+        return getBit(9);
+    }
+
+    public ParameterView airProtocolEPCMemorySelector(int index) {
+        if (airProtocolEPCMemorySelector == null) {
+            airProtocolEPCMemorySelector = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(airProtocolEPCMemorySelector, index, AIR_PROTOCOL_EPCMEMORY_SELECTOR_TYPES);
+    }
+
+    public int airProtocolEPCMemorySelectorCount() {
+        return countParameters(AIR_PROTOCOL_EPCMEMORY_SELECTOR_TYPES);
+    }
+}
@@ -0,0 +1,165 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class TagReportDataView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 240;
+    private final static int[] FIELDS = new int[] { };
+    private final static int[] EPCPARAMETER_TYPES = new int[] { 241, 13 };
+    private ParameterView epcParameter;
+    private ROSpecIDView roSpecID;
+    private SpecIndexView specIndex;
+    private InventoryParameterSpecIDView inventoryParameterSpecID;
+    private AntennaIDView antennaID;
+    private PeakRSSIView peakRSSI;
+    private ChannelIndexView channelIndex;
+    private FirstSeenTimestampUTCView firstSeenTimestampUTC;
+    private FirstSeenTimestampUptimeView firstSeenTimestampUptime;
+    private LastSeenTimestampUTCView lastSeenTimestampUTC;
+    private LastSeenTimestampUptimeView lastSeenTimestampUptime;
+    private TagSeenCountView tagSeenCount;
+    private final static int[] AIR_PROTOCOL_TAG_DATA_TYPES = new int[] { 12, 11, 19, 20 };
+    private ParameterView airProtocolTagData;
+    private AccessSpecIDView accessSpecID;
+    private final static int[] ACCESS_COMMAND_OP_SPEC_RESULT_TYPES = new int[] { 349, 350, 351, 352, 353, 354 };
+    private ParameterView accessCommandOpSpecResult;
+    private CustomView custom;
+
+    public TagReportDataView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public TagReportDataView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public ParameterView epcParameter() {
+        if (epcParameter == null) {
+            epcParameter = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(epcParameter, 0, EPCPARAMETER_TYPES);
+    }
+
+    public ROSpecIDView roSpecID() {
+        if (roSpecID == null) {
+            roSpecID = new ROSpecIDView();
+        }
+        return findParameter(roSpecID, 0, 9);
+    }
+
+    public SpecIndexView specIndex() {
+        if (specIndex == null) {
+            specIndex = new SpecIndexView();
+        }
+        return findParameter(specIndex, 0, 14);
+    }
+
+    public InventoryParameterSpecIDView inventoryParameterSpecID() {
+        if (inventoryParameterSpecID == null) {
+            inventoryParameterSpecID = new InventoryParameterSpecIDView();
+        }
+        return findParameter(inventoryParameterSpecID, 0, 10);
+    }
+
+    public AntennaIDView antennaID() {
+        if (antennaID == null) {
+            antennaID = new AntennaIDView();
+        }
+        return findParameter(antennaID, 0, 1);
+    }
+
+    public PeakRSSIView peakRSSI() {
+        if (peakRSSI == null) {
+            peakRSSI = new PeakRSSIView();
+        }
+        return findParameter(peakRSSI, 0, 6);
+    }
+
+    public ChannelIndexView channelIndex() {
+        if (channelIndex == null) {
+            channelIndex = new ChannelIndexView();
+        }
+        return findParameter(channelIndex, 0, 7);
+    }
+
+    public FirstSeenTimestampUTCView firstSeenTimestampUTC() {
+        if (firstSeenTimestampUTC == null) {
+            firstSeenTimestampUTC = new FirstSeenTimestampUTCView();
+        }
+        return findParameter(firstSeenTimestampUTC, 0, 2);
+    }
+
+    public FirstSeenTimestampUptimeView firstSeenTimestampUptime() {
+        if (firstSeenTimestampUptime == null) {
+            firstSeenTimestampUptime = new FirstSeenTimestampUptimeView();
+        }
+        return findParameter(firstSeenTimestampUptime, 0, 3);
+    }
+
+    public LastSeenTimestampUTCView lastSeenTimestampUTC() {
+        if (lastSeenTimestampUTC == null) {
+            lastSeenTimestampUTC = new LastSeenTimestampUTCView();
+        }
+        return findParameter(lastSeenTimestampUTC, 0, 4);
+    }
+
+    public LastSeenTimestampUptimeView lastSeenTimestampUptime() {
+        if (lastSeenTimestampUptime == null) {
+            lastSeenTimestampUptime = new LastSeenTimestampUptimeView();
+        }
+        return findParameter(lastSeenTimestampUptime, 0, 5);
+    }
+
+    public TagSeenCountView tagSeenCount() {
+        if (tagSeenCount == null) {
+            tagSeenCount = new TagSeenCountView();
+        }
+        return findParameter(tagSeenCount, 0, 8);
+    }
+
+    public ParameterView airProtocolTagData(int index) {
+        if (airProtocolTagData == null) {
+            airProtocolTagData = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(airProtocolTagData, index, AIR_PROTOCOL_TAG_DATA_TYPES);
+    }
+
+    public int airProtocolTagDataCount() {
+        return countParameters(AIR_PROTOCOL_TAG_DATA_TYPES);
+    }
+
+    public AccessSpecIDView accessSpecID() {
+        if (accessSpecID == null) {
+            accessSpecID = new AccessSpecIDView();
+        }
+        return findParameter(accessSpecID, 0, 16);
+    }
+
+    public ParameterView accessCommandOpSpecResult(int index) {
+        if (accessCommandOpSpecResult == null) {
+            accessCommandOpSpecResult = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(accessCommandOpSpecResult, index, ACCESS_COMMAND_OP_SPEC_RESULT_TYPES);
+    }
+
+    public int accessCommandOpSpecResultCount() {
+        return countParameters(ACCESS_COMMAND_OP_SPEC_RESULT_TYPES);
+    }
+
+    public CustomView custom(int index) {
+        if (custom == null) {
+            custom = new CustomView();
+        }
+        return findParameter(custom, index, 1023);
+    }
+
+    public int customCount() {
+        return countParameters(1023);
+    }
+}
@@ -0,0 +1,55 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class UHFBandCapabilitiesView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 144;
+    private final static int[] FIELDS = new int[] { };
+    private TransmitPowerLevelTableEntryView transmitPowerLevelTableEntry;
+    private FrequencyInformationView frequencyInformation;
+    private final static int[] AIR_PROTOCOL_UHFRFMODE_TABLE_TYPES = new int[] { 328 };
+    private ParameterView airProtocolUHFRFModeTable;
+
+    public UHFBandCapabilitiesView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public UHFBandCapabilitiesView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public TransmitPowerLevelTableEntryView transmitPowerLevelTableEntry(int index) {
+        if (transmitPowerLevelTableEntry == null) {
+            transmitPowerLevelTableEntry = new TransmitPowerLevelTableEntryView();
+        }
+        return findParameter(transmitPowerLevelTableEntry, index, 145);
+    }
+
+    public int transmitPowerLevelTableEntryCount() {
+        return countParameters(145);
+    }
+
+    public FrequencyInformationView frequencyInformation() {
+        if (frequencyInformation == null) {
+            frequencyInformation = new FrequencyInformationView();
+        }
+        return findParameter(frequencyInformation, 0, 146);
+    }
+
+    public ParameterView airProtocolUHFRFModeTable(int index) {
+        if (airProtocolUHFRFModeTable == null) {
+            airProtocolUHFRFModeTable = new ParameterView(LlrpViews.TV_LENGTHS);
+        }
+        return findParameter(airProtocolUHFRFModeTable, index, AIR_PROTOCOL_UHFRFMODE_TABLE_TYPES);
+    }
+
+    public int airProtocolUHFRFModeTableCount() {
+        return countParameters(AIR_PROTOCOL_UHFRFMODE_TABLE_TYPES);
+    }
+}
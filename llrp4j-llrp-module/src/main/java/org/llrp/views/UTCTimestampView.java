@@ -0,0 +1,27 @@
+
+package org.llrp.views;
+
+import java.nio.ByteBuffer;
+import net.enilink.llrp4j.view.ParameterView;
+import org.llrp.ltk.schema.core.FieldType;
+
+public class UTCTimestampView
+    extends ParameterView
+{
+    public final static int TYPE_NUM = 128;
+    private final static int[] FIELDS = new int[] {field(FieldType.U_64, 0, 0)};
+
+    public UTCTimestampView() {
+        super(LlrpViews.TV_LENGTHS, FIELDS, 0, false);
+    }
+
+    @Override
+    public UTCTimestampView wrap(ByteBuffer buffer, int offset) {
+        super.wrap(buffer, offset);
+        return this;
+    }
+
+    public long microseconds() {
+        return getLong(0, 64);
+    }
+}
@@ -0,0 +1,172 @@
+package org.llrp.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.llrp.messages.RO_ACCESS_REPORT;
+import org.llrp.modules.LlrpModule;
+import org.llrp.parameters.AntennaID;
+import org.llrp.parameters.ChannelIndex;
+import org.llrp.parameters.EPCData;
+import org.llrp.parameters.EPC_96;
+import org.llrp.parameters.FirstSeenTimestampUTC;
+import org.llrp.parameters.PeakRSSI;
+import org.llrp.parameters.ROSpecID;
+import org.llrp.parameters.TagReportData;
+import org.llrp.views.AntennaIDView;
+import org.llrp.views.FirstSeenTimestampUTCView;
+
+import net.enilink.llrp4j.BinaryDecoder;
+import net.enilink.llrp4j.BinaryEncoder;
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.ReportArchiveBlock;
+import net.enilink.llrp4j.ReportArchiveReader;
+import net.enilink.llrp4j.ReportArchiveWriter;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.types.BitList;
+
+public class ArchiveTest {
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	LlrpContext ctx = LlrpContext.create(new LlrpModule());
+
+	List<TagReportData> tags(int count) {
+		Random rnd = new Random(42);
+		List<TagReportData> tags = new ArrayList<>();
+		long timestamp = 1500000000000000L;
+		for (int i = 0; i < count; i++) {
+			timestamp += 900 + rnd.nextInt(200);
+			TagReportData tag = new TagReportData();
+			if (i % 50 == 0) {
+				tag.epcParameter(new EPCData().epc(new BitList("10110011100011110000")));
+			} else {
+				tag.epcParameter(new EPC_96().epc(new BigInteger("300833B2DDD90140000000", 16)
+						.shiftLeft(8).add(BigInteger.valueOf(rnd.nextInt(30)))));
+			}
+			tag.antennaID(new AntennaID().antennaID(1 + rnd.nextInt(4)))
+					.peakRSSI(new PeakRSSI().peakRSSI(-40 - rnd.nextInt(30)))
+					.firstSeenTimestampUTC(new FirstSeenTimestampUTC().microseconds(BigInteger.valueOf(timestamp)));
+			if (i % 3 == 0) {
+				tag.channelIndex(new ChannelIndex().channelIndex(1 + rnd.nextInt(50)));
+			}
+			if (i % 7 == 0) {
+				tag.roSpecID(new ROSpecID().roSpecID(4711));
+			}
+			tags.add(tag);
+		}
+		return tags;
+	}
+
+	byte[] frames(List<TagReportData> tags, int perMessage) {
+		BinaryEncoder encoder = ctx.createBinaryEncoder();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (int i = 0; i < tags.size(); i += perMessage) {
+			RO_ACCESS_REPORT report = new RO_ACCESS_REPORT()
+					.tagReportData(tags.subList(i, Math.min(tags.size(), i + perMessage)));
+			BitBuffer buffer = BitBuffer.allocateDynamic();
+			encoder.encodeMessage(report, buffer);
+			byte[] bytes = buffer.asByteArray();
+			out.write(bytes, 0, bytes.length);
+		}
+		return out.toByteArray();
+	}
+
+	@Test
+	public void testRoundTrip() throws Exception {
+		List<TagReportData> tags = tags(2500);
+		byte[] frames = frames(tags, 100);
+
+		ByteArrayOutputStream archive = new ByteArrayOutputStream();
+		ReportArchiveWriter writer = new ReportArchiveWriter(ctx, TagReportData.class, archive).blockSize(1000);
+		ByteBuffer buffer = ByteBuffer.wrap(frames);
+		int count = 0;
+		while (buffer.hasRemaining()) {
+			count += writer.writeMessage(buffer);
+		}
+		writer.close();
+		Assert.assertEquals(tags.size(), count);
+		Assert.assertTrue("Archive should be much smaller than the binary messages: " + archive.size() + " vs. "
+				+ frames.length, archive.size() * 3 < frames.length);
+
+		BinaryDecoder decoder = ctx.createBinaryDecoder();
+		ReportArchiveReader reader = new ReportArchiveReader(ctx, new ByteArrayInputStream(archive.toByteArray()));
+		List<Object> decoded = new ArrayList<>();
+		ReportArchiveBlock block;
+		int blocks = 0;
+		while ((block = reader.next()) != null) {
+			decoded.addAll(block.decode(decoder));
+			blocks++;
+		}
+		Assert.assertEquals(3, blocks);
+		Assert.assertEquals(tags, decoded);
+
+		// records are restored with the same bytes
+		ByteArrayOutputStream restored = new ByteArrayOutputStream();
+		reader = new ReportArchiveReader(ctx, new ByteArrayInputStream(archive.toByteArray()));
+		while ((block = reader.next()) != null) {
+			for (ByteBuffer record : block.records()) {
+				restored.write(record.array(), record.arrayOffset(), record.remaining());
+			}
+		}
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		BinaryEncoder encoder = ctx.createBinaryEncoder();
+		for (TagReportData tag : tags) {
+			BitBuffer bits = BitBuffer.allocateDynamic();
+			encoder.encodeParameter(tag, bits);
+			expected.write(bits.asByteArray());
+		}
+		Assert.assertArrayEquals(expected.toByteArray(), restored.toByteArray());
+	}
+
+	@Test
+	public void testRandomAccess() throws Exception {
+		List<TagReportData> tags = tags(1000);
+		File file = folder.newFile("tags.lra");
+		try (ReportArchiveWriter writer = new ReportArchiveWriter(ctx, TagReportData.class,
+				new FileOutputStream(file)).blockSize(300)) {
+			for (TagReportData tag : tags) {
+				writer.write(tag);
+			}
+		}
+
+		try (SeekableByteChannel channel = Files.newByteChannel(file.toPath());
+				ReportArchiveReader reader = new ReportArchiveReader(ctx, channel)) {
+			Assert.assertEquals(4, reader.blockCount());
+			Assert.assertEquals(100, reader.recordCount(3));
+
+			ReportArchiveBlock block = reader.block(2);
+			Assert.assertEquals(tags.subList(600, 900), block.decode(ctx.createBinaryDecoder()));
+
+			// scan single columns without restoring the records
+			long[] antennas = block.values(AntennaIDView.TYPE_NUM);
+			long[] timestamps = block.values(FirstSeenTimestampUTCView.TYPE_NUM);
+			Assert.assertEquals(300, antennas.length);
+			for (int i = 0; i < 300; i++) {
+				TagReportData tag = tags.get(600 + i);
+				Assert.assertEquals(tag.antennaID().antennaID(), antennas[i]);
+				Assert.assertEquals(tag.firstSeenTimestampUTC().microseconds().longValue(), timestamps[i]);
+			}
+			Assert.assertEquals(0, block.values(127).length);
+
+			// sequential access is still possible
+			Assert.assertEquals(Arrays.asList(300, 300, 300, 100), Arrays.asList(reader.next().recordCount(),
+					reader.next().recordCount(), reader.next().recordCount(), reader.next().recordCount()));
+			Assert.assertNull(reader.next());
+		}
+	}
+}
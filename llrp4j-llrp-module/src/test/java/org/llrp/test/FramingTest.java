@@ -0,0 +1,175 @@
+package org.llrp.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.llrp.enumerations.GetReaderConfigRequestedData;
+import org.llrp.messages.GET_READER_CONFIG;
+import org.llrp.messages.KEEPALIVE;
+import org.llrp.messages.RO_ACCESS_REPORT;
+import org.llrp.modules.LlrpModule;
+import org.llrp.parameters.AntennaID;
+import org.llrp.parameters.EPC_96;
+import org.llrp.parameters.TagReportData;
+
+import net.enilink.llrp4j.BinaryDecoder;
+import net.enilink.llrp4j.BinaryEncoder;
+import net.enilink.llrp4j.FrameSplitter;
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.LlrpException;
+import net.enilink.llrp4j.MessageHandler;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+public class FramingTest {
+	LlrpContext ctx = LlrpContext.create(new LlrpModule());
+
+	List<LlrpMessage> messages() {
+		List<LlrpMessage> messages = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			LlrpMessage message;
+			switch (i % 3) {
+			case 0:
+				message = new KEEPALIVE();
+				break;
+			case 1:
+				message = new GET_READER_CONFIG().antennaID(i).requestedData(GetReaderConfigRequestedData.All);
+				break;
+			default:
+				List<TagReportData> tags = new ArrayList<>();
+				for (int j = 0; j < i; j++) {
+					tags.add(new TagReportData().epcParameter(new EPC_96().epc(BigInteger.valueOf(j)))
+							.antennaID(new AntennaID().antennaID(j % 4)));
+				}
+				message = new RO_ACCESS_REPORT().tagReportData(tags);
+			}
+			message.messageID(i);
+			messages.add(message);
+		}
+		return messages;
+	}
+
+	byte[] encode(List<LlrpMessage> messages) {
+		BinaryEncoder encoder = ctx.createBinaryEncoder();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		for (LlrpMessage message : messages) {
+			BitBuffer buffer = BitBuffer.allocateDynamic();
+			encoder.encodeMessage(message, buffer);
+			byte[] bytes = buffer.asByteArray();
+			out.write(bytes, 0, bytes.length);
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * Stream that returns at most 3 bytes for each read.
+	 */
+	static InputStream trickle(byte[] data) {
+		return new FilterInputStream(new ByteArrayInputStream(data)) {
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				return super.read(b, off, Math.min(len, 3));
+			}
+		};
+	}
+
+	@Test
+	public void testByteBuffer() throws Exception {
+		List<LlrpMessage> messages = messages();
+		byte[] data = encode(messages);
+		BinaryDecoder decoder = ctx.createBinaryDecoder();
+
+		Assert.assertEquals(messages, decoder.decodeAll(ByteBuffer.wrap(data)));
+
+		ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+		direct.put(data).flip();
+		Assert.assertEquals(messages, decoder.decodeAll(direct));
+		Assert.assertFalse(direct.hasRemaining());
+
+		// incomplete trailing message is not consumed
+		ByteBuffer truncated = ByteBuffer.wrap(data, 0, data.length - 1);
+		List<LlrpMessage> decoded = decoder.decodeAll(truncated);
+		Assert.assertEquals(messages.subList(0, messages.size() - 1), decoded);
+		Assert.assertTrue(truncated.remaining() > 0);
+		Assert.assertNull(FrameSplitter.next(truncated));
+	}
+
+	@Test
+	public void testStreams() throws Exception {
+		List<LlrpMessage> messages = messages();
+		byte[] data = encode(messages);
+		BinaryDecoder decoder = ctx.createBinaryDecoder();
+
+		final List<LlrpMessage> decoded = new ArrayList<>();
+		MessageHandler handler = new MessageHandler() {
+			@Override
+			public void handle(LlrpMessage message) {
+				decoded.add(message);
+			}
+		};
+		Assert.assertEquals(messages.size(), decoder.decodeAll(new ByteArrayInputStream(data), handler));
+		Assert.assertEquals(messages, decoded);
+
+		decoded.clear();
+		Assert.assertEquals(messages.size(), decoder.decodeAll(Channels.newChannel(trickle(data)), handler));
+		Assert.assertEquals(messages, decoded);
+
+		// small initial capacity that has to grow for the larger reports
+		FrameSplitter splitter = new FrameSplitter(16);
+		decoded.clear();
+		InputStream in = trickle(data);
+		ByteBuffer frame;
+		while ((frame = splitter.next(in)) != null) {
+			decoded.add(decoder.decodeMessage(BitBuffer.wrap(frame)));
+		}
+		Assert.assertTrue(splitter.isEndOfStream());
+		Assert.assertEquals(messages, decoded);
+	}
+
+	@Test
+	public void testTruncatedStream() throws Exception {
+		byte[] data = encode(messages());
+		try {
+			ctx.createBinaryDecoder().decodeAll(new ByteArrayInputStream(Arrays.copyOf(data, data.length - 5)),
+					new MessageHandler() {
+						@Override
+						public void handle(LlrpMessage message) {
+						}
+					});
+			Assert.fail("Truncated stream should not be accepted.");
+		} catch (EOFException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testCorruptLength() throws Exception {
+		byte[] data = encode(messages());
+		// length field of the first message claims almost 2 GB
+		data[2] = (byte) 0x7F;
+		data[3] = data[4] = data[5] = (byte) 0xFF;
+		try {
+			ctx.createBinaryDecoder().maxFrameSize(1024).decodeAll(new ByteArrayInputStream(data),
+					new MessageHandler() {
+						@Override
+						public void handle(LlrpMessage message) {
+						}
+					});
+			Assert.fail("Frames longer than the maximum frame size should not be accepted.");
+		} catch (LlrpException e) {
+			// expected
+		}
+	}
+}
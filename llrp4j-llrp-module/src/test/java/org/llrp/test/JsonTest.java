@@ -0,0 +1,113 @@
+package org.llrp.test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.llrp.enumerations.GetReaderConfigRequestedData;
+import org.llrp.messages.GET_READER_CONFIG;
+import org.llrp.messages.RO_ACCESS_REPORT;
+import org.llrp.modules.LlrpModule;
+import org.llrp.parameters.AntennaID;
+import org.llrp.parameters.EPCData;
+import org.llrp.parameters.EPC_96;
+import org.llrp.parameters.PeakRSSI;
+import org.llrp.parameters.TagReportData;
+
+import net.enilink.llrp4j.BinaryEncoder;
+import net.enilink.llrp4j.JsonDecoder;
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.json.JsonReader;
+import net.enilink.llrp4j.json.JsonWriter;
+import net.enilink.llrp4j.types.BitList;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+public class JsonTest {
+	LlrpContext ctx = LlrpContext.create(new LlrpModule());
+
+	byte[] encode(LlrpMessage message) {
+		BinaryEncoder encoder = ctx.createBinaryEncoder();
+		BitBuffer buffer = BitBuffer.allocateDynamic();
+		encoder.encodeMessage(message, buffer);
+		return buffer.asByteArray();
+	}
+
+	@Test
+	public void testFormat() throws Exception {
+		GET_READER_CONFIG config = new GET_READER_CONFIG().antennaID(2)
+				.requestedData(GetReaderConfigRequestedData.Identification).gpiPortNum(3).gpoPortNum(4);
+		config.messageID(10);
+
+		StringWriter sw = new StringWriter();
+		ctx.createJsonEncoder().encodeMessage(config, new JsonWriter(sw));
+		Assert.assertEquals("{\"@type\":\"GET_READER_CONFIG\",\"@id\":10,\"AntennaID\":2,"
+				+ "\"RequestedData\":\"Identification\",\"GPIPortNum\":3,\"GPOPortNum\":4}", sw.toString());
+
+		// members may be reordered and surrounded by whitespace
+		LlrpMessage decoded = ctx.createJsonDecoder().decodeMessage(new JsonReader(new StringReader(
+				"{ \"@type\" : \"GET_READER_CONFIG\",\n \"GPOPortNum\": 4, \"GPIPortNum\": 3, \"@id\": 10,"
+						+ " \"RequestedData\": \"Identification\", \"AntennaID\": 2 }")));
+		Assert.assertEquals(config, decoded);
+	}
+
+	@Test
+	public void testLines() throws Exception {
+		List<TagReportData> tags = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			tags.add(new TagReportData().epcParameter(new EPC_96().epc(BigInteger.valueOf(i)))
+					.antennaID(new AntennaID().antennaID(i)).peakRSSI(new PeakRSSI().peakRSSI(-50 - i)));
+		}
+		tags.add(new TagReportData().epcParameter(new EPCData().epc(new BitList("1011"))));
+		RO_ACCESS_REPORT first = new RO_ACCESS_REPORT().tagReportData(tags.subList(0, 2));
+		RO_ACCESS_REPORT second = new RO_ACCESS_REPORT().tagReportData(tags.subList(2, tags.size()));
+
+		byte[] a = encode(first);
+		byte[] b = encode(second);
+		ByteBuffer frames = ByteBuffer.allocate(a.length + b.length);
+		frames.put(a).put(b).flip();
+
+		StringWriter sw = new StringWriter();
+		Assert.assertEquals(tags.size(),
+				ctx.createBinaryToJsonTranscoder().transcodeLines(frames, TagReportData.class, new JsonWriter(sw)));
+		Assert.assertFalse(frames.hasRemaining());
+
+		String[] lines = sw.toString().split("\n");
+		Assert.assertEquals(tags.size(), lines.length);
+		Assert.assertEquals("{\"@type\":\"TagReportData\",\"EPCParameter\":{\"@type\":\"EPC_96\",\"EPC\":\"0\"},"
+				+ "\"AntennaID\":{\"AntennaID\":0},\"PeakRSSI\":{\"PeakRSSI\":-50}}", lines[0]);
+
+		// lines can be read back as parameters
+		JsonDecoder decoder = ctx.createJsonDecoder();
+		JsonReader reader = new JsonReader(new StringReader(sw.toString()));
+		List<Object> decoded = new ArrayList<>();
+		Object parameter;
+		while ((parameter = decoder.decodeParameter(reader)) != null) {
+			decoded.add(parameter);
+		}
+		Assert.assertEquals(tags, decoded);
+	}
+
+	@Test
+	public void testStrings() throws Exception {
+		StringWriter sw = new StringWriter();
+		JsonWriter writer = new JsonWriter(sw);
+		writer.beginArray().value("a\"b\\c\n\u0001").value(true).nullValue().beginObject().endObject().endArray();
+		Assert.assertEquals("[\"a\\\"b\\\\c\\n\\u0001\",true,null,{}]", sw.toString());
+
+		JsonReader reader = new JsonReader(new StringReader(sw.toString()));
+		reader.beginArray();
+		Assert.assertEquals("a\"b\\c\n\u0001", reader.nextString());
+		Assert.assertEquals("true", reader.nextString());
+		reader.nextNull();
+		reader.skipValue();
+		Assert.assertFalse(reader.hasNext());
+		reader.endArray();
+		Assert.assertEquals(JsonReader.Token.END_DOCUMENT, reader.peek());
+	}
+}
@@ -0,0 +1,86 @@
+package org.llrp.test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.llrp.messages.RO_ACCESS_REPORT;
+import org.llrp.modules.LlrpModule;
+import org.llrp.parameters.AntennaID;
+import org.llrp.parameters.ChannelIndex;
+import org.llrp.parameters.EPC_96;
+import org.llrp.parameters.FirstSeenTimestampUTC;
+import org.llrp.parameters.PeakRSSI;
+import org.llrp.parameters.TagReportData;
+
+import net.enilink.llrp4j.BinaryDecoder;
+import net.enilink.llrp4j.BinaryEncoder;
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.ReportStateCache;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+
+public class ReportStateTest {
+	TagReportData tag(long epc, int antenna, int rssi, long timestamp) {
+		return new TagReportData().epcParameter(new EPC_96().epc(BigInteger.valueOf(epc)))
+				.antennaID(new AntennaID().antennaID(antenna)).peakRSSI(new PeakRSSI().peakRSSI(rssi))
+				.channelIndex(new ChannelIndex().channelIndex(3))
+				.firstSeenTimestampUTC(new FirstSeenTimestampUTC().microseconds(BigInteger.valueOf(timestamp)));
+	}
+
+	List<RO_ACCESS_REPORT> reports() {
+		return Arrays.asList(
+				new RO_ACCESS_REPORT().tagReportData(Arrays.asList(tag(1, 1, -50, 1000), tag(2, 1, -50, 2000))),
+				new RO_ACCESS_REPORT().tagReportData(Arrays.asList(tag(1, 2, -48, 3000), tag(3, 2, -48, 3000))));
+	}
+
+	byte[] encode(BinaryEncoder encoder, RO_ACCESS_REPORT report) {
+		BitBuffer buffer = BitBuffer.allocateDynamic();
+		encoder.encodeMessage(report, buffer);
+		return buffer.asByteArray();
+	}
+
+	@Test
+	public void testOmitAndFill() throws Exception {
+		LlrpContext ctx = LlrpContext.create(new LlrpModule());
+		BinaryEncoder plainEncoder = ctx.createBinaryEncoder();
+		BinaryEncoder omittingEncoder = ctx.createBinaryEncoder()
+				.reportState(new ReportStateCache().track(TagReportData.class));
+		BinaryDecoder fillingDecoder = ctx.createBinaryDecoder()
+				.reportState(new ReportStateCache().track(TagReportData.class));
+		BinaryDecoder plainDecoder = ctx.createBinaryDecoder();
+
+		for (RO_ACCESS_REPORT report : reports()) {
+			byte[] plain = encode(plainEncoder, report);
+			byte[] omitted = encode(omittingEncoder, report);
+			Assert.assertTrue("Unchanged parameters should be omitted.", omitted.length < plain.length);
+
+			Assert.assertEquals(report, fillingDecoder.decodeMessage(BitBuffer.wrap(omitted)));
+
+			RO_ACCESS_REPORT incomplete = (RO_ACCESS_REPORT) plainDecoder.decodeMessage(BitBuffer.wrap(omitted));
+			Assert.assertNull(incomplete.getTagReportData().get(1).getChannelIndex());
+		}
+	}
+
+	@Test
+	public void testFilledParametersAreCopies() throws Exception {
+		LlrpContext ctx = LlrpContext.create(new LlrpModule());
+		BinaryEncoder omittingEncoder = ctx.createBinaryEncoder()
+				.reportState(new ReportStateCache().track(TagReportData.class));
+		BinaryDecoder fillingDecoder = ctx.createBinaryDecoder()
+				.reportState(new ReportStateCache().track(TagReportData.class));
+
+		RO_ACCESS_REPORT report = reports().get(0);
+		RO_ACCESS_REPORT decoded = (RO_ACCESS_REPORT) fillingDecoder
+				.decodeMessage(BitBuffer.wrap(encode(omittingEncoder, report)));
+		Assert.assertEquals(report, decoded);
+		TagReportData first = decoded.getTagReportData().get(0);
+		TagReportData second = decoded.getTagReportData().get(1);
+		Assert.assertNotSame(first.getChannelIndex(), second.getChannelIndex());
+
+		// changing one report does not change the others
+		second.getChannelIndex().channelIndex(7);
+		Assert.assertEquals(3, first.getChannelIndex().channelIndex());
+	}
+}
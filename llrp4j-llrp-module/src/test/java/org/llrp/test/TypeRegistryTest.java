@@ -0,0 +1,80 @@
+package org.llrp.test;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.llrp.modules.LlrpModule;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.Module;
+import net.enilink.llrp4j.impl.BaseType;
+import net.enilink.llrp4j.impl.Message;
+import net.enilink.llrp4j.impl.Parameter;
+import net.enilink.llrp4j.impl.Property;
+
+public class TypeRegistryTest {
+	final static Logger logger = LoggerFactory.getLogger(TypeRegistryTest.class);
+
+	static class TestContext extends LlrpContext {
+		TestContext(Module... modules) {
+			super(modules);
+		}
+
+		BaseType type(Class<?> c) {
+			return classToType.get(c);
+		}
+	}
+
+	@Test
+	public void testDescriptors() {
+		TestContext described = new TestContext(new LlrpModule());
+		// use a different set of classes to prevent sharing of the types
+		TestContext annotated = new TestContext(
+				new Module().addClasses(new LlrpModule().getClasses()).addClass(TypeRegistryTest.class));
+		for (Class<?> c : new LlrpModule().getClasses()) {
+			BaseType expected = annotated.type(c);
+			BaseType actual = described.type(c);
+			if (expected == null) {
+				Assert.assertNull(actual);
+				continue;
+			}
+			Assert.assertNotSame(expected, actual);
+			Assert.assertEquals(expected.getClass(), actual.getClass());
+			Assert.assertEquals(expected.reservedBits, actual.reservedBits);
+			if (expected instanceof Message) {
+				Assert.assertEquals(((Message) expected).typeNum, ((Message) actual).typeNum);
+				Assert.assertEquals(((Message) expected).responseType, ((Message) actual).responseType);
+			} else if (expected instanceof Parameter) {
+				Assert.assertEquals(((Parameter) expected).typeNum, ((Parameter) actual).typeNum);
+			}
+			Property[] expectedProperties = expected.properties();
+			Property[] actualProperties = actual.properties();
+			Assert.assertEquals(expectedProperties.length, actualProperties.length);
+			for (int i = 0; i < expectedProperties.length; i++) {
+				Assert.assertEquals(expectedProperties[i].field, actualProperties[i].field);
+			}
+		}
+	}
+
+	@Test
+	public void testSharedTypes() {
+		long start = System.nanoTime();
+		TestContext first = new TestContext(new LlrpModule());
+		long firstTime = System.nanoTime() - start;
+
+		int count = 100;
+		start = System.nanoTime();
+		TestContext other = null;
+		for (int i = 0; i < count; i++) {
+			other = new TestContext(new LlrpModule());
+		}
+		long otherTime = (System.nanoTime() - start) / count;
+		logger.info("Context creation took {} us for the first and {} us for further contexts.", firstTime / 1000,
+				otherTime / 1000);
+
+		for (Class<?> c : new LlrpModule().getClasses()) {
+			Assert.assertSame(first.type(c), other.type(c));
+		}
+	}
+}
@@ -0,0 +1,110 @@
+package org.llrp.test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.llrp.ltk.schema.core.FieldType;
+import org.llrp.messages.RO_ACCESS_REPORT;
+import org.llrp.modules.LlrpModule;
+import org.llrp.parameters.Custom;
+import org.llrp.parameters.EPC_96;
+import org.llrp.parameters.TagReportData;
+
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.LlrpException;
+import net.enilink.llrp4j.Module;
+import net.enilink.llrp4j.ValidationMode;
+import net.enilink.llrp4j.annotations.AllowedIn;
+import net.enilink.llrp4j.annotations.LlrpCustomParameterType;
+import net.enilink.llrp4j.annotations.LlrpField;
+import net.enilink.llrp4j.annotations.LlrpProperties;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+public class ValidationTest {
+	@LlrpCustomParameterType(vendor = 4711, subType = 1, allowedIn = @AllowedIn(targetType = TagReportData.class))
+	@LlrpProperties({ "value" })
+	public static class TagExtension extends Custom {
+		@LlrpField(type = FieldType.U_32)
+		protected long value;
+
+		public TagExtension value(long value) {
+			this.value = value;
+			return this;
+		}
+	}
+
+	LlrpContext ctx = LlrpContext.create(new LlrpModule(), new Module().addClass(TagExtension.class));
+
+	TagReportData tag(Custom... custom) {
+		TagReportData tag = new TagReportData().epcParameter(new EPC_96().epc(BigInteger.ONE));
+		return custom.length > 0 ? tag.custom(Arrays.asList(custom)) : tag;
+	}
+
+	byte[] encode(LlrpMessage message) {
+		BitBuffer buffer = BitBuffer.allocateDynamic();
+		ctx.createBinaryEncoder().validation(ValidationMode.OFF).encodeMessage(message, buffer);
+		return buffer.asByteArray();
+	}
+
+	LlrpMessage decode(byte[] bytes, ValidationMode mode) throws Exception {
+		return ctx.createBinaryDecoder().validation(mode).decodeMessage(BitBuffer.wrap(bytes));
+	}
+
+	void assertRejected(byte[] bytes) throws Exception {
+		try {
+			decode(bytes, ValidationMode.STRICT);
+			Assert.fail("Invalid message should be rejected.");
+		} catch (LlrpException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testValid() throws Exception {
+		RO_ACCESS_REPORT report = new RO_ACCESS_REPORT()
+				.tagReportData(Arrays.asList(tag(new TagExtension().value(42))));
+		BitBuffer buffer = BitBuffer.allocateDynamic();
+		ctx.createBinaryEncoder().validation(ValidationMode.STRICT).encodeMessage(report, buffer);
+
+		RO_ACCESS_REPORT decoded = (RO_ACCESS_REPORT) decode(buffer.asByteArray(), ValidationMode.STRICT);
+		Custom custom = decoded.getTagReportData().get(0).getCustom().get(0);
+		Assert.assertTrue(custom instanceof TagExtension);
+		Assert.assertEquals(42, ((TagExtension) custom).value);
+	}
+
+	@Test
+	public void testNotAllowedIn() throws Exception {
+		RO_ACCESS_REPORT report = new RO_ACCESS_REPORT().tagReportData(Arrays.asList(tag()))
+				.custom(Arrays.<Custom> asList(new TagExtension()));
+		try {
+			ctx.createBinaryEncoder().validation(ValidationMode.STRICT).encodeMessage(report,
+					BitBuffer.allocateDynamic());
+			Assert.fail("Parameter should not be allowed in message.");
+		} catch (LlrpException e) {
+			// expected
+		}
+
+		byte[] bytes = encode(report);
+		assertRejected(bytes);
+		Assert.assertEquals(report, decode(bytes, ValidationMode.WARN));
+		Assert.assertEquals(report, decode(bytes, ValidationMode.OFF));
+	}
+
+	@Test
+	public void testCardinality() throws Exception {
+		RO_ACCESS_REPORT report = new RO_ACCESS_REPORT()
+				.tagReportData(Arrays.asList(tag(new TagExtension().value(1), new TagExtension().value(2))));
+		assertRejected(encode(report));
+	}
+
+	@Test
+	public void testLength() throws Exception {
+		RO_ACCESS_REPORT report = new RO_ACCESS_REPORT().tagReportData(Arrays.asList(tag()));
+		byte[] bytes = encode(report);
+		// append unexpected data
+		assertRejected(Arrays.copyOf(bytes, bytes.length + 4));
+	}
+}
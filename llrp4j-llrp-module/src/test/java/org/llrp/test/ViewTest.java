@@ -0,0 +1,106 @@
+package org.llrp.test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.llrp.enumerations.GetReaderConfigRequestedData;
+import org.llrp.messages.GET_READER_CONFIG;
+import org.llrp.messages.RO_ACCESS_REPORT;
+import org.llrp.modules.LlrpModule;
+import org.llrp.parameters.AntennaID;
+import org.llrp.parameters.Custom;
+import org.llrp.parameters.EPCData;
+import org.llrp.parameters.EPC_96;
+import org.llrp.parameters.FirstSeenTimestampUTC;
+import org.llrp.parameters.PeakRSSI;
+import org.llrp.parameters.TagReportData;
+import org.llrp.views.EPCDataView;
+import org.llrp.views.EPC_96View;
+import org.llrp.views.GET_READER_CONFIGView;
+import org.llrp.views.RO_ACCESS_REPORTView;
+import org.llrp.views.TagReportDataView;
+
+import net.enilink.llrp4j.BinaryEncoder;
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.types.BitList;
+import net.enilink.llrp4j.types.LlrpMessage;
+import net.enilink.llrp4j.view.ParameterView;
+
+public class ViewTest {
+	LlrpContext ctx = LlrpContext.create(new LlrpModule());
+
+	ByteBuffer encode(LlrpMessage message) {
+		BinaryEncoder encoder = ctx.createBinaryEncoder();
+		BitBuffer buffer = BitBuffer.allocateDynamic();
+		encoder.encodeMessage(message, buffer);
+		return ByteBuffer.wrap(buffer.asByteArray());
+	}
+
+	@Test
+	public void testMessageFields() {
+		GET_READER_CONFIG message = new GET_READER_CONFIG().antennaID(3)
+				.requestedData(GetReaderConfigRequestedData.AntennaConfiguration).gpiPortNum(1).gpoPortNum(65535);
+		message.messageID(4711);
+
+		GET_READER_CONFIGView view = new GET_READER_CONFIGView().wrap(encode(message), 0);
+		Assert.assertEquals(GET_READER_CONFIGView.TYPE_NUM, view.getTypeNum());
+		Assert.assertEquals(4711, view.getMessageID());
+		Assert.assertEquals(3, view.antennaID());
+		Assert.assertEquals(GetReaderConfigRequestedData.AntennaConfiguration, view.requestedData());
+		Assert.assertEquals(1, view.gpiPortNum());
+		Assert.assertEquals(65535, view.gpoPortNum());
+		Assert.assertEquals(0, view.customCount());
+	}
+
+	@Test
+	public void testReport() {
+		RO_ACCESS_REPORT report = new RO_ACCESS_REPORT().tagReportData(Arrays.asList(
+				new TagReportData().epcParameter(new EPC_96().epc(new BigInteger("300833B2DDD9014000000001", 16)))
+						.antennaID(new AntennaID().antennaID(2)).peakRSSI(new PeakRSSI().peakRSSI(-56))
+						.firstSeenTimestampUTC(
+								new FirstSeenTimestampUTC().microseconds(BigInteger.valueOf(1500000000000000L))),
+				new TagReportData().epcParameter(new EPCData().epc(new BitList("1011001110001111")))));
+
+		// embed the message into a larger buffer
+		ByteBuffer encoded = encode(report);
+		ByteBuffer buffer = ByteBuffer.allocate(encoded.remaining() + 7);
+		buffer.position(7);
+		buffer.put(encoded);
+
+		RO_ACCESS_REPORTView view = new RO_ACCESS_REPORTView().wrap(buffer, 7);
+		Assert.assertEquals(encoded.capacity(), view.getLength());
+		Assert.assertEquals(2, view.tagReportDataCount());
+
+		TagReportDataView tag = view.tagReportData(0);
+		ParameterView epc = tag.epcParameter();
+		Assert.assertEquals(EPC_96View.TYPE_NUM, epc.getTypeNum());
+		Assert.assertEquals(new BigInteger("300833B2DDD9014000000001", 16), epc.as(new EPC_96View()).epc());
+		Assert.assertEquals(2, tag.antennaID().antennaID());
+		Assert.assertEquals(-56, tag.peakRSSI().peakRSSI());
+		Assert.assertEquals(1500000000000000L, tag.firstSeenTimestampUTC().microseconds());
+		Assert.assertNull(tag.channelIndex());
+
+		// the same view instance is re-pointed to the next parameter
+		Assert.assertSame(tag, view.tagReportData(1));
+		Assert.assertEquals(EPCDataView.TYPE_NUM, tag.epcParameter().getTypeNum());
+		Assert.assertEquals(new BitList("1011001110001111"), tag.epcParameter().as(new EPCDataView()).epc());
+		Assert.assertNull(tag.antennaID());
+		Assert.assertEquals(1, tag.getParameterCount());
+	}
+
+	@Test
+	public void testCustomInChoice() {
+		TagReportData tagReportData = new TagReportData().epcParameter(new EPCData().epc(new BitList("1011")));
+		tagReportData.custom().add(new Custom().vendorIdentifier(25882).parameterSubtype(1).data(new byte[] { 1, 2 }));
+		RO_ACCESS_REPORT report = new RO_ACCESS_REPORT().tagReportData(Arrays.asList(tagReportData));
+
+		TagReportDataView tag = new RO_ACCESS_REPORTView().wrap(encode(report), 0).tagReportData(0);
+		// custom parameters are not members of the op spec result choice
+		Assert.assertEquals(0, tag.accessCommandOpSpecResultCount());
+		Assert.assertEquals(1, tag.customCount());
+	}
+}
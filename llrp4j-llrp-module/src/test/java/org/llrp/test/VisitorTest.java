@@ -0,0 +1,153 @@
+package org.llrp.test;
+
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.llrp.enumerations.GetReaderConfigRequestedData;
+import org.llrp.ltk.schema.core.FieldType;
+import org.llrp.messages.GET_READER_CONFIG;
+import org.llrp.messages.RO_ACCESS_REPORT;
+import org.llrp.modules.LlrpModule;
+import org.llrp.parameters.AntennaID;
+import org.llrp.parameters.EPCData;
+import org.llrp.parameters.EPC_96;
+import org.llrp.parameters.PeakRSSI;
+import org.llrp.parameters.TagReportData;
+
+import net.enilink.llrp4j.BinaryEncoder;
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.LlrpVisitor;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.impl.CustomKey;
+import net.enilink.llrp4j.types.BitList;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+public class VisitorTest {
+	LlrpContext ctx = LlrpContext.create(new LlrpModule());
+
+	byte[] encode(LlrpMessage message) {
+		BinaryEncoder encoder = ctx.createBinaryEncoder();
+		BitBuffer buffer = BitBuffer.allocateDynamic();
+		encoder.encodeMessage(message, buffer);
+		return buffer.asByteArray();
+	}
+
+	/**
+	 * Records all events as strings.
+	 */
+	static class Trace extends LlrpVisitor {
+		final List<String> events = new ArrayList<>();
+
+		@Override
+		public boolean startMessage(Class<?> type, int typeNum, CustomKey key, long messageID) {
+			events.add("<" + type.getSimpleName() + " id=" + messageID);
+			return true;
+		}
+
+		@Override
+		public void endMessage(Class<?> type) {
+			events.add(">");
+		}
+
+		@Override
+		public boolean startParameter(Class<?> type, int typeNum, CustomKey key) {
+			events.add("<" + type.getSimpleName());
+			return true;
+		}
+
+		@Override
+		public void endParameter(Class<?> type) {
+			events.add(">");
+		}
+
+		@Override
+		public void onInt(String name, FieldType type, int value) {
+			events.add(name + "=" + value);
+		}
+
+		@Override
+		public void onLong(String name, FieldType type, long value) {
+			events.add(name + "=" + value);
+		}
+
+		@Override
+		public void onBytes(String name, FieldType type, byte[] bytes, int length) {
+			events.add(name + "=" + new BigInteger(1, Arrays.copyOf(bytes, length)).toString(16));
+		}
+
+		@Override
+		public void onBits(String name, FieldType type, byte[] bits, int bitCount) {
+			events.add(name + "=" + new BitList(Arrays.copyOf(bits, (bitCount + 7) / 8)).subList(0, bitCount));
+		}
+	}
+
+	@Test
+	public void testEvents() throws Exception {
+		GET_READER_CONFIG config = new GET_READER_CONFIG().antennaID(2)
+				.requestedData(GetReaderConfigRequestedData.Identification).gpiPortNum(3).gpoPortNum(4);
+		config.messageID(10);
+		RO_ACCESS_REPORT report = new RO_ACCESS_REPORT().tagReportData(Arrays.asList(
+				new TagReportData().epcParameter(new EPC_96().epc(new BigInteger("300833b2ddd9014000000001", 16)))
+						.antennaID(new AntennaID().antennaID(1)).peakRSSI(new PeakRSSI().peakRSSI(-60)),
+				new TagReportData().epcParameter(new EPCData().epc(new BitList("101100111")))));
+		report.messageID(11);
+
+		byte[] first = encode(config);
+		byte[] second = encode(report);
+		ByteBuffer buffer = ByteBuffer.allocate(first.length + second.length);
+		buffer.put(first).put(second).flip();
+
+		Trace trace = new Trace();
+		Assert.assertEquals(2, ctx.createBinaryDecoder().visitAll(buffer, trace));
+		Assert.assertEquals(Arrays.asList( //
+				"<GET_READER_CONFIG id=10", "antennaID=2", "requestedData=1", "gPIPortNum=3", "gPOPortNum=4", ">", //
+				"<RO_ACCESS_REPORT id=11", //
+				"<TagReportData", "<EPC_96", "ePC=300833b2ddd9014000000001", ">", //
+				"<AntennaID", "antennaID=1", ">", "<PeakRSSI", "peakRSSI=-60", ">", ">", //
+				"<TagReportData", "<EPCData", "ePC=101100111", ">", ">", //
+				">"), trace.events);
+	}
+
+	@Test
+	public void testSkip() throws Exception {
+		List<TagReportData> tags = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			tags.add(new TagReportData().epcParameter(new EPC_96().epc(BigInteger.valueOf(i)))
+					.antennaID(new AntennaID().antennaID(i % 2 + 1)));
+		}
+		RO_ACCESS_REPORT report = new RO_ACCESS_REPORT().tagReportData(tags);
+
+		// count the tags of antenna 2 while skipping EPC parameters
+		final int[] counts = new int[3];
+		ctx.createBinaryDecoder().visitMessage(BitBuffer.wrap(encode(report)), new LlrpVisitor() {
+			@Override
+			public boolean startParameter(Class<?> type, int typeNum, CustomKey key) {
+				if (type == TagReportData.class) {
+					counts[0]++;
+				} else if (type == EPC_96.class) {
+					counts[1]++;
+					return false;
+				}
+				return true;
+			}
+
+			@Override
+			public void onInt(String name, FieldType type, int value) {
+				if (value == 2) {
+					counts[2]++;
+				}
+			}
+
+			@Override
+			public void onBytes(String name, FieldType type, byte[] bytes, int length) {
+				Assert.fail("EPC parameters should have been skipped.");
+			}
+		});
+		Assert.assertArrayEquals(new int[] { 10, 10, 5 }, counts);
+	}
+}
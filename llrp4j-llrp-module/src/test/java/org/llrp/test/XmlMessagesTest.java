@@ -3,6 +3,11 @@ package org.llrp.test;
 import java.io.InputStream;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLOutputFactory;
@@ -11,11 +16,18 @@ import javax.xml.stream.XMLStreamWriter;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.llrp.messages.RO_ACCESS_REPORT;
 import org.llrp.modules.LlrpModule;
+import org.llrp.parameters.AntennaID;
+import org.llrp.parameters.EPC_96;
+import org.llrp.parameters.TagReportData;
 
 import net.enilink.llrp4j.LlrpContext;
 import net.enilink.llrp4j.XmlDecoder;
 import net.enilink.llrp4j.XmlEncoder;
+import net.enilink.llrp4j.XmlMessageReader;
+import net.enilink.llrp4j.XmlMessageWriter;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
 import net.enilink.llrp4j.types.LlrpMessage;
 import net.enilink.llrp4j.xml.IndentingXMLStreamWriter;
 
@@ -58,4 +70,49 @@ public class XmlMessagesTest {
 		encoder.encodeMessage(msg, new IndentingXMLStreamWriter(writer));
 		return sw.toString();
 	}
+
+	@Test
+	public void testMessageStream() throws Exception {
+		LlrpContext ctx = LlrpContext.create(new LlrpModule());
+		XmlDecoder decoder = ctx.createXmlDecoder();
+		List<LlrpMessage> messages = new ArrayList<>();
+		for (String file : Arrays.asList("/messages/SET_READER_CONFIG-1.xml", "/messages/ADD_ROSPEC-1.xml")) {
+			InputStream in = getClass().getResourceAsStream(file);
+			messages.add(decoder.decodeMessage(XMLInputFactory.newInstance().createXMLStreamReader(in)));
+		}
+		RO_ACCESS_REPORT report = new RO_ACCESS_REPORT().tagReportData(Arrays.asList(new TagReportData()
+				.epcParameter(new EPC_96().epc(new BigInteger("300833B2DDD9014000000000", 16)))
+				.antennaID(new AntennaID().antennaID(2))));
+		BitBuffer binary = BitBuffer.allocateDynamic();
+		ctx.createBinaryEncoder().encodeMessage(report, binary);
+
+		for (boolean fragments : Arrays.asList(false, true)) {
+			StringWriter sw = new StringWriter();
+			XmlMessageWriter writer = new XmlMessageWriter(ctx, sw, !fragments)
+					.rootElement(fragments ? null : XmlMessageWriter.DEFAULT_ROOT_ELEMENT);
+			for (LlrpMessage message : messages) {
+				writer.write(message);
+			}
+			writer.write(ByteBuffer.wrap(binary.asByteArray()));
+			writer.write(messages.get(0));
+			writer.close();
+
+			String xml = sw.toString();
+			Assert.assertEquals(fragments ? 0 : 1, xml.split("<\\?xml").length - 1);
+			XmlMessageReader reader = fragments ? XmlMessageReader.fragments(ctx, new StringReader(xml))
+					: new XmlMessageReader(ctx, new StringReader(xml));
+			Assert.assertEquals(messages.get(0), reader.read());
+			Assert.assertEquals(messages.get(1), reader.read());
+			Assert.assertEquals(report, reader.read());
+			Assert.assertEquals(messages.get(0), reader.read());
+			Assert.assertNull(reader.read());
+			Assert.assertNull(reader.read());
+			reader.close();
+		}
+
+		// a single message document
+		XmlMessageReader reader = new XmlMessageReader(ctx, new StringReader(toXml(ctx, messages.get(1))));
+		Assert.assertEquals(messages.get(1), reader.read());
+		Assert.assertNull(reader.read());
+	}
 }
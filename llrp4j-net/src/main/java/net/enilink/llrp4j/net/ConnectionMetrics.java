@@ -0,0 +1,187 @@
+package net.enilink.llrp4j.net;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Statistics about the messages that are exchanged over an LLRP connection.
+ * <p>
+ * The values are updated concurrently by the I/O and worker threads and may
+ * be read at any time.
+ */
+public class ConnectionMetrics {
+	final AtomicInteger decodeQueueDepth = new AtomicInteger();
+	final AtomicLong decodedMessages = new AtomicLong();
+	final AtomicLong decodeLatency = new AtomicLong();
+	final AtomicLong maxDecodeLatency = new AtomicLong();
+	final AtomicInteger dispatchQueueDepth = new AtomicInteger();
+	final AtomicLong droppedMessages = new AtomicLong();
+	final AtomicLong coalescedMessages = new AtomicLong();
+	final AtomicLong outboundQueueBytes = new AtomicLong();
+	final AtomicLong writtenBytes = new AtomicLong();
+	final AtomicLong writes = new AtomicLong();
+	final AtomicLong scheduledFlushes = new AtomicLong();
+	final AtomicLong readSuspensions = new AtomicLong();
+	final AtomicLong readResumptions = new AtomicLong();
+	final AtomicLong readSuspendedTime = new AtomicLong();
+	final AtomicLong readSuspendedSince = new AtomicLong();
+
+	/**
+	 * Returns the number of received frames that are waiting to be decoded.
+	 */
+	public int decodeQueueDepth() {
+		return decodeQueueDepth.get();
+	}
+
+	/**
+	 * Returns the number of decoded messages.
+	 */
+	public long decodedMessages() {
+		return decodedMessages.get();
+	}
+
+	/**
+	 * Returns the sum of the times between the reception of each frame and the
+	 * completion of its decoding in nanoseconds.
+	 */
+	public long decodeLatencyNanos() {
+		return decodeLatency.get();
+	}
+
+	/**
+	 * Returns the longest time between the reception of a frame and the
+	 * completion of its decoding in nanoseconds.
+	 */
+	public long maxDecodeLatencyNanos() {
+		return maxDecodeLatency.get();
+	}
+
+	/**
+	 * Returns the average time between the reception of a frame and the
+	 * completion of its decoding in nanoseconds.
+	 */
+	public long averageDecodeLatencyNanos() {
+		long count = decodedMessages.get();
+		return count == 0 ? 0 : decodeLatency.get() / count;
+	}
+
+	/**
+	 * Returns the number of messages that are waiting to be dispatched to the
+	 * endpoint.
+	 */
+	public int dispatchQueueDepth() {
+		return dispatchQueueDepth.get();
+	}
+
+	/**
+	 * Returns the number of reports that were dropped because the dispatch
+	 * queue was full.
+	 */
+	public long droppedMessages() {
+		return droppedMessages.get();
+	}
+
+	/**
+	 * Returns the number of reports that were merged into queued reports
+	 * because the dispatch queue was full.
+	 */
+	public long coalescedMessages() {
+		return coalescedMessages.get();
+	}
+
+	/**
+	 * Returns the number of bytes that are waiting to be written.
+	 */
+	public long outboundQueueBytes() {
+		return outboundQueueBytes.get();
+	}
+
+	/**
+	 * Returns the number of bytes that were written to the network.
+	 */
+	public long writtenBytes() {
+		return writtenBytes.get();
+	}
+
+	/**
+	 * Returns the number of write calls. Each call may write the data of
+	 * several messages.
+	 */
+	public long writes() {
+		return writes.get();
+	}
+
+	/**
+	 * Returns the number of times the I/O thread was notified about data that
+	 * is waiting to be written.
+	 */
+	public long scheduledFlushes() {
+		return scheduledFlushes.get();
+	}
+
+	/**
+	 * Returns the number of times reading was suspended because too many
+	 * received messages were waiting to be decoded or dispatched.
+	 */
+	public long readSuspensions() {
+		return readSuspensions.get();
+	}
+
+	/**
+	 * Returns the number of times reading was resumed.
+	 */
+	public long readResumptions() {
+		return readResumptions.get();
+	}
+
+	/**
+	 * Returns <code>true</code> if reading is currently suspended.
+	 */
+	public boolean isReadSuspended() {
+		return readSuspendedSince.get() != 0;
+	}
+
+	/**
+	 * Returns the total time in nanoseconds during which reading was
+	 * suspended including a still ongoing suspension.
+	 */
+	public long readSuspendedNanos() {
+		long since = readSuspendedSince.get();
+		return readSuspendedTime.get() + (since == 0 ? 0 : System.nanoTime() - since);
+	}
+
+	void recordReadSuspended() {
+		readSuspensions.incrementAndGet();
+		long now = System.nanoTime();
+		// zero marks that reading is not suspended
+		readSuspendedSince.set(now == 0 ? 1 : now);
+	}
+
+	void recordReadResumed() {
+		readResumptions.incrementAndGet();
+		long since = readSuspendedSince.getAndSet(0);
+		if (since != 0) {
+			readSuspendedTime.addAndGet(System.nanoTime() - since);
+		}
+	}
+
+	void recordDecoded(long latency) {
+		decodedMessages.incrementAndGet();
+		decodeLatency.addAndGet(latency);
+		long max;
+		while ((max = maxDecodeLatency.get()) < latency && !maxDecodeLatency.compareAndSet(max, latency)) {
+			// retry
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "ConnectionMetrics [decodeQueueDepth=" + decodeQueueDepth() + ", decodedMessages=" + decodedMessages()
+				+ ", averageDecodeLatencyNanos=" + averageDecodeLatencyNanos() + ", maxDecodeLatencyNanos="
+				+ maxDecodeLatencyNanos() + ", dispatchQueueDepth=" + dispatchQueueDepth() + ", droppedMessages="
+				+ droppedMessages() + ", coalescedMessages=" + coalescedMessages() + ", outboundQueueBytes="
+				+ outboundQueueBytes() + ", writtenBytes=" + writtenBytes() + ", writes=" + writes()
+				+ ", scheduledFlushes=" + scheduledFlushes() + ", readSuspensions=" + readSuspensions()
+				+ ", readResumptions=" + readResumptions() + ", readSuspendedNanos=" + readSuspendedNanos() + "]";
+	}
+}
@@ -0,0 +1,196 @@
+package net.enilink.llrp4j.net;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.llrp.messages.RO_ACCESS_REPORT;
+
+import net.enilink.llrp4j.types.LlrpMessage;
+
+/**
+ * Bounded queue that dispatches the received messages of a connection on an
+ * executor in the order of their reception.
+ * <p>
+ * If the queue is full then reports are dropped or coalesced according to
+ * the {@link OverloadPolicy} while all other messages are always queued.
+ */
+abstract class DispatchQueue {
+	private static final int BATCH_SIZE = 64;
+
+	private final int capacity;
+	private final OverloadPolicy policy;
+	private final Executor executor;
+	private final ConnectionMetrics metrics;
+
+	private final ArrayDeque<LlrpMessage> queue = new ArrayDeque<>();
+	private boolean draining;
+
+	private final Runnable drainTask = new Runnable() {
+		@Override
+		public void run() {
+			drain();
+		}
+	};
+
+	DispatchQueue(int capacity, OverloadPolicy policy, Executor executor, ConnectionMetrics metrics) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be at least 1.");
+		}
+		this.capacity = capacity;
+		this.policy = policy;
+		this.executor = executor;
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Delivers a message to the endpoint.
+	 */
+	protected abstract void dispatch(LlrpMessage message);
+
+	/**
+	 * Called if the executor rejected the dispatching of queued messages. The
+	 * queued reports were dropped and all other messages were dispatched on
+	 * the current thread.
+	 */
+	protected abstract void rejected(RejectedExecutionException e);
+
+	/**
+	 * Called after messages were removed from the queue.
+	 */
+	protected void dequeued() {
+	}
+
+	static boolean isReport(LlrpMessage message) {
+		return message instanceof RO_ACCESS_REPORT;
+	}
+
+	/**
+	 * Queues a received message for dispatching.
+	 */
+	void offer(LlrpMessage message) {
+		synchronized (this) {
+			if (queue.size() >= capacity && !makeRoom(message)) {
+				return;
+			}
+			queue.add(message);
+			metrics.dispatchQueueDepth.set(queue.size());
+			if (draining) {
+				return;
+			}
+			draining = true;
+		}
+		execute();
+	}
+
+	/**
+	 * Returns <code>true</code> if the policy is {@link OverloadPolicy#BLOCK}
+	 * and the queue is full. The receiver has to suspend reading until this
+	 * changes instead of blocking its thread, which may be shared with other
+	 * connections.
+	 */
+	synchronized boolean isBlocked() {
+		return policy == OverloadPolicy.BLOCK && queue.size() >= capacity;
+	}
+
+	/**
+	 * Applies the overload policy to a full queue.
+	 * 
+	 * @return <code>true</code> if the message should be added to the queue
+	 */
+	private boolean makeRoom(LlrpMessage message) {
+		if (policy == OverloadPolicy.BLOCK || !isReport(message)) {
+			// messages that were already received are queued while reading
+			// is suspended, control messages are never dropped
+			return true;
+		}
+		switch (policy) {
+		case DROP_NEWEST:
+			metrics.droppedMessages.incrementAndGet();
+			return false;
+		case DROP_OLDEST:
+			for (Iterator<LlrpMessage> it = queue.iterator(); it.hasNext();) {
+				if (isReport(it.next())) {
+					it.remove();
+					metrics.droppedMessages.incrementAndGet();
+					break;
+				}
+			}
+			return true;
+		case COALESCE:
+			for (Iterator<LlrpMessage> it = queue.descendingIterator(); it.hasNext();) {
+				LlrpMessage queued = it.next();
+				if (isReport(queued)) {
+					coalesce((RO_ACCESS_REPORT) queued, (RO_ACCESS_REPORT) message);
+					metrics.coalescedMessages.incrementAndGet();
+					return false;
+				}
+			}
+			return true;
+		default:
+			return true;
+		}
+	}
+
+	static void coalesce(RO_ACCESS_REPORT target, RO_ACCESS_REPORT report) {
+		if (report.getTagReportData() != null) {
+			target.tagReportData().addAll(report.getTagReportData());
+		}
+		if (report.getRFSurveyReportData() != null) {
+			target.rfSurveyReportData().addAll(report.getRFSurveyReportData());
+		}
+		if (report.getCustom() != null) {
+			target.custom().addAll(report.getCustom());
+		}
+	}
+
+	private void execute() {
+		try {
+			executor.execute(drainTask);
+		} catch (RejectedExecutionException e) {
+			// drop the reports but keep the control messages
+			synchronized (this) {
+				for (Iterator<LlrpMessage> it = queue.iterator(); it.hasNext();) {
+					if (isReport(it.next())) {
+						it.remove();
+						metrics.droppedMessages.incrementAndGet();
+					}
+				}
+				metrics.dispatchQueueDepth.set(queue.size());
+			}
+			dequeued();
+			dispatchQueued(Integer.MAX_VALUE);
+			rejected(e);
+		}
+	}
+
+	private void drain() {
+		if (dispatchQueued(BATCH_SIZE)) {
+			// yield the executor to other connections
+			execute();
+		}
+	}
+
+	/**
+	 * Dispatches up to <code>limit</code> queued messages.
+	 * 
+	 * @return <code>true</code> if messages remain in the queue
+	 */
+	private boolean dispatchQueued(int limit) {
+		for (int i = 0; i < limit; i++) {
+			LlrpMessage message;
+			synchronized (this) {
+				message = queue.poll();
+				metrics.dispatchQueueDepth.set(queue.size());
+				if (message == null) {
+					draining = false;
+					return false;
+				}
+			}
+			dequeued();
+			dispatch(message);
+		}
+		return true;
+	}
+}
@@ -0,0 +1,126 @@
+package net.enilink.llrp4j.net;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+import net.enilink.llrp4j.FrameSplitter;
+import net.enilink.llrp4j.LlrpException;
+
+/**
+ * Assembles LLRP frames from the chunks of a byte stream.
+ * <p>
+ * Complete frames are returned as slices of the received chunks. Only the
+ * bytes of a frame that spans several chunks are copied into a cumulative
+ * buffer which grows up to the length of this frame. Instances of this class
+ * are not thread-safe.
+ */
+class FrameAssembler {
+	static final int INITIAL_CAPACITY = 1024;
+
+	/**
+	 * Cumulative buffers that are larger than this are released after their
+	 * frame was completed.
+	 */
+	static final int RETAINED_CAPACITY = 64 * 1024;
+
+	int maxFrameSize = LlrpConstants.DEFAULT_MAX_FRAME_SIZE;
+
+	// bytes of an incomplete frame in write mode
+	private ByteBuffer cumulation;
+
+	/**
+	 * Returns the next complete frame and advances the position of the given
+	 * chunk behind the consumed bytes. Bytes of an incomplete frame are
+	 * buffered until the following chunks arrive.
+	 * <p>
+	 * The returned frame is only valid until the next invocation of this
+	 * method.
+	 *
+	 * @param data
+	 *            the received chunk
+	 * @return the next frame or <code>null</code> if the chunk was consumed
+	 *         without completing a frame
+	 * @throws LlrpException
+	 *             if a frame has an invalid length or is larger than the
+	 *             maximum frame size
+	 */
+	ByteBuffer next(ByteBuffer data) {
+		if (buffered() > 0) {
+			return completeFrame(data);
+		}
+		int start = data.position();
+		int length = frameLength(data, start);
+		if (length >= 0 && data.limit() - start >= length) {
+			ByteBuffer frame = data.duplicate();
+			((Buffer) frame).limit(start + length);
+			((Buffer) data).position(start + length);
+			return frame.slice();
+		}
+		if (data.hasRemaining()) {
+			ensureCapacity(Math.max(length, data.remaining()));
+			cumulation.put(data);
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the number of buffered bytes of an incomplete frame.
+	 */
+	int buffered() {
+		return cumulation == null ? 0 : cumulation.position();
+	}
+
+	private ByteBuffer completeFrame(ByteBuffer data) {
+		if (cumulation.position() < FrameSplitter.HEADER_LENGTH) {
+			transfer(data, FrameSplitter.HEADER_LENGTH - cumulation.position());
+			if (cumulation.position() < FrameSplitter.HEADER_LENGTH) {
+				return null;
+			}
+		}
+		int length = frameLength(cumulation, 0);
+		ensureCapacity(length);
+		transfer(data, length - cumulation.position());
+		if (cumulation.position() < length) {
+			return null;
+		}
+		((Buffer) cumulation).flip();
+		ByteBuffer frame = cumulation.slice();
+		if (cumulation.capacity() > RETAINED_CAPACITY) {
+			cumulation = null;
+		} else {
+			((Buffer) cumulation).clear();
+		}
+		return frame;
+	}
+
+	private void transfer(ByteBuffer data, int count) {
+		count = Math.min(count, data.remaining());
+		if (count > 0) {
+			ByteBuffer part = data.duplicate();
+			((Buffer) part).limit(part.position() + count);
+			cumulation.put(part);
+			((Buffer) data).position(data.position() + count);
+		}
+	}
+
+	private void ensureCapacity(int capacity) {
+		if (cumulation == null) {
+			cumulation = ByteBuffer.allocate(Math.max(capacity, INITIAL_CAPACITY));
+		} else if (cumulation.capacity() < capacity) {
+			ByteBuffer larger = ByteBuffer.allocate(Math.max(capacity, Math.min(cumulation.capacity() * 2,
+					maxFrameSize)));
+			((Buffer) cumulation).flip();
+			larger.put(cumulation);
+			cumulation = larger;
+		}
+	}
+
+	private int frameLength(ByteBuffer buffer, int index) {
+		int length = FrameSplitter.frameLength(buffer, index);
+		if (length > maxFrameSize) {
+			throw new LlrpException(
+					"Message length " + length + " exceeds the maximum frame size of " + maxFrameSize + " bytes.");
+		}
+		return length;
+	}
+}
@@ -0,0 +1,164 @@
+package net.enilink.llrp4j.net;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A timer for many short-lived timeouts that are usually cancelled before
+ * they expire.
+ * <p>
+ * Timeouts are sorted into the buckets of a wheel that is advanced by a
+ * single thread once per tick. Scheduling and cancelling are cheap and do
+ * not require locks, but timeouts only expire with the precision of one
+ * tick.
+ */
+class HashedWheelTimer {
+	/**
+	 * A scheduled task.
+	 */
+	static class Timeout {
+		final Runnable task;
+		final long deadline;
+		long rounds;
+		volatile boolean cancelled;
+
+		Timeout(Runnable task, long deadline) {
+			this.task = task;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * Prevents the execution of the task. The timeout is removed from the
+		 * wheel when its bucket is processed the next time.
+		 */
+		void cancel() {
+			cancelled = true;
+		}
+	}
+
+	private static class DefaultHolder {
+		static final HashedWheelTimer INSTANCE = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 512, "llrp-timer");
+	}
+
+	private static Logger log = LoggerFactory.getLogger(HashedWheelTimer.class);
+
+	private final long tickNanos;
+	private final ArrayDeque<Timeout>[] wheel;
+	private final int mask;
+	private final Queue<Timeout> newTimeouts = new ConcurrentLinkedQueue<>();
+	private final String threadName;
+	private final AtomicBoolean started = new AtomicBoolean();
+	private volatile long startTime;
+	private long tick;
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	HashedWheelTimer(long tickDuration, TimeUnit unit, int wheelSize, String threadName) {
+		if (Integer.bitCount(wheelSize) != 1) {
+			throw new IllegalArgumentException("Wheel size must be a power of two.");
+		}
+		this.tickNanos = unit.toNanos(tickDuration);
+		this.wheel = new ArrayDeque[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			wheel[i] = new ArrayDeque<>();
+		}
+		this.mask = wheelSize - 1;
+		this.threadName = threadName;
+	}
+
+	/**
+	 * Returns the timer that is shared by all connections.
+	 */
+	static HashedWheelTimer getDefault() {
+		return DefaultHolder.INSTANCE;
+	}
+
+	/**
+	 * Schedules a task for execution on the timer thread after the given
+	 * delay.
+	 */
+	Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+		start();
+		long delayNanos = unit.toNanos(delay);
+		long deadline = System.nanoTime() - startTime + delayNanos;
+		if (delayNanos > 0 && deadline < 0) {
+			// the timeout practically never expires
+			deadline = Long.MAX_VALUE;
+		}
+		Timeout timeout = new Timeout(task, deadline);
+		newTimeouts.add(timeout);
+		return timeout;
+	}
+
+	private void start() {
+		if (started.compareAndSet(false, true)) {
+			long now = System.nanoTime();
+			// zero marks an uninitialized start time
+			startTime = now == 0 ? 1 : now;
+			Thread thread = new Thread(new Runnable() {
+				@Override
+				public void run() {
+					work();
+				}
+			}, threadName);
+			thread.setDaemon(true);
+			thread.start();
+		} else {
+			while (startTime == 0) {
+				// wait until the start time is initialized
+				Thread.yield();
+			}
+		}
+	}
+
+	private void work() {
+		while (true) {
+			long deadline = tickNanos * (tick + 1);
+			long sleep;
+			while ((sleep = deadline - (System.nanoTime() - startTime)) > 0) {
+				LockSupport.parkNanos(sleep);
+			}
+			transferTimeouts();
+			expire(wheel[(int) (tick & mask)]);
+			tick++;
+		}
+	}
+
+	private void transferTimeouts() {
+		Timeout timeout;
+		while ((timeout = newTimeouts.poll()) != null) {
+			if (timeout.cancelled) {
+				continue;
+			}
+			long ticks = timeout.deadline / tickNanos;
+			timeout.rounds = (ticks - tick) / wheel.length;
+			// timeouts in the past expire with the current tick
+			wheel[(int) (Math.max(ticks, tick) & mask)].add(timeout);
+		}
+	}
+
+	private void expire(ArrayDeque<Timeout> bucket) {
+		for (Iterator<Timeout> it = bucket.iterator(); it.hasNext();) {
+			Timeout timeout = it.next();
+			if (timeout.cancelled) {
+				it.remove();
+			} else if (timeout.rounds <= 0) {
+				it.remove();
+				try {
+					timeout.task.run();
+				} catch (Throwable e) {
+					log.error("Error while executing timer task", e);
+				}
+			} else {
+				timeout.rounds--;
+			}
+		}
+	}
+}
@@ -0,0 +1,28 @@
+package net.enilink.llrp4j.net;
+
+/**
+ * A transport that connects an {@link IoHandler} with its peer.
+ */
+interface IoConnection extends IoSession {
+	/**
+	 * Returns <code>true</code> if less data than the configured high-water
+	 * mark is waiting to be written.
+	 */
+	boolean isWritable();
+
+	/**
+	 * Waits until less data than the configured high-water mark is waiting to
+	 * be written.
+	 * 
+	 * @return <code>false</code> if the data was not written within the
+	 *         timeout
+	 */
+	boolean awaitWritable(long timeout) throws InterruptedException;
+
+	boolean isClosed();
+
+	/**
+	 * Closes the connection.
+	 */
+	void close();
+}
@@ -1,53 +1,86 @@
 package net.enilink.llrp4j.net;
 
-import java.io.ByteArrayOutputStream;
+import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.SocketChannel;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.BlockingQueue;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.llrp.enumerations.ConnectionAttemptStatusType;
+import org.llrp.messages.ADD_ROSPEC;
+import org.llrp.messages.ERROR_MESSAGE;
 import org.llrp.messages.KEEPALIVE;
 import org.llrp.messages.KEEPALIVE_ACK;
 import org.llrp.messages.READER_EVENT_NOTIFICATION;
+import org.llrp.messages.SET_READER_CONFIG;
 import org.llrp.parameters.ConnectionAttemptEvent;
+import org.llrp.parameters.TagReportData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import net.enilink.llrp4j.FrameSplitter;
 import net.enilink.llrp4j.LlrpContext;
 import net.enilink.llrp4j.LlrpException;
+import net.enilink.llrp4j.ReportStateCache;
 import net.enilink.llrp4j.bitbuffer.BitBuffer;
 import net.enilink.llrp4j.types.LlrpMessage;
 
 class IoHandler {
-	class Message {
-		int length = -1;
-		ByteArrayOutputStream baos = new ByteArrayOutputStream();
-	}
-
 	/**
-	 * Simple deferred object for synchronous messages.
+	 * A request that waits for its response.
 	 */
-	class FutureResponse {
-		LlrpMessage value;
+	static class PendingResponse {
+		final CompletableFuture<LlrpMessage> future = new CompletableFuture<>();
+		final Class<?> responseType;
+		volatile HashedWheelTimer.Timeout timeout;
 
-		synchronized void resolve(LlrpMessage value) {
-			this.value = value;
-			notifyAll();
+		PendingResponse(Class<?> responseType) {
+			this.responseType = responseType;
 		}
 
-		synchronized LlrpMessage get(long timeout) throws InterruptedException {
-			if (value == null) {
-				wait(timeout);
+		void cancelTimeout() {
+			HashedWheelTimer.Timeout t = timeout;
+			if (t != null) {
+				t.cancel();
 			}
-			return value;
+		}
+
+		boolean accepts(LlrpMessage message) {
+			return responseType.isInstance(message) || message instanceof ERROR_MESSAGE;
+		}
+	}
+
+	/**
+	 * A complete frame that is waiting to be decoded.
+	 */
+	static class ReceivedFrame {
+		final ByteBuffer data;
+		final long received;
+
+		ReceivedFrame(ByteBuffer data, long received) {
+			this.data = data;
+			this.received = received;
 		}
 	}
 
+	private static final int DECODE_BATCH_SIZE = 64;
+
 	private static LlrpEndpoint NOOP_ENDPOINT = new LlrpEndpoint() {
 		@Override
 		public void messageReceived(LlrpMessage message) {
@@ -60,20 +93,50 @@ class IoHandler {
 
 	private static Logger log = LoggerFactory.getLogger(IoHandler.class);
 
-	private Map<Long, FutureResponse> syncMessages = new ConcurrentHashMap<>();
-	private BlockingQueue<ConnectionAttemptEvent> connectionAttemptEventQueue = new LinkedBlockingQueue<ConnectionAttemptEvent>(
-			1);
+	private Map<Long, PendingResponse> syncMessages = new ConcurrentHashMap<>();
+	private final AtomicInteger nextMessageId = new AtomicInteger();
+	private final HashedWheelTimer timer = HashedWheelTimer.getDefault();
+	private final CompletableFuture<ConnectionAttemptEvent> connectionAttempt = new CompletableFuture<>();
 	private final boolean keepAliveAck;
 	private final boolean keepAliveForward;
 
-	private Map<SocketChannel, Message> messages = new HashMap<>();
+	private Map<SocketChannel, FrameAssembler> assemblers = new HashMap<>();
+	private volatile int maxFrameSize = LlrpConstants.DEFAULT_MAX_FRAME_SIZE;
+	private volatile long writeHighWaterMark = LlrpConstants.DEFAULT_WRITE_HIGH_WATER_MARK;
+
+	// Reading is suspended while too many received messages are pending
+	private volatile int readLowWaterMark;
+	private volatile int readHighWaterMark;
+	private volatile boolean readSuspended;
+	private final Object readState = new Object();
 
 	private LlrpContext context;
 
+	private final ConnectionMetrics metrics = new ConnectionMetrics();
+
+	private volatile Executor decodeExecutor;
+
+	// completes the futures that are returned to applications
+	private volatile Executor completionExecutor = ForkJoinPool.commonPool();
+
+	private volatile DispatchQueue dispatchQueue;
+	private ExecutorService dispatchThread;
+	private final Queue<ReceivedFrame> decodeQueue = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean decoding = new AtomicBoolean();
+	private final Runnable decodeTask = new Runnable() {
+		@Override
+		public void run() {
+			drainDecodeQueue();
+		}
+	};
+
 	private volatile LlrpEndpoint endpoint = NOOP_ENDPOINT;
 
 	private IoSession ioSession;
 
+	private volatile ReportStateCache receivedReportState;
+	private volatile ReportStateCache sentReportState;
+
 	public IoHandler(LlrpContext context, IoSession ioSession, boolean keepAliveAck, boolean keepAliveForward) {
 		this.context = context;
 		this.ioSession = ioSession;
@@ -81,81 +144,268 @@ class IoHandler {
 		this.keepAliveForward = keepAliveForward;
 	}
 
-	public void processData(SocketChannel channel, byte[] data) {
-		Message message = currentMessage(channel);
-		ByteArrayOutputStream b = message.baos;
-		int offset = 0;
-		if (message.length <= 0) {
-			offset = Math.min(6 - b.size(), data.length);
-			b.write(data, 0, offset);
-			if (b.size() >= 6) {
-				BitBuffer bits = BitBuffer.wrap(b.toByteArray());
-				// skip reserved bits (3), version (3) and message type (10)
-				bits.position(16);
-				message.length = (int) bits.getLongUnsigned(32);
+	/**
+	 * Decodes and handles all messages that are completed by the given chunk
+	 * of received data. The chunk is consumed completely and may be reused
+	 * by the caller afterwards.
+	 * 
+	 * @throws LlrpException
+	 *             if the stream contains an invalid frame and can not be
+	 *             processed any further
+	 */
+	public void processData(SocketChannel channel, ByteBuffer data) {
+		FrameAssembler assembler = assembler(channel);
+		assembler.maxFrameSize = maxFrameSize;
+		ByteBuffer frame;
+		while ((frame = assembler.next(data)) != null) {
+			long received = System.nanoTime();
+			if (decodeExecutor == null && decodeQueue.isEmpty()) {
+				decodeFrame(frame, received);
+			} else {
+				// the frame is a view of a reused buffer
+				ByteBuffer copy = ByteBuffer.allocate(frame.remaining());
+				copy.put(frame);
+				((Buffer) copy).flip();
+				decodeQueue.add(new ReceivedFrame(copy, received));
+				metrics.decodeQueueDepth.incrementAndGet();
+				updateReadState();
+				scheduleDecoding();
 			}
 		}
-		if (message.length > 0) {
-			int count = Math.min(message.length - b.size(), data.length - offset);
-			b.write(data, offset, count);
-			if (b.size() == message.length) {
-				messages.remove(channel);
+	}
+
+	protected void decodeFrame(ByteBuffer frame, long received) {
+		LlrpMessage m;
+		try {
+			m = context.createBinaryDecoder().reportState(receivedReportState).decodeMessage(BitBuffer.wrap(frame));
+		} catch (Exception e) {
+			log.error("Error while decoding message", e);
+			endpoint.errorOccured("Error while decoding message", e);
+			return;
+		} finally {
+			metrics.recordDecoded(System.nanoTime() - received);
+		}
+		try {
+			handleMessage(m);
+		} catch (Exception e) {
+			log.error("Error while handling message", e);
+			endpoint.errorOccured("Error while handling message", e);
+		}
+	}
 
-				BitBuffer messageData = BitBuffer.wrap(b.toByteArray()).slice(0, message.length * 8);
+	private void scheduleDecoding() {
+		if (decoding.compareAndSet(false, true)) {
+			Executor executor = decodeExecutor;
+			if (executor == null) {
+				decodeTask.run();
+			} else {
 				try {
-					LlrpMessage m = context.createBinaryDecoder().decodeMessage(messageData);
-					handleMessage(m);
-				} catch (Exception e) {
-					e.printStackTrace();
-					endpoint.errorOccured("Error while decoding message", e);
+					executor.execute(decodeTask);
+				} catch (RejectedExecutionException e) {
+					decoding.set(false);
+					endpoint.errorOccured("Decoding of received messages was rejected", e);
 				}
-				if (offset + count < data.length) {
-					// a following message is already about to be
-					// transferred
-					int newMessageDataLength = data.length - count - offset;
-					byte[] newMessageData = new byte[newMessageDataLength];
-					System.arraycopy(data, offset + count, newMessageData, 0, newMessageDataLength);
-					processData(channel, newMessageData);
+			}
+		}
+	}
+
+	/**
+	 * Decodes queued frames in the order of their reception. At most one
+	 * instance of this task is running at any time.
+	 */
+	private void drainDecodeQueue() {
+		ReceivedFrame frame;
+		int count = 0;
+		// yield the worker to other connections after a batch of frames
+		while (count++ < DECODE_BATCH_SIZE && (frame = decodeQueue.poll()) != null) {
+			metrics.decodeQueueDepth.decrementAndGet();
+			updateReadState();
+			decodeFrame(frame.data, frame.received);
+		}
+		decoding.set(false);
+		if (!decodeQueue.isEmpty()) {
+			scheduleDecoding();
+		}
+	}
+
+	/**
+	 * Suspends reading if the received messages that wait for decoding or
+	 * dispatching reach the high-water mark or if a blocking dispatch queue is
+	 * full and resumes it if they fall to the low-water mark and the queue has
+	 * space again. The peer is thereby slowed down by the flow control of the
+	 * transport.
+	 */
+	private void updateReadState() {
+		DispatchQueue queue = dispatchQueue;
+		if (readHighWaterMark == 0 && queue == null) {
+			return;
+		}
+		if (readSuspended ? canResumeRead(queue) : mustSuspendRead(queue)) {
+			// the session executes the changes in the order of these calls
+			synchronized (readState) {
+				if (!readSuspended && mustSuspendRead(queue)) {
+					readSuspended = true;
+					metrics.recordReadSuspended();
+					ioSession.suspendRead();
+				} else if (readSuspended && canResumeRead(queue)) {
+					readSuspended = false;
+					metrics.recordReadResumed();
+					ioSession.resumeRead();
 				}
 			}
 		}
 	}
 
+	private boolean mustSuspendRead(DispatchQueue queue) {
+		return readHighWaterMark != 0 && pendingMessages() >= readHighWaterMark
+				|| queue != null && queue.isBlocked();
+	}
+
+	private boolean canResumeRead(DispatchQueue queue) {
+		return (readHighWaterMark == 0 || pendingMessages() <= readLowWaterMark)
+				&& (queue == null || !queue.isBlocked());
+	}
+
+	private int pendingMessages() {
+		return metrics.decodeQueueDepth.get() + metrics.dispatchQueueDepth.get();
+	}
+
+	/**
+	 * Discards any buffered data of a closed channel.
+	 */
+	public void channelClosed(SocketChannel channel) {
+		assemblers.remove(channel);
+	}
+
 	protected void send(LlrpMessage message) {
 		if (log.isDebugEnabled()) {
 			log.debug("send {} id={}", message.getClass().getSimpleName(), message.messageID());
 		}
-		ioSession.send(encodeMessage(message));
+		if (changesReportConfig(message)) {
+			// values of parameters that are no longer enabled must not be
+			// filled into the following reports
+			resetReceivedReportState();
+		}
+		ReportStateCache reportState = sentReportState;
+		if (reportState == null) {
+			ioSession.send(encodeMessage(message));
+		} else {
+			// the receiver must see the messages in the same order as they
+			// were encoded
+			synchronized (reportState) {
+				ioSession.send(encodeMessage(message, reportState));
+			}
+		}
 	}
 
+	/**
+	 * Sends a request and waits for its response.
+	 * 
+	 * @return the response or <code>null</code> if no response was received
+	 *         within the timeout
+	 */
 	public LlrpMessage transact(LlrpMessage message, long timeout) throws InterruptedException {
-		if (log.isDebugEnabled()) {
-			log.debug("transact {} id={}", message.getClass().getSimpleName(), message.messageID());
+		try {
+			return request(message, timeout).future.get();
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof TimeoutException) {
+				return null;
+			}
+			throw e.getCause() instanceof LlrpException ? (LlrpException) e.getCause() : new LlrpException(e.getCause());
 		}
+	}
+
+	/**
+	 * Sends a request with a newly allocated message ID. A timeout of zero or
+	 * less waits for the response until the connection is closed.
+	 * 
+	 * @return a future that is completed with the response or an
+	 *         <code>ERROR_MESSAGE</code> and fails with a
+	 *         {@link TimeoutException} if no response was received within the
+	 *         timeout
+	 */
+	public CompletableFuture<LlrpMessage> transactAsync(LlrpMessage message, long timeout) {
+		return completeAsync(request(message, timeout).future);
+	}
 
+	private PendingResponse request(LlrpMessage message, long timeout) {
 		Class<?> returnMessageType = message.getResponseType();
 		if (void.class.equals(returnMessageType)) {
 			throw new IllegalArgumentException("Message does not expect return message");
 		}
-		FutureResponse response = new FutureResponse();
-		syncMessages.put(message.messageID(), response);
-		send(message);
-		return response.get(timeout);
+
+		final long id = nextMessageId.incrementAndGet() & 0xFFFFFFFFL;
+		message.messageID(id);
+		if (log.isDebugEnabled()) {
+			log.debug("transact {} id={}", message.getClass().getSimpleName(), id);
+		}
+
+		final PendingResponse response = new PendingResponse(returnMessageType);
+		if (syncMessages.putIfAbsent(id, response) != null) {
+			throw new LlrpException("Message ID " + id + " is still in use.");
+		}
+		// a timeout of zero or less waits forever
+		if (timeout > 0) {
+			final String messageType = message.getClass().getSimpleName();
+			final long timeoutMillis = timeout;
+			response.timeout = timer.schedule(new Runnable() {
+				@Override
+				public void run() {
+					if (syncMessages.remove(id, response)) {
+						response.future.completeExceptionally(new TimeoutException(
+								"No response to " + messageType + " received within " + timeoutMillis + " ms."));
+					}
+				}
+			}, timeout, TimeUnit.MILLISECONDS);
+			if (response.future.isDone()) {
+				// the connection was closed in the meantime
+				response.cancelTimeout();
+			}
+		}
+		try {
+			send(message);
+		} catch (RuntimeException e) {
+			syncMessages.remove(id, response);
+			response.cancelTimeout();
+			response.future.completeExceptionally(e);
+		}
+		return response;
 	}
 
 	protected ByteBuffer encodeMessage(LlrpMessage message) {
+		return encodeMessage(message, null);
+	}
+
+	protected ByteBuffer encodeMessage(LlrpMessage message, ReportStateCache reportState) {
 		BitBuffer bits = BitBuffer.allocateDynamic();
-		context.createBinaryEncoder().encodeMessage(message, bits);
+		context.createBinaryEncoder().reportState(reportState).encodeMessage(message, bits);
 		return bits.asByteBuffer();
 	}
 
+	/**
+	 * Passes a message to the endpoint either directly or through the dispatch
+	 * queue.
+	 */
+	protected void deliver(LlrpMessage message) {
+		DispatchQueue queue = dispatchQueue;
+		if (queue == null) {
+			endpoint.messageReceived(message);
+		} else {
+			queue.offer(message);
+			updateReadState();
+		}
+	}
+
 	protected void handleMessage(LlrpMessage message) {
 		if (log.isDebugEnabled()) {
 			log.debug("received {} id={}", message.getClass().getSimpleName(), message.messageID());
 		}
+		if (changesReportConfig(message)) {
+			resetSentReportState();
+		}
 		if (message instanceof KEEPALIVE) {
 			if (keepAliveForward) {
-				endpoint.messageReceived(message);
+				deliver(message);
 			}
 			if (keepAliveAck) {
 				send(new KEEPALIVE_ACK());
@@ -167,60 +417,263 @@ class IoHandler {
 			ConnectionAttemptEvent connectionAttemptEvent = ((READER_EVENT_NOTIFICATION) message)
 					.getReaderEventNotificationData().getConnectionAttemptEvent();
 			if (connectionAttemptEvent != null) {
-				if (connectionAttemptEventQueue.isEmpty()) {
-					connectionAttemptEventQueue.add(connectionAttemptEvent);
-				}
-				endpoint.messageReceived(message);
+				connectionAttempt.complete(connectionAttemptEvent);
+				deliver(message);
 				return;
 			}
 		}
 
 		// send message only if not already handled by synchronous call
-		FutureResponse reponse = syncMessages.remove(message.messageID());
-		if (reponse == null) {
-			log.debug("Calling messageReceived of endpoint ... ");
-			endpoint.messageReceived(message);
+		long id = message.messageID();
+		PendingResponse response = syncMessages.get(id);
+		if (response != null && response.accepts(message) && syncMessages.remove(id, response)) {
+			response.cancelTimeout();
+			response.future.complete(message);
 		} else {
-			reponse.resolve(message);
-			log.debug("Adding message " + message.getClass() + " to transaction queue ");
+			log.debug("Calling messageReceived of endpoint ... ");
+			deliver(message);
 		}
 	}
 
-	protected Message currentMessage(SocketChannel channel) {
-		Message message = messages.get(channel);
-		if (message == null) {
-			message = new Message();
-			messages.put(channel, message);
+	protected FrameAssembler assembler(SocketChannel channel) {
+		FrameAssembler assembler = assemblers.get(channel);
+		if (assembler == null) {
+			assembler = new FrameAssembler();
+			assemblers.put(channel, assembler);
 		}
-		return message;
+		return assembler;
 	}
 
 	protected void handleException(String msg, Exception e) {
 		endpoint.errorOccured(msg, e);
 	}
 
-	protected void awaitConnectionAttemptEvent(long timeout) {
-		try {
-			ConnectionAttemptEvent connectionAttemptEvent = connectionAttemptEventQueue.poll(timeout,
-					TimeUnit.MILLISECONDS);
-			if (connectionAttemptEvent != null) {
-				ConnectionAttemptStatusType status = connectionAttemptEvent.status();
-				if (status == ConnectionAttemptStatusType.Success) {
-					log.info("LLRP reader reported successfull connection attempt (ConnectionAttemptEvent.Status = "
-							+ status.toString() + ")");
-				} else {
-					log.info("LLRP reader reported failed connection attempt (ConnectionAttemptStatus = "
-							+ status.toString() + ")");
-					throw new LlrpException(status.toString());
+	/**
+	 * Returns a future that is completed with the first received connection
+	 * attempt event or fails if the connection is closed before.
+	 */
+	protected CompletableFuture<ConnectionAttemptEvent> connectionAttempt() {
+		return connectionAttempt;
+	}
+
+	/**
+	 * Checks if the reader accepted the connection.
+	 * 
+	 * @throws LlrpException
+	 *             if the connection attempt failed
+	 */
+	protected void checkConnectionAttempt(ConnectionAttemptEvent connectionAttemptEvent) {
+		ConnectionAttemptStatusType status = connectionAttemptEvent.status();
+		if (status == ConnectionAttemptStatusType.Success) {
+			log.info("LLRP reader reported successfull connection attempt (ConnectionAttemptEvent.Status = "
+					+ status.toString() + ")");
+		} else {
+			log.info("LLRP reader reported failed connection attempt (ConnectionAttemptStatus = " + status.toString()
+					+ ")");
+			throw new LlrpException(status.toString());
+		}
+	}
+
+	/**
+	 * Called after the connection was closed.
+	 * 
+	 * @param cause
+	 *            the error that closed the connection or <code>null</code>
+	 */
+	protected void connectionClosed(Exception cause) {
+		if (cause == null) {
+			cause = new LlrpException("Connection was closed.");
+		}
+		connectionAttempt.completeExceptionally(cause);
+		for (Long id : syncMessages.keySet()) {
+			PendingResponse response = syncMessages.remove(id);
+			if (response != null) {
+				response.cancelTimeout();
+				response.future.completeExceptionally(cause);
+			}
+		}
+	}
+
+	protected ReportStateCache createReportState() {
+		return new ReportStateCache().track(TagReportData.class);
+	}
+
+	protected void setFillOmittedParameters(boolean fill) {
+		this.receivedReportState = fill ? createReportState() : null;
+	}
+
+	protected void setOmitUnchangedParameters(boolean omit) {
+		this.sentReportState = omit ? createReportState() : null;
+	}
+
+	/**
+	 * Forgets the last values of optional report parameters that were sent or
+	 * received.
+	 */
+	protected void resetReportState() {
+		resetReceivedReportState();
+		resetSentReportState();
+	}
+
+	private void resetReceivedReportState() {
+		if (receivedReportState != null) {
+			// the cache is replaced since it may be in use by the decoder
+			receivedReportState = createReportState();
+		}
+	}
+
+	private void resetSentReportState() {
+		ReportStateCache sent = sentReportState;
+		if (sent != null) {
+			synchronized (sent) {
+				sent.clear();
+			}
+		}
+	}
+
+	/**
+	 * Returns <code>true</code> if the message may change the contents of
+	 * the reports that are sent by a reader.
+	 */
+	protected boolean changesReportConfig(LlrpMessage message) {
+		return message instanceof ADD_ROSPEC || message instanceof SET_READER_CONFIG;
+	}
+
+	protected void setMaxFrameSize(int maxFrameSize) {
+		if (maxFrameSize < FrameSplitter.HEADER_LENGTH) {
+			throw new IllegalArgumentException("Maximum frame size must be at least " + FrameSplitter.HEADER_LENGTH
+					+ " bytes.");
+		}
+		this.maxFrameSize = maxFrameSize;
+	}
+
+	/**
+	 * Sets the number of queued outbound bytes from which on the connection
+	 * is no longer writable.
+	 */
+	protected void setWriteHighWaterMark(long writeHighWaterMark) {
+		if (writeHighWaterMark <= 0) {
+			throw new IllegalArgumentException("High-water mark must be positive.");
+		}
+		this.writeHighWaterMark = writeHighWaterMark;
+	}
+
+	protected long getWriteHighWaterMark() {
+		return writeHighWaterMark;
+	}
+
+	/**
+	 * Sets the number of received messages waiting for decoding or
+	 * dispatching at which reading is suspended and resumed. Throttling is
+	 * disabled if the high-water mark is zero.
+	 */
+	protected void setReadWaterMarks(int lowWaterMark, int highWaterMark) {
+		if (lowWaterMark < 0 || highWaterMark != 0 && lowWaterMark >= highWaterMark) {
+			throw new IllegalArgumentException("Low-water mark must be below the high-water mark.");
+		}
+		this.readLowWaterMark = lowWaterMark;
+		this.readHighWaterMark = highWaterMark;
+		if (highWaterMark == 0) {
+			synchronized (readState) {
+				if (readSuspended) {
+					readSuspended = false;
+					metrics.recordReadResumed();
+					ioSession.resumeRead();
 				}
-			} else {
-				throw new LlrpException("Connection request timed out after " + timeout + " ms.");
 			}
-		} catch (InterruptedException e) {
-			throw new LlrpException(e);
 		}
 	}
 
+	/**
+	 * Sets the executor that decodes received messages and delivers them to
+	 * the endpoint. Messages are decoded on the I/O thread if no executor is
+	 * set.
+	 */
+	protected void setDecodeExecutor(Executor decodeExecutor) {
+		this.decodeExecutor = decodeExecutor;
+	}
+
+	/**
+	 * Enables the asynchronous dispatching of received messages through a
+	 * bounded queue.
+	 * 
+	 * @param capacity
+	 *            capacity of the queue
+	 * @param policy
+	 *            handling of received reports if the queue is full
+	 * @param executor
+	 *            executor that calls the endpoint or <code>null</code> to
+	 *            use a dedicated thread
+	 */
+	protected synchronized void setAsyncDispatch(int capacity, OverloadPolicy policy, Executor executor) {
+		if (dispatchQueue != null) {
+			throw new IllegalStateException("Asynchronous dispatching is already enabled.");
+		}
+		if (executor == null) {
+			dispatchThread = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "llrp-dispatch");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			executor = dispatchThread;
+		}
+		dispatchQueue = new DispatchQueue(capacity, policy, executor, metrics) {
+			@Override
+			protected void dispatch(LlrpMessage message) {
+				try {
+					endpoint.messageReceived(message);
+				} catch (Exception e) {
+					log.error("Error while handling message", e);
+					endpoint.errorOccured("Error while handling message", e);
+				}
+			}
+
+			@Override
+			protected void rejected(RejectedExecutionException e) {
+				endpoint.errorOccured("Dispatching of received messages was rejected", e);
+			}
+
+			@Override
+			protected void dequeued() {
+				updateReadState();
+			}
+		};
+	}
+
+	/**
+	 * Releases the resources of this handler.
+	 */
+	protected synchronized void close() {
+		if (dispatchThread != null) {
+			dispatchThread.shutdown();
+			dispatchThread = null;
+		}
+	}
+
+	/**
+	 * Sets the executor that completes the futures which are returned to
+	 * applications. Dependent stages of these futures therefore never run on
+	 * and block the I/O thread.
+	 */
+	protected void setCompletionExecutor(Executor executor) {
+		this.completionExecutor = executor == null ? ForkJoinPool.commonPool() : executor;
+	}
+
+	/**
+	 * Returns a future that is completed by the completion executor with the
+	 * result of the given future.
+	 */
+	protected <T> CompletableFuture<T> completeAsync(CompletableFuture<T> future) {
+		return future.thenApplyAsync(Function.<T> identity(), completionExecutor);
+	}
+
+	protected ConnectionMetrics getMetrics() {
+		return metrics;
+	}
+
 	protected void setEndpoint(LlrpEndpoint endpoint) {
 		this.endpoint = endpoint == null ? NOOP_ENDPOINT : endpoint;
 	}
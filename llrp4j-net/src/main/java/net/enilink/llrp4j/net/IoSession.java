@@ -4,4 +4,11 @@ import java.nio.ByteBuffer;
 
 interface IoSession {
 	void send(ByteBuffer data);
+
+	/**
+	 * Stops reading from the peer until {@link #resumeRead()} is called.
+	 */
+	void suspendRead();
+
+	void resumeRead();
 }
@@ -3,24 +3,90 @@ package net.enilink.llrp4j.net;
 import java.io.Closeable;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.UnknownHostException;
 import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+
+import org.llrp.parameters.ConnectionAttemptEvent;
 
 import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.LlrpException;
 import net.enilink.llrp4j.types.LlrpMessage;
 
 public class LlrpClient implements Closeable {
-	private NioClient nioClient;
-	private IoHandler handler;
+	private final IoHandler handler;
+	private final IoConnection connection;
+
+	// the selector thread of a client that is not part of a group
+	private final SelectorGroup selectorGroup;
+	private final LlrpClientGroup group;
 
 	protected LlrpClient(LlrpContext context, String host, int port, int timeout) throws IOException {
-		handler = createHandler(context);
-		nioClient = new NioClient(InetAddress.getByName(host), port, handler, timeout);
-		new Thread(nioClient).start();
+		// the host is resolved before any thread is started
+		this(context, new InetSocketAddress(InetAddress.getByName(host), port), timeout);
+	}
+
+	private LlrpClient(LlrpContext context, InetSocketAddress address, int timeout) throws IOException {
+		this(context, new SelectorGroup(1, "llrp-client"), null);
+		await(connect(address), timeout);
+	}
+
+	protected LlrpClient(LlrpContext context, LlrpServer server, int timeout) throws IOException {
+		this.handler = createHandler(context);
+		LoopbackConnection loopback = new LoopbackConnection(server.loopbackExecutor(), handler);
+		this.connection = loopback;
+		this.selectorGroup = null;
+		this.group = null;
+		CompletableFuture<LlrpClient> connected = connected();
+		server.accept(loopback);
+		await(connected, timeout);
+	}
+
+	LlrpClient(LlrpContext context, SelectorGroup selectorGroup, LlrpClientGroup group) throws IOException {
+		this.handler = createHandler(context);
+		SocketChannel channel;
 		try {
-			handler.awaitConnectionAttemptEvent(timeout);
-		} catch(RuntimeException ex) {
-			nioClient.close();
-			throw ex;
+			channel = SocketChannel.open();
+		} catch (IOException e) {
+			if (group == null) {
+				// stop the selector thread of this client
+				selectorGroup.close();
+			}
+			throw e;
+		}
+		this.connection = new NioConnection(selectorGroup.next(), channel, handler);
+		this.selectorGroup = group == null ? selectorGroup : null;
+		this.group = group;
+	}
+
+	/**
+	 * Waits until the reader accepted the connection and closes this client
+	 * otherwise.
+	 */
+	private void await(CompletableFuture<LlrpClient> connected, int timeout) throws IOException {
+		try {
+			connected.get(timeout, TimeUnit.MILLISECONDS);
+		} catch (TimeoutException e) {
+			close();
+			throw new LlrpException("Connection request timed out after " + timeout + " ms.");
+		} catch (ExecutionException e) {
+			close();
+			Throwable cause = e.getCause();
+			if (cause instanceof IOException) {
+				throw (IOException) cause;
+			}
+			throw cause instanceof LlrpException ? (LlrpException) cause : new LlrpException(cause);
+		} catch (InterruptedException e) {
+			close();
+			throw new LlrpException(e);
 		}
 	}
 
@@ -28,12 +94,100 @@ public class LlrpClient implements Closeable {
 		IoSession ioSession = new IoSession() {
 			@Override
 			public void send(ByteBuffer data) {
-				nioClient.send(data);
+				connection.send(data);
+			}
+
+			@Override
+			public void suspendRead() {
+				connection.suspendRead();
+			}
+
+			@Override
+			public void resumeRead() {
+				connection.resumeRead();
 			}
 		};
 		return new IoHandler(context, ioSession, true, false);
 	}
 
+	/**
+	 * Starts to connect to a reader.
+	 * 
+	 * @return a future that is completed after the reader accepted the
+	 *         connection
+	 */
+	CompletableFuture<LlrpClient> connect(InetSocketAddress address) {
+		CompletableFuture<LlrpClient> connected = connected();
+		// only socket connections are established by an address
+		((NioConnection) connection).connect(address);
+		return connected;
+	}
+
+	/**
+	 * Resolves the address of a reader with the given executor and starts to
+	 * connect to it afterwards, so that the caller is never blocked by a name
+	 * lookup.
+	 * 
+	 * @return a future that is completed after the reader accepted the
+	 *         connection
+	 */
+	CompletableFuture<LlrpClient> connect(final String host, final int port, Executor resolver) {
+		CompletableFuture<LlrpClient> connected = connected();
+		try {
+			resolver.execute(new Runnable() {
+				@Override
+				public void run() {
+					InetSocketAddress address = new InetSocketAddress(host, port);
+					if (address.isUnresolved()) {
+						handler.connectionAttempt().completeExceptionally(new UnknownHostException(host));
+					} else {
+						((NioConnection) connection).connect(address);
+					}
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			handler.connectionAttempt().completeExceptionally(e);
+		}
+		return connected;
+	}
+
+	/**
+	 * Returns a future that is completed by the completion executor with the
+	 * result of the given future.
+	 */
+	<T> CompletableFuture<T> completeAsync(CompletableFuture<T> future) {
+		return handler.completeAsync(future);
+	}
+
+	/**
+	 * Returns a future that is completed after the reader accepted the
+	 * connection. The client is closed if the connection attempt fails.
+	 */
+	private CompletableFuture<LlrpClient> connected() {
+		final CompletableFuture<LlrpClient> connected = new CompletableFuture<>();
+		handler.connectionAttempt().whenComplete(new BiConsumer<ConnectionAttemptEvent, Throwable>() {
+			@Override
+			public void accept(ConnectionAttemptEvent event, Throwable error) {
+				try {
+					if (error == null) {
+						handler.checkConnectionAttempt(event);
+						connected.complete(LlrpClient.this);
+						return;
+					}
+				} catch (LlrpException e) {
+					error = e;
+				}
+				try {
+					close();
+				} catch (IOException e) {
+					// ignore
+				}
+				connected.completeExceptionally(error);
+			}
+		});
+		return connected;
+	}
+
 	public static LlrpClient create(LlrpContext context, String host) throws IOException {
 		return create(context, host, LlrpConstants.DEFAULT_PORT);
 	}
@@ -46,6 +200,15 @@ public class LlrpClient implements Closeable {
 		return new LlrpClient(context, host, port, timeout);
 	}
 
+	/**
+	 * Connects to a server in the same process without sockets.
+	 * 
+	 * @see LlrpServer#createLoopback(LlrpContext)
+	 */
+	public static LlrpClient createLoopback(LlrpContext context, LlrpServer server) throws IOException {
+		return new LlrpClient(context, server, LlrpConstants.DEFAULT_TIMEOUT);
+	}
+
 	public void send(LlrpMessage message) {
 		handler.send(message);
 	}
@@ -58,15 +221,174 @@ public class LlrpClient implements Closeable {
 		return transact(message, LlrpConstants.DEFAULT_TIMEOUT);
 	}
 
+	/**
+	 * Sends a request without blocking. The message ID is allocated by this
+	 * connection and the returned future is completed with the response by
+	 * the completion executor.
+	 * 
+	 * @see #completionExecutor(Executor)
+	 */
+	public CompletableFuture<LlrpMessage> transactAsync(LlrpMessage message, long timeout) {
+		return handler.transactAsync(message, timeout);
+	}
+
+	public CompletableFuture<LlrpMessage> transactAsync(LlrpMessage message) {
+		return transactAsync(message, LlrpConstants.DEFAULT_TIMEOUT);
+	}
+
 	public LlrpClient endpoint(LlrpEndpoint endpoint) {
 		handler.setEndpoint(endpoint);
 		return this;
 	}
 
+	/**
+	 * Enables or disables filling in omitted optional parameters of received
+	 * <code>TagReportData</code> parameters with the last received values.
+	 */
+	public LlrpClient fillOmittedParameters(boolean fill) {
+		handler.setFillOmittedParameters(fill);
+		return this;
+	}
+
+	/**
+	 * Forgets the last values of optional report parameters that are used to
+	 * fill in or omit unchanged parameters. This happens automatically if an
+	 * <code>ADD_ROSPEC</code> or <code>SET_READER_CONFIG</code> message is
+	 * exchanged and should be called by applications after any other change
+	 * of the report contents, e.g. if an ROSpec with different report
+	 * settings is enabled.
+	 */
+	public void resetReportState() {
+		handler.resetReportState();
+	}
+
+	/**
+	 * Enables or disables omitting optional parameters of sent
+	 * <code>TagReportData</code> parameters whose values did not change since
+	 * they were sent the last time.
+	 */
+	public LlrpClient omitUnchangedParameters(boolean omit) {
+		handler.setOmitUnchangedParameters(omit);
+		return this;
+	}
+
+	/**
+	 * Sets the maximum length of received messages in bytes. A connection
+	 * whose peer announces a longer message is closed.
+	 */
+	public LlrpClient maxFrameSize(int maxFrameSize) {
+		handler.setMaxFrameSize(maxFrameSize);
+		return this;
+	}
+
+	/**
+	 * Sets the executor that completes the futures returned by
+	 * {@link #transactAsync(LlrpMessage, long)}. Their dependent stages run on
+	 * this executor instead of the shared I/O thread and may therefore block.
+	 * Defaults to {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+	 */
+	public LlrpClient completionExecutor(Executor completionExecutor) {
+		handler.setCompletionExecutor(completionExecutor);
+		return this;
+	}
+
+	/**
+	 * Sets the number of queued outbound bytes from which on the connection
+	 * is reported as not writable. Senders may use
+	 * {@link #isWritable()} or {@link #awaitWritable(long)} to limit the
+	 * memory that is used for data that could not yet be sent.
+	 */
+	public LlrpClient writeHighWaterMark(long writeHighWaterMark) {
+		handler.setWriteHighWaterMark(writeHighWaterMark);
+		return this;
+	}
+
+	/**
+	 * Suspends reading from the network while at least
+	 * <code>highWaterMark</code> received messages are waiting to be decoded
+	 * or dispatched and resumes it when they fall to
+	 * <code>lowWaterMark</code>. The peer is then slowed down by TCP flow
+	 * control instead of filling the heap. This only has an effect together
+	 * with a decode executor or asynchronous dispatching. A high-water mark
+	 * of zero disables throttling.
+	 */
+	public LlrpClient readWaterMarks(int lowWaterMark, int highWaterMark) {
+		handler.setReadWaterMarks(lowWaterMark, highWaterMark);
+		return this;
+	}
+
+	/**
+	 * Sets an executor that decodes received messages and calls the
+	 * endpoint. Messages are still processed in the order of their reception
+	 * but the I/O thread is no longer blocked by slow endpoints. By default
+	 * messages are decoded on the I/O thread.
+	 */
+	public LlrpClient decodeExecutor(Executor executor) {
+		handler.setDecodeExecutor(executor);
+		return this;
+	}
+
+	/**
+	 * Dispatches received messages to the endpoint on a dedicated thread. At
+	 * most <code>capacity</code> messages are queued, further reports are
+	 * handled according to the given policy.
+	 */
+	public LlrpClient asyncDispatch(int capacity, OverloadPolicy policy) {
+		return asyncDispatch(capacity, policy, null);
+	}
+
+	/**
+	 * Dispatches received messages to the endpoint using the given executor.
+	 * At most <code>capacity</code> messages are queued, further reports are
+	 * handled according to the given policy. Messages other than reports are
+	 * never dropped.
+	 */
+	public LlrpClient asyncDispatch(int capacity, OverloadPolicy policy, Executor executor) {
+		handler.setAsyncDispatch(capacity, policy, executor);
+		return this;
+	}
+
+	/**
+	 * Returns <code>true</code> if less data than the write high-water mark
+	 * is waiting to be sent.
+	 */
+	public boolean isWritable() {
+		return connection.isWritable();
+	}
+
+	/**
+	 * Waits until less data than the write high-water mark is waiting to be
+	 * sent.
+	 * 
+	 * @return <code>false</code> if the data was not sent within the timeout
+	 */
+	public boolean awaitWritable(long timeout) throws InterruptedException {
+		return connection.awaitWritable(timeout);
+	}
+
+	/**
+	 * Returns the statistics of this connection.
+	 */
+	public ConnectionMetrics metrics() {
+		return handler.getMetrics();
+	}
+
+	/**
+	 * Returns <code>true</code> if the connection to the reader was closed.
+	 */
+	public boolean isClosed() {
+		return connection.isClosed();
+	}
+
 	public void close() throws IOException {
-		if (nioClient != null) {
-			nioClient.close();
-			nioClient = null;
+		connection.close();
+		handler.close();
+		if (selectorGroup != null) {
+			// Closing the selector exits the client loop thread
+			selectorGroup.close();
+		}
+		if (group != null) {
+			group.remove(this);
 		}
 	}
 }
@@ -0,0 +1,145 @@
+package net.enilink.llrp4j.net;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.LlrpException;
+
+/**
+ * Manages the connections to many readers with a small number of selector
+ * threads.
+ * <p>
+ * Connections are established in parallel without blocking the caller. Each
+ * connection is represented by an {@link LlrpClient} that is completed as soon
+ * as the reader accepted the connection.
+ */
+public class LlrpClientGroup implements Closeable {
+	private final LlrpContext context;
+	private final SelectorGroup selectorGroup;
+	private final HashedWheelTimer timer = HashedWheelTimer.getDefault();
+	private final Set<LlrpClient> clients = ConcurrentHashMap.newKeySet();
+	// resolves host names and completes the futures returned to applications
+	private volatile Executor executor = ForkJoinPool.commonPool();
+	private volatile boolean closed;
+
+	protected LlrpClientGroup(LlrpContext context, int selectorThreads) throws IOException {
+		this.context = context;
+		this.selectorGroup = new SelectorGroup(selectorThreads, "llrp-client-group");
+	}
+
+	/**
+	 * Creates a group with one selector thread per available processor.
+	 */
+	public static LlrpClientGroup create(LlrpContext context) throws IOException {
+		return create(context, Runtime.getRuntime().availableProcessors());
+	}
+
+	public static LlrpClientGroup create(LlrpContext context, int selectorThreads) throws IOException {
+		return new LlrpClientGroup(context, selectorThreads);
+	}
+
+	/**
+	 * Sets the executor that resolves the host names of readers and completes
+	 * the returned futures. Dependent stages of these futures therefore never
+	 * run on a selector thread and may block. Defaults to
+	 * {@link ForkJoinPool#commonPool()}.
+	 */
+	public LlrpClientGroup executor(Executor executor) {
+		this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
+		return this;
+	}
+
+	public CompletableFuture<LlrpClient> connect(String host) {
+		return connect(host, LlrpConstants.DEFAULT_PORT);
+	}
+
+	public CompletableFuture<LlrpClient> connect(String host, int port) {
+		return connect(host, port, LlrpConstants.DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Starts to connect to a reader.
+	 *
+	 * @param host
+	 *            host name or address of the reader
+	 * @param port
+	 *            port of the reader
+	 * @param timeout
+	 *            time in milliseconds until the reader has to accept the
+	 *            connection
+	 * @return a future that is completed with the client after the reader
+	 *         accepted the connection
+	 */
+	public CompletableFuture<LlrpClient> connect(String host, int port, final int timeout) {
+		if (closed) {
+			throw new IllegalStateException("Client group is closed.");
+		}
+		final LlrpClient client;
+		try {
+			client = new LlrpClient(context, selectorGroup, this);
+		} catch (IOException e) {
+			CompletableFuture<LlrpClient> failed = new CompletableFuture<>();
+			failed.completeExceptionally(e);
+			return failed;
+		}
+		clients.add(client);
+		client.completionExecutor(executor);
+		final CompletableFuture<LlrpClient> connected = client.connect(host, port, executor);
+		final HashedWheelTimer.Timeout timeoutTask = timer.schedule(new Runnable() {
+			@Override
+			public void run() {
+				if (connected.completeExceptionally(
+						new LlrpException("Connection request timed out after " + timeout + " ms."))) {
+					closeQuietly(client);
+				}
+			}
+		}, timeout, TimeUnit.MILLISECONDS);
+		connected.whenComplete(new BiConsumer<LlrpClient, Throwable>() {
+			@Override
+			public void accept(LlrpClient result, Throwable error) {
+				timeoutTask.cancel();
+			}
+		});
+		return client.completeAsync(connected);
+	}
+
+	void remove(LlrpClient client) {
+		clients.remove(client);
+	}
+
+	/**
+	 * Returns the number of open connections.
+	 */
+	public int size() {
+		return clients.size();
+	}
+
+	private static void closeQuietly(LlrpClient client) {
+		try {
+			client.close();
+		} catch (IOException e) {
+			// ignore
+		}
+	}
+
+	/**
+	 * Closes all connections and stops the selector threads.
+	 */
+	@Override
+	public void close() throws IOException {
+		closed = true;
+		for (LlrpClient client : new ArrayList<>(clients)) {
+			closeQuietly(client);
+		}
+		selectorGroup.close();
+	}
+}
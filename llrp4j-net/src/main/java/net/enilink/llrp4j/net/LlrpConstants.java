@@ -1,6 +1,10 @@
 package net.enilink.llrp4j.net;
 
+import net.enilink.llrp4j.FrameSplitter;
+
 public interface LlrpConstants {
 	static final int DEFAULT_PORT = 5084;
 	static final int DEFAULT_TIMEOUT = 10000;
+	static final int DEFAULT_MAX_FRAME_SIZE = FrameSplitter.DEFAULT_MAX_FRAME_SIZE;
+	static final int DEFAULT_WRITE_HIGH_WATER_MARK = 1024 * 1024;
 }
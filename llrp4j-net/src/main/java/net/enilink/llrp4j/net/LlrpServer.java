@@ -5,63 +5,126 @@ import java.io.IOException;
 import java.math.BigInteger;
 import java.net.InetAddress;
 import java.nio.ByteBuffer;
-import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import org.llrp.enumerations.ConnectionAttemptStatusType;
 import org.llrp.messages.READER_EVENT_NOTIFICATION;
-import org.llrp.parameters.ConnectionAttemptEvent;
 import org.llrp.parameters.UTCTimestamp;
 
 import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.LlrpException;
 import net.enilink.llrp4j.types.LlrpMessage;
 
 public class LlrpServer implements Closeable {
-	private NioServer nioServer;
-	private IoHandler handler;
+	private final SelectorGroup selectorGroup;
+	private final NioServer nioServer;
+	private final IoHandler handler;
 
-	private volatile SocketChannel channel;
+	// processes the data of in-memory connections
+	private final Executor loopbackExecutor;
+	private final ExecutorService loopbackThread;
+
+	private volatile IoConnection connection;
 
 	public LlrpServer(LlrpContext context, String host, int port) throws IOException {
 		handler = createHandler(context);
-		nioServer = new NioServer(InetAddress.getByName(host), port, handler) {
-			@Override
-			protected SocketChannel acceptChannel(ServerSocketChannel serverSocketChannel) throws IOException {
-				SocketChannel newChannel = super.acceptChannel(serverSocketChannel);
-				READER_EVENT_NOTIFICATION evtNotification = new READER_EVENT_NOTIFICATION();
-				evtNotification.readerEventNotificationData().timestamp(new UTCTimestamp().microseconds(
-						BigInteger.valueOf(System.currentTimeMillis()).multiply(BigInteger.valueOf(1000))));
-				ConnectionAttemptEvent connectionAttemptEvent = evtNotification.readerEventNotificationData()
-						.connectionAttemptEvent();
-				if (channel == null) {
-					channel = newChannel;
-					connectionAttemptEvent.status(ConnectionAttemptStatusType.Success);
-					send(newChannel, handler.encodeMessage(evtNotification));
-				} else {
-					connectionAttemptEvent
-							.status(ConnectionAttemptStatusType.Failed_A_Client_Initiated_Connection_Already_Exists);
-					send(newChannel, handler.encodeMessage(evtNotification));
-					synchronized (this.pendingChanges) {
-						// Indicate we want the interest ops set changed
-						this.pendingChanges.add(new ChangeRequest(newChannel, ChangeRequest.CLOSE, 0));
+		loopbackExecutor = null;
+		loopbackThread = null;
+		selectorGroup = new SelectorGroup(1, "llrp-server");
+		try {
+			nioServer = new NioServer(InetAddress.getByName(host), port, selectorGroup) {
+				@Override
+				protected void accepted(SocketChannel channel) throws IOException {
+					IoConnection current = connection;
+					if (current == null || current.isClosed()) {
+						NioConnection newConnection = new NioConnection(selectorGroup.next(), channel, handler);
+						connection = newConnection;
+						handler.resetReportState();
+						newConnection.register();
+						newConnection.send(
+								handler.encodeMessage(connectionAttemptEvent(ConnectionAttemptStatusType.Success)));
+					} else {
+						// the small notification fits into the send buffer of
+						// the still blocking channel
+						channel.write(handler.encodeMessage(connectionAttemptEvent(
+								ConnectionAttemptStatusType.Failed_A_Client_Initiated_Connection_Already_Exists)));
+						channel.close();
 					}
 				}
-				return channel;
-			}
-		};
-		new Thread(nioServer).start();
+			};
+		} catch (IOException e) {
+			selectorGroup.close();
+			throw e;
+		}
+	}
+
+	protected LlrpServer(LlrpContext context, Executor executor) {
+		handler = createHandler(context);
+		selectorGroup = null;
+		nioServer = null;
+		if (executor == null) {
+			loopbackThread = Executors.newSingleThreadExecutor(new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable r) {
+					Thread thread = new Thread(r, "llrp-loopback");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+			executor = loopbackThread;
+		} else {
+			loopbackThread = null;
+		}
+		loopbackExecutor = executor;
 	}
 
 	private IoHandler createHandler(LlrpContext context) {
 		IoSession ioSession = new IoSession() {
 			@Override
 			public void send(ByteBuffer data) {
-				nioServer.send(channel, data);
+				IoConnection current = connection;
+				if (current == null) {
+					throw new LlrpException("No client is connected.");
+				}
+				current.send(data);
+			}
+
+			@Override
+			public void suspendRead() {
+				IoConnection current = connection;
+				if (current != null) {
+					current.suspendRead();
+				}
+			}
+
+			@Override
+			public void resumeRead() {
+				IoConnection current = connection;
+				if (current != null) {
+					current.resumeRead();
+				}
 			}
 		};
 		return new IoHandler(context, ioSession, true, false);
 	}
 
+	/**
+	 * Creates the notification that informs a client about the acceptance of
+	 * its connection.
+	 */
+	static READER_EVENT_NOTIFICATION connectionAttemptEvent(ConnectionAttemptStatusType status) {
+		READER_EVENT_NOTIFICATION evtNotification = new READER_EVENT_NOTIFICATION();
+		evtNotification.readerEventNotificationData().timestamp(new UTCTimestamp()
+				.microseconds(BigInteger.valueOf(System.currentTimeMillis()).multiply(BigInteger.valueOf(1000))));
+		evtNotification.readerEventNotificationData().connectionAttemptEvent().status(status);
+		return evtNotification;
+	}
+
 	public static LlrpServer create(LlrpContext context, String host) throws IOException {
 		return create(context, host, LlrpConstants.DEFAULT_PORT);
 	}
@@ -70,6 +133,51 @@ public class LlrpServer implements Closeable {
 		return new LlrpServer(context, host, port);
 	}
 
+	/**
+	 * Creates a server that accepts in-memory connections of clients that are
+	 * created by {@link LlrpClient#createLoopback(LlrpContext, LlrpServer)}.
+	 * The data of both sides is processed by a dedicated thread.
+	 */
+	public static LlrpServer createLoopback(LlrpContext context) {
+		return createLoopback(context, null);
+	}
+
+	/**
+	 * Creates a server that accepts in-memory connections whose data is
+	 * processed by the given executor. The data of each side is processed in
+	 * the order of sending.
+	 */
+	public static LlrpServer createLoopback(LlrpContext context, Executor executor) {
+		return new LlrpServer(context, executor);
+	}
+
+	/**
+	 * Accepts the in-memory connection of a client.
+	 */
+	void accept(LoopbackConnection client) {
+		if (loopbackExecutor == null) {
+			throw new IllegalArgumentException("Server does not accept in-memory connections.");
+		}
+		synchronized (this) {
+			IoConnection current = connection;
+			if (current == null || current.isClosed()) {
+				LoopbackConnection newConnection = new LoopbackConnection(loopbackExecutor, handler);
+				LoopbackConnection.connect(client, newConnection);
+				connection = newConnection;
+				handler.resetReportState();
+				newConnection.send(handler.encodeMessage(connectionAttemptEvent(ConnectionAttemptStatusType.Success)));
+				return;
+			}
+		}
+		// the state of the current connection remains untouched
+		client.receiveAndClose(handler.encodeMessage(
+				connectionAttemptEvent(ConnectionAttemptStatusType.Failed_A_Client_Initiated_Connection_Already_Exists)));
+	}
+
+	Executor loopbackExecutor() {
+		return loopbackExecutor;
+	}
+
 	public void send(LlrpMessage message) {
 		handler.send(message);
 	}
@@ -82,15 +190,181 @@ public class LlrpServer implements Closeable {
 		return transact(message, LlrpConstants.DEFAULT_TIMEOUT);
 	}
 
+	/**
+	 * Sends a request without blocking. The message ID is allocated by this
+	 * connection and the returned future is completed with the response by
+	 * the completion executor.
+	 * 
+	 * @see #completionExecutor(Executor)
+	 */
+	public CompletableFuture<LlrpMessage> transactAsync(LlrpMessage message, long timeout) {
+		return handler.transactAsync(message, timeout);
+	}
+
+	public CompletableFuture<LlrpMessage> transactAsync(LlrpMessage message) {
+		return transactAsync(message, LlrpConstants.DEFAULT_TIMEOUT);
+	}
+
 	public LlrpServer endpoint(LlrpEndpoint endpoint) {
 		handler.setEndpoint(endpoint);
 		return this;
 	}
 
+	/**
+	 * Enables or disables filling in omitted optional parameters of received
+	 * <code>TagReportData</code> parameters with the last received values.
+	 */
+	public LlrpServer fillOmittedParameters(boolean fill) {
+		handler.setFillOmittedParameters(fill);
+		return this;
+	}
+
+	/**
+	 * Enables or disables omitting optional parameters of sent
+	 * <code>TagReportData</code> parameters whose values did not change since
+	 * they were sent the last time.
+	 */
+	public LlrpServer omitUnchangedParameters(boolean omit) {
+		handler.setOmitUnchangedParameters(omit);
+		return this;
+	}
+
+	/**
+	 * Forgets the last values of optional report parameters that are used to
+	 * fill in or omit unchanged parameters. This happens automatically if an
+	 * <code>ADD_ROSPEC</code> or <code>SET_READER_CONFIG</code> message is
+	 * exchanged and should be called by applications after any other change
+	 * of the report contents, e.g. if an ROSpec with different report
+	 * settings is enabled.
+	 */
+	public void resetReportState() {
+		handler.resetReportState();
+	}
+
+	/**
+	 * Sets the maximum length of received messages in bytes. A connection
+	 * whose peer announces a longer message is closed.
+	 */
+	public LlrpServer maxFrameSize(int maxFrameSize) {
+		handler.setMaxFrameSize(maxFrameSize);
+		return this;
+	}
+
+	/**
+	 * Sets the executor that completes the futures returned by
+	 * {@link #transactAsync(LlrpMessage, long)}. Their dependent stages run on
+	 * this executor instead of the I/O thread and may therefore block.
+	 * Defaults to {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+	 */
+	public LlrpServer completionExecutor(Executor completionExecutor) {
+		handler.setCompletionExecutor(completionExecutor);
+		return this;
+	}
+
+	/**
+	 * Sets the number of queued outbound bytes from which on the connection
+	 * is reported as not writable. Senders may use
+	 * {@link #isWritable()} or {@link #awaitWritable(long)} to limit the
+	 * memory that is used for data that could not yet be sent.
+	 */
+	public LlrpServer writeHighWaterMark(long writeHighWaterMark) {
+		handler.setWriteHighWaterMark(writeHighWaterMark);
+		return this;
+	}
+
+	/**
+	 * Suspends reading from the network while at least
+	 * <code>highWaterMark</code> received messages are waiting to be decoded
+	 * or dispatched and resumes it when they fall to
+	 * <code>lowWaterMark</code>. The peer is then slowed down by TCP flow
+	 * control instead of filling the heap. This only has an effect together
+	 * with a decode executor or asynchronous dispatching. A high-water mark
+	 * of zero disables throttling.
+	 */
+	public LlrpServer readWaterMarks(int lowWaterMark, int highWaterMark) {
+		handler.setReadWaterMarks(lowWaterMark, highWaterMark);
+		return this;
+	}
+
+	/**
+	 * Sets an executor that decodes received messages and calls the
+	 * endpoint. Messages are still processed in the order of their reception
+	 * but the I/O thread is no longer blocked by slow endpoints. By default
+	 * messages are decoded on the I/O thread.
+	 */
+	public LlrpServer decodeExecutor(Executor executor) {
+		handler.setDecodeExecutor(executor);
+		return this;
+	}
+
+	/**
+	 * Dispatches received messages to the endpoint on a dedicated thread. At
+	 * most <code>capacity</code> messages are queued, further reports are
+	 * handled according to the given policy.
+	 */
+	public LlrpServer asyncDispatch(int capacity, OverloadPolicy policy) {
+		return asyncDispatch(capacity, policy, null);
+	}
+
+	/**
+	 * Dispatches received messages to the endpoint using the given executor.
+	 * At most <code>capacity</code> messages are queued, further reports are
+	 * handled according to the given policy. Messages other than reports are
+	 * never dropped.
+	 */
+	public LlrpServer asyncDispatch(int capacity, OverloadPolicy policy, Executor executor) {
+		handler.setAsyncDispatch(capacity, policy, executor);
+		return this;
+	}
+
+	/**
+	 * Returns <code>true</code> if a client is connected and less data than
+	 * the write high-water mark is waiting to be sent.
+	 */
+	public boolean isWritable() {
+		IoConnection current = connection;
+		return current != null && current.isWritable();
+	}
+
+	/**
+	 * Waits until less data than the write high-water mark is waiting to be
+	 * sent.
+	 * 
+	 * @return <code>false</code> if the data was not sent within the timeout
+	 */
+	public boolean awaitWritable(long timeout) throws InterruptedException {
+		IoConnection current = connection;
+		if (current == null) {
+			throw new LlrpException("No client is connected.");
+		}
+		return current.awaitWritable(timeout);
+	}
+
+	/**
+	 * Returns the statistics of this connection.
+	 */
+	public ConnectionMetrics metrics() {
+		return handler.getMetrics();
+	}
+
 	public void close() throws IOException {
-		if (nioServer != null) {
-			nioServer.close();
-			nioServer = null;
+		try {
+			if (nioServer != null) {
+				nioServer.close();
+			}
+			IoConnection current = connection;
+			if (current != null) {
+				current.close();
+			}
+		} finally {
+			if (selectorGroup != null) {
+				selectorGroup.close();
+			}
+			if (loopbackThread != null) {
+				// queued data of the closed connections is still processed
+				loopbackThread.shutdown();
+			}
+			handler.close();
 		}
 	}
 }
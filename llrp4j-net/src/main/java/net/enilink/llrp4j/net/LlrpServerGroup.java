@@ -0,0 +1,266 @@
+package net.enilink.llrp4j.net;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.llrp.enumerations.ConnectionAttemptStatusType;
+
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+/**
+ * A server that accepts many concurrent LLRP connections, e.g. from readers
+ * that initiate the connection themselves.
+ * <p>
+ * The connections are spread over a configurable number of selector threads.
+ * Each connection is represented by an {@link LlrpSession} with its own
+ * state that is passed to the {@link LlrpSessionEndpoint}. The connection
+ * settings of this server are applied to all sessions that are accepted
+ * afterwards.
+ */
+public class LlrpServerGroup implements Closeable {
+	/**
+	 * Passes the data of a handler to the connection of its session.
+	 */
+	static class SessionIo implements IoSession {
+		NioConnection connection;
+		LlrpSession session;
+
+		@Override
+		public void send(ByteBuffer data) {
+			connection.send(data);
+		}
+
+		@Override
+		public void suspendRead() {
+			connection.suspendRead();
+		}
+
+		@Override
+		public void resumeRead() {
+			connection.resumeRead();
+		}
+	}
+
+	private final LlrpContext context;
+	private final LlrpSessionEndpoint endpoint;
+	private final SelectorGroup selectorGroup;
+	private final NioServer nioServer;
+	private final Set<LlrpSession> sessions = ConcurrentHashMap.newKeySet();
+
+	private volatile boolean fillOmittedParameters;
+	private volatile boolean omitUnchangedParameters;
+	private volatile int maxFrameSize = LlrpConstants.DEFAULT_MAX_FRAME_SIZE;
+	private volatile long writeHighWaterMark = LlrpConstants.DEFAULT_WRITE_HIGH_WATER_MARK;
+	private volatile int readLowWaterMark;
+	private volatile int readHighWaterMark;
+	private volatile Executor decodeExecutor;
+	private volatile int dispatchCapacity;
+	private volatile OverloadPolicy dispatchPolicy;
+	private volatile Executor dispatchExecutor;
+	private volatile Executor completionExecutor;
+
+	protected LlrpServerGroup(LlrpContext context, String host, int port, int selectorThreads,
+			LlrpSessionEndpoint endpoint) throws IOException {
+		this.context = context;
+		this.endpoint = endpoint;
+		this.selectorGroup = new SelectorGroup(selectorThreads, "llrp-server-group");
+		try {
+			nioServer = new NioServer(InetAddress.getByName(host), port, selectorGroup) {
+				@Override
+				protected void accepted(SocketChannel channel) throws IOException {
+					open(channel);
+				}
+			};
+		} catch (IOException e) {
+			selectorGroup.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Creates a server with one selector thread per available processor.
+	 */
+	public static LlrpServerGroup create(LlrpContext context, String host, int port, LlrpSessionEndpoint endpoint)
+			throws IOException {
+		return create(context, host, port, Runtime.getRuntime().availableProcessors(), endpoint);
+	}
+
+	public static LlrpServerGroup create(LlrpContext context, String host, int port, int selectorThreads,
+			LlrpSessionEndpoint endpoint) throws IOException {
+		return new LlrpServerGroup(context, host, port, selectorThreads, endpoint);
+	}
+
+	private void open(SocketChannel channel) throws IOException {
+		final SessionIo io = new SessionIo();
+		IoHandler handler = new IoHandler(context, io, true, false) {
+			@Override
+			protected void connectionClosed(Exception cause) {
+				super.connectionClosed(cause);
+				close();
+				if (sessions.remove(io.session)) {
+					endpoint.sessionClosed(io.session);
+				}
+			}
+		};
+		configure(handler);
+		io.connection = new NioConnection(selectorGroup.next(), channel, handler);
+		io.session = new LlrpSession(handler, io.connection, channel.getRemoteAddress());
+		handler.setEndpoint(new LlrpEndpoint() {
+			@Override
+			public void messageReceived(LlrpMessage message) {
+				endpoint.messageReceived(io.session, message);
+			}
+
+			@Override
+			public void errorOccured(String message, Throwable cause) {
+				endpoint.errorOccured(io.session, message, cause);
+			}
+		});
+		sessions.add(io.session);
+		endpoint.sessionOpened(io.session);
+		io.connection.register();
+		io.connection.send(
+				handler.encodeMessage(LlrpServer.connectionAttemptEvent(ConnectionAttemptStatusType.Success)));
+	}
+
+	private void configure(IoHandler handler) {
+		handler.setFillOmittedParameters(fillOmittedParameters);
+		handler.setOmitUnchangedParameters(omitUnchangedParameters);
+		handler.setMaxFrameSize(maxFrameSize);
+		handler.setWriteHighWaterMark(writeHighWaterMark);
+		handler.setReadWaterMarks(readLowWaterMark, readHighWaterMark);
+		handler.setDecodeExecutor(decodeExecutor);
+		handler.setCompletionExecutor(completionExecutor);
+		if (dispatchPolicy != null) {
+			handler.setAsyncDispatch(dispatchCapacity, dispatchPolicy, dispatchExecutor);
+		}
+	}
+
+	/**
+	 * Returns the port on which connections are accepted.
+	 */
+	public int port() {
+		return nioServer.port();
+	}
+
+	/**
+	 * Returns the currently open sessions.
+	 */
+	public Collection<LlrpSession> sessions() {
+		return Collections.unmodifiableSet(sessions);
+	}
+
+	/**
+	 * Enables or disables filling in omitted optional parameters of received
+	 * <code>TagReportData</code> parameters with the last received values.
+	 */
+	public LlrpServerGroup fillOmittedParameters(boolean fill) {
+		this.fillOmittedParameters = fill;
+		return this;
+	}
+
+	/**
+	 * Enables or disables omitting optional parameters of sent
+	 * <code>TagReportData</code> parameters whose values did not change since
+	 * they were sent the last time.
+	 */
+	public LlrpServerGroup omitUnchangedParameters(boolean omit) {
+		this.omitUnchangedParameters = omit;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum length of received messages in bytes. A connection
+	 * whose peer announces a longer message is closed.
+	 */
+	public LlrpServerGroup maxFrameSize(int maxFrameSize) {
+		this.maxFrameSize = maxFrameSize;
+		return this;
+	}
+
+	/**
+	 * Sets the executor that completes the futures returned by
+	 * {@link LlrpSession#transactAsync(LlrpMessage, long)}. Defaults to
+	 * {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+	 */
+	public LlrpServerGroup completionExecutor(Executor completionExecutor) {
+		this.completionExecutor = completionExecutor;
+		return this;
+	}
+
+	/**
+	 * Sets the number of queued outbound bytes from which on a session is
+	 * reported as not writable.
+	 * 
+	 * @see LlrpSession#isWritable()
+	 */
+	public LlrpServerGroup writeHighWaterMark(long writeHighWaterMark) {
+		if (writeHighWaterMark <= 0) {
+			throw new IllegalArgumentException("High-water mark must be positive.");
+		}
+		this.writeHighWaterMark = writeHighWaterMark;
+		return this;
+	}
+
+	/**
+	 * Suspends reading from a session while at least
+	 * <code>highWaterMark</code> of its received messages are waiting to be
+	 * decoded or dispatched and resumes it when they fall to
+	 * <code>lowWaterMark</code>. Other sessions continue to be read.
+	 */
+	public LlrpServerGroup readWaterMarks(int lowWaterMark, int highWaterMark) {
+		if (lowWaterMark < 0 || highWaterMark != 0 && lowWaterMark >= highWaterMark) {
+			throw new IllegalArgumentException("Low-water mark must be below the high-water mark.");
+		}
+		this.readLowWaterMark = lowWaterMark;
+		this.readHighWaterMark = highWaterMark;
+		return this;
+	}
+
+	/**
+	 * Sets an executor that decodes received messages and calls the
+	 * endpoint. The messages of each session are still processed in the
+	 * order of their reception.
+	 */
+	public LlrpServerGroup decodeExecutor(Executor executor) {
+		this.decodeExecutor = executor;
+		return this;
+	}
+
+	/**
+	 * Dispatches the received messages of each session through a bounded
+	 * queue using the given executor or a dedicated thread per session if
+	 * the executor is <code>null</code>.
+	 */
+	public LlrpServerGroup asyncDispatch(int capacity, OverloadPolicy policy, Executor executor) {
+		this.dispatchCapacity = capacity;
+		this.dispatchPolicy = policy;
+		this.dispatchExecutor = executor;
+		return this;
+	}
+
+	/**
+	 * Closes all sessions and stops accepting connections.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			nioServer.close();
+			for (LlrpSession session : new ArrayList<>(sessions)) {
+				session.close();
+			}
+		} finally {
+			selectorGroup.close();
+		}
+	}
+}
@@ -0,0 +1,125 @@
+package net.enilink.llrp4j.net;
+
+import java.io.Closeable;
+import java.net.SocketAddress;
+import java.util.concurrent.CompletableFuture;
+
+import net.enilink.llrp4j.types.LlrpMessage;
+
+/**
+ * A connection that was accepted by an {@link LlrpServerGroup}.
+ */
+public class LlrpSession implements Closeable {
+	final IoHandler handler;
+	final IoConnection connection;
+
+	private final SocketAddress remoteAddress;
+	private volatile Object attachment;
+
+	LlrpSession(IoHandler handler, IoConnection connection, SocketAddress remoteAddress) {
+		this.handler = handler;
+		this.connection = connection;
+		this.remoteAddress = remoteAddress;
+	}
+
+	/**
+	 * Returns the address of the connected client.
+	 */
+	public SocketAddress remoteAddress() {
+		return remoteAddress;
+	}
+
+	/**
+	 * Returns an application specific object that is associated with this
+	 * session.
+	 */
+	public Object attachment() {
+		return attachment;
+	}
+
+	/**
+	 * Associates an application specific object with this session.
+	 */
+	public LlrpSession attachment(Object attachment) {
+		this.attachment = attachment;
+		return this;
+	}
+
+	public void send(LlrpMessage message) {
+		handler.send(message);
+	}
+
+	public LlrpMessage transact(LlrpMessage message, long timeout) throws InterruptedException {
+		return handler.transact(message, timeout);
+	}
+
+	public LlrpMessage transact(LlrpMessage message) throws InterruptedException {
+		return transact(message, LlrpConstants.DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Sends a request without blocking. The message ID is allocated by this
+	 * connection and the returned future is completed with the response by
+	 * the completion executor of the server group.
+	 * 
+	 * @see LlrpServerGroup#completionExecutor(java.util.concurrent.Executor)
+	 */
+	public CompletableFuture<LlrpMessage> transactAsync(LlrpMessage message, long timeout) {
+		return handler.transactAsync(message, timeout);
+	}
+
+	public CompletableFuture<LlrpMessage> transactAsync(LlrpMessage message) {
+		return transactAsync(message, LlrpConstants.DEFAULT_TIMEOUT);
+	}
+
+	/**
+	 * Returns <code>true</code> if less data than the write high-water mark
+	 * is waiting to be sent.
+	 */
+	public boolean isWritable() {
+		return connection.isWritable();
+	}
+
+	/**
+	 * Waits until less data than the write high-water mark is waiting to be
+	 * sent.
+	 * 
+	 * @return <code>false</code> if the data was not sent within the timeout
+	 */
+	public boolean awaitWritable(long timeout) throws InterruptedException {
+		return connection.awaitWritable(timeout);
+	}
+
+	/**
+	 * Returns the statistics of this connection.
+	 */
+	public ConnectionMetrics metrics() {
+		return handler.getMetrics();
+	}
+
+	/**
+	 * Forgets the last values of optional report parameters.
+	 * 
+	 * @see LlrpServer#resetReportState()
+	 */
+	public void resetReportState() {
+		handler.resetReportState();
+	}
+
+	/**
+	 * Returns <code>true</code> if the connection was closed.
+	 */
+	public boolean isClosed() {
+		return connection.isClosed();
+	}
+
+	@Override
+	public void close() {
+		connection.close();
+	}
+
+	@Override
+	public String toString() {
+		return "LlrpSession [remoteAddress=" + remoteAddress + "]";
+	}
+}
@@ -0,0 +1,44 @@
+package net.enilink.llrp4j.net;
+
+import net.enilink.llrp4j.types.LlrpMessage;
+
+/**
+ * Receives the messages of the connections that are accepted by an
+ * {@link LlrpServerGroup}. The methods of one session are called in order but
+ * different sessions may be served concurrently.
+ */
+public interface LlrpSessionEndpoint {
+	/**
+	 * Called after a connection was accepted.
+	 * 
+	 * @param session
+	 *            the new session
+	 */
+	void sessionOpened(LlrpSession session);
+
+	/**
+	 * Called whenever an LLRP message is received asynchronously.
+	 * 
+	 * @param session
+	 *            the session that received the message
+	 * @param message
+	 *            LLRP message received
+	 */
+	void messageReceived(LlrpSession session, LlrpMessage message);
+
+	/**
+	 * Called whenever an error occurred.
+	 * 
+	 * @param session
+	 *            the affected session
+	 */
+	void errorOccured(LlrpSession session, String message, Throwable cause);
+
+	/**
+	 * Called after the connection of a session was closed.
+	 * 
+	 * @param session
+	 *            the closed session
+	 */
+	void sessionClosed(LlrpSession session);
+}
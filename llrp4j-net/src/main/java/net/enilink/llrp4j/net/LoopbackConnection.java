@@ -0,0 +1,225 @@
+package net.enilink.llrp4j.net;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.enilink.llrp4j.LlrpException;
+
+/**
+ * One side of an in-memory connection without sockets and selectors.
+ * <p>
+ * Sent data is passed to the receive queue of the peer without copying and
+ * processed by a task of the executor in the order of sending. Data counts
+ * as written as soon as the peer processed it, so that a peer that suspends
+ * reading applies backpressure to the sender like a TCP connection.
+ */
+class LoopbackConnection implements IoConnection {
+	// Limits the chunks of one connection per task to be fair to others
+	private static final int DRAIN_BATCH_SIZE = 64;
+
+	// Marks that the peer closed the connection
+	private static final ByteBuffer END_OF_STREAM = ByteBuffer.allocate(0);
+
+	final Executor executor;
+	final IoHandler handler;
+
+	private volatile LoopbackConnection peer;
+
+	private final Queue<ByteBuffer> received = new ConcurrentLinkedQueue<>();
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final Runnable drainTask = new Runnable() {
+		@Override
+		public void run() {
+			drain();
+		}
+	};
+
+	// Sent data that was not yet processed by the peer
+	private final AtomicLong pendingBytes = new AtomicLong();
+	private final Object writability = new Object();
+
+	private volatile boolean readSuspended;
+	private volatile boolean closed;
+
+	LoopbackConnection(Executor executor, IoHandler handler) {
+		this.executor = executor;
+		this.handler = handler;
+	}
+
+	/**
+	 * Connects two sides with each other.
+	 */
+	static void connect(LoopbackConnection a, LoopbackConnection b) {
+		a.peer = b;
+		b.peer = a;
+	}
+
+	@Override
+	public void send(ByteBuffer data) {
+		LoopbackConnection target = peer;
+		if (closed || target == null) {
+			throw new LlrpException("Connection is closed.");
+		}
+		int length = data.remaining();
+		pendingBytes.addAndGet(length);
+		handler.getMetrics().outboundQueueBytes.addAndGet(length);
+		target.receive(data, this);
+	}
+
+	/**
+	 * Passes data to this side that is closed afterwards, e.g. to reject a
+	 * connection without a peer.
+	 */
+	void receiveAndClose(ByteBuffer data) {
+		receive(data, null);
+		receive(END_OF_STREAM, null);
+	}
+
+	private void receive(ByteBuffer data, LoopbackConnection sender) {
+		if (closed) {
+			// the data can no longer be processed
+			if (sender != null && data != END_OF_STREAM) {
+				sender.written(data.remaining());
+			}
+			return;
+		}
+		received.add(data);
+		scheduleDrain();
+	}
+
+	private void scheduleDrain() {
+		if (!readSuspended && draining.compareAndSet(false, true)) {
+			try {
+				executor.execute(drainTask);
+			} catch (RejectedExecutionException e) {
+				draining.set(false);
+				handler.handleException("Processing of received data was rejected", e);
+			}
+		}
+	}
+
+	/**
+	 * Processes received data in the order of sending. At most one instance
+	 * of this task is running at any time.
+	 */
+	private void drain() {
+		ByteBuffer data;
+		int count = 0;
+		while (count++ < DRAIN_BATCH_SIZE && !readSuspended && !closed && (data = received.poll()) != null) {
+			if (data == END_OF_STREAM) {
+				close(null);
+				break;
+			}
+			int length = data.remaining();
+			try {
+				handler.processData(null, data);
+			} catch (LlrpException e) {
+				handler.handleException("Invalid message frame, closing connection", e);
+				close(e);
+			} finally {
+				LoopbackConnection sender = peer;
+				if (sender != null) {
+					sender.written(length);
+				}
+			}
+		}
+		draining.set(false);
+		if (!received.isEmpty() && !closed) {
+			scheduleDrain();
+		}
+	}
+
+	private void written(long length) {
+		long pending = pendingBytes.addAndGet(-length);
+		ConnectionMetrics metrics = handler.getMetrics();
+		metrics.outboundQueueBytes.addAndGet(-length);
+		metrics.writes.incrementAndGet();
+		metrics.writtenBytes.addAndGet(length);
+		long highWaterMark = handler.getWriteHighWaterMark();
+		if (pending < highWaterMark && pending + length >= highWaterMark) {
+			synchronized (writability) {
+				writability.notifyAll();
+			}
+		}
+	}
+
+	@Override
+	public void suspendRead() {
+		readSuspended = true;
+	}
+
+	@Override
+	public void resumeRead() {
+		readSuspended = false;
+		if (!received.isEmpty()) {
+			scheduleDrain();
+		}
+	}
+
+	@Override
+	public boolean isWritable() {
+		return !closed && pendingBytes.get() < handler.getWriteHighWaterMark();
+	}
+
+	@Override
+	public boolean awaitWritable(long timeout) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		synchronized (writability) {
+			while (!isWritable()) {
+				if (closed) {
+					throw new LlrpException("Connection is closed.");
+				}
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(writability, remaining);
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public void close() {
+		close(null);
+	}
+
+	private void close(Exception cause) {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		synchronized (writability) {
+			writability.notifyAll();
+		}
+		// the peer processes the data that was sent before
+		LoopbackConnection target = peer;
+		if (target != null) {
+			target.receive(END_OF_STREAM, this);
+		}
+		handler.connectionClosed(cause);
+		Runnable release = new Runnable() {
+			@Override
+			public void run() {
+				handler.channelClosed(null);
+				received.clear();
+			}
+		};
+		try {
+			executor.execute(release);
+		} catch (RejectedExecutionException e) {
+			release.run();
+		}
+	}
+}
@@ -0,0 +1,366 @@
+package net.enilink.llrp4j.net;
+
+import java.io.IOException;
+import java.net.SocketAddress;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import net.enilink.llrp4j.LlrpException;
+import net.enilink.llrp4j.net.ReadBufferPool.ReadSize;
+
+/**
+ * A non-blocking socket connection that is served by a {@link SelectorLoop}.
+ * <p>
+ * Sent data is queued without locks and written by the selector thread with
+ * gathering writes. The selector thread is notified only once until the
+ * queue was completely written.
+ */
+class NioConnection implements SelectorLoop.Handler, IoConnection {
+	// Limits the reads of one connection per selection to be fair to others
+	private static final int MAX_READS_PER_EVENT = 16;
+
+	// Limits the number of buffers that are written by one system call
+	private static final int MAX_GATHERED_BUFFERS = 64;
+
+	final SelectorLoop loop;
+	final SocketChannel channel;
+	final IoHandler handler;
+
+	private final ReadSize readSize = new ReadSize();
+
+	// The data that is waiting to be written
+	private final Queue<ByteBuffer> pendingData = new ConcurrentLinkedQueue<>();
+	private final AtomicLong pendingBytes = new AtomicLong();
+
+	// Set while the selector thread is going to write the pending data
+	private final AtomicBoolean writeScheduled = new AtomicBoolean();
+
+	// Senders that wait until the pending data falls below the high-water mark
+	private final Object writability = new Object();
+
+	private final ByteBuffer[] gathered = new ByteBuffer[MAX_GATHERED_BUFFERS];
+
+	private final Runnable enableWrite = new Runnable() {
+		@Override
+		public void run() {
+			// the interest in writing is registered after connecting if the
+			// key does not yet exist or is still connecting
+			if (key != null && key.isValid() && (key.interestOps() & SelectionKey.OP_CONNECT) == 0) {
+				key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+			}
+		}
+	};
+
+	private final Runnable disableRead = new Runnable() {
+		@Override
+		public void run() {
+			if (key != null && key.isValid()) {
+				key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+			}
+		}
+	};
+
+	private final Runnable enableRead = new Runnable() {
+		@Override
+		public void run() {
+			if (key != null && key.isValid()) {
+				key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+			}
+		}
+	};
+
+	private SelectionKey key;
+	private volatile boolean closed;
+	private volatile boolean readSuspended;
+
+	NioConnection(SelectorLoop loop, SocketChannel channel, IoHandler handler) {
+		this.loop = loop;
+		this.channel = channel;
+		this.handler = handler;
+	}
+
+	/**
+	 * Starts to establish the connection to the given address.
+	 */
+	void connect(final SocketAddress address) {
+		loop.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					channel.configureBlocking(false);
+					if (channel.connect(address)) {
+						register(SelectionKey.OP_READ);
+					} else {
+						// wait until the connection is established
+						register(SelectionKey.OP_CONNECT);
+					}
+				} catch (IOException e) {
+					close(e);
+				}
+			}
+		});
+	}
+
+	/**
+	 * Starts to serve an already connected channel.
+	 */
+	void register() {
+		loop.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					channel.configureBlocking(false);
+					register(SelectionKey.OP_READ);
+				} catch (IOException e) {
+					close(e);
+				}
+			}
+		});
+	}
+
+	private void register(int ops) throws ClosedChannelException {
+		if (ops == SelectionKey.OP_READ && !pendingData.isEmpty()) {
+			ops |= SelectionKey.OP_WRITE;
+		}
+		key = channel.register(loop.selector, ops, this);
+	}
+
+	@Override
+	public void send(ByteBuffer data) {
+		if (closed) {
+			throw new LlrpException("Connection is closed.");
+		}
+		// queue the data we want written
+		int length = data.remaining();
+		pendingBytes.addAndGet(length);
+		handler.getMetrics().outboundQueueBytes.addAndGet(length);
+		pendingData.add(data);
+
+		// and let the selector thread register the interest in writing if
+		// this is the first data since the queue was written
+		if (writeScheduled.compareAndSet(false, true)) {
+			handler.getMetrics().scheduledFlushes.incrementAndGet();
+			loop.execute(enableWrite);
+		}
+	}
+
+	/**
+	 * Removes the interest in reading from the key of this connection only.
+	 * Other connections of the same selector are not affected.
+	 */
+	@Override
+	public void suspendRead() {
+		readSuspended = true;
+		loop.execute(disableRead);
+	}
+
+	@Override
+	public void resumeRead() {
+		readSuspended = false;
+		loop.execute(enableRead);
+	}
+
+	@Override
+	public boolean isWritable() {
+		return !closed && pendingBytes.get() < handler.getWriteHighWaterMark();
+	}
+
+	@Override
+	public boolean awaitWritable(long timeout) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout);
+		synchronized (writability) {
+			while (!isWritable()) {
+				if (closed) {
+					throw new LlrpException("Connection is closed.");
+				}
+				long remaining = deadline - System.nanoTime();
+				if (remaining <= 0) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(writability, remaining);
+			}
+		}
+		return true;
+	}
+
+	private void written(long length) {
+		long pending = pendingBytes.addAndGet(-length);
+		handler.getMetrics().outboundQueueBytes.addAndGet(-length);
+		long highWaterMark = handler.getWriteHighWaterMark();
+		if (pending < highWaterMark && pending + length >= highWaterMark) {
+			synchronized (writability) {
+				writability.notifyAll();
+			}
+		}
+	}
+
+	@Override
+	public void ready(SelectionKey key) throws IOException {
+		// Check what event is available and deal with it
+		if (key.isConnectable()) {
+			finishConnection();
+			return;
+		}
+		if (key.isReadable()) {
+			read();
+		}
+		if (key.isValid() && key.isWritable()) {
+			write();
+		}
+	}
+
+	@Override
+	public void failed(SelectionKey key, Exception e) {
+		handler.handleException("Error while processing network channel", e);
+	}
+
+	private void finishConnection() {
+		// Finish the connection. If the connection operation failed
+		// this will raise an IOException.
+		try {
+			channel.finishConnect();
+		} catch (IOException e) {
+			close(e);
+			return;
+		}
+		// Register an interest in reading and in writing queued data
+		key.interestOps(SelectionKey.OP_READ | (pendingData.isEmpty() ? 0 : SelectionKey.OP_WRITE));
+	}
+
+	private void read() throws IOException {
+		// Continue reading as long as the reads fill the whole buffer
+		for (int i = 0; i < MAX_READS_PER_EVENT; i++) {
+			ByteBuffer buffer = loop.readBuffers.acquire(readSize);
+
+			// Attempt to read off the channel
+			int numRead;
+			try {
+				numRead = channel.read(buffer);
+			} catch (IOException e) {
+				// The remote forcibly closed the connection
+				close(e);
+				return;
+			}
+
+			if (numRead == -1) {
+				// Remote entity shut the socket down cleanly. Do the
+				// same from our end.
+				close(null);
+				return;
+			}
+			if (numRead == 0) {
+				return;
+			}
+
+			// The handler consumes the data before the buffer is reused
+			((Buffer) buffer).flip();
+			try {
+				handler.processData(channel, buffer);
+			} catch (LlrpException e) {
+				// the stream can not be resynchronized after an invalid frame
+				handler.handleException("Invalid message frame, closing connection", e);
+				close(e);
+				return;
+			}
+			if (!readSize.record(numRead) || readSuspended) {
+				return;
+			}
+		}
+	}
+
+	private void write() {
+		ConnectionMetrics metrics = handler.getMetrics();
+		try {
+			// Write until there's no more data ...
+			while (true) {
+				int count = 0;
+				for (Iterator<ByteBuffer> it = pendingData.iterator(); it.hasNext() && count < gathered.length;) {
+					gathered[count++] = it.next();
+				}
+				if (count == 0) {
+					break;
+				}
+				long written = channel.write(gathered, 0, count);
+				metrics.writes.incrementAndGet();
+				metrics.writtenBytes.addAndGet(written);
+				written(written);
+
+				// only the selector thread removes data from the queue
+				int complete = 0;
+				while (complete < count && !gathered[complete].hasRemaining()) {
+					pendingData.poll();
+					complete++;
+				}
+				Arrays.fill(gathered, 0, count, null);
+				if (complete < count) {
+					// ... or the socket's buffer fills up
+					return;
+				}
+			}
+		} catch (IOException e) {
+			close(e);
+			return;
+		}
+
+		// We wrote away all data, so we're no longer interested
+		// in writing on this socket.
+		key.interestOps(key.interestOps() & ~SelectionKey.OP_WRITE);
+		writeScheduled.set(false);
+		// Data that was queued before the flag was reset did not schedule
+		// another write.
+		if (!pendingData.isEmpty() && writeScheduled.compareAndSet(false, true)) {
+			key.interestOps(key.interestOps() | SelectionKey.OP_WRITE);
+		}
+	}
+
+	@Override
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public void close() {
+		close(null);
+	}
+
+	private void close(Exception cause) {
+		if (closed) {
+			return;
+		}
+		closed = true;
+		try {
+			channel.close();
+		} catch (IOException e) {
+			// ignore
+		}
+		synchronized (writability) {
+			writability.notifyAll();
+		}
+		handler.connectionClosed(cause);
+		Runnable release = new Runnable() {
+			@Override
+			public void run() {
+				handler.channelClosed(channel);
+				// discard the data that can no longer be written
+				pendingData.clear();
+				long pending = pendingBytes.getAndSet(0);
+				handler.getMetrics().outboundQueueBytes.addAndGet(-pending);
+			}
+		};
+		if (loop.inLoop()) {
+			release.run();
+		} else {
+			loop.execute(release);
+		}
+	}
+}
@@ -3,217 +3,93 @@ package net.enilink.llrp4j.net;
 import java.io.IOException;
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
-import java.nio.Buffer;
-import java.nio.ByteBuffer;
 import java.nio.channels.SelectionKey;
-import java.nio.channels.Selector;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
-import java.nio.channels.spi.SelectorProvider;
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Map;
 
-class NioServer implements Runnable {
-	// The host:port combination to listen on
-	private InetAddress hostAddress;
-	private int port;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-	// The channel on which we'll accept connections
-	private ServerSocketChannel serverChannel;
-
-	// The selector we'll be monitoring
-	private Selector selector;
-
-	// The buffer into which we'll read data when it's available
-	private ByteBuffer readBuffer = ByteBuffer.allocate(8192);
+/**
+ * Accepts connections on a server socket. The accepted channels are passed
+ * to {@link #accepted(SocketChannel)} which usually serves them by a
+ * {@link NioConnection} of the selector group.
+ */
+abstract class NioServer implements SelectorLoop.Handler {
+	private static Logger log = LoggerFactory.getLogger(NioServer.class);
 
-	private final IoHandler handler;
+	// Many readers may connect at the same time, e.g. after a restart
+	private static final int ACCEPT_BACKLOG = 1024;
 
-	// A list of PendingChange instances
-	protected List<ChangeRequest> pendingChanges = new LinkedList<ChangeRequest>();
+	// The channel on which we'll accept connections
+	private final ServerSocketChannel serverChannel;
 
-	// Maps a SocketChannel to a list of ByteBuffer instances
-	protected Map<SocketChannel, List<ByteBuffer>> pendingData = new HashMap<SocketChannel, List<ByteBuffer>>();
+	final SelectorGroup selectorGroup;
 
-	public NioServer(InetAddress hostAddress, int port, IoHandler handler) throws IOException {
-		this.hostAddress = hostAddress;
-		this.port = port;
-		this.selector = this.initSelector();
-		this.handler = handler;
-	}
+	NioServer(InetAddress hostAddress, int port, SelectorGroup selectorGroup) throws IOException {
+		this.selectorGroup = selectorGroup;
 
-	public void send(SocketChannel socket, ByteBuffer data) {
-		synchronized (this.pendingChanges) {
-			// Indicate we want the interest ops set changed
-			this.pendingChanges.add(new ChangeRequest(socket, ChangeRequest.CHANGEOPS, SelectionKey.OP_WRITE));
+		// Create a new non-blocking server socket channel
+		serverChannel = ServerSocketChannel.open();
+		try {
+			serverChannel.configureBlocking(false);
 
-			// And queue the data we want written
-			synchronized (this.pendingData) {
-				List<ByteBuffer> queue = this.pendingData.get(socket);
-				if (queue == null) {
-					queue = new ArrayList<ByteBuffer>();
-					this.pendingData.put(socket, queue);
-				}
-				queue.add(data);
-			}
+			// Bind the server socket to the specified address and port
+			serverChannel.socket().bind(new InetSocketAddress(hostAddress, port), ACCEPT_BACKLOG);
+		} catch (IOException e) {
+			serverChannel.close();
+			throw e;
 		}
 
-		// Finally, wake up our selecting thread so it can make the required
-		// changes
-		this.selector.wakeup();
-	}
-
-	public void run() {
-		while (selector.isOpen()) {
-			try {
-				// Process any pending changes
-				synchronized (pendingChanges) {
-					Iterator<ChangeRequest> changes = pendingChanges.iterator();
-					while (changes.hasNext()) {
-						ChangeRequest change = changes.next();
-						switch (change.type) {
-						case ChangeRequest.CHANGEOPS:
-							SelectionKey key = change.socket.keyFor(selector);
-							key.interestOps(change.ops);
-							break;
-						case ChangeRequest.CLOSE:
-							change.socket.close();
-							break;
-						}
-					}
-					this.pendingChanges.clear();
-				}
-
-				// Wait for an event one of the registered channels
-				selector.select();
-				if (!selector.isOpen()) {
-					return;
-				}
-
-				// Iterate over the set of keys for which events are available
-				Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
-				while (selectedKeys.hasNext()) {
-					SelectionKey key = selectedKeys.next();
-					selectedKeys.remove();
-
-					if (!key.isValid()) {
-						continue;
-					}
-
-					// Check what event is available and deal with it
-					if (key.isAcceptable()) {
-						this.accept(key);
-					} else if (key.isReadable()) {
-						this.read(key);
-					} else if (key.isWritable()) {
-						this.write(key);
-					}
+		// Register the server socket channel, indicating an interest in
+		// accepting new connections
+		final SelectorLoop loop = selectorGroup.next();
+		loop.execute(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					serverChannel.register(loop.selector, SelectionKey.OP_ACCEPT, NioServer.this);
+				} catch (IOException e) {
+					log.error("Unable to accept connections", e);
 				}
-			} catch (Exception e) {
-				handler.handleException("Error while processing network channel", e);
 			}
-		}
-	}
-
-	private void accept(SelectionKey key) throws IOException {
-		// For an accept to be pending the channel must be a server socket
-		// channel.
-		ServerSocketChannel serverSocketChannel = (ServerSocketChannel) key.channel();
-
-		// Accept the connection and make it non-blocking
-		SocketChannel socketChannel = acceptChannel(serverSocketChannel);
-		socketChannel.configureBlocking(false);
-
-		// Register the new SocketChannel with our Selector, indicating
-		// we'd like to be notified when there's data waiting to be read
-		socketChannel.register(this.selector, SelectionKey.OP_READ);
-	}
-
-	protected SocketChannel acceptChannel(ServerSocketChannel serverSocketChannel) throws IOException {
-		return serverSocketChannel.accept();
-	}
-
-	private void read(SelectionKey key) throws IOException {
-		SocketChannel socketChannel = (SocketChannel) key.channel();
-
-		// Clear out our read buffer so it's ready for new data
-		((Buffer)this.readBuffer).clear();
-
-		// Attempt to read off the channel
-		int numRead;
-		try {
-			numRead = socketChannel.read(this.readBuffer);
-		} catch (IOException e) {
-			// The remote forcibly closed the connection, cancel
-			// the selection key and close the channel.
-			key.cancel();
-			socketChannel.close();
-			return;
-		}
-
-		if (numRead == -1) {
-			// Remote entity shut the socket down cleanly. Do the
-			// same from our end and cancel the channel.
-			key.channel().close();
-			key.cancel();
-			return;
-		}
-
-		byte[] receivedData = new byte[numRead];
-		System.arraycopy(this.readBuffer.array(), 0, receivedData, 0, numRead);
-		this.handler.processData(socketChannel, receivedData);
+		});
 	}
 
-	private void write(SelectionKey key) throws IOException {
-		SocketChannel socketChannel = (SocketChannel) key.channel();
-
-		synchronized (this.pendingData) {
-			List<?> queue = this.pendingData.get(socketChannel);
-
-			// Write until there's not more data ...
-			while (!queue.isEmpty()) {
-				ByteBuffer buf = (ByteBuffer) queue.get(0);
-				socketChannel.write(buf);
-				if (buf.remaining() > 0) {
-					// ... or the socket's buffer fills up
-					break;
+	/**
+	 * Serves a newly accepted channel.
+	 */
+	protected abstract void accepted(SocketChannel channel) throws IOException;
+
+	@Override
+	public void ready(SelectionKey key) throws IOException {
+		if (key.isAcceptable()) {
+			// Accept all pending connections
+			SocketChannel channel;
+			while ((channel = serverChannel.accept()) != null) {
+				try {
+					accepted(channel);
+				} catch (IOException e) {
+					log.error("Error while accepting connection", e);
+					channel.close();
 				}
-				queue.remove(0);
-			}
-
-			if (queue.isEmpty()) {
-				// We wrote away all data, so we're no longer interested
-				// in writing on this socket. Switch back to waiting for
-				// data.
-				key.interestOps(SelectionKey.OP_READ);
 			}
 		}
 	}
 
-	private Selector initSelector() throws IOException {
-		// Create a new selector
-		Selector socketSelector = SelectorProvider.provider().openSelector();
-
-		// Create a new non-blocking server socket channel
-		this.serverChannel = ServerSocketChannel.open();
-		serverChannel.configureBlocking(false);
-
-		// Bind the server socket to the specified address and port
-		InetSocketAddress isa = new InetSocketAddress(this.hostAddress, this.port);
-		serverChannel.socket().bind(isa);
-
-		// Register the server socket channel, indicating an interest in
-		// accepting new connections
-		serverChannel.register(socketSelector, SelectionKey.OP_ACCEPT);
+	@Override
+	public void failed(SelectionKey key, Exception e) {
+		log.error("Error while accepting connections", e);
+	}
 
-		return socketSelector;
+	/**
+	 * Returns the port on which connections are accepted.
+	 */
+	int port() {
+		return serverChannel.socket().getLocalPort();
 	}
 
 	public void close() throws IOException {
-		selector.close();
+		serverChannel.close();
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,32 @@
+package net.enilink.llrp4j.net;
+
+/**
+ * Defines how received messages are handled if the dispatch queue of a
+ * connection is full.
+ * <p>
+ * Only reports (<code>RO_ACCESS_REPORT</code> messages) are ever dropped or
+ * coalesced. All other messages are queued even if the queue is full.
+ */
+public enum OverloadPolicy {
+	/**
+	 * Suspends reading from the connection until the queue has space again.
+	 * The peer is then slowed down by the flow control of the transport.
+	 */
+	BLOCK,
+
+	/**
+	 * Drops the oldest queued report in favor of the received message.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Drops the received report.
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * Appends the contents of the received report to the newest queued
+	 * report.
+	 */
+	COALESCE
+}
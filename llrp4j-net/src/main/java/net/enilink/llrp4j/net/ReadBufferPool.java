@@ -0,0 +1,71 @@
+package net.enilink.llrp4j.net;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Direct read buffers that are shared by all connections of one selector
+ * thread.
+ * <p>
+ * There is one buffer for each power-of-two size between {@link #MIN_SIZE}
+ * and {@link #MAX_SIZE}. Each connection keeps a {@link ReadSize} estimate
+ * that selects the buffer for its next read. Received data has to be consumed
+ * before the next buffer is acquired. Instances of this class are not
+ * thread-safe.
+ */
+class ReadBufferPool {
+	static final int MIN_SIZE = 2 * 1024;
+	static final int INITIAL_SIZE = 8 * 1024;
+	static final int MAX_SIZE = 256 * 1024;
+
+	private final ByteBuffer[] buffers = new ByteBuffer[index(MAX_SIZE) + 1];
+
+	private static int index(int size) {
+		return Integer.numberOfTrailingZeros(size) - Integer.numberOfTrailingZeros(MIN_SIZE);
+	}
+
+	/**
+	 * Returns a cleared direct buffer for the given read size.
+	 */
+	ByteBuffer acquire(ReadSize readSize) {
+		int index = index(readSize.size);
+		ByteBuffer buffer = buffers[index];
+		if (buffer == null) {
+			buffer = buffers[index] = ByteBuffer.allocateDirect(readSize.size);
+		}
+		((Buffer) buffer).clear();
+		return buffer;
+	}
+
+	/**
+	 * Adaptive size of the reads of a connection. The size is doubled after
+	 * each read that filled the whole buffer and halved after consecutive
+	 * reads that used less than a quarter of it.
+	 */
+	static class ReadSize {
+		int size = INITIAL_SIZE;
+		int smallReads;
+
+		/**
+		 * Records the number of bytes of the last read.
+		 *
+		 * @return <code>true</code> if the read filled the whole buffer
+		 */
+		boolean record(int read) {
+			if (read >= size) {
+				size = Math.min(size * 2, MAX_SIZE);
+				smallReads = 0;
+				return true;
+			}
+			if (read < size / 4) {
+				if (++smallReads >= 2 && size > MIN_SIZE) {
+					size /= 2;
+					smallReads = 0;
+				}
+			} else {
+				smallReads = 0;
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,58 @@
+package net.enilink.llrp4j.net;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A fixed number of selector threads that share the connections of a client
+ * or server.
+ */
+class SelectorGroup {
+	private final SelectorLoop[] loops;
+	private final AtomicInteger next = new AtomicInteger();
+
+	SelectorGroup(int threads, String name) throws IOException {
+		if (threads < 1) {
+			throw new IllegalArgumentException("At least one selector thread is required.");
+		}
+		loops = new SelectorLoop[threads];
+		try {
+			for (int i = 0; i < threads; i++) {
+				loops[i] = new SelectorLoop();
+			}
+		} catch (IOException e) {
+			close();
+			throw e;
+		}
+		for (int i = 0; i < threads; i++) {
+			loops[i].start(threads == 1 ? name : name + "-" + i);
+		}
+	}
+
+	/**
+	 * Returns the selector thread for the next connection.
+	 */
+	SelectorLoop next() {
+		return loops[(next.getAndIncrement() & Integer.MAX_VALUE) % loops.length];
+	}
+
+	int size() {
+		return loops.length;
+	}
+
+	void close() throws IOException {
+		IOException error = null;
+		for (SelectorLoop loop : loops) {
+			if (loop != null) {
+				try {
+					loop.close();
+				} catch (IOException e) {
+					error = e;
+				}
+			}
+		}
+		if (error != null) {
+			throw error;
+		}
+	}
+}
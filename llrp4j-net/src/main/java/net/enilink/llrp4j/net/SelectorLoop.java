@@ -0,0 +1,131 @@
+package net.enilink.llrp4j.net;
+
+import java.io.IOException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.spi.SelectorProvider;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A thread that monitors the channels of many connections with one selector.
+ * <p>
+ * Each registered channel has a {@link Handler} as attachment of its
+ * selection key. Channels must only be registered and changed by tasks that
+ * run on the selector thread.
+ */
+class SelectorLoop implements Runnable {
+	/**
+	 * Handles the events of a registered channel.
+	 */
+	interface Handler {
+		void ready(SelectionKey key) throws IOException;
+
+		void failed(SelectionKey key, Exception e);
+	}
+
+	private static Logger log = LoggerFactory.getLogger(SelectorLoop.class);
+
+	// The selector we'll be monitoring
+	final Selector selector;
+
+	// The buffers into which we'll read data when it's available
+	final ReadBufferPool readBuffers = new ReadBufferPool();
+
+	// Tasks that need to be executed on the selector thread
+	private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+
+	// Set if the selector was woken up since the tasks were run the last time
+	private final AtomicBoolean wakeupPending = new AtomicBoolean();
+
+	private Thread thread;
+
+	SelectorLoop() throws IOException {
+		selector = SelectorProvider.provider().openSelector();
+	}
+
+	void start(String name) {
+		thread = new Thread(this, name);
+		thread.start();
+	}
+
+	boolean inLoop() {
+		return Thread.currentThread() == thread;
+	}
+
+	/**
+	 * Executes a task on the selector thread. The selector is woken up only
+	 * once for all tasks that are added before the selector thread runs them.
+	 */
+	void execute(Runnable task) {
+		tasks.add(task);
+		if (!inLoop() && wakeupPending.compareAndSet(false, true)) {
+			selector.wakeup();
+		}
+	}
+
+	public void run() {
+		while (selector.isOpen()) {
+			try {
+				// Tasks that are added after this point wake up the selector
+				wakeupPending.set(false);
+				runTasks();
+
+				// Wait for an event one of the registered channels
+				selector.select();
+				if (!selector.isOpen()) {
+					return;
+				}
+
+				// Iterate over the set of keys for which events are available
+				Iterator<SelectionKey> selectedKeys = selector.selectedKeys().iterator();
+				while (selectedKeys.hasNext()) {
+					SelectionKey key = selectedKeys.next();
+					selectedKeys.remove();
+
+					if (!key.isValid()) {
+						continue;
+					}
+
+					Handler handler = (Handler) key.attachment();
+					try {
+						handler.ready(key);
+					} catch (Exception e) {
+						handler.failed(key, e);
+					}
+				}
+			} catch (ClosedSelectorException e) {
+				return;
+			} catch (Exception e) {
+				log.error("Error while selecting network channels", e);
+			}
+		}
+	}
+
+	private void runTasks() {
+		Runnable task;
+		while ((task = tasks.poll()) != null) {
+			try {
+				task.run();
+			} catch (ClosedSelectorException e) {
+				throw e;
+			} catch (Exception e) {
+				log.error("Error while executing selector task", e);
+			}
+		}
+	}
+
+	/**
+	 * Closes the selector and thereby exits the selector thread. The
+	 * registered channels are not closed.
+	 */
+	void close() throws IOException {
+		selector.close();
+	}
+}
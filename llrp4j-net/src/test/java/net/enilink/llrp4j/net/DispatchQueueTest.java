@@ -0,0 +1,152 @@
+package net.enilink.llrp4j.net;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.llrp.messages.KEEPALIVE;
+import org.llrp.messages.RO_ACCESS_REPORT;
+import org.llrp.parameters.TagReportData;
+
+import net.enilink.llrp4j.types.LlrpMessage;
+
+public class DispatchQueueTest {
+	/**
+	 * Executes tasks only on request.
+	 */
+	static class ManualExecutor implements Executor {
+		final List<Runnable> tasks = new ArrayList<>();
+
+		@Override
+		public void execute(Runnable command) {
+			tasks.add(command);
+		}
+
+		void runAll() {
+			while (!tasks.isEmpty()) {
+				tasks.remove(0).run();
+			}
+		}
+	}
+
+	final ManualExecutor executor = new ManualExecutor();
+	final ConnectionMetrics metrics = new ConnectionMetrics();
+	final List<LlrpMessage> dispatched = new ArrayList<>();
+
+	DispatchQueue queue(OverloadPolicy policy) {
+		return new DispatchQueue(2, policy, executor, metrics) {
+			@Override
+			protected void dispatch(LlrpMessage message) {
+				dispatched.add(message);
+			}
+
+			@Override
+			protected void rejected(RejectedExecutionException e) {
+				throw e;
+			}
+		};
+	}
+
+	static RO_ACCESS_REPORT report(long id) {
+		RO_ACCESS_REPORT report = new RO_ACCESS_REPORT();
+		report.messageID(id);
+		report.tagReportData().add(new TagReportData());
+		return report;
+	}
+
+	static KEEPALIVE keepAlive(long id) {
+		KEEPALIVE keepAlive = new KEEPALIVE();
+		keepAlive.messageID(id);
+		return keepAlive;
+	}
+
+	List<Long> dispatchedIds() {
+		executor.runAll();
+		List<Long> ids = new ArrayList<>();
+		for (LlrpMessage message : dispatched) {
+			ids.add(message.messageID());
+		}
+		return ids;
+	}
+
+	@Test
+	public void testDropNewest() throws Exception {
+		DispatchQueue queue = queue(OverloadPolicy.DROP_NEWEST);
+		queue.offer(report(1));
+		queue.offer(report(2));
+		queue.offer(report(3));
+		queue.offer(keepAlive(4));
+		Assert.assertEquals(3, metrics.dispatchQueueDepth());
+		Assert.assertEquals(1, metrics.droppedMessages());
+		Assert.assertEquals(Arrays.asList(1L, 2L, 4L), dispatchedIds());
+		Assert.assertEquals(0, metrics.dispatchQueueDepth());
+	}
+
+	@Test
+	public void testDropOldest() throws Exception {
+		DispatchQueue queue = queue(OverloadPolicy.DROP_OLDEST);
+		queue.offer(keepAlive(1));
+		queue.offer(report(2));
+		queue.offer(report(3));
+		queue.offer(report(4));
+		Assert.assertEquals(2, metrics.droppedMessages());
+		Assert.assertEquals(Arrays.asList(1L, 4L), dispatchedIds());
+	}
+
+	@Test
+	public void testCoalesce() throws Exception {
+		DispatchQueue queue = queue(OverloadPolicy.COALESCE);
+		queue.offer(report(1));
+		queue.offer(report(2));
+		queue.offer(report(3));
+		queue.offer(report(4));
+		Assert.assertEquals(2, metrics.coalescedMessages());
+		Assert.assertEquals(Arrays.asList(1L, 2L), dispatchedIds());
+		Assert.assertEquals(3, ((RO_ACCESS_REPORT) dispatched.get(1)).getTagReportData().size());
+	}
+
+	@Test
+	public void testBlock() throws Exception {
+		DispatchQueue queue = queue(OverloadPolicy.BLOCK);
+		queue.offer(report(1));
+		Assert.assertFalse(queue.isBlocked());
+		queue.offer(report(2));
+		Assert.assertTrue(queue.isBlocked());
+		// messages that arrive before reading is suspended are kept
+		queue.offer(report(3));
+		Assert.assertEquals(0, metrics.droppedMessages());
+		Assert.assertEquals(Arrays.asList(1L, 2L, 3L), dispatchedIds());
+		Assert.assertFalse(queue.isBlocked());
+	}
+
+	@Test
+	public void testRejected() throws Exception {
+		final List<RejectedExecutionException> rejections = new ArrayList<>();
+		DispatchQueue queue = new DispatchQueue(2, OverloadPolicy.DROP_NEWEST, new Executor() {
+			@Override
+			public void execute(Runnable command) {
+				throw new RejectedExecutionException();
+			}
+		}, metrics) {
+			@Override
+			protected void dispatch(LlrpMessage message) {
+				dispatched.add(message);
+			}
+
+			@Override
+			protected void rejected(RejectedExecutionException e) {
+				rejections.add(e);
+			}
+		};
+		queue.offer(report(1));
+		queue.offer(keepAlive(2));
+		Assert.assertEquals(2, rejections.size());
+		Assert.assertEquals(1, metrics.droppedMessages());
+		Assert.assertEquals(Arrays.asList(2L), dispatchedIds());
+		Assert.assertEquals(0, metrics.dispatchQueueDepth());
+	}
+}
@@ -0,0 +1,69 @@
+package net.enilink.llrp4j.net;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.enilink.llrp4j.LlrpException;
+
+public class FrameAssemblerTest {
+	static byte[] frame(int length, int id) {
+		ByteBuffer frame = ByteBuffer.allocate(length);
+		frame.putShort((short) (1 << 10 | 62)).putInt(length).putInt(id);
+		while (frame.hasRemaining()) {
+			frame.put((byte) id);
+		}
+		return frame.array();
+	}
+
+	@Test
+	public void testChunks() {
+		Random rnd = new Random(1);
+		List<byte[]> frames = new ArrayList<>();
+		ByteBuffer stream = ByteBuffer.allocate(1024 * 1024);
+		for (int i = 0; stream.remaining() > 100000; i++) {
+			byte[] frame = frame(10 + (i % 10 == 0 ? rnd.nextInt(90000) : rnd.nextInt(100)), i);
+			frames.add(frame);
+			stream.put(frame);
+		}
+		stream.flip();
+
+		FrameAssembler assembler = new FrameAssembler();
+		int count = 0;
+		while (stream.hasRemaining()) {
+			// mix single bytes, small chunks and chunks with many frames
+			int size = rnd.nextInt(4) == 0 ? 1 : rnd.nextInt(rnd.nextBoolean() ? 16 : 70000);
+			ByteBuffer chunk = stream.duplicate();
+			chunk.limit(Math.min(stream.limit(), stream.position() + size));
+			stream.position(chunk.limit());
+			ByteBuffer frame;
+			while ((frame = assembler.next(chunk)) != null) {
+				Assert.assertEquals(ByteBuffer.wrap(frames.get(count++)), frame);
+			}
+			Assert.assertFalse(chunk.hasRemaining());
+		}
+		Assert.assertEquals(frames.size(), count);
+		Assert.assertEquals(0, assembler.buffered());
+	}
+
+	@Test
+	public void testMaxFrameSize() {
+		FrameAssembler assembler = new FrameAssembler();
+		assembler.maxFrameSize = 1000;
+		Assert.assertNotNull(assembler.next(ByteBuffer.wrap(frame(1000, 1))));
+		ByteBuffer data = ByteBuffer.wrap(frame(10, 2));
+		// announce a huge message
+		data.putInt(2, Integer.MAX_VALUE);
+		try {
+			assembler.next(data);
+			Assert.fail("Frame size should be checked");
+		} catch (LlrpException e) {
+			// expected
+		}
+		Assert.assertEquals(0, assembler.buffered());
+	}
+}
@@ -0,0 +1,34 @@
+package net.enilink.llrp4j.net;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class HashedWheelTimerTest {
+	static Runnable countDown(final CountDownLatch latch) {
+		return new Runnable() {
+			@Override
+			public void run() {
+				latch.countDown();
+			}
+		};
+	}
+
+	@Test
+	public void testExpiration() throws Exception {
+		HashedWheelTimer timer = new HashedWheelTimer(1, TimeUnit.MILLISECONDS, 8, "test-timer");
+		CountDownLatch expired = new CountDownLatch(1);
+		CountDownLatch cancelled = new CountDownLatch(1);
+		CountDownLatch never = new CountDownLatch(1);
+		timer.schedule(countDown(expired), 20, TimeUnit.MILLISECONDS);
+		timer.schedule(countDown(cancelled), 20, TimeUnit.MILLISECONDS).cancel();
+		// the deadline of very long delays must not overflow
+		timer.schedule(countDown(never), Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+
+		Assert.assertTrue(expired.await(10, TimeUnit.SECONDS));
+		Assert.assertFalse(cancelled.await(50, TimeUnit.MILLISECONDS));
+		Assert.assertFalse(never.await(50, TimeUnit.MILLISECONDS));
+	}
+}
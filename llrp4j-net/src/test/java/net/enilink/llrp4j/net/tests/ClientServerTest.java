@@ -4,19 +4,34 @@ import net.enilink.llrp4j.LlrpContext;
 import net.enilink.llrp4j.net.LlrpClient;
 import net.enilink.llrp4j.net.LlrpEndpoint;
 import net.enilink.llrp4j.net.LlrpServer;
+import net.enilink.llrp4j.net.OverloadPolicy;
 import net.enilink.llrp4j.types.LlrpMessage;
+import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.llrp.messages.GET_READER_CAPABILITIES;
+import org.llrp.messages.GET_READER_CONFIG;
+import org.llrp.messages.GET_READER_CONFIG_RESPONSE;
 import org.llrp.messages.READER_EVENT_NOTIFICATION;
+import org.llrp.messages.RO_ACCESS_REPORT;
 import org.llrp.modules.LlrpModule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.net.UnknownHostException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
 
 import static net.enilink.llrp4j.test.TestUtil.mockObject;
 import static net.enilink.llrp4j.test.TestUtil.responseType;
@@ -33,11 +48,19 @@ public class ClientServerTest {
 		module = new LlrpModule();
 	}
 
+	protected LlrpServer createServer(LlrpContext ctx) throws IOException {
+		return LlrpServer.create(ctx, LOCALHOST);
+	}
+
+	protected LlrpClient createClient(LlrpContext ctx, LlrpServer server) throws IOException {
+		return LlrpClient.create(ctx, LOCALHOST);
+	}
+
 	@Test
 	public void testMsgExchange() throws Exception {
 		final LlrpContext ctx = LlrpContext.create(module);
-		final LlrpServer server = LlrpServer.create(ctx, LOCALHOST);
-		final LlrpClient client = LlrpClient.create(ctx, LOCALHOST);
+		final LlrpServer server = createServer(ctx);
+		final LlrpClient client = createClient(ctx, server);
 
 		final Random rnd = new Random(1337);
 		final int eventNotifications = 20;
@@ -113,4 +136,264 @@ public class ClientServerTest {
 		server.close();
 	}
 
+	@Test
+	public void testUnknownHost() throws Exception {
+		LlrpContext ctx = LlrpContext.create(module);
+		int threads = clientThreads();
+		try {
+			LlrpClient.create(ctx, "unknown-reader.invalid");
+			Assert.fail("Host should be unknown");
+		} catch (UnknownHostException e) {
+			// expected
+		}
+		// no selector thread is left behind
+		Assert.assertTrue(clientThreads() <= threads);
+	}
+
+	static int clientThreads() {
+		int count = 0;
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if ("llrp-client".equals(thread.getName()) && thread.isAlive()) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	@Test
+	public void testDecodeExecutor() throws Exception {
+		final LlrpContext ctx = LlrpContext.create(module);
+		final LlrpServer server = createServer(ctx);
+		final LlrpClient client = createClient(ctx, server);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			final int reports = 500;
+			final List<Long> ids = Collections.synchronizedList(new ArrayList<Long>());
+			final CountDownLatch latch = new CountDownLatch(reports);
+			client.decodeExecutor(executor).endpoint(new LlrpEndpoint() {
+				@Override
+				public void messageReceived(LlrpMessage message) {
+					if (message instanceof RO_ACCESS_REPORT) {
+						ids.add(message.messageID());
+						latch.countDown();
+					}
+				}
+
+				@Override
+				public void errorOccured(String message, Throwable cause) {
+				}
+			});
+
+			Random rnd = new Random(42);
+			for (int i = 0; i < reports; i++) {
+				RO_ACCESS_REPORT report = mockObject(new RO_ACCESS_REPORT(), module.getClasses(), rnd);
+				report.messageID(i);
+				server.send(report);
+			}
+			Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+
+			// messages are delivered in the order of their reception
+			for (int i = 0; i < reports; i++) {
+				Assert.assertEquals(i, (long) ids.get(i));
+			}
+			Assert.assertTrue(client.metrics().decodedMessages() >= reports);
+			Assert.assertEquals(0, client.metrics().decodeQueueDepth());
+		} finally {
+			client.close();
+			server.close();
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testTransactAsync() throws Exception {
+		final LlrpContext ctx = LlrpContext.create(module);
+		final LlrpServer server = createServer(ctx);
+		final LlrpClient client = createClient(ctx, server);
+		try {
+			final Random rnd = new Random(7);
+			final Random serverRnd = new Random(8);
+			final CountDownLatch unrelated = new CountDownLatch(1);
+			server.endpoint(new LlrpEndpoint() {
+				@Override
+				public void messageReceived(LlrpMessage message) {
+					if (message instanceof GET_READER_CONFIG) {
+						try {
+							// a message of the wrong type with the same ID is
+							// passed to the endpoint
+							RO_ACCESS_REPORT report = mockObject(new RO_ACCESS_REPORT(), module.getClasses(),
+									serverRnd);
+							report.messageID(message.messageID());
+							server.send(report);
+
+							GET_READER_CONFIG_RESPONSE response = mockObject(new GET_READER_CONFIG_RESPONSE(),
+									module.getClasses(), serverRnd);
+							response.messageID(message.messageID());
+							server.send(response);
+						} catch (Exception e) {
+							throw new RuntimeException(e);
+						}
+					}
+					// GET_READER_CAPABILITIES remains unanswered
+				}
+
+				@Override
+				public void errorOccured(String message, Throwable cause) {
+				}
+			});
+			client.endpoint(new LlrpEndpoint() {
+				@Override
+				public void messageReceived(LlrpMessage message) {
+					if (message instanceof RO_ACCESS_REPORT) {
+						unrelated.countDown();
+					}
+				}
+
+				@Override
+				public void errorOccured(String message, Throwable cause) {
+				}
+			});
+
+			final int requests = 200;
+			List<GET_READER_CONFIG> sent = new ArrayList<>();
+			List<CompletableFuture<LlrpMessage>> replies = new ArrayList<>();
+			for (int i = 0; i < requests; i++) {
+				GET_READER_CONFIG request = mockObject(new GET_READER_CONFIG(), module.getClasses(), rnd);
+				replies.add(client.transactAsync(request));
+				sent.add(request);
+			}
+			for (int i = 0; i < requests; i++) {
+				LlrpMessage reply = replies.get(i).get(10, TimeUnit.SECONDS);
+				Assert.assertTrue(reply instanceof GET_READER_CONFIG_RESPONSE);
+				Assert.assertEquals(sent.get(i).messageID(), reply.messageID());
+			}
+			Assert.assertTrue(unrelated.await(10, TimeUnit.SECONDS));
+
+			// dependent stages may block without stalling the I/O thread
+			final GET_READER_CONFIG nested = mockObject(new GET_READER_CONFIG(), module.getClasses(), rnd);
+			LlrpMessage nestedReply = client.transactAsync(sent.get(0))
+					.thenApply(new Function<LlrpMessage, LlrpMessage>() {
+						@Override
+						public LlrpMessage apply(LlrpMessage reply) {
+							try {
+								return client.transact(nested);
+							} catch (InterruptedException e) {
+								throw new RuntimeException(e);
+							}
+						}
+					}).get(10, TimeUnit.SECONDS);
+			Assert.assertTrue(nestedReply instanceof GET_READER_CONFIG_RESPONSE);
+
+			GET_READER_CAPABILITIES unanswered = mockObject(new GET_READER_CAPABILITIES(), module.getClasses(), rnd);
+			try {
+				client.transactAsync(unanswered, 50).get(10, TimeUnit.SECONDS);
+				Assert.fail("Transaction should time out");
+			} catch (ExecutionException e) {
+				Assert.assertTrue(e.getCause() instanceof TimeoutException);
+			}
+			Assert.assertNull(client.transact(unanswered, 50));
+		} finally {
+			client.close();
+			server.close();
+		}
+	}
+
+	@Test
+	public void testWriteBackpressure() throws Exception {
+		final LlrpContext ctx = LlrpContext.create(module);
+		final LlrpServer server = createServer(ctx);
+		final LlrpClient client = createClient(ctx, server);
+		final CountDownLatch release = new CountDownLatch(1);
+		try {
+			// the server stops reading while its endpoint is blocked
+			server.endpoint(new LlrpEndpoint() {
+				@Override
+				public void messageReceived(LlrpMessage message) {
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+
+				@Override
+				public void errorOccured(String message, Throwable cause) {
+				}
+			});
+			client.writeHighWaterMark(64 * 1024);
+
+			RO_ACCESS_REPORT report = mockObject(new RO_ACCESS_REPORT(), module.getClasses(), new Random(3));
+			int sent = 0;
+			while (client.isWritable() && sent < 1000000) {
+				client.send(report);
+				sent++;
+			}
+			Assert.assertFalse(client.isWritable());
+			Assert.assertFalse(client.awaitWritable(50));
+			Assert.assertTrue(client.metrics().outboundQueueBytes() >= 64 * 1024);
+
+			release.countDown();
+			Assert.assertTrue(client.awaitWritable(10000));
+
+			// many messages are written by each system call
+			Assert.assertTrue(client.metrics().writes() < sent);
+			Assert.assertTrue(client.metrics().scheduledFlushes() < sent);
+		} finally {
+			release.countDown();
+			client.close();
+			server.close();
+		}
+	}
+
+	@Test
+	public void testReadThrottling() throws Exception {
+		final LlrpContext ctx = LlrpContext.create(module);
+		final LlrpServer server = createServer(ctx);
+		final LlrpClient client = createClient(ctx, server);
+		final CountDownLatch release = new CountDownLatch(1);
+		try {
+			final int reports = 5000;
+			final CountDownLatch received = new CountDownLatch(reports);
+			client.asyncDispatch(reports, OverloadPolicy.DROP_NEWEST).readWaterMarks(10, 100)
+					.endpoint(new LlrpEndpoint() {
+						@Override
+						public void messageReceived(LlrpMessage message) {
+							try {
+								release.await();
+							} catch (InterruptedException e) {
+								Thread.currentThread().interrupt();
+							}
+							if (message instanceof RO_ACCESS_REPORT) {
+								received.countDown();
+							}
+						}
+
+						@Override
+						public void errorOccured(String message, Throwable cause) {
+						}
+					});
+
+			RO_ACCESS_REPORT report = mockObject(new RO_ACCESS_REPORT(), module.getClasses(), new Random(5));
+			for (int i = 0; i < reports; i++) {
+				server.send(report);
+			}
+			long deadline = System.currentTimeMillis() + 10000;
+			while (client.metrics().readSuspensions() == 0 && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			Assert.assertTrue(client.metrics().isReadSuspended());
+			Thread.sleep(100);
+			// the remaining reports are kept back by the network
+			Assert.assertTrue(client.metrics().dispatchQueueDepth() < reports / 2);
+
+			release.countDown();
+			Assert.assertTrue(received.await(10, TimeUnit.SECONDS));
+			Assert.assertTrue(client.metrics().readResumptions() > 0);
+			Assert.assertEquals(0, client.metrics().droppedMessages());
+		} finally {
+			release.countDown();
+			client.close();
+			server.close();
+		}
+	}
 }
@@ -0,0 +1,140 @@
+package net.enilink.llrp4j.net.tests;
+
+import static net.enilink.llrp4j.test.TestUtil.mockObject;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.llrp.enumerations.ConnectionAttemptStatusType;
+import org.llrp.messages.READER_EVENT_NOTIFICATION;
+import org.llrp.messages.RO_ACCESS_REPORT;
+import org.llrp.modules.LlrpModule;
+import org.llrp.parameters.UTCTimestamp;
+
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.bitbuffer.BitBuffer;
+import net.enilink.llrp4j.net.LlrpClient;
+import net.enilink.llrp4j.net.LlrpClientGroup;
+import net.enilink.llrp4j.net.LlrpEndpoint;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+public class LlrpClientGroupTest {
+	static final String LOCALHOST = "127.0.0.1";
+
+	static final int CONNECTIONS = 300;
+
+	static LlrpModule module;
+
+	@BeforeClass
+	public static void setup() {
+		module = new LlrpModule();
+	}
+
+	static ByteBuffer encode(LlrpContext ctx, LlrpMessage message) {
+		BitBuffer bits = BitBuffer.allocateDynamic();
+		ctx.createBinaryEncoder().encodeMessage(message, bits);
+		return bits.asByteBuffer();
+	}
+
+	@Test
+	public void testManyConnections() throws Exception {
+		final LlrpContext ctx = LlrpContext.create(module);
+
+		READER_EVENT_NOTIFICATION accepted = new READER_EVENT_NOTIFICATION();
+		accepted.readerEventNotificationData().timestamp(new UTCTimestamp().microseconds(BigInteger.ONE))
+				.connectionAttemptEvent().status(ConnectionAttemptStatusType.Success);
+		final byte[] acceptedData = encode(ctx, accepted).array();
+		final byte[] reportData = encode(ctx, mockObject(new RO_ACCESS_REPORT(), module.getClasses(), new Random(1)))
+				.array();
+
+		// a reader simulator that accepts all connections
+		final ServerSocketChannel serverChannel = ServerSocketChannel.open();
+		serverChannel.socket().bind(new InetSocketAddress(LOCALHOST, 0), CONNECTIONS);
+		final List<SocketChannel> channels = Collections.synchronizedList(new ArrayList<SocketChannel>());
+		Thread acceptor = new Thread(new Runnable() {
+			@Override
+			public void run() {
+				try {
+					while (true) {
+						SocketChannel channel = serverChannel.accept();
+						channels.add(channel);
+						channel.write(ByteBuffer.wrap(acceptedData));
+					}
+				} catch (IOException e) {
+					// server channel was closed
+				}
+			}
+		});
+		acceptor.start();
+
+		LlrpClientGroup group = LlrpClientGroup.create(ctx, 4);
+		try {
+			final CountDownLatch reports = new CountDownLatch(CONNECTIONS);
+			final LlrpEndpoint endpoint = new LlrpEndpoint() {
+				@Override
+				public void messageReceived(LlrpMessage message) {
+					if (message instanceof RO_ACCESS_REPORT) {
+						reports.countDown();
+					}
+				}
+
+				@Override
+				public void errorOccured(String message, Throwable cause) {
+				}
+			};
+
+			int port = serverChannel.socket().getLocalPort();
+			List<CompletableFuture<LlrpClient>> connects = new ArrayList<>();
+			for (int i = 0; i < CONNECTIONS; i++) {
+				connects.add(group.connect(LOCALHOST, port));
+			}
+			for (CompletableFuture<LlrpClient> connect : connects) {
+				connect.get(10, TimeUnit.SECONDS).endpoint(endpoint);
+			}
+			Assert.assertEquals(CONNECTIONS, group.size());
+			synchronized (channels) {
+				for (SocketChannel channel : channels) {
+					channel.write(ByteBuffer.wrap(reportData));
+				}
+			}
+			Assert.assertTrue(reports.await(10, TimeUnit.SECONDS));
+
+			connects.get(0).get().close();
+			Assert.assertEquals(CONNECTIONS - 1, group.size());
+
+			// connection to a closed port
+			ServerSocketChannel closed = ServerSocketChannel.open();
+			closed.socket().bind(new InetSocketAddress(LOCALHOST, 0));
+			closed.close();
+			CompletableFuture<LlrpClient> refused = group.connect(LOCALHOST, closed.socket().getLocalPort());
+			try {
+				refused.get(10, TimeUnit.SECONDS);
+				Assert.fail("Connection should be refused");
+			} catch (ExecutionException e) {
+				// expected
+			}
+		} finally {
+			group.close();
+			serverChannel.close();
+			for (SocketChannel channel : channels) {
+				channel.close();
+			}
+		}
+		Assert.assertEquals(0, group.size());
+	}
+}
@@ -0,0 +1,96 @@
+package net.enilink.llrp4j.net.tests;
+
+import static net.enilink.llrp4j.test.TestUtil.mockObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.llrp.messages.GET_READER_CONFIG;
+import org.llrp.messages.GET_READER_CONFIG_RESPONSE;
+import org.llrp.modules.LlrpModule;
+
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.net.LlrpClient;
+import net.enilink.llrp4j.net.LlrpClientGroup;
+import net.enilink.llrp4j.net.LlrpServerGroup;
+import net.enilink.llrp4j.net.LlrpSession;
+import net.enilink.llrp4j.net.LlrpSessionEndpoint;
+import net.enilink.llrp4j.types.LlrpMessage;
+
+public class LlrpServerGroupTest {
+	static final String LOCALHOST = "127.0.0.1";
+
+	static final int CONNECTIONS = 200;
+
+	static LlrpModule module;
+
+	@BeforeClass
+	public static void setup() {
+		module = new LlrpModule();
+	}
+
+	@Test
+	public void testManySessions() throws Exception {
+		final LlrpContext ctx = LlrpContext.create(module);
+		final AtomicInteger opened = new AtomicInteger();
+		final CountDownLatch closed = new CountDownLatch(CONNECTIONS);
+		final Random rnd = new Random(1);
+		final LlrpMessage response = mockObject(new GET_READER_CONFIG_RESPONSE(), module.getClasses(), rnd);
+
+		LlrpServerGroup server = LlrpServerGroup.create(ctx, LOCALHOST, 0, 4, new LlrpSessionEndpoint() {
+			@Override
+			public void sessionOpened(LlrpSession session) {
+				opened.incrementAndGet();
+			}
+
+			@Override
+			public void messageReceived(LlrpSession session, LlrpMessage message) {
+				if (message instanceof GET_READER_CONFIG) {
+					// the response is matched by the message ID of the request
+					synchronized (response) {
+						response.messageID(message.messageID());
+						session.send(response);
+					}
+				}
+			}
+
+			@Override
+			public void errorOccured(LlrpSession session, String message, Throwable cause) {
+			}
+
+			@Override
+			public void sessionClosed(LlrpSession session) {
+				closed.countDown();
+			}
+		});
+		LlrpClientGroup clients = LlrpClientGroup.create(ctx, 2);
+		try {
+			List<CompletableFuture<LlrpClient>> connects = new ArrayList<>();
+			for (int i = 0; i < CONNECTIONS; i++) {
+				connects.add(clients.connect(LOCALHOST, server.port()));
+			}
+			for (int i = 0; i < CONNECTIONS; i++) {
+				LlrpClient client = connects.get(i).get(10, TimeUnit.SECONDS);
+				GET_READER_CONFIG request = mockObject(new GET_READER_CONFIG(), module.getClasses(), rnd);
+				LlrpMessage reply = client.transact(request);
+				Assert.assertTrue(reply instanceof GET_READER_CONFIG_RESPONSE);
+				Assert.assertEquals(request.messageID(), reply.messageID());
+			}
+			Assert.assertEquals(CONNECTIONS, opened.get());
+			Assert.assertEquals(CONNECTIONS, server.sessions().size());
+		} finally {
+			clients.close();
+		}
+		Assert.assertTrue(closed.await(10, TimeUnit.SECONDS));
+		Assert.assertEquals(0, server.sessions().size());
+		server.close();
+	}
+}
@@ -0,0 +1,45 @@
+package net.enilink.llrp4j.net.tests;
+
+import java.io.IOException;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import net.enilink.llrp4j.LlrpContext;
+import net.enilink.llrp4j.LlrpException;
+import net.enilink.llrp4j.net.LlrpClient;
+import net.enilink.llrp4j.net.LlrpServer;
+
+/**
+ * Runs the tests of {@link ClientServerTest} over in-memory connections.
+ */
+public class LoopbackClientServerTest extends ClientServerTest {
+	@Override
+	protected LlrpServer createServer(LlrpContext ctx) throws IOException {
+		return LlrpServer.createLoopback(ctx);
+	}
+
+	@Override
+	protected LlrpClient createClient(LlrpContext ctx, LlrpServer server) throws IOException {
+		return LlrpClient.createLoopback(ctx, server);
+	}
+
+	@Test
+	public void testSecondClientRejected() throws Exception {
+		final LlrpContext ctx = LlrpContext.create(module);
+		final LlrpServer server = createServer(ctx);
+		final LlrpClient client = createClient(ctx, server);
+		try {
+			try {
+				createClient(ctx, server);
+				Assert.fail("Second client should be rejected");
+			} catch (LlrpException e) {
+				// expected
+			}
+			Assert.assertFalse(client.isClosed());
+		} finally {
+			client.close();
+			server.close();
+		}
+	}
+}